@@ -0,0 +1,20 @@
+plugins {
+    id("me.champeau.jmh") version "0.7.3"
+}
+
+dependencies {
+    jmh(project(":hensu-core"))
+    jmh(project(":hensu-serialization"))
+}
+
+jmh {
+    // JMH forks its own JVMs — pass the same Java 25 flags the rest of the build uses.
+    jvmArgsAppend.addAll("--enable-preview", "--enable-native-access=ALL-UNNAMED")
+
+    // One JSON file per version so releases can be diffed (e.g. with jmh.morethan.io).
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/hensu-${project.version}.json"))
+
+    // Run a subset: ./gradlew :hensu-benchmarks:jmh -PjmhIncludes=FanOutBenchmark
+    providers.gradleProperty("jmhIncludes").orNull?.let { includes.add(it) }
+}
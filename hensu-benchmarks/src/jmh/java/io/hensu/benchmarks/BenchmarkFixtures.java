@@ -0,0 +1,201 @@
+package io.hensu.benchmarks;
+
+import io.hensu.core.HensuEnvironment;
+import io.hensu.core.HensuFactory;
+import io.hensu.core.agent.AgentConfig;
+import io.hensu.core.execution.executor.NodeResult;
+import io.hensu.core.execution.result.ExecutionHistory;
+import io.hensu.core.execution.result.ExitStatus;
+import io.hensu.core.state.HensuState;
+import io.hensu.core.workflow.Workflow;
+import io.hensu.core.workflow.node.EndNode;
+import io.hensu.core.workflow.node.ForkNode;
+import io.hensu.core.workflow.node.JoinNode;
+import io.hensu.core.workflow.node.MergeStrategy;
+import io.hensu.core.workflow.node.Node;
+import io.hensu.core.workflow.node.ParallelNode;
+import io.hensu.core.workflow.node.StandardNode;
+import io.hensu.core.workflow.transition.SuccessTransition;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/// Synthetic domain objects shared by the benchmark suites.
+///
+/// Shapes are deterministic so results stay comparable between runs and versions.
+public final class BenchmarkFixtures {
+
+    /// Held strongly: JUL only keeps weak references, and a collected logger loses its level.
+    private static final Logger HENSU_LOGGER = Logger.getLogger("io.hensu");
+
+    private BenchmarkFixtures() {}
+
+    /// Raises the `io.hensu` log level to `WARNING`.
+    ///
+    /// The engine, the stub agent and `JsonUtil` log at `INFO` on every node and every
+    /// extracted parameter; left on, the suites would mostly measure console I/O.
+    public static void silenceLogging() {
+        HENSU_LOGGER.setLevel(Level.WARNING);
+    }
+
+    /// Builds an in-process environment whose agents are all {@link
+    /// io.hensu.core.agent.stub.StubAgent}s, so executions never leave the JVM.
+    ///
+    /// @return stub-mode environment with in-memory repositories, never null
+    public static HensuEnvironment stubEnvironment() {
+        silenceLogging();
+        return HensuFactory.builder().stubMode(true).build();
+    }
+
+    /// Builds a linear workflow `node-0 → node-1 → … → node-(n-1) → done`.
+    ///
+    /// Every standard node uses the same `writer` agent with the `stub` model and a prompt
+    /// with one `{topic}` placeholder.
+    ///
+    /// @param nodeCount number of standard nodes, must be positive
+    /// @return a valid workflow with `nodeCount + 1` nodes, never null
+    public static Workflow linearWorkflow(int nodeCount) {
+        Map<String, Node> nodes = new LinkedHashMap<>();
+        for (int i = 0; i < nodeCount; i++) {
+            String next = i + 1 < nodeCount ? "node-" + (i + 1) : "done";
+            nodes.put(
+                    "node-" + i,
+                    StandardNode.builder()
+                            .id("node-" + i)
+                            .agentId("writer")
+                            .prompt("Refine the draft about {topic}, step " + i)
+                            .transitionRules(List.of(new SuccessTransition(next)))
+                            .build());
+        }
+        nodes.put("done", EndNode.builder().id("done").status(ExitStatus.SUCCESS).build());
+
+        return Workflow.builder()
+                .id("bench-linear-" + nodeCount)
+                .version("1.0.0")
+                .agents(writerAgent())
+                .nodes(nodes)
+                .startNode("node-0")
+                .build();
+    }
+
+    /// Builds `parallel → done`, where the parallel node runs `branchCount` branches on the
+    /// `writer` agent without consensus.
+    ///
+    /// @param branchCount number of branches, must be positive
+    /// @return a valid workflow, never null
+    public static Workflow parallelWorkflow(int branchCount) {
+        ParallelNode.Builder parallel = ParallelNode.builder("parallel");
+        for (int i = 0; i < branchCount; i++) {
+            parallel.branch("branch-" + i, "writer", "Draft section " + i + " about {topic}");
+        }
+        Map<String, Node> nodes = new LinkedHashMap<>();
+        nodes.put(
+                "parallel",
+                parallel.transitionRules(List.of(new SuccessTransition("done"))).build());
+        nodes.put("done", EndNode.builder().id("done").status(ExitStatus.SUCCESS).build());
+
+        return Workflow.builder()
+                .id("bench-parallel-" + branchCount)
+                .version("1.0.0")
+                .agents(writerAgent())
+                .nodes(nodes)
+                .startNode("parallel")
+                .build();
+    }
+
+    /// Builds `fork → {task-0 … task-(n-1)} → join → done`, where every sub-flow is a single
+    /// standard node on the `writer` agent and the join collects all branch outputs.
+    ///
+    /// @param branchCount number of fork targets, must be positive
+    /// @return a valid workflow, never null
+    public static Workflow forkJoinWorkflow(int branchCount) {
+        Map<String, Node> nodes = new LinkedHashMap<>();
+        List<String> targets = new ArrayList<>(branchCount);
+        for (int i = 0; i < branchCount; i++) {
+            String id = "task-" + i;
+            targets.add(id);
+            nodes.put(
+                    id,
+                    StandardNode.builder()
+                            .id(id)
+                            .agentId("writer")
+                            .prompt("Draft section " + i + " about {topic}")
+                            .transitionRules(List.of(new SuccessTransition("join")))
+                            .build());
+        }
+        nodes.put(
+                "fork",
+                ForkNode.builder("fork")
+                        .targets(targets)
+                        .transitionRules(List.of(new SuccessTransition("join")))
+                        .build());
+        nodes.put(
+                "join",
+                JoinNode.builder("join")
+                        .awaitTargets("fork")
+                        .mergeStrategy(MergeStrategy.COLLECT_ALL)
+                        .writes("fork_results")
+                        .transitionRules(List.of(new SuccessTransition("done")))
+                        .build());
+        nodes.put("done", EndNode.builder().id("done").status(ExitStatus.SUCCESS).build());
+
+        return Workflow.builder()
+                .id("bench-fork-" + branchCount)
+                .version("1.0.0")
+                .agents(writerAgent())
+                .nodes(nodes)
+                .startNode("fork")
+                .build();
+    }
+
+    /// Builds an execution history of `stepCount` recorded steps, each changing one
+    /// context key, so the history carries one keyframe followed by deltas.
+    ///
+    /// @param stepCount number of steps, must be positive
+    /// @return populated history, never null
+    public static ExecutionHistory history(int stepCount) {
+        ExecutionHistory history = new ExecutionHistory();
+        Map<String, Object> context = new HashMap<>(Map.of("topic", "benchmarks"));
+        Instant at = Instant.parse("2026-01-01T00:00:00Z");
+        for (int i = 0; i < stepCount; i++) {
+            String output = "output of node-" + i;
+            context.put("node-" + i, output);
+            history.recordStep(
+                    "node-" + i,
+                    context,
+                    NodeResult.success(output, Map.of("tokens", 100 + i)),
+                    at.plusSeconds(i));
+        }
+        return history;
+    }
+
+    /// Builds a mid-execution state for {@link #linearWorkflow(int)}: `stepCount` steps of
+    /// history, one context key per completed node, positioned on the next node.
+    ///
+    /// @param stepCount number of completed steps, must be positive
+    /// @return populated state, never null
+    public static HensuState state(int stepCount) {
+        Map<String, Object> context = new HashMap<>(Map.of("topic", "benchmarks"));
+        for (int i = 0; i < stepCount; i++) {
+            context.put("node-" + i, "output of node-" + i);
+        }
+        return new HensuState.Builder()
+                .executionId("bench-exec")
+                .workflowId("bench-linear-" + stepCount)
+                .currentNode("node-" + stepCount)
+                .context(context)
+                .history(history(stepCount))
+                .retryCounters(Map.of("node-0", 1))
+                .build();
+    }
+
+    private static Map<String, AgentConfig> writerAgent() {
+        return Map.of(
+                "writer", AgentConfig.builder().id("writer").role("writer").model("stub").build());
+    }
+}
@@ -0,0 +1,66 @@
+package io.hensu.benchmarks.execution;
+
+import io.hensu.benchmarks.BenchmarkFixtures;
+import io.hensu.core.execution.WorkflowExecutor;
+import io.hensu.core.execution.result.ExecutionResult;
+import io.hensu.core.workflow.Workflow;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/// Fan-out cost of {@link io.hensu.core.execution.executor.ParallelNodeExecutor} and
+/// {@link io.hensu.core.execution.executor.ForkNodeExecutor} as the branch count grows.
+///
+/// Branches run {@link io.hensu.core.agent.stub.StubAgent}s that return immediately, so the
+/// score is dominated by what the engine does per branch: context snapshots, virtual thread
+/// and scope management, history folding and result merging. A per-branch cost that grows
+/// with `branches` points at super-linear merge or copy work.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FanOutBenchmark {
+
+    @Param({"2", "16", "64", "256"})
+    int branches;
+
+    private WorkflowExecutor executor;
+    private Workflow parallel;
+    private Workflow forkJoin;
+
+    @Setup
+    public void setUp() {
+        executor = BenchmarkFixtures.stubEnvironment().getWorkflowExecutor();
+        parallel = BenchmarkFixtures.parallelWorkflow(branches);
+        forkJoin = BenchmarkFixtures.forkJoinWorkflow(branches);
+    }
+
+    @Benchmark
+    public ExecutionResult parallelNode() throws Exception {
+        return executor.execute(parallel, initialContext());
+    }
+
+    @Benchmark
+    public ExecutionResult forkJoin() throws Exception {
+        return executor.execute(forkJoin, initialContext());
+    }
+
+    private static Map<String, Object> initialContext() {
+        Map<String, Object> context = new HashMap<>();
+        context.put("topic", "benchmarks");
+        return context;
+    }
+}
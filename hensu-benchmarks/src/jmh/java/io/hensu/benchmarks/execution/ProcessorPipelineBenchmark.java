@@ -0,0 +1,102 @@
+package io.hensu.benchmarks.execution;
+
+import io.hensu.benchmarks.BenchmarkFixtures;
+import io.hensu.core.execution.executor.ExecutionContext;
+import io.hensu.core.execution.executor.NodeResult;
+import io.hensu.core.execution.pipeline.ProcessorContext;
+import io.hensu.core.execution.pipeline.ProcessorPipeline;
+import io.hensu.core.execution.result.ExecutionHistory;
+import io.hensu.core.execution.result.ExecutionResult;
+import io.hensu.core.review.ReviewHandler;
+import io.hensu.core.rubric.InMemoryRubricRepository;
+import io.hensu.core.rubric.RubricEngine;
+import io.hensu.core.rubric.evaluator.ScoreExtractingEvaluator;
+import io.hensu.core.state.HensuState;
+import io.hensu.core.workflow.Workflow;
+import io.hensu.core.workflow.node.StandardNode;
+import io.hensu.core.workflow.transition.SuccessTransition;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/// Cost of one pass through the default post-execution pipeline
+/// ({@link ProcessorPipeline#postExecution}) for a standard node that writes two keys.
+///
+/// Each invocation starts from a fresh state carrying `contextKeys` entries and a history of
+/// the same length, so the score includes output validation, JSON extraction, the history
+/// append (delta against the previous step) and transition resolution — but no rubric or
+/// review work, which the node does not configure.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProcessorPipelineBenchmark {
+
+    private static final String OUTPUT =
+            """
+            Here is the result:
+            ```json
+            {"summary": "Engine overhead is dominated by history snapshots.", "confidence": 0.82}
+            ```
+            """;
+
+    @Param({"10", "100"})
+    int contextKeys;
+
+    private ProcessorPipeline pipeline;
+    private Workflow workflow;
+    private StandardNode node;
+    private NodeResult result;
+    private Map<String, Object> baseContext;
+    private ExecutionHistory baseHistory;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures.silenceLogging();
+        pipeline =
+                ProcessorPipeline.postExecution(
+                        ReviewHandler.AUTO_APPROVE,
+                        new RubricEngine(
+                                new InMemoryRubricRepository(), new ScoreExtractingEvaluator()));
+        workflow = BenchmarkFixtures.linearWorkflow(1);
+        node =
+                StandardNode.builder()
+                        .id("node-0")
+                        .agentId("writer")
+                        .prompt("Summarize {topic}")
+                        .writes(List.of("summary", "confidence"))
+                        .transitionRules(List.of(new SuccessTransition("done")))
+                        .build();
+        result = NodeResult.success(OUTPUT, Map.of());
+        baseContext = BenchmarkFixtures.state(contextKeys).getContext();
+        baseHistory = BenchmarkFixtures.history(contextKeys);
+    }
+
+    @Benchmark
+    public ExecutionResult executePost() {
+        HensuState state =
+                new HensuState.Builder()
+                        .executionId("bench-exec")
+                        .workflowId(workflow.getId())
+                        .currentNode(node.getId())
+                        .context(baseContext)
+                        .history(baseHistory.copy())
+                        .build();
+        ExecutionContext executionContext =
+                ExecutionContext.builder().state(state).workflow(workflow).build();
+        return pipeline.executePost(new ProcessorContext(executionContext, node, result));
+    }
+}
@@ -0,0 +1,53 @@
+package io.hensu.benchmarks.execution;
+
+import io.hensu.benchmarks.BenchmarkFixtures;
+import io.hensu.core.execution.WorkflowExecutor;
+import io.hensu.core.execution.result.ExecutionResult;
+import io.hensu.core.workflow.Workflow;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/// End-to-end engine overhead of {@link WorkflowExecutor#execute} on linear graphs.
+///
+/// Every node runs a {@link io.hensu.core.agent.stub.StubAgent}, so the score is the cost of
+/// the engine itself — template resolution, pre/post pipelines, history, transitions — with
+/// no network time. Divide by `nodes` for the per-node overhead.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WorkflowExecutorBenchmark {
+
+    @Param({"1", "10", "100"})
+    int nodes;
+
+    private WorkflowExecutor executor;
+    private Workflow workflow;
+
+    @Setup
+    public void setUp() {
+        executor = BenchmarkFixtures.stubEnvironment().getWorkflowExecutor();
+        workflow = BenchmarkFixtures.linearWorkflow(nodes);
+    }
+
+    @Benchmark
+    public ExecutionResult execute() throws Exception {
+        Map<String, Object> context = new HashMap<>();
+        context.put("topic", "benchmarks");
+        return executor.execute(workflow, context);
+    }
+}
@@ -0,0 +1,96 @@
+package io.hensu.benchmarks.serialization;
+
+import io.hensu.benchmarks.BenchmarkFixtures;
+import io.hensu.core.execution.result.ExecutionHistory;
+import io.hensu.core.workflow.Workflow;
+import io.hensu.serialization.HensuJson;
+import io.hensu.serialization.WorkflowSerializer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/// Cost of a mapper per call versus the shared {@link HensuJson} facade.
+///
+/// The `perCall*` benchmarks reproduce what `WorkflowSerializer` and the JDBC repositories
+/// did before the facade existed: build a mapper with `createMapper()` (module registration,
+/// cold serializer caches, `INDENT_OUTPUT`) for every operation. The `shared*` benchmarks use
+/// the pre-bound readers and compact writers that replaced them. `workflowSerializerRoundTrip`
+/// tracks the public {@link WorkflowSerializer} API as the CLI and `hensu build` use it.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"5", "50"})
+    int nodes;
+
+    private Workflow workflow;
+    private String workflowJson;
+    private ExecutionHistory history;
+    private String historyJson;
+
+    @Setup
+    public void setUp() {
+        workflow = BenchmarkFixtures.linearWorkflow(nodes);
+        workflowJson = HensuJson.compact().writeWorkflow(workflow);
+        history = BenchmarkFixtures.history(nodes);
+        historyJson = HensuJson.compact().writeHistory(history);
+    }
+
+    @Benchmark
+    public String perCallWriteWorkflow() throws Exception {
+        return WorkflowSerializer.createMapper().writeValueAsString(workflow);
+    }
+
+    @Benchmark
+    public String sharedWriteWorkflowCompact() {
+        return HensuJson.compact().writeWorkflow(workflow);
+    }
+
+    @Benchmark
+    public Workflow perCallReadWorkflow() throws Exception {
+        return WorkflowSerializer.createMapper().readValue(workflowJson, Workflow.class);
+    }
+
+    @Benchmark
+    public Workflow sharedReadWorkflow() {
+        return HensuJson.compact().readWorkflow(workflowJson);
+    }
+
+    @Benchmark
+    public String perCallWriteHistory() throws Exception {
+        return WorkflowSerializer.createMapper().writeValueAsString(history);
+    }
+
+    @Benchmark
+    public String sharedWriteHistory() {
+        return HensuJson.compact().writeHistory(history);
+    }
+
+    @Benchmark
+    public ExecutionHistory perCallReadHistory() throws Exception {
+        return WorkflowSerializer.createMapper().readValue(historyJson, ExecutionHistory.class);
+    }
+
+    @Benchmark
+    public ExecutionHistory sharedReadHistory() {
+        return HensuJson.compact().readHistory(historyJson);
+    }
+
+    @Benchmark
+    public Workflow workflowSerializerRoundTrip() {
+        return WorkflowSerializer.fromJson(WorkflowSerializer.toJson(workflow));
+    }
+}
@@ -0,0 +1,53 @@
+package io.hensu.benchmarks.state;
+
+import io.hensu.benchmarks.BenchmarkFixtures;
+import io.hensu.core.state.HensuSnapshot;
+import io.hensu.core.state.HensuState;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/// Cost of checkpointing and restoring execution state through {@link HensuSnapshot}.
+///
+/// `from` runs once per checkpoint on the execution thread; `toState` runs on resume and on
+/// every recovery sweep. Both scale with the context size and the history length, which grow
+/// together here (`steps` nodes completed, one context key each).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HensuSnapshotBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int steps;
+
+    private HensuState state;
+    private HensuSnapshot snapshot;
+
+    @Setup
+    public void setUp() {
+        state = BenchmarkFixtures.state(steps);
+        snapshot = HensuSnapshot.from(state);
+    }
+
+    @Benchmark
+    public HensuSnapshot from() {
+        return HensuSnapshot.from(state);
+    }
+
+    @Benchmark
+    public HensuState toState() {
+        return snapshot.toState();
+    }
+}
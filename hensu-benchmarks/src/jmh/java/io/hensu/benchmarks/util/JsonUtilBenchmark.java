@@ -0,0 +1,77 @@
+package io.hensu.benchmarks.util;
+
+import io.hensu.benchmarks.BenchmarkFixtures;
+import io.hensu.core.util.JsonUtil;
+import io.hensu.core.util.StreamingJsonExtractor;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/// Cost of {@link JsonUtil#extractOutputParams} pulling `params` keys out of an LLM-style
+/// reply: prose, a fenced JSON object with one field per key plus a nested object and an
+/// array, and trailing prose. `extractStreaming` feeds the same reply to a
+/// {@link StreamingJsonExtractor} in {@value #CHUNK_SIZE}-character deltas.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonUtilBenchmark {
+
+    private static final Logger LOG = Logger.getLogger(JsonUtilBenchmark.class.getName());
+    private static final int CHUNK_SIZE = 16;
+
+    @Param({"1", "8", "32"})
+    int params;
+
+    private List<String> paramNames;
+    private String output;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures.silenceLogging();
+        paramNames = new ArrayList<>(params);
+        StringBuilder json = new StringBuilder("{");
+        for (int i = 0; i < params; i++) {
+            String key = "field_" + i;
+            paramNames.add(key);
+            json.append('"').append(key).append("\": \"value ").append(i).append("\", ");
+        }
+        json.append("\"meta\": {\"score\": 87, \"tags\": [\"a\", \"b\"]}, \"done\": true}");
+        output =
+                "Sure — here is the structured answer.\n```json\n"
+                        + json
+                        + "\n```\nLet me know if you need anything else.";
+    }
+
+    @Benchmark
+    public Map<String, Object> extractOutputParams() {
+        Map<String, Object> context = new HashMap<>();
+        JsonUtil.extractOutputParams(paramNames, output, context, LOG);
+        return context;
+    }
+
+    @Benchmark
+    public Map<String, Object> extractStreaming() {
+        StreamingJsonExtractor extractor = new StreamingJsonExtractor(paramNames);
+        for (int i = 0; i < output.length(); i += CHUNK_SIZE) {
+            extractor.append(output.substring(i, Math.min(output.length(), i + CHUNK_SIZE)));
+        }
+        return extractor.fields();
+    }
+}
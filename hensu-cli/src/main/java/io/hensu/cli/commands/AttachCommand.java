@@ -8,6 +8,7 @@ import io.hensu.core.review.ReviewDecision;
 import java.io.IOException;
 import java.util.Map;
 import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
 import picocli.CommandLine.Parameters;
 
 /// Re-attaches to a running or completed workflow execution in the daemon.
@@ -18,8 +19,14 @@ import picocli.CommandLine.Parameters;
 /// ### Usage
 /// ```
 /// hensu attach <execution-id>
+/// hensu attach --resume <execution-id>
 /// ```
 ///
+/// ### Resuming
+/// Executions that were running when the daemon stopped are listed by {@code hensu ps} as
+/// {@code INTERRUPTED}. {@code --resume} restarts such an execution from its last
+/// checkpoint, then attaches to it.
+///
 /// ### Ctrl+C behavior
 /// Pressing Ctrl+C detaches the client — the execution keeps running in the daemon.
 /// The execution ID is printed so you can re-attach at any time with {@code hensu attach}.
@@ -33,6 +40,11 @@ public class AttachCommand extends HensuCommand {
     @Parameters(index = "0", description = "Execution ID (from hensu ps)")
     private String execId;
 
+    @Option(
+            names = {"--resume"},
+            description = "Resume an interrupted execution from its last checkpoint")
+    private boolean resume = false;
+
     @Override
     protected void execute() {
         AnsiStyles styles = AnsiStyles.of(true);
@@ -67,6 +79,7 @@ public class AttachCommand extends HensuCommand {
             new DaemonClient()
                     .attachInteractive(
                             execId,
+                            resume,
                             (frame, reply) -> {
                                 if ("review_request".equals(frame.type)) {
                                     handleReviewRequest(frame, reply, reviewer);
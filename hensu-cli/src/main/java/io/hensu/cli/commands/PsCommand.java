@@ -74,7 +74,7 @@ public class PsCommand extends HensuCommand {
             case "COMPLETED", "SUCCESS" -> styles.success(status);
             case "FAILED", "FAILURE" -> styles.error(status);
             case "CANCELLED" -> styles.cancelled(status);
-            case "TIMED_OUT" -> styles.warn(status);
+            case "TIMED_OUT", "INTERRUPTED" -> styles.warn(status);
             default -> styles.gray(status);
         };
     }
@@ -15,7 +15,7 @@ import io.hensu.core.execution.ExecutionListener;
 import io.hensu.core.execution.WorkflowExecutor;
 import io.hensu.core.execution.result.ExecutionResult;
 import io.hensu.core.workflow.Workflow;
-import io.hensu.serialization.WorkflowSerializer;
+import io.hensu.serialization.HensuJson;
 import jakarta.inject.Inject;
 import java.io.IOException;
 import java.io.PrintStream;
@@ -164,7 +164,7 @@ class WorkflowRunCommand extends WorkflowCommand {
             throws IOException {
 
         String execId = UUID.randomUUID().toString();
-        String workflowJson = WorkflowSerializer.toJson(workflow);
+        String workflowJson = HensuJson.compact().writeWorkflow(workflow);
 
         // Build run frame
         DaemonFrame req = new DaemonFrame();
@@ -176,7 +176,7 @@ class WorkflowRunCommand extends WorkflowCommand {
         // own WorkflowRepository, so the loader's in-process registration doesn't reach it.
         if (!loadedSubWorkflows.isEmpty()) {
             req.subWorkflowsJson =
-                    loadedSubWorkflows.stream().map(WorkflowSerializer::toJson).toList();
+                    loadedSubWorkflows.stream().map(HensuJson.compact()::writeWorkflow).toList();
         }
         req.context = context;
         req.verbose = verbose;
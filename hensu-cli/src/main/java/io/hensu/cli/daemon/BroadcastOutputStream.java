@@ -18,7 +18,7 @@ import java.util.Base64;
 ///         │
 ///         V
 /// BroadcastOutputStream.write(byte[], int, int)
-///         ├————> StoredExecution.outputBuffer.write(bytes)   [ring buffer, for replay]
+///         ├————> StoredExecution.appendOutput(bytes)         [ring buffer + journal, replay]
 ///         └————> StoredExecution.broadcast(outFrame)         [live subscribers]
 /// ```
 ///
@@ -67,8 +67,8 @@ public final class BroadcastOutputStream extends OutputStream {
         byte[] bytes = new byte[len];
         System.arraycopy(buf, off, bytes, 0, len);
 
-        // 1. Persist in ring buffer for replay on re-attach
-        execution.getOutputBuffer().write(bytes);
+        // 1. Persist in ring buffer and journal for replay on re-attach
+        execution.appendOutput(bytes);
 
         // 2. Encode and broadcast to all live subscribers
         String b64 = Base64.getEncoder().encodeToString(bytes);
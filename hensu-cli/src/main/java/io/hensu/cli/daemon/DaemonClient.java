@@ -1,8 +1,7 @@
 package io.hensu.cli.daemon;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import io.hensu.serialization.WorkflowSerializer;
+import io.hensu.serialization.HensuJson;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
@@ -40,8 +39,7 @@ import java.util.function.Consumer;
 /// @see DaemonFrame
 public final class DaemonClient {
 
-    private static final ObjectMapper MAPPER =
-            WorkflowSerializer.createMapper().disable(SerializationFeature.INDENT_OUTPUT);
+    private static final ObjectMapper MAPPER = HensuJson.mapper();
 
     // — Static helpers ———————————————————————————————————————————————————————
 
@@ -117,9 +115,28 @@ public final class DaemonClient {
     public void attachInteractive(
             String execId, BiConsumer<DaemonFrame, Consumer<DaemonFrame>> consumer)
             throws IOException {
+        attachInteractive(execId, false, consumer);
+    }
+
+    /// Attaches with bidirectional support, optionally resuming an interrupted execution.
+    ///
+    /// With {@code resume=true}, the daemon first restarts an execution interrupted by a
+    /// daemon restart from its last checkpoint, then streams it as {@link #attach} does.
+    ///
+    /// @param execId   execution identifier to attach to, not null
+    /// @param resume   whether to resume an interrupted execution before attaching
+    /// @param consumer receives every response frame and a reply function; called
+    ///                 synchronously, not null
+    /// @throws IOException if the socket connection fails
+    public void attachInteractive(
+            String execId,
+            boolean resume,
+            BiConsumer<DaemonFrame, Consumer<DaemonFrame>> consumer)
+            throws IOException {
         var req = new DaemonFrame();
         req.type = "attach";
         req.execId = execId;
+        req.resume = resume ? Boolean.TRUE : null;
         streamBidirectional(req, consumer);
     }
 
@@ -16,7 +16,8 @@ import java.util.Map;
 /// **Client → Daemon:**
 /// ```
 /// run              — Start a new workflow execution
-/// attach           — Re-attach to a running or completed execution
+/// attach           — Re-attach to a running or completed execution; resume=true restarts
+///                    an interrupted execution from its last checkpoint first
 /// detach           — Disconnect without cancelling (Ctrl+C)
 /// cancel           — Cancel a running execution
 /// ps               — List all tracked executions
@@ -164,6 +165,10 @@ public final class DaemonFrame {
     @JsonProperty("interactive")
     public Boolean interactive;
 
+    /// Whether to resume an {@code INTERRUPTED} execution before attaching (attach frames).
+    @JsonProperty("resume")
+    public Boolean resume;
+
     // — Review ——————————————————————————————————————————————————————————————
 
     /// Correlation ID linking a {@code review_request} to its {@code review_response}.
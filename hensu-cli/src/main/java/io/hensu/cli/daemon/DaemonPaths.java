@@ -9,9 +9,11 @@ import java.nio.file.Path;
 ///
 /// ```
 /// ~/.hensu/
-///   daemon.sock   — Unix domain socket (deleted on clean shutdown)
-///   daemon.pid    — PID of the running daemon process
-///   daemon.log    — Daemon stdout/stderr when spawned in background
+///   daemon.sock      — Unix domain socket (deleted on clean shutdown)
+///   daemon.pid       — PID of the running daemon process
+///   daemon.log       — Daemon stdout/stderr when spawned in background
+///   journal/         — Execution journal segments (survive daemon restarts)
+///   cache/workflows/ — Compiled Kotlin DSL workflows, one JSON file per script key
 /// ```
 public final class DaemonPaths {
 
@@ -66,4 +68,19 @@ public final class DaemonPaths {
     public static Path credentials() {
         return BASE.resolve("credentials");
     }
+
+    /// Returns the execution journal directory: {@code ~/.hensu/journal}.
+    ///
+    /// @return journal directory path, never null; directory may not yet exist
+    /// @see ExecutionJournal
+    public static Path journal() {
+        return BASE.resolve("journal");
+    }
+
+    /// Returns the compiled workflow cache directory: {@code ~/.hensu/cache/workflows}.
+    ///
+    /// @return cache directory path, never null; directory may not yet exist
+    public static Path workflowCache() {
+        return BASE.resolve("cache").resolve("workflows");
+    }
 }
@@ -1,16 +1,22 @@
 package io.hensu.cli.daemon;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.hensu.cli.execution.DaemonExecutionSink;
 import io.hensu.cli.execution.VerboseExecutionListenerFactory;
 import io.hensu.cli.review.DaemonReviewHandler;
 import io.hensu.cli.workflow.SubWorkflowLoader;
 import io.hensu.core.HensuEnvironment;
+import io.hensu.core.agent.AgentResponse;
 import io.hensu.core.execution.ExecutionListener;
+import io.hensu.core.execution.executor.NodeResult;
 import io.hensu.core.execution.result.ExecutionResult;
 import io.hensu.core.review.ReviewDecision;
-import io.hensu.serialization.WorkflowSerializer;
+import io.hensu.core.state.HensuSnapshot;
+import io.hensu.core.state.HensuState;
+import io.hensu.core.workflow.node.Node;
+import io.hensu.serialization.HensuJson;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import java.io.BufferedReader;
@@ -57,6 +63,14 @@ import sun.misc.Signal;
 /// {@code PrintStream} writes, stores them in the ring buffer, and fans them out as base64
 /// {@code out} frames to all connected subscriber queues.
 ///
+/// ### Durability
+/// Executions are recorded in an {@link ExecutionJournal} under {@link DaemonPaths#journal()}:
+/// status transitions, output, and a {@link HensuSnapshot} at every workflow checkpoint.
+/// A restarted daemon restores them, so {@code hensu ps} and {@code hensu attach} keep
+/// working. Executions that were running become {@link ExecutionStatus#INTERRUPTED};
+/// an {@code attach} frame with {@code resume=true} continues one from its last checkpoint
+/// via {@link io.hensu.core.execution.WorkflowExecutor#executeFrom}.
+///
 /// ### Socket Activation
 /// When started under systemd socket activation, {@link System#inheritedChannel()} returns
 /// the pre-bound {@link ServerSocketChannel} created by the {@code hensu-daemon.socket} unit.
@@ -82,13 +96,17 @@ public class DaemonServer {
     private static final Logger log = Logger.getLogger(DaemonServer.class.getName());
     private static final int SUBSCRIBER_QUEUE_CAPACITY = 200;
 
+    // Frames are parsed and written on every NDJSON line — bind once against the shared mapper.
+    private static final ObjectReader FRAME_READER = HensuJson.readerFor(DaemonFrame.class);
+    private static final ObjectWriter FRAME_WRITER =
+            HensuJson.mapper().writerFor(DaemonFrame.class);
+
     @Inject HensuEnvironment environment;
     @Inject VerboseExecutionListenerFactory listenerFactory;
     @Inject DaemonReviewHandler daemonReviewHandler;
 
     private final ExecutionStore store = new ExecutionStore();
-    private final ObjectMapper mapper =
-            WorkflowSerializer.createMapper().disable(SerializationFeature.INDENT_OUTPUT);
+    private final ObjectMapper mapper = HensuJson.mapper();
 
     private volatile boolean running = false;
     private ServerSocketChannel serverChannel;
@@ -122,6 +140,7 @@ public class DaemonServer {
         }
 
         writePid();
+        attachJournal();
         store.start();
         running = true;
         sdNotifyReady();
@@ -185,31 +204,37 @@ public class DaemonServer {
             var writer =
                     new PrintWriter(
                             Channels.newOutputStream(channel), true, StandardCharsets.UTF_8);
-
-            String line = reader.readLine();
-            if (line == null) return;
-
-            DaemonFrame req = mapper.readValue(line, DaemonFrame.class);
-            switch (req.type) {
-                case "run" -> handleRun(req, reader, writer);
-                case "attach" -> handleAttach(req, reader, writer);
-                case "cancel" -> handleCancel(req, writer);
-                case "list" -> handleList(writer);
-                case "ping" -> write(writer, DaemonFrame.pong());
-                case "stop" -> {
-                    write(writer, DaemonFrame.pong());
-                    stop();
-                }
-                default ->
-                        write(
-                                writer,
-                                DaemonFrame.error(null, "Unknown frame type: " + req.type, true));
-            }
+            handle(reader, writer);
         } catch (Exception e) {
             log.fine("Connection closed: " + e.getMessage());
         }
     }
 
+    /// Serves one client connection: reads the request frame and dispatches it.
+    ///
+    /// @param reader input of the client, not null
+    /// @param writer output to the client, not null
+    /// @throws IOException if the request frame cannot be read
+    void handle(BufferedReader reader, PrintWriter writer) throws IOException {
+        String line = reader.readLine();
+        if (line == null) return;
+
+        DaemonFrame req = FRAME_READER.readValue(line);
+        switch (req.type) {
+            case "run" -> handleRun(req, reader, writer);
+            case "attach" -> handleAttach(req, reader, writer);
+            case "cancel" -> handleCancel(req, writer);
+            case "list" -> handleList(writer);
+            case "ping" -> write(writer, DaemonFrame.pong());
+            case "stop" -> {
+                write(writer, DaemonFrame.pong());
+                stop();
+            }
+            default ->
+                    write(writer, DaemonFrame.error(null, "Unknown frame type: " + req.type, true));
+        }
+    }
+
     // — Run ——————————————————————————————————————————————————————————————————
 
     private void handleRun(DaemonFrame req, BufferedReader clientReader, PrintWriter writer) {
@@ -222,15 +247,47 @@ public class DaemonServer {
 
         var execution =
                 new StoredExecution(execId, req.workflowId != null ? req.workflowId : execId);
-        store.register(execution);
+        // The run frame is journaled so an interrupted execution can be resumed after a restart
+        store.register(execution, serializeOrNull(req));
 
         var outputQueue = new LinkedBlockingQueue<String>(SUBSCRIBER_QUEUE_CAPACITY);
         execution.addSubscriber(outputQueue);
 
-        int termWidth = req.termWidth != null ? req.termWidth : 80;
-        boolean useColor = req.color == null || req.color;
-        boolean verbose = Boolean.TRUE.equals(req.verbose);
-        boolean interactive = Boolean.TRUE.equals(req.interactive);
+        startExecution(execution, req, null, outputQueue, clientReader);
+
+        write(writer, DaemonFrame.execStart(execId, execution.getWorkflowId()));
+
+        // Drain output queue → write to client socket
+        drainQueueToWriter(outputQueue, writer, execId);
+
+        // Non-interactive: read any remaining client command (detach/cancel) after drain.
+        // Interactive: the reader thread above handles these concurrently during execution.
+        if (!Boolean.TRUE.equals(req.interactive)) {
+            consumeClientCommands(clientReader, execId);
+        }
+    }
+
+    /// Starts the virtual thread running `execution`, from the start or from `checkpoint`.
+    ///
+    /// For interactive runs, review checkpoints are routed through `outputQueue` and a
+    /// reader thread handles the client's review responses.
+    ///
+    /// @param execution    the registered execution, not null
+    /// @param runFrame     the frame the execution was started with, not null
+    /// @param checkpoint   serialized snapshot to resume from, or null to start fresh
+    /// @param outputQueue  subscriber queue of the requesting client, not null
+    /// @param clientReader input of the requesting client, not null
+    private void startExecution(
+            StoredExecution execution,
+            DaemonFrame runFrame,
+            String checkpoint,
+            LinkedBlockingQueue<String> outputQueue,
+            BufferedReader clientReader) {
+        String execId = execution.getId();
+        int termWidth = runFrame.termWidth != null ? runFrame.termWidth : 80;
+        boolean useColor = runFrame.color == null || runFrame.color;
+        boolean verbose = Boolean.TRUE.equals(runFrame.verbose);
+        boolean interactive = Boolean.TRUE.equals(runFrame.interactive);
 
         if (interactive) {
             // Register the execution so review checkpoints route back through this socket.
@@ -252,24 +309,19 @@ public class DaemonServer {
                 .start(
                         () -> {
                             try {
-                                runExecution(execution, req, useColor, verbose, termWidth);
+                                runExecution(
+                                        execution,
+                                        runFrame,
+                                        checkpoint,
+                                        useColor,
+                                        verbose,
+                                        termWidth);
                             } finally {
                                 if (interactive) {
                                     daemonReviewHandler.unregisterExecution(execId);
                                 }
                             }
                         });
-
-        write(writer, DaemonFrame.execStart(execId, execution.getWorkflowId()));
-
-        // Drain output queue → write to client socket
-        drainQueueToWriter(outputQueue, writer, execId);
-
-        // Non-interactive: read any remaining client command (detach/cancel) after drain.
-        // Interactive: the reader thread above handles these concurrently during execution.
-        if (!interactive) {
-            consumeClientCommands(clientReader, execId);
-        }
     }
 
     // — Attach ——————————————————————————————————————————————————————————————
@@ -288,6 +340,30 @@ public class DaemonServer {
             return;
         }
 
+        // Claim an interrupted execution before replaying, so two clients cannot resume it
+        DaemonFrame runFrame = null;
+        String checkpoint = null;
+        if (Boolean.TRUE.equals(req.resume)) {
+            StoredExecution.ResumePoint resumePoint = execution.claimResume();
+            if (resumePoint == null) {
+                write(
+                        writer,
+                        DaemonFrame.error(
+                                req.execId, "Execution is not interrupted: " + req.execId, true));
+                return;
+            }
+            try {
+                runFrame = FRAME_READER.readValue(resumePoint.runFrame());
+                checkpoint = resumePoint.checkpoint();
+            } catch (IOException e) {
+                String message = "Cannot resume " + req.execId + ": " + e.getMessage();
+                DaemonFrame error = DaemonFrame.error(req.execId, message, true);
+                execution.markFailed(message, safeSerialize(error));
+                write(writer, error);
+                return;
+            }
+        }
+
         // Replay buffered output first
         OutputRingBuffer.ReplayResult replay = execution.getOutputBuffer().drain();
         write(
@@ -312,14 +388,25 @@ public class DaemonServer {
             return;
         }
 
+        // Interrupted by a daemon restart and not resumed — nothing will stream
+        if (execution.getStatus() == ExecutionStatus.INTERRUPTED) {
+            String hint = "Resume with: hensu attach --resume " + req.execId;
+            write(writer, DaemonFrame.error(req.execId, hint, false));
+            write(writer, DaemonFrame.execEnd(req.execId, ExecutionStatus.INTERRUPTED.name()));
+            return;
+        }
+
         // Still running — subscribe for live output
         var outputQueue = new LinkedBlockingQueue<String>(SUBSCRIBER_QUEUE_CAPACITY);
         execution.addSubscriber(outputQueue);
 
-        // If the execution is interactive, re-register the new queue as the frame sender
-        // so pending review_request frames are re-delivered to this client, and start a
-        // reader thread so the client can send review_response / detach frames back.
-        if (daemonReviewHandler.isInteractive(req.execId)) {
+        if (runFrame != null) {
+            // Resuming: subscribed first so no output of the resumed run is missed
+            startExecution(execution, runFrame, checkpoint, outputQueue, clientReader);
+        } else if (daemonReviewHandler.isInteractive(req.execId)) {
+            // If the execution is interactive, re-register the new queue as the frame sender
+            // so pending review_request frames are re-delivered to this client, and start a
+            // reader thread so the client can send review_response / detach frames back.
             Consumer<DaemonFrame> frameSender = frame -> outputQueue.offer(safeSerialize(frame));
             daemonReviewHandler.resumeExecution(req.execId, frameSender);
             Thread.ofVirtual()
@@ -348,7 +435,8 @@ public class DaemonServer {
         // The virtual thread running this execution will be interrupted on next blocking call
         String cancelFrame;
         try {
-            cancelFrame = mapper.writeValueAsString(DaemonFrame.execEnd(req.execId, "CANCELLED"));
+            cancelFrame =
+                    FRAME_WRITER.writeValueAsString(DaemonFrame.execEnd(req.execId, "CANCELLED"));
         } catch (Exception e) {
             cancelFrame =
                     "{\"t\":\"exec_end\",\"id\":\"" + req.execId + "\",\"status\":\"CANCELLED\"}";
@@ -379,20 +467,25 @@ public class DaemonServer {
     private void runExecution(
             StoredExecution execution,
             DaemonFrame req,
+            String checkpoint,
             boolean useColor,
             boolean verbose,
             int termWidth) {
         String execId = execution.getId();
         try {
-            var workflow = WorkflowSerializer.fromJson(req.workflowJson);
-            var context =
-                    req.context != null
-                            ? new HashMap<>(req.context)
-                            : new HashMap<String, Object>();
-            // Align the engine's internal executionId with the daemon's tracking ID.
-            // Without this, WorkflowExecutor generates its own UUID and
-            // DaemonReviewManager cannot correlate the review to this execution.
-            context.put("_execution_id", execId);
+            var workflow = HensuJson.compact().readWorkflow(req.workflowJson);
+            HensuState resumed = null;
+            Map<String, Object> context;
+            if (checkpoint != null) {
+                resumed = HensuJson.compact().readSnapshot(checkpoint).toState();
+                context = resumed.getContext();
+            } else {
+                context = req.context != null ? new HashMap<>(req.context) : new HashMap<>();
+                // Align the engine's internal executionId with the daemon's tracking ID.
+                // Without this, WorkflowExecutor generates its own UUID and
+                // DaemonReviewManager cannot correlate the review to this execution.
+                context.put("_execution_id", execId);
+            }
 
             // Register `--with` subs in the daemon's repository under the run's tenant
             // before the executor starts — SubWorkflowNodeExecutor looks them up there.
@@ -405,14 +498,22 @@ public class DaemonServer {
                     verbose
                             ? listenerFactory.create(workflow, sink.out(), useColor, termWidth)
                             : ExecutionListener.NOOP;
+            if (store.isDurable()) {
+                listener = new CheckpointingListener(execution, listener);
+            }
 
-            execution.markRunning(workflow.getStartNode());
-
-            ExecutionResult result =
-                    environment.getWorkflowExecutor().execute(workflow, context, listener);
+            ExecutionResult result;
+            if (resumed != null) {
+                sink.out().printf("%n[Resumed from checkpoint at %s]%n", resumed.getCurrentNode());
+                result = environment.getWorkflowExecutor().executeFrom(workflow, resumed, listener);
+            } else {
+                execution.markRunning(workflow.getStartNode());
+                result = environment.getWorkflowExecutor().execute(workflow, context, listener);
+            }
 
             String finalFrame =
-                    mapper.writeValueAsString(DaemonFrame.execEnd(execId, extractStatus(result)));
+                    FRAME_WRITER.writeValueAsString(
+                            DaemonFrame.execEnd(execId, extractStatus(result)));
             execution.markCompleted(result, finalFrame);
 
         } catch (InterruptedException e) {
@@ -433,11 +534,31 @@ public class DaemonServer {
         if (req.subWorkflowsJson == null || req.subWorkflowsJson.isEmpty()) return;
         String tenantId = (String) context.getOrDefault("_tenant_id", SubWorkflowLoader.CLI_TENANT);
         for (String json : req.subWorkflowsJson) {
-            var sub = WorkflowSerializer.fromJson(json);
+            var sub = HensuJson.compact().readWorkflow(json);
             environment.getWorkflowRepository().save(tenantId, sub);
         }
     }
 
+    /// Opens the execution journal and restores the executions it recorded. Without a
+    /// journal the daemon still runs, but executions do not survive a restart.
+    private void attachJournal() {
+        try {
+            attachJournal(ExecutionJournal.open(DaemonPaths.journal()));
+        } catch (IOException | RuntimeException e) {
+            log.warning("Execution journal unavailable: " + e.getMessage());
+        }
+    }
+
+    /// Restores the executions recorded in `journal` and journals every later change there.
+    ///
+    /// @param journal the opened journal, not null
+    void attachJournal(ExecutionJournal journal) {
+        int interrupted = store.attach(journal);
+        if (interrupted > 0) {
+            log.info(interrupted + " execution(s) interrupted by the last daemon stop");
+        }
+    }
+
     // — Queue drain ————————————————————————————————————————————————————————
 
     private void drainQueueToWriter(
@@ -481,7 +602,7 @@ public class DaemonServer {
         try {
             String line;
             while ((line = reader.readLine()) != null) {
-                DaemonFrame frame = mapper.readValue(line, DaemonFrame.class);
+                DaemonFrame frame = FRAME_READER.readValue(line);
                 switch (frame.type) {
                     case "review_response" -> {
                         if (frame.reviewId != null) {
@@ -543,7 +664,7 @@ public class DaemonServer {
         try {
             String line;
             while ((line = reader.readLine()) != null) {
-                DaemonFrame frame = mapper.readValue(line, DaemonFrame.class);
+                DaemonFrame frame = FRAME_READER.readValue(line);
                 if ("cancel".equals(frame.type)) {
                     StoredExecution exec = store.get(execId);
                     if (exec != null && !exec.getStatus().isTerminal()) {
@@ -564,15 +685,24 @@ public class DaemonServer {
 
     private void write(PrintWriter writer, DaemonFrame frame) {
         try {
-            writer.println(mapper.writeValueAsString(frame));
+            writer.println(FRAME_WRITER.writeValueAsString(frame));
         } catch (Exception e) {
             log.warning("Failed to write frame: " + e.getMessage());
         }
     }
 
+    private static String serializeOrNull(DaemonFrame frame) {
+        try {
+            return FRAME_WRITER.writeValueAsString(frame);
+        } catch (Exception e) {
+            log.warning("Run frame not journaled, execution cannot be resumed: " + e.getMessage());
+            return null;
+        }
+    }
+
     private String safeSerialize(DaemonFrame frame) {
         try {
-            return mapper.writeValueAsString(frame);
+            return FRAME_WRITER.writeValueAsString(frame);
         } catch (Exception e) {
             return "{\"t\":\"error\",\"msg\":\"serialization failed\"}";
         }
@@ -651,4 +781,66 @@ public class DaemonServer {
         } catch (IOException ignored) {
         }
     }
+
+    /// Journals a {@link HensuSnapshot} of every workflow checkpoint and forwards all
+    /// events to the output listener.
+    ///
+    /// Sub-workflows share the parent's listener, so checkpoints of their states arrive here
+    /// too. Only states of the execution itself are journaled: resuming the parent
+    /// workflow from a sub-workflow node would run the wrong graph.
+    private static final class CheckpointingListener implements ExecutionListener {
+
+        private final StoredExecution execution;
+        private final ExecutionListener delegate;
+
+        CheckpointingListener(StoredExecution execution, ExecutionListener delegate) {
+            this.execution = execution;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void onAgentStart(String nodeId, String agentId, String prompt) {
+            delegate.onAgentStart(nodeId, agentId, prompt);
+        }
+
+        @Override
+        public void onAgentOutputDelta(String nodeId, String agentId, String delta) {
+            delegate.onAgentOutputDelta(nodeId, agentId, delta);
+        }
+
+        @Override
+        public void onAgentComplete(String nodeId, String agentId, AgentResponse response) {
+            delegate.onAgentComplete(nodeId, agentId, response);
+        }
+
+        @Override
+        public void onNodeStart(Node node) {
+            delegate.onNodeStart(node);
+        }
+
+        @Override
+        public void onNodeComplete(Node node, NodeResult result) {
+            delegate.onNodeComplete(node, result);
+        }
+
+        @Override
+        public void onTransitionWarning(String nodeId, String message) {
+            delegate.onTransitionWarning(nodeId, message);
+        }
+
+        @Override
+        public void onCheckpoint(HensuState state) {
+            delegate.onCheckpoint(state);
+            if (!execution.getId().equals(state.getExecutionId())) {
+                return;
+            }
+            try {
+                String snapshot = HensuJson.compact().writeSnapshot(state.snapshot("checkpoint"));
+                execution.checkpoint(state.getCurrentNode(), snapshot);
+            } catch (RuntimeException e) {
+                log.warning(
+                        "Checkpoint of " + execution.getId() + " not journaled: " + e.getMessage());
+            }
+        }
+    }
 }
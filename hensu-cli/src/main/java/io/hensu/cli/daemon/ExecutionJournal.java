@@ -0,0 +1,633 @@
+package io.hensu.cli.daemon;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/// Append-only, memory-mapped journal of daemon executions.
+///
+/// Records every change of a {@link StoredExecution} — registration with its run frame,
+/// status transitions, output bytes, and workflow checkpoints — so a restarted daemon can
+/// rebuild its {@link ExecutionStore} and resume interrupted executions.
+///
+/// ### Layout
+/// ```
+/// ~/.hensu/journal/
+///   00000000000000000001.seg   — compacted base: one summary per retained execution
+///   00000000000000000002.seg   — sealed segment
+///   00000000000000000003.seg   — active segment, mapped read-write
+/// ```
+///
+/// Each segment is a fixed-size file mapped into memory. Records are appended as
+/// `[length:int][crc32:int][body]`; a zero length marks the end of the written region, and a
+/// record whose checksum does not match (a write torn by a crash) ends replay of its segment.
+/// When a record does not fit, the active segment is forced to disk and a new one is mapped.
+///
+/// ### Compaction
+/// Replay and compaction are one operation: segments are read in order, each execution is
+/// folded into its latest status, the last {@value OutputRingBuffer#DEFAULT_CAPACITY} bytes of
+/// output and, while unfinished, its last checkpoint; the result is written to a new base
+/// segment. A base segment starts with a marker record; replay starts at the newest base, so
+/// segments left behind by a crash during compaction are ignored and deleted. Compaction runs
+/// when the journal is opened and when a rotation reaches the segment limit
+/// ({@value #DEFAULT_MAX_SEGMENTS} by default).
+///
+/// ### Durability
+/// Appended records are in the page cache as soon as the append returns, so they survive a
+/// daemon crash. Status changes, checkpoints and rotations also force the segment to disk;
+/// output written just before a machine crash may be lost.
+///
+/// @implNote **Thread-safe**. Appends are serialized on the journal; a compaction blocks
+/// appends until the new base segment is written. Failures to write are logged and do not
+/// fail the execution.
+///
+/// @see ExecutionStore#attach(ExecutionJournal)
+/// @see DaemonPaths#journal()
+public final class ExecutionJournal implements Closeable {
+
+    private static final Logger log = Logger.getLogger(ExecutionJournal.class.getName());
+
+    /// Default size of a segment: 8 MB.
+    public static final int DEFAULT_SEGMENT_SIZE = 8 * 1024 * 1024;
+
+    /// Default number of segments that triggers a compaction.
+    public static final int DEFAULT_MAX_SEGMENTS = 8;
+
+    private static final String SUFFIX = ".seg";
+    private static final int HEADER = 2 * Integer.BYTES;
+    // Big-endian to match the ByteBuffer used for replay
+    private static final ValueLayout.OfInt INT =
+            ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+
+    private static final byte BASE = 0;
+    private static final byte REGISTER = 1;
+    private static final byte STATUS = 2;
+    private static final byte OUTPUT = 3;
+    private static final byte CHECKPOINT = 4;
+    private static final byte FORGET = 5;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final List<Entry> recovered;
+
+    private long nextSequence;
+    private int segmentCount;
+    private Arena arena;
+    private MemorySegment active;
+    private long position;
+
+    private ExecutionJournal(Path directory, int segmentSize, int maxSegments) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = maxSegments;
+        Files.createDirectories(directory);
+        this.recovered = compact();
+    }
+
+    /// Opens the journal in `directory`, replaying and compacting existing segments.
+    ///
+    /// @param directory journal directory, not null; created if absent
+    /// @return the open journal, never null
+    /// @throws IOException if the directory cannot be read or the base segment written
+    public static ExecutionJournal open(Path directory) throws IOException {
+        return open(directory, DEFAULT_SEGMENT_SIZE, DEFAULT_MAX_SEGMENTS);
+    }
+
+    /// Opens the journal with custom segment sizing.
+    ///
+    /// @param directory journal directory, not null; created if absent
+    /// @param segmentSize bytes per segment, at least 1024
+    /// @param maxSegments segment count that triggers compaction, at least 2
+    /// @return the open journal, never null
+    /// @throws IOException if the directory cannot be read or the base segment written
+    static ExecutionJournal open(Path directory, int segmentSize, int maxSegments)
+            throws IOException {
+        Objects.requireNonNull(directory, "directory must not be null");
+        if (segmentSize < 1024 || maxSegments < 2) {
+            throw new IllegalArgumentException(
+                    "segmentSize must be >= 1024 and maxSegments >= 2, got: "
+                            + segmentSize
+                            + ", "
+                            + maxSegments);
+        }
+        return new ExecutionJournal(directory, segmentSize, maxSegments);
+    }
+
+    /// Returns the executions recovered when the journal was opened, in registration order.
+    ///
+    /// @return recovered executions, never null
+    public List<Entry> recovered() {
+        return recovered;
+    }
+
+    // — Appends ——————————————————————————————————————————————————————————————
+
+    /// Records a newly registered execution.
+    ///
+    /// @param id execution identifier, not null
+    /// @param workflowId workflow name or id, not null
+    /// @param startedAt registration time, not null
+    /// @param runFrame serialized run frame the execution was started with, may be null
+    public void register(String id, String workflowId, Instant startedAt, String runFrame) {
+        append(
+                REGISTER,
+                id,
+                false,
+                out -> {
+                    writeString(out, workflowId);
+                    out.writeLong(startedAt.toEpochMilli());
+                    writeString(out, runFrame);
+                });
+    }
+
+    /// Records a status transition; forces the segment to disk.
+    ///
+    /// @param execution the execution after the transition, not null
+    public void status(StoredExecution execution) {
+        append(
+                STATUS,
+                execution.getId(),
+                true,
+                out ->
+                        writeStatus(
+                                out,
+                                execution.getStatus(),
+                                execution.getCurrentNode(),
+                                execution.getCompletedAt(),
+                                execution.getFailureMessage()));
+    }
+
+    /// Records output bytes of an execution.
+    ///
+    /// @param id execution identifier, not null
+    /// @param bytes output bytes, not null
+    public void output(String id, byte[] bytes) {
+        append(
+                OUTPUT,
+                id,
+                false,
+                out -> {
+                    out.writeInt(bytes.length);
+                    out.write(bytes);
+                });
+    }
+
+    /// Records the latest checkpoint of an execution, replacing earlier ones on compaction;
+    /// forces the segment to disk.
+    ///
+    /// @param id execution identifier, not null
+    /// @param nodeId the node execution continues at, may be null
+    /// @param snapshotJson serialized {@link io.hensu.core.state.HensuSnapshot}, not null
+    public void checkpoint(String id, String nodeId, String snapshotJson) {
+        append(
+                CHECKPOINT,
+                id,
+                true,
+                out -> {
+                    writeString(out, nodeId);
+                    writeString(out, snapshotJson);
+                });
+    }
+
+    /// Records that an execution was evicted; the next compaction drops it.
+    ///
+    /// @param id execution identifier, not null
+    public void forget(String id) {
+        append(FORGET, id, false, _ -> {});
+    }
+
+    /// Forces the active segment to disk and unmaps it. Later appends are ignored.
+    @Override
+    public synchronized void close() {
+        if (arena != null) {
+            unmapActive();
+        }
+    }
+
+    // — Writing ——————————————————————————————————————————————————————————————
+
+    private synchronized void append(byte type, String id, boolean force, Body body) {
+        if (arena == null) {
+            return;
+        }
+        try {
+            byte[] record = encode(type, id, body);
+            if (position + record.length + HEADER > active.byteSize()) {
+                rotate(record.length);
+            }
+            writeRecord(active, position, record);
+            position += HEADER + record.length;
+            if (force) {
+                active.force();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warning("Failed to journal execution " + id + ": " + e.getMessage());
+        }
+    }
+
+    /// Seals the active segment and maps a new one, compacting first if there are too many.
+    private void rotate(int recordLength) throws IOException {
+        unmapActive();
+        if (segmentCount >= maxSegments) {
+            compact();
+            if (HEADER + recordLength <= active.byteSize()) {
+                return;
+            }
+            unmapActive();
+        }
+        mapNewSegment(recordLength);
+    }
+
+    private void unmapActive() {
+        active.force();
+        arena.close();
+        arena = null;
+        active = null;
+    }
+
+    private void mapNewSegment(int minRecordLength) throws IOException {
+        long size = Math.max(segmentSize, (long) minRecordLength + 2L * HEADER);
+        Path file = segmentFile(nextSequence++);
+        arena = Arena.ofShared();
+        try (FileChannel channel =
+                FileChannel.open(
+                        file,
+                        StandardOpenOption.CREATE_NEW,
+                        StandardOpenOption.READ,
+                        StandardOpenOption.WRITE)) {
+            active = channel.map(FileChannel.MapMode.READ_WRITE, 0, size, arena);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            arena = null;
+            throw e;
+        }
+        position = 0;
+        segmentCount++;
+    }
+
+    private static void writeRecord(MemorySegment segment, long offset, byte[] record) {
+        CRC32 crc = new CRC32();
+        crc.update(record);
+        segment.set(INT, offset + Integer.BYTES, (int) crc.getValue());
+        MemorySegment.copy(
+                record, 0, segment, ValueLayout.JAVA_BYTE, offset + HEADER, record.length);
+        // Length last: a record becomes visible to replay only once it is complete
+        segment.set(INT, offset, record.length);
+    }
+
+    // — Compaction ———————————————————————————————————————————————————————————
+
+    /// Replays all segments from the newest base, writes their folded state as a new base
+    /// segment, deletes the replayed segments, and maps a fresh active segment.
+    private List<Entry> compact() throws IOException {
+        List<Path> segments = listSegments();
+        Map<String, Replayed> executions = replay(segments);
+        nextSequence = segments.isEmpty() ? 1 : sequenceOf(segments.getLast()) + 1;
+
+        ByteArrayOutputStream base = new ByteArrayOutputStream();
+        appendTo(base, encode(BASE, "", _ -> {}));
+        for (Replayed execution : executions.values()) {
+            for (byte[] record : execution.summary()) {
+                appendTo(base, record);
+            }
+        }
+        writeBase(segmentFile(nextSequence++), base.toByteArray());
+        for (Path segment : segments) {
+            Files.deleteIfExists(segment);
+        }
+        segmentCount = 1;
+        mapNewSegment(0);
+        return executions.values().stream().map(Replayed::toEntry).toList();
+    }
+
+    /// Writes a base segment next to its final name and moves it into place, so a crash
+    /// never leaves a partial base for replay to start from.
+    private void writeBase(Path file, byte[] records) throws IOException {
+        Path temp = directory.resolve(file.getFileName() + ".tmp");
+        try (FileChannel channel =
+                FileChannel.open(
+                        temp,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING,
+                        StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(records);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void appendTo(ByteArrayOutputStream out, byte[] record) {
+        CRC32 crc = new CRC32();
+        crc.update(record);
+        ByteBuffer header = ByteBuffer.allocate(HEADER);
+        header.putInt(record.length).putInt((int) crc.getValue());
+        out.writeBytes(header.array());
+        out.writeBytes(record);
+    }
+
+    // — Replay ———————————————————————————————————————————————————————————————
+
+    private Map<String, Replayed> replay(List<Path> segments) throws IOException {
+        int start = 0;
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            if (startsWithBase(segments.get(i))) {
+                start = i;
+                break;
+            }
+        }
+        Map<String, Replayed> executions = new LinkedHashMap<>();
+        for (Path segment : segments.subList(start, segments.size())) {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(segment));
+            byte[] record;
+            while ((record = nextRecord(buffer)) != null) {
+                apply(executions, record);
+            }
+        }
+        return executions;
+    }
+
+    private static boolean startsWithBase(Path segment) throws IOException {
+        byte[] head = new byte[HEADER + 1];
+        try (var in = Files.newInputStream(segment)) {
+            if (in.readNBytes(head, 0, head.length) < head.length) {
+                return false;
+            }
+        }
+        return ByteBuffer.wrap(head).getInt() > 0 && head[HEADER] == BASE;
+    }
+
+    /// Reads the next intact record, or null at the end of the written region.
+    private static byte[] nextRecord(ByteBuffer buffer) {
+        if (buffer.remaining() < HEADER) {
+            return null;
+        }
+        int length = buffer.getInt();
+        int checksum = buffer.getInt();
+        if (length <= 0 || length > buffer.remaining()) {
+            return null;
+        }
+        byte[] record = new byte[length];
+        buffer.get(record);
+        CRC32 crc = new CRC32();
+        crc.update(record);
+        return (int) crc.getValue() == checksum ? record : null;
+    }
+
+    private static void apply(Map<String, Replayed> executions, byte[] record) throws IOException {
+        var in = new DataInputStream(new ByteArrayInputStream(record));
+        byte type = in.readByte();
+        String id = in.readUTF();
+        switch (type) {
+            case REGISTER -> {
+                String workflowId = readString(in);
+                Instant startedAt = Instant.ofEpochMilli(in.readLong());
+                executions.put(id, new Replayed(id, workflowId, startedAt, readString(in)));
+            }
+            case STATUS -> {
+                Replayed execution = executions.get(id);
+                if (execution != null) {
+                    execution.status = ExecutionStatus.valueOf(in.readUTF());
+                    execution.currentNode = readString(in);
+                    long completedAt = in.readLong();
+                    execution.completedAt =
+                            completedAt >= 0 ? Instant.ofEpochMilli(completedAt) : null;
+                    execution.failureMessage = readString(in);
+                }
+            }
+            case OUTPUT -> {
+                Replayed execution = executions.get(id);
+                if (execution != null) {
+                    byte[] bytes = in.readNBytes(in.readInt());
+                    execution.output.write(bytes);
+                    // Base segments append the bytes compacted away before this tail
+                    if (in.available() > 0) {
+                        execution.outputLost += in.readLong();
+                    }
+                }
+            }
+            case CHECKPOINT -> {
+                Replayed execution = executions.get(id);
+                if (execution != null) {
+                    String nodeId = readString(in);
+                    if (nodeId != null) {
+                        execution.currentNode = nodeId;
+                    }
+                    execution.checkpoint = readString(in);
+                }
+            }
+            case FORGET -> executions.remove(id);
+            default -> {
+                // BASE marker or a record type from a newer daemon
+            }
+        }
+    }
+
+    private List<Path> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> all = files.toList();
+            for (Path file : all) {
+                if (file.getFileName().toString().endsWith(".tmp")) {
+                    Files.deleteIfExists(file);
+                }
+            }
+            return all.stream()
+                    .filter(f -> f.getFileName().toString().endsWith(SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path segmentFile(long sequence) {
+        return directory.resolve(String.format("%020d", sequence) + SUFFIX);
+    }
+
+    private static long sequenceOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+    }
+
+    // — Encoding —————————————————————————————————————————————————————————————
+
+    private static byte[] encode(byte type, String id, Body body) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(type);
+        out.writeUTF(id);
+        body.write(out);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static void writeStatus(
+            DataOutputStream out,
+            ExecutionStatus status,
+            String currentNode,
+            Instant completedAt,
+            String failureMessage)
+            throws IOException {
+        out.writeUTF(status.name());
+        writeString(out, currentNode);
+        out.writeLong(completedAt != null ? completedAt.toEpochMilli() : -1);
+        writeString(out, failureMessage);
+    }
+
+    /// Writes a nullable string of any length; {@link DataOutputStream#writeUTF} is limited
+    /// to 64 KB.
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        return length < 0 ? null : new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    }
+
+    @FunctionalInterface
+    private interface Body {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    // — Inner types ——————————————————————————————————————————————————————————
+
+    /// An execution as recovered from the journal.
+    ///
+    /// @param id execution identifier, never null
+    /// @param workflowId workflow name or id, never null
+    /// @param startedAt registration time, never null
+    /// @param runFrame serialized run frame, may be null for executions registered without one
+    /// @param status last recorded status, never null
+    /// @param currentNode last recorded node, may be null
+    /// @param completedAt time the execution reached a terminal state, may be null
+    /// @param failureMessage failure description, may be null
+    /// @param output the most recent output bytes in write order, never null
+    /// @param outputWritten total output bytes ever written, including those no longer kept
+    /// @param checkpoint last serialized {@link io.hensu.core.state.HensuSnapshot}, may be null
+    public record Entry(
+            String id,
+            String workflowId,
+            Instant startedAt,
+            String runFrame,
+            ExecutionStatus status,
+            String currentNode,
+            Instant completedAt,
+            String failureMessage,
+            byte[] output,
+            long outputWritten,
+            String checkpoint) {}
+
+    /// Mutable fold of one execution's records during replay.
+    private static final class Replayed {
+        private final String id;
+        private final String workflowId;
+        private final Instant startedAt;
+        private final String runFrame;
+        private final OutputRingBuffer output = new OutputRingBuffer();
+        private long outputLost;
+        private ExecutionStatus status = ExecutionStatus.QUEUED;
+        private String currentNode;
+        private Instant completedAt;
+        private String failureMessage;
+        private String checkpoint;
+
+        Replayed(String id, String workflowId, Instant startedAt, String runFrame) {
+            this.id = id;
+            this.workflowId = workflowId;
+            this.startedAt = startedAt;
+            this.runFrame = runFrame;
+        }
+
+        long outputWritten() {
+            return outputLost + output.getTotalWritten();
+        }
+
+        /// Encodes the fold as the records a base segment holds for this execution. The
+        /// output record carries the bytes dropped so far so the total survives compaction.
+        List<byte[]> summary() throws IOException {
+            List<byte[]> records = new ArrayList<>(4);
+            records.add(
+                    encode(
+                            REGISTER,
+                            id,
+                            out -> {
+                                writeString(out, workflowId);
+                                out.writeLong(startedAt.toEpochMilli());
+                                writeString(out, runFrame);
+                            }));
+            records.add(encode(STATUS, id, this::writeLatestStatus));
+            byte[] tail = output.drain().bytes();
+            long lost = outputWritten() - tail.length;
+            records.add(
+                    encode(
+                            OUTPUT,
+                            id,
+                            out -> {
+                                out.writeInt(tail.length);
+                                out.write(tail);
+                                out.writeLong(lost);
+                            }));
+            if (checkpoint != null && !status.isTerminal()) {
+                records.add(
+                        encode(
+                                CHECKPOINT,
+                                id,
+                                out -> {
+                                    writeString(out, currentNode);
+                                    writeString(out, checkpoint);
+                                }));
+            }
+            return records;
+        }
+
+        private void writeLatestStatus(DataOutputStream out) throws IOException {
+            writeStatus(out, status, currentNode, completedAt, failureMessage);
+        }
+
+        Entry toEntry() {
+            return new Entry(
+                    id,
+                    workflowId,
+                    startedAt,
+                    runFrame,
+                    status,
+                    currentNode,
+                    completedAt,
+                    failureMessage,
+                    output.drain().bytes(),
+                    outputWritten(),
+                    checkpoint);
+        }
+    }
+}
@@ -8,6 +8,7 @@ package io.hensu.cli.daemon;
 ///                  │————————> FAILED
 ///                  │————————> CANCELLED
 ///                  │————————> TIMED_OUT
+///                  │————————> INTERRUPTED ————> RUNNING (attach --resume)
 /// ```
 public enum ExecutionStatus {
 
@@ -33,13 +34,20 @@ public enum ExecutionStatus {
     CANCELLED,
 
     /// Interrupted after exceeding the configured node timeout.
-    TIMED_OUT;
+    TIMED_OUT,
+
+    /// The daemon stopped while the execution was running.
+    ///
+    /// Assigned when a restarted daemon recovers the execution from its
+    /// {@link ExecutionJournal}. Use {@code hensu attach --resume <id>} to continue from
+    /// the last checkpoint, or {@code hensu cancel <id>} to discard it.
+    INTERRUPTED;
 
     /// Returns {@code true} if no further state transitions are possible.
     ///
     /// @return {@code true} for COMPLETED, FAILED, CANCELLED, TIMED_OUT; {@code false}
-    /// for QUEUED, RUNNING, and AWAITING_REVIEW
+    /// for QUEUED, RUNNING, AWAITING_REVIEW, and INTERRUPTED
     public boolean isTerminal() {
-        return this != QUEUED && this != RUNNING && this != AWAITING_REVIEW;
+        return this != QUEUED && this != RUNNING && this != AWAITING_REVIEW && this != INTERRUPTED;
     }
 }
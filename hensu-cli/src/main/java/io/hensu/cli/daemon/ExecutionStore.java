@@ -1,5 +1,8 @@
 package io.hensu.cli.daemon;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.hensu.serialization.HensuJson;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -11,12 +14,16 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
-/// In-memory registry for all daemon-managed workflow executions.
+/// Registry for all daemon-managed workflow executions.
 ///
 /// Maintains the full lifecycle of each {@link StoredExecution} from submission
 /// through terminal state, and periodically evicts completed executions after the
 /// configured TTL.
 ///
+/// Executions live in memory. After {@link #attach(ExecutionJournal)}, the store also
+/// survives daemon restarts: executions recorded in the journal are restored, and those
+/// that were in progress become {@link ExecutionStatus#INTERRUPTED}.
+///
 /// ### Contracts
 /// - **Precondition**: {@code register()} must be called before {@code get()} for the same id
 /// - **Postcondition**: after {@code start()}, completed executions are evicted after TTL
@@ -27,9 +34,10 @@ import java.util.logging.Logger;
 /// State transitions on individual {@link StoredExecution} are internally synchronized.
 ///
 /// @apiNote Call {@link #start()} once at daemon startup to activate TTL eviction.
-/// Call {@link #stop()} on daemon shutdown to release the eviction scheduler.
+/// Call {@link #stop()} on daemon shutdown to release the eviction scheduler and journal.
 ///
 /// @see StoredExecution
+/// @see ExecutionJournal
 /// @see DaemonServer
 public final class ExecutionStore {
 
@@ -38,9 +46,15 @@ public final class ExecutionStore {
     /// Default TTL for completed executions before eviction.
     public static final Duration DEFAULT_RESULT_TTL = Duration.ofHours(1);
 
+    private static final String NOT_RESUMABLE =
+            "Daemon stopped before the execution reached a checkpoint";
+    private static final ObjectWriter FRAME_WRITER =
+            HensuJson.mapper().writerFor(DaemonFrame.class);
+
     private final ConcurrentHashMap<String, StoredExecution> executions = new ConcurrentHashMap<>();
     private final Duration resultTtl;
     private ScheduledExecutorService evictionScheduler;
+    private volatile ExecutionJournal journal;
 
     /// Creates a store with the {@link #DEFAULT_RESULT_TTL}.
     public ExecutionStore() {
@@ -69,13 +83,52 @@ public final class ExecutionStore {
         evictionScheduler.scheduleAtFixedRate(this::evictExpired, 5, 5, TimeUnit.MINUTES);
     }
 
-    /// Stops the eviction scheduler.
+    /// Stops the eviction scheduler and closes the journal, if any.
     ///
-    /// @apiNote **Side effects**: shuts down the background eviction thread.
+    /// @apiNote **Side effects**: shuts down the background eviction thread and forces
+    /// the journal to disk.
     public void stop() {
         if (evictionScheduler != null) {
             evictionScheduler.shutdown();
         }
+        ExecutionJournal current = journal;
+        if (current != null) {
+            current.close();
+        }
+    }
+
+    /// Restores the executions recorded in `journal` and records every later change there.
+    ///
+    /// Recovered executions that were still queued, running or awaiting review when the
+    /// daemon stopped are marked {@link ExecutionStatus#INTERRUPTED}, or
+    /// {@link ExecutionStatus#FAILED} if they never reached a checkpoint to resume from.
+    ///
+    /// @apiNote Call once at daemon startup, before the first {@link #register}.
+    /// @param journal the opened journal, not null
+    /// @return number of executions marked interrupted
+    public int attach(ExecutionJournal journal) {
+        int interrupted = 0;
+        for (ExecutionJournal.Entry entry : journal.recovered()) {
+            StoredExecution execution = StoredExecution.restore(entry);
+            execution.journalTo(journal);
+            if (execution.markInterrupted()) {
+                if (execution.getResumePoint() != null) {
+                    interrupted++;
+                } else {
+                    execution.markFailed(NOT_RESUMABLE, notResumableFrame(execution.getId()));
+                }
+            }
+            executions.putIfAbsent(execution.getId(), execution);
+        }
+        this.journal = journal;
+        return interrupted;
+    }
+
+    /// Returns whether executions are journaled and survive a daemon restart.
+    ///
+    /// @return true once a journal is attached
+    public boolean isDurable() {
+        return journal != null;
     }
 
     /// Registers a new execution in {@link ExecutionStatus#QUEUED} state.
@@ -83,10 +136,28 @@ public final class ExecutionStore {
     /// @param execution the execution to register, not null
     /// @throws IllegalArgumentException if an execution with the same id already exists
     public void register(StoredExecution execution) {
+        register(execution, null);
+    }
+
+    /// Registers a new execution, journaling the run frame it can be resumed with.
+    ///
+    /// @param execution the execution to register, not null
+    /// @param runFrame  serialized run frame, may be null if the execution cannot be resumed
+    /// @throws IllegalArgumentException if an execution with the same id already exists
+    public void register(StoredExecution execution, String runFrame) {
         if (executions.putIfAbsent(execution.getId(), execution) != null) {
             throw new IllegalArgumentException(
                     "Execution already registered: " + execution.getId());
         }
+        ExecutionJournal current = journal;
+        if (current != null) {
+            current.register(
+                    execution.getId(),
+                    execution.getWorkflowId(),
+                    execution.getStartedAt(),
+                    runFrame);
+            execution.journalTo(current);
+        }
     }
 
     /// Returns the execution with the given id, if present.
@@ -126,9 +197,21 @@ public final class ExecutionStore {
                                     && exec.getCompletedAt() != null
                                     && exec.getCompletedAt().isBefore(cutoff)) {
                                 log.fine("Evicting expired execution: " + exec.getId());
+                                ExecutionJournal current = journal;
+                                if (current != null) {
+                                    current.forget(exec.getId());
+                                }
                                 return true;
                             }
                             return false;
                         });
     }
+
+    private static String notResumableFrame(String execId) {
+        try {
+            return FRAME_WRITER.writeValueAsString(DaemonFrame.error(execId, NOT_RESUMABLE, true));
+        } catch (JsonProcessingException e) {
+            return "{\"t\":\"error\",\"msg\":\"serialization failed\"}";
+        }
+    }
 }
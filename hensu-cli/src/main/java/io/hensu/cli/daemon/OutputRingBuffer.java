@@ -99,6 +99,15 @@ public final class OutputRingBuffer {
         return new ReplayResult(result, true);
     }
 
+    /// Fills an empty buffer with output recovered from an {@link ExecutionJournal}.
+    ///
+    /// @param bytes        recovered bytes in write order, not null
+    /// @param totalWritten bytes ever written, including those no longer recovered
+    synchronized void restore(byte[] bytes, long totalWritten) {
+        write(bytes);
+        this.totalWritten = Math.max(totalWritten, bytes.length);
+    }
+
     /// Returns the total number of bytes ever written, including overwritten bytes.
     ///
     /// @return total bytes written since construction, always {@code >= 0}
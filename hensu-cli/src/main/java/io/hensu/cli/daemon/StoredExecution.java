@@ -11,6 +11,9 @@ import java.util.concurrent.CopyOnWriteArrayList;
 /// Holds the current lifecycle state, a circular output buffer for replay on
 /// re-attach, and the set of subscriber queues for live output delivery.
 ///
+/// Once {@linkplain ExecutionStore#attach(ExecutionJournal) attached to a journal},
+/// every status transition, output write and checkpoint is also recorded there.
+///
 /// ### Contracts
 /// - **Precondition**: {@code id} and {@code workflowId} must be non-null
 /// - **Postcondition**: once a terminal state is reached, {@link #getStatus()} never changes
@@ -37,15 +40,50 @@ public final class StoredExecution {
     private volatile Instant completedAt;
     private volatile ExecutionResult result;
     private volatile String failureMessage;
+    private volatile ExecutionJournal journal;
+    private volatile ResumePoint resumePoint;
 
     /// Creates a new execution record in {@link ExecutionStatus#QUEUED} state.
     ///
     /// @param id         unique execution identifier, not null
     /// @param workflowId workflow name or id, not null
     public StoredExecution(String id, String workflowId) {
+        this(id, workflowId, Instant.now());
+    }
+
+    private StoredExecution(String id, String workflowId, Instant startedAt) {
         this.id = id;
         this.workflowId = workflowId;
-        this.startedAt = Instant.now();
+        this.startedAt = startedAt;
+    }
+
+    /// Rebuilds an execution recovered from an {@link ExecutionJournal}.
+    ///
+    /// An execution that was not terminal when the daemon stopped is marked
+    /// {@link ExecutionStatus#INTERRUPTED} by {@link ExecutionStore#attach}.
+    ///
+    /// @param entry the recovered journal entry, not null
+    /// @return the rebuilt execution with its output restored, never null
+    static StoredExecution restore(ExecutionJournal.Entry entry) {
+        var execution = new StoredExecution(entry.id(), entry.workflowId(), entry.startedAt());
+        execution.status = entry.status();
+        execution.currentNode = entry.currentNode();
+        execution.completedAt = entry.completedAt();
+        execution.failureMessage = entry.failureMessage();
+        execution.outputBuffer.restore(entry.output(), entry.outputWritten());
+        if (!entry.status().isTerminal()
+                && entry.runFrame() != null
+                && entry.checkpoint() != null) {
+            execution.resumePoint = new ResumePoint(entry.runFrame(), entry.checkpoint());
+        }
+        return execution;
+    }
+
+    /// Records every later change of this execution in `journal`.
+    ///
+    /// @param journal the journal of the owning store, not null
+    void journalTo(ExecutionJournal journal) {
+        this.journal = journal;
     }
 
     // — State transitions ————————————————————————————————————————————————————
@@ -57,6 +95,36 @@ public final class StoredExecution {
     public synchronized void markRunning(String firstNode) {
         this.status = ExecutionStatus.RUNNING;
         this.currentNode = firstNode;
+        journal();
+    }
+
+    /// Transitions status to {@link ExecutionStatus#INTERRUPTED} if the execution was
+    /// still in progress when the daemon stopped.
+    ///
+    /// @return {@code true} if the execution was marked interrupted
+    synchronized boolean markInterrupted() {
+        if (status.isTerminal() || status == ExecutionStatus.INTERRUPTED) {
+            return false;
+        }
+        this.status = ExecutionStatus.INTERRUPTED;
+        journal();
+        return true;
+    }
+
+    /// Claims an {@link ExecutionStatus#INTERRUPTED} execution for resumption and
+    /// transitions it back to {@link ExecutionStatus#RUNNING}.
+    ///
+    /// Only one caller can claim a given interruption.
+    ///
+    /// @return the checkpoint to resume from, or null if the execution is not interrupted
+    ///         or has no checkpoint
+    public synchronized ResumePoint claimResume() {
+        if (status != ExecutionStatus.INTERRUPTED || resumePoint == null) {
+            return null;
+        }
+        this.status = ExecutionStatus.RUNNING;
+        journal();
+        return resumePoint;
     }
 
     /// Transitions status to {@link ExecutionStatus#COMPLETED} and signals all subscribers.
@@ -69,6 +137,8 @@ public final class StoredExecution {
         this.status = ExecutionStatus.COMPLETED;
         this.result = result;
         this.completedAt = Instant.now();
+        this.resumePoint = null;
+        journal();
         broadcastAndPoison(finalFrame);
     }
 
@@ -80,6 +150,8 @@ public final class StoredExecution {
         this.status = ExecutionStatus.FAILED;
         this.failureMessage = message;
         this.completedAt = Instant.now();
+        this.resumePoint = null;
+        journal();
         broadcastAndPoison(errorFrame);
     }
 
@@ -89,6 +161,8 @@ public final class StoredExecution {
     public synchronized void markCancelled(String cancelFrame) {
         this.status = ExecutionStatus.CANCELLED;
         this.completedAt = Instant.now();
+        this.resumePoint = null;
+        journal();
         broadcastAndPoison(cancelFrame);
     }
 
@@ -103,6 +177,7 @@ public final class StoredExecution {
         if (!status.isTerminal()) {
             this.status = ExecutionStatus.AWAITING_REVIEW;
             this.currentNode = nodeId;
+            journal();
         }
     }
 
@@ -113,6 +188,7 @@ public final class StoredExecution {
         if (status == ExecutionStatus.AWAITING_REVIEW) {
             this.status = ExecutionStatus.RUNNING;
             this.currentNode = nodeId;
+            journal();
         }
     }
 
@@ -138,6 +214,31 @@ public final class StoredExecution {
         this.currentNode = nodeId;
     }
 
+    /// Appends output to the ring buffer and the journal.
+    ///
+    /// @param bytes output bytes, not null
+    public void appendOutput(byte[] bytes) {
+        outputBuffer.write(bytes);
+        ExecutionJournal current = journal;
+        if (current != null) {
+            current.output(id, bytes);
+        }
+    }
+
+    /// Records a consistent workflow state to resume from if the daemon stops.
+    ///
+    /// @param nodeId       the node execution continues at, may be null
+    /// @param snapshotJson serialized {@link io.hensu.core.state.HensuSnapshot}, not null
+    public void checkpoint(String nodeId, String snapshotJson) {
+        if (nodeId != null) {
+            this.currentNode = nodeId;
+        }
+        ExecutionJournal current = journal;
+        if (current != null) {
+            current.checkpoint(id, nodeId, snapshotJson);
+        }
+    }
+
     // — Subscriber management ————————————————————————————————————————————————
 
     /// Adds a subscriber queue to receive live output frames.
@@ -231,6 +332,14 @@ public final class StoredExecution {
         return outputBuffer;
     }
 
+    /// Returns the checkpoint an interrupted execution can resume from.
+    ///
+    /// @return resume point, may be null if the execution was not recovered from a journal,
+    ///         has no checkpoint, or has finished
+    public ResumePoint getResumePoint() {
+        return resumePoint;
+    }
+
     /// Returns the elapsed time in milliseconds since this execution was created.
     ///
     /// @return elapsed milliseconds, always {@code >= 0}
@@ -240,6 +349,13 @@ public final class StoredExecution {
 
     // — Internal ——————————————————————————————————————————————————————————————
 
+    private void journal() {
+        ExecutionJournal current = journal;
+        if (current != null) {
+            current.status(this);
+        }
+    }
+
     private void broadcastAndPoison(String finalFrame) {
         for (BlockingQueue<String> queue : liveSubscribers) {
             queue.offer(
@@ -257,4 +373,13 @@ public final class StoredExecution {
     public static String poisonPill() {
         return POISON_PILL;
     }
+
+    // — Inner types ——————————————————————————————————————————————————————————
+
+    /// What a restarted daemon needs to continue an interrupted execution.
+    ///
+    /// @param runFrame   serialized run frame the execution was started with, not null
+    /// @param checkpoint serialized {@link io.hensu.core.state.HensuSnapshot} of the last
+    ///                   checkpoint, not null
+    public record ResumePoint(String runFrame, String checkpoint) {}
 }
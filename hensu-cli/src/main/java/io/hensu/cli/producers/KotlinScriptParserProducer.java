@@ -1,25 +1,34 @@
 package io.hensu.cli.producers;
 
+import io.hensu.cli.workflow.DiskWorkflowCache;
 import io.hensu.dsl.parsers.KotlinScriptParser;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Produces;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 /// CDI producer for the Kotlin DSL workflow parser.
 ///
 /// Creates a singleton instance of {@link KotlinScriptParser} for parsing `.kt` workflow files.
 /// The parser compiles Kotlin scripts using the embedded Kotlin compiler.
 ///
+/// Unless `hensu.dsl.cache.enabled` is `false`, compiled workflows are also cached in
+/// {@code ~/.hensu/cache/workflows}, so later invocations skip compiling unchanged scripts.
+///
 /// @implNote Application-scoped for performance; parser initialization is expensive.
 /// @see io.hensu.cli.commands.WorkflowCommand
+/// @see DiskWorkflowCache
 @ApplicationScoped
 public class KotlinScriptParserProducer {
 
+    @ConfigProperty(name = "hensu.dsl.cache.enabled", defaultValue = "true")
+    boolean cacheEnabled;
+
     /// Produces a Kotlin script parser instance for CDI injection.
     ///
     /// @return singleton parser instance, never null
     @Produces
     @ApplicationScoped
     public KotlinScriptParser kotlinScriptParser() {
-        return new KotlinScriptParser();
+        return new KotlinScriptParser(cacheEnabled ? DiskWorkflowCache.ofDefaults() : null);
     }
 }
@@ -12,7 +12,7 @@ import io.hensu.core.rubric.evaluator.RubricEvaluation;
 import io.hensu.core.state.HensuState;
 import io.hensu.core.workflow.Workflow;
 import io.hensu.core.workflow.node.Node;
-import io.hensu.serialization.WorkflowSerializer;
+import io.hensu.serialization.HensuJson;
 import jakarta.enterprise.context.ApplicationScoped;
 import java.util.List;
 import java.util.Set;
@@ -287,7 +287,7 @@ public class DaemonReviewHandler implements ReviewHandler {
         String workflowJson = null;
         if (config.isAllowBacktrack()) {
             try {
-                workflowJson = WorkflowSerializer.toJson(workflow);
+                workflowJson = HensuJson.compact().writeWorkflow(workflow);
             } catch (Exception ignored) {
             }
         }
@@ -129,7 +129,7 @@ public final class AnsiStyles {
     /// Returns a colored status dot for execution status display in {@code hensu ps}.
     ///
     /// @param status one of "RUNNING", "COMPLETED", "FAILED", "CANCELLED", "TIMED_OUT",
-    ///               or any other string (renders as dim circle), not null
+    ///               "INTERRUPTED", or any other string (renders as dim circle), not null
     /// @return single dot character with appropriate color, never null
     public String statusDot(String status) {
         return switch (status) {
@@ -137,7 +137,7 @@ public final class AnsiStyles {
             case "COMPLETED" -> style("●", GREEN);
             case "FAILED" -> style("●", RED);
             case "CANCELLED" -> style("○", GRAY);
-            case "TIMED_OUT" -> style("●", YELLOW);
+            case "TIMED_OUT", "INTERRUPTED" -> style("●", YELLOW);
             default -> style("○", DIM);
         };
     }
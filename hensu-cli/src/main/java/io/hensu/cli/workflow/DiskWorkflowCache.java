@@ -0,0 +1,146 @@
+package io.hensu.cli.workflow;
+
+import io.hensu.cli.daemon.DaemonPaths;
+import io.hensu.core.workflow.Workflow;
+import io.hensu.dsl.parsers.CompiledWorkflowCache;
+import io.hensu.serialization.HensuJson;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/// Compiled workflow cache persisted as workflow JSON, one file per script key.
+///
+/// Lets a CLI invocation skip the Kotlin compiler for a workflow an earlier invocation
+/// already compiled. Entries are written to a temporary file and moved into place, so
+/// concurrent invocations never observe a partial entry. An entry that cannot be read is
+/// deleted and reported as a miss.
+///
+/// Keys are content hashes, so entries never go stale; the directory is trimmed to the
+/// {@value #MAX_ENTRIES} most recently used entries on each write.
+///
+/// @implNote Thread-safe. Safe to share between processes using the same directory.
+/// @see DaemonPaths#workflowCache()
+public final class DiskWorkflowCache implements CompiledWorkflowCache {
+
+    private static final Logger logger = Logger.getLogger(DiskWorkflowCache.class.getName());
+
+    /// Entries kept in the cache directory.
+    static final int MAX_ENTRIES = 256;
+
+    private static final String SUFFIX = ".json";
+
+    private final Path directory;
+
+    /// Creates a cache backed by the given directory.
+    ///
+    /// @param directory cache directory, not null; created on first write if absent
+    public DiskWorkflowCache(Path directory) {
+        this.directory = Objects.requireNonNull(directory, "directory must not be null");
+    }
+
+    /// Creates a cache backed by the default directory ({@code ~/.hensu/cache/workflows}).
+    ///
+    /// @return cache using {@link DaemonPaths#workflowCache()}, never null
+    public static DiskWorkflowCache ofDefaults() {
+        return new DiskWorkflowCache(DaemonPaths.workflowCache());
+    }
+
+    @Override
+    public Workflow get(String key) {
+        Path file = entry(key);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            String json = Files.readString(file, StandardCharsets.UTF_8);
+            Workflow workflow = HensuJson.compact().readWorkflow(json);
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return workflow;
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Discarding unreadable cached workflow " + file + ": " + e.getMessage());
+            deleteQuietly(file);
+            return null;
+        }
+    }
+
+    @Override
+    public void put(String key, Workflow workflow) {
+        Objects.requireNonNull(workflow, "workflow must not be null");
+        Path file = entry(key);
+        try {
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, key, ".tmp");
+            try {
+                String json = HensuJson.compact().writeWorkflow(workflow);
+                Files.writeString(temp, json, StandardCharsets.UTF_8);
+                move(temp, file);
+            } finally {
+                deleteQuietly(temp);
+            }
+            prune();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to cache workflow " + workflow.getId(), e);
+        }
+    }
+
+    private Path entry(String key) {
+        Objects.requireNonNull(key, "key must not be null");
+        if (!key.matches("[0-9a-f]+")) {
+            throw new IllegalArgumentException("Invalid cache key: " + key);
+        }
+        return directory.resolve(key + SUFFIX);
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(
+                    source,
+                    target,
+                    StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /// Deletes the least recently used entries beyond {@link #MAX_ENTRIES}.
+    private void prune() throws IOException {
+        List<Path> entries;
+        try (Stream<Path> files = Files.list(directory)) {
+            entries = files.filter(f -> f.getFileName().toString().endsWith(SUFFIX)).toList();
+        }
+        if (entries.size() <= MAX_ENTRIES) {
+            return;
+        }
+        entries.stream()
+                .sorted(Comparator.comparing(DiskWorkflowCache::lastModified))
+                .limit(entries.size() - MAX_ENTRIES)
+                .forEach(DiskWorkflowCache::deleteQuietly);
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.fine("Could not delete " + file + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package io.hensu.cli.daemon;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.hensu.cli.execution.VerboseExecutionListenerFactory;
+import io.hensu.cli.review.DaemonReviewHandler;
+import io.hensu.core.HensuEnvironment;
+import io.hensu.core.execution.ExecutionListener;
+import io.hensu.core.execution.WorkflowExecutor;
+import io.hensu.core.execution.result.ExecutionResult;
+import io.hensu.core.execution.result.ExitStatus;
+import io.hensu.core.state.HensuState;
+import io.hensu.core.workflow.Workflow;
+import io.hensu.core.workflow.node.EndNode;
+import io.hensu.core.workflow.node.Node;
+import io.hensu.core.workflow.node.StandardNode;
+import io.hensu.core.workflow.transition.SuccessTransition;
+import io.hensu.serialization.HensuJson;
+import java.io.BufferedReader;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/// Drives a journaled run through a daemon restart: the first daemon stops while the run
+/// sits at a checkpoint, the second resumes it with `hensu attach --resume`.
+class DaemonServerResumeTest {
+
+    private static final String EXEC_ID = "0f4d2c1e-resume-test";
+
+    @TempDir Path dir;
+
+    @Test
+    void attachResume_continuesFromTheLastCheckpointOfTheExecution() throws Exception {
+        CountDownLatch checkpointed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        WorkflowExecutor firstExecutor = mock(WorkflowExecutor.class);
+        when(firstExecutor.execute(any(), anyMap(), any()))
+                .thenAnswer(
+                        invocation -> {
+                            ExecutionListener listener = invocation.getArgument(2);
+                            listener.onCheckpoint(state(EXEC_ID, "review"));
+                            // A sub-workflow node reports its child's checkpoints to the
+                            // same listener; they must not replace the parent's resume point
+                            listener.onCheckpoint(state("child-execution", "child-step"));
+                            checkpointed.countDown();
+                            release.await();
+                            return completed();
+                        });
+
+        var first = server(firstExecutor);
+        ExecutionJournal firstJournal = ExecutionJournal.open(dir);
+        first.attachJournal(firstJournal);
+        Thread running =
+                Thread.ofVirtual().start(() -> serve(first, runFrame(), new StringWriter()));
+        assertThat(checkpointed.await(10, TimeUnit.SECONDS)).isTrue();
+        // Daemon stops mid-run: nothing after this point reaches the journal
+        firstJournal.close();
+
+        AtomicReference<HensuState> resumedFrom = new AtomicReference<>();
+        WorkflowExecutor secondExecutor = mock(WorkflowExecutor.class);
+        when(secondExecutor.executeFrom(any(), any(), any()))
+                .thenAnswer(
+                        invocation -> {
+                            resumedFrom.set(invocation.getArgument(1));
+                            return completed();
+                        });
+        var second = server(secondExecutor);
+        try (var secondJournal = ExecutionJournal.open(dir)) {
+            second.attachJournal(secondJournal);
+            var output = new StringWriter();
+
+            serve(second, attachFrame(), output);
+
+            assertThat(resumedFrom.get().getExecutionId()).isEqualTo(EXEC_ID);
+            assertThat(resumedFrom.get().getCurrentNode()).isEqualTo("review");
+            assertThat(output.toString())
+                    .contains("\"t\":\"exec_end\"")
+                    .contains("\"status\":\"SUCCESS\"");
+        } finally {
+            release.countDown();
+            running.join();
+        }
+    }
+
+    @Test
+    void attachResume_reportsUnknownExecution() throws Exception {
+        var server = server(mock(WorkflowExecutor.class));
+        try (var journal = ExecutionJournal.open(dir)) {
+            server.attachJournal(journal);
+            var output = new StringWriter();
+
+            serve(server, attachFrame(), output);
+
+            assertThat(output.toString()).contains("Execution not found: " + EXEC_ID);
+        }
+    }
+
+    // — Helpers ———————————————————————————————————————————————————————————————
+
+    private static DaemonServer server(WorkflowExecutor executor) {
+        HensuEnvironment environment = mock(HensuEnvironment.class);
+        when(environment.getWorkflowExecutor()).thenReturn(executor);
+        var server = new DaemonServer();
+        server.environment = environment;
+        server.listenerFactory = mock(VerboseExecutionListenerFactory.class);
+        server.daemonReviewHandler = mock(DaemonReviewHandler.class);
+        return server;
+    }
+
+    private static void serve(DaemonServer server, DaemonFrame request, StringWriter output) {
+        try {
+            String line = HensuJson.mapper().writeValueAsString(request);
+            server.handle(
+                    new BufferedReader(new StringReader(line + "\n")),
+                    new PrintWriter(output, true));
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static DaemonFrame runFrame() {
+        var frame = new DaemonFrame();
+        frame.type = "run";
+        frame.execId = EXEC_ID;
+        frame.workflowId = "wf";
+        frame.workflowJson = HensuJson.compact().writeWorkflow(workflow());
+        return frame;
+    }
+
+    private static DaemonFrame attachFrame() {
+        var frame = new DaemonFrame();
+        frame.type = "attach";
+        frame.execId = EXEC_ID;
+        frame.resume = true;
+        return frame;
+    }
+
+    private static Workflow workflow() {
+        Map<String, Node> nodes = new LinkedHashMap<>();
+        nodes.put(
+                "review",
+                StandardNode.builder()
+                        .id("review")
+                        .agentId("writer")
+                        .prompt("Review the draft")
+                        .transitionRules(List.of(new SuccessTransition("end")))
+                        .build());
+        nodes.put("end", EndNode.builder().id("end").status(ExitStatus.SUCCESS).build());
+        return Workflow.builder()
+                .id("wf")
+                .version("1.0.0")
+                .startNode("review")
+                .nodes(nodes)
+                .build();
+    }
+
+    private static HensuState state(String executionId, String node) {
+        return new HensuState.Builder()
+                .executionId(executionId)
+                .workflowId("wf")
+                .currentNode(node)
+                .context(Map.of("_execution_id", executionId, "topic", "caching"))
+                .build();
+    }
+
+    private static ExecutionResult completed() {
+        return new ExecutionResult.Completed(state(EXEC_ID, "end"), ExitStatus.SUCCESS);
+    }
+}
@@ -0,0 +1,150 @@
+package io.hensu.cli.daemon;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ExecutionJournalTest {
+
+    @TempDir Path dir;
+
+    // — Recovery ——————————————————————————————————————————————————————————————
+
+    @Test
+    void reopen_recoversStatusOutputAndCheckpoint() throws Exception {
+        try (var journal = ExecutionJournal.open(dir)) {
+            var store = new ExecutionStore();
+            store.attach(journal);
+            var exec = new StoredExecution("exec-1", "wf");
+            store.register(exec, "{\"type\":\"run\"}");
+            exec.markRunning("draft");
+            exec.appendOutput(bytes("hello "));
+            exec.checkpoint("review", "{\"snapshot\":1}");
+            exec.appendOutput(bytes("world"));
+        }
+
+        try (var journal = ExecutionJournal.open(dir)) {
+            assertThat(journal.recovered()).hasSize(1);
+            ExecutionJournal.Entry entry = journal.recovered().getFirst();
+            assertThat(entry.id()).isEqualTo("exec-1");
+            assertThat(entry.workflowId()).isEqualTo("wf");
+            assertThat(entry.runFrame()).isEqualTo("{\"type\":\"run\"}");
+            assertThat(entry.status()).isEqualTo(ExecutionStatus.RUNNING);
+            assertThat(entry.currentNode()).isEqualTo("review");
+            assertThat(entry.output()).isEqualTo(bytes("hello world"));
+            assertThat(entry.outputWritten()).isEqualTo(11);
+            assertThat(entry.checkpoint()).isEqualTo("{\"snapshot\":1}");
+        }
+    }
+
+    @Test
+    void attach_marksCheckpointedExecutionInterrupted_andOthersFailed() throws Exception {
+        try (var journal = ExecutionJournal.open(dir)) {
+            var store = new ExecutionStore();
+            store.attach(journal);
+            var checkpointed = new StoredExecution("checkpointed", "wf");
+            store.register(checkpointed, "{}");
+            checkpointed.markRunning("a");
+            checkpointed.checkpoint("b", "{\"snapshot\":1}");
+            var fresh = new StoredExecution("fresh", "wf");
+            store.register(fresh, "{}");
+            fresh.markRunning("a");
+        }
+
+        try (var journal = ExecutionJournal.open(dir)) {
+            var store = new ExecutionStore();
+
+            assertThat(store.attach(journal)).isEqualTo(1);
+            StoredExecution interrupted = store.get("checkpointed");
+            assertThat(interrupted.getStatus()).isEqualTo(ExecutionStatus.INTERRUPTED);
+            assertThat(store.get("fresh").getStatus()).isEqualTo(ExecutionStatus.FAILED);
+
+            StoredExecution.ResumePoint point = interrupted.claimResume();
+            assertThat(point).isEqualTo(new StoredExecution.ResumePoint("{}", "{\"snapshot\":1}"));
+            assertThat(interrupted.getStatus()).isEqualTo(ExecutionStatus.RUNNING);
+            assertThat(interrupted.claimResume()).isNull();
+        }
+    }
+
+    @Test
+    void reopen_ignoresCorruptTailRecord() throws Exception {
+        try (var journal = ExecutionJournal.open(dir)) {
+            journal.register("exec-1", "wf", Instant.now(), null);
+            journal.output("exec-1", bytes("kept"));
+            journal.output("exec-1", bytes("torn"));
+        }
+        Path active = segments().getLast();
+        byte[] content = Files.readAllBytes(active);
+        int last = content.length - 1;
+        while (content[last] == 0) {
+            last--;
+        }
+        content[last] ^= 0x7f;
+        Files.write(active, content);
+
+        try (var journal = ExecutionJournal.open(dir)) {
+            ExecutionJournal.Entry entry = journal.recovered().getFirst();
+            assertThat(entry.output()).isEqualTo(bytes("kept"));
+            assertThat(entry.outputWritten()).isEqualTo(4);
+        }
+    }
+
+    // — Rotation and compaction ———————————————————————————————————————————————
+
+    @Test
+    void rotation_compactsSegments_keepsOutputTailAndTotal() throws Exception {
+        byte[] chunk = new byte[300];
+        try (var journal = ExecutionJournal.open(dir, 1024, 2)) {
+            journal.register("exec-1", "wf", Instant.now(), null);
+            for (int i = 0; i < 400; i++) {
+                Arrays.fill(chunk, (byte) ('a' + i % 26));
+                journal.output("exec-1", chunk);
+                assertThat(segments()).hasSizeLessThanOrEqualTo(2);
+            }
+        }
+
+        try (var journal = ExecutionJournal.open(dir, 1024, 2)) {
+            ExecutionJournal.Entry entry = journal.recovered().getFirst();
+            assertThat(entry.outputWritten()).isEqualTo(400 * 300);
+            assertThat(entry.output()).hasSize(OutputRingBuffer.DEFAULT_CAPACITY);
+            // The tail ends with the last chunk written
+            assertThat(entry.output()).endsWith(chunk);
+        }
+    }
+
+    @Test
+    void forget_dropsExecutionOnNextOpen() throws Exception {
+        try (var journal = ExecutionJournal.open(dir)) {
+            journal.register("gone", "wf", Instant.now(), null);
+            journal.register("kept", "wf", Instant.now(), null);
+            journal.forget("gone");
+        }
+
+        try (var journal = ExecutionJournal.open(dir)) {
+            assertThat(journal.recovered())
+                    .extracting(ExecutionJournal.Entry::id)
+                    .containsExactly("kept");
+        }
+    }
+
+    // — Helpers ———————————————————————————————————————————————————————————————
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(p -> p.toString().endsWith(".seg")).sorted().toList();
+        }
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
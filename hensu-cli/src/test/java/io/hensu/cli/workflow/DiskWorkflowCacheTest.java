@@ -0,0 +1,135 @@
+package io.hensu.cli.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.hensu.core.agent.AgentConfig;
+import io.hensu.core.agent.memory.MemoryPolicy;
+import io.hensu.core.execution.result.ExitStatus;
+import io.hensu.core.workflow.Workflow;
+import io.hensu.core.workflow.node.EndNode;
+import io.hensu.core.workflow.node.Node;
+import io.hensu.core.workflow.node.StandardNode;
+import io.hensu.core.workflow.transition.SuccessTransition;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DiskWorkflowCacheTest {
+
+    private static final String KEY = "0123abcd";
+
+    @Test
+    void put_thenGet_roundTripsWorkflow(@TempDir Path dir) {
+        var cache = new DiskWorkflowCache(dir.resolve("cache"));
+
+        cache.put(KEY, workflow("cached"));
+
+        Workflow loaded = cache.get(KEY);
+        assertThat(loaded).isNotNull();
+        assertThat(loaded.getId()).isEqualTo("cached");
+        assertThat(loaded.getNodes()).containsOnlyKeys("work", "done");
+    }
+
+    @Test
+    void put_thenGet_keepsAgentMemoryAndCachingSettings(@TempDir Path dir) {
+        var cache = new DiskWorkflowCache(dir);
+        AgentConfig writer =
+                AgentConfig.builder()
+                        .id("writer")
+                        .role("writer")
+                        .model("claude-sonnet-4")
+                        .maintainContext(true)
+                        .memoryPolicy(
+                                new MemoryPolicy(
+                                        MemoryPolicy.Strategy.SUMMARIZE,
+                                        4_000,
+                                        MemoryPolicy.Scope.EXECUTION,
+                                        "summarizer"))
+                        .responseCacheTtl(Duration.ofMinutes(30))
+                        .promptCaching(false)
+                        .build();
+        Workflow workflow =
+                Workflow.builder()
+                        .id("cached")
+                        .version("1.0.0")
+                        .agents(Map.of("writer", writer))
+                        .startNode("work")
+                        .nodes(workflow("cached").getNodes())
+                        .build();
+
+        cache.put(KEY, workflow);
+
+        // A field dropped by the JSON round trip would silently change a cached run
+        assertThat(cache.get(KEY).getAgents()).containsExactlyEntriesOf(Map.of("writer", writer));
+    }
+
+    @Test
+    void get_returnsNull_whenEntryAbsent(@TempDir Path dir) {
+        assertThat(new DiskWorkflowCache(dir).get(KEY)).isNull();
+    }
+
+    @Test
+    void get_deletesCorruptEntry(@TempDir Path dir) throws Exception {
+        Path entry = dir.resolve(KEY + ".json");
+        Files.writeString(entry, "{not json");
+
+        assertThat(new DiskWorkflowCache(dir).get(KEY)).isNull();
+        assertThat(entry).doesNotExist();
+    }
+
+    @Test
+    void put_leavesNoTemporaryFiles(@TempDir Path dir) throws Exception {
+        new DiskWorkflowCache(dir).put(KEY, workflow("cached"));
+
+        try (Stream<Path> files = Files.list(dir)) {
+            assertThat(files.map(f -> f.getFileName().toString())).containsExactly(KEY + ".json");
+        }
+    }
+
+    @Test
+    void put_prunesLeastRecentlyUsedEntries(@TempDir Path dir) throws Exception {
+        var cache = new DiskWorkflowCache(dir);
+        for (int i = 0; i < DiskWorkflowCache.MAX_ENTRIES; i++) {
+            Path entry = dir.resolve(Integer.toHexString(i) + ".json");
+            Files.writeString(entry, "{}");
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(1_000L + i));
+        }
+
+        cache.put(KEY, workflow("newest"));
+
+        try (Stream<Path> files = Files.list(dir)) {
+            assertThat(files.count()).isEqualTo(DiskWorkflowCache.MAX_ENTRIES);
+        }
+        assertThat(dir.resolve("0.json")).doesNotExist();
+        assertThat(dir.resolve(KEY + ".json")).exists();
+    }
+
+    @Test
+    void rejectsKeysThatAreNotHex(@TempDir Path dir) {
+        var cache = new DiskWorkflowCache(dir);
+
+        assertThatThrownBy(() -> cache.get("../escape"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Workflow workflow(String id) {
+        Map<String, Node> nodes =
+                Map.of(
+                        "work",
+                        StandardNode.builder()
+                                .id("work")
+                                .prompt("Do work")
+                                .transitionRules(List.of(new SuccessTransition("done")))
+                                .build(),
+                        "done",
+                        EndNode.builder().id("done").status(ExitStatus.SUCCESS).build());
+        return Workflow.builder().id(id).version("1.0.0").startNode("work").nodes(nodes).build();
+    }
+}
@@ -1,5 +1,7 @@
 package io.hensu.core;
 
+import io.hensu.core.agent.cache.InMemoryResponseCache;
+
 /// Configuration options for the Hensu workflow execution environment.
 ///
 /// Controls storage backend selection and other environment settings.
@@ -8,6 +10,8 @@ package io.hensu.core;
 ///
 /// ### Default Values
 /// - `rubricStorageType`: `"memory"` (in-memory storage)
+/// - `agentPermitsPerModel`: `0` (agent calls are not bounded)
+/// - `responseCacheMaxSize`: `1024` (responses held by the in-memory response cache)
 ///
 /// @implNote **Not thread-safe**. This is a mutable configuration object
 /// intended to be configured before passing to {@link HensuFactory}.
@@ -17,6 +21,8 @@ package io.hensu.core;
 /// @see Builder
 public class HensuConfig {
     private String rubricStorageType = "memory";
+    private int agentPermitsPerModel = 0;
+    private int responseCacheMaxSize = InMemoryResponseCache.DEFAULT_MAX_SIZE;
 
     /// Creates a configuration with default values.
     public HensuConfig() {}
@@ -36,6 +42,38 @@ public class HensuConfig {
         this.rubricStorageType = rubricStorageType;
     }
 
+    /// Returns the engine-wide limit on in-flight agent calls per model.
+    ///
+    /// @return concurrent calls allowed per model, `0` when unbounded
+    /// @see io.hensu.core.agent.AgentPermits
+    public int getAgentPermitsPerModel() {
+        return agentPermitsPerModel;
+    }
+
+    /// Sets the engine-wide limit on in-flight agent calls per model.
+    ///
+    /// @param agentPermitsPerModel concurrent calls allowed per model, `0` for unbounded
+    public void setAgentPermitsPerModel(int agentPermitsPerModel) {
+        this.agentPermitsPerModel = agentPermitsPerModel;
+    }
+
+    /// Returns the capacity of the default in-memory response cache.
+    ///
+    /// Only agents with a response cache TTL use the cache.
+    ///
+    /// @return maximum cached responses, `0` when the default cache is disabled
+    /// @see io.hensu.core.agent.cache.InMemoryResponseCache
+    public int getResponseCacheMaxSize() {
+        return responseCacheMaxSize;
+    }
+
+    /// Sets the capacity of the default in-memory response cache.
+    ///
+    /// @param responseCacheMaxSize maximum cached responses, `0` to disable the default cache
+    public void setResponseCacheMaxSize(int responseCacheMaxSize) {
+        this.responseCacheMaxSize = responseCacheMaxSize;
+    }
+
     /// Creates a new builder for fluent configuration construction.
     ///
     /// @return a new builder instance, never null
@@ -60,6 +98,24 @@ public class HensuConfig {
             return this;
         }
 
+        /// Sets the engine-wide limit on in-flight agent calls per model.
+        ///
+        /// @param agentPermitsPerModel concurrent calls allowed per model, `0` for unbounded
+        /// @return this builder for chaining, never null
+        public Builder agentPermitsPerModel(int agentPermitsPerModel) {
+            config.agentPermitsPerModel = agentPermitsPerModel;
+            return this;
+        }
+
+        /// Sets the capacity of the default in-memory response cache.
+        ///
+        /// @param responseCacheMaxSize maximum cached responses, `0` to disable the default cache
+        /// @return this builder for chaining, never null
+        public Builder responseCacheMaxSize(int responseCacheMaxSize) {
+            config.responseCacheMaxSize = responseCacheMaxSize;
+            return this;
+        }
+
         /// Builds and returns the configured {@link HensuConfig} instance.
         ///
         /// @return the configured instance, never null
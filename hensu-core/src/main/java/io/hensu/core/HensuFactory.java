@@ -1,9 +1,12 @@
 package io.hensu.core;
 
 import io.hensu.core.agent.AgentFactory;
+import io.hensu.core.agent.AgentPermits;
 import io.hensu.core.agent.AgentProvider;
 import io.hensu.core.agent.AgentRegistry;
 import io.hensu.core.agent.DefaultAgentRegistry;
+import io.hensu.core.agent.cache.InMemoryResponseCache;
+import io.hensu.core.agent.cache.ResponseCache;
 import io.hensu.core.agent.stub.StubAgentProvider;
 import io.hensu.core.execution.NodeLifecycleCoordinator;
 import io.hensu.core.execution.WorkflowExecutor;
@@ -212,13 +215,15 @@ public final class HensuFactory {
                 actionExecutor,
                 workflowRepository,
                 workflowStateRepository,
+                null,
                 null);
     }
 
     /// Internal factory shared by the public static overloads and {@link Builder#build()}.
     ///
     /// Constructs all runtime components (rubric engine, template resolver, workflow executor)
-    /// and assembles the final {@link HensuEnvironment}.
+    /// and assembles the final {@link HensuEnvironment}. A null `responseCache` selects the
+    /// in-memory cache sized by {@link HensuConfig#getResponseCacheMaxSize()}.
     private static HensuEnvironment buildCoreComponents(
             HensuConfig config,
             NodeExecutorRegistry nodeExecutorRegistry,
@@ -227,7 +232,8 @@ public final class HensuFactory {
             ActionExecutor actionExecutor,
             WorkflowRepository workflowRepository,
             WorkflowStateRepository workflowStateRepository,
-            ToolRegistry toolRegistry) {
+            ToolRegistry toolRegistry,
+            ResponseCache responseCache) {
         RubricRepository rubricRepository = createRubricRepository(config);
         RubricEngine rubricEngine =
                 new RubricEngine(rubricRepository, new ScoreExtractingEvaluator());
@@ -248,7 +254,9 @@ public final class HensuFactory {
                         actionExecutor,
                         templateResolver,
                         workflowRepository,
-                        toolRegistry);
+                        toolRegistry,
+                        new AgentPermits(config.getAgentPermitsPerModel()),
+                        responseCache != null ? responseCache : createResponseCache(config));
 
         return new HensuEnvironment(
                 workflowExecutor,
@@ -357,6 +365,15 @@ public final class HensuFactory {
         return new InMemoryRubricRepository();
     }
 
+    /// Creates the default in-memory response cache, or none if its size is `0` or less.
+    ///
+    /// @param config configuration specifying the cache size, not null
+    /// @return the response cache, never null
+    private static ResponseCache createResponseCache(HensuConfig config) {
+        int maxSize = config.getResponseCacheMaxSize();
+        return maxSize > 0 ? new InMemoryResponseCache(maxSize) : ResponseCache.NONE;
+    }
+
     /// Creates the default template resolver for prompt variable substitution.
     ///
     /// @return a new template resolver, never null
@@ -392,6 +409,7 @@ public final class HensuFactory {
         private WorkflowRepository workflowRepository;
         private WorkflowStateRepository workflowStateRepository;
         private ToolRegistry toolRegistry;
+        private ResponseCache responseCache;
 
         /// Sets the configuration options.
         ///
@@ -599,6 +617,18 @@ public final class HensuFactory {
             return this;
         }
 
+        /// Configures the cache for agents with a response cache TTL.
+        ///
+        /// Defaults to an {@link InMemoryResponseCache} sized by
+        /// {@link HensuConfig#getResponseCacheMaxSize()} when not set.
+        ///
+        /// @param responseCache the response cache, may be null for the default
+        /// @return this builder for chaining, never null
+        public Builder responseCache(ResponseCache responseCache) {
+            this.responseCache = responseCache;
+            return this;
+        }
+
         /// Builds and returns the configured {@link HensuEnvironment}.
         ///
         /// ### Contracts
@@ -644,7 +674,8 @@ public final class HensuFactory {
                     actionExecutor,
                     workflowRepository,
                     workflowStateRepository,
-                    toolRegistry != null ? toolRegistry : EMPTY_TOOL_REGISTRY);
+                    toolRegistry != null ? toolRegistry : EMPTY_TOOL_REGISTRY,
+                    responseCache);
         }
     }
 
@@ -1,5 +1,7 @@
 package io.hensu.core.agent;
 
+import io.hensu.core.agent.memory.MemoryPolicy;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -22,6 +24,10 @@ import java.util.Objects;
 /// - `instructions` - System-level instructions for the agent
 /// - `topP`, `frequencyPenalty`, `presencePenalty` - Model-specific tuning
 /// - `timeout` - Request timeout in milliseconds
+/// - `maxToolCalls`, `maxParallelToolCalls` - Tool loop budget and per-round parallelism
+/// - `responseCacheTtl` - How long answers are reused for identical calls (off by default)
+/// - `promptCaching` - Whether providers may cache the prompt prefix (on by default)
+/// - `memoryPolicy` - History budget and strategy of `maintainContext` agents
 ///
 /// @implNote Thread-safe. All fields are immutable after construction.
 /// The `tools` list is defensively copied.
@@ -43,6 +49,10 @@ public final class AgentConfig {
     private final Double presencePenalty;
     private final Long timeout;
     private final Integer maxToolCalls;
+    private final Integer maxParallelToolCalls;
+    private final Duration responseCacheTtl;
+    private final Boolean promptCaching;
+    private final MemoryPolicy memoryPolicy;
 
     private AgentConfig(Builder builder) {
         this.id = Objects.requireNonNull(builder.id, "Agent ID required");
@@ -58,6 +68,10 @@ public final class AgentConfig {
         this.presencePenalty = builder.presencePenalty;
         this.timeout = builder.timeout;
         this.maxToolCalls = builder.maxToolCalls;
+        this.maxParallelToolCalls = builder.maxParallelToolCalls;
+        this.responseCacheTtl = builder.responseCacheTtl;
+        this.promptCaching = builder.promptCaching;
+        this.memoryPolicy = builder.memoryPolicy;
     }
 
     /// Returns the unique agent identifier.
@@ -151,6 +165,42 @@ public final class AgentConfig {
         return maxToolCalls;
     }
 
+    /// Returns how many tool calls requested in the same model turn may run at once.
+    ///
+    /// @return parallelism cap, may be null (runner uses default of 4)
+    public Integer getMaxParallelToolCalls() {
+        return maxParallelToolCalls;
+    }
+
+    /// Returns how long a response is reused for later calls with identical inputs.
+    ///
+    /// Only meaningful for deterministic agents (e.g. `temperature = 0`); agents that
+    /// maintain context or declare tools are never cached.
+    ///
+    /// @return cache TTL, may be null (responses are not cached)
+    /// @see io.hensu.core.agent.cache.ResponseCache
+    public Duration getResponseCacheTtl() {
+        return responseCacheTtl;
+    }
+
+    /// Returns whether the provider may cache the prompt prefix across calls.
+    ///
+    /// Providers with explicit cache breakpoints (Anthropic) mark the system prompt and
+    /// tool definitions as cacheable; cache writes cost more than plain input, reads less.
+    ///
+    /// @return the setting, may be null (prompt caching is enabled)
+    public Boolean getPromptCaching() {
+        return promptCaching;
+    }
+
+    /// Returns how much conversation history the agent keeps when it maintains context.
+    ///
+    /// @return the policy, may be null ({@link MemoryPolicy#DEFAULT} applies)
+    /// @see io.hensu.core.agent.memory.ConversationMemory
+    public MemoryPolicy getMemoryPolicy() {
+        return memoryPolicy;
+    }
+
     /// Creates a new builder for constructing AgentConfig instances.
     ///
     /// @return a new builder instance, never null
@@ -175,6 +225,10 @@ public final class AgentConfig {
         private Double presencePenalty;
         private Long timeout;
         private Integer maxToolCalls;
+        private Integer maxParallelToolCalls;
+        private Duration responseCacheTtl;
+        private Boolean promptCaching;
+        private MemoryPolicy memoryPolicy;
 
         private Builder() {}
 
@@ -295,6 +349,44 @@ public final class AgentConfig {
             return this;
         }
 
+        /// Sets how many tool calls requested in the same model turn may run at once.
+        ///
+        /// @param maxParallelToolCalls the cap, `1` for sequential calls, may be null
+        ///     (runner uses default of 4)
+        /// @return this builder for chaining
+        public Builder maxParallelToolCalls(Integer maxParallelToolCalls) {
+            this.maxParallelToolCalls = maxParallelToolCalls;
+            return this;
+        }
+
+        /// Sets how long a response is reused for later calls with identical inputs.
+        ///
+        /// @param responseCacheTtl cache TTL, may be null (responses are not cached)
+        /// @return this builder for chaining
+        public Builder responseCacheTtl(Duration responseCacheTtl) {
+            this.responseCacheTtl = responseCacheTtl;
+            return this;
+        }
+
+        /// Sets whether the provider may cache the prompt prefix across calls.
+        ///
+        /// @param promptCaching `false` to disable cache breakpoints, may be null
+        ///     (prompt caching is enabled)
+        /// @return this builder for chaining
+        public Builder promptCaching(Boolean promptCaching) {
+            this.promptCaching = promptCaching;
+            return this;
+        }
+
+        /// Sets how much conversation history the agent keeps when it maintains context.
+        ///
+        /// @param memoryPolicy the policy, may be null ({@link MemoryPolicy#DEFAULT} applies)
+        /// @return this builder for chaining
+        public Builder memoryPolicy(MemoryPolicy memoryPolicy) {
+            this.memoryPolicy = memoryPolicy;
+            return this;
+        }
+
         /// Builds an immutable AgentConfig instance.
         ///
         /// @return the constructed configuration, never null
@@ -320,7 +412,11 @@ public final class AgentConfig {
                 && Objects.equals(frequencyPenalty, that.frequencyPenalty)
                 && Objects.equals(presencePenalty, that.presencePenalty)
                 && Objects.equals(timeout, that.timeout)
-                && Objects.equals(maxToolCalls, that.maxToolCalls);
+                && Objects.equals(maxToolCalls, that.maxToolCalls)
+                && Objects.equals(maxParallelToolCalls, that.maxParallelToolCalls)
+                && Objects.equals(responseCacheTtl, that.responseCacheTtl)
+                && Objects.equals(promptCaching, that.promptCaching)
+                && Objects.equals(memoryPolicy, that.memoryPolicy);
     }
 
     @Override
@@ -338,7 +434,11 @@ public final class AgentConfig {
                 frequencyPenalty,
                 presencePenalty,
                 timeout,
-                maxToolCalls);
+                maxToolCalls,
+                maxParallelToolCalls,
+                responseCacheTtl,
+                promptCaching,
+                memoryPolicy);
     }
 
     @Override
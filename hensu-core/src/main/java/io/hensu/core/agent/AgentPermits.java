@@ -0,0 +1,271 @@
+package io.hensu.core.agent;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/// Engine-wide bound on in-flight agent calls, one pool of permits per model.
+///
+/// Every LLM call made by the engine holds a permit of its agent's model for the duration
+/// of the call. When a model's pool is exhausted, callers queue per execution and permits
+/// are handed out round-robin across the waiting executions. An execution fanning out
+/// 200 branches therefore cannot starve an execution waiting on a single call: each gets
+/// the next free permit in turn.
+///
+/// A pool size of `0` or less disables the bound; {@link #acquire} then returns
+/// immediately.
+///
+/// ### Usage
+/// {@snippet :
+/// try (AgentPermits.Permit _ = permits.acquire(model, executionId)) {
+///     response = agent.execute(prompt, context);
+/// }
+/// }
+///
+/// ### Backoff
+/// A call that backs off before retrying, as a throttled provider call does, should sleep
+/// through {@link #sleepReleased(Duration)}: the permit its thread holds goes to the next
+/// waiting execution for the duration of the sleep and is queued for again afterwards.
+///
+/// @implNote Thread-safe. Each model pool is guarded by its own lock. Waiters park on a
+/// private condition, so a released permit wakes exactly the waiter it was handed to.
+///
+/// @see io.hensu.core.HensuConfig#getAgentPermitsPerModel()
+public final class AgentPermits {
+
+    private static final Permit NO_OP = () -> {};
+    private static final AgentPermits UNBOUNDED = new AgentPermits(0);
+
+    /// Innermost bounded permit held by the current thread.
+    private static final ThreadLocal<Held> HELD = new ThreadLocal<>();
+
+    private final int permitsPerModel;
+    private final Map<String, Pool> pools = new ConcurrentHashMap<>();
+
+    /// Creates a permit pool allowing `permitsPerModel` concurrent calls to each model.
+    ///
+    /// @param permitsPerModel in-flight calls allowed per model, `0` or less for unbounded
+    public AgentPermits(int permitsPerModel) {
+        this.permitsPerModel = permitsPerModel;
+    }
+
+    /// Returns the shared pool that never blocks.
+    ///
+    /// @return unbounded permits, never null
+    public static AgentPermits unbounded() {
+        return UNBOUNDED;
+    }
+
+    /// Returns the number of concurrent calls allowed per model.
+    ///
+    /// @return permits per model, `0` or less when unbounded
+    public int getPermitsPerModel() {
+        return permitsPerModel;
+    }
+
+    /// Returns whether calls are bounded at all.
+    ///
+    /// @return true if {@link #acquire} may block
+    public boolean isBounded() {
+        return permitsPerModel > 0;
+    }
+
+    /// Takes a permit for one call to `model`, waiting for a free one if necessary.
+    ///
+    /// @param model the model the call is made to, not null
+    /// @param executionId execution on whose behalf the call is made, used for fair
+    ///     queuing, not null
+    /// @return permit to close once the call returns, never null
+    /// @throws InterruptedException if interrupted while waiting; no permit is held
+    public Permit acquire(String model, String executionId) throws InterruptedException {
+        Objects.requireNonNull(model, "model must not be null");
+        Objects.requireNonNull(executionId, "executionId must not be null");
+        if (!isBounded()) {
+            return NO_OP;
+        }
+        Pool pool = pools.computeIfAbsent(model, _ -> new Pool(permitsPerModel));
+        pool.acquire(executionId);
+        Held held = new Held(pool, executionId, HELD.get());
+        HELD.set(held);
+        return held;
+    }
+
+    /// Sleeps for `duration` without the permit the current thread holds.
+    ///
+    /// The innermost permit acquired by this thread and not yet closed is released for the
+    /// sleep and re-acquired, in turn with the other waiting executions, before returning. A
+    /// thread holding no bounded permit just sleeps.
+    ///
+    /// @param duration how long to sleep, not null
+    /// @throws InterruptedException if interrupted while sleeping or re-acquiring; the
+    ///     permit is then no longer held, and closing it does nothing
+    public static void sleepReleased(Duration duration) throws InterruptedException {
+        Objects.requireNonNull(duration, "duration must not be null");
+        Held held = HELD.get();
+        if (held == null) {
+            Thread.sleep(duration);
+            return;
+        }
+        held.release();
+        Thread.sleep(duration);
+        held.pool.acquire(held.executionId);
+        held.holding = true;
+    }
+
+    /// Returns the number of callers waiting for a permit of `model`.
+    ///
+    /// @param model the model to inspect, not null
+    /// @return queued callers, zero if the model has never been called
+    public int getQueueLength(String model) {
+        Pool pool = pools.get(model);
+        return pool != null ? pool.queueLength() : 0;
+    }
+
+    /// A held permit. Closing it hands the permit to the next waiting execution.
+    @FunctionalInterface
+    public interface Permit extends AutoCloseable {
+
+        /// Releases the permit. Must be called exactly once.
+        @Override
+        void close();
+    }
+
+    /// Permits of one model with a FIFO queue per execution, served round-robin.
+    private static final class Pool {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        // Insertion order is the service order; a served execution moves to the tail
+        private final LinkedHashMap<String, ArrayDeque<Waiter>> queues = new LinkedHashMap<>();
+        private int available;
+
+        Pool(int permits) {
+            this.available = permits;
+        }
+
+        void acquire(String executionId) throws InterruptedException {
+            lock.lock();
+            try {
+                if (available > 0 && queues.isEmpty()) {
+                    available--;
+                    return;
+                }
+                Waiter waiter = new Waiter(lock.newCondition());
+                queues.computeIfAbsent(executionId, _ -> new ArrayDeque<>()).add(waiter);
+                try {
+                    while (!waiter.granted) {
+                        waiter.signal.await();
+                    }
+                } catch (InterruptedException e) {
+                    if (waiter.granted) {
+                        // Handed over just before the interrupt: pass it on
+                        handOff();
+                    } else {
+                        dequeue(executionId, waiter);
+                    }
+                    throw e;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void release() {
+            lock.lock();
+            try {
+                handOff();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int queueLength() {
+            lock.lock();
+            try {
+                int waiting = 0;
+                for (ArrayDeque<Waiter> queue : queues.values()) {
+                    waiting += queue.size();
+                }
+                return waiting;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void handOff() {
+            Iterator<Map.Entry<String, ArrayDeque<Waiter>>> it = queues.entrySet().iterator();
+            if (!it.hasNext()) {
+                available++;
+                return;
+            }
+            Map.Entry<String, ArrayDeque<Waiter>> head = it.next();
+            it.remove();
+            Waiter next = head.getValue().poll();
+            if (!head.getValue().isEmpty()) {
+                queues.put(head.getKey(), head.getValue());
+            }
+            next.granted = true;
+            next.signal.signal();
+        }
+
+        private void dequeue(String executionId, Waiter waiter) {
+            ArrayDeque<Waiter> queue = queues.get(executionId);
+            if (queue != null && queue.remove(waiter) && queue.isEmpty()) {
+                queues.remove(executionId);
+            }
+        }
+    }
+
+    /// A bounded permit, tracked per thread so {@link #sleepReleased} can find it.
+    private static final class Held implements Permit {
+
+        private final Pool pool;
+        private final String executionId;
+        private final Held outer;
+        private boolean holding = true;
+
+        Held(Pool pool, String executionId, Held outer) {
+            this.pool = pool;
+            this.executionId = executionId;
+            this.outer = outer;
+        }
+
+        @Override
+        public void close() {
+            release();
+            if (HELD.get() == this) {
+                Held next = outer;
+                while (next != null && !next.holding) {
+                    next = next.outer;
+                }
+                if (next != null) {
+                    HELD.set(next);
+                } else {
+                    HELD.remove();
+                }
+            }
+        }
+
+        private void release() {
+            if (holding) {
+                holding = false;
+                pool.release();
+            }
+        }
+    }
+
+    private static final class Waiter {
+
+        private final Condition signal;
+        private boolean granted;
+
+        Waiter(Condition signal) {
+            this.signal = signal;
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package io.hensu.core.agent;
 
+import io.hensu.core.agent.memory.MemoryCapable;
+import io.hensu.core.agent.memory.MemoryPolicy;
+import io.hensu.core.agent.memory.Summarizer;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
@@ -72,6 +75,7 @@ public class DefaultAgentRegistry implements AgentRegistry {
         }
 
         Agent agent = agentFactory.createAgent(agentId, config);
+        bindSummarizer(agent, config);
         agents.put(agentId, agent);
         configs.put(agentId, config);
 
@@ -79,6 +83,21 @@ public class DefaultAgentRegistry implements AgentRegistry {
         return agent;
     }
 
+    /// Binds the summarizer agent of a {@link MemoryPolicy.Strategy#SUMMARIZE} memory.
+    ///
+    /// The summarizer is looked up on each summary, so it may be registered after the
+    /// agent that uses it.
+    private void bindSummarizer(Agent agent, AgentConfig config) {
+        MemoryPolicy policy = config.getMemoryPolicy();
+        if (agent instanceof MemoryCapable capable
+                && policy != null
+                && policy.strategy() == MemoryPolicy.Strategy.SUMMARIZE) {
+            String summarizerId = policy.summarizerAgentId();
+            capable.getConversationMemory()
+                    .bindSummarizer(Summarizer.usingAgent(() -> getAgent(summarizerId)));
+        }
+    }
+
     /// Registers multiple agents from a configuration map.
     ///
     /// @apiNote **Side effects**:
@@ -0,0 +1,33 @@
+package io.hensu.core.agent;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+/// Capability interface for agents that report their output while it is generated.
+///
+/// Agents implement this alongside {@link Agent} when their backend can stream. The
+/// engine then calls {@link #executeStreaming} instead of {@link Agent#execute} and
+/// forwards each fragment to
+/// {@link io.hensu.core.execution.ExecutionListener#onAgentOutputDelta}. Agents used in
+/// the tool loop stream through {@link ToolSession#start(Consumer)} and
+/// {@link ToolSession#submit(io.hensu.core.tool.ToolCallResult, Consumer)} instead.
+///
+/// The returned response is the same one {@link Agent#execute} would produce, so output
+/// validation and extraction see the complete text exactly as for a blocking call.
+///
+/// @see ToolCapable for the analogous tool-loop capability
+public interface StreamingCapable {
+
+    /// Executes an agent task, passing output fragments to `onDelta` as they arrive.
+    ///
+    /// Concatenated, the fragments equal the content of the returned
+    /// {@link AgentResponse.TextResponse}. `onDelta` may be called from a transport
+    /// thread, but never after this method returns.
+    ///
+    /// @param prompt the resolved prompt text, not null
+    /// @param context execution context variables, not null
+    /// @param onDelta receives output fragments in order, not null
+    /// @return execution result containing output or error details, never null
+    AgentResponse executeStreaming(
+            String prompt, Map<String, Object> context, Consumer<String> onDelta);
+}
@@ -1,6 +1,8 @@
 package io.hensu.core.agent;
 
 import io.hensu.core.tool.ToolCallResult;
+import java.util.List;
+import java.util.function.Consumer;
 
 /// Call-scoped session for multi-turn tool interactions with an agent.
 ///
@@ -15,6 +17,13 @@ import io.hensu.core.tool.ToolCallResult;
 /// - {@link AgentResponse.Error} — loop done, agent errored
 /// - {@link AgentResponse.ToolRequest} — loop continues (another tool call round)
 ///
+/// ### Tool Rounds
+/// A model may request several tools in one turn. {@link #start} and {@link #submit} return
+/// the first request of a round; {@link #takePendingToolRequests} hands out the rest, so the
+/// caller can run the whole round at once and answer it with a single {@link #submitAll}.
+/// Sessions that do not override these hand requests out one at a time, and the caller
+/// answers each with {@link #submit}.
+///
 /// @see ToolCapable#openToolSession for session creation
 public interface ToolSession {
 
@@ -23,12 +32,64 @@ public interface ToolSession {
     /// @return first agent response (tool request or final answer), never null
     AgentResponse start();
 
+    /// Sends the initial prompt, reporting answer text as it is generated.
+    ///
+    /// The default implementation does not stream and delegates to {@link #start()}.
+    ///
+    /// @param onDelta receives output fragments in order, not null
+    /// @return first agent response (tool request or final answer), never null
+    /// @see StreamingCapable
+    default AgentResponse start(Consumer<String> onDelta) {
+        return start();
+    }
+
     /// Feeds a tool execution result back to the agent.
     ///
     /// @param result the tool call outcome, not null
     /// @return next agent response, never null
     AgentResponse submit(ToolCallResult result);
 
+    /// Feeds a tool execution result back, reporting answer text as it is generated.
+    ///
+    /// The default implementation does not stream and delegates to {@link #submit}.
+    ///
+    /// @param result the tool call outcome, not null
+    /// @param onDelta receives output fragments in order, not null
+    /// @return next agent response, never null
+    default AgentResponse submit(ToolCallResult result, Consumer<String> onDelta) {
+        return submit(result);
+    }
+
+    /// Hands out the remaining tool requests of the current round.
+    ///
+    /// The returned requests join the one last returned by {@link #start} or
+    /// {@link #submit}; all of them must then be answered together with {@link #submitAll}.
+    /// The default implementation returns an empty list, leaving the requests to be handed
+    /// out one at a time.
+    ///
+    /// @return tool requests not yet handed out, in the model's order, never null
+    default List<AgentResponse.ToolRequest> takePendingToolRequests() {
+        return List.of();
+    }
+
+    /// Feeds back the results of every tool request handed out in this round, in one turn.
+    ///
+    /// `results` answer, in order, the request last returned by {@link #start} or
+    /// {@link #submit} followed by those returned by {@link #takePendingToolRequests}.
+    /// The default implementation submits them one by one and returns the last response,
+    /// which is correct for sessions that never hand out pending requests.
+    ///
+    /// @param results one outcome per handed-out request, in order, not null or empty
+    /// @param onDelta receives output fragments in order, not null
+    /// @return next agent response, never null
+    default AgentResponse submitAll(List<ToolCallResult> results, Consumer<String> onDelta) {
+        AgentResponse response = null;
+        for (ToolCallResult result : results) {
+            response = submit(result, onDelta);
+        }
+        return response;
+    }
+
     /// Discards intermediate tool-call/result messages to free context window.
     ///
     /// Retains system message, original user prompt, and last assistant message.
@@ -0,0 +1,101 @@
+package io.hensu.core.agent.cache;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/// Size-bounded, process-local {@link ResponseCache}.
+///
+/// Entries live in an access-ordered LRU map of at most `maxSize` entries. Expired entries
+/// are dropped when looked up and otherwise age out through LRU eviction, so no background
+/// sweeper is needed.
+///
+/// @implNote Thread-safe. The map is guarded by a {@link ReentrantLock}; lookups and stores
+/// are a few map operations, so the lock is never held for long.
+public final class InMemoryResponseCache implements ResponseCache {
+
+    /// Default maximum number of cached responses.
+    public static final int DEFAULT_MAX_SIZE = 1024;
+
+    private final int maxSize;
+    private final Clock clock;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, Entry> entries;
+
+    /// Creates a cache holding at most `maxSize` responses.
+    ///
+    /// @param maxSize maximum number of entries, must be positive
+    /// @throws IllegalArgumentException if `maxSize` is not positive
+    public InMemoryResponseCache(int maxSize) {
+        this(maxSize, Clock.systemUTC());
+    }
+
+    /// Creates a cache holding at most `maxSize` responses, expiring entries by `clock`.
+    ///
+    /// @param maxSize maximum number of entries, must be positive
+    /// @param clock source of the current instant for expiry checks, not null
+    /// @throws IllegalArgumentException if `maxSize` is not positive
+    public InMemoryResponseCache(int maxSize, Clock clock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive, got " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.clock = Objects.requireNonNull(clock, "clock must not be null");
+        this.entries =
+                new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                        return size() > InMemoryResponseCache.this.maxSize;
+                    }
+                };
+    }
+
+    @Override
+    public Optional<Entry> get(String key) {
+        Objects.requireNonNull(key, "key must not be null");
+        lock.lock();
+        try {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            if (!entry.isLiveAt(clock.instant())) {
+                entries.remove(key);
+                return Optional.empty();
+            }
+            return Optional.of(entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(String key, Entry entry) {
+        Objects.requireNonNull(key, "key must not be null");
+        Objects.requireNonNull(entry, "entry must not be null");
+        if (!entry.isLiveAt(clock.instant())) {
+            return;
+        }
+        lock.lock();
+        try {
+            entries.put(key, entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /// Returns the number of entries currently held, expired ones included.
+    ///
+    /// @return entry count, at most `maxSize`
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
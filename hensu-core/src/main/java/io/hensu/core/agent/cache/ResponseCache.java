@@ -0,0 +1,68 @@
+package io.hensu.core.agent.cache;
+
+import io.hensu.core.agent.AgentResponse;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+
+/// Store of agent responses keyed by everything that determines them.
+///
+/// Agents opt in through `AgentConfig.responseCacheTtl`. Before calling such an agent the
+/// engine looks up the {@link ResponseCacheKey} of the call; a hit is returned without
+/// reaching the provider, a miss is called normally and its {@link
+/// AgentResponse.TextResponse} stored until the TTL elapses. Errors and tool requests are
+/// never cached.
+///
+/// Implementations are best-effort: a lookup that fails should behave as a miss and a
+/// store that fails should be dropped, so an unavailable cache never fails a node.
+///
+/// @implNote Implementations must be thread-safe; parallel branches share one cache.
+///
+/// @see InMemoryResponseCache
+/// @see TieredResponseCache
+public interface ResponseCache {
+
+    /// Cache that never holds anything, used when response caching is not configured.
+    ResponseCache NONE =
+            new ResponseCache() {
+                @Override
+                public Optional<Entry> get(String key) {
+                    return Optional.empty();
+                }
+
+                @Override
+                public void put(String key, Entry entry) {}
+            };
+
+    /// Returns the unexpired entry stored under `key`.
+    ///
+    /// @param key the {@link ResponseCacheKey} of the call, not null
+    /// @return the entry, or empty on a miss or an expired entry, never null
+    Optional<Entry> get(String key);
+
+    /// Stores `entry` under `key`, replacing any previous entry.
+    ///
+    /// @param key the {@link ResponseCacheKey} of the call, not null
+    /// @param entry the response and its expiry, not null
+    void put(String key, Entry entry);
+
+    /// A cached response and the instant it stops being served.
+    ///
+    /// @param response the agent's answer, not null
+    /// @param expiresAt when the entry expires, not null
+    record Entry(AgentResponse.TextResponse response, Instant expiresAt) {
+
+        public Entry {
+            Objects.requireNonNull(response, "response must not be null");
+            Objects.requireNonNull(expiresAt, "expiresAt must not be null");
+        }
+
+        /// Returns whether the entry is still served at `now`.
+        ///
+        /// @param now the current instant, not null
+        /// @return true if `now` is before the expiry
+        public boolean isLiveAt(Instant now) {
+            return now.isBefore(expiresAt);
+        }
+    }
+}
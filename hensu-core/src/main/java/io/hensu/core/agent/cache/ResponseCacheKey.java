@@ -0,0 +1,109 @@
+package io.hensu.core.agent.cache;
+
+import io.hensu.core.agent.AgentConfig;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/// Derives the {@link ResponseCache} key of an agent call.
+///
+/// The key is a SHA-256 over every input that shapes the model's answer:
+/// - the model and its sampling parameters (`temperature`, `topP`, penalties, `maxTokens`)
+/// - the system prompt inputs: `role`, `instructions` and the context variables
+/// - the resolved prompt
+///
+/// Context variables whose name starts with `_` are internal to the engine and left out.
+/// Nested maps are hashed in key order, so two contexts holding equal values always share
+/// a key regardless of map implementation.
+///
+/// Each field is written with its length first, so no two distinct inputs can run together
+/// into the same byte sequence.
+///
+/// @implNote Stateless utility; safe to call from any thread.
+public final class ResponseCacheKey {
+
+    /// Bumped whenever the hashed fields change, so old entries are never served.
+    private static final String VERSION = "v1";
+
+    private ResponseCacheKey() {}
+
+    /// Computes the key of calling the agent configured by `config` with `prompt`.
+    ///
+    /// @param config the agent's configuration, not null
+    /// @param prompt the fully resolved prompt, not null
+    /// @param context execution context variables visible to the agent, not null
+    /// @return lowercase hex digest, never null
+    public static String of(AgentConfig config, String prompt, Map<String, Object> context) {
+        Objects.requireNonNull(config, "config must not be null");
+        Objects.requireNonNull(prompt, "prompt must not be null");
+        Objects.requireNonNull(context, "context must not be null");
+
+        MessageDigest digest = sha256();
+        field(digest, VERSION);
+        field(digest, config.getModel());
+        field(digest, config.getTemperature());
+        field(digest, config.getTopP());
+        field(digest, config.getFrequencyPenalty());
+        field(digest, config.getPresencePenalty());
+        field(digest, config.getMaxTokens());
+        field(digest, config.getRole());
+        field(digest, config.getInstructions());
+
+        TreeMap<String, Object> visible = new TreeMap<>();
+        context.forEach(
+                (name, value) -> {
+                    if (!name.startsWith("_")) {
+                        visible.put(name, value);
+                    }
+                });
+        value(digest, visible);
+
+        field(digest, prompt);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void value(MessageDigest digest, Object value) {
+        switch (value) {
+            case Map<?, ?> map -> {
+                TreeMap<String, Object> sorted = new TreeMap<>();
+                map.forEach((k, v) -> sorted.put(String.valueOf(k), v));
+                field(digest, "{" + sorted.size());
+                sorted.forEach(
+                        (k, v) -> {
+                            field(digest, k);
+                            value(digest, v);
+                        });
+            }
+            case List<?> list -> {
+                field(digest, "[" + list.size());
+                list.forEach(item -> value(digest, item));
+            }
+            case null -> field(digest, null);
+            default -> field(digest, value);
+        }
+    }
+
+    private static void field(MessageDigest digest, Object value) {
+        byte[] bytes =
+                value == null
+                        ? new byte[0]
+                        : String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+        int length = value == null ? -1 : bytes.length;
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(length).array());
+        digest.update(bytes);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
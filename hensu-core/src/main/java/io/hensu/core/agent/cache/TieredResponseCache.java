@@ -0,0 +1,46 @@
+package io.hensu.core.agent.cache;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/// Two-level {@link ResponseCache}: a fast local tier in front of a shared one.
+///
+/// Lookups try the `near` tier first and fall back to the `far` tier; a far hit is copied
+/// into the near tier with its original expiry, so the next lookup on this node stays
+/// local. Stores write through to both tiers.
+///
+/// In the server the near tier is an {@link InMemoryResponseCache} and the far tier is
+/// backed by Postgres, so a response cached on one node is served by every node.
+///
+/// @implNote Thread-safe if both tiers are.
+public final class TieredResponseCache implements ResponseCache {
+
+    private final ResponseCache near;
+    private final ResponseCache far;
+
+    /// Creates a cache consulting `near` before `far`.
+    ///
+    /// @param near the local tier, not null
+    /// @param far the shared tier, not null
+    public TieredResponseCache(ResponseCache near, ResponseCache far) {
+        this.near = Objects.requireNonNull(near, "near must not be null");
+        this.far = Objects.requireNonNull(far, "far must not be null");
+    }
+
+    @Override
+    public Optional<Entry> get(String key) {
+        Optional<Entry> local = near.get(key);
+        if (local.isPresent()) {
+            return local;
+        }
+        Optional<Entry> shared = far.get(key);
+        shared.ifPresent(entry -> near.put(key, entry));
+        return shared;
+    }
+
+    @Override
+    public void put(String key, Entry entry) {
+        near.put(key, entry);
+        far.put(key, entry);
+    }
+}
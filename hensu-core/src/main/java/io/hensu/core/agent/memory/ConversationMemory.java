@@ -0,0 +1,222 @@
+package io.hensu.core.agent.memory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+/// Token-budgeted conversation history of an agent with `maintainContext`.
+///
+/// Agents are shared by every execution of a registry, so an unbounded history grows with
+/// the agent's lifetime and is resent on every call. This memory keeps each history within
+/// {@link MemoryPolicy#maxTokens()} as described by its {@link MemoryPolicy}.
+///
+/// {@link #append} never calls the summarizer: a history over budget only marks its oldest
+/// turns as due for a summary. The caller writes it with {@link #summarizePending} once it
+/// has released the model permit of the call that produced the turn; the engine does so
+/// after every agent call, calling the summarizer agent under a permit of its own model.
+/// Until then the history may grow to twice its budget.
+///
+/// Summaries are written outside the history's lock: calls keep reading and appending
+/// while the summarizer runs, and the folded turns are replaced once it returns. If the
+/// summarizer fails, or none is bound, the folded turns are dropped as by the sliding
+/// window.
+///
+/// With {@link MemoryPolicy.Scope#EXECUTION}, the {@value #MAX_SCOPES} most recently used
+/// execution histories are kept; older ones are discarded.
+///
+/// @implNote Thread-safe. Each history is guarded by its own lock.
+public final class ConversationMemory {
+
+    private static final Logger logger = Logger.getLogger(ConversationMemory.class.getName());
+
+    /// Execution histories kept with {@link MemoryPolicy.Scope#EXECUTION}.
+    static final int MAX_SCOPES = 1024;
+
+    /// Prompt of the turn holding a summary of earlier turns.
+    static final String SUMMARY_PROMPT = "Summarize our conversation so far.";
+
+    private static final String AGENT_SCOPE = "";
+
+    private final MemoryPolicy policy;
+    private final Map<String, History> histories =
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, History> eldest) {
+                    return size() > MAX_SCOPES;
+                }
+            };
+    private volatile Summarizer summarizer;
+
+    /// Creates an empty memory.
+    ///
+    /// @param policy budget, strategy and scope, not null
+    public ConversationMemory(MemoryPolicy policy) {
+        this.policy = Objects.requireNonNull(policy, "policy must not be null");
+    }
+
+    /// Binds the summarizer used by {@link MemoryPolicy.Strategy#SUMMARIZE}.
+    ///
+    /// @param summarizer the summarizer, not null
+    public void bindSummarizer(Summarizer summarizer) {
+        this.summarizer = Objects.requireNonNull(summarizer, "summarizer must not be null");
+    }
+
+    /// Returns the history a call with `context` continues, oldest turn first.
+    ///
+    /// @param context execution context of the call, not null
+    /// @return snapshot of the history, never null
+    public List<ConversationTurn> turns(Map<String, Object> context) {
+        History history;
+        synchronized (histories) {
+            history = histories.get(scopeOf(context));
+        }
+        return history != null ? history.snapshot() : List.of();
+    }
+
+    /// Records a completed turn, compacting the history if it exceeds the budget.
+    ///
+    /// Never calls the summarizer; turns due for a summary wait for
+    /// {@link #summarizePending}.
+    ///
+    /// @param context execution context of the call, not null
+    /// @param turn the prompt and answer, not null
+    public void append(Map<String, Object> context, ConversationTurn turn) {
+        Objects.requireNonNull(turn, "turn must not be null");
+        History history;
+        synchronized (histories) {
+            history = histories.computeIfAbsent(scopeOf(context), _ -> new History());
+        }
+        boolean summarize =
+                policy.strategy() == MemoryPolicy.Strategy.SUMMARIZE && summarizer != null;
+        history.add(turn, policy.maxTokens(), summarize);
+    }
+
+    /// Writes the summary due in the history `context` continues, if any, on the calling
+    /// thread.
+    ///
+    /// Call it without holding a model permit: the summarizer makes a model call of its own.
+    ///
+    /// @param context execution context of the call that appended the last turn, not null
+    /// @param invoker makes the summarizer agent's call, not null
+    public void summarizePending(Map<String, Object> context, Summarizer.Invoker invoker) {
+        Objects.requireNonNull(invoker, "invoker must not be null");
+        History history;
+        synchronized (histories) {
+            history = histories.get(scopeOf(context));
+        }
+        List<ConversationTurn> folded = history != null ? history.takePending() : List.of();
+        if (folded.isEmpty()) {
+            return;
+        }
+        String summary = null;
+        try {
+            Summarizer current = summarizer;
+            if (current != null) {
+                summary = current.summarize(folded, invoker);
+            }
+        } catch (Exception e) {
+            logger.warning("Conversation summary failed, dropping oldest turns: " + e.getMessage());
+        }
+        history.fold(folded, summary, policy.maxTokens());
+    }
+
+    /// Returns the policy this memory applies.
+    ///
+    /// @return the policy, never null
+    public MemoryPolicy getPolicy() {
+        return policy;
+    }
+
+    private String scopeOf(Map<String, Object> context) {
+        if (policy.scope() == MemoryPolicy.Scope.AGENT || context == null) {
+            return AGENT_SCOPE;
+        }
+        Object executionId = context.get("_execution_id");
+        return executionId != null ? executionId.toString() : AGENT_SCOPE;
+    }
+
+    /// One history and its estimated size.
+    private static final class History {
+        private final ArrayDeque<ConversationTurn> turns = new ArrayDeque<>();
+        private long tokens;
+        private boolean summarizing;
+        private List<ConversationTurn> pending = List.of();
+
+        synchronized List<ConversationTurn> snapshot() {
+            return List.copyOf(turns);
+        }
+
+        /// Appends `turn`; marks the oldest turns as due for a summary, or evicts them when no
+        /// summary is wanted.
+        synchronized void add(ConversationTurn turn, int maxTokens, boolean summarize) {
+            turns.addLast(turn);
+            tokens += turn.estimatedTokens();
+            if (tokens <= maxTokens) {
+                return;
+            }
+            if (!summarize) {
+                evict(maxTokens);
+                return;
+            }
+            if (summarizing) {
+                // A summary is due or being written; only bound the growth until it lands
+                if (tokens > 2L * maxTokens) {
+                    evict(maxTokens);
+                }
+                return;
+            }
+            // Fold the oldest turns until about half the budget remains, keeping the newest
+            List<ConversationTurn> folded = new ArrayList<>();
+            long remaining = tokens;
+            for (ConversationTurn oldest : turns) {
+                if (remaining <= maxTokens / 2 || folded.size() == turns.size() - 1) {
+                    break;
+                }
+                folded.add(oldest);
+                remaining -= oldest.estimatedTokens();
+            }
+            if (folded.isEmpty()) {
+                evict(maxTokens);
+                return;
+            }
+            summarizing = true;
+            pending = folded;
+        }
+
+        /// Returns the turns due for a summary, at most once per fold.
+        synchronized List<ConversationTurn> takePending() {
+            List<ConversationTurn> folded = pending;
+            pending = List.of();
+            return folded;
+        }
+
+        /// Replaces the folded turns still at the head with `summary`, or drops them if
+        /// there is none.
+        synchronized void fold(List<ConversationTurn> folded, String summary, int maxTokens) {
+            summarizing = false;
+            for (ConversationTurn turn : folded) {
+                if (turns.peekFirst() != turn) {
+                    break;
+                }
+                turns.removeFirst();
+                tokens -= turn.estimatedTokens();
+            }
+            if (summary != null) {
+                ConversationTurn summaryTurn = new ConversationTurn(SUMMARY_PROMPT, summary);
+                turns.addFirst(summaryTurn);
+                tokens += summaryTurn.estimatedTokens();
+            }
+            evict(maxTokens);
+        }
+
+        private void evict(int maxTokens) {
+            while (tokens > maxTokens && !turns.isEmpty()) {
+                tokens -= turns.removeFirst().estimatedTokens();
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package io.hensu.core.agent.memory;
+
+import java.util.Objects;
+
+/// One prompt and the agent's answer to it.
+///
+/// @param prompt the user prompt, not null
+/// @param answer the agent's answer, not null
+public record ConversationTurn(String prompt, String answer) {
+
+    public ConversationTurn {
+        Objects.requireNonNull(prompt, "prompt must not be null");
+        Objects.requireNonNull(answer, "answer must not be null");
+    }
+
+    /// Returns the turn's size in tokens, estimated at four characters per token.
+    ///
+    /// @return estimated tokens, at least 1
+    public long estimatedTokens() {
+        return Math.max(1, (prompt.length() + answer.length()) / 4);
+    }
+}
@@ -0,0 +1,14 @@
+package io.hensu.core.agent.memory;
+
+/// Capability of agents whose conversation history is kept in a {@link ConversationMemory}.
+///
+/// The agent registry binds the summarizer of {@link MemoryPolicy.Strategy#SUMMARIZE}
+/// memories through this interface, since only the registry can resolve the summarizer
+/// agent.
+public interface MemoryCapable {
+
+    /// Returns the agent's conversation memory.
+    ///
+    /// @return the memory, never null
+    ConversationMemory getConversationMemory();
+}
@@ -0,0 +1,56 @@
+package io.hensu.core.agent.memory;
+
+import java.util.Objects;
+
+/// How much conversation history an agent with `maintainContext` keeps, and for whom.
+///
+/// The history sent with each call is capped at `maxTokens` (estimated at four characters
+/// per token). When a new turn pushes it over the budget:
+/// - {@link Strategy#SLIDING_WINDOW} drops the oldest turns
+/// - {@link Strategy#SUMMARIZE} folds the oldest turns into a summary written by the agent
+///   `summarizerAgentId`, keeping about half the budget verbatim
+///
+/// {@link Scope#AGENT} shares one history across every execution using the agent;
+/// {@link Scope#EXECUTION} keeps one history per `_execution_id`. Calls whose context has
+/// no `_execution_id` share the agent-wide history.
+///
+/// @param strategy what to do with turns over the budget, not null
+/// @param maxTokens history budget in estimated tokens, positive
+/// @param scope who shares a history, not null
+/// @param summarizerAgentId agent writing summaries, required for {@link Strategy#SUMMARIZE}
+/// @see ConversationMemory
+public record MemoryPolicy(
+        Strategy strategy, int maxTokens, Scope scope, String summarizerAgentId) {
+
+    /// Sliding window of 8,000 tokens shared by all executions of the agent.
+    public static final MemoryPolicy DEFAULT =
+            new MemoryPolicy(Strategy.SLIDING_WINDOW, 8_000, Scope.AGENT, null);
+
+    public MemoryPolicy {
+        Objects.requireNonNull(strategy, "strategy must not be null");
+        Objects.requireNonNull(scope, "scope must not be null");
+        if (maxTokens <= 0) {
+            throw new IllegalArgumentException("maxTokens must be positive: " + maxTokens);
+        }
+        if (strategy == Strategy.SUMMARIZE
+                && (summarizerAgentId == null || summarizerAgentId.isBlank())) {
+            throw new IllegalArgumentException("SUMMARIZE requires a summarizerAgentId");
+        }
+    }
+
+    /// What happens to history over the budget.
+    public enum Strategy {
+        /// Drop the oldest turns.
+        SLIDING_WINDOW,
+        /// Replace the oldest turns with a summary.
+        SUMMARIZE
+    }
+
+    /// Who shares one history.
+    public enum Scope {
+        /// Every execution using the agent.
+        AGENT,
+        /// Each execution separately, keyed by `_execution_id`.
+        EXECUTION
+    }
+}
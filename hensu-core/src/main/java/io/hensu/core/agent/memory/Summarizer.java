@@ -0,0 +1,70 @@
+package io.hensu.core.agent.memory;
+
+import io.hensu.core.agent.Agent;
+import io.hensu.core.agent.AgentResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/// Condenses conversation turns into a summary for {@link MemoryPolicy.Strategy#SUMMARIZE}.
+@FunctionalInterface
+public interface Summarizer {
+
+    /// Summarizes `turns`, oldest first. The first turn may be an earlier summary.
+    ///
+    /// @param turns the turns to fold, not empty
+    /// @param invoker makes any agent call the summary needs, not null
+    /// @return the summary text, never null
+    /// @throws Exception if no summary could be written
+    String summarize(List<ConversationTurn> turns, Invoker invoker) throws Exception;
+
+    /// Returns a summarizer that asks an agent for the summary.
+    ///
+    /// The agent is looked up on every call, so it may be registered after this summarizer
+    /// is created.
+    ///
+    /// @param agent supplies the summarizer agent, empty if not registered, not null
+    /// @return the summarizer, never null
+    static Summarizer usingAgent(Supplier<Optional<Agent>> agent) {
+        return (turns, invoker) -> {
+            Agent summarizer =
+                    agent.get()
+                            .orElseThrow(
+                                    () -> new IllegalStateException("Summarizer agent not found"));
+            StringBuilder prompt =
+                    new StringBuilder(
+                            "Summarize the following conversation. Keep every fact, decision"
+                                    + " and open question needed to continue it; omit"
+                                    + " pleasantries.\n\n");
+            for (ConversationTurn turn : turns) {
+                prompt.append("User: ").append(turn.prompt()).append("\n");
+                prompt.append("Assistant: ").append(turn.answer()).append("\n\n");
+            }
+            String request = prompt.toString();
+            AgentResponse response =
+                    invoker.invoke(summarizer, () -> summarizer.execute(request, Map.of()));
+            if (response instanceof AgentResponse.TextResponse text) {
+                return text.content();
+            }
+            throw new IllegalStateException("Summarizer agent failed: " + response);
+        };
+    }
+
+    /// Makes an agent call on behalf of a summary.
+    ///
+    /// The engine passes one that holds a permit of the agent's model for the call.
+    @FunctionalInterface
+    interface Invoker {
+
+        /// Calls the agent without any admission control.
+        Invoker DIRECT = (_, call) -> call.get();
+
+        /// Makes `call`, a call of `agent`.
+        ///
+        /// @param agent the agent called, not null
+        /// @param call the call, not null
+        /// @return the call's response, never null
+        AgentResponse invoke(Agent agent, Supplier<AgentResponse> call);
+    }
+}
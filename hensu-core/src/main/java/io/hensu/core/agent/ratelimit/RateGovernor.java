@@ -0,0 +1,359 @@
+package io.hensu.core.agent.ratelimit;
+
+import io.hensu.core.agent.AgentPermits;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToLongFunction;
+
+/// Provider-aware admission control for LLM calls.
+///
+/// Providers enforce their quotas per API key, so calls are grouped into one {@link Lane}
+/// per provider and key. A lane admits a call only when its requests-per-minute and
+/// tokens-per-minute buckets have room and fewer calls are in flight than its concurrency
+/// limit; other calls queue in the lane. Bursts are absorbed by the queue instead of
+/// failing on the provider.
+///
+/// ### Adaptive concurrency
+/// The concurrency limit follows AIMD: each successful call raises it by `1/limit`, one
+/// slot per limit's worth of successes, up to {@link RateLimits#maxConcurrency()}; each
+/// throttled call halves it, down to one. A throttled call is retried after an exponential
+/// backoff with jitter, at least as long as the provider's retry-after hint, up to
+/// {@link RateLimits#maxRetries()} times. The backoff sleeps through
+/// {@link AgentPermits#sleepReleased}, so a caller holding an engine permit of its model
+/// lends it to other executions until the retry.
+///
+/// ### Usage
+/// {@snippet :
+/// RateGovernor.Lane lane = governor.lane("anthropic", apiKey);
+/// ChatResponse response = lane.call(estimatedTokens, () -> chat(messages), this::tokensUsed);
+/// }
+///
+/// Lanes are identified by provider and a fingerprint of the API key; the key itself is
+/// never retained or reported.
+///
+/// @implNote Thread-safe. Each lane is guarded by its own lock.
+///
+/// @see RateLimitedException
+public final class RateGovernor {
+
+    private final RateLimits defaults;
+    private final Map<String, RateLimits> providerLimits;
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+
+    /// Creates a governor applying `defaults` to every provider.
+    ///
+    /// @param defaults limits of every lane, not null
+    public RateGovernor(RateLimits defaults) {
+        this(defaults, Map.of());
+    }
+
+    /// Creates a governor with limits per provider.
+    ///
+    /// @param defaults limits of providers without an entry in `providerLimits`, not null
+    /// @param providerLimits limits keyed by provider name, not null
+    public RateGovernor(RateLimits defaults, Map<String, RateLimits> providerLimits) {
+        Objects.requireNonNull(defaults, "defaults must not be null");
+        Objects.requireNonNull(providerLimits, "providerLimits must not be null");
+        this.defaults = defaults;
+        this.providerLimits = Map.copyOf(providerLimits);
+    }
+
+    /// Returns the lane of `provider` and `apiKey`, creating it on first use.
+    ///
+    /// @param provider provider name, e.g. `anthropic`, not null
+    /// @param apiKey the API key calls are made with, may be null
+    /// @return the shared lane, never null
+    public Lane lane(String provider, String apiKey) {
+        Objects.requireNonNull(provider, "provider must not be null");
+        String id = provider + ":" + fingerprint(apiKey);
+        return lanes.computeIfAbsent(id, _ -> new Lane(id, limitsFor(provider)));
+    }
+
+    /// Returns the limits applied to `provider`.
+    ///
+    /// @param provider provider name, not null
+    /// @return the provider's limits, or the defaults, never null
+    public RateLimits limitsFor(String provider) {
+        return providerLimits.getOrDefault(provider, defaults);
+    }
+
+    /// Returns the state of every lane used so far.
+    ///
+    /// @return point-in-time snapshots ordered by lane id, never null
+    public List<Stats> stats() {
+        return lanes.values().stream()
+                .map(Lane::stats)
+                .sorted(Comparator.comparing(Stats::lane))
+                .toList();
+    }
+
+    private static String fingerprint(String apiKey) {
+        if (apiKey == null || apiKey.isEmpty()) {
+            return "-";
+        }
+        try {
+            byte[] digest =
+                    MessageDigest.getInstance("SHA-256")
+                            .digest(apiKey.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 4);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /// A call to the provider, run by {@link Lane#call} once admitted.
+    @FunctionalInterface
+    public interface ThrottledCall<T> {
+
+        /// Makes the call.
+        ///
+        /// @return the provider's answer
+        /// @throws RateLimitedException if the provider refused the call as throttled
+        /// @throws Exception any other failure, passed through unchanged
+        T call() throws Exception;
+    }
+
+    /// Calls of one provider and API key.
+    public static final class Lane {
+
+        private final String id;
+        private final RateLimits limits;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition changed = lock.newCondition();
+        private final TokenBucket requests;
+        private final TokenBucket tokens;
+        private double concurrencyLimit;
+        private int inFlight;
+        private int waiting;
+
+        private final LongAdder admitted = new LongAdder();
+        private final LongAdder throttled = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder exhausted = new LongAdder();
+        private final LongAdder totalQueueNanos = new LongAdder();
+        private final AtomicLong maxQueueNanos = new AtomicLong();
+
+        Lane(String id, RateLimits limits) {
+            this.id = id;
+            this.limits = limits;
+            long now = System.nanoTime();
+            this.requests =
+                    limits.requestsPerMinute() > 0
+                            ? new TokenBucket(limits.requestsPerMinute(), now)
+                            : null;
+            this.tokens =
+                    limits.tokensPerMinute() > 0
+                            ? new TokenBucket(limits.tokensPerMinute(), now)
+                            : null;
+            this.concurrencyLimit = limits.maxConcurrency();
+        }
+
+        /// Runs `call` once the lane admits it, retrying while the provider throttles it.
+        ///
+        /// The call is admitted on `estimatedTokens` and charged the tokens `tokensUsed`
+        /// reports for its result afterwards; the estimate stands when usage is unknown.
+        ///
+        /// @param estimatedTokens tokens the call is expected to use, `0` if unknown
+        /// @param call the provider call, not null
+        /// @param tokensUsed tokens actually used by a result, `0` if unknown, not null
+        /// @return the call's result
+        /// @throws RateLimitedException if the call was still throttled after all retries
+        /// @throws InterruptedException if interrupted while queued or backing off
+        /// @throws Exception any other failure of `call`
+        public <T> T call(
+                long estimatedTokens, ThrottledCall<T> call, ToLongFunction<T> tokensUsed)
+                throws Exception {
+            Objects.requireNonNull(call, "call must not be null");
+            Objects.requireNonNull(tokensUsed, "tokensUsed must not be null");
+            for (int attempt = 0; ; attempt++) {
+                acquire(estimatedTokens);
+                T result;
+                try {
+                    result = call.call();
+                } catch (RateLimitedException e) {
+                    release(Outcome.THROTTLED, 0);
+                    throttled.increment();
+                    if (attempt >= limits.maxRetries()) {
+                        exhausted.increment();
+                        throw e;
+                    }
+                    retries.increment();
+                    AgentPermits.sleepReleased(
+                            backoff(attempt, e.getRetryAfter().orElse(Duration.ZERO)));
+                    continue;
+                } catch (Exception | Error e) {
+                    release(Outcome.FAILED, 0);
+                    throw e;
+                }
+                long used = tokensUsed.applyAsLong(result);
+                release(Outcome.SUCCEEDED, used > 0 ? used - estimatedTokens : 0);
+                return result;
+            }
+        }
+
+        /// Returns the lane id: provider and API key fingerprint.
+        ///
+        /// @return lane id, never null
+        public String getId() {
+            return id;
+        }
+
+        /// Returns the limits this lane applies.
+        ///
+        /// @return the lane's limits, never null
+        public RateLimits getLimits() {
+            return limits;
+        }
+
+        private void acquire(long estimatedTokens) throws InterruptedException {
+            long start = System.nanoTime();
+            lock.lock();
+            try {
+                waiting++;
+                try {
+                    long wait;
+                    while ((wait = admissionDelay(estimatedTokens)) != 0) {
+                        if (wait < 0) {
+                            changed.await();
+                        } else {
+                            changed.awaitNanos(wait);
+                        }
+                    }
+                } finally {
+                    waiting--;
+                }
+                inFlight++;
+                if (requests != null) {
+                    requests.take(1);
+                }
+                if (tokens != null) {
+                    tokens.take(estimatedTokens);
+                }
+            } finally {
+                lock.unlock();
+            }
+            long queued = System.nanoTime() - start;
+            admitted.increment();
+            totalQueueNanos.add(queued);
+            maxQueueNanos.accumulateAndGet(queued, Math::max);
+        }
+
+        /// Returns `0` if a call can start now, the nanos until a quota refills, or `-1`
+        /// if it must wait for a call to finish.
+        private long admissionDelay(long estimatedTokens) {
+            if (inFlight >= (int) concurrencyLimit) {
+                return -1;
+            }
+            long now = System.nanoTime();
+            long wait = requests != null ? requests.nanosUntil(1, now) : 0;
+            if (tokens != null) {
+                wait = Math.max(wait, tokens.nanosUntil(estimatedTokens, now));
+            }
+            return wait;
+        }
+
+        private void release(Outcome outcome, long tokenCorrection) {
+            lock.lock();
+            try {
+                inFlight--;
+                switch (outcome) {
+                    case SUCCEEDED ->
+                            concurrencyLimit =
+                                    Math.min(
+                                            limits.maxConcurrency(),
+                                            concurrencyLimit + 1 / concurrencyLimit);
+                    case THROTTLED -> concurrencyLimit = Math.max(1, concurrencyLimit / 2);
+                    case FAILED -> {}
+                }
+                if (tokens != null && tokenCorrection != 0) {
+                    tokens.credit(-tokenCorrection);
+                }
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /// Exponential backoff with equal jitter, never shorter than the provider's hint.
+        private Duration backoff(int attempt, Duration retryAfter) {
+            long initial = limits.initialBackoff().toMillis();
+            long ceiling = limits.maxBackoff().toMillis();
+            long exponential = Math.min(ceiling, initial << Math.min(attempt, 30));
+            long half = exponential / 2;
+            long jittered = half + ThreadLocalRandom.current().nextLong(half + 1);
+            return Duration.ofMillis(Math.max(jittered, retryAfter.toMillis()));
+        }
+
+        Stats stats() {
+            int limitNow;
+            int inFlightNow;
+            int waitingNow;
+            lock.lock();
+            try {
+                limitNow = (int) concurrencyLimit;
+                inFlightNow = inFlight;
+                waitingNow = waiting;
+            } finally {
+                lock.unlock();
+            }
+            long count = admitted.sum();
+            return new Stats(
+                    id,
+                    limitNow,
+                    inFlightNow,
+                    waitingNow,
+                    count,
+                    throttled.sum(),
+                    retries.sum(),
+                    exhausted.sum(),
+                    count == 0 ? 0.0 : totalQueueNanos.sum() / 1_000_000.0 / count,
+                    maxQueueNanos.get() / 1_000_000.0,
+                    limits);
+        }
+    }
+
+    private enum Outcome {
+        SUCCEEDED,
+        THROTTLED,
+        FAILED
+    }
+
+    /// State of one lane since startup.
+    ///
+    /// @param lane provider and API key fingerprint
+    /// @param concurrencyLimit current adaptive concurrency limit
+    /// @param inFlight calls currently running
+    /// @param waiting calls queued for admission
+    /// @param admitted calls admitted so far, retries included
+    /// @param throttled calls the provider refused as rate limited or overloaded
+    /// @param retries throttled calls that were retried
+    /// @param exhausted throttled calls that failed after all retries
+    /// @param avgQueueMillis mean time from arrival to admission
+    /// @param maxQueueMillis longest time from arrival to admission
+    /// @param limits the configured limits
+    public record Stats(
+            String lane,
+            int concurrencyLimit,
+            int inFlight,
+            int waiting,
+            long admitted,
+            long throttled,
+            long retries,
+            long exhausted,
+            double avgQueueMillis,
+            double maxQueueMillis,
+            RateLimits limits) {}
+}
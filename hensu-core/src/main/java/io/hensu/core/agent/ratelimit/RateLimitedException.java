@@ -0,0 +1,30 @@
+package io.hensu.core.agent.ratelimit;
+
+import java.io.Serial;
+import java.time.Duration;
+import java.util.Optional;
+
+/// Signals that a provider refused a call because of a rate limit or overload.
+///
+/// Thrown by provider adapters from inside {@link RateGovernor.Lane#call}; the lane backs
+/// off and retries the call, and rethrows once its retries are spent.
+public class RateLimitedException extends RuntimeException {
+    @Serial private static final long serialVersionUID = 6081452734098812377L;
+
+    private final transient Duration retryAfter;
+
+    /// @param message description of the refusal, not null
+    /// @param retryAfter delay the provider asked for, null if it gave none
+    /// @param cause the provider's exception, may be null
+    public RateLimitedException(String message, Duration retryAfter, Throwable cause) {
+        super(message, cause);
+        this.retryAfter = retryAfter;
+    }
+
+    /// Returns the delay the provider asked for before the next call.
+    ///
+    /// @return the requested delay, or empty if the provider gave none
+    public Optional<Duration> getRetryAfter() {
+        return Optional.ofNullable(retryAfter);
+    }
+}
@@ -0,0 +1,59 @@
+package io.hensu.core.agent.ratelimit;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/// Limits applied by {@link RateGovernor} to the calls of one provider and API key.
+///
+/// @param requestsPerMinute calls admitted per minute, `0` for no request quota
+/// @param tokensPerMinute tokens (prompt and completion) admitted per minute, `0` for no
+///     token quota
+/// @param maxConcurrency ceiling of the adaptive concurrency limit, at least 1
+/// @param maxRetries retries of a throttled call before its error is returned, `0` for none
+/// @param initialBackoff delay before the first retry, doubled for each further retry,
+///     not null
+/// @param maxBackoff upper bound of the retry delay, not null
+public record RateLimits(
+        int requestsPerMinute,
+        long tokensPerMinute,
+        int maxConcurrency,
+        int maxRetries,
+        Duration initialBackoff,
+        Duration maxBackoff) {
+
+    /// No quotas, up to 16 concurrent calls, three retries backing off from 1s to 30s.
+    public static final RateLimits DEFAULT =
+            new RateLimits(0, 0, 16, 3, Duration.ofSeconds(1), Duration.ofSeconds(30));
+
+    public RateLimits {
+        if (requestsPerMinute < 0) {
+            throw new IllegalArgumentException("requestsPerMinute must not be negative");
+        }
+        if (tokensPerMinute < 0) {
+            throw new IllegalArgumentException("tokensPerMinute must not be negative");
+        }
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be positive");
+        }
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("maxRetries must not be negative");
+        }
+        Objects.requireNonNull(initialBackoff, "initialBackoff must not be null");
+        Objects.requireNonNull(maxBackoff, "maxBackoff must not be null");
+    }
+
+    /// Returns these limits with the given per-minute quotas.
+    ///
+    /// @param requestsPerMinute calls admitted per minute, `0` for no request quota
+    /// @param tokensPerMinute tokens admitted per minute, `0` for no token quota
+    /// @return a copy with the quotas replaced, never null
+    public RateLimits withQuotas(int requestsPerMinute, long tokensPerMinute) {
+        return new RateLimits(
+                requestsPerMinute,
+                tokensPerMinute,
+                maxConcurrency,
+                maxRetries,
+                initialBackoff,
+                maxBackoff);
+    }
+}
@@ -0,0 +1,47 @@
+package io.hensu.core.agent.ratelimit;
+
+/// Per-minute quota refilled continuously.
+///
+/// Takes may overdraw the bucket: a call is admitted on an estimate and charged its actual
+/// usage afterwards, and the debt delays later calls.
+///
+/// @implNote Not thread-safe; guarded by the owning lane's lock.
+final class TokenBucket {
+
+    private static final double NANOS_PER_MINUTE = 60e9;
+
+    private final double capacity;
+    private final double refillPerNano;
+    private double available;
+    private long lastRefill;
+
+    TokenBucket(long perMinute, long nowNanos) {
+        this.capacity = perMinute;
+        this.refillPerNano = perMinute / NANOS_PER_MINUTE;
+        this.available = perMinute;
+        this.lastRefill = nowNanos;
+    }
+
+    /// Returns how long until `amount` can be taken, `0` if it can be taken now.
+    ///
+    /// Amounts above the capacity wait for a full bucket rather than forever.
+    long nanosUntil(double amount, long nowNanos) {
+        refill(nowNanos);
+        double missing = Math.min(amount, capacity) - available;
+        return missing <= 0 ? 0 : Math.max(1, (long) Math.ceil(missing / refillPerNano));
+    }
+
+    void take(double amount) {
+        available -= amount;
+    }
+
+    /// Returns `amount` to the bucket, or takes it if negative.
+    void credit(double amount) {
+        available = Math.min(capacity, available + amount);
+    }
+
+    private void refill(long nowNanos) {
+        available = Math.min(capacity, available + (nowNanos - lastRefill) * refillPerNano);
+        lastRefill = nowNanos;
+    }
+}
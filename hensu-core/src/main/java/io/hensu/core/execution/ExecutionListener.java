@@ -18,6 +18,7 @@ import io.hensu.core.workflow.node.Node;
 /// onCheckpoint(state)             — state is consistent, safe to persist
 /// onNodeStart(node)               — about to execute node
 /// onAgentStart(nodeId, ...)       — about to call LLM
+/// onAgentOutputDelta(nodeId, ...) — zero or more output fragments, streaming agents only
 /// onAgentComplete(nodeId, ...)    — LLM returned result
 /// onNodeComplete(node, result)    — node execution finished (state NOT yet updated)
 /// [state mutations: output → history → review → rubric → transitions]
@@ -43,6 +44,22 @@ public interface ExecutionListener {
     /// @param prompt the resolved prompt sent to the agent, not null
     default void onAgentStart(String nodeId, String agentId, String prompt) {}
 
+    /// Called for each output fragment a streaming agent produces.
+    ///
+    /// Fires between {@link #onAgentStart} and {@link #onAgentComplete}, once per fragment
+    /// in generation order; a tool-calling agent may stream several model rounds. Agents
+    /// that do not stream never trigger it. The complete output still arrives in
+    /// {@link #onAgentComplete}, so listeners that only need the final text can ignore
+    /// this callback.
+    ///
+    /// Fragments can be as small as a single token. Implementations should return quickly
+    /// and coalesce fragments before doing anything expensive with them.
+    ///
+    /// @param nodeId identifier of the node being executed, not null
+    /// @param agentId identifier of the agent producing output, not null
+    /// @param delta the next output fragment, not null, may be empty
+    default void onAgentOutputDelta(String nodeId, String agentId, String delta) {}
+
     /// Called after an agent completes execution.
     ///
     /// @param nodeId identifier of the node that was executed, not null
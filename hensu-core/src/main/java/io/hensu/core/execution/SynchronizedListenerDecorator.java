@@ -36,6 +36,11 @@ public final class SynchronizedListenerDecorator implements ExecutionListener {
         delegate.onAgentStart(nodeId, agentId, prompt);
     }
 
+    @Override
+    public synchronized void onAgentOutputDelta(String nodeId, String agentId, String delta) {
+        delegate.onAgentOutputDelta(nodeId, agentId, delta);
+    }
+
     @Override
     public synchronized void onAgentComplete(
             String nodeId, String agentId, AgentResponse response) {
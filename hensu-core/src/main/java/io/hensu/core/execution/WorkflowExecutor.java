@@ -1,6 +1,8 @@
 package io.hensu.core.execution;
 
+import io.hensu.core.agent.AgentPermits;
 import io.hensu.core.agent.AgentRegistry;
+import io.hensu.core.agent.cache.ResponseCache;
 import io.hensu.core.execution.action.ActionExecutor;
 import io.hensu.core.execution.executor.ExecutionContext;
 import io.hensu.core.execution.executor.NodeExecutorRegistry;
@@ -12,6 +14,7 @@ import io.hensu.core.rubric.RubricEngine;
 import io.hensu.core.state.HensuState;
 import io.hensu.core.template.TemplateResolver;
 import io.hensu.core.tool.ToolRegistry;
+import io.hensu.core.workflow.ExecutionPlan;
 import io.hensu.core.workflow.Workflow;
 import io.hensu.core.workflow.WorkflowRepository;
 import io.hensu.core.workflow.node.Node;
@@ -64,6 +67,8 @@ public class WorkflowExecutor {
     private final ActionExecutor actionExecutor;
     private final WorkflowRepository workflowRepository;
     private final ToolRegistry toolRegistry;
+    private final AgentPermits agentPermits;
+    private final ResponseCache responseCache;
     private final NodeLifecycleCoordinator lifecycleCoordinator;
 
     /// Creates a workflow executor with all dependencies.
@@ -85,6 +90,75 @@ public class WorkflowExecutor {
             TemplateResolver templateResolver,
             WorkflowRepository workflowRepository,
             ToolRegistry toolRegistry) {
+        this(
+                nodeExecutorRegistry,
+                agentRegistry,
+                rubricEngine,
+                lifecycleCoordinator,
+                actionExecutor,
+                templateResolver,
+                workflowRepository,
+                toolRegistry,
+                AgentPermits.unbounded());
+    }
+
+    /// Creates a workflow executor whose agent calls share an engine-wide permit pool.
+    ///
+    /// @param nodeExecutorRegistry  registry for node-type-specific executors, not null
+    /// @param agentRegistry         registry of available AI agents, not null
+    /// @param rubricEngine          engine for rubric-based quality evaluation, not null
+    /// @param lifecycleCoordinator  per-node lifecycle processor, not null
+    /// @param actionExecutor        executor for executable actions, may be null
+    /// @param templateResolver      resolver for `{variable}` syntax in prompts, not null
+    /// @param workflowRepository    repository for loading sub-workflow definitions, may be null
+    /// @param toolRegistry          registry for discovering available tools, may be null
+    /// @param agentPermits          per-model bound on in-flight agent calls, not null
+    public WorkflowExecutor(
+            NodeExecutorRegistry nodeExecutorRegistry,
+            AgentRegistry agentRegistry,
+            RubricEngine rubricEngine,
+            NodeLifecycleCoordinator lifecycleCoordinator,
+            ActionExecutor actionExecutor,
+            TemplateResolver templateResolver,
+            WorkflowRepository workflowRepository,
+            ToolRegistry toolRegistry,
+            AgentPermits agentPermits) {
+        this(
+                nodeExecutorRegistry,
+                agentRegistry,
+                rubricEngine,
+                lifecycleCoordinator,
+                actionExecutor,
+                templateResolver,
+                workflowRepository,
+                toolRegistry,
+                agentPermits,
+                ResponseCache.NONE);
+    }
+
+    /// Creates a workflow executor with an engine-wide permit pool and response cache.
+    ///
+    /// @param nodeExecutorRegistry  registry for node-type-specific executors, not null
+    /// @param agentRegistry         registry of available AI agents, not null
+    /// @param rubricEngine          engine for rubric-based quality evaluation, not null
+    /// @param lifecycleCoordinator  per-node lifecycle processor, not null
+    /// @param actionExecutor        executor for executable actions, may be null
+    /// @param templateResolver      resolver for `{variable}` syntax in prompts, not null
+    /// @param workflowRepository    repository for loading sub-workflow definitions, may be null
+    /// @param toolRegistry          registry for discovering available tools, may be null
+    /// @param agentPermits          per-model bound on in-flight agent calls, not null
+    /// @param responseCache         responses of agents that opt into caching, not null
+    public WorkflowExecutor(
+            NodeExecutorRegistry nodeExecutorRegistry,
+            AgentRegistry agentRegistry,
+            RubricEngine rubricEngine,
+            NodeLifecycleCoordinator lifecycleCoordinator,
+            ActionExecutor actionExecutor,
+            TemplateResolver templateResolver,
+            WorkflowRepository workflowRepository,
+            ToolRegistry toolRegistry,
+            AgentPermits agentPermits,
+            ResponseCache responseCache) {
         this.nodeExecutorRegistry = nodeExecutorRegistry;
         this.agentRegistry = agentRegistry;
         this.rubricEngine = rubricEngine;
@@ -95,6 +169,9 @@ public class WorkflowExecutor {
         this.templateResolver = templateResolver;
         this.workflowRepository = workflowRepository;
         this.toolRegistry = toolRegistry;
+        this.agentPermits = Objects.requireNonNull(agentPermits, "agentPermits must not be null");
+        this.responseCache =
+                Objects.requireNonNull(responseCache, "responseCache must not be null");
     }
 
     /// Executes a workflow without observability listener.
@@ -202,6 +279,7 @@ public class WorkflowExecutor {
     /// Advances the node pointer and delegates per-node processing to
     /// {@link NodeLifecycleCoordinator#processNode}. Exits when the
     /// coordinator returns a terminal result or the boundary node is reached.
+    /// Nodes are looked up in the workflow's {@link ExecutionPlan}, compiled on first use.
     ///
     /// @param state          current workflow state with position, not null
     /// @param workflow       workflow definition, not null
@@ -214,6 +292,7 @@ public class WorkflowExecutor {
             throws Exception {
 
         ExecutionContext context = createExecutionContext(state, workflow, listener);
+        ExecutionPlan plan = workflow.getExecutionPlan();
 
         while (true) {
             String currentNodeId = state.getCurrentNode();
@@ -222,7 +301,12 @@ public class WorkflowExecutor {
                 return new ExecutionResult.Completed(state, ExitStatus.SUCCESS);
             }
 
-            Node node = workflow.getNodes().get(currentNodeId);
+            // A sub-flow cancelled by its fork's joiner stops before starting another node
+            if (boundaryNodeId != null && Thread.currentThread().isInterrupted()) {
+                throw new InterruptedException("Sub-flow cancelled before node: " + currentNodeId);
+            }
+
+            Node node = plan.node(currentNodeId);
             if (node == null) {
                 throw new IllegalStateException("Node not found: " + currentNodeId);
             }
@@ -249,6 +333,8 @@ public class WorkflowExecutor {
                 .workflowRepository(workflowRepository)
                 .rubricEngine(rubricEngine)
                 .toolRegistry(toolRegistry)
+                .agentPermits(agentPermits)
+                .responseCache(responseCache)
                 .build();
     }
 
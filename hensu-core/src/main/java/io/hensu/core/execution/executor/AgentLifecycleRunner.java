@@ -1,12 +1,24 @@
 package io.hensu.core.execution.executor;
 
 import io.hensu.core.agent.Agent;
+import io.hensu.core.agent.AgentConfig;
+import io.hensu.core.agent.AgentPermits;
 import io.hensu.core.agent.AgentResponse;
+import io.hensu.core.agent.StreamingCapable;
+import io.hensu.core.agent.cache.ResponseCache;
+import io.hensu.core.agent.cache.ResponseCacheKey;
+import io.hensu.core.agent.memory.MemoryCapable;
 import io.hensu.core.execution.ExecutionListener;
 import io.hensu.core.execution.enricher.EngineVariablePromptEnricher;
 import io.hensu.core.execution.result.ResultStatus;
 import io.hensu.core.workflow.node.Node;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 /// Stateless runner encapsulating the core agent execution lifecycle.
@@ -18,8 +30,15 @@ import java.util.logging.Logger;
 /// 2. Prompt enrichment – inject engine variable and yield field requirements
 /// 3. Agent lookup – resolve the agent instance from the registry
 /// 4. Listener notification – fire {@code onAgentStart} / {@code onAgentComplete}
-/// 5. Agent execution – call the LLM
-/// 6. Response conversion – map {@link AgentResponse} to {@link NodeResult}
+/// 5. Agent execution – call the LLM while holding a permit of the agent's model,
+///    forwarding output of {@link StreamingCapable} agents to {@code onAgentOutputDelta},
+///    or serve the answer from the {@link ResponseCache} for agents that opt into caching
+/// 6. Memory summary – write the conversation summary the call left due in a
+///    {@link MemoryCapable} agent's memory, once the call's permit is released
+/// 7. Response conversion – map {@link AgentResponse} to {@link NodeResult}
+///
+/// Calls of agents with a response cache TTL record the lookup outcome under
+/// {@value #CACHE_METADATA_KEY} (`hit` or `miss`) in the result metadata.
 ///
 /// This class owns **only** the agent call path. Output validation, output
 /// extraction (writes / yields), transition resolution, and history recording
@@ -31,6 +50,9 @@ final class AgentLifecycleRunner {
 
     private static final Logger logger = Logger.getLogger(AgentLifecycleRunner.class.getName());
 
+    /// Result metadata key recording whether a cacheable call was served from the cache.
+    static final String CACHE_METADATA_KEY = "responseCache";
+
     private AgentLifecycleRunner() {}
 
     /// Executes the full agent call lifecycle and returns the raw result.
@@ -75,17 +97,139 @@ final class AgentLifecycleRunner {
                                     String.valueOf(result.getOutput()), result.getMetadata())
                             : AgentResponse.Error.of(String.valueOf(result.getOutput()));
             listener.onAgentComplete(eventSourceId, agentId, syntheticResponse);
+            summarizeMemory(agent, ctx);
             return result;
         }
 
         // 4. Standard path: no tools declared
         ExecutionListener listener = ctx.getListener();
         listener.onAgentStart(eventSourceId, agentId, resolved);
-        AgentResponse response = agent.execute(resolved, ctx.getState().getContext());
+        Map<String, Object> context = ctx.getState().getContext();
+
+        Duration cacheTtl = cacheTtl(agent.getConfig());
+        String cacheKey =
+                cacheTtl != null ? ResponseCacheKey.of(agent.getConfig(), resolved, context) : null;
+        if (cacheKey != null) {
+            Optional<ResponseCache.Entry> cached = lookup(ctx.getResponseCache(), cacheKey);
+            if (cached.isPresent()) {
+                AgentResponse.TextResponse hit = cached.get().response();
+                if (agent instanceof StreamingCapable) {
+                    listener.onAgentOutputDelta(eventSourceId, agentId, hit.content());
+                }
+                listener.onAgentComplete(eventSourceId, agentId, hit);
+                return withCacheStatus(toNodeResult(hit), "hit");
+            }
+        }
+
+        Supplier<AgentResponse> call =
+                agent instanceof StreamingCapable streaming
+                        ? () ->
+                                streaming.executeStreaming(
+                                        resolved,
+                                        context,
+                                        outputDeltas(listener, eventSourceId, agentId))
+                        : () -> agent.execute(resolved, context);
+        AgentResponse response = callWithPermit(agent, ctx, call);
         listener.onAgentComplete(eventSourceId, agentId, response);
+        summarizeMemory(agent, ctx);
+
+        if (cacheKey == null) {
+            // 5. Response conversion
+            return toNodeResult(response);
+        }
+        if (response instanceof AgentResponse.TextResponse text) {
+            store(ctx.getResponseCache(), cacheKey, text, cacheTtl);
+        }
+        return withCacheStatus(toNodeResult(response), "miss");
+    }
+
+    /// Returns the TTL of a cacheable agent, or null if its calls must not be cached.
+    ///
+    /// Agents that maintain context answer from their conversation history as well as the
+    /// prompt, so identical prompts do not imply identical answers; they are never cached.
+    private static Duration cacheTtl(AgentConfig config) {
+        if (config == null || config.isMaintainContext()) {
+            return null;
+        }
+        Duration ttl = config.getResponseCacheTtl();
+        return ttl != null && ttl.isPositive() ? ttl : null;
+    }
+
+    /// Looks up a cached response; a failing cache is treated as a miss.
+    private static Optional<ResponseCache.Entry> lookup(ResponseCache cache, String key) {
+        try {
+            return cache.get(key);
+        } catch (RuntimeException e) {
+            logger.warning("Response cache lookup failed: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
 
-        // 5. Response conversion
-        return toNodeResult(response);
+    /// Stores a fresh response; a failing cache only loses the entry.
+    private static void store(
+            ResponseCache cache, String key, AgentResponse.TextResponse response, Duration ttl) {
+        try {
+            cache.put(key, new ResponseCache.Entry(response, Instant.now().plus(ttl)));
+        } catch (RuntimeException e) {
+            logger.warning("Response cache store failed: " + e.getMessage());
+        }
+    }
+
+    private static NodeResult withCacheStatus(NodeResult result, String status) {
+        Map<String, Object> metadata = new HashMap<>(result.getMetadata());
+        metadata.put(CACHE_METADATA_KEY, status);
+        return new NodeResult(result.getStatus(), result.getOutput(), metadata);
+    }
+
+    /// Makes one LLM call while holding a permit of the agent's model.
+    ///
+    /// Permits are shared by every execution on this engine, see {@link AgentPermits}. A
+    /// caller interrupted while queuing gets an error response with its interrupt status
+    /// restored, so cancelled branches give up their place in the queue. An agent backing
+    /// off from a throttled call lends the permit out while it sleeps, see
+    /// {@link AgentPermits#sleepReleased}.
+    ///
+    /// @param agent the agent whose model is called, not null
+    /// @param ctx   execution context carrying the permit pool and execution id, not null
+    /// @param call  the LLM call, not null
+    /// @return the call's response, or an error if interrupted while waiting, never null
+    static AgentResponse callWithPermit(
+            Agent agent, ExecutionContext ctx, Supplier<AgentResponse> call) {
+        String model =
+                agent.getConfig() != null && agent.getConfig().getModel() != null
+                        ? agent.getConfig().getModel()
+                        : agent.getId();
+        try (AgentPermits.Permit _ =
+                ctx.getAgentPermits().acquire(model, ctx.getState().getExecutionId())) {
+            return call.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return AgentResponse.Error.of("Interrupted while waiting for a '" + model + "' permit");
+        }
+    }
+
+    /// Writes the conversation summary due in `agent`'s memory, if any.
+    ///
+    /// Runs after the call's permit is released; the summarizer agent's call takes a permit
+    /// of its own model.
+    private static void summarizeMemory(Agent agent, ExecutionContext ctx) {
+        if (agent instanceof MemoryCapable capable) {
+            capable.getConversationMemory()
+                    .summarizePending(
+                            ctx.getState().getContext(),
+                            (summarizer, call) -> callWithPermit(summarizer, ctx, call));
+        }
+    }
+
+    /// Returns the sink that forwards streamed output fragments to the listener.
+    ///
+    /// @param listener      the execution listener, not null
+    /// @param eventSourceId identifier used in listener events, not null
+    /// @param agentId       identifier of the streaming agent, not null
+    /// @return fragment consumer, never null
+    static Consumer<String> outputDeltas(
+            ExecutionListener listener, String eventSourceId, String agentId) {
+        return delta -> listener.onAgentOutputDelta(eventSourceId, agentId, delta);
     }
 
     private static NodeResult toNodeResult(AgentResponse response) {
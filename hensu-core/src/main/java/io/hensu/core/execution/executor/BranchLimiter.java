@@ -0,0 +1,59 @@
+package io.hensu.core.execution.executor;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+
+/// Caps how many subtasks of one fan-out node run at once.
+///
+/// Shared by {@link ParallelNodeExecutor} and {@link ForkNodeExecutor}. Every subtask is
+/// still forked up front, so results keep their declaration order and early completion
+/// still sees all of them; a bounded subtask simply waits for a free slot before doing any
+/// work. Slots are handed out first-come first-served, so in practice branches start
+/// roughly in declaration order.
+///
+/// This limit is local to one node execution. The engine-wide, per-model bound on agent
+/// calls is {@link io.hensu.core.agent.AgentPermits}.
+///
+/// @implNote Package-private. Thread-safe; one instance per node execution.
+final class BranchLimiter {
+
+    private static final BranchLimiter UNBOUNDED = new BranchLimiter(null);
+
+    private final Semaphore slots;
+
+    private BranchLimiter(Semaphore slots) {
+        this.slots = slots;
+    }
+
+    /// Returns a limiter allowing `maxConcurrency` subtasks at once.
+    ///
+    /// @param maxConcurrency concurrent subtasks allowed, `0` for unbounded
+    /// @return limiter, never null
+    static BranchLimiter of(int maxConcurrency) {
+        return maxConcurrency > 0
+                ? new BranchLimiter(new Semaphore(maxConcurrency, true))
+                : UNBOUNDED;
+    }
+
+    /// Wraps a subtask so that it holds a slot while it runs.
+    ///
+    /// A subtask interrupted while waiting for its slot — because the scope was cancelled —
+    /// fails with {@link InterruptedException} without running.
+    ///
+    /// @param task the subtask body, not null
+    /// @param <T> the subtask result type
+    /// @return the bounded subtask, or `task` itself when unbounded
+    <T> Callable<T> bound(Callable<T> task) {
+        if (slots == null) {
+            return task;
+        }
+        return () -> {
+            slots.acquire();
+            try {
+                return task.call();
+            } finally {
+                slots.release();
+            }
+        };
+    }
+}
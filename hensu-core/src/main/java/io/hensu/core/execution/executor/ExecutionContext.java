@@ -1,6 +1,8 @@
 package io.hensu.core.execution.executor;
 
+import io.hensu.core.agent.AgentPermits;
 import io.hensu.core.agent.AgentRegistry;
+import io.hensu.core.agent.cache.ResponseCache;
 import io.hensu.core.execution.ExecutionListener;
 import io.hensu.core.execution.WorkflowExecutor;
 import io.hensu.core.execution.action.ActionExecutor;
@@ -31,6 +33,8 @@ import io.hensu.core.workflow.WorkflowRepository;
 /// - `actionExecutor` - For command/action execution
 /// - `rubricEngine` - For rubric-based quality evaluation
 /// - `workflowRepository` - For loading sub-workflow definitions
+/// - `agentPermits` - Engine-wide bound on in-flight agent calls (unbounded by default)
+/// - `responseCache` - Responses of agents that opt into caching (none by default)
 ///
 /// @implNote Immutable after construction. Thread-safe for read access.
 /// Modified copies can be created via {@link #withState}, {@link #withListener},
@@ -57,6 +61,8 @@ public final class ExecutionContext {
     private final RubricEngine rubricEngine;
     private final WorkflowRepository workflowRepository;
     private final ToolRegistry toolRegistry;
+    private final AgentPermits agentPermits;
+    private final ResponseCache responseCache;
 
     private ExecutionContext(Builder builder) {
         this.state = builder.state;
@@ -71,6 +77,8 @@ public final class ExecutionContext {
         this.rubricEngine = builder.rubricEngine;
         this.workflowRepository = builder.workflowRepository;
         this.toolRegistry = builder.toolRegistry;
+        this.agentPermits = builder.agentPermits;
+        this.responseCache = builder.responseCache;
     }
 
     /// Returns the current workflow execution state.
@@ -154,6 +162,22 @@ public final class ExecutionContext {
         return toolRegistry;
     }
 
+    /// Returns the engine-wide permit pool every agent call must hold a permit of.
+    ///
+    /// @return agent permits, never null (unbounded unless configured)
+    /// @see AgentPermits
+    public AgentPermits getAgentPermits() {
+        return agentPermits;
+    }
+
+    /// Returns the cache consulted for agents with a response cache TTL.
+    ///
+    /// @return response cache, never null ({@link ResponseCache#NONE} unless configured)
+    /// @see io.hensu.core.agent.AgentConfig#getResponseCacheTtl()
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
     /// Returns the branch execution configuration, if executing inside a parallel branch.
     ///
     /// Non-null only during branch execution within {@code ParallelNodeExecutor}.
@@ -194,6 +218,8 @@ public final class ExecutionContext {
                 .rubricEngine(this.rubricEngine)
                 .workflowRepository(this.workflowRepository)
                 .toolRegistry(this.toolRegistry)
+                .agentPermits(this.agentPermits)
+                .responseCache(this.responseCache)
                 .build();
     }
 
@@ -218,6 +244,8 @@ public final class ExecutionContext {
                 .rubricEngine(this.rubricEngine)
                 .workflowRepository(this.workflowRepository)
                 .toolRegistry(this.toolRegistry)
+                .agentPermits(this.agentPermits)
+                .responseCache(this.responseCache)
                 .build();
     }
 
@@ -242,6 +270,8 @@ public final class ExecutionContext {
                 .rubricEngine(this.rubricEngine)
                 .workflowRepository(this.workflowRepository)
                 .toolRegistry(this.toolRegistry)
+                .agentPermits(this.agentPermits)
+                .responseCache(this.responseCache)
                 .build();
     }
 
@@ -263,6 +293,8 @@ public final class ExecutionContext {
         private RubricEngine rubricEngine;
         private WorkflowRepository workflowRepository;
         private ToolRegistry toolRegistry;
+        private AgentPermits agentPermits = AgentPermits.unbounded();
+        private ResponseCache responseCache = ResponseCache.NONE;
 
         private Builder() {}
 
@@ -326,6 +358,16 @@ public final class ExecutionContext {
             return this;
         }
 
+        public Builder agentPermits(AgentPermits agentPermits) {
+            this.agentPermits = agentPermits != null ? agentPermits : AgentPermits.unbounded();
+            return this;
+        }
+
+        public Builder responseCache(ResponseCache responseCache) {
+            this.responseCache = responseCache != null ? responseCache : ResponseCache.NONE;
+            return this;
+        }
+
         public ExecutionContext build() {
             if (state == null) {
                 throw new IllegalStateException("state is required");
@@ -4,6 +4,7 @@ import io.hensu.core.execution.ExecutionListener;
 import io.hensu.core.execution.SynchronizedListenerDecorator;
 import io.hensu.core.execution.WorkflowExecutor;
 import io.hensu.core.execution.parallel.BranchResult;
+import io.hensu.core.execution.parallel.EarlyCompletionJoiner;
 import io.hensu.core.execution.parallel.FailureMarker;
 import io.hensu.core.execution.result.BacktrackEvent;
 import io.hensu.core.execution.result.ExecutionHistory;
@@ -12,20 +13,18 @@ import io.hensu.core.execution.result.ExecutionStep;
 import io.hensu.core.execution.result.ResultStatus;
 import io.hensu.core.state.HensuState;
 import io.hensu.core.util.JsonUtil;
+import io.hensu.core.workflow.ExecutionPlan;
 import io.hensu.core.workflow.Workflow;
 import io.hensu.core.workflow.node.ForkNode;
 import io.hensu.core.workflow.node.JoinNode;
 import io.hensu.core.workflow.node.MergeStrategy;
 import io.hensu.core.workflow.node.Node;
-import io.hensu.core.workflow.transition.SuccessTransition;
 import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.concurrent.StructuredTaskScope;
 import java.util.concurrent.StructuredTaskScope.Subtask;
 import java.util.logging.Logger;
@@ -59,6 +58,19 @@ import java.util.stream.Collectors;
 /// {@link MergeStrategy}, and folds each branch's execution history back into the
 /// parent in target-declaration order.
 ///
+/// ### Early completion
+///
+/// With {@link MergeStrategy#FIRST_SUCCESSFUL} the scope is cancelled once a sub-flow has
+/// succeeded and every sub-flow declared before it has finished, since the merged output
+/// can no longer change. Later sub-flows are interrupted: they stop before their next node
+/// and their LLM calls are abandoned. They are listed under `cancelled_branches` in the
+/// result metadata and contribute no history.
+///
+/// ### Concurrency limits
+///
+/// {@link ForkNode#getMaxConcurrency()} caps how many sub-flows run at once via
+/// {@link BranchLimiter}; the others are forked but wait for a slot before their first node.
+///
 /// ### Recovery boundary
 ///
 /// Branch states are not checkpointed — see
@@ -88,6 +100,7 @@ public class ForkNodeExecutor implements NodeExecutor<ForkNode> {
     static final String MERGE_STRATEGY = "merge_strategy";
     static final String TARGET_COUNT = "target_count";
     static final String FAILED_BRANCHES = "failed_branches";
+    static final String CANCELLED_BRANCHES = "cancelled_branches";
     static final String EXECUTION_TIME_MS = "execution_time_ms";
 
     @Override
@@ -101,8 +114,9 @@ public class ForkNodeExecutor implements NodeExecutor<ForkNode> {
         Workflow workflow = context.getWorkflow();
         WorkflowExecutor workflowExecutor = context.getWorkflowExecutor();
 
-        // Resolve join node from fork's success transition
-        JoinNode joinNode = resolveJoinNode(node, workflow);
+        // Join node of the fork's success transition, resolved when the plan was compiled
+        ExecutionPlan plan = workflow.getExecutionPlan();
+        JoinNode joinNode = plan.joinOf(node);
         String joinNodeId = joinNode.getId();
         MergeStrategy mergeStrategy = joinNode.getMergeStrategy();
         List<String> exports = joinNode.getExports();
@@ -127,13 +141,21 @@ public class ForkNodeExecutor implements NodeExecutor<ForkNode> {
         int parentSteps = state.getHistory().getSteps().size();
         int parentBacktracks = state.getHistory().getBacktracks().size();
 
+        // FIRST_SUCCESSFUL stops waiting once its pick is fixed; later sub-flows are
+        // interrupted and reported in metadata.
+        StructuredTaskScope.Joiner<SubFlowOutcome, Void> joiner =
+                mergeStrategy == MergeStrategy.FIRST_SUCCESSFUL
+                        ? new EarlyCompletionJoiner<>(ForkNodeExecutor::firstSuccessDecided)
+                        : StructuredTaskScope.Joiner.awaitAll();
+
         // Fork sub-flows using StructuredTaskScope
-        List<SubFlowOutcome> outcomes;
+        List<SubFlowOutcome> outcomes = new ArrayList<>();
         List<BranchResult> branchResults;
+        List<String> cancelled = new ArrayList<>();
         var threadFactory = Thread.ofVirtual().name("fork-" + node.getId() + "-", 0).factory();
         try (var scope =
                 StructuredTaskScope.open(
-                        StructuredTaskScope.Joiner.awaitAll(),
+                        joiner,
                         cf -> {
                             cf =
                                     cf.withThreadFactory(threadFactory)
@@ -143,31 +165,47 @@ public class ForkNodeExecutor implements NodeExecutor<ForkNode> {
                                     : cf;
                         })) {
 
+            BranchLimiter limiter = BranchLimiter.of(node.getMaxConcurrency());
             List<Subtask<SubFlowOutcome>> subtasks = new ArrayList<>();
+            List<String> forkedTargets = new ArrayList<>();
 
             for (String targetId : node.getTargets()) {
-                Node targetNode = workflow.getNodes().get(targetId);
+                Node targetNode = plan.node(targetId);
                 if (targetNode == null) {
                     logger.warning("Fork target node not found: " + targetId);
                     continue;
                 }
 
+                // Fork on this thread: branching freezes the parent's shared context nodes
+                HensuState branchState = state.branch(targetId);
+                forkedTargets.add(targetId);
                 subtasks.add(
                         scope.fork(
-                                () ->
-                                        executeSubFlow(
-                                                targetId,
-                                                joinNodeId,
-                                                exports,
-                                                state,
-                                                workflow,
-                                                workflowExecutor,
-                                                safeListener)));
+                                limiter.bound(
+                                        () ->
+                                                executeSubFlow(
+                                                        targetId,
+                                                        joinNodeId,
+                                                        exports,
+                                                        branchState,
+                                                        workflow,
+                                                        workflowExecutor,
+                                                        safeListener))));
             }
 
             scope.join();
 
-            outcomes = subtasks.stream().map(Subtask::get).toList();
+            for (int i = 0; i < subtasks.size(); i++) {
+                Subtask<SubFlowOutcome> subtask = subtasks.get(i);
+                if (subtask.state() == Subtask.State.UNAVAILABLE) {
+                    cancelled.add(forkedTargets.get(i));
+                } else {
+                    outcomes.add(subtask.get());
+                }
+            }
+        }
+        if (!cancelled.isEmpty()) {
+            logger.info("Fork '" + node.getId() + "' decided early, cancelled: " + cancelled);
         }
 
         mergeBranchHistories(state, outcomes, parentSteps, parentBacktracks);
@@ -216,6 +254,9 @@ public class ForkNodeExecutor implements NodeExecutor<ForkNode> {
         metadata.put(JOIN_NODE_ID, joinNodeId);
         metadata.put(TARGET_COUNT, node.getTargets().size());
         metadata.put(MERGE_STRATEGY, mergeStrategy.name());
+        if (!cancelled.isEmpty()) {
+            metadata.put(CANCELLED_BRANCHES, cancelled);
+        }
 
         return NodeResult.builder()
                 .status(ResultStatus.SUCCESS)
@@ -236,52 +277,43 @@ public class ForkNodeExecutor implements NodeExecutor<ForkNode> {
     /// ### Yields isolation
     ///
     /// Fork/join sub-flows have no explicit {@code yields()} declarations
-    /// (unlike parallel branches). Instead, yields are derived by diffing
-    /// the branch state against the parent snapshot: only keys that were
-    /// **added or mutated** by the sub-flow pipeline are collected. Engine
+    /// (unlike parallel branches). Instead, yields are the branch context's
+    /// {@link io.hensu.core.state.ContextMap#changes()}: only keys the sub-flow
+    /// pipeline wrote with a **new or different** value are collected. Engine
     /// internals ({@code _}-prefixed keys, {@code current_node}) are always
     /// stripped – they must never reach merge strategies or the LLM.
     private SubFlowOutcome executeSubFlow(
             String targetId,
             String joinNodeId,
             List<String> exports,
-            HensuState parentState,
+            HensuState branchState,
             Workflow workflow,
             WorkflowExecutor workflowExecutor,
             ExecutionListener listener) {
 
         long startTime = System.currentTimeMillis();
 
-        // Snapshot parent context before branching for post-execution diff.
-        // Collections.unmodifiableMap (not Map.copyOf) – context may contain null values.
-        @SuppressWarnings("Java9CollectionFactory")
-        Map<String, Object> parentSnapshot =
-                Collections.unmodifiableMap(new HashMap<>(parentState.getContext()));
-
         try {
             logger.info("Sub-flow starting: " + targetId);
 
-            HensuState branchState = parentState.branch(targetId);
             ExecutionResult result =
                     workflowExecutor.executeUntil(joinNodeId, branchState, workflow, listener);
 
             long elapsed = System.currentTimeMillis() - startTime;
             logger.info("Sub-flow completed: " + targetId + " in " + elapsed + "ms");
 
-            // Diff branch state against parent: collect only new or mutated keys.
+            // New or changed keys from the branch's own write set.
             // Engine-internal keys are stripped – they must not leak to merge output.
             // If exports whitelist is non-empty, only whitelisted keys cross the boundary.
             Map<String, Object> yields = new HashMap<>();
             branchState
                     .getContext()
+                    .changes()
                     .forEach(
                             (key, value) -> {
                                 if (key.startsWith("_") || key.equals("current_node")) return;
                                 if (!exports.isEmpty() && !exports.contains(key)) return;
-                                if (!parentSnapshot.containsKey(key)
-                                        || !Objects.equals(parentSnapshot.get(key), value)) {
-                                    yields.put(key, value);
-                                }
+                                yields.put(key, value);
                             });
 
             ResultStatus status =
@@ -362,41 +394,6 @@ public class ForkNodeExecutor implements NodeExecutor<ForkNode> {
         }
     }
 
-    // -- Join node resolution -------------------------------------------------
-
-    /// Resolves the JoinNode from the fork node's success transition.
-    ///
-    /// The fork's {@code onComplete goto "join-id"} creates a {@link SuccessTransition}
-    /// pointing to the join node. This method finds that transition and resolves
-    /// the target node from the workflow.
-    private JoinNode resolveJoinNode(ForkNode forkNode, Workflow workflow) {
-        String joinNodeId =
-                forkNode.getTransitionRules().stream()
-                        .filter(SuccessTransition.class::isInstance)
-                        .map(SuccessTransition.class::cast)
-                        .map(SuccessTransition::getTargetNode)
-                        .findFirst()
-                        .orElseThrow(
-                                () ->
-                                        new IllegalStateException(
-                                                "ForkNode '"
-                                                        + forkNode.getId()
-                                                        + "' has no success transition to a join node"));
-
-        Node target = workflow.getNodes().get(joinNodeId);
-        if (!(target instanceof JoinNode joinNode)) {
-            throw new IllegalStateException(
-                    "ForkNode '"
-                            + forkNode.getId()
-                            + "' success transition '"
-                            + joinNodeId
-                            + "' does not point to a JoinNode (got "
-                            + (target != null ? target.getClass().getSimpleName() : "null")
-                            + ")");
-        }
-        return joinNode;
-    }
-
     // -- Merge strategies (moved from JoinNodeExecutor) -----------------------
 
     /// Merges sub-flow results according to the specified strategy.
@@ -426,6 +423,19 @@ public class ForkNodeExecutor implements NodeExecutor<ForkNode> {
         return output;
     }
 
+    /// FIRST_SUCCESSFUL is decided once a sub-flow succeeded and every sub-flow declared
+    /// before it has finished: later sub-flows can no longer become the first success.
+    ///
+    /// @param outcomes outcomes in target-declaration order, `null` while still running
+    /// @return true if pending sub-flows cannot change the merged output
+    private static boolean firstSuccessDecided(List<SubFlowOutcome> outcomes) {
+        for (SubFlowOutcome outcome : outcomes) {
+            if (outcome == null) return false;
+            if (outcome.result().result().getStatus() == ResultStatus.SUCCESS) return true;
+        }
+        return false;
+    }
+
     /// FIRST_SUCCESSFUL: yields from the first successful branch.
     private Map<String, Object> firstSuccessful(List<BranchResult> results) {
         for (BranchResult br : results) {
@@ -447,7 +457,7 @@ public class ForkNodeExecutor implements NodeExecutor<ForkNode> {
 
     /// MERGE_MAPS: all successful branch yields merged into one map.
     /// Values are stored as structured types –
-    /// {@link io.hensu.core.template.SimpleTemplateResolver}
+    /// {@link io.hensu.core.template.CompiledTemplate}
     /// serializes Maps/Collections to JSON on demand during template resolution.
     private Map<String, Object> mergeMaps(List<BranchResult> results) {
         Map<String, Object> merged = new LinkedHashMap<>();
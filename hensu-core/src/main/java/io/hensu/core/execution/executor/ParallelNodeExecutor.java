@@ -7,13 +7,17 @@ import io.hensu.core.execution.SynchronizedListenerDecorator;
 import io.hensu.core.execution.parallel.*;
 import io.hensu.core.execution.result.ExecutionHistory;
 import io.hensu.core.execution.result.ResultStatus;
+import io.hensu.core.state.ContextMap;
 import io.hensu.core.state.HensuState;
+import io.hensu.core.template.CompiledTemplate;
+import io.hensu.core.template.EncodedValues;
 import io.hensu.core.template.TemplateResolver;
 import io.hensu.core.util.AgentOutputValidator;
 import io.hensu.core.util.JsonUtil;
 import io.hensu.core.workflow.node.ParallelNode;
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.Callable;
 import java.util.concurrent.StructuredTaskScope;
 import java.util.concurrent.StructuredTaskScope.Subtask;
 import java.util.logging.Logger;
@@ -22,9 +26,10 @@ import java.util.stream.Collectors;
 /// Executes parallel nodes by running multiple branches concurrently.
 ///
 /// ### Branch isolation
-/// Each branch runs on its own virtual thread with an isolated context snapshot
-/// bound via {@link ScopedValue}. Branch mutations never leak into sibling
-/// branches or the parent state.
+/// Each branch runs on its own virtual thread with an O(1)
+/// {@linkplain ContextMap#fork() fork} of the parent context, bound via
+/// {@link ScopedValue}. Branch mutations never leak into sibling branches or the
+/// parent state.
 ///
 /// ### Agent lifecycle delegation
 /// Branch agent execution is delegated to {@link AgentLifecycleRunner}, sharing
@@ -43,6 +48,18 @@ import java.util.stream.Collectors;
 /// {@code state.getContext()}. Loser yields are preserved in consensus metadata
 /// for observability but never touch the live context.
 ///
+/// ### Early completion
+/// With {@link ConsensusStrategy#MAJORITY_VOTE} or {@link ConsensusStrategy#UNANIMOUS}, the
+/// scope is cancelled as soon as {@link ConsensusEvaluator#isDecided} reports that no
+/// pending branch can change the outcome. Pending branches are interrupted, which stops
+/// their LLM calls, and are listed under `cancelled_branches` in the result metadata.
+/// Their yields never reach the context.
+///
+/// ### Concurrency limits
+/// {@link ParallelNode#getMaxConcurrency()} caps how many branches run at once via
+/// {@link BranchLimiter}. Independently, every branch LLM call holds a permit of the
+/// engine-wide {@link io.hensu.core.agent.AgentPermits} pool for its model.
+///
 /// ### Branch execution metadata
 /// Branch-specific config (consensus flag, yield declarations) is carried on
 /// {@link ExecutionContext#getBranchConfig()} – NOT in the state context map.
@@ -92,28 +109,53 @@ public class ParallelNodeExecutor implements NodeExecutor<ParallelNode> {
         ExecutionContext safeContext =
                 context.withListener(new SynchronizedListenerDecorator(context.getListener()));
 
+        // Vote-based consensus stops waiting once the outcome is fixed; cancelled branches
+        // are interrupted and reported in metadata.
+        ConsensusConfig consensusConfig = node.getConsensusConfig();
+        StructuredTaskScope.Joiner<BranchResult, Void> joiner =
+                consensusConfig != null
+                        ? new EarlyCompletionJoiner<>(
+                                results -> consensusEvaluator.isDecided(consensusConfig, results))
+                        : StructuredTaskScope.Joiner.awaitAll();
+
         // Fork branches using StructuredTaskScope
-        List<BranchResult> branchResults;
+        List<BranchResult> branchResults = new ArrayList<>();
+        List<String> cancelled = new ArrayList<>();
         var threadFactory = Thread.ofVirtual().name("parallel-" + node.getId() + "-", 0).factory();
         try (var scope =
                 StructuredTaskScope.open(
-                        StructuredTaskScope.Joiner.awaitAll(),
+                        joiner,
                         cf ->
                                 cf.withThreadFactory(threadFactory)
                                         .withTimeout(Duration.ofSeconds(DEFAULT_TIMEOUT_SECONDS))
                                         .withName("parallel-" + node.getId()))) {
 
-            List<Subtask<BranchResult>> subtasks =
-                    Arrays.stream(node.getBranches())
-                            .map(
-                                    branch ->
-                                            scope.fork(
-                                                    () -> executeBranch(branch, node, safeContext)))
-                            .toList();
+            // Fork contexts on this thread: forking freezes the parent's shared nodes.
+            // Branches share the JSON encodings of context values their prompts reference.
+            EncodedValues encoded = new EncodedValues();
+            BranchLimiter limiter = BranchLimiter.of(node.getMaxConcurrency());
+            List<Subtask<BranchResult>> subtasks = new ArrayList<>();
+            for (Branch branch : node.getBranches()) {
+                ContextMap branchContext = state.getContext().fork();
+                Callable<BranchResult> task =
+                        () -> executeBranch(branch, branchContext, encoded, node, safeContext);
+                subtasks.add(scope.fork(limiter.bound(task)));
+            }
 
             scope.join();
 
-            branchResults = subtasks.stream().map(Subtask::get).toList();
+            Branch[] branches = node.getBranches();
+            for (int i = 0; i < subtasks.size(); i++) {
+                Subtask<BranchResult> subtask = subtasks.get(i);
+                if (subtask.state() == Subtask.State.UNAVAILABLE) {
+                    cancelled.add(branches[i].getId());
+                } else {
+                    branchResults.add(subtask.get());
+                }
+            }
+        }
+        if (!cancelled.isEmpty()) {
+            logger.info("Consensus decided early, cancelled branches: " + cancelled);
         }
 
         if (branchResults.stream()
@@ -135,7 +177,8 @@ public class ParallelNodeExecutor implements NodeExecutor<ParallelNode> {
                             branchResults,
                             state,
                             context.getAgentRegistry(),
-                            safeContext.getListener());
+                            safeContext.getListener(),
+                            cancelled);
         } else {
             finalResult = aggregateResults(branchResults);
         }
@@ -151,11 +194,16 @@ public class ParallelNodeExecutor implements NodeExecutor<ParallelNode> {
     /// The branch context is isolated via {@link ScopedValue} binding. Agent
     /// execution is delegated to {@link AgentLifecycleRunner} (template resolution,
     /// prompt enrichment, listener events, response conversion). Branch-specific
-    /// concerns (output validation, yield extraction) remain here.
-    private BranchResult executeBranch(Branch branch, ParallelNode node, ExecutionContext context) {
+    /// concerns (output validation, yield extraction) remain here. `encoded` is shared by
+    /// all branches of the node so structured values are JSON-encoded once.
+    private BranchResult executeBranch(
+            Branch branch,
+            ContextMap branchSnapshot,
+            EncodedValues encoded,
+            ParallelNode node,
+            ExecutionContext context) {
 
         HensuState parentState = context.getState();
-        HashMap<String, Object> branchSnapshot = new HashMap<>(parentState.getContext());
 
         // Branch execution config on ExecutionContext – NOT in the context map.
         // This keeps engine flags invisible to the LLM agent.
@@ -183,12 +231,13 @@ public class ParallelNodeExecutor implements NodeExecutor<ParallelNode> {
                                 // Propagate current node for agent awareness.
                                 branchSnapshot.put("current_node", node.getId());
 
-                                // Resolve template against branch-isolated snapshot
+                                // Resolve the precompiled template against the
+                                // branch-isolated snapshot
                                 TemplateResolver resolver = branchCtx.getTemplateResolver();
+                                CompiledTemplate prompt = node.getCompiledPrompt(branch);
                                 String resolvedPrompt =
-                                        branch.getPrompt() != null
-                                                ? resolver.resolve(
-                                                        branch.getPrompt(), branchSnapshot)
+                                        prompt != null
+                                                ? resolver.resolve(prompt, branchSnapshot, encoded)
                                                 : "";
 
                                 // Clear stale branch yields after template resolution.
@@ -323,7 +372,8 @@ public class ParallelNodeExecutor implements NodeExecutor<ParallelNode> {
             List<BranchResult> branchResults,
             HensuState state,
             AgentRegistry agentRegistry,
-            ExecutionListener listener)
+            ExecutionListener listener,
+            List<String> cancelled)
             throws Exception {
 
         ConsensusResult consensusResult =
@@ -375,6 +425,9 @@ public class ParallelNodeExecutor implements NodeExecutor<ParallelNode> {
         if (!consensusResult.winningBranchIds().isEmpty()) {
             metadata.put("winning_branches", consensusResult.winningBranchIds());
         }
+        if (!cancelled.isEmpty()) {
+            metadata.put("cancelled_branches", cancelled);
+        }
         metadata.put(
                 "branch_results",
                 branchResults.stream()
@@ -28,16 +28,23 @@ public class StandardNodeExecutor implements NodeExecutor<StandardNode> {
 
         // Node-specific: prompt override for backtracked execution
         Object promptOverride = state.getContext().remove("_prompt_override");
-        String prompt = promptOverride != null ? promptOverride.toString() : node.getPrompt();
 
         logger.info("Executing node: " + node.getId() + " with agent: " + node.getAgentId());
 
         // Propagate current node ID into context for agent awareness
         state.getContext().put("current_node", node.getId());
 
-        // Resolve template while writes variables are still in context
+        // Resolve template while writes variables are still in context; the node's own
+        // prompt was compiled when the workflow was loaded
         TemplateResolver resolver = context.getTemplateResolver();
-        String resolved = prompt != null ? resolver.resolve(prompt, state.getContext()) : "";
+        String resolved;
+        if (promptOverride != null) {
+            resolved = resolver.resolve(promptOverride.toString(), state.getContext());
+        } else if (node.getCompiledPrompt() != null) {
+            resolved = resolver.resolve(node.getCompiledPrompt(), state.getContext());
+        } else {
+            resolved = "";
+        }
 
         // Remove stale output variables so they don't shadow this node's computation.
         // OutputExtractionPostProcessor will repopulate these with fresh values after execution.
@@ -10,9 +10,14 @@ import io.hensu.core.execution.result.ResultStatus;
 import io.hensu.core.tool.ToolCallResult;
 import io.hensu.core.tool.ToolDefinition;
 import io.hensu.core.tool.ToolRegistry;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.StructuredTaskScope.Subtask;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -24,12 +29,20 @@ import java.util.stream.Collectors;
 /// tool-request/tool-result rounds until the agent emits a terminal response
 /// or the tool call budget is exhausted.
 ///
+/// ### Tool rounds
+/// When the model requests several tools in one turn, the whole round is taken from the
+/// session and its calls run concurrently, at most `AgentConfig.maxParallelToolCalls` at a
+/// time (default 4). All results go back to the model in a single turn. The budget is
+/// charged per call: calls beyond what is left of it are answered with an exhaustion
+/// notice instead of running.
+///
 /// @implNote Package-private, stateless, no instances. Safe to call from any
 /// thread including Virtual Threads.
 final class ToolLoopRunner {
 
     private static final Logger logger = Logger.getLogger(ToolLoopRunner.class.getName());
     private static final int DEFAULT_MAX_TOOL_CALLS = 10;
+    private static final int DEFAULT_MAX_PARALLEL_TOOL_CALLS = 4;
 
     private ToolLoopRunner() {}
 
@@ -91,23 +104,40 @@ final class ToolLoopRunner {
                 toolCapable.openToolSession(
                         resolvedPrompt, ctx.getState().getContext(), availableTools);
 
+        Consumer<String> onDelta =
+                AgentLifecycleRunner.outputDeltas(ctx.getListener(), eventSourceId, agentId);
+        int parallelism =
+                agent.getConfig().getMaxParallelToolCalls() != null
+                        ? Math.max(1, agent.getConfig().getMaxParallelToolCalls())
+                        : DEFAULT_MAX_PARALLEL_TOOL_CALLS;
+
         try {
-            AgentResponse response = session.start();
+            // Permits are held per LLM round, never while a tool runs
+            AgentResponse response =
+                    AgentLifecycleRunner.callWithPermit(agent, ctx, () -> session.start(onDelta));
             int toolCallCount = 0;
 
             while (response instanceof AgentResponse.ToolRequest toolRequest) {
+                // A cancelled branch stops instead of paying for further rounds
+                if (Thread.currentThread().isInterrupted()) {
+                    return interrupted(toolCallCount);
+                }
+
+                // The whole round: every tool the model requested in this turn
+                List<AgentResponse.ToolRequest> round = new ArrayList<>();
+                round.add(toolRequest);
+                round.addAll(session.takePendingToolRequests());
+
                 // Budget check — count EXECUTED tool calls, not rounds
                 if (toolCallCount >= maxToolCalls) {
                     session.compact();
-                    ToolCallResult exhaustion =
-                            ToolCallResult.failure(
-                                    toolRequest.toolName(),
-                                    "Tool call budget exhausted ("
-                                            + toolCallCount
-                                            + "/"
-                                            + maxToolCalls
-                                            + "). Provide your final answer based on the tool results received so far.");
-                    response = session.submit(exhaustion);
+                    List<ToolCallResult> exhaustion = new ArrayList<>();
+                    for (AgentResponse.ToolRequest request : round) {
+                        exhaustion.add(budgetExhausted(request, toolCallCount, maxToolCalls));
+                    }
+                    response =
+                            AgentLifecycleRunner.callWithPermit(
+                                    agent, ctx, () -> session.submitAll(exhaustion, onDelta));
 
                     if (response instanceof AgentResponse.ToolRequest) {
                         return new NodeResult(
@@ -122,10 +152,29 @@ final class ToolLoopRunner {
                     break;
                 }
 
-                ToolCallResult result =
-                        executeTool(toolRequest, availableTools, actionExecutor, ctx);
-                toolCallCount++;
-                response = session.submit(result);
+                // Calls beyond the remaining budget are answered without running
+                int allowed = Math.min(round.size(), maxToolCalls - toolCallCount);
+                List<ToolCallResult> results = new ArrayList<>();
+                try {
+                    results.addAll(
+                            executeTools(
+                                    round.subList(0, allowed),
+                                    availableTools,
+                                    actionExecutor,
+                                    ctx,
+                                    eventSourceId,
+                                    parallelism));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return interrupted(toolCallCount);
+                }
+                toolCallCount += allowed;
+                for (AgentResponse.ToolRequest skipped : round.subList(allowed, round.size())) {
+                    results.add(budgetExhausted(skipped, toolCallCount, maxToolCalls));
+                }
+                response =
+                        AgentLifecycleRunner.callWithPermit(
+                                agent, ctx, () -> session.submitAll(results, onDelta));
             }
 
             return toNodeResult(response);
@@ -135,6 +184,72 @@ final class ToolLoopRunner {
         }
     }
 
+    private static NodeResult interrupted(int toolCallCount) {
+        return new NodeResult(
+                ResultStatus.FAILURE,
+                "Tool loop interrupted after " + toolCallCount + " tool calls",
+                Map.of());
+    }
+
+    private static ToolCallResult budgetExhausted(
+            AgentResponse.ToolRequest request, int toolCallCount, int maxToolCalls) {
+        return ToolCallResult.failure(
+                request.toolName(),
+                "Tool call budget exhausted ("
+                        + toolCallCount
+                        + "/"
+                        + maxToolCalls
+                        + "). Provide your final answer based on the tool results received so far.");
+    }
+
+    /// Runs the tool calls of one round, concurrently when there is more than one.
+    ///
+    /// Calls run on virtual threads in a structured scope, so they inherit the caller's
+    /// scoped values (tenant, branch) and never outlive the round. At most `parallelism`
+    /// run at once; the rest wait for a free slot.
+    ///
+    /// @return one result per request, in request order, never null
+    /// @throws InterruptedException if interrupted while waiting for the calls
+    private static List<ToolCallResult> executeTools(
+            List<AgentResponse.ToolRequest> requests,
+            List<ToolDefinition> availableTools,
+            ActionExecutor actionExecutor,
+            ExecutionContext ctx,
+            String eventSourceId,
+            int parallelism)
+            throws InterruptedException {
+        if (requests.size() == 1) {
+            return List.of(executeTool(requests.getFirst(), availableTools, actionExecutor, ctx));
+        }
+
+        var threadFactory = Thread.ofVirtual().name("tools-" + eventSourceId + "-", 0).factory();
+        try (var scope =
+                StructuredTaskScope.open(
+                        StructuredTaskScope.Joiner.<ToolCallResult>awaitAll(),
+                        cf -> cf.withThreadFactory(threadFactory))) {
+            BranchLimiter limiter = BranchLimiter.of(parallelism);
+            List<Subtask<ToolCallResult>> subtasks = new ArrayList<>();
+            for (AgentResponse.ToolRequest request : requests) {
+                Callable<ToolCallResult> call =
+                        () -> executeTool(request, availableTools, actionExecutor, ctx);
+                subtasks.add(scope.fork(limiter.bound(call)));
+            }
+
+            scope.join();
+
+            List<ToolCallResult> results = new ArrayList<>();
+            for (int i = 0; i < subtasks.size(); i++) {
+                Subtask<ToolCallResult> subtask = subtasks.get(i);
+                results.add(
+                        subtask.state() == Subtask.State.SUCCESS
+                                ? subtask.get()
+                                : ToolCallResult.failure(
+                                        requests.get(i).toolName(), "Tool call did not complete"));
+            }
+            return results;
+        }
+    }
+
     private static List<ToolDefinition> resolveTools(Agent agent, ExecutionContext ctx) {
         List<String> declaredNames = agent.getConfig().getTools();
         ToolRegistry registry = ctx.getToolRegistry();
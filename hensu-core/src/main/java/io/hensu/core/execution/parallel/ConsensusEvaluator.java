@@ -11,6 +11,7 @@ import io.hensu.core.util.JsonUtil;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.logging.Logger;
@@ -86,6 +87,43 @@ public class ConsensusEvaluator {
         };
     }
 
+    /// Returns whether a vote-based outcome is already fixed while branches are still running.
+    ///
+    /// - **MAJORITY_VOTE** – decided once approvals exceed the required count, or once the
+    ///   approvals so far plus every pending branch could no longer exceed it
+    /// - **UNANIMOUS** – decided at the first rejection
+    /// - **WEIGHTED_VOTE**, **JUDGE_DECIDES** – never decided early: pending scores are
+    ///   unbounded, and the judge reads every branch
+    ///
+    /// When this returns true, {@link #evaluate} over the completed results alone reaches the
+    /// same consensus as it would over all of them, so pending branches can be cancelled.
+    /// Stateless; safe to call from any thread.
+    ///
+    /// @param config consensus configuration, not null
+    /// @param results branch results in declaration order, `null` for branches still running;
+    ///     not null
+    /// @return true if no pending branch can change whether consensus is reached
+    public boolean isDecided(ConsensusConfig config, List<BranchResult> results) {
+        List<BranchResult> completed = results.stream().filter(Objects::nonNull).toList();
+        int pending = results.size() - completed.size();
+        if (pending == 0) return false;
+
+        Map<String, ConsensusResult.Vote> votes = extractVotes(completed, config);
+        long approveCount = votes.values().stream().filter(ConsensusResult.Vote::isApprove).count();
+        return switch (config.getStrategy()) {
+            case MAJORITY_VOTE -> {
+                double threshold =
+                        config.getThreshold() != null
+                                ? config.getThreshold()
+                                : DEFAULT_MAJORITY_THRESHOLD;
+                long required = (long) (results.size() * threshold);
+                yield approveCount > required || approveCount + pending <= required;
+            }
+            case UNANIMOUS -> approveCount < votes.size();
+            case WEIGHTED_VOTE, JUDGE_DECIDES -> false;
+        };
+    }
+
     /// Extracts votes from branch results using structured yields data.
     ///
     /// Reads {@code score} and {@code approved} directly from
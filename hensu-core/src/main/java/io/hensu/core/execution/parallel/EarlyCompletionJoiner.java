@@ -0,0 +1,60 @@
+package io.hensu.core.execution.parallel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.StructuredTaskScope.Joiner;
+import java.util.concurrent.StructuredTaskScope.Subtask;
+import java.util.function.Predicate;
+
+/// {@link Joiner} that cancels the scope as soon as the outcome over the results collected
+/// so far can no longer change.
+///
+/// After every subtask completes, the decision predicate receives the results of all
+/// forked subtasks in fork order, with `null` standing in for subtasks that have not
+/// completed successfully yet. Once it returns true the scope is cancelled: unfinished
+/// subtasks are interrupted, and their {@link Subtask#state()} stays
+/// {@link Subtask.State#UNAVAILABLE}. Callers treat those as cancelled.
+///
+/// Without an early decision it behaves like {@link Joiner#awaitAll()}.
+///
+/// @implNote Thread-safe. `onComplete` runs on the completing subtask's thread; calls are
+/// serialized so the predicate never sees two completions at once.
+///
+/// @param <T> the subtask result type
+public final class EarlyCompletionJoiner<T> implements Joiner<T, Void> {
+
+    private final Predicate<List<T>> decided;
+    private final List<Subtask<? extends T>> forked = new ArrayList<>();
+    private boolean cancelled;
+
+    /// Creates a joiner with the given decision rule.
+    ///
+    /// @param decided returns true once the outcome is fixed, given results in fork order
+    ///     with `null` for subtasks still running; not null
+    public EarlyCompletionJoiner(Predicate<List<T>> decided) {
+        this.decided = Objects.requireNonNull(decided, "decided must not be null");
+    }
+
+    @Override
+    public synchronized boolean onFork(Subtask<? extends T> subtask) {
+        forked.add(subtask);
+        return false;
+    }
+
+    @Override
+    public synchronized boolean onComplete(Subtask<? extends T> subtask) {
+        if (cancelled) return true;
+        List<T> results = new ArrayList<>(forked.size());
+        for (Subtask<? extends T> task : forked) {
+            results.add(task.state() == Subtask.State.SUCCESS ? task.get() : null);
+        }
+        cancelled = decided.test(results);
+        return cancelled;
+    }
+
+    @Override
+    public Void result() {
+        return null;
+    }
+}
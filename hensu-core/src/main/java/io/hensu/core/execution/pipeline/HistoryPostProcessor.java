@@ -10,6 +10,9 @@ import java.time.Instant;
 /// - **Postcondition**: Always returns {@link ProcessorOutcome#CONTINUE}
 /// - **Side effects**: Appends one step to `context.state().getHistory()`
 ///
+/// Steps carry a context delta rather than a full state snapshot, so each checkpoint's
+/// history grows linearly with the number of executed steps.
+///
 /// @implNote Stateless. Safe to reuse across loop iterations.
 ///
 /// @see ExecutionStep for step structure
@@ -27,12 +30,11 @@ public final class HistoryPostProcessor implements PostNodeExecutionProcessor {
     public ProcessorOutcome process(ProcessorContext context) {
         context.state()
                 .getHistory()
-                .addStep(
-                        new ExecutionStep(
-                                context.currentNode().getId(),
-                                context.state().snapshot(),
-                                context.result(),
-                                Instant.now()));
+                .recordStep(
+                        context.currentNode().getId(),
+                        context.state().getContext(),
+                        context.result(),
+                        Instant.now());
 
         return ProcessorOutcome.CONTINUE;
     }
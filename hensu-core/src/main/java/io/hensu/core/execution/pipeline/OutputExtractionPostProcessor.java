@@ -1,13 +1,11 @@
 package io.hensu.core.execution.pipeline;
 
-import io.hensu.core.execution.EngineVariables;
 import io.hensu.core.execution.result.ExecutionResult;
 import io.hensu.core.state.HensuState;
 import io.hensu.core.util.AgentOutputValidator;
 import io.hensu.core.util.JsonUtil;
 import io.hensu.core.workflow.node.GenericNode;
 import io.hensu.core.workflow.node.StandardNode;
-import io.hensu.core.workflow.transition.TransitionRule;
 import java.util.*;
 import java.util.logging.Logger;
 
@@ -24,6 +22,8 @@ import java.util.logging.Logger;
 /// `approved` → {@link io.hensu.core.workflow.transition.ApprovalTransition},
 /// `recommendation` → either transition (scoring and approval both require justification).
 /// Developers do not declare these in `writes` — the engine infers them from the graph.
+/// The keys of each node are precomputed by the workflow's
+/// {@link io.hensu.core.workflow.ExecutionPlan}.
 ///
 /// ### Routing Rules
 /// - **Single domain write, no engine vars**: if output is JSON containing the declared key,
@@ -81,17 +81,15 @@ public final class OutputExtractionPostProcessor implements PostNodeExecutionPro
 
         if (node instanceof StandardNode standardNode) {
             List<String> writes = standardNode.getWrites();
-            List<String> engineVars = engineVarsFor(standardNode);
+            List<String> engineVars = context.nodePlan().engineVars();
 
             if (!writes.isEmpty() || !engineVars.isEmpty()) {
-                Set<String> keySet = new LinkedHashSet<>(writes);
-                keySet.addAll(engineVars);
-                List<String> allKeys = new ArrayList<>(keySet);
+                List<String> allKeys = context.nodePlan().extractedKeys();
 
                 // Clear every key about to be re-extracted so a transition rule never
                 // fires on a stale value from a previous iteration when the agent omits
                 // the field. Applies only to this node's own keys.
-                state.getContext().keySet().removeAll(keySet);
+                allKeys.forEach(state.getContext()::remove);
 
                 if (engineVars.isEmpty() && writes.size() == 1) {
                     // Single domain write, no engine vars: fall back to raw text if JSON misses key
@@ -113,18 +111,6 @@ public final class OutputExtractionPostProcessor implements PostNodeExecutionPro
         return ProcessorOutcome.CONTINUE;
     }
 
-    private List<String> engineVarsFor(StandardNode node) {
-        Set<String> vars = new LinkedHashSet<>();
-        if (node.getRubric() != null) {
-            vars.add(EngineVariables.SCORE);
-            vars.add(EngineVariables.RECOMMENDATION);
-        }
-        for (TransitionRule rule : node.getTransitionRules()) {
-            vars.addAll(rule.requiredRoutingVars());
-        }
-        return List.copyOf(vars);
-    }
-
     private ProcessorOutcome rejectOutput(HensuState state, String nodeId, String reason) {
         logger.warning("Rejecting output from node [" + nodeId + "]: " + reason);
         return ProcessorOutcome.terminal(
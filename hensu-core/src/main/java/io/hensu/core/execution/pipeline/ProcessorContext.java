@@ -3,6 +3,7 @@ package io.hensu.core.execution.pipeline;
 import io.hensu.core.execution.executor.ExecutionContext;
 import io.hensu.core.execution.executor.NodeResult;
 import io.hensu.core.state.HensuState;
+import io.hensu.core.workflow.ExecutionPlan;
 import io.hensu.core.workflow.Workflow;
 import io.hensu.core.workflow.node.Node;
 
@@ -44,4 +45,11 @@ public record ProcessorContext(
     public Workflow workflow() {
         return executionContext.getWorkflow();
     }
+
+    /// Convenience accessor for the precomputed facts about the current node.
+    ///
+    /// @return plan of `currentNode` in the workflow's execution plan, never null
+    public ExecutionPlan.NodePlan nodePlan() {
+        return workflow().getExecutionPlan().planOf(currentNode);
+    }
 }
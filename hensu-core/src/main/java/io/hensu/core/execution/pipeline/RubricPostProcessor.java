@@ -9,6 +9,7 @@ import io.hensu.core.rubric.evaluator.RubricEvaluation;
 import io.hensu.core.rubric.evaluator.ScoreExtractingEvaluator;
 import io.hensu.core.rubric.model.Rubric;
 import io.hensu.core.state.HensuState;
+import io.hensu.core.workflow.ExecutionPlan;
 import io.hensu.core.workflow.Workflow;
 import io.hensu.core.workflow.node.Node;
 import io.hensu.core.workflow.transition.ScoreTransition;
@@ -16,8 +17,6 @@ import io.hensu.core.workflow.transition.TransitionRule;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Optional;
 import java.util.logging.Logger;
 
 /// Evaluates rubric quality criteria and triggers auto-backtracking on failure.
@@ -207,31 +206,27 @@ public final class RubricPostProcessor implements PostNodeExecutionProcessor {
         }
     }
 
+    /// Returns the first executed node with a rubric, or the start node.
     private String findEarliestLogicalStep(HensuState state, Workflow workflow) {
-        Optional<ExecutionStep> firstMajorStep =
-                state.getHistory().getSteps().stream()
-                        .filter(
-                                step -> {
-                                    Node node = workflow.getNodes().get(step.getNodeId());
-                                    return node != null && node.getRubric() != null;
-                                })
-                        .findFirst();
-
-        return firstMajorStep.map(ExecutionStep::getNodeId).orElse(workflow.getStartNode());
+        ExecutionPlan plan = workflow.getExecutionPlan();
+        for (ExecutionStep step : state.getHistory().getSteps()) {
+            if (plan.rubricPhase(step.getNodeId()) >= 0) {
+                return step.getNodeId();
+            }
+        }
+        return workflow.getStartNode();
     }
 
+    /// Returns the most recently executed node whose rubric differs from the current node's.
     private String findPreviousPhase(String currentNodeId, HensuState state, Workflow workflow) {
-        Node currentNode = workflow.getNodes().get(currentNodeId);
-        Rubric currentRubric = currentNode != null ? currentNode.getRubric() : null;
+        ExecutionPlan plan = workflow.getExecutionPlan();
+        int currentPhase = plan.rubricPhase(currentNodeId);
 
         List<ExecutionStep> steps = state.getHistory().getSteps();
         for (int i = steps.size() - 1; i >= 0; i--) {
-            ExecutionStep step = steps.get(i);
-            Node stepNode = workflow.getNodes().get(step.getNodeId());
-            if (stepNode != null
-                    && stepNode.getRubric() != null
-                    && !Objects.equals(stepNode.getRubric(), currentRubric)) {
-                return step.getNodeId();
+            int phase = plan.rubricPhase(steps.get(i).getNodeId());
+            if (phase >= 0 && phase != currentPhase) {
+                return steps.get(i).getNodeId();
             }
         }
 
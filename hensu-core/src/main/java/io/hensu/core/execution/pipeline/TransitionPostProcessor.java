@@ -4,10 +4,8 @@ import io.hensu.core.execution.EngineVariables;
 import io.hensu.core.execution.result.ResultStatus;
 import io.hensu.core.review.ReviewVerdict;
 import io.hensu.core.state.HensuState;
-import io.hensu.core.workflow.node.Node;
 import io.hensu.core.workflow.transition.BoundedTransition;
 import io.hensu.core.workflow.transition.TransitionRule;
-import java.util.HashSet;
 import java.util.Set;
 
 /// Evaluates transition rules to determine the next node after execution.
@@ -83,7 +81,7 @@ public final class TransitionPostProcessor implements PostNodeExecutionProcessor
         for (TransitionRule rule : node.getTransitionRules()) {
             String target = rule.evaluate(state, context.result());
             if (target != null) {
-                applyTransitionEffects(state, node, rule);
+                applyTransitionEffects(state, context.nodePlan().routingVars(), rule);
                 return target;
             }
             // A failed node never produced its routed variables — mismatch diagnostics
@@ -108,7 +106,8 @@ public final class TransitionPostProcessor implements PostNodeExecutionProcessor
     /// the agent's own recommendation — see {@link #promoteVerdictReason(HensuState)}.
     ///
     /// Engine variable lifecycle is centralized here — no other component clears engine vars
-    /// from the state context. The routing clear-set is derived from the node's rules'
+    /// from the state context. The routing clear-set is precomputed by the workflow's
+    /// {@link io.hensu.core.workflow.ExecutionPlan} from the node's rules'
     /// {@link TransitionRule#requiredRoutingVars()} (minus recommendation, which has its own
     /// feedback lifecycle) plus the built-in score/approved pair, so declared condition
     /// variables cannot leak into a later node routing on the same name. Three paths:
@@ -121,11 +120,11 @@ public final class TransitionPostProcessor implements PostNodeExecutionProcessor
     /// - **Forward** (default): clear routing vars and recommendation.
     ///
     /// @param state current workflow state (mutated in place)
-    /// @param node the node being transitioned away from
+    /// @param routingVars routing variables of the node being transitioned away from
     /// @param rule the transition rule that matched
-    private void applyTransitionEffects(HensuState state, Node node, TransitionRule rule) {
+    private void applyTransitionEffects(
+            HensuState state, Set<String> routingVars, TransitionRule rule) {
         String nodeId = state.getCurrentNode();
-        Set<String> routingVars = routingVarsFor(node);
         if (rule instanceof BoundedTransition bt && bt.underBudget(state)) {
             state.incrementRetryCount(bt.namespace(), nodeId);
             switch (rule.retryFeedback()) {
@@ -145,23 +144,6 @@ public final class TransitionPostProcessor implements PostNodeExecutionProcessor
         }
     }
 
-    /// Derives the routing-variable clear-set for a node: every engine variable its rules
-    /// declare via {@link TransitionRule#requiredRoutingVars()} plus the built-in
-    /// score/approved pair, minus recommendation (dedicated feedback lifecycle).
-    ///
-    /// @param node the node whose rules define the routing variables
-    /// @return mutable set of variable names to clear, never null
-    private Set<String> routingVarsFor(Node node) {
-        Set<String> vars = new HashSet<>();
-        for (TransitionRule rule : node.getTransitionRules()) {
-            vars.addAll(rule.requiredRoutingVars());
-        }
-        vars.add(EngineVariables.SCORE);
-        vars.add(EngineVariables.APPROVED);
-        vars.remove(EngineVariables.RECOMMENDATION);
-        return vars;
-    }
-
     /// Injects prior-round consensus feedback into the state context so the producer
     /// agent can see why consensus failed and adjust its output.
     ///
@@ -1,9 +1,13 @@
 package io.hensu.core.execution.result;
 
+import io.hensu.core.execution.executor.NodeResult;
 import io.hensu.core.rubric.evaluator.RubricEvaluation;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /// Tracks the complete execution history of a workflow run.
 ///
@@ -19,6 +23,12 @@ import java.util.List;
 /// history behind an immutable state transition – must take an explicit `copy()` first. Access
 /// should be confined to a single workflow execution thread.
 ///
+/// @implNote Context deltas are computed by {@link #recordStep} against a transient baseline –
+/// a shallow copy of the context recorded by the previous step. The baseline is never
+/// serialized and never carried by {@link #copy()}, so the first step recorded on a
+/// deserialized or copied history is a keyframe. Values are compared with `equals`; a value
+/// mutated in place after being recorded is not detected as a change.
+///
 /// @see ExecutionStep for individual step records
 /// @see BacktrackEvent for backtrack records
 public class ExecutionHistory {
@@ -26,17 +36,94 @@ public class ExecutionHistory {
     private List<ExecutionStep> steps = new ArrayList<>();
     private List<BacktrackEvent> backtracks = new ArrayList<>();
 
+    // Transient — context recorded by the last recordStep(), never persisted or copied.
+    private transient Map<String, Object> recordedContext;
+
     /// Adds an execution step to the history.
     ///
-    /// @apiNote **Side effects**: Modifies internal step list
+    /// The step is appended as-is. Because it was not diffed against this history's baseline,
+    /// the next {@link #recordStep} call records a keyframe.
+    ///
+    /// @apiNote **Side effects**: Modifies internal step list, resets the delta baseline
     ///
     /// @param step the step to record, not null
     /// @return this history, for chaining, never null
     public ExecutionHistory addStep(ExecutionStep step) {
         steps.add(step);
+        recordedContext = null;
         return this;
     }
 
+    /// Records an execution step, storing only the context change since the previous one.
+    ///
+    /// The first recorded step – and the first after {@link #addStep}, deserialization, or
+    /// {@link #copy()} – is a keyframe carrying the full context.
+    ///
+    /// @apiNote **Side effects**: Modifies internal step list and the delta baseline
+    ///
+    /// @param nodeId identifier of the executed node, not null
+    /// @param context the workflow context after the node executed, not null
+    /// @param result the node execution result, not null
+    /// @param timestamp when execution completed, may be null
+    /// @return this history, for chaining, never null
+    public ExecutionHistory recordStep(
+            String nodeId, Map<String, Object> context, NodeResult result, Instant timestamp) {
+        Objects.requireNonNull(context, "context must not be null");
+
+        ExecutionStep.Builder step =
+                ExecutionStep.builder().nodeId(nodeId).result(result).timestamp(timestamp);
+
+        Map<String, Object> baseline = recordedContext;
+        if (baseline == null) {
+            step.contextDelta(context).keyframe(true);
+        } else {
+            Map<String, Object> delta = new HashMap<>();
+            context.forEach(
+                    (key, value) -> {
+                        if (!baseline.containsKey(key)
+                                || !Objects.equals(baseline.get(key), value)) {
+                            delta.put(key, value);
+                        }
+                    });
+            List<String> removed = new ArrayList<>();
+            for (String key : baseline.keySet()) {
+                if (!context.containsKey(key)) {
+                    removed.add(key);
+                }
+            }
+            step.contextDelta(delta).removedKeys(removed);
+        }
+
+        steps.add(step.build());
+        recordedContext = new HashMap<>(context);
+        return this;
+    }
+
+    /// Reconstructs the workflow context as recorded by the step at `index`.
+    ///
+    /// Replays deltas forward from the nearest preceding keyframe. Steps recorded without
+    /// context (plain {@link #addStep} calls with no delta) contribute nothing.
+    ///
+    /// @param index zero-based step index, must be within `[0, steps.size())`
+    /// @return mutable reconstructed context, never null
+    /// @throws IndexOutOfBoundsException if `index` is out of range
+    public Map<String, Object> contextAt(int index) {
+        Objects.checkIndex(index, steps.size());
+
+        int start = index;
+        while (start > 0 && !steps.get(start).isKeyframe()) {
+            start--;
+        }
+
+        Map<String, Object> context = new HashMap<>();
+        for (int i = start; i <= index; i++) {
+            ExecutionStep step = steps.get(i);
+            step.getRemovedKeys().forEach(context::remove);
+            context.putAll(step.getContextDelta());
+        }
+        return context;
+    }
+
     /// Adds a backtrack event to the history.
     ///
     /// @apiNote **Side effects**: Modifies internal backtrack list
@@ -3,25 +3,43 @@ package io.hensu.core.execution.result;
 import io.hensu.core.execution.executor.NodeResult;
 import io.hensu.core.state.HensuSnapshot;
 import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /// Records a single step in workflow execution history.
 ///
-/// Captures the executed node, its result, and a snapshot of the workflow
-/// state at that point. Used for time-travel debugging and execution analysis.
+/// Captures the executed node, its result, and the context change the step produced. Used for
+/// time-travel debugging and execution analysis.
+///
+/// ### Context encoding
+/// A step never embeds a full {@link HensuSnapshot}: a snapshot carries the whole history, so
+/// step N would transitively hold steps 1..N-1 and checkpoint size would grow super-linearly.
+/// Instead each step stores a context delta relative to the previous step of the same
+/// execution lineage:
+/// - **Keyframe** (`keyframe = true`) – `contextDelta` is the complete context. Recorded for
+///   the first step, the first step after a resume, and the first step after foreign steps
+///   (fork branches) were spliced in.
+/// - **Delta** (`keyframe = false`) – `contextDelta` holds only added or changed entries and
+///   `removedKeys` lists deleted keys.
+///
+/// {@link ExecutionHistory#contextAt(int)} replays these to reconstruct the context at any step.
 ///
 /// ### Contracts
 /// - **Precondition**: `nodeId` and `result` must be provided
 /// - **Postcondition**: Immutable after construction
 ///
-/// @see ExecutionHistory for step collection
-/// @see HensuSnapshot for state snapshots
+/// @see ExecutionHistory for step collection and delta recording
 public class ExecutionStep {
 
     private final String nodeId;
     private final NodeResult result;
     private final Instant timestamp;
-    private final HensuSnapshot snapshot;
+    private final Map<String, Object> contextDelta;
+    private final List<String> removedKeys;
+    private final boolean keyframe;
 
     /// Constructs an execution step from builder values.
     ///
@@ -31,21 +49,24 @@ public class ExecutionStep {
         this.nodeId = Objects.requireNonNull(builder.nodeId, "Node ID required");
         this.result = Objects.requireNonNull(builder.result, "Result required");
         this.timestamp = builder.timestamp;
-        this.snapshot = builder.snapshot;
+        // Collections.unmodifiableMap (not Map.copyOf) – context may contain null values.
+        //noinspection Java9CollectionFactory
+        this.contextDelta =
+                builder.contextDelta != null
+                        ? Collections.unmodifiableMap(new HashMap<>(builder.contextDelta))
+                        : Map.of();
+        this.removedKeys =
+                builder.removedKeys != null ? List.copyOf(builder.removedKeys) : List.of();
+        this.keyframe = builder.keyframe;
     }
 
-    /// Constructs an execution step with all values.
+    /// Constructs an execution step without context information.
     ///
     /// @param nodeId identifier of the executed node, not null
-    /// @param snapshot state snapshot at execution time, may be null
     /// @param result the node execution result, not null
     /// @param timestamp when execution completed, may be null
-    public ExecutionStep(
-            String nodeId, HensuSnapshot snapshot, NodeResult result, Instant timestamp) {
-        this.nodeId = nodeId;
-        this.snapshot = snapshot;
-        this.result = result;
-        this.timestamp = timestamp;
+    public ExecutionStep(String nodeId, NodeResult result, Instant timestamp) {
+        this(builder().nodeId(nodeId).result(result).timestamp(timestamp));
     }
 
     /// Creates a new builder for constructing ExecutionStep instances.
@@ -76,11 +97,30 @@ public class ExecutionStep {
         return timestamp;
     }
 
-    /// Returns the state snapshot at execution time.
+    /// Returns the context entries recorded by this step.
+    ///
+    /// For a keyframe this is the complete context; otherwise only the entries added or changed
+    /// since the previous step.
+    ///
+    /// @return unmodifiable context delta, never null (may be empty)
+    public Map<String, Object> getContextDelta() {
+        return contextDelta;
+    }
+
+    /// Returns the context keys removed since the previous step.
+    ///
+    /// Always empty for keyframes.
     ///
-    /// @return the state snapshot, may be null
-    public HensuSnapshot getSnapshot() {
-        return snapshot;
+    /// @return unmodifiable list of removed keys, never null (may be empty)
+    public List<String> getRemovedKeys() {
+        return removedKeys;
+    }
+
+    /// Returns whether {@link #getContextDelta()} holds the complete context.
+    ///
+    /// @return true if this step is a keyframe, false if it is a delta
+    public boolean isKeyframe() {
+        return keyframe;
     }
 
     /// Builder for constructing {@link ExecutionStep} instances.
@@ -88,7 +128,9 @@ public class ExecutionStep {
         private String nodeId;
         private NodeResult result;
         private Instant timestamp;
-        private HensuSnapshot snapshot;
+        private Map<String, Object> contextDelta;
+        private List<String> removedKeys;
+        private boolean keyframe;
 
         private Builder() {}
 
@@ -119,12 +161,47 @@ public class ExecutionStep {
             return this;
         }
 
-        /// Sets the state snapshot.
+        /// Sets the context delta.
+        ///
+        /// @param contextDelta added or changed entries, or the full context for a keyframe,
+        ///     may be null
+        /// @return this builder for chaining
+        public Builder contextDelta(Map<String, Object> contextDelta) {
+            this.contextDelta = contextDelta;
+            return this;
+        }
+
+        /// Sets the keys removed since the previous step.
+        ///
+        /// @param removedKeys removed context keys, may be null
+        /// @return this builder for chaining
+        public Builder removedKeys(List<String> removedKeys) {
+            this.removedKeys = removedKeys;
+            return this;
+        }
+
+        /// Marks whether the context delta is the complete context.
+        ///
+        /// @param keyframe true if `contextDelta` holds the full context
+        /// @return this builder for chaining
+        public Builder keyframe(boolean keyframe) {
+            this.keyframe = keyframe;
+            return this;
+        }
+
+        /// Converts a legacy embedded snapshot into a keyframe.
+        ///
+        /// Steps persisted before the delta encoding carried a full {@link HensuSnapshot}.
+        /// Only its context is kept; the nested history is discarded.
         ///
-        /// @param snapshot state at execution time, may be null
+        /// @param snapshot legacy state snapshot, may be null
         /// @return this builder for chaining
         public Builder snapshot(HensuSnapshot snapshot) {
-            this.snapshot = snapshot;
+            if (snapshot != null) {
+                this.contextDelta = snapshot.context();
+                this.removedKeys = null;
+                this.keyframe = true;
+            }
             return this;
         }
 
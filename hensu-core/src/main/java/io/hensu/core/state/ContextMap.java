@@ -0,0 +1,580 @@
+package io.hensu.core.state;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/// Workflow context variables, stored in a structurally shared hash trie.
+///
+/// Behaves like a `HashMap<String, Object>`: it is mutable, permits `null` values, and has
+/// no iteration order. The difference is {@link #fork()}, which returns an independent copy
+/// in constant time. Both maps keep sharing every trie node neither has written to; a write
+/// copies only the nodes on the path to its key, so a branch that touches three keys of a
+/// context holding large documents allocates a few small arrays instead of a full copy.
+///
+/// Each map also records the keys written since it was forked, so {@link #changes()}
+/// answers "what did this branch produce?" from the branch's own write set rather than by
+/// diffing every entry against the parent.
+///
+/// ### Structure
+/// A hash array mapped trie with 32-way bitmap nodes, consuming five hash bits per level;
+/// keys with identical hashes share a collision node. Nodes carry the edit token of the map
+/// that created them and are updated in place while that map still owns them. `fork()`
+/// hands the map a fresh token, which freezes every existing node for sharing. Reading,
+/// including iteration, never changes the token, so a walk does not make later writes copy.
+///
+/// ### Contracts
+/// - **Keys**: non-null strings; `put(null, v)` throws {@link NullPointerException}
+/// - **Iteration**: iterators and views are weakly consistent, like those of
+///   `ConcurrentHashMap`: they never throw {@link java.util.ConcurrentModificationException},
+///   return every entry present for the whole walk exactly once, and may or may not return
+///   entries put or removed meanwhile
+///
+/// @implNote **Not thread-safe**, like {@link HensuState}. Fork on the owning thread, then
+/// hand each fork to its own thread: forks share only frozen nodes, so they can be written
+/// concurrently with each other and with the parent.
+///
+/// @see HensuState#branch(String)
+public final class ContextMap extends AbstractMap<String, Object> {
+
+    /// Lookup result for a missing key; distinguishes absence from a `null` value.
+    private static final Object ABSENT = new Object();
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+
+    private Node root;
+    private int size;
+
+    /// Edit token; nodes stamped with it may be updated in place.
+    private Object owner = new Object();
+
+    /// Root at the fork point. Frozen, so it always reflects the forked contents.
+    private Node base;
+
+    /// Keys put or removed since the fork point, in first-write order.
+    private final Set<String> written = new LinkedHashSet<>();
+
+    /// Creates an empty context map.
+    public ContextMap() {}
+
+    private ContextMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+        this.base = root;
+    }
+
+    /// Returns an independent copy of `source`.
+    ///
+    /// A `ContextMap` is {@linkplain #fork() forked} in constant time; any other map is
+    /// copied entry by entry. The copy's fork point is its initial contents.
+    ///
+    /// @param source the entries to copy, not null
+    /// @return a new map, never null
+    /// @throws NullPointerException if `source` contains a null key
+    public static ContextMap copyOf(Map<String, ?> source) {
+        Objects.requireNonNull(source, "source must not be null");
+        if (source instanceof ContextMap context) {
+            return context.fork();
+        }
+        ContextMap copy = new ContextMap();
+        source.forEach(copy::store);
+        copy.owner = new Object();
+        copy.base = copy.root;
+        return copy;
+    }
+
+    /// Returns an independent copy of this map in constant time.
+    ///
+    /// Writes to either map are invisible to the other. The fork's write set starts empty
+    /// and {@link #changes()} on it compares against this map's current contents.
+    ///
+    /// @return the fork, never null
+    public ContextMap fork() {
+        owner = new Object();
+        return new ContextMap(root, size);
+    }
+
+    /// Returns the entries written since the fork point whose values differ from it.
+    ///
+    /// Keys that were removed, or written back to the value they had at the fork point, are
+    /// not included. Runs in time proportional to the number of keys written, not the size
+    /// of the map.
+    ///
+    /// @return new or changed entries in first-write order, never null; may hold null values
+    public Map<String, Object> changes() {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        for (String key : written) {
+            Object current = find(root, key);
+            if (current == ABSENT) continue;
+            Object before = find(base, key);
+            if (before == ABSENT || !Objects.equals(before, current)) {
+                changes.put(key, current);
+            }
+        }
+        return changes;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String k && find(root, k) != ABSENT;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (!(key instanceof String k)) return null;
+        Object value = find(root, k);
+        return value == ABSENT ? null : value;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Objects.requireNonNull(key, "key must not be null");
+        written.add(key);
+        return store(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (!(key instanceof String k) || root == null) return null;
+        Change change = new Change();
+        root = root.remove(owner, 0, hash(k), k, change);
+        if (!change.found) return null;
+        written.add(k);
+        size--;
+        return change.previous;
+    }
+
+    @Override
+    public void clear() {
+        for (Entry<String, Object> entry : entrySet()) {
+            written.add(entry.getKey());
+        }
+        root = null;
+        size = 0;
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<String> iterator() {
+                Iterator<Entry<String, Object>> entries = new EntryIterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return entries.hasNext();
+                    }
+
+                    @Override
+                    public String next() {
+                        return entries.next().getKey();
+                    }
+
+                    @Override
+                    public void remove() {
+                        entries.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public boolean contains(Object key) {
+                return containsKey(key);
+            }
+
+            @Override
+            public boolean remove(Object key) {
+                if (!containsKey(key)) return false;
+                ContextMap.this.remove(key);
+                return true;
+            }
+        };
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    // --- Internal helpers ---
+
+    /// Puts without recording the key as written.
+    private Object store(String key, Object value) {
+        Objects.requireNonNull(key, "key must not be null");
+        Change change = new Change();
+        Node node = root != null ? root : Bitmap.EMPTY;
+        root = node.put(owner, 0, hash(key), key, value, change);
+        if (!change.found) {
+            size++;
+        }
+        return change.previous;
+    }
+
+    private static Object find(Node node, String key) {
+        return node == null ? ABSENT : node.find(0, hash(key), key);
+    }
+
+    private static int hash(String key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static int bit(int hash, int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    /// Outcome of a put or remove, filled in by the node that held the key.
+    private static final class Change {
+        boolean found;
+        Object previous;
+    }
+
+    /// Trie node. `array` holds key/value pairs; in bitmap nodes a `null` key marks a slot
+    /// whose value is a child node.
+    private abstract static sealed class Node permits Bitmap, Collision {
+
+        final Object owner;
+        Object[] array;
+
+        Node(Object owner, Object[] array) {
+            this.owner = owner;
+            this.array = array;
+        }
+
+        abstract Object find(int shift, int hash, String key);
+
+        abstract Node put(
+                Object edit, int shift, int hash, String key, Object value, Change change);
+
+        /// @return the updated node, or null when it became empty
+        abstract Node remove(Object edit, int shift, int hash, String key, Change change);
+
+        /// Returns this node with `array[index]` set to `value`, copying it unless owned.
+        Node set(Object edit, int index, Object value) {
+            if (owner == edit) {
+                array[index] = value;
+                return this;
+            }
+            Object[] copy = array.clone();
+            copy[index] = value;
+            return copy(edit, copy);
+        }
+
+        abstract Node copy(Object edit, Object[] array);
+
+        static Object[] insertPair(Object[] array, int index, Object key, Object value) {
+            Object[] result = new Object[array.length + 2];
+            System.arraycopy(array, 0, result, 0, index);
+            result[index] = key;
+            result[index + 1] = value;
+            System.arraycopy(array, index, result, index + 2, array.length - index);
+            return result;
+        }
+
+        static Object[] removePair(Object[] array, int index) {
+            Object[] result = new Object[array.length - 2];
+            System.arraycopy(array, 0, result, 0, index);
+            System.arraycopy(array, index + 2, result, index, array.length - index - 2);
+            return result;
+        }
+    }
+
+    private static final class Bitmap extends Node {
+
+        static final Bitmap EMPTY = new Bitmap(null, 0, new Object[0]);
+
+        int bitmap;
+
+        Bitmap(Object owner, int bitmap, Object[] array) {
+            super(owner, array);
+            this.bitmap = bitmap;
+        }
+
+        private int index(int bit) {
+            return 2 * Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Override
+        Object find(int shift, int hash, String key) {
+            int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0) return ABSENT;
+            int i = index(bit);
+            Object k = array[i];
+            if (k == null) {
+                return ((Node) array[i + 1]).find(shift + BITS, hash, key);
+            }
+            return key.equals(k) ? array[i + 1] : ABSENT;
+        }
+
+        @Override
+        Node put(Object edit, int shift, int hash, String key, Object value, Change change) {
+            int bit = bit(hash, shift);
+            int i = index(bit);
+            if ((bitmap & bit) == 0) {
+                Object[] grown = insertPair(array, i, key, value);
+                if (owner == edit) {
+                    array = grown;
+                    bitmap |= bit;
+                    return this;
+                }
+                return new Bitmap(edit, bitmap | bit, grown);
+            }
+
+            Object k = array[i];
+            Object v = array[i + 1];
+            if (k == null) {
+                Node child = (Node) v;
+                Node updated = child.put(edit, shift + BITS, hash, key, value, change);
+                return updated == child ? this : set(edit, i + 1, updated);
+            }
+            if (key.equals(k)) {
+                change.found = true;
+                change.previous = v;
+                return v == value ? this : set(edit, i + 1, value);
+            }
+
+            // Two keys share this slot: push both one level down
+            String existing = (String) k;
+            Node pair =
+                    pair(
+                            edit,
+                            shift + BITS,
+                            ContextMap.hash(existing),
+                            existing,
+                            v,
+                            hash,
+                            key,
+                            value);
+            Bitmap target = owner == edit ? this : new Bitmap(edit, bitmap, array.clone());
+            target.array[i] = null;
+            target.array[i + 1] = pair;
+            return target;
+        }
+
+        @Override
+        Node remove(Object edit, int shift, int hash, String key, Change change) {
+            int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0) return this;
+            int i = index(bit);
+            Object k = array[i];
+            if (k == null) {
+                Node child = (Node) array[i + 1];
+                Node updated = child.remove(edit, shift + BITS, hash, key, change);
+                if (updated == child) return this;
+                if (updated != null) return set(edit, i + 1, updated);
+            } else if (key.equals(k)) {
+                change.found = true;
+                change.previous = array[i + 1];
+            } else {
+                return this;
+            }
+
+            if (bitmap == bit) return null;
+            Object[] shrunk = removePair(array, i);
+            if (owner == edit) {
+                array = shrunk;
+                bitmap ^= bit;
+                return this;
+            }
+            return new Bitmap(edit, bitmap ^ bit, shrunk);
+        }
+
+        @Override
+        Node copy(Object edit, Object[] array) {
+            return new Bitmap(edit, bitmap, array);
+        }
+
+        private static Node pair(
+                Object edit,
+                int shift,
+                int hash1,
+                String key1,
+                Object value1,
+                int hash2,
+                String key2,
+                Object value2) {
+            if (hash1 == hash2) {
+                return new Collision(edit, hash1, new Object[] {key1, value1, key2, value2});
+            }
+            Change ignored = new Change();
+            return EMPTY.put(edit, shift, hash1, key1, value1, ignored)
+                    .put(edit, shift, hash2, key2, value2, ignored);
+        }
+    }
+
+    /// Keys whose spread hashes are identical; only reached once all 32 hash bits are used.
+    private static final class Collision extends Node {
+
+        final int hash;
+
+        Collision(Object owner, int hash, Object[] array) {
+            super(owner, array);
+            this.hash = hash;
+        }
+
+        private int indexOf(String key) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (key.equals(array[i])) return i;
+            }
+            return -1;
+        }
+
+        @Override
+        Object find(int shift, int hash, String key) {
+            if (hash != this.hash) return ABSENT;
+            int i = indexOf(key);
+            return i < 0 ? ABSENT : array[i + 1];
+        }
+
+        @Override
+        Node put(Object edit, int shift, int hash, String key, Object value, Change change) {
+            if (hash != this.hash) {
+                Bitmap parent = new Bitmap(edit, bit(this.hash, shift), new Object[] {null, this});
+                return parent.put(edit, shift, hash, key, value, change);
+            }
+            int i = indexOf(key);
+            if (i >= 0) {
+                change.found = true;
+                change.previous = array[i + 1];
+                return array[i + 1] == value ? this : set(edit, i + 1, value);
+            }
+            Object[] grown = insertPair(array, array.length, key, value);
+            if (owner == edit) {
+                array = grown;
+                return this;
+            }
+            return new Collision(edit, hash, grown);
+        }
+
+        @Override
+        Node remove(Object edit, int shift, int hash, String key, Change change) {
+            if (hash != this.hash) return this;
+            int i = indexOf(key);
+            if (i < 0) return this;
+            change.found = true;
+            change.previous = array[i + 1];
+            if (array.length == 2) return null;
+            Object[] shrunk = removePair(array, i);
+            if (owner == edit) {
+                array = shrunk;
+                return this;
+            }
+            return new Collision(edit, hash, shrunk);
+        }
+
+        @Override
+        Node copy(Object edit, Object[] array) {
+            return new Collision(edit, hash, array);
+        }
+    }
+
+    /// Depth-first walk over the node arrays as they were when each node was reached.
+    ///
+    /// In-place writes replace a node's array when they add or remove a pair and only
+    /// overwrite slots the walk has already passed or has yet to reach whole, so the walk
+    /// stays weakly consistent without freezing the map. This includes writes through
+    /// {@link #remove()} and {@link Entry#setValue}.
+    private final class EntryIterator implements Iterator<Entry<String, Object>> {
+
+        /// Seven bitmap levels cover 32 hash bits; one more for a collision node.
+        private final Object[][] arrays = new Object[9][];
+
+        private final int[] positions = new int[9];
+        private int depth = -1;
+        private Entry<String, Object> next;
+        private String lastKey;
+
+        EntryIterator() {
+            if (root != null) {
+                push(root.array);
+            }
+            advance();
+        }
+
+        private void push(Object[] array) {
+            arrays[++depth] = array;
+            positions[depth] = 0;
+        }
+
+        private void advance() {
+            next = null;
+            while (depth >= 0) {
+                Object[] array = arrays[depth];
+                int i = positions[depth];
+                if (i >= array.length) {
+                    arrays[depth--] = null;
+                    continue;
+                }
+                positions[depth] = i + 2;
+                if (array[i] == null) {
+                    push(((Node) array[i + 1]).array);
+                } else {
+                    next = new ContextEntry((String) array[i], array[i + 1]);
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (next == null) throw new NoSuchElementException();
+            Entry<String, Object> current = next;
+            lastKey = current.getKey();
+            advance();
+            return current;
+        }
+
+        @Override
+        public void remove() {
+            if (lastKey == null) throw new IllegalStateException();
+            ContextMap.this.remove(lastKey);
+            lastKey = null;
+        }
+    }
+
+    /// Entry whose {@link #setValue} writes through to the map, as `HashMap`'s entries do.
+    private final class ContextEntry extends SimpleEntry<String, Object> {
+
+        ContextEntry(String key, Object value) {
+            super(key, value);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            put(getKey(), value);
+            return super.setValue(value);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package io.hensu.core.state;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Objects;
+
+/// Keyset position in a listing of executions ordered by `(createdAt, executionId)`.
+///
+/// A page starts strictly after the cursor, so rows inserted or removed between requests
+/// never shift later pages the way an offset would.
+///
+/// @param createdAt creation time of the last execution on the previous page, not null
+/// @param executionId id of the last execution on the previous page, not null
+/// @see WorkflowStateRepository#findPausedStatuses(String, ExecutionCursor, int)
+public record ExecutionCursor(Instant createdAt, String executionId) {
+
+    /// Listing order for keyset pagination.
+    public static final Comparator<ExecutionStatusView> ORDER =
+            Comparator.comparing(ExecutionStatusView::createdAt)
+                    .thenComparing(ExecutionStatusView::executionId);
+
+    public ExecutionCursor {
+        Objects.requireNonNull(createdAt, "createdAt must not be null");
+        Objects.requireNonNull(executionId, "executionId must not be null");
+    }
+
+    /// Returns the cursor that continues after `view`.
+    ///
+    /// @param view the last execution on a page, not null
+    /// @return the cursor, never null
+    public static ExecutionCursor after(ExecutionStatusView view) {
+        return new ExecutionCursor(view.createdAt(), view.executionId());
+    }
+
+    /// Returns whether `view` sorts strictly after this cursor.
+    ///
+    /// @param view the execution to test, not null
+    /// @return true if `view` belongs on a page that starts at this cursor
+    public boolean precedes(ExecutionStatusView view) {
+        int byTime = createdAt.compareTo(view.createdAt());
+        return byTime < 0 || (byTime == 0 && executionId.compareTo(view.executionId()) < 0);
+    }
+}
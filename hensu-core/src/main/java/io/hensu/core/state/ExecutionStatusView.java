@@ -0,0 +1,57 @@
+package io.hensu.core.state;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/// Scalar projection of a persisted execution: everything a status or listing query needs,
+/// without the context, history or cached node result.
+///
+/// Repositories that store snapshots as documents can serve this view from their scalar
+/// columns alone; see {@link WorkflowStateRepository#findStatus(String, String)}.
+///
+/// @param executionId unique identifier for this execution run, not null
+/// @param workflowId identifier of the workflow definition, not null
+/// @param currentNodeId the node where execution should resume, null if completed
+/// @param checkpointReason why the last checkpoint was created, may be null
+/// @param correlationId the pause point's correlation id, null unless the phase is
+///     {@link ExecutionPhase.Awaiting}
+/// @param createdAt when the execution's snapshot was created, not null
+/// @see HensuSnapshot for the full state
+public record ExecutionStatusView(
+        String executionId,
+        String workflowId,
+        String currentNodeId,
+        String checkpointReason,
+        String correlationId,
+        Instant createdAt) {
+
+    public ExecutionStatusView {
+        Objects.requireNonNull(executionId, "executionId must not be null");
+        Objects.requireNonNull(workflowId, "workflowId must not be null");
+        Objects.requireNonNull(createdAt, "createdAt must not be null");
+    }
+
+    /// Projects a full snapshot.
+    ///
+    /// @param snapshot the snapshot, not null
+    /// @return the view, never null
+    public static ExecutionStatusView of(HensuSnapshot snapshot) {
+        return new ExecutionStatusView(
+                snapshot.executionId(),
+                snapshot.workflowId(),
+                snapshot.currentNodeId(),
+                snapshot.checkpointReason(),
+                snapshot.phase() instanceof ExecutionPhase.Awaiting awaiting
+                        ? awaiting.correlationId()
+                        : null,
+                snapshot.createdAt());
+    }
+
+    /// Returns whether the execution reached an end node. Same rule as
+    /// {@link HensuSnapshot#isCompleted()}.
+    ///
+    /// @return true if there is no node left to resume
+    public boolean isCompleted() {
+        return currentNodeId == null || "completed".equals(checkpointReason);
+    }
+}
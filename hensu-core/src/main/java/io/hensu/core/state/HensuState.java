@@ -19,7 +19,7 @@ import java.util.UUID;
 ///
 /// ### State Components
 /// - **Immutable**: `executionId`, `workflowId` (set at construction)
-/// - **Mutable context**: `context` map for variable storage
+/// - **Mutable context**: {@link ContextMap} for variable storage, forked in O(1) per branch
 /// - **Mutable position**: `currentNode`
 /// - **Mutable evaluation**: `rubricEvaluation`, `retryCounters`
 /// - **Append-only**: `history` for execution tracking
@@ -35,7 +35,7 @@ public final class HensuState {
 
     // Immutable fields (set once at construction)
     private final String workflowId;
-    private final Map<String, Object> context;
+    private final ContextMap context;
     private final ExecutionHistory history;
     private final String executionId;
 
@@ -63,20 +63,30 @@ public final class HensuState {
         this.executionId = Objects.requireNonNull(builder.executionId);
         this.workflowId = Objects.requireNonNull(builder.workflowId);
         this.currentNode = Objects.requireNonNull(builder.currentNode);
-        this.context = new HashMap<>(builder.context);
+        this.context = ContextMap.copyOf(builder.context);
         this.history = builder.history;
         this.rubricEvaluation = builder.rubricEvaluation;
         this.retryCounters = new HashMap<>(builder.retryCounters);
         this.phase = builder.phase != null ? builder.phase : ExecutionPhase.INITIAL;
     }
 
+    /// Creates a state with a random execution id.
+    ///
+    /// A {@link ContextMap} is adopted as the live context, so the caller keeps a handle on
+    /// it; any other map is copied.
+    ///
+    /// @param context initial variables, not null
+    /// @param workflowId the workflow identifier
+    /// @param currentNode the node to start from
+    /// @param history the execution history, may be null
     public HensuState(
-            HashMap<String, Object> context,
+            Map<String, Object> context,
             String workflowId,
             String currentNode,
             ExecutionHistory history) {
         this.executionId = UUID.randomUUID().toString();
-        this.context = context;
+        this.context =
+                context instanceof ContextMap live ? live : ContextMap.copyOf(context);
         this.workflowId = workflowId;
         this.currentNode = currentNode;
         this.history = history;
@@ -92,7 +102,10 @@ public final class HensuState {
         return workflowId;
     }
 
-    public Map<String, Object> getContext() {
+    /// Returns the live context variables.
+    ///
+    /// @return the mutable context, never null
+    public ContextMap getContext() {
         return context;
     }
 
@@ -227,10 +240,15 @@ public final class HensuState {
 
     /// Creates an isolated state copy for concurrent branch execution.
     ///
-    /// Returns a new `HensuState` with defensive copies of the context map, the retry counters,
-    /// and the execution history, positioned at `branchNode`. Writes to the branch state do not
-    /// affect the parent or sibling branches, which matters because every branch runs on its own
-    /// virtual thread and {@link ExecutionHistory} is backed by plain `ArrayList`s.
+    /// Returns a new `HensuState` positioned at `branchNode`, with a {@linkplain
+    /// ContextMap#fork() fork} of the context and copies of the retry counters and the
+    /// execution history. Writes to the branch state do not affect the parent or sibling
+    /// branches, which matters because every branch runs on its own virtual thread and
+    /// {@link ExecutionHistory} is backed by plain `ArrayList`s. Forking is O(1) regardless
+    /// of context size, and the branch's {@link ContextMap#changes()} lists what it wrote.
+    ///
+    /// Call this on the thread that owns this state, before handing the branch to its own
+    /// thread; forking writes the parent's edit token.
     ///
     /// The caller is responsible for merging each branch's new history entries back into the
     /// parent history in a deterministic order once all branches have joined; see
@@ -311,7 +329,7 @@ public final class HensuState {
         }
 
         public Builder context(Map<String, Object> context) {
-            this.context = new HashMap<>(context);
+            this.context = ContextMap.copyOf(context);
             return this;
         }
 
@@ -1,6 +1,7 @@
 package io.hensu.core.state;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 /// Repository for workflow execution state persistence.
@@ -8,6 +9,12 @@ import java.util.Optional;
 /// Provides checkpoint/restore operations for long-running workflows.
 /// Uses {@link HensuSnapshot} for state representation.
 ///
+/// ### Projections
+/// Status checks and listings do not need an execution's context or history.
+/// {@link #findStatus} and {@link #findPausedStatuses} return an {@link ExecutionStatusView}
+/// instead; the defaults derive it from full snapshots, and document-backed implementations
+/// should override them to read scalar columns only.
+///
 /// ### Multi-Tenancy
 /// All operations are tenant-scoped. The repository associates each
 /// snapshot with a tenant ID for isolation.
@@ -53,6 +60,40 @@ public interface WorkflowStateRepository {
     /// @throws NullPointerException if tenantId is null
     List<HensuSnapshot> findPaused(String tenantId);
 
+    /// Finds the status of an execution without loading its context or history.
+    ///
+    /// @param tenantId the tenant to search within, not null
+    /// @param executionId the unique execution identifier, not null
+    /// @return the execution's status view if found, empty otherwise
+    /// @throws NullPointerException if tenantId or executionId is null
+    default Optional<ExecutionStatusView> findStatus(String tenantId, String executionId) {
+        return findByExecutionId(tenantId, executionId).map(ExecutionStatusView::of);
+    }
+
+    /// Finds one page of the executions {@link #findPaused} returns, as status views.
+    ///
+    /// Pages are ordered by {@link ExecutionCursor#ORDER}.
+    ///
+    /// @param tenantId the tenant to search within, not null
+    /// @param after position after which the page starts, or null for the first page
+    /// @param limit maximum number of views to return, positive
+    /// @return up to `limit` views, never null (may be empty)
+    /// @throws NullPointerException if tenantId is null
+    /// @throws IllegalArgumentException if limit is not positive
+    default List<ExecutionStatusView> findPausedStatuses(
+            String tenantId, ExecutionCursor after, int limit) {
+        Objects.requireNonNull(tenantId, "tenantId must not be null");
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive: " + limit);
+        }
+        return findPaused(tenantId).stream()
+                .map(ExecutionStatusView::of)
+                .filter(view -> after == null || after.precedes(view))
+                .sorted(ExecutionCursor.ORDER)
+                .limit(limit)
+                .toList();
+    }
+
     /// Finds all executions for a workflow.
     ///
     /// @param tenantId the tenant to search within, not null
@@ -0,0 +1,184 @@
+package io.hensu.core.template;
+
+import io.hensu.core.util.JsonUtil;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/// A template parsed once into literal and `{variable}` segments.
+///
+/// Prompts are rendered on every node execution and parallel branch, so nodes compile
+/// their templates when the workflow is loaded and only substitute values per call.
+/// Rendering sizes the output buffer from the literals and the substituted values up front
+/// and never rescans the template.
+///
+/// Placeholders follow the grammar of {@link SimpleTemplateResolver}: `{name}` where
+/// `name` starts with a letter or underscore followed by letters, digits or underscores.
+/// Anything else, including unmatched braces, is literal text.
+///
+/// ### Value formatting
+/// - `null` or missing → empty string
+/// - {@link String} → as is
+/// - {@link Map} or {@link Collection} → JSON, via {@link EncodedValues} when given
+/// - anything else → {@link Object#toString()}
+///
+/// @implNote **Immutable.** Safe to share across threads and workflow executions.
+///
+/// @see TemplateResolver#resolve(CompiledTemplate, Map, EncodedValues)
+public final class CompiledTemplate {
+
+    private static final CompiledTemplate EMPTY =
+            new CompiledTemplate("", new String[] {""}, new String[0]);
+
+    private final String source;
+    /// `literals.length == variables.length + 1`; literal `i` precedes variable `i`.
+    private final String[] literals;
+    private final String[] variables;
+    private final int literalLength;
+
+    private CompiledTemplate(String source, String[] literals, String[] variables) {
+        this.source = source;
+        this.literals = literals;
+        this.variables = variables;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /// Parses `source` into segments.
+    ///
+    /// @param source the template text, may be null (compiles to an empty template)
+    /// @return the compiled template, never null
+    public static CompiledTemplate compile(String source) {
+        if (source == null || source.isEmpty()) {
+            return EMPTY;
+        }
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        int literalStart = 0;
+        int open = source.indexOf('{');
+        while (open >= 0) {
+            int close = variableEnd(source, open + 1);
+            if (close < 0) {
+                open = source.indexOf('{', open + 1);
+                continue;
+            }
+            literals.add(source.substring(literalStart, open));
+            variables.add(source.substring(open + 1, close));
+            literalStart = close + 1;
+            open = source.indexOf('{', literalStart);
+        }
+        if (variables.isEmpty()) {
+            return new CompiledTemplate(source, new String[] {source}, new String[0]);
+        }
+        literals.add(source.substring(literalStart));
+        return new CompiledTemplate(
+                source, literals.toArray(new String[0]), variables.toArray(new String[0]));
+    }
+
+    /// Returns the index of the `}` closing a variable name starting at `start`, or `-1`.
+    private static int variableEnd(String source, int start) {
+        if (start >= source.length() || !isNameStart(source.charAt(start))) {
+            return -1;
+        }
+        for (int i = start + 1; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (c == '}') {
+                return i;
+            }
+            if (!isNamePart(c)) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isNameStart(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+    }
+
+    private static boolean isNamePart(char c) {
+        return isNameStart(c) || (c >= '0' && c <= '9');
+    }
+
+    /// Renders the template against `context`.
+    ///
+    /// @param context variable bindings, not null
+    /// @return the rendered text, never null
+    public String render(Map<String, Object> context) {
+        return render(context, null);
+    }
+
+    /// Renders the template against `context`, reusing JSON encodings from `encoded`.
+    ///
+    /// @param context variable bindings, not null
+    /// @param encoded JSON encodings shared by the templates of one step, may be null
+    /// @return the rendered text, never null
+    public String render(Map<String, Object> context, EncodedValues encoded) {
+        Objects.requireNonNull(context, "context must not be null");
+        if (variables.length == 0) {
+            return source;
+        }
+        String[] values = new String[variables.length];
+        int length = literalLength;
+        for (int i = 0; i < variables.length; i++) {
+            values[i] = format(context.get(variables[i]), encoded);
+            length += values[i].length();
+        }
+        StringBuilder result = new StringBuilder(length);
+        for (int i = 0; i < variables.length; i++) {
+            result.append(literals[i]).append(values[i]);
+        }
+        return result.append(literals[variables.length]).toString();
+    }
+
+    private static String format(Object value, EncodedValues encoded) {
+        return switch (value) {
+            case null -> "";
+            case String s -> s;
+            case Map<?, ?> _, Collection<?> _ ->
+                    encoded != null ? encoded.toJson(value) : JsonUtil.toJson(value);
+            default -> value.toString();
+        };
+    }
+
+    /// Returns the template text this template was compiled from.
+    ///
+    /// @return source text, empty for a null source, never null
+    public String getSource() {
+        return source;
+    }
+
+    /// Returns the referenced variable names in order of appearance, repeats included.
+    ///
+    /// @return immutable list of variable names, never null
+    public List<String> getVariables() {
+        return List.of(variables);
+    }
+
+    /// Returns whether the template references no variables.
+    ///
+    /// @return true if rendering always yields the source text
+    public boolean isConstant() {
+        return variables.length == 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof CompiledTemplate other && source.equals(other.source));
+    }
+
+    @Override
+    public int hashCode() {
+        return source.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+}
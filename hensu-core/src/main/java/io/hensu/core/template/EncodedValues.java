@@ -0,0 +1,42 @@
+package io.hensu.core.template;
+
+import io.hensu.core.util.JsonUtil;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/// JSON encodings of structured context values, shared by the templates of one step.
+///
+/// A large map or list referenced by several prompts of the same step (the branches of a
+/// parallel node, the string values of an action payload) is encoded once and reused.
+/// Values are keyed by identity, so an instance must not be kept beyond the step: a value
+/// mutated in place afterwards would still render its old encoding.
+///
+/// @implNote Thread-safe. Parallel branches render against one instance concurrently;
+/// two branches encoding the same value at once may both encode it.
+///
+/// @see CompiledTemplate#render(Map, EncodedValues)
+public final class EncodedValues {
+
+    private final Map<Object, String> json = new IdentityHashMap<>();
+
+    /// Creates an empty instance for one step.
+    public EncodedValues() {}
+
+    /// Returns the JSON encoding of `value`, encoding it on first use.
+    ///
+    /// @param value a map or collection, not null
+    /// @return JSON text, never null
+    public String toJson(Object value) {
+        synchronized (json) {
+            String cached = json.get(value);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        String encoded = JsonUtil.toJson(value);
+        synchronized (json) {
+            json.putIfAbsent(value, encoded);
+        }
+        return encoded;
+    }
+}
@@ -1,39 +1,68 @@
 package io.hensu.core.template;
 
-import io.hensu.core.util.JsonUtil;
-import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
 
-/// Simple template resolver using regex.
+/// Resolves `{variable}` placeholders with {@link CompiledTemplate}.
+///
+/// Node prompts arrive precompiled. Plain strings (prompt overrides, action payloads,
+/// shell commands) are compiled on first use and kept in a bounded cache, so a workflow's
+/// recurring templates are parsed once. Long templates and templates arriving after the
+/// cache is full are compiled per call.
+///
+/// @implNote Thread-safe.
 public class SimpleTemplateResolver implements TemplateResolver {
 
-    private static final Pattern TEMPLATE_PATTERN = Pattern.compile("\\{([a-zA-Z_][a-zA-Z0-9_]*)}");
+    /// Maximum number of string templates kept compiled.
+    static final int MAX_CACHED_TEMPLATES = 256;
+
+    /// Longest string template kept compiled; longer ones are usually one-off prompts.
+    static final int MAX_CACHED_TEMPLATE_LENGTH = 8192;
+
+    private final Map<String, CompiledTemplate> compiled = new ConcurrentHashMap<>();
 
     @Override
     public String resolve(String template, Map<String, Object> context) {
         if (template == null) {
             return "";
         }
+        return compiled(template).render(context);
+    }
+
+    @Override
+    public String resolve(
+            CompiledTemplate template, Map<String, Object> context, EncodedValues encoded) {
+        return template.render(context, encoded);
+    }
 
-        Matcher matcher = TEMPLATE_PATTERN.matcher(template);
-        StringBuilder result = new StringBuilder();
-
-        while (matcher.find()) {
-            String variable = matcher.group(1);
-            Object value = context.get(variable);
-            String replacement =
-                    switch (value) {
-                        case null -> "";
-                        case String s -> s;
-                        case Map<?, ?> _, Collection<?> _ -> JsonUtil.toJson(value);
-                        default -> value.toString();
-                    };
-            matcher.appendReplacement(result, Matcher.quoteReplacement(replacement));
+    /// Resolves all string values of `payload`, encoding each structured value once.
+    @Override
+    public Map<String, Object> resolvePayload(
+            Map<String, Object> payload, Map<String, Object> context) {
+        EncodedValues encoded = new EncodedValues();
+        Map<String, Object> resolved = new HashMap<>();
+        for (Map.Entry<String, Object> entry : payload.entrySet()) {
+            Object value = entry.getValue();
+            if (value instanceof String stringValue) {
+                resolved.put(entry.getKey(), compiled(stringValue).render(context, encoded));
+            } else {
+                resolved.put(entry.getKey(), value);
+            }
         }
+        return resolved;
+    }
 
-        matcher.appendTail(result);
-        return result.toString();
+    private CompiledTemplate compiled(String template) {
+        CompiledTemplate cached = compiled.get(template);
+        if (cached != null) {
+            return cached;
+        }
+        CompiledTemplate fresh = CompiledTemplate.compile(template);
+        if (template.length() <= MAX_CACHED_TEMPLATE_LENGTH
+                && compiled.size() < MAX_CACHED_TEMPLATES) {
+            compiled.putIfAbsent(template, fresh);
+        }
+        return fresh;
     }
 }
@@ -7,6 +7,29 @@ import java.util.Map;
 public interface TemplateResolver {
     String resolve(String template, Map<String, Object> context);
 
+    /// Resolves a template compiled when the workflow was loaded.
+    ///
+    /// @param template the compiled template, not null
+    /// @param context variable bindings for resolution
+    /// @return resolved text, never null
+    default String resolve(CompiledTemplate template, Map<String, Object> context) {
+        return resolve(template, context, null);
+    }
+
+    /// Resolves a compiled template, reusing JSON encodings shared by the step's templates.
+    ///
+    /// The default resolves the template's source text, so resolvers that only implement
+    /// {@link #resolve(String, Map)} keep their own syntax.
+    ///
+    /// @param template the compiled template, not null
+    /// @param context variable bindings for resolution
+    /// @param encoded JSON encodings shared by the templates of one step, may be null
+    /// @return resolved text, never null
+    default String resolve(
+            CompiledTemplate template, Map<String, Object> context, EncodedValues encoded) {
+        return resolve(template.getSource(), context);
+    }
+
     /// Resolves template variables in all string values of a payload map.
     ///
     /// Non-string values are passed through unchanged.
@@ -123,8 +123,9 @@ public final class JsonUtil {
 
     /// Extracts named parameters from an LLM output string and stores them in context.
     ///
-    /// Finds the first balanced JSON object in the output, then extracts each named key.
-    /// Nested objects are stored as {@code Map<String, Object>}, arrays as {@code List<Object>}.
+    /// Finds the first balanced JSON object in the output, then extracts all named keys in a
+    /// single pass over it. Nested objects are stored as {@code Map<String, Object>}, arrays
+    /// as {@code List<Object>}.
     ///
     /// @param paramNames names of keys to extract, not null
     /// @param output     raw LLM output, not null
@@ -139,8 +140,9 @@ public final class JsonUtil {
             return;
         }
 
+        Map<String, Object> values = extractJsonValues(json, paramNames);
         for (String param : paramNames) {
-            Object value = extractJsonValue(json, param);
+            Object value = values.get(param);
             if (value == NULL_SENTINEL) {
                 context.put(param, null);
                 logger.info("Extracted parameter: " + param + " = null");
@@ -203,10 +205,24 @@ public final class JsonUtil {
     /// @param key  the field name to look up, not null
     /// @return typed value, or null if the key is absent
     public static Object extractJsonValue(String json, String key) {
+        return extractJsonValues(json, List.of(key)).get(key);
+    }
+
+    /// Extracts several keys from a JSON object string in one pass.
+    ///
+    /// Values of other keys are validated and skipped without being materialized. Values
+    /// are typed as by {@link #extractJsonValue(String, String)}; when a key repeats, the
+    /// last occurrence wins.
+    ///
+    /// @param json the JSON object string, not null
+    /// @param keys the field names to look up, not null
+    /// @return the keys found with their values, in document order; empty if the object
+    ///         is malformed, never null
+    public static Map<String, Object> extractJsonValues(String json, Collection<String> keys) {
         try {
-            return new Parser(json).parseObject().get(key);
+            return new Parser(json).parseObject(keys);
         } catch (Exception e) {
-            return null;
+            return Map.of();
         }
     }
 
@@ -224,11 +240,16 @@ public final class JsonUtil {
     /// JSON object  ——> Map<String, Object>  (recursive)
     /// JSON array   ——> List<Object>         (recursive)
     /// ```
-    private static final class Parser {
-        private final String src;
-        private int pos;
-
-        Parser(String src) {
+    ///
+    /// Reads any {@link CharSequence}, so {@link StreamingJsonExtractor} can parse a buffer
+    /// that is still growing. Running out of input throws {@link Incomplete}; any other
+    /// malformed input throws {@link IllegalStateException}.
+    static final class Parser {
+        private final CharSequence src;
+        private final StringBuilder key = new StringBuilder();
+        int pos;
+
+        Parser(CharSequence src) {
             this.src = src;
         }
 
@@ -243,12 +264,33 @@ public final class JsonUtil {
         }
 
         void expect(char expected) {
-            if (pos >= src.length() || src.charAt(pos) != expected)
+            if (pos >= src.length()) throw Incomplete.INSTANCE;
+            if (src.charAt(pos) != expected)
                 throw new IllegalStateException(
                         "Expected '" + expected + "' at pos " + pos + ", got '" + peek() + "'");
             pos++;
         }
 
+        /// Consumes `,` and returns true, or consumes `close` and returns false.
+        boolean next(char close) {
+            if (pos >= src.length()) throw Incomplete.INSTANCE;
+            char c = src.charAt(pos);
+            if (c == ',' || c == close) {
+                pos++;
+                return c == ',';
+            }
+            throw new IllegalStateException("Expected ',' or '" + close + "' at pos " + pos);
+        }
+
+        void literal(String word) {
+            for (int i = 0; i < word.length(); i++) {
+                if (pos + i >= src.length()) throw Incomplete.INSTANCE;
+                if (src.charAt(pos + i) != word.charAt(i))
+                    throw new IllegalStateException("Expected '" + word + "' at pos " + pos);
+            }
+            pos += word.length();
+        }
+
         // — Value parsers —————————————————————————————————————————————————————
 
         Map<String, Object> parseObject() {
@@ -259,26 +301,54 @@ public final class JsonUtil {
                 pos++;
                 return map;
             }
-            while (true) {
+            do {
                 skipWs();
-                String key = parseString();
+                String name = parseString();
                 skipWs();
                 expect(':');
+                map.put(name, parseValue());
                 skipWs();
-                map.put(key, parseValue());
+            } while (next('}'));
+            return map;
+        }
+
+        /// Parses an object keeping only the `wanted` keys; other values are skipped.
+        Map<String, Object> parseObject(Collection<String> wanted) {
+            expect('{');
+            Map<String, Object> map = new LinkedHashMap<>();
+            skipWs();
+            if (peek() == '}') {
+                pos++;
+                return map;
+            }
+            do {
+                parseMember(wanted, map);
                 skipWs();
-                char next = peek();
-                if (next == '}') {
-                    pos++;
+            } while (next('}'));
+            return map;
+        }
+
+        /// Parses one `"key": value` member, storing the value in `into` if the key is
+        /// wanted and skipping it otherwise.
+        void parseMember(Collection<String> wanted, Map<String, Object> into) {
+            skipWs();
+            expect('"');
+            key.setLength(0);
+            readString(key);
+            String match = null;
+            for (String candidate : wanted) {
+                if (candidate.contentEquals(key)) {
+                    match = candidate;
                     break;
                 }
-                if (next == ',') {
-                    pos++;
-                    continue;
-                }
-                throw new IllegalStateException("Expected ',' or '}' at pos " + pos);
             }
-            return map;
+            skipWs();
+            expect(':');
+            if (match != null) {
+                into.put(match, parseValue());
+            } else {
+                skipValue();
+            }
         }
 
         List<Object> parseList() {
@@ -289,21 +359,10 @@ public final class JsonUtil {
                 pos++;
                 return list;
             }
-            while (true) {
-                skipWs();
+            do {
                 list.add(parseValue());
                 skipWs();
-                char next = peek();
-                if (next == ']') {
-                    pos++;
-                    break;
-                }
-                if (next == ',') {
-                    pos++;
-                    continue;
-                }
-                throw new IllegalStateException("Expected ',' or ']' at pos " + pos);
-            }
+            } while (next(']'));
             return list;
         }
 
@@ -315,83 +374,144 @@ public final class JsonUtil {
                 case '[' -> parseList();
                 case 't', 'f' -> parseBoolean();
                 case 'n' -> {
-                    expectNull();
+                    literal("null");
                     yield NULL_SENTINEL;
                 }
-                default -> {
-                    char c = peek();
-                    if (c == '-' || Character.isDigit(c)) yield parseNumber();
-                    throw new IllegalStateException("Unexpected char '" + c + "' at pos " + pos);
-                }
+                default -> Double.parseDouble(src.subSequence(scanNumber(), pos).toString());
             };
         }
 
+        /// Validates and skips a value without materializing it.
+        void skipValue() {
+            skipWs();
+            switch (peek()) {
+                case '"' -> {
+                    pos++;
+                    readString(null);
+                }
+                case '{' -> {
+                    pos++;
+                    skipWs();
+                    if (peek() == '}') {
+                        pos++;
+                        return;
+                    }
+                    do {
+                        skipWs();
+                        expect('"');
+                        readString(null);
+                        skipWs();
+                        expect(':');
+                        skipValue();
+                        skipWs();
+                    } while (next('}'));
+                }
+                case '[' -> {
+                    pos++;
+                    skipWs();
+                    if (peek() == ']') {
+                        pos++;
+                        return;
+                    }
+                    do {
+                        skipValue();
+                        skipWs();
+                    } while (next(']'));
+                }
+                case 't', 'f' -> parseBoolean();
+                case 'n' -> literal("null");
+                default -> scanNumber();
+            }
+        }
+
         String parseString() {
             expect('"');
             StringBuilder sb = new StringBuilder();
+            readString(sb);
+            return sb.toString();
+        }
+
+        /// Reads string content after the opening quote, decoding into `out` unless null.
+        void readString(StringBuilder out) {
             while (true) {
-                if (pos >= src.length())
-                    throw new IllegalStateException("Unterminated string at pos " + pos);
+                if (pos >= src.length()) throw Incomplete.INSTANCE;
                 char c = src.charAt(pos++);
-                if (c == '"') break;
+                if (c == '"') return;
                 if (c != '\\') {
-                    sb.append(c);
+                    if (out != null) out.append(c);
                     continue;
                 }
+                if (pos >= src.length()) throw Incomplete.INSTANCE;
                 char esc = src.charAt(pos++);
-                switch (esc) {
-                    case '"' -> sb.append('"');
-                    case '\\' -> sb.append('\\');
-                    case '/' -> sb.append('/');
-                    case 'n' -> sb.append('\n');
-                    case 'r' -> sb.append('\r');
-                    case 't' -> sb.append('\t');
-                    case 'b' -> sb.append('\b');
-                    case 'f' -> sb.append('\f');
-                    case 'u' -> {
-                        sb.append((char) Integer.parseInt(src.substring(pos, pos + 4), 16));
-                        pos += 4;
-                    }
-                    default -> sb.append(esc);
-                }
+                char decoded =
+                        switch (esc) {
+                            case 'n' -> '\n';
+                            case 'r' -> '\r';
+                            case 't' -> '\t';
+                            case 'b' -> '\b';
+                            case 'f' -> '\f';
+                            case 'u' -> readHex4();
+                            default -> esc;
+                        };
+                if (out != null) out.append(decoded);
             }
-            return sb.toString();
         }
 
-        Double parseNumber() {
+        private char readHex4() {
+            if (pos + 4 > src.length()) throw Incomplete.INSTANCE;
+            int value = 0;
+            for (int i = 0; i < 4; i++) {
+                int digit = Character.digit(src.charAt(pos++), 16);
+                if (digit < 0)
+                    throw new IllegalStateException("Invalid unicode escape at pos " + pos);
+                value = value * 16 + digit;
+            }
+            return (char) value;
+        }
+
+        /// Skips a number and returns its start position.
+        int scanNumber() {
             int start = pos;
             if (peek() == '-') pos++;
-            while (pos < src.length() && Character.isDigit(src.charAt(pos))) pos++;
-            if (pos < src.length() && src.charAt(pos) == '.') {
+            if (!Character.isDigit(peek())) {
+                if (pos >= src.length()) throw Incomplete.INSTANCE;
+                throw new IllegalStateException("Unexpected char '" + peek() + "' at pos " + pos);
+            }
+            skipDigits();
+            if (peek() == '.') {
                 pos++;
-                do {
-                    pos++;
-                } while (pos < src.length() && Character.isDigit(src.charAt(pos)));
+                skipDigits();
             }
-            if (pos < src.length() && (src.charAt(pos) == 'e' || src.charAt(pos) == 'E')) {
+            if (peek() == 'e' || peek() == 'E') {
                 pos++;
-                if (pos < src.length() && (src.charAt(pos) == '+' || src.charAt(pos) == '-')) pos++;
-                while (pos < src.length() && Character.isDigit(src.charAt(pos))) pos++;
+                if (peek() == '+' || peek() == '-') pos++;
+                skipDigits();
             }
-            return Double.parseDouble(src.substring(start, pos));
+            // A number is only complete once the character after it has arrived
+            if (pos >= src.length()) throw Incomplete.INSTANCE;
+            return start;
+        }
+
+        private void skipDigits() {
+            while (pos < src.length() && Character.isDigit(src.charAt(pos))) pos++;
         }
 
         Boolean parseBoolean() {
-            if (src.startsWith("true", pos)) {
-                pos += 4;
+            if (peek() == 't') {
+                literal("true");
                 return Boolean.TRUE;
             }
-            if (src.startsWith("false", pos)) {
-                pos += 5;
-                return Boolean.FALSE;
-            }
-            throw new IllegalStateException("Expected boolean at pos " + pos);
+            literal("false");
+            return Boolean.FALSE;
         }
+    }
+
+    /// Thrown by {@link Parser} when the input ends before the value being parsed.
+    static final class Incomplete extends RuntimeException {
+        static final Incomplete INSTANCE = new Incomplete();
 
-        void expectNull() {
-            if (!src.startsWith("null", pos))
-                throw new IllegalStateException("Expected 'null' at pos " + pos);
-            pos += 4;
+        private Incomplete() {
+            super("Incomplete JSON", null, false, false);
         }
     }
 }
@@ -0,0 +1,213 @@
+package io.hensu.core.util;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/// Extracts top-level fields of a JSON object from LLM output that arrives in chunks.
+///
+/// Streaming agents deliver their reply as output deltas. Feeding each delta to
+/// {@link #append(CharSequence)} returns the requested fields whose values completed with
+/// it, so callers can act on a field while the rest of the reply is still being generated
+/// instead of waiting for {@link JsonUtil#extractOutputParams}.
+///
+/// As in {@link JsonUtil#extractJsonFromOutput(String)}, the first `{` opens the object, so
+/// prose or a markdown fence may precede it. Values are typed as by
+/// {@link JsonUtil#extractJsonValue(String, String)}; fields that were not requested are
+/// validated and skipped without being materialized.
+///
+/// ### Usage
+/// {@snippet :
+/// StreamingJsonExtractor extractor = new StreamingJsonExtractor(List.of("score", "summary"));
+/// for (String delta : deltas) {
+///     extractor.append(delta).forEach(this::onField);
+/// }
+/// }
+///
+/// ### Cost
+/// Each character is scanned once for structure: a member split across chunks is only
+/// parsed when a chunk brings the `,` or `}` that ends it, and the scan picks up where the
+/// previous chunk left off. Text before the current member is discarded, so the buffer
+/// holds at most one member and the unparsed rest of the last chunk.
+///
+/// @implNote **Not thread-safe.** Feed chunks from one thread.
+public final class StreamingJsonExtractor {
+
+    private final List<String> keys;
+    private final StringBuilder text = new StringBuilder();
+    private final JsonUtil.Parser parser = new JsonUtil.Parser(text);
+    private final Map<String, Object> fields = new LinkedHashMap<>();
+    private Phase phase = Phase.SEEKING;
+    private int resume;
+
+    // Structure of the current member scanned so far; see memberEnds()
+    private int scanned;
+    private int depth;
+    private boolean inString;
+    private boolean escaped;
+
+    /// Creates an extractor for the given top-level keys.
+    ///
+    /// @param keys field names to extract, not null
+    public StreamingJsonExtractor(Collection<String> keys) {
+        Objects.requireNonNull(keys, "keys must not be null");
+        this.keys = List.copyOf(keys);
+    }
+
+    /// Appends the next chunk of output and extracts the fields it completes.
+    ///
+    /// @param chunk the next output fragment, not null
+    /// @return fields completed by this chunk, in document order, never null
+    public Map<String, Object> append(CharSequence chunk) {
+        Objects.requireNonNull(chunk, "chunk must not be null");
+        if (phase == Phase.COMPLETE || phase == Phase.MALFORMED) {
+            return Map.of();
+        }
+        text.append(chunk);
+        Map<String, Object> completed = new LinkedHashMap<>();
+        while (advance(completed)) {
+            // parse as far as the buffered text allows
+        }
+        fields.putAll(completed);
+        discardConsumed();
+        return completed;
+    }
+
+    /// Returns every requested field extracted so far.
+    ///
+    /// JSON `null` values are reported as in {@link JsonUtil#extractJsonValue}.
+    ///
+    /// @return unmodifiable view of the extracted fields, never null
+    public Map<String, Object> fields() {
+        return Collections.unmodifiableMap(fields);
+    }
+
+    /// Returns whether the object's closing brace has arrived.
+    ///
+    /// @return true once no further fields can be extracted
+    public boolean isComplete() {
+        return phase == Phase.COMPLETE;
+    }
+
+    /// Returns whether the output stopped being valid JSON; later chunks are ignored.
+    ///
+    /// @return true if extraction gave up on malformed input
+    public boolean isMalformed() {
+        return phase == Phase.MALFORMED;
+    }
+
+    /// Returns the number of buffered characters not yet discarded.
+    int buffered() {
+        return text.length();
+    }
+
+    /// Takes one parsing step from the last completed position.
+    ///
+    /// @return true if the step completed and another may follow
+    private boolean advance(Map<String, Object> completed) {
+        if (phase == Phase.SEEKING) {
+            int start = text.indexOf("{", resume);
+            if (start < 0) {
+                resume = text.length();
+                return false;
+            }
+            resume = start + 1;
+            phase = Phase.OPENED;
+            return true;
+        }
+        if (phase == Phase.COMPLETE || phase == Phase.MALFORMED) {
+            return false;
+        }
+        parser.pos = resume;
+        try {
+            parser.skipWs();
+            switch (phase) {
+                case OPENED -> {
+                    if (parser.pos >= text.length()) {
+                        return false;
+                    }
+                    if (parser.peek() == '}') {
+                        parser.pos++;
+                        phase = Phase.COMPLETE;
+                    } else {
+                        phase = Phase.MEMBER;
+                    }
+                }
+                case MEMBER -> {
+                    if (!memberEnds()) {
+                        return false;
+                    }
+                    parser.parseMember(keys, completed);
+                    phase = Phase.SEPARATOR;
+                }
+                case SEPARATOR -> phase = parser.next('}') ? Phase.MEMBER : Phase.COMPLETE;
+                default -> throw new IllegalStateException("Unexpected phase " + phase);
+            }
+        } catch (JsonUtil.Incomplete e) {
+            return false;
+        } catch (RuntimeException e) {
+            phase = Phase.MALFORMED;
+            return false;
+        }
+        resume = parser.pos;
+        return true;
+    }
+
+    /// Scans the text not yet scanned for the `,` or `}` that ends the current member.
+    ///
+    /// Tracks string and nesting state across calls, so every character is looked at once
+    /// however many chunks the member spans. A stray `]` also counts as the end; the parser
+    /// then reports the member as malformed.
+    ///
+    /// @return true if the member's text is complete and can be parsed
+    private boolean memberEnds() {
+        for (int i = Math.max(scanned, resume); i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (c == '\\') {
+                    escaped = true;
+                } else if (c == '"') {
+                    inString = false;
+                }
+            } else if (c == '"') {
+                inString = true;
+            } else if (c == '{' || c == '[') {
+                depth++;
+            } else if (depth > 0) {
+                if (c == '}' || c == ']') {
+                    depth--;
+                }
+            } else if (c == ',' || c == '}' || c == ']') {
+                scanned = i;
+                return true;
+            }
+        }
+        scanned = text.length();
+        return false;
+    }
+
+    /// Drops the text before the current position once it outweighs the rest, so copying
+    /// the retained text costs amortized constant time per character.
+    private void discardConsumed() {
+        if (resume == 0 || resume < text.length() - resume) {
+            return;
+        }
+        text.delete(0, resume);
+        scanned = Math.max(0, scanned - resume);
+        resume = 0;
+    }
+
+    private enum Phase {
+        SEEKING,
+        OPENED,
+        MEMBER,
+        SEPARATOR,
+        COMPLETE,
+        MALFORMED
+    }
+}
@@ -0,0 +1,242 @@
+package io.hensu.core.workflow;
+
+import io.hensu.core.execution.EngineVariables;
+import io.hensu.core.rubric.model.Rubric;
+import io.hensu.core.workflow.node.ForkNode;
+import io.hensu.core.workflow.node.JoinNode;
+import io.hensu.core.workflow.node.Node;
+import io.hensu.core.workflow.node.StandardNode;
+import io.hensu.core.workflow.transition.SuccessTransition;
+import io.hensu.core.workflow.transition.TransitionRule;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/// Immutable execution plan compiled once from a {@link Workflow}.
+///
+/// The traversal loop and the post-execution processors need the same derived facts about a
+/// node on every step: which engine variables its transitions route on, which keys its output
+/// is extracted into, which join node a fork waits at, and which rubric phase it belongs to.
+/// The plan computes them when the workflow is first executed instead of once per step.
+///
+/// Nodes get dense indices, the start node first and the rest in declaration order. Rubric
+/// phases number the distinct rubrics in the same order; nodes without a rubric have phase
+/// `-1`.
+///
+/// A fork whose success transition does not lead to a join node is recorded, not rejected:
+/// the error surfaces from {@link #joinOf(ForkNode)} when the fork executes, as before.
+///
+/// @implNote **Immutable.** Safe to share across threads and workflow executions.
+///
+/// @see Workflow#getExecutionPlan()
+public final class ExecutionPlan {
+
+    private final Map<String, Integer> indices;
+    private final NodePlan[] plans;
+    private final Map<Rubric, Integer> phases;
+    private final Map<String, Object> joins;
+
+    private ExecutionPlan(
+            Map<String, Integer> indices,
+            NodePlan[] plans,
+            Map<Rubric, Integer> phases,
+            Map<String, Object> joins) {
+        this.indices = indices;
+        this.plans = plans;
+        this.phases = phases;
+        this.joins = joins;
+    }
+
+    /// Compiles the plan of `workflow`.
+    ///
+    /// @param workflow the workflow to compile, not null
+    /// @return the plan, never null
+    public static ExecutionPlan compile(Workflow workflow) {
+        Objects.requireNonNull(workflow, "workflow must not be null");
+        Map<String, Node> nodes = workflow.getNodes();
+        List<Node> ordered = new ArrayList<>(nodes.size());
+        ordered.add(nodes.get(workflow.getStartNode()));
+        for (Node node : nodes.values()) {
+            if (!node.getId().equals(workflow.getStartNode())) {
+                ordered.add(node);
+            }
+        }
+
+        Map<String, Integer> indices = HashMap.newHashMap(ordered.size());
+        Map<Rubric, Integer> phases = new HashMap<>();
+        Map<String, Object> joins = new HashMap<>();
+        NodePlan[] plans = new NodePlan[ordered.size()];
+        for (int i = 0; i < plans.length; i++) {
+            Node node = ordered.get(i);
+            Rubric rubric = node.getRubric();
+            int phase = rubric != null ? phases.computeIfAbsent(rubric, _ -> phases.size()) : -1;
+            indices.put(node.getId(), i);
+            plans[i] = describe(i, node, phase);
+            if (node instanceof ForkNode fork) {
+                joins.put(fork.getId(), resolveJoin(fork, nodes::get));
+            }
+        }
+        return new ExecutionPlan(Map.copyOf(indices), plans, Map.copyOf(phases), Map.copyOf(joins));
+    }
+
+    /// Returns the number of nodes in the plan.
+    ///
+    /// @return node count, at least 1
+    public int size() {
+        return plans.length;
+    }
+
+    /// Returns the dense index of a node.
+    ///
+    /// @param nodeId the node ID, may be null
+    /// @return index in `[0, size())`, or `-1` if the workflow has no such node
+    public int indexOf(String nodeId) {
+        Integer index = nodeId != null ? indices.get(nodeId) : null;
+        return index != null ? index : -1;
+    }
+
+    /// Returns the node at a dense index.
+    ///
+    /// @param index index in `[0, size())`
+    /// @return the node, never null
+    /// @throws IndexOutOfBoundsException if `index` is out of range
+    public Node node(int index) {
+        return plans[index].node();
+    }
+
+    /// Returns the node with the given ID.
+    ///
+    /// @param nodeId the node ID, may be null
+    /// @return the node, or null if the workflow has no such node
+    public Node node(String nodeId) {
+        int index = indexOf(nodeId);
+        return index >= 0 ? plans[index].node() : null;
+    }
+
+    /// Returns the precomputed facts about `node`.
+    ///
+    /// A node that is not part of this workflow (a test double, a node swapped in by a
+    /// processor) is described on the fly.
+    ///
+    /// @param node the node, not null
+    /// @return the node's plan, never null
+    public NodePlan planOf(Node node) {
+        int index = indexOf(node.getId());
+        if (index >= 0 && plans[index].node() == node) {
+            return plans[index];
+        }
+        Rubric rubric = node.getRubric();
+        int phase = rubric != null ? phases.getOrDefault(rubric, phases.size()) : -1;
+        return describe(-1, node, phase);
+    }
+
+    /// Returns the rubric phase of a node.
+    ///
+    /// @param nodeId the node ID, may be null
+    /// @return phase number, or `-1` if the node has no rubric or does not exist
+    public int rubricPhase(String nodeId) {
+        int index = indexOf(nodeId);
+        return index >= 0 ? plans[index].rubricPhase() : -1;
+    }
+
+    /// Returns the join node a fork waits at: the target of its success transition.
+    ///
+    /// @param fork a fork node of this workflow, not null
+    /// @return the join node, never null
+    /// @throws IllegalStateException if the fork has no success transition, or it does not
+    ///     lead to a join node
+    public JoinNode joinOf(ForkNode fork) {
+        int index = indexOf(fork.getId());
+        Object join =
+                index >= 0 && plans[index].node() == fork
+                        ? joins.get(fork.getId())
+                        : resolveJoin(fork, this::node);
+        if (join instanceof JoinNode joinNode) {
+            return joinNode;
+        }
+        throw new IllegalStateException((String) join);
+    }
+
+    private static NodePlan describe(int index, Node node, int rubricPhase) {
+        Set<String> routingVars = new HashSet<>();
+        Set<String> engineVars = new LinkedHashSet<>();
+        List<String> writes = List.of();
+        if (node instanceof StandardNode standardNode) {
+            writes = standardNode.getWrites();
+            if (standardNode.getRubric() != null) {
+                engineVars.add(EngineVariables.SCORE);
+                engineVars.add(EngineVariables.RECOMMENDATION);
+            }
+        }
+        for (TransitionRule rule : node.getTransitionRules()) {
+            routingVars.addAll(rule.requiredRoutingVars());
+            if (node instanceof StandardNode) {
+                engineVars.addAll(rule.requiredRoutingVars());
+            }
+        }
+        routingVars.add(EngineVariables.SCORE);
+        routingVars.add(EngineVariables.APPROVED);
+        routingVars.remove(EngineVariables.RECOMMENDATION);
+
+        Set<String> extracted = new LinkedHashSet<>(writes);
+        extracted.addAll(engineVars);
+        return new NodePlan(
+                index,
+                node,
+                rubricPhase,
+                Set.copyOf(routingVars),
+                List.copyOf(engineVars),
+                List.copyOf(extracted));
+    }
+
+    /// Resolves the join node of `fork`, or describes why there is none.
+    ///
+    /// @return the {@link JoinNode}, or the error message as a String
+    private static Object resolveJoin(ForkNode fork, Function<String, Node> nodes) {
+        String joinNodeId = null;
+        for (TransitionRule rule : fork.getTransitionRules()) {
+            if (rule instanceof SuccessTransition success) {
+                joinNodeId = success.getTargetNode();
+                break;
+            }
+        }
+        if (joinNodeId == null) {
+            return "ForkNode '" + fork.getId() + "' has no success transition to a join node";
+        }
+        Node target = nodes.apply(joinNodeId);
+        if (target instanceof JoinNode joinNode) {
+            return joinNode;
+        }
+        return "ForkNode '"
+                + fork.getId()
+                + "' success transition '"
+                + joinNodeId
+                + "' does not point to a JoinNode (got "
+                + (target != null ? target.getClass().getSimpleName() : "null")
+                + ")";
+    }
+
+    /// Facts about one node, derived from its definition.
+    ///
+    /// @param index dense node index, `-1` for a node outside the workflow
+    /// @param node the node, not null
+    /// @param rubricPhase phase of the node's rubric, `-1` without one
+    /// @param routingVars engine variables cleared when the node transitions: those its rules
+    ///     route on plus score and approved, minus recommendation
+    /// @param engineVars engine variables extracted from a standard node's output, in order
+    /// @param extractedKeys a standard node's `writes` followed by its engine variables,
+    ///     without duplicates
+    public record NodePlan(
+            int index,
+            Node node,
+            int rubricPhase,
+            Set<String> routingVars,
+            List<String> engineVars,
+            List<String> extractedKeys) {}
+}
@@ -25,7 +25,8 @@ import java.util.Objects;
 /// by the workflow executor at runtime.
 ///
 /// @implNote **Immutable after construction.** All collections are wrapped in
-/// unmodifiable views. Safe to share across Virtual Threads.
+/// unmodifiable views. Safe to share across Virtual Threads. The {@link ExecutionPlan} is
+/// compiled on first use and cached; concurrent first calls may each compile an equal plan.
 ///
 /// @see io.hensu.core.execution.WorkflowExecutor for execution logic
 /// @see Node for node type hierarchy
@@ -40,6 +41,7 @@ public final class Workflow {
     private final WorkflowConfig config;
     private final WorkflowMetadata metadata;
     private final WorkflowStateSchema stateSchema;
+    private volatile ExecutionPlan executionPlan;
 
     private Workflow(Builder builder) {
         this.id = Objects.requireNonNull(builder.id, "Workflow ID required");
@@ -122,6 +124,18 @@ public final class Workflow {
         return stateSchema;
     }
 
+    /// Returns the plan the executor runs this workflow against, compiling it on first use.
+    ///
+    /// @return the execution plan, never null
+    public ExecutionPlan getExecutionPlan() {
+        ExecutionPlan plan = executionPlan;
+        if (plan == null) {
+            plan = ExecutionPlan.compile(this);
+            executionPlan = plan;
+        }
+        return plan;
+    }
+
     /// Creates a new workflow builder.
     ///
     /// @return new builder instance, never null
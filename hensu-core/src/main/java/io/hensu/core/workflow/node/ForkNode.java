@@ -21,6 +21,9 @@ import java.util.Map;
 ///
 /// Fork outputs are stored in context as "{forkNodeId}_futures" for JoinNode to consume.
 ///
+/// `maxConcurrency` caps how many targets run at once; the rest wait for a running target to
+/// finish. `0` runs every target at once.
+///
 /// @see JoinNode
 public final class ForkNode extends Node {
 
@@ -29,6 +32,7 @@ public final class ForkNode extends Node {
     private final Map<String, Object> targetConfigs;
     private final List<TransitionRule> transitionRules;
     private final boolean waitForAll;
+    private final int maxConcurrency;
 
     private ForkNode(Builder builder) {
         super(builder.id);
@@ -38,6 +42,7 @@ public final class ForkNode extends Node {
         this.transitionRules =
                 builder.transitionRules != null ? List.copyOf(builder.transitionRules) : List.of();
         this.waitForAll = builder.waitForAll;
+        this.maxConcurrency = builder.maxConcurrency;
     }
 
     @Override
@@ -72,6 +77,13 @@ public final class ForkNode extends Node {
         return waitForAll;
     }
 
+    /// Maximum number of targets running at once.
+    ///
+    /// @return target concurrency limit, `0` when unbounded
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
     public static Builder builder(String id) {
         return new Builder(id);
     }
@@ -82,6 +94,7 @@ public final class ForkNode extends Node {
         private Map<String, Object> targetConfigs;
         private List<TransitionRule> transitionRules;
         private boolean waitForAll = false;
+        private int maxConcurrency;
 
         private Builder(String id) {
             this.id = id;
@@ -112,10 +125,18 @@ public final class ForkNode extends Node {
             return this;
         }
 
+        public Builder maxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
         public ForkNode build() {
             if (targets.isEmpty()) {
                 throw new IllegalStateException("ForkNode must have at least one target");
             }
+            if (maxConcurrency < 0) {
+                throw new IllegalStateException("ForkNode maxConcurrency must not be negative");
+            }
             return new ForkNode(this);
         }
     }
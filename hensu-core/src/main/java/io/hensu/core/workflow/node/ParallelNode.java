@@ -4,9 +4,12 @@ import io.hensu.core.execution.parallel.Branch;
 import io.hensu.core.execution.parallel.ConsensusConfig;
 import io.hensu.core.execution.parallel.ConsensusStrategy;
 import io.hensu.core.rubric.model.Rubric;
+import io.hensu.core.template.CompiledTemplate;
 import io.hensu.core.workflow.transition.TransitionRule;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /// Parallel node for executing multiple branches concurrently.
 ///
@@ -17,19 +20,32 @@ import java.util.List;
 ///
 /// When consensus is configured, branch results are evaluated using the specified strategy to
 /// determine the final output.
+///
+/// `maxConcurrency` caps how many branches run at once; the rest wait for a running branch to
+/// finish. `0` runs every branch at once.
 public final class ParallelNode extends Node {
 
     private final NodeType nodeType = NodeType.PARALLEL;
     private final List<Branch> branches;
+    private final Map<String, CompiledTemplate> branchPrompts;
     private final ConsensusConfig consensusConfig;
     private final List<TransitionRule> transitionRules;
+    private final int maxConcurrency;
 
     private ParallelNode(Builder builder) {
         super(builder.id);
         this.branches = List.copyOf(builder.branches);
+        Map<String, CompiledTemplate> prompts = new HashMap<>();
+        for (Branch branch : branches) {
+            if (branch.getPrompt() != null) {
+                prompts.put(branch.getId(), CompiledTemplate.compile(branch.getPrompt()));
+            }
+        }
+        this.branchPrompts = Map.copyOf(prompts);
         this.consensusConfig = builder.consensusConfig;
         this.transitionRules =
                 builder.transitionRules != null ? List.copyOf(builder.transitionRules) : List.of();
+        this.maxConcurrency = builder.maxConcurrency;
     }
 
     @Override
@@ -54,6 +70,18 @@ public final class ParallelNode extends Node {
         return branches;
     }
 
+    /// Returns the prompt of `branch` parsed when the node was built.
+    ///
+    /// @param branch a branch of this node, not null
+    /// @return compiled prompt, or null if the branch has no prompt
+    public CompiledTemplate getCompiledPrompt(Branch branch) {
+        CompiledTemplate compiled = branchPrompts.get(branch.getId());
+        if (compiled == null || !compiled.getSource().equals(branch.getPrompt())) {
+            return branch.getPrompt() != null ? CompiledTemplate.compile(branch.getPrompt()) : null;
+        }
+        return compiled;
+    }
+
     public List<TransitionRule> getTransitionRules() {
         return transitionRules;
     }
@@ -62,6 +90,13 @@ public final class ParallelNode extends Node {
         return consensusConfig != null;
     }
 
+    /// Maximum number of branches running at once.
+    ///
+    /// @return branch concurrency limit, `0` when unbounded
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
     public static Builder builder(String id) {
         return new Builder(id);
     }
@@ -71,6 +106,7 @@ public final class ParallelNode extends Node {
         private final List<Branch> branches = new ArrayList<>();
         private ConsensusConfig consensusConfig;
         private List<TransitionRule> transitionRules;
+        private int maxConcurrency;
 
         private Builder(String id) {
             this.id = id;
@@ -117,10 +153,18 @@ public final class ParallelNode extends Node {
             return this;
         }
 
+        public Builder maxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
         public ParallelNode build() {
             if (branches.isEmpty()) {
                 throw new IllegalStateException("ParallelNode must have at least one branch");
             }
+            if (maxConcurrency < 0) {
+                throw new IllegalStateException("ParallelNode maxConcurrency must not be negative");
+            }
             return new ParallelNode(this);
         }
     }
@@ -2,6 +2,7 @@ package io.hensu.core.workflow.node;
 
 import io.hensu.core.review.ReviewConfig;
 import io.hensu.core.rubric.model.Rubric;
+import io.hensu.core.template.CompiledTemplate;
 import io.hensu.core.workflow.transition.TransitionRule;
 import java.util.List;
 import java.util.Objects;
@@ -31,6 +32,7 @@ public final class StandardNode extends Node {
     private final NodeType nodeType = NodeType.STANDARD;
     private final String agentId;
     private final String prompt;
+    private final CompiledTemplate compiledPrompt;
     private final Rubric rubric;
     private final ReviewConfig reviewConfig;
     private final List<TransitionRule> transitionRules;
@@ -41,6 +43,8 @@ public final class StandardNode extends Node {
         // agentId and prompt can be null for nodes that use other execution strategies
         this.agentId = builder.agentId;
         this.prompt = builder.prompt;
+        this.compiledPrompt =
+                builder.prompt != null ? CompiledTemplate.compile(builder.prompt) : null;
         this.rubric = builder.rubric;
         this.reviewConfig = builder.reviewConfig;
         this.transitionRules = List.copyOf(builder.transitionRules);
@@ -70,6 +74,13 @@ public final class StandardNode extends Node {
         return prompt;
     }
 
+    /// Returns the prompt template parsed when the node was built.
+    ///
+    /// @return compiled prompt, or null if the node has no prompt
+    public CompiledTemplate getCompiledPrompt() {
+        return compiledPrompt;
+    }
+
     /// Returns the parsed rubric for quality evaluation.
     ///
     /// @return parsed rubric object, or null if no evaluation required
@@ -0,0 +1,137 @@
+package io.hensu.core.agent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class AgentPermitsTest {
+
+    @Test
+    void shouldNeverBlockWhenUnbounded() throws InterruptedException {
+        AgentPermits permits = AgentPermits.unbounded();
+
+        for (int i = 0; i < 1_000; i++) {
+            permits.acquire("model", "exec-1");
+        }
+
+        assertThat(permits.isBounded()).isFalse();
+        assertThat(permits.getQueueLength("model")).isZero();
+    }
+
+    @Test
+    void shouldKeepPoolsPerModel() throws InterruptedException {
+        AgentPermits permits = new AgentPermits(1);
+
+        AgentPermits.Permit claude = permits.acquire("claude", "exec-1");
+        AgentPermits.Permit gpt = permits.acquire("gpt", "exec-1");
+
+        assertThat(permits.getQueueLength("claude")).isZero();
+        assertThat(permits.getQueueLength("gpt")).isZero();
+        claude.close();
+        gpt.close();
+    }
+
+    @Test
+    void shouldServeWaitingExecutionsRoundRobin() throws Exception {
+        AgentPermits permits = new AgentPermits(1);
+        AgentPermits.Permit held = permits.acquire("model", "busy");
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> waiters = new ArrayList<>();
+
+        // A fan-out execution queues three calls before a single-call execution arrives
+        for (String executionId : List.of("busy", "busy", "busy", "quiet")) {
+            waiters.add(
+                    Thread.ofVirtual()
+                            .start(
+                                    () -> {
+                                        try (AgentPermits.Permit _ =
+                                                permits.acquire("model", executionId)) {
+                                            order.add(executionId);
+                                        } catch (InterruptedException e) {
+                                            Thread.currentThread().interrupt();
+                                        }
+                                    }));
+            awaitQueueLength(permits, waiters.size());
+        }
+
+        held.close();
+        for (Thread waiter : waiters) {
+            waiter.join(5_000);
+        }
+
+        assertThat(order).containsExactly("busy", "quiet", "busy", "busy");
+    }
+
+    @Test
+    void shouldLeaveQueueWhenInterrupted() throws Exception {
+        AgentPermits permits = new AgentPermits(1);
+        AgentPermits.Permit held = permits.acquire("model", "exec-1");
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        Thread waiter =
+                Thread.ofVirtual()
+                        .start(
+                                () -> {
+                                    try {
+                                        permits.acquire("model", "exec-2");
+                                    } catch (InterruptedException e) {
+                                        interrupted.countDown();
+                                    }
+                                });
+        awaitQueueLength(permits, 1);
+        waiter.interrupt();
+
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(permits.getQueueLength("model")).isZero();
+
+        // The interrupted waiter must not have consumed the permit released next
+        held.close();
+        permits.acquire("model", "exec-3").close();
+    }
+
+    @Test
+    void shouldLendPermitWhileSleepingReleased() throws Exception {
+        AgentPermits permits = new AgentPermits(1);
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+
+        try (AgentPermits.Permit _ = permits.acquire("model", "throttled")) {
+            Thread waiter =
+                    Thread.ofVirtual()
+                            .start(
+                                    () -> {
+                                        try (AgentPermits.Permit _ =
+                                                permits.acquire("model", "other")) {
+                                            order.add("other");
+                                        } catch (InterruptedException e) {
+                                            Thread.currentThread().interrupt();
+                                        }
+                                    });
+            awaitQueueLength(permits, 1);
+
+            AgentPermits.sleepReleased(Duration.ofMillis(50));
+            order.add("throttled");
+            waiter.join(5_000);
+        }
+
+        assertThat(order).containsExactly("other", "throttled");
+        assertThat(permits.getQueueLength("model")).isZero();
+        permits.acquire("model", "exec-3").close();
+    }
+
+    private static void awaitQueueLength(AgentPermits permits, int expected)
+            throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (permits.getQueueLength("model") < expected) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Queue never reached " + expected);
+            }
+            Thread.sleep(5);
+        }
+    }
+}
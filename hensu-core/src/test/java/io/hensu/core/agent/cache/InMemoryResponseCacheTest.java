@@ -0,0 +1,97 @@
+package io.hensu.core.agent.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.hensu.core.agent.AgentResponse;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+
+class InMemoryResponseCacheTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    @Test
+    void shouldReturnLiveEntry() {
+        InMemoryResponseCache cache = new InMemoryResponseCache(4, CLOCK);
+
+        cache.put("k", entry("answer", NOW.plus(Duration.ofMinutes(5))));
+
+        assertThat(cache.get("k")).map(e -> e.response().content()).contains("answer");
+    }
+
+    @Test
+    void shouldDropExpiredEntryOnLookup() {
+        MutableClock clock = new MutableClock(NOW);
+        InMemoryResponseCache cache = new InMemoryResponseCache(4, clock);
+        cache.put("k", entry("answer", NOW.plusSeconds(1)));
+
+        clock.now = NOW.plusSeconds(2);
+
+        assertThat(cache.get("k")).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldIgnoreEntryThatIsAlreadyExpired() {
+        InMemoryResponseCache cache = new InMemoryResponseCache(4, CLOCK);
+
+        cache.put("k", entry("stale", NOW.minusSeconds(1)));
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntry() {
+        InMemoryResponseCache cache = new InMemoryResponseCache(2, CLOCK);
+        Instant expiry = NOW.plus(Duration.ofHours(1));
+        cache.put("a", entry("A", expiry));
+        cache.put("b", entry("B", expiry));
+
+        cache.get("a");
+        cache.put("c", entry("C", expiry));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("a")).isPresent();
+        assertThat(cache.get("b")).isEmpty();
+        assertThat(cache.get("c")).isPresent();
+    }
+
+    @Test
+    void shouldRejectNonPositiveSize() {
+        assertThatThrownBy(() -> new InMemoryResponseCache(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+    private static ResponseCache.Entry entry(String content, Instant expiresAt) {
+        return new ResponseCache.Entry(AgentResponse.TextResponse.of(content), expiresAt);
+    }
+}
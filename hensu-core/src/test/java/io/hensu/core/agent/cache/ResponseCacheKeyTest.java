@@ -0,0 +1,65 @@
+package io.hensu.core.agent.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.hensu.core.agent.AgentConfig;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ResponseCacheKeyTest {
+
+    private static final AgentConfig CONFIG =
+            AgentConfig.builder()
+                    .id("writer")
+                    .role("writer")
+                    .model("stub")
+                    .temperature(0.0)
+                    .build();
+
+    @Test
+    void shouldProduceSameKeyForSameInputsInAnyOrder() {
+        Map<String, Object> first = new LinkedHashMap<>();
+        first.put("topic", "caching");
+        first.put("audience", "engineers");
+        Map<String, Object> second = new LinkedHashMap<>();
+        second.put("audience", "engineers");
+        second.put("topic", "caching");
+
+        assertThat(ResponseCacheKey.of(CONFIG, "Write", first))
+                .isEqualTo(ResponseCacheKey.of(CONFIG, "Write", second))
+                .hasSize(64);
+    }
+
+    @Test
+    void shouldChangeKeyWithPrompt() {
+        assertThat(ResponseCacheKey.of(CONFIG, "Write", Map.of()))
+                .isNotEqualTo(ResponseCacheKey.of(CONFIG, "Rewrite", Map.of()));
+    }
+
+    @Test
+    void shouldChangeKeyWithSamplingSettings() {
+        AgentConfig warmer =
+                AgentConfig.builder()
+                        .id("writer")
+                        .role("writer")
+                        .model("stub")
+                        .temperature(0.7)
+                        .build();
+
+        assertThat(ResponseCacheKey.of(CONFIG, "Write", Map.of()))
+                .isNotEqualTo(ResponseCacheKey.of(warmer, "Write", Map.of()));
+    }
+
+    @Test
+    void shouldChangeKeyWithContextVariables() {
+        assertThat(ResponseCacheKey.of(CONFIG, "Write", Map.of("topic", "a")))
+                .isNotEqualTo(ResponseCacheKey.of(CONFIG, "Write", Map.of("topic", "b")));
+    }
+
+    @Test
+    void shouldIgnoreInternalContextVariables() {
+        assertThat(ResponseCacheKey.of(CONFIG, "Write", Map.of("_tenant_id", "acme")))
+                .isEqualTo(ResponseCacheKey.of(CONFIG, "Write", Map.of()));
+    }
+}
@@ -0,0 +1,158 @@
+package io.hensu.core.agent.memory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.hensu.core.agent.Agent;
+import io.hensu.core.agent.AgentResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class ConversationMemoryTest {
+
+    private static final Map<String, Object> CONTEXT = Map.of();
+
+    @Test
+    void shouldDropOldestTurnsOverBudget() {
+        ConversationMemory memory = new ConversationMemory(window(30, MemoryPolicy.Scope.AGENT));
+
+        for (int i = 1; i <= 5; i++) {
+            memory.append(CONTEXT, turn(i));
+        }
+
+        assertThat(memory.turns(CONTEXT)).containsExactly(turn(3), turn(4), turn(5));
+    }
+
+    @Test
+    void shouldFoldOldestTurnsIntoSummary() {
+        ConversationMemory memory = new ConversationMemory(summarize(30));
+        List<List<ConversationTurn>> requests = new ArrayList<>();
+        memory.bindSummarizer(
+                (turns, _) -> {
+                    requests.add(turns);
+                    return "S";
+                });
+
+        for (int i = 1; i <= 4; i++) {
+            memory.append(CONTEXT, turn(i));
+        }
+
+        // Appending never calls the summarizer; the caller writes the summary afterwards
+        assertThat(requests).isEmpty();
+        memory.summarizePending(CONTEXT, Summarizer.Invoker.DIRECT);
+        memory.summarizePending(CONTEXT, Summarizer.Invoker.DIRECT);
+
+        assertThat(requests).containsExactly(List.of(turn(1), turn(2), turn(3)));
+        assertThat(memory.turns(CONTEXT))
+                .containsExactly(
+                        new ConversationTurn(ConversationMemory.SUMMARY_PROMPT, "S"), turn(4));
+    }
+
+    @Test
+    void shouldDropFoldedTurnsWhenSummaryFails() {
+        ConversationMemory memory = new ConversationMemory(summarize(30));
+        memory.bindSummarizer(
+                (_, _) -> {
+                    throw new IllegalStateException("summarizer down");
+                });
+
+        for (int i = 1; i <= 4; i++) {
+            memory.append(CONTEXT, turn(i));
+        }
+        memory.summarizePending(CONTEXT, Summarizer.Invoker.DIRECT);
+
+        assertThat(memory.turns(CONTEXT)).containsExactly(turn(4));
+    }
+
+    @Test
+    void shouldCallSummarizerAgentThroughInvoker() {
+        Agent agent = mock(Agent.class);
+        when(agent.execute(anyString(), anyMap())).thenReturn(AgentResponse.TextResponse.of("S"));
+        ConversationMemory memory = new ConversationMemory(summarize(30));
+        memory.bindSummarizer(Summarizer.usingAgent(() -> Optional.of(agent)));
+        List<Agent> invoked = new ArrayList<>();
+
+        for (int i = 1; i <= 4; i++) {
+            memory.append(CONTEXT, turn(i));
+        }
+        memory.summarizePending(
+                CONTEXT,
+                (summarizer, call) -> {
+                    invoked.add(summarizer);
+                    return call.get();
+                });
+
+        assertThat(invoked).containsExactly(agent);
+        assertThat(memory.turns(CONTEXT))
+                .containsExactly(
+                        new ConversationTurn(ConversationMemory.SUMMARY_PROMPT, "S"), turn(4));
+    }
+
+    @Test
+    void shouldSlideWindowWhenNoSummarizerIsBound() {
+        ConversationMemory memory = new ConversationMemory(summarize(30));
+
+        for (int i = 1; i <= 4; i++) {
+            memory.append(CONTEXT, turn(i));
+        }
+
+        assertThat(memory.turns(CONTEXT)).containsExactly(turn(2), turn(3), turn(4));
+    }
+
+    @Test
+    void shouldKeepOneHistoryPerExecution() {
+        ConversationMemory memory =
+                new ConversationMemory(window(100, MemoryPolicy.Scope.EXECUTION));
+        Map<String, Object> first = Map.of("_execution_id", "exec-1");
+        Map<String, Object> second = Map.of("_execution_id", "exec-2");
+
+        memory.append(first, turn(1));
+        memory.append(second, turn(2));
+
+        assertThat(memory.turns(first)).containsExactly(turn(1));
+        assertThat(memory.turns(second)).containsExactly(turn(2));
+        assertThat(memory.turns(CONTEXT)).isEmpty();
+    }
+
+    @Test
+    void shouldShareHistoryAcrossExecutionsWithAgentScope() {
+        ConversationMemory memory = new ConversationMemory(window(100, MemoryPolicy.Scope.AGENT));
+
+        memory.append(Map.of("_execution_id", "exec-1"), turn(1));
+
+        assertThat(memory.turns(Map.of("_execution_id", "exec-2"))).containsExactly(turn(1));
+    }
+
+    @Test
+    void shouldRequireSummarizerAgentForSummarize() {
+        assertThatThrownBy(
+                        () ->
+                                new MemoryPolicy(
+                                        MemoryPolicy.Strategy.SUMMARIZE,
+                                        100,
+                                        MemoryPolicy.Scope.AGENT,
+                                        null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static MemoryPolicy window(int maxTokens, MemoryPolicy.Scope scope) {
+        return new MemoryPolicy(MemoryPolicy.Strategy.SLIDING_WINDOW, maxTokens, scope, null);
+    }
+
+    private static MemoryPolicy summarize(int maxTokens) {
+        return new MemoryPolicy(
+                MemoryPolicy.Strategy.SUMMARIZE, maxTokens, MemoryPolicy.Scope.AGENT, "summarizer");
+    }
+
+    /// A turn of exactly 10 estimated tokens.
+    private static ConversationTurn turn(int n) {
+        return new ConversationTurn("%-20s".formatted("prompt " + n), "%-20s".formatted("answer"));
+    }
+}
@@ -0,0 +1,155 @@
+package io.hensu.core.agent.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class RateGovernorTest {
+
+    private static final RateLimits FAST_RETRIES =
+            new RateLimits(0, 0, 8, 2, Duration.ofMillis(1), Duration.ofMillis(5));
+
+    @Test
+    void shouldRetryThrottledCallAndHalveConcurrency() throws Exception {
+        RateGovernor.Lane lane = new RateGovernor(FAST_RETRIES).lane("anthropic", "key");
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result =
+                lane.call(
+                        10,
+                        () -> {
+                            if (attempts.getAndIncrement() == 0) {
+                                throw new RateLimitedException("429", null, null);
+                            }
+                            return "ok";
+                        },
+                        _ -> 0);
+
+        assertThat(result).isEqualTo("ok");
+        RateGovernor.Stats stats = lane.stats();
+        assertThat(stats.throttled()).isEqualTo(1);
+        assertThat(stats.retries()).isEqualTo(1);
+        assertThat(stats.admitted()).isEqualTo(2);
+        assertThat(stats.concurrencyLimit()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldGiveUpAfterMaxRetries() {
+        RateGovernor.Lane lane = new RateGovernor(FAST_RETRIES).lane("openai", "key");
+
+        assertThatThrownBy(
+                        () ->
+                                lane.call(
+                                        10,
+                                        () -> {
+                                            throw new RateLimitedException("429", null, null);
+                                        },
+                                        _ -> 0))
+                .isInstanceOf(RateLimitedException.class);
+
+        RateGovernor.Stats stats = lane.stats();
+        assertThat(stats.admitted()).isEqualTo(3);
+        assertThat(stats.exhausted()).isEqualTo(1);
+        assertThat(stats.concurrencyLimit()).isEqualTo(1);
+        assertThat(stats.inFlight()).isZero();
+    }
+
+    @Test
+    void shouldRegainConcurrencyAdditivelyOnSuccess() throws Exception {
+        RateGovernor.Lane lane = new RateGovernor(FAST_RETRIES).lane("openai", "key");
+        AtomicInteger attempts = new AtomicInteger();
+        lane.call(
+                0,
+                () -> {
+                    if (attempts.getAndIncrement() == 0) {
+                        throw new RateLimitedException("429", null, null);
+                    }
+                    return "ok";
+                },
+                _ -> 0);
+
+        // Limit 4 grows by 1/limit per success: five successes reach 5
+        for (int i = 0; i < 4; i++) {
+            lane.call(0, () -> "ok", _ -> 0);
+        }
+
+        assertThat(lane.stats().concurrencyLimit()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldQueueCallsBeyondConcurrencyLimit() throws Exception {
+        RateLimits single = new RateLimits(0, 0, 1, 0, Duration.ZERO, Duration.ZERO);
+        RateGovernor.Lane lane = new RateGovernor(single).lane("google", "key");
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread first = Thread.ofVirtual().start(() -> callQuietly(lane, holding, release));
+        assertThat(holding.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread second = Thread.ofVirtual().start(() -> callQuietly(lane, null, null));
+        awaitWaiting(lane, 1);
+
+        assertThat(lane.stats().inFlight()).isEqualTo(1);
+        release.countDown();
+        first.join(5_000);
+        second.join(5_000);
+        assertThat(lane.stats().admitted()).isEqualTo(2);
+        assertThat(lane.stats().waiting()).isZero();
+    }
+
+    @Test
+    void shouldDelayCallsBeyondTokenQuota() throws Exception {
+        // 600 tokens per minute refill 10 per second
+        RateLimits quota = FAST_RETRIES.withQuotas(0, 600);
+        RateGovernor.Lane lane = new RateGovernor(quota).lane("deepseek", "key");
+
+        lane.call(600, () -> "drain", _ -> 0);
+        lane.call(1, () -> "ok", _ -> 0);
+
+        assertThat(lane.stats().maxQueueMillis()).isGreaterThanOrEqualTo(50.0);
+    }
+
+    @Test
+    void shouldKeepOneLanePerProviderAndKey() {
+        RateGovernor governor = new RateGovernor(RateLimits.DEFAULT);
+
+        assertThat(governor.lane("anthropic", "key-a"))
+                .isSameAs(governor.lane("anthropic", "key-a"))
+                .isNotSameAs(governor.lane("anthropic", "key-b"))
+                .isNotSameAs(governor.lane("openai", "key-a"));
+        assertThat(governor.lane("anthropic", "key-a").getId())
+                .startsWith("anthropic:")
+                .doesNotContain("key-a");
+    }
+
+    private static void callQuietly(
+            RateGovernor.Lane lane, CountDownLatch holding, CountDownLatch release) {
+        try {
+            lane.call(
+                    0,
+                    () -> {
+                        if (holding != null) {
+                            holding.countDown();
+                            release.await();
+                        }
+                        return "ok";
+                    },
+                    _ -> 0);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void awaitWaiting(RateGovernor.Lane lane, int expected)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (lane.stats().waiting() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(lane.stats().waiting()).isEqualTo(expected);
+    }
+}
@@ -168,6 +168,46 @@ class WorkflowExecutorForkJoinTest extends WorkflowExecutorTestBase {
         assertThat(merged).isNull();
     }
 
+    /// Once the first declared sub-flow succeeds, FIRST_SUCCESSFUL cannot pick anything else,
+    /// so the fork must stop waiting on slower siblings instead of joining all of them.
+    @Test
+    void shouldCancelLaterSubFlowsOnceFirstSuccessfulIsDecided() throws Exception {
+        var agentA = mock(Agent.class);
+        var agentB = mock(Agent.class);
+        when(agentRegistry.getAgent("agent-a")).thenReturn(Optional.of(agentA));
+        when(agentRegistry.getAgent("agent-b")).thenReturn(Optional.of(agentB));
+        when(agentA.execute(any(), any())).thenReturn(AgentResponse.TextResponse.of("First"));
+        // Branch B only returns if it is never interrupted
+        var neverReleased = new CountDownLatch(1);
+        when(agentB.execute(any(), any()))
+                .thenAnswer(
+                        _ -> {
+                            neverReleased.await(30, TimeUnit.SECONDS);
+                            return AgentResponse.TextResponse.of("Too late");
+                        });
+
+        long start = System.nanoTime();
+        var result =
+                executor.execute(
+                        buildForkJoinWorkflow(MergeStrategy.FIRST_SUCCESSFUL, false),
+                        new HashMap<>());
+
+        assertThat(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start)).isLessThan(10);
+        assertThat(result).isInstanceOf(ExecutionResult.Completed.class);
+        var history = ((ExecutionResult.Completed) result).getFinalState().getHistory();
+        var forkStep =
+                history.getSteps().stream()
+                        .filter(step -> step.getNodeId().equals("fork1"))
+                        .findFirst()
+                        .orElseThrow();
+
+        assertThat(forkStep.getResult().getMetadata())
+                .containsEntry("cancelled_branches", List.of("taskB"));
+        assertThat(history.getSteps())
+                .extracting(ExecutionStep::getNodeId)
+                .doesNotContain("taskB");
+    }
+
     // — Multi-node sub-flow ————————————————————————————————————————————————
 
     @Test
@@ -26,6 +26,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -274,6 +277,102 @@ class WorkflowExecutorParallelTest extends WorkflowExecutorTestBase {
         assertThat(completed.getFinalState().getContext()).containsEntry("input", "shared-data");
     }
 
+    // — Concurrency limits ——————————————————————————————————————————————————
+
+    @Test
+    void shouldRunAtMostMaxConcurrencyBranchesAtOnce() throws Exception {
+        var agent = mock(Agent.class);
+        when(agentRegistry.getAgent("worker")).thenReturn(Optional.of(agent));
+        var running = new AtomicInteger();
+        var peak = new AtomicInteger();
+        when(agent.execute(any(), any()))
+                .thenAnswer(
+                        _ -> {
+                            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                            Thread.sleep(50);
+                            running.decrementAndGet();
+                            return AgentResponse.TextResponse.of("done");
+                        });
+
+        var builder = ParallelNode.builder("parallel").maxConcurrency(2);
+        for (int i = 0; i < 6; i++) {
+            builder.branch("b" + i, "worker", "Task " + i);
+        }
+        var nodes = new HashMap<String, Node>();
+        nodes.put(
+                "parallel",
+                builder.transitionRules(List.of(new SuccessTransition("end"))).build());
+        nodes.put("end", end("end"));
+        var workflow =
+                Workflow.builder()
+                        .id("bounded-test")
+                        .agents(
+                                Map.of(
+                                        "worker",
+                                        AgentConfig.builder()
+                                                .id("worker")
+                                                .role("Worker")
+                                                .model("test")
+                                                .build()))
+                        .nodes(nodes)
+                        .startNode("parallel")
+                        .build();
+
+        var result = executor.execute(workflow, new HashMap<>());
+
+        assertThat(result).isInstanceOf(ExecutionResult.Completed.class);
+        verify(agent, times(6)).execute(any(), any());
+        assertThat(peak.get()).isLessThanOrEqualTo(2);
+    }
+
+    // — Early consensus ———————————————————————————————————————————————————
+
+    /// Two approvals out of three already fix a majority, so the node must stop waiting on
+    /// the third reviewer instead of joining it.
+    @Test
+    void shouldCancelRemainingBranchesOnceVoteIsDecided() throws Exception {
+        var agent1 = mock(Agent.class);
+        var agent2 = mock(Agent.class);
+        var agent3 = mock(Agent.class);
+        when(agentRegistry.getAgent("reviewer1")).thenReturn(Optional.of(agent1));
+        when(agentRegistry.getAgent("reviewer2")).thenReturn(Optional.of(agent2));
+        when(agentRegistry.getAgent("reviewer3")).thenReturn(Optional.of(agent3));
+        String approve =
+                """
+                {"score": 90, "approved": true, "recommendation": "Good"}""";
+        when(agent1.execute(any(), any())).thenReturn(AgentResponse.TextResponse.of(approve));
+        when(agent2.execute(any(), any())).thenReturn(AgentResponse.TextResponse.of(approve));
+        // Reviewer 3 only returns if it is never interrupted
+        var interrupted = new CountDownLatch(1);
+        when(agent3.execute(any(), any()))
+                .thenAnswer(
+                        _ -> {
+                            try {
+                                new CountDownLatch(1).await(30, TimeUnit.SECONDS);
+                            } catch (InterruptedException e) {
+                                interrupted.countDown();
+                                throw e;
+                            }
+                            return AgentResponse.TextResponse.of(approve);
+                        });
+
+        long start = System.nanoTime();
+        var result = executor.execute(buildMajorityWorkflow(), new HashMap<>());
+
+        assertThat(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start)).isLessThan(10);
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(result).isInstanceOf(ExecutionResult.Completed.class);
+        var completed = (ExecutionResult.Completed) result;
+        assertThat(completed.getExitStatus()).isEqualTo(ExitStatus.SUCCESS);
+        var parallelStep =
+                completed.getFinalState().getHistory().getSteps().stream()
+                        .filter(step -> step.getNodeId().equals("parallel"))
+                        .findFirst()
+                        .orElseThrow();
+        assertThat(parallelStep.getResult().getMetadata())
+                .containsEntry("cancelled_branches", List.of("b3"));
+    }
+
     // — Branch crash under StructuredTaskScope ————————————————————————————
 
     @Test
@@ -3,18 +3,24 @@ package io.hensu.core.execution;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
+import io.hensu.core.agent.Agent;
 import io.hensu.core.agent.AgentResponse;
+import io.hensu.core.agent.StreamingCapable;
 import io.hensu.core.execution.result.ExecutionResult;
 import io.hensu.core.execution.result.ExitStatus;
 import io.hensu.core.workflow.WorkflowTest;
 import io.hensu.core.workflow.node.StandardNode;
 import io.hensu.core.workflow.transition.FailureTransition;
 import io.hensu.core.workflow.transition.SuccessTransition;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.Test;
 
 class WorkflowExecutorTest extends WorkflowExecutorTestBase {
@@ -174,4 +180,41 @@ class WorkflowExecutorTest extends WorkflowExecutorTestBase {
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessageContaining("No valid transition");
     }
+
+    @Test
+    void shouldForwardStreamedOutputAndKeepFinalText() throws Exception {
+        var workflow =
+                WorkflowTest.TestWorkflowBuilder.create("test")
+                        .agent(agentCfg())
+                        .startNode(step("start", "end"))
+                        .node(end("end"))
+                        .build();
+
+        Agent streamingAgent =
+                mock(Agent.class, withSettings().extraInterfaces(StreamingCapable.class));
+        when(((StreamingCapable) streamingAgent).executeStreaming(any(), any(), any()))
+                .thenAnswer(
+                        invocation -> {
+                            Consumer<String> onDelta = invocation.getArgument(2);
+                            onDelta.accept("Agent ");
+                            onDelta.accept("output");
+                            return AgentResponse.TextResponse.of("Agent output");
+                        });
+        when(agentRegistry.getAgent("test-agent")).thenReturn(Optional.of(streamingAgent));
+
+        List<String> deltas = new ArrayList<>();
+        var listener =
+                new ExecutionListener() {
+                    @Override
+                    public void onAgentOutputDelta(String nodeId, String agentId, String delta) {
+                        deltas.add(nodeId + ":" + delta);
+                    }
+                };
+
+        var result = executor.execute(workflow, new HashMap<>(), listener);
+
+        assertThat(deltas).containsExactly("start:Agent ", "start:output");
+        var steps = ((ExecutionResult.Completed) result).getFinalState().getHistory().getSteps();
+        assertThat(steps.getFirst().getResult().getOutput()).isEqualTo("Agent output");
+    }
 }
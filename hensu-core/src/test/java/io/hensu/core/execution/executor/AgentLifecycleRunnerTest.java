@@ -0,0 +1,113 @@
+package io.hensu.core.execution.executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import io.hensu.core.agent.Agent;
+import io.hensu.core.agent.AgentConfig;
+import io.hensu.core.agent.AgentRegistry;
+import io.hensu.core.agent.AgentResponse;
+import io.hensu.core.agent.cache.InMemoryResponseCache;
+import io.hensu.core.agent.cache.ResponseCache;
+import io.hensu.core.execution.ExecutionListener;
+import io.hensu.core.execution.result.ExecutionHistory;
+import io.hensu.core.execution.result.ExitStatus;
+import io.hensu.core.execution.result.ResultStatus;
+import io.hensu.core.state.HensuState;
+import io.hensu.core.workflow.Workflow;
+import io.hensu.core.workflow.node.EndNode;
+import io.hensu.core.workflow.node.StandardNode;
+import io.hensu.core.workflow.transition.SuccessTransition;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class AgentLifecycleRunnerTest {
+
+    private static final String CACHE = AgentLifecycleRunner.CACHE_METADATA_KEY;
+
+    private static final StandardNode NODE =
+            StandardNode.builder()
+                    .id("node1")
+                    .agentId("writer")
+                    .prompt("Write")
+                    .transitionRules(List.of(new SuccessTransition("end")))
+                    .build();
+
+    @Test
+    void shouldServeRepeatedPromptFromCache() {
+        Agent agent = agent(AgentConfig.builder().id("writer").role("writer").model("stub"));
+        ResponseCache cache = new InMemoryResponseCache(16);
+
+        NodeResult first = run(agent, cache);
+        NodeResult second = run(agent, cache);
+
+        assertThat(first.getStatus()).isEqualTo(ResultStatus.SUCCESS);
+        assertThat(first.getMetadata()).containsEntry(CACHE, "miss");
+        assertThat(second.getOutput()).isEqualTo("draft");
+        assertThat(second.getMetadata()).containsEntry(CACHE, "hit");
+        verify(agent, times(1)).execute(anyString(), any());
+    }
+
+    @Test
+    void shouldNotCacheAgentsThatMaintainContext() {
+        Agent agent =
+                agent(
+                        AgentConfig.builder()
+                                .id("writer")
+                                .role("writer")
+                                .model("stub")
+                                .maintainContext(true));
+        ResponseCache cache = new InMemoryResponseCache(16);
+
+        run(agent, cache);
+        NodeResult second = run(agent, cache);
+
+        assertThat(second.getMetadata()).doesNotContainKey(CACHE);
+        verify(agent, times(2)).execute(anyString(), any());
+    }
+
+    private static NodeResult run(Agent agent, ResponseCache cache) {
+        return AgentLifecycleRunner.execute("node1", "writer", "Write", NODE, ctx(agent, cache));
+    }
+
+    private static Agent agent(AgentConfig.Builder config) {
+        Agent agent = mock(Agent.class);
+        when(agent.getId()).thenReturn("writer");
+        when(agent.getConfig()).thenReturn(config.responseCacheTtl(Duration.ofMinutes(5)).build());
+        when(agent.execute(anyString(), any())).thenReturn(AgentResponse.TextResponse.of("draft"));
+        return agent;
+    }
+
+    private static ExecutionContext ctx(Agent agent, ResponseCache cache) {
+        AgentRegistry registry = mock(AgentRegistry.class);
+        when(registry.getAgent("writer")).thenReturn(Optional.of(agent));
+        HensuState state =
+                new HensuState.Builder()
+                        .executionId("exec-1")
+                        .workflowId("wf")
+                        .currentNode("node1")
+                        .context(new HashMap<>(Map.of("topic", "caching")))
+                        .history(new ExecutionHistory())
+                        .build();
+        EndNode end = EndNode.builder().id("end").status(ExitStatus.SUCCESS).build();
+        Workflow workflow =
+                Workflow.builder()
+                        .id("wf")
+                        .startNode("node1")
+                        .nodes(Map.of("node1", NODE, "end", end))
+                        .build();
+        return ExecutionContext.builder()
+                .state(state)
+                .workflow(workflow)
+                .listener(ExecutionListener.NOOP)
+                .agentRegistry(registry)
+                .responseCache(cache)
+                .build();
+    }
+}
@@ -15,15 +15,20 @@ import io.hensu.core.execution.result.ExitStatus;
 import io.hensu.core.execution.result.ResultStatus;
 import io.hensu.core.state.HensuState;
 import io.hensu.core.tool.DefaultToolRegistry;
+import io.hensu.core.tool.ToolCallResult;
 import io.hensu.core.tool.ToolDefinition;
 import io.hensu.core.tool.ToolRegistry;
 import io.hensu.core.workflow.Workflow;
 import io.hensu.core.workflow.node.EndNode;
 import io.hensu.core.workflow.node.StandardNode;
 import io.hensu.core.workflow.transition.SuccessTransition;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -172,6 +177,61 @@ class ToolLoopRunnerTest {
         }
     }
 
+    @Nested
+    class ParallelRound {
+
+        @Test
+        void shouldRunRoundConcurrentlyAndSubmitResultsTogether() {
+            // Each call waits for the other two; a sequential loop would time out
+            CountDownLatch allStarted = new CountDownLatch(3);
+            when(mockActionExecutor.execute(any(Action.class), any()))
+                    .thenAnswer(
+                            invocation -> {
+                                allStarted.countDown();
+                                boolean together = allStarted.await(5, TimeUnit.SECONDS);
+                                return ActionResult.success("ok", together ? "found" : "alone");
+                            });
+
+            AgentConfig config = agentConfig(List.of("search"));
+            BatchingAgent agent = new BatchingAgent(config, 3);
+            ExecutionContext ctx = buildContext(config, agent);
+
+            NodeResult result = ToolLoopRunner.execute("node1", "test-agent", "Search", agent, ctx);
+
+            assertThat(result.getStatus()).isEqualTo(ResultStatus.SUCCESS);
+            assertThat(agent.submissions).hasSize(1);
+            assertThat(agent.submissions.getFirst())
+                    .extracting(ToolCallResult::output)
+                    .containsExactly("found", "found", "found");
+        }
+
+        @Test
+        void shouldChargeBudgetPerCallWithinRound() {
+            when(mockActionExecutor.execute(any(Action.class), any()))
+                    .thenReturn(ActionResult.success("ok", "found"));
+
+            AgentConfig config =
+                    AgentConfig.builder()
+                            .id("test-agent")
+                            .role("tester")
+                            .model("stub")
+                            .tools(List.of("search"))
+                            .maxToolCalls(2)
+                            .build();
+            BatchingAgent agent = new BatchingAgent(config, 3);
+            ExecutionContext ctx = buildContext(config, agent);
+
+            NodeResult result = ToolLoopRunner.execute("node1", "test-agent", "Search", agent, ctx);
+
+            assertThat(result.getStatus()).isEqualTo(ResultStatus.SUCCESS);
+            verify(mockActionExecutor, times(2)).execute(any(Action.Send.class), any());
+            assertThat(agent.submissions.getFirst())
+                    .extracting(ToolCallResult::success)
+                    .containsExactly(true, true, false);
+            assertThat(agent.submissions.getFirst().getLast().error()).contains("budget exhausted");
+        }
+    }
+
     @Nested
     class UnknownTool {
 
@@ -313,6 +373,76 @@ class ToolLoopRunnerTest {
 
     // ——— Helpers ———————————————————————————————————————————————————————
 
+    /// Agent whose model asks for `roundSize` searches in its first turn, then answers.
+    private static final class BatchingAgent implements Agent, ToolCapable {
+
+        private final AgentConfig config;
+        private final int roundSize;
+        private final List<List<ToolCallResult>> submissions = new ArrayList<>();
+
+        BatchingAgent(AgentConfig config, int roundSize) {
+            this.config = config;
+            this.roundSize = roundSize;
+        }
+
+        @Override
+        public AgentResponse execute(String prompt, Map<String, Object> context) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String getId() {
+            return config.getId();
+        }
+
+        @Override
+        public AgentConfig getConfig() {
+            return config;
+        }
+
+        @Override
+        public ToolSession openToolSession(
+                String prompt, Map<String, Object> context, List<ToolDefinition> tools) {
+            return new ToolSession() {
+                @Override
+                public AgentResponse start() {
+                    return search(0);
+                }
+
+                @Override
+                public List<AgentResponse.ToolRequest> takePendingToolRequests() {
+                    List<AgentResponse.ToolRequest> rest = new ArrayList<>();
+                    for (int i = 1; i < roundSize; i++) {
+                        rest.add(search(i));
+                    }
+                    return rest;
+                }
+
+                @Override
+                public AgentResponse submitAll(
+                        List<ToolCallResult> results, Consumer<String> onDelta) {
+                    submissions.add(results);
+                    return AgentResponse.TextResponse.of("Answer from " + results.size());
+                }
+
+                @Override
+                public AgentResponse submit(ToolCallResult result) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public void compact() {}
+
+                @Override
+                public void close() {}
+            };
+        }
+
+        private static AgentResponse.ToolRequest search(int i) {
+            return AgentResponse.ToolRequest.of("search", Map.of("query", "q" + i));
+        }
+    }
+
     private AgentConfig agentConfig(List<String> tools) {
         return AgentConfig.builder()
                 .id("test-agent")
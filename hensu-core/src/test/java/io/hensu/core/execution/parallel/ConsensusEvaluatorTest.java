@@ -13,6 +13,7 @@ import io.hensu.core.execution.ExecutionListener;
 import io.hensu.core.execution.executor.NodeResult;
 import io.hensu.core.execution.result.ResultStatus;
 import io.hensu.core.state.HensuState;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -196,6 +197,77 @@ class ConsensusEvaluatorTest {
         }
     }
 
+    @Nested
+    class EarlyDecisionTest {
+
+        private final ConsensusConfig majority =
+                new ConsensusConfig(null, ConsensusStrategy.MAJORITY_VOTE, 0.5);
+
+        @Test
+        void shouldDecideMajorityOnceApprovalsExceedRequired() {
+            // 5 branches at 50% -> need >2; three approvals fix the outcome
+            List<BranchResult> results =
+                    Arrays.asList(
+                            approving("b1", 90.0),
+                            null,
+                            approving("b3", 80.0),
+                            approving("b4", 75.0),
+                            null);
+
+            assertThat(evaluator.isDecided(majority, results)).isTrue();
+        }
+
+        @Test
+        void shouldDecideMajorityOnceApprovalIsOutOfReach() {
+            // 1 approval + 1 pending can never exceed 2
+            List<BranchResult> results =
+                    Arrays.asList(
+                            rejecting("b1", 10.0),
+                            approving("b2", 90.0),
+                            rejecting("b3", 20.0),
+                            rejecting("b4", 30.0),
+                            null);
+
+            assertThat(evaluator.isDecided(majority, results)).isTrue();
+        }
+
+        @Test
+        void shouldNotDecideMajorityWhilePendingCanTipIt() {
+            List<BranchResult> results =
+                    Arrays.asList(approving("b1", 90.0), approving("b2", 85.0), null, null, null);
+
+            assertThat(evaluator.isDecided(majority, results)).isFalse();
+        }
+
+        @Test
+        void shouldDecideUnanimousOnFirstRejection() {
+            ConsensusConfig config = new ConsensusConfig(null, ConsensusStrategy.UNANIMOUS, null);
+
+            assertThat(evaluator.isDecided(config, Arrays.asList(rejecting("b1", 10.0), null)))
+                    .isTrue();
+            assertThat(evaluator.isDecided(config, Arrays.asList(approving("b1", 90.0), null)))
+                    .isFalse();
+        }
+
+        @Test
+        void shouldNeverDecideWeightedOrJudgeEarly() {
+            List<BranchResult> results = Arrays.asList(approving("b1", 90.0), null);
+
+            assertThat(
+                            evaluator.isDecided(
+                                    new ConsensusConfig(
+                                            null, ConsensusStrategy.WEIGHTED_VOTE, 0.1),
+                                    results))
+                    .isFalse();
+            assertThat(
+                            evaluator.isDecided(
+                                    new ConsensusConfig(
+                                            "judge", ConsensusStrategy.JUDGE_DECIDES, null),
+                                    results))
+                    .isFalse();
+        }
+    }
+
     @Nested
     class WeightedVoteTest {
 
@@ -0,0 +1,102 @@
+package io.hensu.core.execution.parallel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.StructuredTaskScope.Subtask;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class EarlyCompletionJoinerTest {
+
+    @Test
+    void shouldCancelUnfinishedSubtasksOnceDecided() throws Exception {
+        var interrupted = new CountDownLatch(1);
+        var joiner =
+                new EarlyCompletionJoiner<String>(
+                        results -> results.stream().filter("yes"::equals).count() >= 2);
+
+        List<Subtask<String>> subtasks = new ArrayList<>();
+        long start = System.nanoTime();
+        try (var scope = StructuredTaskScope.open(joiner)) {
+            subtasks.add(scope.fork(() -> "yes"));
+            subtasks.add(scope.fork(() -> "yes"));
+            subtasks.add(
+                    scope.fork(
+                            () -> {
+                                try {
+                                    new CountDownLatch(1).await(30, TimeUnit.SECONDS);
+                                } catch (InterruptedException e) {
+                                    interrupted.countDown();
+                                    throw e;
+                                }
+                                return "too late";
+                            }));
+            scope.join();
+        }
+
+        assertThat(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start)).isLessThan(10);
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(subtasks)
+                .extracting(Subtask::state)
+                .containsExactly(
+                        Subtask.State.SUCCESS, Subtask.State.SUCCESS, Subtask.State.UNAVAILABLE);
+    }
+
+    @Test
+    void shouldAwaitAllWithoutDecision() throws Exception {
+        var joiner = new EarlyCompletionJoiner<Integer>(_ -> false);
+
+        List<Subtask<Integer>> subtasks = new ArrayList<>();
+        try (var scope = StructuredTaskScope.open(joiner)) {
+            for (int i = 0; i < 4; i++) {
+                int result = i;
+                subtasks.add(scope.fork(() -> result));
+            }
+            scope.join();
+        }
+
+        assertThat(subtasks).extracting(Subtask::get).containsExactly(0, 1, 2, 3);
+    }
+
+    @Test
+    void shouldPassResultsInForkOrderWithNullForUnfinished() throws Exception {
+        var secondSeen = new CountDownLatch(1);
+        List<List<String>> seen = Collections.synchronizedList(new ArrayList<>());
+        var joiner =
+                new EarlyCompletionJoiner<String>(
+                        results -> {
+                            seen.add(new ArrayList<>(results));
+                            secondSeen.countDown();
+                            return false;
+                        });
+
+        try (var scope = StructuredTaskScope.open(joiner)) {
+            // The first subtask finishes only after the second's completion was reported
+            scope.fork(
+                    () -> {
+                        secondSeen.await();
+                        return "first";
+                    });
+            scope.fork(() -> "second");
+            scope.join();
+        }
+
+        assertThat(seen)
+                .containsExactly(
+                        Arrays.asList(null, "second"), Arrays.asList("first", "second"));
+    }
+
+    @Test
+    void shouldRejectNullDecision() {
+        assertThatThrownBy(() -> new EarlyCompletionJoiner<String>(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("decided");
+    }
+}
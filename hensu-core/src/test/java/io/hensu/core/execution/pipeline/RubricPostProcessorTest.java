@@ -413,10 +413,7 @@ class RubricPostProcessorTest {
         var history = new ExecutionHistory();
         history.addStep(
                 new ExecutionStep(
-                        "previous",
-                        null,
-                        NodeResult.success("prev output", Map.of()),
-                        Instant.now()));
+                        "previous", NodeResult.success("prev output", Map.of()), Instant.now()));
 
         var state =
                 new HensuState.Builder()
@@ -463,10 +460,7 @@ class RubricPostProcessorTest {
         var history = new ExecutionHistory();
         history.addStep(
                 new ExecutionStep(
-                        "previous",
-                        null,
-                        NodeResult.success("prev output", Map.of()),
-                        Instant.now()));
+                        "previous", NodeResult.success("prev output", Map.of()), Instant.now()));
 
         var state =
                 new HensuState.Builder()
@@ -0,0 +1,82 @@
+package io.hensu.core.execution.result;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.hensu.core.execution.executor.NodeResult;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/// Verifies the context-delta encoding {@link ExecutionHistory#recordStep} applies to steps.
+@DisplayName("ExecutionHistory.recordStep")
+class ExecutionHistoryTest {
+
+    @Test
+    @DisplayName("the first recorded step is a keyframe carrying the full context")
+    void firstStepIsKeyframe() {
+        var history = new ExecutionHistory();
+
+        history.recordStep("a", Map.of("topic", "AI", "draft", "v1"), result(), Instant.now());
+
+        ExecutionStep step = history.getSteps().getFirst();
+        assertThat(step.isKeyframe()).isTrue();
+        assertThat(step.getContextDelta()).containsOnlyKeys("topic", "draft");
+    }
+
+    @Test
+    @DisplayName("later steps store only changed and removed keys")
+    void laterStepsStoreDelta() {
+        var history = new ExecutionHistory();
+        var context = new HashMap<String, Object>(Map.of("topic", "AI", "draft", "v1"));
+        history.recordStep("a", context, result(), Instant.now());
+
+        context.put("draft", "v2");
+        context.put("score", 8);
+        context.remove("topic");
+        history.recordStep("b", context, result(), Instant.now());
+
+        ExecutionStep step = history.getSteps().get(1);
+        assertThat(step.isKeyframe()).isFalse();
+        assertThat(step.getContextDelta()).containsOnlyKeys("draft", "score");
+        assertThat(step.getRemovedKeys()).containsExactly("topic");
+    }
+
+    @Test
+    @DisplayName("contextAt replays deltas from the nearest keyframe")
+    void contextAtReplaysDeltas() {
+        var history = new ExecutionHistory();
+        var context = new HashMap<String, Object>(Map.of("topic", "AI"));
+        history.recordStep("a", context, result(), Instant.now());
+        context.put("draft", "v1");
+        history.recordStep("b", context, result(), Instant.now());
+        context.put("draft", "v2");
+        context.remove("topic");
+        history.recordStep("c", context, result(), Instant.now());
+
+        assertThat(history.contextAt(0)).isEqualTo(Map.of("topic", "AI"));
+        assertThat(history.contextAt(1)).isEqualTo(Map.of("topic", "AI", "draft", "v1"));
+        assertThat(history.contextAt(2)).isEqualTo(Map.of("draft", "v2"));
+    }
+
+    @Test
+    @DisplayName("a copy and a spliced-in step both restart the chain with a keyframe")
+    void copyAndAddStepResetBaseline() {
+        var history = new ExecutionHistory();
+        history.recordStep("a", Map.of("k", 1), result(), Instant.now());
+
+        ExecutionHistory copy = history.copy();
+        copy.recordStep("b", Map.of("k", 1), result(), Instant.now());
+        assertThat(copy.getSteps().get(1).isKeyframe()).isTrue();
+
+        history.addStep(new ExecutionStep("branch", result(), Instant.now()));
+        history.recordStep("c", Map.of("k", 1), result(), Instant.now());
+        assertThat(history.getSteps().get(2).isKeyframe()).isTrue();
+        assertThat(history.contextAt(2)).isEqualTo(Map.of("k", 1));
+    }
+
+    private NodeResult result() {
+        return NodeResult.success("output", Map.of());
+    }
+}
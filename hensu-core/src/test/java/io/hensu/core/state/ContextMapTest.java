@@ -0,0 +1,138 @@
+package io.hensu.core.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/// Verifies that {@link ContextMap} behaves as a `HashMap` and that forks stay independent.
+@DisplayName("ContextMap")
+class ContextMapTest {
+
+    @Test
+    @DisplayName("matches HashMap under random puts, removes and null values")
+    void matchesHashMap() {
+        Random random = new Random(7);
+        ContextMap map = new ContextMap();
+        Map<String, Object> expected = new HashMap<>();
+
+        for (int i = 0; i < 20_000; i++) {
+            String key = "k" + random.nextInt(3_000);
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+            } else {
+                Object value = random.nextInt(5) == 0 ? null : random.nextInt(100);
+                assertThat(map.put(key, value)).isEqualTo(expected.put(key, value));
+            }
+        }
+
+        assertThat(map).hasSameSizeAs(expected).isEqualTo(expected);
+        assertThat(new HashMap<>(map)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("keys with identical hash codes are kept apart")
+    void hashCollisions() {
+        // "Aa" and "BB" share a String hash code
+        ContextMap map = new ContextMap();
+        map.put("Aa", 1);
+        map.put("BB", 2);
+
+        assertThat(map).containsOnly(entry("Aa", 1), entry("BB", 2));
+        assertThat(map.remove("Aa")).isEqualTo(1);
+        assertThat(map).containsOnly(entry("BB", 2));
+    }
+
+    @Test
+    @DisplayName("a fork and its parent never see each other's writes")
+    void forksAreIndependent() {
+        ContextMap parent = ContextMap.copyOf(numbered(1_000));
+        ContextMap left = parent.fork();
+        ContextMap right = parent.fork();
+
+        left.put("k1", "left");
+        left.remove("k2");
+        right.put("extra", "right");
+        parent.put("k3", "parent");
+
+        assertThat(left).containsEntry("k1", "left").doesNotContainKey("k2").hasSize(999);
+        assertThat(right).containsEntry("k1", 1).containsEntry("k3", 3).hasSize(1_001);
+        assertThat(parent).containsEntry("k1", 1).containsEntry("k3", "parent").hasSize(1_000);
+    }
+
+    @Test
+    @DisplayName("changes lists new and changed keys from the write set only")
+    void changesFromWriteSet() {
+        ContextMap branch = ContextMap.copyOf(Map.of("topic", "AI", "draft", "v0")).fork();
+
+        branch.put("draft", "v1");
+        branch.put("topic", "AI");
+        branch.put("score", 9);
+        branch.put("tmp", 1);
+        branch.remove("tmp");
+
+        assertThat(branch.changes()).containsOnly(entry("draft", "v1"), entry("score", 9));
+    }
+
+    @Test
+    @DisplayName("iterator removal and entry updates write through without disturbing the walk")
+    void iteratorWritesThrough() {
+        ContextMap map = ContextMap.copyOf(numbered(100));
+
+        Map<String, Integer> visited = new HashMap<>();
+        for (Iterator<Map.Entry<String, Object>> it = map.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<String, Object> entry = it.next();
+            // Keys put during the walk may or may not be returned
+            if (entry.getKey().startsWith("new-")) continue;
+            visited.merge(entry.getKey(), 1, Integer::sum);
+            if ((Integer) entry.getValue() % 2 == 0) {
+                it.remove();
+            } else {
+                entry.setValue(-1);
+                map.put("new-" + entry.getKey(), 0);
+            }
+        }
+
+        assertThat(visited).hasSize(100).allSatisfy((key, count) -> assertThat(count).isOne());
+        assertThat(map).hasSize(100).containsEntry("k1", -1).doesNotContainKey("k2");
+        assertThat(map.keySet().remove("k1")).isTrue();
+        assertThat(map.keySet().remove("k1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("forks stay independent after either side is iterated")
+    void iterationLeavesForksIndependent() {
+        ContextMap parent = ContextMap.copyOf(numbered(100));
+        parent.put("k1", "parent");
+        ContextMap fork = parent.fork();
+        parent.forEach((key, value) -> {});
+        fork.keySet().forEach(key -> {});
+
+        parent.put("k2", "parent");
+        fork.put("k3", "fork");
+
+        assertThat(parent).containsEntry("k2", "parent").containsEntry("k3", 3);
+        assertThat(fork).containsEntry("k1", "parent").containsEntry("k2", 2);
+    }
+
+    @Test
+    @DisplayName("null keys are rejected")
+    void rejectsNullKeys() {
+        assertThatThrownBy(() -> new ContextMap().put(null, 1))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    private static Map<String, Object> numbered(int count) {
+        Map<String, Object> entries = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            entries.put("k" + i, i);
+        }
+        return entries;
+    }
+}
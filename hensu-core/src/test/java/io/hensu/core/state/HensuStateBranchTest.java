@@ -50,6 +50,21 @@ class HensuStateBranchTest {
         assertThat(right.getHistory().getSteps()).hasSize(2);
     }
 
+    @Test
+    @DisplayName("branches write to forked contexts and report only their own changes")
+    void branchContextIsIsolated() {
+        HensuState parent = parentState();
+
+        HensuState left = parent.branch("left");
+        HensuState right = parent.branch("right");
+        left.getContext().put("summary", "left");
+        right.getContext().put("topic", "ML");
+
+        assertThat(parent.getContext()).containsOnlyKeys("topic").containsEntry("topic", "AI");
+        assertThat(left.getContext().changes()).isEqualTo(Map.of("summary", "left"));
+        assertThat(right.getContext().changes()).isEqualTo(Map.of("topic", "ML"));
+    }
+
     private HensuState parentState() {
         return new HensuState.Builder()
                 .executionId("exec-1")
@@ -147,4 +147,35 @@ class InMemoryWorkflowStateRepositoryTest {
                 .extracting(HensuSnapshot::executionId)
                 .containsExactlyInAnyOrder("exec-1", "exec-2");
     }
+
+    @Test
+    void shouldProjectStatusWithCorrelationId() {
+        repository.save("tenant-1", awaitingSnapshot("exec-1", "review", "paused", "corr-1"));
+
+        ExecutionStatusView view = repository.findStatus("tenant-1", "exec-1").orElseThrow();
+
+        assertThat(view.workflowId()).isEqualTo("wf-1");
+        assertThat(view.currentNodeId()).isEqualTo("review");
+        assertThat(view.correlationId()).isEqualTo("corr-1");
+        assertThat(view.isCompleted()).isFalse();
+        assertThat(repository.findStatus("tenant-1", "missing")).isEmpty();
+    }
+
+    @Test
+    void shouldPagePausedStatusesAfterCursor() {
+        for (String id : List.of("exec-3", "exec-1", "exec-2")) {
+            repository.save("tenant-1", awaitingSnapshot(id, "review", "paused", "corr-" + id));
+        }
+
+        List<ExecutionStatusView> first = repository.findPausedStatuses("tenant-1", null, 2);
+        List<ExecutionStatusView> second =
+                repository.findPausedStatuses(
+                        "tenant-1", ExecutionCursor.after(first.getLast()), 2);
+
+        assertThat(first).isSortedAccordingTo(ExecutionCursor.ORDER).hasSize(2);
+        assertThat(second).hasSize(1);
+        assertThat(List.of(first.get(0), first.get(1), second.get(0)))
+                .extracting(ExecutionStatusView::executionId)
+                .containsExactlyInAnyOrder("exec-1", "exec-2", "exec-3");
+    }
 }
@@ -0,0 +1,133 @@
+package io.hensu.core.template;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.hensu.core.util.JsonUtil;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@DisplayName("CompiledTemplate")
+class CompiledTemplateTest {
+
+    private static final Map<String, Object> CONTEXT =
+            Map.of("topic", "AI", "n", 3, "tags", List.of("a", "b"), "_x1", "under");
+
+    private static final Pattern REGEX = Pattern.compile("\\{([a-zA-Z_][a-zA-Z0-9_]*)}");
+
+    @Test
+    void shouldSubstituteVariablesBetweenLiterals() {
+        CompiledTemplate template = CompiledTemplate.compile("Write about {topic} in {n} parts.");
+
+        assertThat(template.render(CONTEXT)).isEqualTo("Write about AI in 3 parts.");
+        assertThat(template.getVariables()).containsExactly("topic", "n");
+    }
+
+    @Test
+    void shouldRenderMissingVariablesAsEmpty() {
+        assertThat(CompiledTemplate.compile("[{missing}]").render(CONTEXT)).isEqualTo("[]");
+    }
+
+    @Test
+    void shouldRenderCollectionsAsJson() {
+        assertThat(CompiledTemplate.compile("tags={tags}").render(CONTEXT))
+                .isEqualTo("tags=[\"a\",\"b\"]");
+    }
+
+    @Test
+    void shouldReturnSourceForConstantTemplate() {
+        CompiledTemplate template = CompiledTemplate.compile("no variables here");
+
+        assertThat(template.isConstant()).isTrue();
+        assertThat(template.render(CONTEXT)).isSameAs(template.getSource());
+    }
+
+    @Test
+    void shouldCompileNullToEmptyTemplate() {
+        assertThat(CompiledTemplate.compile(null).render(CONTEXT)).isEmpty();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(
+            strings = {
+                "{topic}",
+                "{{topic}}",
+                "{ topic }",
+                "{1topic} {topic}",
+                "{top{topic}",
+                "{_x1}{n}{topic",
+                "trailing {",
+                "}{}{topic}{",
+                "json {\"k\": {n}}"
+            })
+    void shouldMatchSimpleTemplateResolver(String source) {
+        String expected = regexResolve(source, CONTEXT);
+
+        assertThat(CompiledTemplate.compile(source).render(CONTEXT)).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldEncodeSharedValueOnce() {
+        CountingList tags = new CountingList(List.of("x", "y"));
+        Map<String, Object> context = new HashMap<>(Map.of("tags", tags));
+        EncodedValues encoded = new EncodedValues();
+
+        String first = CompiledTemplate.compile("A {tags}").render(context, encoded);
+        String second = CompiledTemplate.compile("B {tags}").render(context, encoded);
+
+        assertThat(first).isEqualTo("A [\"x\",\"y\"]");
+        assertThat(second).isEqualTo("B [\"x\",\"y\"]");
+        assertThat(tags.iterations).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCacheStringTemplatesInResolver() {
+        SimpleTemplateResolver resolver = new SimpleTemplateResolver();
+
+        assertThat(resolver.resolve("Hi {topic}", CONTEXT)).isEqualTo("Hi AI");
+        assertThat(resolver.resolve("Hi {topic}", Map.of("topic", "ML"))).isEqualTo("Hi ML");
+        assertThat(resolver.resolve((String) null, CONTEXT)).isEmpty();
+    }
+
+    /// Reference implementation the compiled form must stay equivalent to.
+    private static String regexResolve(String template, Map<String, Object> context) {
+        Matcher matcher = REGEX.matcher(template);
+        StringBuilder result = new StringBuilder();
+        while (matcher.find()) {
+            Object value = context.get(matcher.group(1));
+            String replacement =
+                    switch (value) {
+                        case null -> "";
+                        case String s -> s;
+                        case Map<?, ?> _, Collection<?> _ -> JsonUtil.toJson(value);
+                        default -> value.toString();
+                    };
+            matcher.appendReplacement(result, Matcher.quoteReplacement(replacement));
+        }
+        return matcher.appendTail(result).toString();
+    }
+
+    /// List counting how often it is iterated, i.e. JSON-encoded.
+    private static final class CountingList extends ArrayList<String> {
+        int iterations;
+
+        CountingList(List<String> values) {
+            super(values);
+        }
+
+        @Override
+        public Iterator<String> iterator() {
+            iterations++;
+            return super.iterator();
+        }
+    }
+}
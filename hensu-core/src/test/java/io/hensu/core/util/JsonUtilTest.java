@@ -0,0 +1,90 @@
+package io.hensu.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class JsonUtilTest {
+
+    private static final Logger LOG = Logger.getLogger(JsonUtilTest.class.getName());
+
+    private static final String JSON =
+            """
+            {"summary": "a \\"quoted\\" \\u00e9 text", "score": 87.5, "approved": true,
+             "meta": {"tags": ["x", {"deep": [1, 2]}], "note": null},
+             "items": [1, "two", false], "nothing": null, "skipped": "\\\\ \\n"}
+            """;
+
+    @Test
+    void shouldExtractRequestedKeysInOnePass() {
+        Map<String, Object> values =
+                JsonUtil.extractJsonValues(JSON, List.of("score", "summary", "items", "absent"));
+
+        assertThat(values)
+                .containsOnlyKeys("summary", "score", "items")
+                .containsEntry("summary", "a \"quoted\" é text")
+                .containsEntry("score", 87.5)
+                .containsEntry("items", List.of(1.0, "two", false));
+    }
+
+    @Test
+    void shouldMaterializeNestedObjects() {
+        Object meta = JsonUtil.extractJsonValue(JSON, "meta");
+
+        assertThat(meta).isInstanceOf(Map.class);
+        assertThat(((Map<?, ?>) meta).get("tags"))
+                .isEqualTo(List.of("x", Map.of("deep", List.of(1.0, 2.0))));
+    }
+
+    @Test
+    void shouldDistinguishJsonNullFromAbsentKey() {
+        assertThat(JsonUtil.extractJsonValue(JSON, "nothing")).isSameAs(JsonUtil.NULL_SENTINEL);
+        assertThat(JsonUtil.extractJsonValue(JSON, "absent")).isNull();
+    }
+
+    @Test
+    void shouldKeepLastValueOfRepeatedKey() {
+        assertThat(JsonUtil.extractJsonValue("{\"k\": 1, \"k\": 2}", "k")).isEqualTo(2.0);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(
+            strings = {
+                "{\"k\": 1, \"other\": [1, 2}",
+                "{\"k\": 1, \"other\": tru}",
+                "{\"k\": 1, \"other\": \"\\u12\"}",
+                "{\"k\": 1, \"other\": 2",
+                "{\"k\": 1 \"other\": 2}"
+            })
+    void shouldRejectMalformedObjectEvenWhenSkippingValues(String json) {
+        assertThat(JsonUtil.extractJsonValues(json, List.of("k"))).isEmpty();
+    }
+
+    @Test
+    void shouldExtractOutputParamsFromProse() {
+        String output = "Here you go:\n```json\n" + JSON + "```\nAnything else?";
+        Map<String, Object> context = new HashMap<>();
+        List<String> params = List.of("approved", "nothing", "absent");
+
+        JsonUtil.extractOutputParams(params, output, context, LOG);
+
+        assertThat(context).containsOnlyKeys("approved", "nothing");
+        assertThat(context.get("approved")).isEqualTo(true);
+        assertThat(context.get("nothing")).isNull();
+    }
+
+    @Test
+    void shouldRoundTripSerializedValues() {
+        Map<String, Object> value = Map.of("list", List.of("a", 1.5, true), "text", "q\"\n");
+
+        Object parsed = JsonUtil.extractJsonValue(JsonUtil.toJson(Map.of("v", value)), "v");
+
+        assertThat(parsed).isEqualTo(value);
+    }
+}
@@ -0,0 +1,81 @@
+package io.hensu.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class StreamingJsonExtractorTest {
+
+    private static final String OUTPUT =
+            "Sure.\n```json\n{\"summary\": \"done {ok}\", \"meta\": {\"a\": [1, \"}\"]},"
+                    + " \"score\": 87, \"approved\": false}\n```";
+
+    @Test
+    void shouldReportFieldsAsSoonAsTheirValueCompletes() {
+        StreamingJsonExtractor extractor =
+                new StreamingJsonExtractor(List.of("summary", "score", "approved"));
+
+        assertThat(extractor.append("Sure.\n```json\n{\"summary\": \"do")).isEmpty();
+        assertThat(extractor.append("ne {ok}\", \"meta\": {\"a\": [1,"))
+                .containsExactly(Map.entry("summary", "done {ok}"));
+        assertThat(extractor.append(" \"}\"]}, \"score\": 8")).isEmpty();
+        assertThat(extractor.append("7, \"approved\": fa"))
+                .containsExactly(Map.entry("score", 87.0));
+        assertThat(extractor.append("lse}")).containsExactly(Map.entry("approved", false));
+        assertThat(extractor.isComplete()).isTrue();
+    }
+
+    @Test
+    void shouldMatchWholeOutputExtractionForAnyChunking() {
+        List<String> keys = List.of("summary", "meta", "score", "approved");
+        Map<String, Object> expected =
+                JsonUtil.extractJsonValues(JsonUtil.extractJsonFromOutput(OUTPUT), keys);
+
+        for (int size = 1; size <= OUTPUT.length(); size++) {
+            StreamingJsonExtractor extractor = new StreamingJsonExtractor(keys);
+            Map<String, Object> seen = new HashMap<>();
+            for (int i = 0; i < OUTPUT.length(); i += size) {
+                int end = Math.min(OUTPUT.length(), i + size);
+                seen.putAll(extractor.append(OUTPUT.substring(i, end)));
+            }
+
+            assertThat(seen).as("chunk size %d", size).isEqualTo(expected);
+            assertThat(extractor.fields()).isEqualTo(expected);
+            assertThat(extractor.isComplete()).isTrue();
+        }
+    }
+
+    @Test
+    void shouldBufferOnlyTheMemberInProgress() {
+        StreamingJsonExtractor extractor = new StreamingJsonExtractor(List.of("a", "body"));
+
+        assertThat(extractor.append("Let me think. ".repeat(1_000))).isEmpty();
+        assertThat(extractor.buffered()).isZero();
+
+        assertThat(extractor.append("{\"a\": 1, \"body\": \""))
+                .containsExactly(Map.entry("a", 1.0));
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(extractor.append("word ")).isEmpty();
+        }
+        assertThat(extractor.buffered()).isLessThan(60_000);
+
+        assertThat(extractor.append("\"}"))
+                .containsExactly(Map.entry("body", "word ".repeat(10_000)));
+        assertThat(extractor.append(" trailing prose")).isEmpty();
+        assertThat(extractor.buffered()).isZero();
+        assertThat(extractor.isComplete()).isTrue();
+    }
+
+    @Test
+    void shouldStopOnMalformedOutput() {
+        StreamingJsonExtractor extractor = new StreamingJsonExtractor(List.of("a", "b"));
+
+        assertThat(extractor.append("{\"a\": 1, \"b\" 2}")).containsExactly(Map.entry("a", 1.0));
+        assertThat(extractor.append(", \"b\": 3}")).isEmpty();
+        assertThat(extractor.isMalformed()).isTrue();
+        assertThat(extractor.isComplete()).isFalse();
+    }
+}
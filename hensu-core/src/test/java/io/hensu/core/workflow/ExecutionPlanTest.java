@@ -0,0 +1,142 @@
+package io.hensu.core.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.hensu.core.execution.EngineVariables;
+import io.hensu.core.rubric.RubricParser;
+import io.hensu.core.rubric.model.Rubric;
+import io.hensu.core.workflow.node.ForkNode;
+import io.hensu.core.workflow.node.JoinNode;
+import io.hensu.core.workflow.node.StandardNode;
+import io.hensu.core.workflow.transition.SuccessTransition;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ExecutionPlanTest {
+
+    private static final String RUBRIC_CONTENT = WorkflowTest.TestWorkflowBuilder.RUBRIC_CONTENT;
+
+    @Test
+    void shouldIndexStartNodeFirst() {
+        StandardNode first = node("first", null);
+        StandardNode second = node("second", null);
+        Workflow workflow =
+                WorkflowTest.TestWorkflowBuilder.create("wf")
+                        .node(first)
+                        .startNode(second)
+                        .build();
+
+        ExecutionPlan plan = workflow.getExecutionPlan();
+
+        assertThat(plan.size()).isEqualTo(2);
+        assertThat(plan.indexOf("second")).isZero();
+        assertThat(plan.node(plan.indexOf("first"))).isSameAs(first);
+        assertThat(plan.node("missing")).isNull();
+        assertThat(workflow.getExecutionPlan()).isSameAs(plan);
+    }
+
+    @Test
+    void shouldPrecomputeExtractedAndRoutingVariables() {
+        StandardNode scored =
+                StandardNode.builder()
+                        .id("scored")
+                        .rubric(rubric("quality"))
+                        .writes(List.of("draft", EngineVariables.SCORE))
+                        .transitionRules(List.of(new SuccessTransition("scored")))
+                        .build();
+        ExecutionPlan plan = WorkflowTest.TestWorkflowBuilder.singleNode(scored).getExecutionPlan();
+
+        ExecutionPlan.NodePlan nodePlan = plan.planOf(scored);
+
+        assertThat(nodePlan.index()).isZero();
+        assertThat(nodePlan.engineVars())
+                .containsExactly(EngineVariables.SCORE, EngineVariables.RECOMMENDATION);
+        assertThat(nodePlan.extractedKeys())
+                .containsExactly("draft", EngineVariables.SCORE, EngineVariables.RECOMMENDATION);
+        assertThat(nodePlan.routingVars())
+                .containsExactlyInAnyOrder(EngineVariables.SCORE, EngineVariables.APPROVED);
+    }
+
+    @Test
+    void shouldDescribeForeignNodeOnTheFly() {
+        StandardNode planned = node("node", null);
+        StandardNode foreign = node("node", null);
+        Workflow workflow = WorkflowTest.TestWorkflowBuilder.singleNode(planned);
+        ExecutionPlan plan = workflow.getExecutionPlan();
+
+        assertThat(plan.planOf(planned).index()).isZero();
+        assertThat(plan.planOf(foreign).index()).isEqualTo(-1);
+        assertThat(plan.planOf(foreign).node()).isSameAs(foreign);
+    }
+
+    @Test
+    void shouldNumberRubricPhasesByRubric() {
+        Workflow workflow =
+                WorkflowTest.TestWorkflowBuilder.withNodes(
+                        node("draft", "quality"),
+                        node("revise", "quality"),
+                        node("polish", "style"),
+                        node("plain", null));
+
+        ExecutionPlan plan = workflow.getExecutionPlan();
+
+        assertThat(plan.rubricPhase("draft")).isGreaterThanOrEqualTo(0);
+        assertThat(plan.rubricPhase("revise")).isEqualTo(plan.rubricPhase("draft"));
+        assertThat(plan.rubricPhase("polish"))
+                .isGreaterThanOrEqualTo(0)
+                .isNotEqualTo(plan.rubricPhase("draft"));
+        assertThat(plan.rubricPhase("plain")).isEqualTo(-1);
+        assertThat(plan.rubricPhase("missing")).isEqualTo(-1);
+    }
+
+    @Test
+    void shouldResolveJoinOfFork() {
+        ForkNode fork = fork("join");
+        JoinNode join = JoinNode.builder("join").awaitTargets("a").build();
+        Workflow workflow =
+                WorkflowTest.TestWorkflowBuilder.create("wf")
+                        .startNode(fork)
+                        .node(node("a", null))
+                        .node(join)
+                        .build();
+
+        assertThat(workflow.getExecutionPlan().joinOf(fork)).isSameAs(join);
+    }
+
+    @Test
+    void shouldDeferJoinErrorUntilForkExecutes() {
+        ForkNode fork = fork("a");
+        Workflow workflow =
+                WorkflowTest.TestWorkflowBuilder.create("wf")
+                        .startNode(fork)
+                        .node(node("a", null))
+                        .build();
+
+        ExecutionPlan plan = workflow.getExecutionPlan();
+
+        assertThatThrownBy(() -> plan.joinOf(fork))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("does not point to a JoinNode (got StandardNode)");
+    }
+
+    private static StandardNode node(String id, String rubricId) {
+        return StandardNode.builder()
+                .id(id)
+                .rubric(rubricId != null ? rubric(rubricId) : null)
+                .transitionRules(List.of(new SuccessTransition("end")))
+                .build();
+    }
+
+    private static Rubric rubric(String id) {
+        String content = RUBRIC_CONTENT.replace("# Rubric: quality", "# Rubric: " + id);
+        return RubricParser.parseContent(id, content);
+    }
+
+    private static ForkNode fork(String successTarget) {
+        return ForkNode.builder("fork")
+                .targets("a")
+                .transitionRules(List.of(new SuccessTransition(successTarget)))
+                .build();
+    }
+}
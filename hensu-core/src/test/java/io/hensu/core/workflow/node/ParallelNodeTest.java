@@ -21,4 +21,16 @@ class ParallelNodeTest {
 
         assertThat(node.getBranchesList()).isUnmodifiable();
     }
+
+    @Test
+    void shouldRejectNegativeMaxConcurrency() {
+        assertThatThrownBy(
+                        () ->
+                                ParallelNode.builder("parallel-1")
+                                        .branch("b1", "agent-1", "Prompt 1")
+                                        .maxConcurrency(-1)
+                                        .build())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("maxConcurrency");
+    }
 }
@@ -1,6 +1,8 @@
 package io.hensu.dsl.builders
 
 import io.hensu.core.agent.AgentConfig
+import io.hensu.core.agent.memory.MemoryPolicy
+import java.time.Duration
 
 /**
  * DSL builder for registering agents within a workflow.
@@ -86,7 +88,7 @@ class AgentBuilder(private val id: String) {
      * Whether to maintain conversation context across executions.
      *
      * When true, previous messages are included in subsequent calls, enabling multi-turn
-     * conversations within the workflow.
+     * conversations within the workflow. The history is bounded by [memory].
      */
     var maintainContext: Boolean = false
 
@@ -128,6 +130,40 @@ class AgentBuilder(private val id: String) {
     /** Maximum number of tool calls allowed per execution, may be null to use default (10). */
     var maxToolCalls: Int? = null
 
+    /**
+     * Maximum number of tool calls from one model turn that run at once, may be null to use
+     * default (4).
+     */
+    var maxParallelToolCalls: Int? = null
+
+    /**
+     * How long a response is reused for later calls with an identical prompt, model settings and
+     * context, e.g. `responseCacheTtl = 1.hours`. Meant for deterministic agents such as
+     * classifiers at `temperature = 0.0`. Ignored when [maintainContext] is set or tools are
+     * declared. Default: null (responses are not cached).
+     */
+    var responseCacheTtl: Duration? = null
+
+    /**
+     * Whether the provider may cache the prompt prefix (system prompt and tool definitions)
+     * across calls. Anthropic charges a premium on cache writes and a discount on reads; set to
+     * `false` for agents whose context changes on every call. Default: null (enabled).
+     */
+    var promptCaching: Boolean? = null
+
+    private var memoryPolicy: MemoryPolicy? = null
+
+    /**
+     * Configures the conversation memory used with [maintainContext]. Without it, the history is
+     * a sliding window of 8000 tokens shared by every execution.
+     *
+     * @param block configuration block for the memory policy
+     * @see MemoryPolicyBuilder
+     */
+    fun memory(block: MemoryPolicyBuilder.() -> Unit) {
+        memoryPolicy = MemoryPolicyBuilder().apply(block).build()
+    }
+
     /**
      * Builds the immutable [AgentConfig] from this builder.
      *
@@ -152,6 +188,10 @@ class AgentBuilder(private val id: String) {
             .presencePenalty(presencePenalty)
             .timeout(timeout)
             .maxToolCalls(maxToolCalls)
+            .maxParallelToolCalls(maxParallelToolCalls)
+            .responseCacheTtl(responseCacheTtl)
+            .promptCaching(promptCaching)
+            .memoryPolicy(memoryPolicy)
             .build()
     }
 }
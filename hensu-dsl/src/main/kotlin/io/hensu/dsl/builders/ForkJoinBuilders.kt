@@ -15,6 +15,7 @@ import io.hensu.core.workflow.transition.SuccessTransition
  * ```kotlin
  * fork("parallel-tasks") {
  *     targets("task-a", "task-b", "task-c")
+ *     maxConcurrency = 2
  *     onComplete goto "join-results"
  * }
  * ```
@@ -58,6 +59,12 @@ class ForkNodeBuilder(private val id: String) : BaseNodeBuilder, ForkJoinMarkers
             waitForAll = value
         }
 
+    /**
+     * Maximum number of targets running at once. Remaining targets wait for a running target to
+     * finish. Default: 0 (all targets run at once).
+     */
+    var maxConcurrency: Int = 0
+
     /**
      * Defines transition after fork spawns all targets.
      *
@@ -74,13 +81,19 @@ class ForkNodeBuilder(private val id: String) : BaseNodeBuilder, ForkJoinMarkers
      * Builds the immutable [ForkNode] from this builder.
      *
      * @return compiled fork node, never null
+     * @throws IllegalArgumentException if [maxConcurrency] is negative
      */
-    override fun build(): ForkNode =
-        ForkNode.builder(id)
+    override fun build(): ForkNode {
+        require(maxConcurrency >= 0) {
+            "Fork node '$id': maxConcurrency must not be negative, was $maxConcurrency"
+        }
+        return ForkNode.builder(id)
             .targets(targetList)
             .waitForAll(waitForAll)
+            .maxConcurrency(maxConcurrency)
             .transitionRules(transitionBuilder.build())
             .build()
+    }
 }
 
 /**
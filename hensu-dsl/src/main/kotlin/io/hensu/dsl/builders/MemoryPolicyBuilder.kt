@@ -0,0 +1,54 @@
+package io.hensu.dsl.builders
+
+import io.hensu.core.agent.memory.MemoryPolicy
+
+/**
+ * DSL builder for the conversation memory of an agent with `maintainContext`.
+ *
+ * Bounds the history resent with every call. Turns over the budget are dropped, or folded into a
+ * summary written by another agent.
+ *
+ * Example:
+ * ```kotlin
+ * memory {
+ *     maxTokens = 4000
+ *     scope = MemoryPolicy.Scope.EXECUTION
+ *     summarizeWith("summarizer")
+ * }
+ * ```
+ *
+ * @see MemoryPolicy for the compiled configuration
+ */
+@WorkflowDsl
+class MemoryPolicyBuilder {
+    /** History budget in estimated tokens (four characters each). Default: 8000. */
+    var maxTokens: Int = MemoryPolicy.DEFAULT.maxTokens()
+
+    /** Who shares one history. Default: [MemoryPolicy.Scope.AGENT]. */
+    var scope: MemoryPolicy.Scope = MemoryPolicy.DEFAULT.scope()
+
+    /** What happens to turns over the budget. Default: [MemoryPolicy.Strategy.SLIDING_WINDOW]. */
+    var strategy: MemoryPolicy.Strategy = MemoryPolicy.DEFAULT.strategy()
+
+    /** Agent writing summaries for [MemoryPolicy.Strategy.SUMMARIZE], may be null. */
+    var summarizer: String? = null
+
+    /**
+     * Folds turns over the budget into a summary written by the given agent.
+     *
+     * @param agentId ID of an agent declared in the same workflow, not null
+     */
+    fun summarizeWith(agentId: String) {
+        strategy = MemoryPolicy.Strategy.SUMMARIZE
+        summarizer = agentId
+    }
+
+    /**
+     * Builds the immutable [MemoryPolicy] from this builder.
+     *
+     * @return compiled memory policy, never null
+     * @throws IllegalArgumentException if [maxTokens] is not positive, or the strategy is
+     *   [MemoryPolicy.Strategy.SUMMARIZE] without a [summarizer]
+     */
+    fun build(): MemoryPolicy = MemoryPolicy(strategy, maxTokens, scope, summarizer)
+}
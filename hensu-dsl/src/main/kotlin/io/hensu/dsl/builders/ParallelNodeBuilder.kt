@@ -23,6 +23,8 @@ import java.util.logging.Logger
  * Example:
  * ```kotlin
  * parallel("voting") {
+ *     maxConcurrency = 2
+ *
  *     branch("reviewer1") {
  *         agent = "reviewer"
  *         prompt = "Review this code: {code}"
@@ -56,6 +58,12 @@ class ParallelNodeBuilder(private val id: String, private val workingDirectory:
     private var consensusConfig: ConsensusConfig? = null
     private val transitionBuilder = TransitionBuilder()
 
+    /**
+     * Maximum number of branches running at once. Remaining branches wait for a running branch
+     * to finish. Default: 0 (all branches run at once).
+     */
+    var maxConcurrency: Int = 0
+
     /**
      * Defines a branch for parallel execution.
      *
@@ -145,11 +153,15 @@ class ParallelNodeBuilder(private val id: String, private val workingDirectory:
      *
      * @return compiled parallel node, never null
      * @throws IllegalStateException if no branches are defined
+     * @throws IllegalArgumentException if [maxConcurrency] is negative
      */
     override fun build(): ParallelNode {
         if (branches.isEmpty()) {
             throw IllegalStateException("Parallel node '$id' must have at least one branch")
         }
+        require(maxConcurrency >= 0) {
+            "Parallel node '$id': maxConcurrency must not be negative, was $maxConcurrency"
+        }
 
         val builtBranches = branches.map { it.build() }
 
@@ -171,6 +183,7 @@ class ParallelNodeBuilder(private val id: String, private val workingDirectory:
         return ParallelNode.builder(id)
             .branches(builtBranches)
             .consensus(consensusConfig)
+            .maxConcurrency(maxConcurrency)
             .transitionRules(transitionBuilder.build())
             .build()
     }
@@ -0,0 +1,34 @@
+package io.hensu.dsl.parsers
+
+import io.hensu.core.workflow.Workflow
+
+/**
+ * Store of workflows already compiled from Kotlin DSL scripts.
+ *
+ * [KotlinScriptParser] looks a script up by its [ScriptCacheKey] before starting the Kotlin
+ * compiler and stores the result after a successful compilation. A key changes whenever the
+ * script, a prompt or rubric of its working directory, or the DSL itself changes, so entries never
+ * need invalidating.
+ *
+ * Implementations must not throw for a corrupt or unreadable entry: returning null makes the
+ * parser compile the script again.
+ *
+ * @see KotlinScriptParser
+ */
+interface CompiledWorkflowCache {
+    /**
+     * Returns the workflow compiled for [key].
+     *
+     * @param key script cache key, not null
+     * @return the cached workflow, or null on a miss
+     */
+    fun get(key: String): Workflow?
+
+    /**
+     * Stores the workflow compiled for [key].
+     *
+     * @param key script cache key, not null
+     * @param workflow the compiled workflow, not null
+     */
+    fun put(key: String, workflow: Workflow)
+}
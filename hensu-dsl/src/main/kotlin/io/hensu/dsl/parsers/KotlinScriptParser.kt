@@ -2,6 +2,7 @@ package io.hensu.dsl.parsers
 
 import io.hensu.core.workflow.Workflow
 import io.hensu.dsl.WorkingDirectory
+import java.util.logging.Logger
 import javax.script.ScriptEngineManager
 import kotlin.io.path.readText
 import kotlin.script.experimental.api.*
@@ -17,6 +18,12 @@ import kotlin.script.experimental.jvmhost.BasicJvmScriptingHost
  * direct Kotlin scripting (preferred) and JSR-223 fallback for environments with classloader
  * restrictions (e.g., Quarkus).
  *
+ * Compiling a script starts the Kotlin compiler, which dominates the cost of a parse. A parser
+ * therefore keeps one warm scripting host for all its parses, and remembers the workflows it
+ * compiled by [ScriptCacheKey]: parsing an unchanged script in an unchanged working directory
+ * returns the earlier result without compiling. An optional [CompiledWorkflowCache] extends this
+ * across processes; the in-memory cache keeps the [MEMORY_CACHE_SIZE] most recent workflows.
+ *
  * Thread-safety: This class is thread-safe. The companion object maintains shared state for JSR-223
  * detection, protected by volatile access.
  *
@@ -27,12 +34,20 @@ import kotlin.script.experimental.jvmhost.BasicJvmScriptingHost
  * val workflow = parser.parse(workingDir, "my-workflow")
  * ```
  *
+ * @param cache persistent store of compiled workflows, or null to cache in memory only
  * @see WorkingDirectory for directory structure requirements
  * @see io.hensu.dsl.internal.DSLContext for script execution context
  */
-class KotlinScriptParser {
+class KotlinScriptParser
+@JvmOverloads
+constructor(private val cache: CompiledWorkflowCache? = null) {
 
     companion object {
+        /** Workflows kept by the in-memory cache of a parser. */
+        const val MEMORY_CACHE_SIZE: Int = 64
+
+        private val logger = Logger.getLogger(KotlinScriptParser::class.java.name)
+
         /**
          * Flag to track if JSR-223 should be used (for Quarkus compatibility).
          *
@@ -66,6 +81,42 @@ class KotlinScriptParser {
             Regex("""(?<![A-Za-z0-9_.])(${TRANSITION_MARKERS.joinToString("|")})(?![A-Za-z0-9_])""")
     }
 
+    /** Most recently compiled workflows by [ScriptCacheKey], eldest evicted first. */
+    private val compiled =
+        object : LinkedHashMap<String, Workflow>(16, 0.75f, true) {
+            override fun removeEldestEntry(eldest: MutableMap.MutableEntry<String, Workflow>) =
+                size > MEMORY_CACHE_SIZE
+        }
+
+    /** Scripting host reused by every direct compilation of this parser. */
+    private val scriptingHost by lazy { BasicJvmScriptingHost() }
+
+    /** Compilation configuration shared by every direct compilation of this parser. */
+    private val compilationConfiguration by lazy {
+        ScriptCompilationConfiguration {
+            jvm { dependenciesFromCurrentContext(wholeClasspath = true) }
+            defaultImports(
+                "io.hensu.core.workflow.state.VarType",
+                "io.hensu.dsl.builders.start",
+                "io.hensu.dsl.builders.onSuccess",
+                "io.hensu.dsl.builders.onFailure",
+                "io.hensu.dsl.builders.onConsensus",
+                "io.hensu.dsl.builders.onNoConsensus",
+                "io.hensu.dsl.builders.whenScore",
+                "io.hensu.dsl.builders.onComplete",
+                "io.hensu.dsl.builders.onApproval",
+                "io.hensu.dsl.builders.onRejection",
+                "io.hensu.dsl.builders.Models",
+                "io.hensu.core.review.ReviewMode",
+                "io.hensu.core.agent.memory.MemoryPolicy",
+                "io.hensu.core.execution.result.ExitStatus",
+                "io.hensu.core.execution.parallel.ConsensusStrategy",
+                "io.hensu.core.workflow.node.MergeStrategy",
+                "java.time.Duration",
+            )
+        }
+    }
+
     /**
      * Parses a workflow by name from a working directory.
      *
@@ -86,8 +137,9 @@ class KotlinScriptParser {
     /**
      * Parses workflow script content with a specified working directory.
      *
-     * Attempts direct Kotlin scripting first, falling back to JSR-223 if module errors are detected
-     * (common in Quarkus and other restricted environments).
+     * Returns the cached workflow if this script was already compiled against the same working
+     * directory contents. Otherwise attempts direct Kotlin scripting first, falling back to JSR-223
+     * if module errors are detected (common in Quarkus and other restricted environments).
      *
      * @param scriptContent the Kotlin script source code, not null
      * @param workingDirectory base directory for prompt and rubric resolution, not null
@@ -95,6 +147,19 @@ class KotlinScriptParser {
      * @throws IllegalStateException if parsing fails or script doesn't return a Workflow
      */
     fun parse(scriptContent: String, workingDirectory: WorkingDirectory): Workflow {
+        val key =
+            cacheKey(scriptContent, workingDirectory)
+                ?: return compile(scriptContent, workingDirectory)
+        lookup(key)?.let {
+            return it
+        }
+        val workflow = compile(scriptContent, workingDirectory)
+        store(key, workflow)
+        return workflow
+    }
+
+    /** Compiles and evaluates a script, choosing direct scripting or JSR-223. */
+    private fun compile(scriptContent: String, workingDirectory: WorkingDirectory): Workflow {
         // If we've already determined JSR-223 works, use it directly
         if (useJsr223 == true) {
             return parseViaJsr223(scriptContent, workingDirectory)
@@ -143,29 +208,6 @@ class KotlinScriptParser {
         val workflowScript = extractWorkflowContent(scriptContent)
         val executableScript = buildExecutableScript(workflowScript, workingDirectory)
 
-        val compilationConfiguration = ScriptCompilationConfiguration {
-            jvm { dependenciesFromCurrentContext(wholeClasspath = true) }
-            defaultImports(
-                "io.hensu.core.workflow.state.VarType",
-                "io.hensu.dsl.builders.start",
-                "io.hensu.dsl.builders.onSuccess",
-                "io.hensu.dsl.builders.onFailure",
-                "io.hensu.dsl.builders.onConsensus",
-                "io.hensu.dsl.builders.onNoConsensus",
-                "io.hensu.dsl.builders.whenScore",
-                "io.hensu.dsl.builders.onComplete",
-                "io.hensu.dsl.builders.onApproval",
-                "io.hensu.dsl.builders.onRejection",
-                "io.hensu.dsl.builders.Models",
-                "io.hensu.core.review.ReviewMode",
-                "io.hensu.core.execution.result.ExitStatus",
-                "io.hensu.core.execution.parallel.ConsensusStrategy",
-                "io.hensu.core.workflow.node.MergeStrategy",
-                "java.time.Duration",
-            )
-        }
-
-        val scriptingHost = BasicJvmScriptingHost()
         val result =
             scriptingHost.eval(
                 executableScript.toScriptSource("workflow.kts"),
@@ -202,6 +244,42 @@ class KotlinScriptParser {
             )
     }
 
+    /** Computes the cache key of a script; null if the working directory cannot be read. */
+    private fun cacheKey(scriptContent: String, workingDirectory: WorkingDirectory): String? =
+        try {
+            ScriptCacheKey.of(scriptContent, workingDirectory)
+        } catch (e: Exception) {
+            logger.fine("Workflow cache disabled for this script: ${e.message}")
+            null
+        }
+
+    /** Looks a workflow up in memory, then in the persistent cache. */
+    private fun lookup(key: String): Workflow? {
+        val hit = synchronized(compiled) { compiled[key] }
+        if (hit != null) {
+            return hit
+        }
+        val workflow =
+            try {
+                cache?.get(key)
+            } catch (e: Exception) {
+                logger.warning("Compiled workflow cache read failed: ${e.message}")
+                null
+            } ?: return null
+        synchronized(compiled) { compiled[key] = workflow }
+        return workflow
+    }
+
+    /** Remembers a compiled workflow; a failing persistent cache never fails the parse. */
+    private fun store(key: String, workflow: Workflow) {
+        synchronized(compiled) { compiled[key] = workflow }
+        try {
+            cache?.put(key, workflow)
+        } catch (e: Exception) {
+            logger.warning("Compiled workflow cache write failed: ${e.message}")
+        }
+    }
+
     /** Build the executable script string with proper imports and context setup. */
     private fun buildExecutableScript(
         workflowScript: String,
@@ -215,6 +293,7 @@ class KotlinScriptParser {
             import io.hensu.dsl.WorkingDirectory
             import io.hensu.dsl.builders.*
             import io.hensu.core.review.ReviewMode
+            import io.hensu.core.agent.memory.MemoryPolicy
             import io.hensu.core.execution.result.ExitStatus
             import io.hensu.core.workflow.node.MergeStrategy
             import io.hensu.core.execution.parallel.ConsensusStrategy
@@ -0,0 +1,82 @@
+package io.hensu.dsl.parsers
+
+import io.hensu.dsl.WorkingDirectory
+import java.nio.file.Files
+import java.nio.file.Path
+import java.security.MessageDigest
+import kotlin.io.path.exists
+import kotlin.io.path.isRegularFile
+
+/**
+ * Content-addressed key of a compiled workflow script.
+ *
+ * A SHA-256 over everything the compiled [io.hensu.core.workflow.Workflow] depends on:
+ * - the script source
+ * - the working-directory path, which the script embeds for resource resolution
+ * - the relative path, size and modification time of every file under `prompts/` and `rubrics/`,
+ *   since prompts and rubrics are inlined while the script runs
+ * - the DSL version and the location and modification time of the DSL classes, so a rebuilt DSL
+ *   never reuses workflows compiled by an older one
+ * - the Kotlin version
+ *
+ * Files a script reads from elsewhere are not covered.
+ */
+object ScriptCacheKey {
+
+    /** Bumped when the key layout or the cached representation changes. */
+    private const val FORMAT = 1
+
+    private val DSL_FINGERPRINT: String by lazy {
+        val type = KotlinScriptParser::class.java
+        val location = runCatching { type.protectionDomain.codeSource?.location }.getOrNull()
+        val modified =
+            runCatching { location?.toURI()?.let { Path.of(it) }?.let(Files::getLastModifiedTime) }
+                .getOrNull()
+        "${type.`package`?.implementationVersion ?: "dev"}|$location|$modified"
+    }
+
+    /**
+     * Computes the key of [scriptContent] compiled in [workingDirectory].
+     *
+     * @param scriptContent the script source, not null
+     * @param workingDirectory directory the script resolves prompts and rubrics from, not null
+     * @return lowercase hex SHA-256, never null
+     */
+    fun of(scriptContent: String, workingDirectory: WorkingDirectory): String {
+        val digest = MessageDigest.getInstance("SHA-256")
+        digest.field("format", FORMAT.toString())
+        digest.field("dsl", DSL_FINGERPRINT)
+        digest.field("kotlin", KotlinVersion.CURRENT.toString())
+        digest.field("root", workingDirectory.root().toAbsolutePath().toString())
+        digest.field("script", scriptContent)
+        fingerprint(digest, workingDirectory.promptsDir)
+        fingerprint(digest, workingDirectory.rubricsDir)
+        return digest.digest().joinToString("") { "%02x".format(it) }
+    }
+
+    private fun fingerprint(digest: MessageDigest, dir: Path) {
+        if (!dir.exists()) {
+            digest.field("dir", "$dir:absent")
+            return
+        }
+        Files.walk(dir).use { paths ->
+            paths
+                .filter { it.isRegularFile() }
+                .sorted()
+                .forEach { file ->
+                    digest.field(
+                        "file",
+                        "${dir.relativize(file)}|${Files.size(file)}|" +
+                            Files.getLastModifiedTime(file).toMillis(),
+                    )
+                }
+        }
+    }
+
+    /** Feeds a length-prefixed field so adjacent fields cannot run together. */
+    private fun MessageDigest.field(name: String, value: String) {
+        val bytes = value.toByteArray(Charsets.UTF_8)
+        update("$name:${bytes.size}:".toByteArray(Charsets.UTF_8))
+        update(bytes)
+    }
+}
@@ -21,6 +21,33 @@ class ForkJoinBuildersTest {
 
             assertThat(node.isWaitForAll).isFalse()
         }
+
+        @Test
+        fun `should default maxConcurrency to unbounded`() {
+            val builder = ForkNodeBuilder("fork-1")
+
+            builder.apply {
+                targets("task-a")
+                onComplete goto "join"
+            }
+            val node = builder.build()
+
+            assertThat(node.maxConcurrency).isZero()
+        }
+
+        @Test
+        fun `should carry maxConcurrency to node`() {
+            val builder = ForkNodeBuilder("fork-1")
+
+            builder.apply {
+                targets("task-a", "task-b", "task-c")
+                maxConcurrency = 2
+                onComplete goto "join"
+            }
+            val node = builder.build()
+
+            assertThat(node.maxConcurrency).isEqualTo(2)
+        }
     }
 
     @Nested
@@ -35,6 +62,21 @@ class ForkJoinBuildersTest {
                 .isInstanceOf(IllegalStateException::class.java)
                 .hasMessageContaining("at least one target")
         }
+
+        @Test
+        fun `should throw when maxConcurrency is negative`() {
+            val builder = ForkNodeBuilder("fork-1")
+
+            builder.apply {
+                targets("task-a")
+                maxConcurrency = -1
+                onComplete goto "join"
+            }
+
+            assertThatThrownBy { builder.build() }
+                .isInstanceOf(IllegalArgumentException::class.java)
+                .hasMessageContaining("maxConcurrency")
+        }
     }
 
     @Nested
@@ -57,6 +57,23 @@ class ParallelNodeBuilderTest {
 
             assertThat(node.hasConsensus()).isFalse()
         }
+
+        @Test
+        fun `should carry maxConcurrency to node`() {
+            val builder = ParallelNodeBuilder("parallel-1", workingDir)
+
+            builder.apply {
+                maxConcurrency = 3
+                branch("b1") {
+                    agent = "reviewer"
+                    prompt = "Review"
+                }
+                onSuccess goto "next"
+            }
+            val node = builder.build()
+
+            assertThat(node.maxConcurrency).isEqualTo(3)
+        }
     }
 
     @Nested
@@ -3,6 +3,7 @@ package io.hensu.dsl.parsers
 import io.hensu.core.review.ReviewConfig
 import io.hensu.core.review.ReviewMode
 import io.hensu.core.rubric.model.ComparisonOperator
+import io.hensu.core.workflow.Workflow
 import io.hensu.core.workflow.node.StandardNode
 import io.hensu.core.workflow.transition.BoundedTransition
 import io.hensu.core.workflow.transition.ScoreTransition
@@ -226,4 +227,93 @@ class KotlinScriptParserTest {
                     "Node 'step-one' has transition to 'nonexistent-node' which does not exist in the workflow"
             )
     }
+
+    @Test
+    fun `parser reuses compiled workflow for unchanged script`() {
+        val workingDir = minimalWorkingDir()
+        val cache = RecordingCache()
+        val parser = KotlinScriptParser(cache)
+
+        val first = parser.parse(workingDir, "minimal")
+        val second = parser.parse(workingDir, "minimal")
+
+        assertThat(second).isSameAs(first)
+        assertThat(cache.stored).hasSize(1)
+        assertThat(cache.stored.values.single()).isSameAs(first)
+    }
+
+    @Test
+    fun `parser loads persisted workflow without compiling`() {
+        val workingDir = minimalWorkingDir()
+        val cache = RecordingCache()
+        val compiled = KotlinScriptParser(cache).parse(workingDir, "minimal")
+
+        // A new parser starts with an empty memory cache, so the hit is the persisted entry
+        val script = tempDir.resolve("workflows/minimal.kt").toFile().readText()
+        val reloaded = KotlinScriptParser(cache).parse(script, workingDir)
+
+        assertThat(reloaded).isSameAs(compiled)
+        assertThat(cache.hits).isEqualTo(1)
+    }
+
+    @Test
+    fun `cache key changes when prompts or script change`() {
+        val workingDir = minimalWorkingDir()
+        val script = tempDir.resolve("workflows/minimal.kt").toFile().readText()
+        val original = ScriptCacheKey.of(script, workingDir)
+
+        assertThat(ScriptCacheKey.of(script, workingDir)).isEqualTo(original)
+        assertThat(ScriptCacheKey.of("$script\n", workingDir)).isNotEqualTo(original)
+
+        tempDir.resolve("prompts/extra.md").writeText("New prompt")
+        assertThat(ScriptCacheKey.of(script, workingDir)).isNotEqualTo(original)
+    }
+
+    private fun minimalWorkingDir(): WorkingDirectory {
+        Files.createDirectories(tempDir.resolve("workflows"))
+        Files.createDirectories(tempDir.resolve("prompts"))
+        Files.createDirectories(tempDir.resolve("rubrics"))
+        tempDir
+            .resolve("workflows/minimal.kt")
+            .writeText(
+                """
+                fun minimal() {
+                    val workflow = workflow("Minimal") {
+                        agents {
+                            agent("worker") {
+                                role = "Worker"
+                                model = Models.GPT_4
+                            }
+                        }
+
+                        graph {
+                            start at "work"
+
+                            node("work") {
+                                agent = "worker"
+                                prompt = "Do work"
+                                onSuccess goto "done"
+                            }
+
+                            end("done", ExitStatus.SUCCESS)
+                        }
+                    }
+                }
+                """
+                    .trimIndent()
+            )
+        return WorkingDirectory.of(tempDir)
+    }
+
+    /** In-memory [CompiledWorkflowCache] recording its traffic. */
+    private class RecordingCache : CompiledWorkflowCache {
+        val stored = mutableMapOf<String, Workflow>()
+        var hits = 0
+
+        override fun get(key: String): Workflow? = stored[key]?.also { hits++ }
+
+        override fun put(key: String, workflow: Workflow) {
+            stored[key] = workflow
+        }
+    }
 }
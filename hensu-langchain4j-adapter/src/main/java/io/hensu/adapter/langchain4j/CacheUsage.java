@@ -0,0 +1,58 @@
+package io.hensu.adapter.langchain4j;
+
+import dev.langchain4j.model.anthropic.AnthropicTokenUsage;
+import dev.langchain4j.model.openai.OpenAiTokenUsage;
+import dev.langchain4j.model.output.TokenUsage;
+import java.util.Map;
+
+/// Prompt tokens a provider read from or wrote to its prompt cache.
+///
+/// Anthropic reports both; OpenAI reports cached reads only, as its caching is automatic.
+/// Other providers report none.
+///
+/// @param readTokens prompt tokens served from the cache
+/// @param writeTokens prompt tokens written to the cache
+record CacheUsage(long readTokens, long writeTokens) {
+
+    /// Response metadata key of {@link #readTokens()}.
+    static final String READ_KEY = "cache_read_tokens";
+
+    /// Response metadata key of {@link #writeTokens()}.
+    static final String WRITE_KEY = "cache_write_tokens";
+
+    static final CacheUsage NONE = new CacheUsage(0, 0);
+
+    /// Reads cache usage from a provider's token usage.
+    ///
+    /// @param usage token usage of a response, may be null
+    /// @return the cache usage, {@link #NONE} if not reported, never null
+    static CacheUsage of(TokenUsage usage) {
+        return switch (usage) {
+            case AnthropicTokenUsage anthropic ->
+                    new CacheUsage(
+                            orZero(anthropic.cacheReadInputTokens()),
+                            orZero(anthropic.cacheCreationInputTokens()));
+            case OpenAiTokenUsage openAi when openAi.inputTokensDetails() != null ->
+                    new CacheUsage(orZero(openAi.inputTokensDetails().cachedTokens()), 0);
+            case null, default -> NONE;
+        };
+    }
+
+    /// Returns the usage of two calls combined.
+    CacheUsage plus(CacheUsage other) {
+        return new CacheUsage(readTokens + other.readTokens, writeTokens + other.writeTokens);
+    }
+
+    /// Records this usage in response metadata, unless the provider reported none.
+    void putInto(Map<String, Object> metadata) {
+        if (this.equals(NONE)) {
+            return;
+        }
+        metadata.put(READ_KEY, readTokens);
+        metadata.put(WRITE_KEY, writeTokens);
+    }
+
+    private static long orZero(Integer tokens) {
+        return tokens != null ? tokens : 0;
+    }
+}
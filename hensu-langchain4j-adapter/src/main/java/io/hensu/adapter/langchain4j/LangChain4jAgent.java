@@ -3,44 +3,73 @@ package io.hensu.adapter.langchain4j;
 import dev.langchain4j.data.message.AiMessage;
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
 import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.StreamingChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
 import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
 import io.hensu.core.agent.Agent;
 import io.hensu.core.agent.AgentConfig;
 import io.hensu.core.agent.AgentResponse;
+import io.hensu.core.agent.StreamingCapable;
 import io.hensu.core.agent.ToolCapable;
 import io.hensu.core.agent.ToolSession;
+import io.hensu.core.agent.memory.ConversationMemory;
+import io.hensu.core.agent.memory.ConversationTurn;
+import io.hensu.core.agent.memory.MemoryCapable;
+import io.hensu.core.agent.memory.MemoryPolicy;
+import io.hensu.core.agent.ratelimit.RateGovernor;
+import io.hensu.core.agent.ratelimit.RateLimitedException;
 import io.hensu.core.tool.ToolDefinition;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 /// LangChain4j implementation of {@link Agent}.
 ///
 /// Wraps a {@link ChatModel} and manages optional conversation history for
-/// multi-turn interactions. Builds system prompts from the agent's role,
-/// instructions, and execution context.
+/// multi-turn interactions, kept within the budget of the agent's {@link MemoryPolicy} by
+/// a {@link ConversationMemory}. Lays out prompts so providers can serve the prefix from
+/// their prompt cache (see {@link PromptLayout}): role, instructions and the execution
+/// context in the system message, per-node keys in the user message. Cache reads and
+/// writes are reported as `cache_read_tokens` and `cache_write_tokens` in the response
+/// metadata.
+///
+/// When created with a {@link StreamingChatModel}, {@link #executeStreaming} and the tool
+/// sessions it opens stream output fragments as the model generates them; without one they
+/// fall back to the blocking model and report no fragments.
+///
+/// Every model round trip, including those of tool sessions, passes through the agent's
+/// {@link RateGovernor.Lane}: it queues for the lane's quotas and concurrency limit, and
+/// provider throttling (HTTP 429, overload) is retried with backoff. A call still throttled
+/// after its retries returns an error of type `RATE_LIMITED`.
 ///
 /// Template resolution is handled by the engine ({@code StandardNodeExecutor})
 /// before the prompt reaches this agent — the prompt arrives already resolved.
 ///
-/// @implNote **Not thread-safe** due to mutable `conversationHistory`.
-/// Each agent instance should be used by a single workflow execution at a time.
+/// @implNote Thread-safe. The conversation memory is shared by concurrent calls; with the
+/// default {@link MemoryPolicy.Scope#AGENT} scope, interleaved executions see each other's
+/// turns.
 ///
 /// @see LangChain4jProvider for agent creation
 /// @see Agent for the contract
-public class LangChain4jAgent implements Agent, ToolCapable {
+public class LangChain4jAgent implements Agent, ToolCapable, StreamingCapable, MemoryCapable {
 
     private static final Logger logger = Logger.getLogger(LangChain4jAgent.class.getName());
 
     private final String id;
     private final AgentConfig config;
     private final ChatModel model;
-    private final List<ChatMessage> conversationHistory;
-    private final ReentrantLock historyLock = new ReentrantLock();
+    private final StreamingChatModel streamingModel;
+    private final RateGovernor.Lane lane;
+    private final ConversationMemory memory;
 
     /// Creates a new agent wrapping the given chat model.
     ///
@@ -48,10 +77,43 @@ public class LangChain4jAgent implements Agent, ToolCapable {
     /// @param config agent configuration (role, instructions, model params), not null
     /// @param model the LangChain4j chat model to delegate to, not null
     public LangChain4jAgent(String id, AgentConfig config, ChatModel model) {
+        this(id, config, model, null);
+    }
+
+    /// Creates a new agent wrapping the given chat models.
+    ///
+    /// @param id unique agent identifier, not null
+    /// @param config agent configuration (role, instructions, model params), not null
+    /// @param model the LangChain4j chat model to delegate to, not null
+    /// @param streamingModel the streaming counterpart of `model`, null if the provider
+    ///     cannot stream
+    public LangChain4jAgent(
+            String id, AgentConfig config, ChatModel model, StreamingChatModel streamingModel) {
+        this(id, config, model, streamingModel, null);
+    }
+
+    /// Creates a new agent whose model calls are admitted by a rate lane.
+    ///
+    /// @param id unique agent identifier, not null
+    /// @param config agent configuration (role, instructions, model params), not null
+    /// @param model the LangChain4j chat model to delegate to, not null
+    /// @param streamingModel the streaming counterpart of `model`, null if the provider
+    ///     cannot stream
+    /// @param lane the lane of the model's provider and API key, null to call ungoverned
+    public LangChain4jAgent(
+            String id,
+            AgentConfig config,
+            ChatModel model,
+            StreamingChatModel streamingModel,
+            RateGovernor.Lane lane) {
         this.id = id;
         this.config = config;
         this.model = model;
-        this.conversationHistory = new ArrayList<>();
+        this.streamingModel = streamingModel;
+        this.lane = lane;
+        this.memory =
+                new ConversationMemory(
+                        Objects.requireNonNullElse(config.getMemoryPolicy(), MemoryPolicy.DEFAULT));
     }
 
     /// Executes the prompt against the underlying chat model.
@@ -60,18 +122,58 @@ public class LangChain4jAgent implements Agent, ToolCapable {
     /// (if `maintainContext` is enabled), and the user prompt. Returns the model's
     /// response with token usage metadata.
     ///
+    /// An interrupted thread (a branch cancelled by its parallel or fork node) gets an error
+    /// response without a model call. An interrupt during the call abandons it; the
+    /// interrupt status is restored even when the HTTP client wrapped the
+    /// `InterruptedException`.
+    ///
     /// @param prompt the resolved prompt text, not null
     /// @param context execution context variables, not null
     /// @return text response with metadata on success, error response on failure; never null
     @Override
     public AgentResponse execute(String prompt, Map<String, Object> context) {
+        return complete(prompt, context, model::chat);
+    }
+
+    /// Executes the prompt against the streaming chat model.
+    ///
+    /// Behaves like {@link #execute} – same messages, history, metadata and interrupt
+    /// handling – but passes each partial response to `onDelta` as it arrives. Falls back to
+    /// {@link #execute} when the agent has no streaming model. If the call is throttled
+    /// after it streamed fragments, its retries stream none, see {@link RetryDeltas}.
+    ///
+    /// @param prompt the resolved prompt text, not null
+    /// @param context execution context variables, not null
+    /// @param onDelta receives output fragments in order, not null
+    /// @return text response with metadata on success, error response on failure; never null
+    @Override
+    public AgentResponse executeStreaming(
+            String prompt, Map<String, Object> context, Consumer<String> onDelta) {
+        if (streamingModel == null) {
+            return execute(prompt, context);
+        }
+        RetryDeltas deltas = new RetryDeltas(onDelta);
+        return complete(
+                prompt,
+                context,
+                messages ->
+                        stream(
+                                streamingModel,
+                                ChatRequest.builder().messages(messages).build(),
+                                deltas.nextAttempt()));
+    }
+
+    private AgentResponse complete(String prompt, Map<String, Object> context, ModelCall call) {
         Instant startTime = Instant.now();
+        if (Thread.currentThread().isInterrupted()) {
+            return AgentResponse.Error.of("Agent '" + id + "' interrupted before model call");
+        }
 
         try {
             logger.fine("Agent '" + id + "' executing with role: " + config.getRole());
 
             List<ChatMessage> messages = buildMessages(prompt, context);
-            ChatResponse response = model.chat(messages);
+            ChatResponse response = governed(messages, call);
 
             if (response == null) {
                 return AgentResponse.Error.of("No response from model");
@@ -82,27 +184,190 @@ public class LangChain4jAgent implements Agent, ToolCapable {
 
             logger.fine("Agent '" + id + "' output:\n" + output);
 
-            if (config.isMaintainContext()) {
-                historyLock.lock();
-                try {
-                    conversationHistory.add(UserMessage.from(prompt));
-                    conversationHistory.add(aiMessage);
-                } finally {
-                    historyLock.unlock();
-                }
-            }
+            appendToHistory(context, prompt, output);
 
             Map<String, Object> metadata = buildMetadata(response, startTime);
             logger.fine("Agent '" + id + "' completed successfully");
 
             return AgentResponse.TextResponse.of(output, metadata);
 
+        } catch (RateLimitedException e) {
+            logger.warning("Agent '" + id + "' rate limited: " + e.getMessage());
+            return rateLimited(e);
         } catch (Exception e) {
+            if (isInterruption(e)) {
+                Thread.currentThread().interrupt();
+                logger.fine("Agent '" + id + "' interrupted during model call");
+                return AgentResponse.Error.of("Agent '" + id + "' interrupted during model call");
+            }
             logger.severe("Agent '" + id + "' execution failed: " + e.getMessage());
             return AgentResponse.Error.of(e.getMessage());
         }
     }
 
+    /// Sends `request` to a streaming model and waits for the complete response.
+    ///
+    /// Partial responses reach `onDelta` on the model's transport thread while the caller
+    /// waits. An interrupt stops the wait but not the transport, which finishes the
+    /// abandoned response in the background; its fragments are discarded. No fragment
+    /// reaches `onDelta` after this method returns or throws: one being delivered at that
+    /// moment is waited for, later ones are dropped, so a listener that closes its buffers
+    /// on agent completion never sees a fragment of a finished call.
+    ///
+    /// @param streamingModel the model to call, not null
+    /// @param request the chat request, not null
+    /// @param onDelta receives output fragments in order, not null
+    /// @return the complete response, never null
+    /// @throws InterruptedException if interrupted while waiting
+    /// @throws RuntimeException the error the model reported, as the blocking call would
+    static ChatResponse stream(
+            StreamingChatModel streamingModel, ChatRequest request, Consumer<String> onDelta)
+            throws InterruptedException {
+        CompletableFuture<ChatResponse> done = new CompletableFuture<>();
+        Object deltaLock = new Object();
+        AtomicBoolean open = new AtomicBoolean(true);
+        streamingModel.chat(
+                request,
+                new StreamingChatResponseHandler() {
+                    @Override
+                    public void onPartialResponse(String partialResponse) {
+                        synchronized (deltaLock) {
+                            if (open.get() && !done.isDone()) {
+                                onDelta.accept(partialResponse);
+                            }
+                        }
+                    }
+
+                    @Override
+                    public void onCompleteResponse(ChatResponse completeResponse) {
+                        done.complete(completeResponse);
+                    }
+
+                    @Override
+                    public void onError(Throwable error) {
+                        done.completeExceptionally(error);
+                    }
+                });
+        try {
+            return done.get();
+        } catch (InterruptedException e) {
+            done.cancel(false);
+            throw e;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            if (e.getCause() instanceof Error error) throw error;
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            synchronized (deltaLock) {
+                open.set(false);
+            }
+        }
+    }
+
+    /// Output sink of a streamed round trip that the rate lane may retry.
+    ///
+    /// Fragments already delivered cannot be taken back, and a retried round trip generates
+    /// its text anew. Once an attempt has delivered a fragment, later attempts deliver none;
+    /// their text arrives with the complete response. An attempt throttled before its first
+    /// fragment, the usual case, does not silence the retry.
+    static final class RetryDeltas {
+
+        private final Consumer<String> onDelta;
+        private volatile boolean delivered;
+
+        RetryDeltas(Consumer<String> onDelta) {
+            this.onDelta = Objects.requireNonNull(onDelta, "onDelta must not be null");
+        }
+
+        /// Returns the sink of the next attempt. Called once per round trip.
+        ///
+        /// @return fragment consumer, never null
+        Consumer<String> nextAttempt() {
+            if (delivered) {
+                return _ -> {};
+            }
+            return delta -> {
+                delivered = true;
+                onDelta.accept(delta);
+            };
+        }
+    }
+
+    /// One blocking or streaming round trip to the model.
+    @FunctionalInterface
+    interface ModelCall {
+        ChatResponse chat(List<ChatMessage> messages) throws Exception;
+    }
+
+    /// Makes one model round trip through the agent's rate lane.
+    ///
+    /// The call is admitted on an estimate of its prompt tokens and charged the provider's
+    /// reported usage afterwards. Throttling refusals become {@link RateLimitedException},
+    /// retried by the lane before they reach the caller.
+    ///
+    /// @param messages the messages sent, used to estimate the call's tokens, not null
+    /// @param call the round trip, not null
+    /// @return the model's response
+    /// @throws RateLimitedException if the provider kept throttling the call
+    /// @throws InterruptedException if interrupted while queued or backing off
+    /// @throws Exception any other failure of `call`
+    ChatResponse governed(List<ChatMessage> messages, ModelCall call) throws Exception {
+        RateGovernor.ThrottledCall<ChatResponse> classified =
+                () -> {
+                    try {
+                        return call.chat(messages);
+                    } catch (Exception e) {
+                        throw ThrottleClassifier.classify(e);
+                    }
+                };
+        if (lane == null) {
+            return classified.call();
+        }
+        return lane.call(estimateTokens(messages), classified, LangChain4jAgent::tokensUsed);
+    }
+
+    /// Returns the error reported for a call the provider kept throttling.
+    AgentResponse.Error rateLimited(RateLimitedException e) {
+        return new AgentResponse.Error(
+                "Agent '" + id + "' rate limited: " + e.getMessage(),
+                AgentResponse.Error.ErrorType.RATE_LIMITED,
+                e,
+                Instant.now());
+    }
+
+    /// Estimates the prompt tokens of `messages` at four characters per token.
+    private static long estimateTokens(List<ChatMessage> messages) {
+        long chars = 0;
+        for (ChatMessage message : messages) {
+            String text =
+                    switch (message) {
+                        case SystemMessage system -> system.text();
+                        case UserMessage user -> user.hasSingleText() ? user.singleText() : null;
+                        case AiMessage ai -> ai.text();
+                        case ToolExecutionResultMessage result -> result.text();
+                        default -> null;
+                    };
+            chars += text != null ? text.length() : 0;
+        }
+        return chars / 4;
+    }
+
+    private static long tokensUsed(ChatResponse response) {
+        var tokenUsage = response != null ? response.metadata().tokenUsage() : null;
+        Integer total = tokenUsage != null ? tokenUsage.totalTokenCount() : null;
+        return total != null ? total : 0;
+    }
+
+    /// Returns whether `e` stems from an interrupt, directly or wrapped by the HTTP client.
+    private static boolean isInterruption(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof InterruptedException) {
+                return true;
+            }
+        }
+        return Thread.currentThread().isInterrupted();
+    }
+
     @Override
     public String getId() {
         return id;
@@ -116,34 +381,36 @@ public class LangChain4jAgent implements Agent, ToolCapable {
     @Override
     public ToolSession openToolSession(
             String prompt, Map<String, Object> context, List<ToolDefinition> tools) {
-        return new LangChain4jToolSession(this, model, config, prompt, context, tools);
+        return new LangChain4jToolSession(
+                this, model, streamingModel, config, prompt, context, tools);
+    }
+
+    @Override
+    public ConversationMemory getConversationMemory() {
+        return memory;
     }
 
-    /// Appends the final prompt/answer pair to shared conversation history.
+    /// Appends the final prompt/answer pair to the conversation memory.
     ///
-    /// Called by {@link LangChain4jToolSession#close()} under the session's control.
-    void appendToHistory(UserMessage userMessage, AiMessage aiMessage) {
-        if (!config.isMaintainContext()) return;
-        historyLock.lock();
-        try {
-            conversationHistory.add(userMessage);
-            conversationHistory.add(aiMessage);
-        } finally {
-            historyLock.unlock();
-        }
+    /// Called after each completed call and by {@link LangChain4jToolSession#close()}.
+    /// Turns due for a summary wait for {@link ConversationMemory#summarizePending}.
+    void appendToHistory(Map<String, Object> context, String prompt, String answer) {
+        if (!config.isMaintainContext() || answer == null) return;
+        memory.append(context, new ConversationTurn(prompt, answer));
     }
 
-    /// Returns a snapshot of the current conversation history for session initialization.
-    List<ChatMessage> getHistorySnapshot() {
-        historyLock.lock();
-        try {
-            return new ArrayList<>(conversationHistory);
-        } finally {
-            historyLock.unlock();
+    /// Returns the conversation history a call with `context` continues, as messages.
+    List<ChatMessage> getHistorySnapshot(Map<String, Object> context) {
+        List<ChatMessage> messages = new ArrayList<>();
+        for (ConversationTurn turn : memory.turns(context)) {
+            messages.add(UserMessage.from(turn.prompt()));
+            messages.add(AiMessage.from(turn.answer()));
         }
+        return messages;
     }
 
-    /// Builds the ordered message list: system prompt, history, then user prompt.
+    /// Builds the ordered message list: system prompt with the context section, history,
+    /// then the per-node section and user prompt, see {@link PromptLayout}.
     ///
     /// For Gemini/Gemma models, system content is merged into the user message as a
     /// prefix rather than passed as a {@link SystemMessage}. Some versions of
@@ -159,7 +426,9 @@ public class LangChain4jAgent implements Agent, ToolCapable {
 
         if (!config.getRole().isEmpty()) {
             String systemContent =
-                    buildSystemPrompt(config.getRole(), config.getInstructions(), context);
+                    PromptLayout.system(config.getRole(), config.getInstructions(), context);
+            // Per-node keys change on every node: keep them behind the cached system prefix
+            prompt = PromptLayout.node(context) + prompt;
             if (isGemini) {
                 // Gemini: prepend system content to the user message so contents is never empty.
                 prompt = systemContent + prompt;
@@ -169,44 +438,15 @@ public class LangChain4jAgent implements Agent, ToolCapable {
         }
 
         if (config.isMaintainContext()) {
-            List<ChatMessage> snapshot = getHistorySnapshot();
-            messages.addAll(snapshot);
+            messages.addAll(getHistorySnapshot(context));
         }
 
         messages.add(UserMessage.from(prompt));
         return messages;
     }
 
-    /// Composes a system prompt from role, instructions, and filtered context.
-    ///
-    /// Internal engine keys (`_`-prefixed, `retry_attempt`, `backtrack_reason`,
-    /// `loop_iteration`) are excluded from the context section.
-    private String buildSystemPrompt(
-            String role, String instructions, Map<String, Object> context) {
-        var sb = new StringBuilder();
-        sb.append("You are a ").append(role).append(".\n\n");
-
-        if (instructions != null && !instructions.isEmpty()) {
-            sb.append(instructions).append("\n\n");
-        }
-
-        if (context != null && !context.isEmpty()) {
-            sb.append("Context information:\n");
-            context.forEach(
-                    (key, value) -> {
-                        if (!key.startsWith("_")
-                                && !key.equals("retry_attempt")
-                                && !key.equals("backtrack_reason")
-                                && !key.equals("loop_iteration")) {
-                            sb.append("- ").append(key).append(": ").append(value).append("\n");
-                        }
-                    });
-        }
-
-        return sb.toString();
-    }
-
-    /// Extracts response metadata including token usage and finish reason.
+    /// Extracts response metadata including token usage, prompt cache usage and finish
+    /// reason.
     private Map<String, Object> buildMetadata(ChatResponse response, Instant startTime) {
         Map<String, Object> metadata = new HashMap<>();
         metadata.put("agent_id", id);
@@ -219,6 +459,7 @@ public class LangChain4jAgent implements Agent, ToolCapable {
             metadata.put("input_tokens", tokenUsage.inputTokenCount());
             metadata.put("output_tokens", tokenUsage.outputTokenCount());
             metadata.put("total_tokens", tokenUsage.totalTokenCount());
+            CacheUsage.of(tokenUsage).putInto(metadata);
         }
 
         var finishReason = response.metadata().finishReason();
@@ -1,14 +1,21 @@
 package io.hensu.adapter.langchain4j;
 
 import dev.langchain4j.model.anthropic.AnthropicChatModel;
+import dev.langchain4j.model.anthropic.AnthropicStreamingChatModel;
 import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.StreamingChatModel;
 import dev.langchain4j.model.googleai.GoogleAiGeminiChatModel;
+import dev.langchain4j.model.googleai.GoogleAiGeminiStreamingChatModel;
 import dev.langchain4j.model.openai.OpenAiChatModel;
+import dev.langchain4j.model.openai.OpenAiStreamingChatModel;
 import io.hensu.core.agent.Agent;
 import io.hensu.core.agent.AgentConfig;
 import io.hensu.core.agent.AgentProvider;
+import io.hensu.core.agent.ratelimit.RateGovernor;
+import io.hensu.core.agent.ratelimit.RateLimits;
 import java.time.Duration;
 import java.util.Map;
+import java.util.Objects;
 import java.util.logging.Logger;
 
 /// LangChain4j implementation of {@link AgentProvider}.
@@ -17,10 +24,21 @@ import java.util.logging.Logger;
 /// in {@link LangChain4jAgent}. Supports Anthropic (Claude), OpenAI (GPT/o1),
 /// Google (Gemini/Gemma), and DeepSeek models.
 ///
+/// Every agent also gets a {@link StreamingChatModel} with the same settings, so the engine
+/// can forward output to listeners while the model is still generating.
+///
 /// DeepSeek uses the OpenAI-compatible API with a custom base URL.
 ///
-/// @implNote Stateless and thread-safe. Each call to {@link #createAgent} creates
-/// a new model instance — no shared mutable state.
+/// Anthropic models mark the system prompt and tool definitions as cache breakpoints
+/// (`cache_control`) unless the agent disables `promptCaching`; OpenAI caches long prompt
+/// prefixes without breakpoints.
+///
+/// Agents share the {@link RateGovernor} of their provider instance: all agents calling
+/// the same provider with the same API key queue in one lane, so quotas and the adaptive
+/// concurrency limit hold across agents and executions.
+///
+/// @implNote Thread-safe. Each call to {@link #createAgent} creates a new model
+/// instance; the only shared state is the rate governor, which is thread-safe.
 ///
 /// @see LangChain4jAgent for the agent implementation
 /// @see AgentProvider for the provider contract
@@ -32,6 +50,27 @@ public class LangChain4jProvider implements AgentProvider {
     private static final long DEFAULT_TIMEOUT_SECONDS = 120;
     private static final double DEFAULT_TEMPERATURE = 0.7;
 
+    private final RateGovernor rateGovernor;
+
+    /// Creates a provider governing calls with {@link RateLimits#DEFAULT}.
+    public LangChain4jProvider() {
+        this(new RateGovernor(RateLimits.DEFAULT));
+    }
+
+    /// Creates a provider whose agents' calls are admitted by `rateGovernor`.
+    ///
+    /// @param rateGovernor governor shared by every agent of this provider, not null
+    public LangChain4jProvider(RateGovernor rateGovernor) {
+        this.rateGovernor = Objects.requireNonNull(rateGovernor, "rateGovernor must not be null");
+    }
+
+    /// Returns the governor admitting this provider's model calls.
+    ///
+    /// @return the shared rate governor, never null
+    public RateGovernor getRateGovernor() {
+        return rateGovernor;
+    }
+
     @Override
     public String getName() {
         return "langchain4j";
@@ -52,7 +91,9 @@ public class LangChain4jProvider implements AgentProvider {
     public Agent createAgent(String agentId, AgentConfig config, Map<String, String> credentials) {
         logger.info("Creating LangChain4j agent: " + agentId + " with model: " + config.getModel());
         ChatModel model = createModel(config, credentials);
-        return new LangChain4jAgent(agentId, config, model);
+        StreamingChatModel streamingModel = createStreamingModel(config, credentials);
+        return new LangChain4jAgent(
+                agentId, config, model, streamingModel, createLane(config, credentials));
     }
 
     @Override
@@ -83,6 +124,35 @@ public class LangChain4jProvider implements AgentProvider {
         throw new IllegalArgumentException("Unsupported model: " + modelName);
     }
 
+    /// Returns the rate lane of the model's provider and API key.
+    ///
+    /// DeepSeek is its own provider even though it shares the OpenAI client.
+    ///
+    /// @param config agent configuration containing the model name, not null
+    /// @param credentials API keys keyed by provider name, not null
+    /// @return the shared lane, never null
+    private RateGovernor.Lane createLane(AgentConfig config, Map<String, String> credentials) {
+        String modelName = config.getModel();
+
+        if (modelName.startsWith("claude")) {
+            return rateGovernor.lane(
+                    "anthropic",
+                    requireApiKey(credentials, "anthropic_api_key", "ANTHROPIC_API_KEY"));
+        } else if (modelName.startsWith("gpt") || modelName.startsWith("o1")) {
+            return rateGovernor.lane(
+                    "openai", requireApiKey(credentials, "openai_api_key", "OPENAI_API_KEY"));
+        } else if (modelName.startsWith("gemini") || modelName.startsWith("gemma")) {
+            return rateGovernor.lane(
+                    "google", requireApiKey(credentials, "google_api_key", "GOOGLE_API_KEY"));
+        } else if (modelName.startsWith("deepseek")) {
+            return rateGovernor.lane(
+                    "deepseek",
+                    requireApiKey(credentials, "deepseek_api_key", "DEEPSEEK_API_KEY"));
+        }
+
+        throw new IllegalArgumentException("Unsupported model: " + modelName);
+    }
+
     private ChatModel createAnthropicModel(AgentConfig config, Map<String, String> credentials) {
         String apiKey = requireApiKey(credentials, "anthropic_api_key", "ANTHROPIC_API_KEY");
 
@@ -95,6 +165,7 @@ public class LangChain4jProvider implements AgentProvider {
                         .timeout(Duration.ofSeconds(getTimeout(config)));
 
         if (config.getTopP() != null) builder.topP(config.getTopP());
+        if (isPromptCaching(config)) builder.cacheSystemMessages(true).cacheTools(true);
 
         return builder.build();
     }
@@ -151,6 +222,94 @@ public class LangChain4jProvider implements AgentProvider {
         return builder.build();
     }
 
+    /// Creates the streaming counterpart of {@link #createModel}, with the same settings.
+    ///
+    /// @param config agent configuration containing the model name, not null
+    /// @param credentials API keys keyed by provider name, not null
+    /// @return configured streaming chat model, never null
+    /// @throws IllegalArgumentException if model name is not supported
+    /// @throws IllegalStateException if required API key is missing
+    private StreamingChatModel createStreamingModel(
+            AgentConfig config, Map<String, String> credentials) {
+        String modelName = config.getModel();
+
+        if (modelName.startsWith("claude")) {
+            return createAnthropicStreamingModel(config, credentials);
+        } else if (modelName.startsWith("gpt") || modelName.startsWith("o1")) {
+            return createOpenAiStreamingModel(config, credentials, null);
+        } else if (modelName.startsWith("gemini") || modelName.startsWith("gemma")) {
+            return createGoogleAiStreamingModel(config, credentials);
+        } else if (modelName.startsWith("deepseek")) {
+            return createOpenAiStreamingModel(config, credentials, "https://api.deepseek.com");
+        }
+
+        throw new IllegalArgumentException("Unsupported model: " + modelName);
+    }
+
+    private StreamingChatModel createAnthropicStreamingModel(
+            AgentConfig config, Map<String, String> credentials) {
+        String apiKey = requireApiKey(credentials, "anthropic_api_key", "ANTHROPIC_API_KEY");
+
+        var builder =
+                AnthropicStreamingChatModel.builder()
+                        .apiKey(apiKey)
+                        .modelName(config.getModel())
+                        .temperature(getTemperature(config))
+                        .maxTokens(getMaxTokens(config))
+                        .timeout(Duration.ofSeconds(getTimeout(config)));
+
+        if (config.getTopP() != null) builder.topP(config.getTopP());
+        if (isPromptCaching(config)) builder.cacheSystemMessages(true).cacheTools(true);
+
+        return builder.build();
+    }
+
+    private StreamingChatModel createOpenAiStreamingModel(
+            AgentConfig config, Map<String, String> credentials, String baseUrl) {
+        String apiKey;
+        if (baseUrl != null && baseUrl.contains("deepseek")) {
+            apiKey = requireApiKey(credentials, "deepseek_api_key", "DEEPSEEK_API_KEY");
+        } else {
+            apiKey = requireApiKey(credentials, "openai_api_key", "OPENAI_API_KEY");
+        }
+
+        var builder =
+                OpenAiStreamingChatModel.builder()
+                        .apiKey(apiKey)
+                        .modelName(config.getModel())
+                        .temperature(getTemperature(config))
+                        .maxTokens(getMaxTokens(config))
+                        .timeout(Duration.ofSeconds(getTimeout(config)));
+
+        if (baseUrl != null) builder.baseUrl(baseUrl);
+        if (config.getTopP() != null) builder.topP(config.getTopP());
+        if (config.getFrequencyPenalty() != null)
+            builder.frequencyPenalty(config.getFrequencyPenalty());
+        if (config.getPresencePenalty() != null)
+            builder.presencePenalty(config.getPresencePenalty());
+
+        return builder.build();
+    }
+
+    private StreamingChatModel createGoogleAiStreamingModel(
+            AgentConfig config, Map<String, String> credentials) {
+        String apiKey = requireApiKey(credentials, "google_api_key", "GOOGLE_API_KEY");
+
+        var builder =
+                GoogleAiGeminiStreamingChatModel.builder()
+                        .apiKey(apiKey)
+                        .modelName(config.getModel())
+                        .temperature(getTemperature(config))
+                        .maxOutputTokens(getMaxTokens(config))
+                        .timeout(Duration.ofSeconds(getTimeout(config)))
+                        .returnThinking(true)
+                        .sendThinking(true);
+
+        if (config.getTopP() != null) builder.topP(config.getTopP());
+
+        return builder.build();
+    }
+
     /// Looks up an API key from credentials, trying each key name in order.
     ///
     /// @param credentials credential map to search, not null
@@ -177,4 +336,8 @@ public class LangChain4jProvider implements AgentProvider {
     private long getTimeout(AgentConfig config) {
         return config.getTimeout() != null ? config.getTimeout() : DEFAULT_TIMEOUT_SECONDS;
     }
+
+    private boolean isPromptCaching(AgentConfig config) {
+        return !Boolean.FALSE.equals(config.getPromptCaching());
+    }
 }
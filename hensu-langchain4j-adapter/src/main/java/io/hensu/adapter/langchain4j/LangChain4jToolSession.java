@@ -10,6 +10,7 @@ import dev.langchain4j.data.message.SystemMessage;
 import dev.langchain4j.data.message.ToolExecutionResultMessage;
 import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.StreamingChatModel;
 import dev.langchain4j.model.chat.request.ChatRequest;
 import dev.langchain4j.model.chat.request.json.JsonBooleanSchema;
 import dev.langchain4j.model.chat.request.json.JsonIntegerSchema;
@@ -21,9 +22,11 @@ import dev.langchain4j.model.chat.response.ChatResponse;
 import io.hensu.core.agent.AgentConfig;
 import io.hensu.core.agent.AgentResponse;
 import io.hensu.core.agent.ToolSession;
+import io.hensu.core.agent.ratelimit.RateLimitedException;
 import io.hensu.core.tool.ToolCallResult;
 import io.hensu.core.tool.ToolDefinition;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 /// LangChain4j implementation of {@link ToolSession}.
@@ -31,6 +34,17 @@ import java.util.logging.Logger;
 /// Manages a session-private message list for tool-call rounds. At session close,
 /// appends only the final (prompt, answer) pair to the agent's shared history
 /// under its lock – preventing cross-branch bleed of intermediate tool turns.
+///
+/// The streaming variants of {@link #start(Consumer)} and {@link #submit(ToolCallResult,
+/// Consumer)} use the agent's {@link StreamingChatModel} when it has one.
+///
+/// When the model requests several tools in one turn, {@link #takePendingToolRequests()}
+/// hands the rest of the round to the caller and {@link #submitAll(List, Consumer)}
+/// answers them all before the model is called again.
+///
+/// Every turn resends the same system prompt and tool specifications, which providers with
+/// prompt caching serve from their cache; the final answer's metadata reports the cache
+/// reads and writes of the whole session.
 class LangChain4jToolSession implements ToolSession {
 
     private static final Logger logger = Logger.getLogger(LangChain4jToolSession.class.getName());
@@ -38,24 +52,32 @@ class LangChain4jToolSession implements ToolSession {
 
     private final LangChain4jAgent agent;
     private final ChatModel model;
+    private final StreamingChatModel streamingModel;
     private final AgentConfig config;
+    private final String prompt;
+    private final Map<String, Object> context;
     private final List<ChatMessage> sessionMessages;
     private final List<ToolSpecification> toolSpecs;
     private final Deque<ToolExecutionRequest> pendingQueue = new ArrayDeque<>();
-    private ToolExecutionRequest lastDispatchedRequest;
+    private final Deque<ToolExecutionRequest> awaiting = new ArrayDeque<>();
     private UserMessage originalUserMessage;
     private AiMessage lastAiMessage;
+    private CacheUsage cacheUsage = CacheUsage.NONE;
 
     LangChain4jToolSession(
             LangChain4jAgent agent,
             ChatModel model,
+            StreamingChatModel streamingModel,
             AgentConfig config,
             String prompt,
             Map<String, Object> context,
             List<ToolDefinition> tools) {
         this.agent = agent;
         this.model = model;
+        this.streamingModel = streamingModel;
         this.config = config;
+        this.prompt = prompt;
+        this.context = context;
         this.sessionMessages = new ArrayList<>();
         this.toolSpecs = tools.stream().map(LangChain4jToolSession::toToolSpec).toList();
 
@@ -64,39 +86,61 @@ class LangChain4jToolSession implements ToolSession {
 
     @Override
     public AgentResponse start() {
-        ChatRequest request =
-                ChatRequest.builder()
-                        .messages(sessionMessages)
-                        .toolSpecifications(toolSpecs)
-                        .build();
-        ChatResponse chatResponse = model.chat(request);
-        return processResponse(chatResponse);
+        return callModel(null);
+    }
+
+    @Override
+    public AgentResponse start(Consumer<String> onDelta) {
+        return callModel(onDelta);
     }
 
     @Override
     public AgentResponse submit(ToolCallResult result) {
-        // Add the tool execution result for the last dispatched request
-        if (lastDispatchedRequest != null) {
-            sessionMessages.add(
-                    ToolExecutionResultMessage.from(lastDispatchedRequest, result.asText()));
-            lastDispatchedRequest = null;
+        return submit(result, null);
+    }
+
+    @Override
+    public AgentResponse submit(ToolCallResult result, Consumer<String> onDelta) {
+        // Add the tool execution result for the oldest unanswered request
+        ToolExecutionRequest answered = awaiting.poll();
+        if (answered != null) {
+            sessionMessages.add(ToolExecutionResultMessage.from(answered, result.asText()));
+        }
+        return next(onDelta);
+    }
+
+    @Override
+    public List<AgentResponse.ToolRequest> takePendingToolRequests() {
+        List<AgentResponse.ToolRequest> taken = new ArrayList<>(pendingQueue.size());
+        while (!pendingQueue.isEmpty()) {
+            ToolExecutionRequest request = pendingQueue.poll();
+            awaiting.add(request);
+            taken.add(toToolRequest(request));
+        }
+        return taken;
+    }
+
+    @Override
+    public AgentResponse submitAll(List<ToolCallResult> results, Consumer<String> onDelta) {
+        if (results.size() != awaiting.size()) {
+            throw new IllegalArgumentException(
+                    "Expected " + awaiting.size() + " tool results, got " + results.size());
         }
+        for (ToolCallResult result : results) {
+            sessionMessages.add(ToolExecutionResultMessage.from(awaiting.poll(), result.asText()));
+        }
+        return next(onDelta);
+    }
 
-        // If more tool calls remain in this round, dispatch the next one
+    /// Dispatches the next tool call of this round, or re-calls the model once all are
+    /// answered.
+    private AgentResponse next(Consumer<String> onDelta) {
         if (!pendingQueue.isEmpty()) {
             ToolExecutionRequest next = pendingQueue.poll();
-            lastDispatchedRequest = next;
+            awaiting.add(next);
             return toToolRequest(next);
         }
-
-        // All tool calls from this round answered — re-call the model
-        ChatRequest request =
-                ChatRequest.builder()
-                        .messages(sessionMessages)
-                        .toolSpecifications(toolSpecs)
-                        .build();
-        ChatResponse chatResponse = model.chat(request);
-        return processResponse(chatResponse);
+        return callModel(onDelta);
     }
 
     @Override
@@ -124,29 +168,65 @@ class LangChain4jToolSession implements ToolSession {
 
     @Override
     public void close() {
-        if (lastAiMessage != null && lastAiMessage.text() != null && originalUserMessage != null) {
-            agent.appendToHistory(originalUserMessage, lastAiMessage);
+        if (lastAiMessage != null) {
+            agent.appendToHistory(context, prompt, lastAiMessage.text());
+        }
+    }
+
+    /// Sends the session messages, streaming when `onDelta` is given and the agent can.
+    ///
+    /// The round trip goes through the agent's rate lane; a call the provider kept
+    /// throttling ends the session turn with a `RATE_LIMITED` error.
+    private AgentResponse callModel(Consumer<String> onDelta) {
+        ChatRequest request =
+                ChatRequest.builder()
+                        .messages(sessionMessages)
+                        .toolSpecifications(toolSpecs)
+                        .build();
+        LangChain4jAgent.ModelCall call;
+        if (onDelta == null || streamingModel == null) {
+            call = _ -> model.chat(request);
+        } else {
+            var deltas = new LangChain4jAgent.RetryDeltas(onDelta);
+            call = _ -> LangChain4jAgent.stream(streamingModel, request, deltas.nextAttempt());
+        }
+        try {
+            return processResponse(agent.governed(sessionMessages, call));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return AgentResponse.Error.of("Tool session interrupted during model call");
+        } catch (RateLimitedException e) {
+            logger.warning("Tool session rate limited: " + e.getMessage());
+            return agent.rateLimited(e);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
         }
     }
 
     private AgentResponse processResponse(ChatResponse chatResponse) {
         AiMessage aiMessage = chatResponse.aiMessage();
         lastAiMessage = aiMessage;
+        cacheUsage = cacheUsage.plus(CacheUsage.of(chatResponse.metadata().tokenUsage()));
         sessionMessages.add(aiMessage);
 
         if (aiMessage.hasToolExecutionRequests()) {
             List<ToolExecutionRequest> requests = aiMessage.toolExecutionRequests();
             pendingQueue.clear();
             pendingQueue.addAll(requests);
+            awaiting.clear();
 
             ToolExecutionRequest first = pendingQueue.poll();
-            lastDispatchedRequest = first;
+            awaiting.add(first);
             return toToolRequest(first);
         }
 
         String text = aiMessage.text();
         if (text == null) text = "";
-        return AgentResponse.TextResponse.of(text);
+        Map<String, Object> metadata = new HashMap<>();
+        cacheUsage.putInto(metadata);
+        return AgentResponse.TextResponse.of(text, metadata);
     }
 
     private AgentResponse.ToolRequest toToolRequest(ToolExecutionRequest request) {
@@ -170,7 +250,9 @@ class LangChain4jToolSession implements ToolSession {
 
         if (!config.getRole().isEmpty()) {
             String systemContent =
-                    buildSystemPrompt(config.getRole(), config.getInstructions(), context);
+                    PromptLayout.system(config.getRole(), config.getInstructions(), context);
+            // Per-node keys change on every node: keep them behind the cached system prefix
+            prompt = PromptLayout.node(context) + prompt;
             if (isGemini) {
                 prompt = systemContent + prompt;
             } else {
@@ -179,35 +261,13 @@ class LangChain4jToolSession implements ToolSession {
         }
 
         if (config.isMaintainContext()) {
-            sessionMessages.addAll(agent.getHistorySnapshot());
+            sessionMessages.addAll(agent.getHistorySnapshot(context));
         }
 
         originalUserMessage = UserMessage.from(prompt);
         sessionMessages.add(originalUserMessage);
     }
 
-    private String buildSystemPrompt(
-            String role, String instructions, Map<String, Object> context) {
-        var sb = new StringBuilder();
-        sb.append("You are a ").append(role).append(".\n\n");
-        if (instructions != null && !instructions.isEmpty()) {
-            sb.append(instructions).append("\n\n");
-        }
-        if (context != null && !context.isEmpty()) {
-            sb.append("Context information:\n");
-            context.forEach(
-                    (key, value) -> {
-                        if (!key.startsWith("_")
-                                && !key.equals("retry_attempt")
-                                && !key.equals("backtrack_reason")
-                                && !key.equals("loop_iteration")) {
-                            sb.append("- ").append(key).append(": ").append(value).append("\n");
-                        }
-                    });
-        }
-        return sb.toString();
-    }
-
     private static ToolSpecification toToolSpec(ToolDefinition tool) {
         Map<String, JsonSchemaElement> properties = new LinkedHashMap<>();
         List<String> required = new ArrayList<>();
@@ -0,0 +1,129 @@
+package io.hensu.adapter.langchain4j;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/// Renders the prompt of an agent call with a layout that keeps its prefix stable.
+///
+/// Providers reuse the cached computation of a prompt prefix they have seen before:
+/// Anthropic up to an explicit cache breakpoint on the system message, OpenAI
+/// automatically, both only once the prefix reaches a minimum length. The prompt therefore
+/// runs from the most to the least stable content:
+///
+/// 1. system message ({@link #system}): role, instructions and the context section
+/// 2. conversation history, for agents that maintain context
+/// 3. user message: the per-node section ({@link #node}), then the node's prompt
+///
+/// The context section lists entries sorted by key, so equal context renders identically
+/// whatever the map's iteration order. Per-node keys (`current_node`) change on every node
+/// and are rendered in the user message instead, so they do not invalidate the cached
+/// system message when the rest of the context is unchanged.
+///
+/// Each context value is capped at {@value #MAX_VALUE_CHARS} characters and the context
+/// section at {@value #MAX_CONTEXT_CHARS}; entries past the cap are counted, not rendered.
+/// Internal engine keys (`_`-prefixed, `retry_attempt`, `backtrack_reason`,
+/// `loop_iteration`) are excluded.
+///
+/// @implNote Stateless.
+final class PromptLayout {
+
+    /// Longest rendered context value; longer values are truncated.
+    static final int MAX_VALUE_CHARS = 8_000;
+
+    /// Longest rendered context section; further entries are omitted.
+    static final int MAX_CONTEXT_CHARS = 64_000;
+
+    private static final Set<String> EXCLUDED_KEYS =
+            Set.of("retry_attempt", "backtrack_reason", "loop_iteration");
+
+    /// Keys whose value changes from node to node within one execution.
+    private static final Set<String> NODE_KEYS = Set.of("current_node");
+
+    private PromptLayout() {}
+
+    /// Renders the system message: role, instructions and the context section.
+    ///
+    /// @param role the agent's role, not null
+    /// @param instructions the agent's instructions, may be null
+    /// @param context execution context variables, may be null
+    /// @return the system prompt, never null
+    static String system(String role, String instructions, Map<String, Object> context) {
+        var sb = new StringBuilder();
+        sb.append("You are a ").append(role).append(".\n\n");
+
+        if (instructions != null && !instructions.isEmpty()) {
+            sb.append(instructions).append("\n\n");
+        }
+        return sb.append(context(context)).toString();
+    }
+
+    /// Renders the context section: every context entry but the per-node and internal
+    /// ones, sorted by key.
+    ///
+    /// @param context execution context variables, may be null
+    /// @return the context section ending in a blank line, empty if no entry is rendered
+    static String context(Map<String, Object> context) {
+        Map<String, Object> sorted = select(context, false);
+        if (sorted.isEmpty()) {
+            return "";
+        }
+
+        var sb = new StringBuilder();
+        sb.append("Context information:\n");
+        int budget = MAX_CONTEXT_CHARS;
+        int omitted = 0;
+        for (Map.Entry<String, Object> entry : sorted.entrySet()) {
+            String line = line(entry.getKey(), entry.getValue());
+            if (omitted > 0 || line.length() > budget) {
+                omitted++;
+                continue;
+            }
+            sb.append(line);
+            budget -= line.length();
+        }
+        if (omitted > 0) {
+            sb.append("- (").append(omitted).append(" more entries omitted)\n");
+        }
+        return sb.append('\n').toString();
+    }
+
+    /// Renders the per-node section that precedes the node's prompt in the user message.
+    ///
+    /// @param context execution context variables, may be null
+    /// @return the per-node section ending in a blank line, empty if no per-node key is set
+    static String node(Map<String, Object> context) {
+        Map<String, Object> sorted = select(context, true);
+        if (sorted.isEmpty()) {
+            return "";
+        }
+
+        var sb = new StringBuilder();
+        sorted.forEach((key, value) -> sb.append(line(key, value)));
+        return sb.append('\n').toString();
+    }
+
+    private static Map<String, Object> select(Map<String, Object> context, boolean perNode) {
+        Map<String, Object> sorted = new TreeMap<>();
+        if (context != null) {
+            context.forEach(
+                    (key, value) -> {
+                        if (!key.startsWith("_")
+                                && !EXCLUDED_KEYS.contains(key)
+                                && NODE_KEYS.contains(key) == perNode) {
+                            sorted.put(key, value);
+                        }
+                    });
+        }
+        return sorted;
+    }
+
+    private static String line(String key, Object value) {
+        String text = String.valueOf(value);
+        if (text.length() > MAX_VALUE_CHARS) {
+            int cut = text.length() - MAX_VALUE_CHARS;
+            text = text.substring(0, MAX_VALUE_CHARS) + "… (" + cut + " more characters)";
+        }
+        return "- " + key + ": " + text + "\n";
+    }
+}
@@ -0,0 +1,78 @@
+package io.hensu.adapter.langchain4j;
+
+import dev.langchain4j.exception.HttpException;
+import dev.langchain4j.exception.RateLimitException;
+import io.hensu.core.agent.ratelimit.RateLimitedException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/// Recognises provider refusals that mean "slow down" rather than "this request is wrong".
+///
+/// LangChain4j reports HTTP 429 as {@link RateLimitException}; overload responses (503, and
+/// Anthropic's 529) surface as an {@link HttpException} somewhere in the cause chain. Both
+/// become a {@link RateLimitedException}, which the agent's rate lane retries with backoff.
+///
+/// ### Retry hint
+/// LangChain4j's exceptions carry the response body but not its headers, so the
+/// `Retry-After` header itself is out of reach. OpenAI and Gemini repeat the delay in the
+/// error message ("Please try again in 1.5s", "Please retry in 37.2s"); that hint becomes
+/// {@link RateLimitedException#getRetryAfter()}. Refusals without one, Anthropic's among
+/// them, fall back to the lane's own backoff.
+///
+/// @implNote Stateless utility; safe to call from any thread.
+final class ThrottleClassifier {
+
+    private static final Set<Integer> THROTTLE_STATUSES = Set.of(429, 503, 529);
+
+    private static final Pattern RETRY_HINT =
+            Pattern.compile(
+                    "(?:try again|retry) (?:in|after) (\\d+(?:\\.\\d+)?) ?(ms|s|sec|seconds?)\\b",
+                    Pattern.CASE_INSENSITIVE);
+
+    private ThrottleClassifier() {}
+
+    /// Returns `e` as a {@link RateLimitedException} if it is a throttling refusal.
+    ///
+    /// @param e the exception thrown by a model call, not null
+    /// @return a rate limit exception wrapping `e`, or `e` itself
+    static Exception classify(Exception e) {
+        if (e instanceof RateLimitedException) {
+            return e;
+        }
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof RateLimitException
+                    || t instanceof HttpException http
+                            && THROTTLE_STATUSES.contains(http.statusCode())) {
+                return new RateLimitedException(message(e), retryAfter(e), e);
+            }
+        }
+        return e;
+    }
+
+    /// Returns the delay a provider asked for in the message of `e` or one of its causes.
+    ///
+    /// @param e the throttling refusal, not null
+    /// @return the requested delay, null if no message names one
+    static Duration retryAfter(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t.getMessage() == null) {
+                continue;
+            }
+            Matcher hint = RETRY_HINT.matcher(t.getMessage());
+            if (hint.find()) {
+                BigDecimal amount = new BigDecimal(hint.group(1));
+                boolean millis = hint.group(2).equalsIgnoreCase("ms");
+                return Duration.ofMillis(
+                        (millis ? amount : amount.movePointRight(3)).longValue());
+            }
+        }
+        return null;
+    }
+
+    private static String message(Exception e) {
+        return e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,70 @@
+package io.hensu.adapter.langchain4j;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.model.anthropic.AnthropicTokenUsage;
+import dev.langchain4j.model.openai.OpenAiTokenUsage;
+import dev.langchain4j.model.output.TokenUsage;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class CacheUsageTest {
+
+    @Test
+    void of_readsAnthropicCacheReadsAndWrites() {
+        TokenUsage usage =
+                AnthropicTokenUsage.builder()
+                        .inputTokenCount(100)
+                        .outputTokenCount(20)
+                        .cacheReadInputTokens(1_500)
+                        .cacheCreationInputTokens(300)
+                        .build();
+
+        assertThat(CacheUsage.of(usage)).isEqualTo(new CacheUsage(1_500, 300));
+    }
+
+    @Test
+    void of_treatsMissingAnthropicCountsAsZero() {
+        TokenUsage usage =
+                AnthropicTokenUsage.builder().inputTokenCount(100).outputTokenCount(20).build();
+
+        assertThat(CacheUsage.of(usage)).isEqualTo(CacheUsage.NONE);
+    }
+
+    @Test
+    void of_readsOpenAiCachedTokens() {
+        TokenUsage usage =
+                OpenAiTokenUsage.builder()
+                        .inputTokenCount(2_000)
+                        .outputTokenCount(50)
+                        .inputTokensDetails(
+                                OpenAiTokenUsage.InputTokensDetails.builder()
+                                        .cachedTokens(1_024)
+                                        .build())
+                        .build();
+
+        assertThat(CacheUsage.of(usage)).isEqualTo(new CacheUsage(1_024, 0));
+    }
+
+    @Test
+    void of_reportsNoneForOtherProviders() {
+        assertThat(CacheUsage.of(new TokenUsage(10, 5))).isEqualTo(CacheUsage.NONE);
+        assertThat(CacheUsage.of(OpenAiTokenUsage.builder().inputTokenCount(10).build()))
+                .isEqualTo(CacheUsage.NONE);
+        assertThat(CacheUsage.of(null)).isEqualTo(CacheUsage.NONE);
+    }
+
+    @Test
+    void putInto_recordsReportedUsageOnly() {
+        Map<String, Object> reported = new HashMap<>();
+        new CacheUsage(7, 3).plus(new CacheUsage(1, 0)).putInto(reported);
+        Map<String, Object> silent = new HashMap<>();
+        CacheUsage.NONE.putInto(silent);
+
+        assertThat(reported)
+                .containsEntry(CacheUsage.READ_KEY, 8L)
+                .containsEntry(CacheUsage.WRITE_KEY, 3L);
+        assertThat(silent).isEmpty();
+    }
+}
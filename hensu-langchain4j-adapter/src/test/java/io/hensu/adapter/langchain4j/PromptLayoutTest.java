@@ -0,0 +1,163 @@
+package io.hensu.adapter.langchain4j;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import io.hensu.core.agent.AgentConfig;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class PromptLayoutTest {
+
+    // — System message ————————————————————————————————————————————————————————
+
+    @Test
+    void system_holdsRoleAndInstructions() {
+        assertThat(PromptLayout.system("writer", "Be brief.", null))
+                .isEqualTo("You are a writer.\n\nBe brief.\n\n");
+        assertThat(PromptLayout.system("writer", null, Map.of()))
+                .isEqualTo("You are a writer.\n\n");
+    }
+
+    @Test
+    void system_endsWithTheContextSection() {
+        assertThat(PromptLayout.system("writer", "Be brief.", Map.of("topic", "caching")))
+                .isEqualTo(
+                        """
+                        You are a writer.
+
+                        Be brief.
+
+                        Context information:
+                        - topic: caching
+
+                        """);
+    }
+
+    // — Context section ———————————————————————————————————————————————————————
+
+    @Test
+    void context_sortsEntriesAndLeavesOutPerNodeAndInternalKeys() {
+        Map<String, Object> context = new LinkedHashMap<>();
+        context.put("current_node", "review");
+        context.put("topic", "caching");
+        context.put("audience", "engineers");
+        context.put("_internal", "hidden");
+        context.put("retry_attempt", 2);
+
+        assertThat(PromptLayout.context(context))
+                .isEqualTo(
+                        """
+                        Context information:
+                        - audience: engineers
+                        - topic: caching
+
+                        """);
+    }
+
+    @Test
+    void context_rendersEqualMapsIdentically() {
+        Map<String, Object> forward = new LinkedHashMap<>();
+        forward.put("a", 1);
+        forward.put("b", 2);
+        Map<String, Object> backward = new LinkedHashMap<>();
+        backward.put("b", 2);
+        backward.put("a", 1);
+
+        assertThat(PromptLayout.context(forward)).isEqualTo(PromptLayout.context(backward));
+    }
+
+    @Test
+    void context_truncatesLongValues() {
+        String value = "x".repeat(PromptLayout.MAX_VALUE_CHARS + 5);
+
+        String rendered = PromptLayout.context(Map.of("draft", value));
+
+        assertThat(rendered)
+                .contains("- draft: " + "x".repeat(PromptLayout.MAX_VALUE_CHARS) + "… (5 more")
+                .doesNotContain("x".repeat(PromptLayout.MAX_VALUE_CHARS + 1));
+    }
+
+    @Test
+    void context_omitsEntriesPastSectionCap() {
+        Map<String, Object> context = new LinkedHashMap<>();
+        int entries = PromptLayout.MAX_CONTEXT_CHARS / PromptLayout.MAX_VALUE_CHARS + 2;
+        for (int i = 0; i < entries; i++) {
+            context.put("k" + (char) ('a' + i), "y".repeat(PromptLayout.MAX_VALUE_CHARS));
+        }
+
+        String rendered = PromptLayout.context(context);
+
+        assertThat(rendered).contains("- ka: ").doesNotContain("- k" + (char) ('a' + entries - 1));
+        assertThat(rendered).endsWith(" more entries omitted)\n\n");
+        assertThat(rendered.length()).isLessThan(PromptLayout.MAX_CONTEXT_CHARS + 200);
+    }
+
+    @Test
+    void context_isEmptyWithoutContext() {
+        assertThat(PromptLayout.context(null)).isEmpty();
+        assertThat(PromptLayout.context(Map.of())).isEmpty();
+        assertThat(PromptLayout.context(Map.of("current_node", "review"))).isEmpty();
+    }
+
+    // — Per-node section ——————————————————————————————————————————————————————
+
+    @Test
+    void node_rendersOnlyPerNodeKeys() {
+        Map<String, Object> context = Map.of("current_node", "review", "topic", "caching");
+
+        assertThat(PromptLayout.node(context)).isEqualTo("- current_node: review\n\n");
+        assertThat(PromptLayout.node(Map.of("topic", "caching"))).isEmpty();
+        assertThat(PromptLayout.node(null)).isEmpty();
+    }
+
+    // — Agent messages ————————————————————————————————————————————————————————
+
+    @Test
+    void agent_cachesStableContextAndSendsPerNodeKeysWithThePrompt() {
+        List<List<ChatMessage>> calls = new ArrayList<>();
+        ChatModel model =
+                new ChatModel() {
+                    @Override
+                    public ChatResponse chat(List<ChatMessage> messages) {
+                        calls.add(messages);
+                        return ChatResponse.builder().aiMessage(AiMessage.from("ok")).build();
+                    }
+                };
+        AgentConfig config =
+                AgentConfig.builder()
+                        .id("writer")
+                        .role("writer")
+                        .model("claude-sonnet-4")
+                        .instructions("Be brief.")
+                        .build();
+        var agent = new LangChain4jAgent("writer", config, model);
+
+        agent.execute("Draft it", Map.of("topic", "caching", "current_node", "draft"));
+        agent.execute("Review it", Map.of("topic", "caching", "current_node", "review"));
+
+        assertThat(calls).hasSize(2);
+        assertThat(calls.get(0).getFirst()).isEqualTo(calls.get(1).getFirst());
+        assertThat(((SystemMessage) calls.get(1).getFirst()).text())
+                .isEqualTo(
+                        """
+                        You are a writer.
+
+                        Be brief.
+
+                        Context information:
+                        - topic: caching
+
+                        """);
+        assertThat(((UserMessage) calls.get(1).getLast()).singleText())
+                .isEqualTo("- current_node: review\n\nReview it");
+    }
+}
@@ -0,0 +1,162 @@
+package io.hensu.adapter.langchain4j;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.StreamingChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
+import io.hensu.core.agent.AgentConfig;
+import io.hensu.core.agent.AgentResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class StreamingTest {
+
+    private static final ChatRequest REQUEST =
+            ChatRequest.builder().messages(UserMessage.from("Draft it")).build();
+
+    private final AtomicReference<StreamingChatResponseHandler> handler = new AtomicReference<>();
+    private final List<String> deltas = new ArrayList<>();
+
+    @AfterEach
+    void clearInterrupt() {
+        Thread.interrupted();
+    }
+
+    // — Completion ————————————————————————————————————————————————————————————
+
+    @Test
+    void stream_deliversFragmentsAndReturnsCompleteResponse() throws Exception {
+        StreamingChatModel model =
+                model(
+                        h -> {
+                            h.onPartialResponse("Hel");
+                            h.onPartialResponse("lo");
+                            h.onCompleteResponse(response("Hello"));
+                        });
+
+        ChatResponse response = LangChain4jAgent.stream(model, REQUEST, deltas::add);
+
+        assertThat(response.aiMessage().text()).isEqualTo("Hello");
+        assertThat(deltas).containsExactly("Hel", "lo");
+    }
+
+    @Test
+    void stream_dropsFragmentsArrivingAfterCompletion() throws Exception {
+        StreamingChatModel model = model(h -> h.onCompleteResponse(response("Hello")));
+
+        LangChain4jAgent.stream(model, REQUEST, deltas::add);
+        handler.get().onPartialResponse("late");
+
+        assertThat(deltas).isEmpty();
+    }
+
+    // — Errors ————————————————————————————————————————————————————————————————
+
+    @Test
+    void stream_rethrowsTheModelError() {
+        var error = new IllegalStateException("overloaded");
+        StreamingChatModel model =
+                model(
+                        h -> {
+                            h.onPartialResponse("Hel");
+                            h.onError(error);
+                        });
+
+        assertThatThrownBy(() -> LangChain4jAgent.stream(model, REQUEST, deltas::add))
+                .isSameAs(error);
+        handler.get().onPartialResponse("late");
+
+        assertThat(deltas).containsExactly("Hel");
+    }
+
+    @Test
+    void executeStreaming_returnsErrorResponseOnModelError() {
+        var agent = agent(model(h -> h.onError(new IllegalStateException("overloaded"))));
+
+        AgentResponse response = agent.executeStreaming("Draft it", Map.of(), deltas::add);
+
+        assertThat(response).isInstanceOf(AgentResponse.Error.class);
+        assertThat(((AgentResponse.Error) response).message()).isEqualTo("overloaded");
+    }
+
+    // — Interrupts ————————————————————————————————————————————————————————————
+
+    @Test
+    void stream_stopsWaitingAndDropsLaterFragmentsWhenInterrupted() {
+        StreamingChatModel model =
+                model(
+                        h -> {
+                            h.onPartialResponse("Hel");
+                            Thread.currentThread().interrupt();
+                        });
+
+        assertThatThrownBy(() -> LangChain4jAgent.stream(model, REQUEST, deltas::add))
+                .isInstanceOf(InterruptedException.class);
+        // The abandoned transport keeps going after the caller stopped waiting
+        handler.get().onPartialResponse("lo");
+        handler.get().onCompleteResponse(response("Hello"));
+
+        assertThat(deltas).containsExactly("Hel");
+    }
+
+    @Test
+    void executeStreaming_reportsInterruptAndKeepsTheFlag() {
+        var agent = agent(model(_ -> Thread.currentThread().interrupt()));
+
+        AgentResponse response = agent.executeStreaming("Draft it", Map.of(), deltas::add);
+        handler.get().onPartialResponse("late");
+
+        assertThat(response).isInstanceOf(AgentResponse.Error.class);
+        assertThat(((AgentResponse.Error) response).message())
+                .isEqualTo("Agent 'writer' interrupted during model call");
+        assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        assertThat(deltas).isEmpty();
+    }
+
+    // — Helpers ———————————————————————————————————————————————————————————————
+
+    /// Returns a model that records its handler and then runs `script` on the caller's
+    /// thread, the way a transport delivering synchronously would.
+    private StreamingChatModel model(Script script) {
+        return new StreamingChatModel() {
+            @Override
+            public void chat(ChatRequest request, StreamingChatResponseHandler h) {
+                handler.set(h);
+                script.run(h);
+            }
+        };
+    }
+
+    private static LangChain4jAgent agent(StreamingChatModel streamingModel) {
+        AgentConfig config =
+                AgentConfig.builder().id("writer").role("writer").model("claude-sonnet-4").build();
+        ChatModel unused =
+                new ChatModel() {
+                    @Override
+                    public ChatResponse chat(List<ChatMessage> messages) {
+                        throw new AssertionError("blocking model called");
+                    }
+                };
+        return new LangChain4jAgent("writer", config, unused, streamingModel);
+    }
+
+    private static ChatResponse response(String text) {
+        return ChatResponse.builder().aiMessage(AiMessage.from(text)).build();
+    }
+
+    @FunctionalInterface
+    private interface Script {
+        void run(StreamingChatResponseHandler handler);
+    }
+}
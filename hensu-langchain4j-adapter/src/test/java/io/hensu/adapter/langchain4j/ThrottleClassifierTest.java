@@ -0,0 +1,112 @@
+package io.hensu.adapter.langchain4j;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.exception.HttpException;
+import dev.langchain4j.exception.RateLimitException;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import io.hensu.core.agent.AgentConfig;
+import io.hensu.core.agent.AgentResponse;
+import io.hensu.core.agent.ratelimit.RateLimitedException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ThrottleClassifierTest {
+
+    // — Classification ————————————————————————————————————————————————————————
+
+    @Test
+    void classify_wrapsRateLimitAndOverloadRefusals() {
+        var tooMany = new RateLimitException("Too many requests");
+        var overloaded = new RuntimeException("call failed", new HttpException(529, "overloaded"));
+
+        assertThat(ThrottleClassifier.classify(tooMany))
+                .isInstanceOf(RateLimitedException.class)
+                .hasMessage("Too many requests")
+                .hasCause(tooMany);
+        assertThat(ThrottleClassifier.classify(overloaded))
+                .isInstanceOf(RateLimitedException.class)
+                .hasCause(overloaded);
+    }
+
+    @Test
+    void classify_leavesOtherFailuresAlone() {
+        var badRequest = new HttpException(400, "prompt is too long");
+        var rateLimited = new RateLimitedException("slow down", null, null);
+
+        assertThat(ThrottleClassifier.classify(badRequest)).isSameAs(badRequest);
+        assertThat(ThrottleClassifier.classify(rateLimited)).isSameAs(rateLimited);
+    }
+
+    // — Retry hint ————————————————————————————————————————————————————————————
+
+    @Test
+    void classify_readsTheDelayTheProviderAskedFor() {
+        var openAi =
+                new RateLimitException(
+                        "Rate limit reached for gpt-4o. Please try again in 1.5s. Visit ...");
+
+        RateLimitedException classified =
+                (RateLimitedException) ThrottleClassifier.classify(openAi);
+
+        assertThat(classified.getRetryAfter()).contains(Duration.ofMillis(1_500));
+    }
+
+    @Test
+    void retryAfter_acceptsProviderPhrasings() {
+        assertThat(ThrottleClassifier.retryAfter(new RuntimeException("try again in 20ms.")))
+                .isEqualTo(Duration.ofMillis(20));
+        assertThat(ThrottleClassifier.retryAfter(new RuntimeException("Please retry in 37.2s.")))
+                .isEqualTo(Duration.ofMillis(37_200));
+        var wrapped =
+                new RuntimeException("wrapped", new HttpException(429, "Retry after 30 seconds"));
+        assertThat(ThrottleClassifier.retryAfter(wrapped)).isEqualTo(Duration.ofSeconds(30));
+    }
+
+    @Test
+    void retryAfter_isNullWithoutHint() {
+        assertThat(ThrottleClassifier.retryAfter(new HttpException(529, "Overloaded"))).isNull();
+        assertThat(ThrottleClassifier.retryAfter(new RateLimitException((String) null))).isNull();
+    }
+
+    // — Agent response ————————————————————————————————————————————————————————
+
+    @Test
+    void agent_reportsThrottlingAsRateLimitedError() {
+        AgentResponse response =
+                failingAgent(new HttpException(503, "Service Unavailable")).execute("Hi", Map.of());
+
+        assertThat(response).isInstanceOf(AgentResponse.Error.class);
+        var error = (AgentResponse.Error) response;
+        assertThat(error.errorType()).isEqualTo(AgentResponse.Error.ErrorType.RATE_LIMITED);
+        assertThat(error.cause()).isInstanceOf(RateLimitedException.class);
+        assertThat(error.message()).isEqualTo("Agent 'writer' rate limited: Service Unavailable");
+    }
+
+    @Test
+    void agent_reportsOtherFailuresAsPlainErrors() {
+        AgentResponse response =
+                failingAgent(new HttpException(400, "prompt is too long")).execute("Hi", Map.of());
+
+        assertThat(response).isInstanceOf(AgentResponse.Error.class);
+        assertThat(((AgentResponse.Error) response).errorType())
+                .isEqualTo(AgentResponse.Error.ErrorType.UNKNOWN);
+    }
+
+    private static LangChain4jAgent failingAgent(RuntimeException failure) {
+        ChatModel model =
+                new ChatModel() {
+                    @Override
+                    public ChatResponse chat(List<ChatMessage> messages) {
+                        throw failure;
+                    }
+                };
+        AgentConfig config =
+                AgentConfig.builder().id("writer").role("writer").model("gpt-4o").build();
+        return new LangChain4jAgent("writer", config, model);
+    }
+}
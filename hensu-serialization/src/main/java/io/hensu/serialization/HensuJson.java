@@ -0,0 +1,227 @@
+package io.hensu.serialization;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.hensu.core.execution.result.ExecutionHistory;
+import io.hensu.core.state.ExecutionPhase;
+import io.hensu.core.state.HensuSnapshot;
+import io.hensu.core.workflow.Workflow;
+import java.util.Objects;
+
+/// Shared, pre-configured JSON facade for Hensu domain types.
+///
+/// Holds one process-wide `ObjectMapper` built by the same configuration as
+/// {@link WorkflowSerializer#createMapper()}, without `INDENT_OUTPUT`, plus `ObjectReader`
+/// and `ObjectWriter` instances pre-bound to `Workflow`, `HensuSnapshot`, `ExecutionHistory`
+/// and `ExecutionPhase`. Jackson caches the (de)serializers it resolves per mapper, so reusing
+/// one mapper means the Hensu module is registered and every type is introspected once per
+/// JVM instead of once per call.
+///
+/// ### Formats
+/// - {@link #compact()} — no whitespace; for JSONB columns, wire frames and hashes
+/// - {@link #pretty()} — indented; for files and output meant to be read by people
+///
+/// Both instances share the mapper and the readers; only the writers differ.
+///
+/// ### Usage
+/// {@snippet :
+/// HensuJson json = HensuJson.compact();
+/// String column = json.writeHistory(snapshot.history());
+/// ExecutionHistory history = json.readHistory(column);
+///
+/// // Other types: bind a reader once and keep it in a static field
+/// static final ObjectReader FRAME_READER = HensuJson.mapper().readerFor(Frame.class);
+/// }
+///
+/// @implNote Thread-safe. `ObjectMapper`, `ObjectReader` and `ObjectWriter` are immutable
+/// after construction and safe to share. Callers must not reconfigure {@link #mapper()}.
+///
+/// @see WorkflowSerializer for the static workflow convenience API
+/// @see HensuJacksonModule for the registered type handlers
+public final class HensuJson {
+
+    private static final ObjectMapper MAPPER = newMapper();
+
+    private static final ObjectReader WORKFLOW_READER = MAPPER.readerFor(Workflow.class);
+    private static final ObjectReader SNAPSHOT_READER = MAPPER.readerFor(HensuSnapshot.class);
+    private static final ObjectReader HISTORY_READER = MAPPER.readerFor(ExecutionHistory.class);
+    private static final ObjectReader PHASE_READER = MAPPER.readerFor(ExecutionPhase.class);
+
+    private static final HensuJson COMPACT = new HensuJson(MAPPER.writer());
+    private static final HensuJson PRETTY = new HensuJson(MAPPER.writerWithDefaultPrettyPrinter());
+
+    private final ObjectWriter writer;
+    private final ObjectWriter workflowWriter;
+    private final ObjectWriter snapshotWriter;
+    private final ObjectWriter historyWriter;
+    private final ObjectWriter phaseWriter;
+
+    private HensuJson(ObjectWriter writer) {
+        this.writer = writer;
+        this.workflowWriter = writer.forType(Workflow.class);
+        this.snapshotWriter = writer.forType(HensuSnapshot.class);
+        this.historyWriter = writer.forType(ExecutionHistory.class);
+        this.phaseWriter = writer.forType(ExecutionPhase.class);
+    }
+
+    /// Returns the facade that writes JSON without whitespace.
+    ///
+    /// @return shared compact instance, never null
+    public static HensuJson compact() {
+        return COMPACT;
+    }
+
+    /// Returns the facade that writes indented JSON.
+    ///
+    /// @return shared pretty-printing instance, never null
+    public static HensuJson pretty() {
+        return PRETTY;
+    }
+
+    /// Returns the shared mapper for binding readers and writers to other types.
+    ///
+    /// @return the process-wide mapper, never null; must not be reconfigured
+    public static ObjectMapper mapper() {
+        return MAPPER;
+    }
+
+    /// Creates a mapper with the Hensu configuration and no output formatting.
+    ///
+    /// The single source of that configuration: {@link #mapper()} is one instance of it and
+    /// {@link WorkflowSerializer#createMapper()} adds `INDENT_OUTPUT` to a fresh one.
+    ///
+    /// @return a new, independently configurable mapper, never null
+    static ObjectMapper newMapper() {
+        return new ObjectMapper()
+                .registerModule(new HensuJacksonModule())
+                .registerModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    /// Serializes a workflow definition.
+    ///
+    /// @param workflow the workflow to serialize, not null
+    /// @return JSON string, never null
+    /// @throws IllegalArgumentException if serialization fails
+    public String writeWorkflow(Workflow workflow) {
+        Objects.requireNonNull(workflow, "workflow must not be null");
+        return write(workflowWriter, workflow, "workflow");
+    }
+
+    /// Deserializes a workflow definition.
+    ///
+    /// @param json JSON produced by {@link #writeWorkflow}, not null
+    /// @return deserialized workflow, never null
+    /// @throws IllegalArgumentException if deserialization fails
+    public Workflow readWorkflow(String json) {
+        return read(WORKFLOW_READER, json, "workflow");
+    }
+
+    /// Serializes an execution snapshot.
+    ///
+    /// @param snapshot the snapshot to serialize, not null
+    /// @return JSON string, never null
+    /// @throws IllegalArgumentException if serialization fails
+    public String writeSnapshot(HensuSnapshot snapshot) {
+        Objects.requireNonNull(snapshot, "snapshot must not be null");
+        return write(snapshotWriter, snapshot, "snapshot");
+    }
+
+    /// Deserializes an execution snapshot.
+    ///
+    /// @param json JSON produced by {@link #writeSnapshot}, not null
+    /// @return deserialized snapshot, never null
+    /// @throws IllegalArgumentException if deserialization fails
+    public HensuSnapshot readSnapshot(String json) {
+        return read(SNAPSHOT_READER, json, "snapshot");
+    }
+
+    /// Serializes an execution history.
+    ///
+    /// @param history the history to serialize, not null
+    /// @return JSON string, never null
+    /// @throws IllegalArgumentException if serialization fails
+    public String writeHistory(ExecutionHistory history) {
+        Objects.requireNonNull(history, "history must not be null");
+        return write(historyWriter, history, "history");
+    }
+
+    /// Deserializes an execution history.
+    ///
+    /// @param json JSON produced by {@link #writeHistory}, not null
+    /// @return deserialized history, never null
+    /// @throws IllegalArgumentException if deserialization fails
+    public ExecutionHistory readHistory(String json) {
+        return read(HISTORY_READER, json, "history");
+    }
+
+    /// Serializes an execution phase.
+    ///
+    /// @param phase the phase to serialize, may be null (written as `null`)
+    /// @return JSON string, never null
+    /// @throws IllegalArgumentException if serialization fails
+    public String writePhase(ExecutionPhase phase) {
+        return write(phaseWriter, phase, "phase");
+    }
+
+    /// Deserializes an execution phase.
+    ///
+    /// @param json JSON produced by {@link #writePhase}, not null
+    /// @return deserialized phase, or null if the JSON is `null`
+    /// @throws IllegalArgumentException if deserialization fails
+    public ExecutionPhase readPhase(String json) {
+        return read(PHASE_READER, json, "phase");
+    }
+
+    /// Serializes any value the shared mapper can handle.
+    ///
+    /// @param value the value to serialize, may be null
+    /// @return JSON string, never null
+    /// @throws IllegalArgumentException if serialization fails
+    public String write(Object value) {
+        return write(writer, value, "value");
+    }
+
+    /// Binds a reader for a generic type. Bind once and keep the result; binding per call
+    /// repeats the root deserializer lookup this facade exists to avoid.
+    ///
+    /// @param type the target type, not null
+    /// @return a reader for `type`, never null
+    public static ObjectReader readerFor(TypeReference<?> type) {
+        return MAPPER.readerFor(Objects.requireNonNull(type, "type must not be null"));
+    }
+
+    /// Binds a reader for a class. See {@link #readerFor(TypeReference)}.
+    ///
+    /// @param type the target class, not null
+    /// @return a reader for `type`, never null
+    public static ObjectReader readerFor(Class<?> type) {
+        return MAPPER.readerFor(Objects.requireNonNull(type, "type must not be null"));
+    }
+
+    private static String write(ObjectWriter writer, Object value, String what) {
+        try {
+            return writer.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(
+                    "Failed to serialize " + what + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static <T> T read(ObjectReader reader, String json, String what) {
+        Objects.requireNonNull(json, "json must not be null");
+        try {
+            return reader.readValue(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(
+                    "Failed to deserialize " + what + ": " + e.getMessage(), e);
+        }
+    }
+}
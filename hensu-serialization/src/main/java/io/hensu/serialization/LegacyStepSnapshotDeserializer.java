@@ -0,0 +1,68 @@
+package io.hensu.serialization;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import io.hensu.core.state.HensuSnapshot;
+import java.io.IOException;
+import java.io.Serial;
+import java.util.HashMap;
+import java.util.Map;
+
+/// Reads the `snapshot` field of execution steps persisted before the context-delta encoding.
+///
+/// Legacy steps embedded a full {@link HensuSnapshot}, whose `history` recursively held every
+/// earlier step and its snapshot. Only `workflowId`, `executionId`, and `context` are read; all
+/// other fields – the nested history in particular – are skipped token-by-token without being
+/// materialized. The resulting snapshot is handed to
+/// `ExecutionStep.Builder.snapshot(HensuSnapshot)`, which turns it into a keyframe.
+///
+/// @implNote Public with a public no-arg constructor because Jackson instantiates it from the
+/// `@JsonDeserialize(using = ...)` annotation on
+/// {@link io.hensu.serialization.mixin.ExecutionStepBuilderMixin}. Native-image deployments
+/// require it to be registered in `CoreModelNativeConfig` in `hensu-server`.
+/// @see io.hensu.serialization.mixin.ExecutionStepBuilderMixin
+public final class LegacyStepSnapshotDeserializer extends StdDeserializer<HensuSnapshot> {
+
+    @Serial private static final long serialVersionUID = 3418512257905717365L;
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    public LegacyStepSnapshotDeserializer() {
+        super(HensuSnapshot.class);
+    }
+
+    @Override
+    public HensuSnapshot deserialize(JsonParser p, DeserializationContext ctxt)
+            throws IOException {
+        if (p.currentToken() != JsonToken.START_OBJECT) {
+            p.skipChildren();
+            return null;
+        }
+
+        String workflowId = "";
+        String executionId = "";
+        Map<String, Object> context = new HashMap<>();
+
+        for (String field = p.nextFieldName(); field != null; field = p.nextFieldName()) {
+            JsonToken value = p.nextToken();
+            switch (field) {
+                case "workflowId" -> workflowId = value.isScalarValue() ? p.getText() : "";
+                case "executionId" -> executionId = value.isScalarValue() ? p.getText() : "";
+                case "context" -> {
+                    if (value == JsonToken.START_OBJECT) {
+                        context = ctxt.readValue(p, ctxt.getTypeFactory().constructType(MAP_TYPE));
+                    } else {
+                        p.skipChildren();
+                    }
+                }
+                default -> p.skipChildren();
+            }
+        }
+
+        return new HensuSnapshot(
+                workflowId, executionId, null, context, null, null, null, null, null);
+    }
+}
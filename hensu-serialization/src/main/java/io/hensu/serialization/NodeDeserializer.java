@@ -168,6 +168,9 @@ class NodeDeserializer extends StdDeserializer<Node> {
         if (root.has("transitionRules")) {
             b.transitionRules(readValue(mapper, root, "transitionRules", TRANSITION_LIST));
         }
+        if (root.has("maxConcurrency")) {
+            b.maxConcurrency(root.get("maxConcurrency").asInt());
+        }
         return b.build();
     }
 
@@ -185,6 +188,9 @@ class NodeDeserializer extends StdDeserializer<Node> {
         if (root.has("waitForAll")) {
             b.waitForAll(root.get("waitForAll").asBoolean());
         }
+        if (root.has("maxConcurrency")) {
+            b.maxConcurrency(root.get("maxConcurrency").asInt());
+        }
         return b.build();
     }
 
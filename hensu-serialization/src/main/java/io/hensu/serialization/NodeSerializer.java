@@ -19,8 +19,8 @@ import java.io.Serial;
 /// END            │ status
 /// ACTION         │ actions, transitionRules
 /// GENERIC        │ executorType, config, transitionRules, rubric
-/// PARALLEL       │ branches, consensusConfig, transitionRules
-/// FORK           │ targets, targetConfigs, transitionRules, waitForAll
+/// PARALLEL       │ branches, consensusConfig, transitionRules, maxConcurrency
+/// FORK           │ targets, targetConfigs, transitionRules, waitForAll, maxConcurrency
 /// JOIN           │ awaitTargets, mergeStrategy, writes, exports,
 ///                │ timeoutMs, failOnAnyError, transitionRules
 /// SUB_WORKFLOW   │ workflowId, inputMapping, outputMapping, transitionRules
@@ -108,6 +108,9 @@ class NodeSerializer extends StdSerializer<Node> {
         if (!n.getTransitionRules().isEmpty()) {
             provider.defaultSerializeField("transitionRules", n.getTransitionRules(), gen);
         }
+        if (n.getMaxConcurrency() > 0) {
+            gen.writeNumberField("maxConcurrency", n.getMaxConcurrency());
+        }
     }
 
     private void writeForkNode(ForkNode n, JsonGenerator gen, SerializerProvider provider)
@@ -122,6 +125,9 @@ class NodeSerializer extends StdSerializer<Node> {
         if (n.isWaitForAll()) {
             gen.writeBooleanField("waitForAll", true);
         }
+        if (n.getMaxConcurrency() > 0) {
+            gen.writeNumberField("maxConcurrency", n.getMaxConcurrency());
+        }
     }
 
     private void writeJoinNode(JoinNode n, JsonGenerator gen, SerializerProvider provider)
@@ -1,10 +1,7 @@
 package io.hensu.serialization;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import io.hensu.core.workflow.Workflow;
 
 /// Utility class for serializing and deserializing Hensu workflows to/from JSON.
@@ -25,9 +22,12 @@ import io.hensu.core.workflow.Workflow;
 /// ObjectMapper mapper = WorkflowSerializer.createMapper();
 /// }
 ///
-/// @implNote Thread-safe. The internal ObjectMapper is created per call via
-/// `createMapper()`. For high-throughput scenarios, cache the mapper.
+/// @implNote Thread-safe. `toJson`/`fromJson` delegate to the shared {@link HensuJson}
+/// instances, so repeated calls reuse Jackson's serializer caches. `createMapper()` still
+/// builds a fresh, independently configurable mapper on every call — prefer
+/// {@link HensuJson#mapper()} unless the mapper needs custom configuration.
 ///
+/// @see HensuJson for compact output and snapshot/history/phase readers and writers
 /// @see HensuJacksonModule for the registered type handlers
 public final class WorkflowSerializer {
 
@@ -35,16 +35,13 @@ public final class WorkflowSerializer {
 
     /// Serializes a workflow to pretty-printed JSON.
     ///
+    /// Use `HensuJson.compact().writeWorkflow(workflow)` for storage and wire formats.
+    ///
     /// @param workflow the workflow to serialize, not null
     /// @return JSON string representation, never null
     /// @throws IllegalArgumentException if serialization fails
     public static String toJson(Workflow workflow) {
-        try {
-            return createMapper().writeValueAsString(workflow);
-        } catch (JsonProcessingException e) {
-            throw new IllegalArgumentException(
-                    "Failed to serialize workflow: " + e.getMessage(), e);
-        }
+        return HensuJson.pretty().writeWorkflow(workflow);
     }
 
     /// Deserializes a workflow from JSON.
@@ -53,12 +50,7 @@ public final class WorkflowSerializer {
     /// @return deserialized workflow, never null
     /// @throws IllegalArgumentException if deserialization fails
     public static Workflow fromJson(String json) {
-        try {
-            return createMapper().readValue(json, Workflow.class);
-        } catch (JsonProcessingException e) {
-            throw new IllegalArgumentException(
-                    "Failed to deserialize workflow: " + e.getMessage(), e);
-        }
+        return HensuJson.compact().readWorkflow(json);
     }
 
     /// Creates an ObjectMapper configured for Hensu workflow serialization.
@@ -71,11 +63,6 @@ public final class WorkflowSerializer {
     ///
     /// @return configured ObjectMapper, never null
     public static ObjectMapper createMapper() {
-        return new ObjectMapper()
-                .registerModule(new HensuJacksonModule())
-                .registerModule(new JavaTimeModule())
-                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
-                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
-                .enable(SerializationFeature.INDENT_OUTPUT);
+        return HensuJson.newMapper().enable(SerializationFeature.INDENT_OUTPUT);
     }
 }
@@ -1,6 +1,10 @@
 package io.hensu.serialization.mixin;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+import io.hensu.core.execution.result.ExecutionStep;
+import io.hensu.core.state.HensuSnapshot;
+import io.hensu.serialization.LegacyStepSnapshotDeserializer;
 
 /// Jackson mixin for `ExecutionStep.Builder` that configures POJO builder deserialization.
 ///
@@ -8,6 +12,13 @@ import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
 /// Sets `withPrefix = ""` so Jackson maps JSON field names directly to builder setter names
 /// without a `set` or `with` prefix convention.
 ///
+/// ### Legacy rows
+/// Steps persisted before the context-delta encoding carry a `snapshot` field holding a full
+/// `HensuSnapshot` with its own recursive history. The `snapshot` setter is bound to
+/// {@link LegacyStepSnapshotDeserializer}, which reads only the snapshot's context and skips
+/// the nested history; the builder then records the step as a keyframe. The next checkpoint
+/// rewrites the row in the compact form.
+///
 /// @apiNote The companion mixin {@link ExecutionStepMixin} must also be registered so Jackson
 /// knows to use the builder at all.
 ///
@@ -17,4 +28,8 @@ import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
 /// @see ExecutionStepMixin
 /// @see io.hensu.serialization.HensuJacksonModule
 @JsonPOJOBuilder(withPrefix = "")
-public abstract class ExecutionStepBuilderMixin {}
+public abstract class ExecutionStepBuilderMixin {
+
+    @JsonDeserialize(using = LegacyStepSnapshotDeserializer.class)
+    abstract ExecutionStep.Builder snapshot(HensuSnapshot snapshot);
+}
@@ -1,5 +1,6 @@
 package io.hensu.serialization.mixin;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.hensu.core.execution.result.ExecutionStep;
 
@@ -9,6 +10,9 @@ import io.hensu.core.execution.result.ExecutionStep;
 /// Instructs Jackson to use `ExecutionStep.Builder` when deserializing, enabling
 /// immutable construction of recorded workflow steps from persisted snapshots.
 ///
+/// Empty `contextDelta` and `removedKeys` collections are omitted on write; most steps change
+/// only a handful of keys and remove none.
+///
 /// @apiNote The companion mixin {@link ExecutionStepBuilderMixin} must also be registered
 /// so Jackson knows how to invoke the builder's setters and `build()` method.
 ///
@@ -19,4 +23,5 @@ import io.hensu.core.execution.result.ExecutionStep;
 /// @see ExecutionStepBuilderMixin
 /// @see io.hensu.serialization.HensuJacksonModule
 @JsonDeserialize(builder = ExecutionStep.Builder.class)
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
 public abstract class ExecutionStepMixin {}
@@ -1,6 +1,8 @@
 package io.hensu.serialization.mixin;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.hensu.core.workflow.ExecutionPlan;
 import io.hensu.core.workflow.Workflow;
 
 /// Jackson mixin that binds `Workflow` deserialization to its builder.
@@ -12,6 +14,8 @@ import io.hensu.core.workflow.Workflow;
 /// @apiNote The companion mixin {@link WorkflowBuilderMixin} must also be registered
 /// so Jackson knows how to invoke the builder's setters and `build()` method.
 ///
+/// The execution plan is derived from the nodes on first use and is never serialized.
+///
 /// @implNote `Workflow.Builder` has a private constructor. Native-image deployments
 /// require `Workflow.class` and `Workflow.Builder.class` to be registered in
 /// `CoreModelNativeConfig` in `hensu-server`.
@@ -19,4 +23,8 @@ import io.hensu.core.workflow.Workflow;
 /// @see WorkflowBuilderMixin
 /// @see io.hensu.serialization.HensuJacksonModule
 @JsonDeserialize(builder = Workflow.Builder.class)
-public abstract class WorkflowMixin {}
+public abstract class WorkflowMixin {
+
+    @JsonIgnore
+    public abstract ExecutionPlan getExecutionPlan();
+}
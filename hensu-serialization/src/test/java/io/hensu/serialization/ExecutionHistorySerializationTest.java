@@ -11,6 +11,7 @@ import io.hensu.core.execution.result.ExecutionHistory;
 import io.hensu.core.execution.result.ExecutionStep;
 import io.hensu.core.execution.result.ResultStatus;
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -199,4 +200,57 @@ class ExecutionHistorySerializationTest {
 
         assertThat(restored.getSteps()).hasSize(2);
     }
+
+    // --- Context deltas ---
+
+    @Test
+    void roundTrip_executionHistory_contextDeltas() throws JsonProcessingException {
+        ExecutionHistory original = new ExecutionHistory();
+        Map<String, Object> context = new HashMap<>(Map.of("topic", "AI"));
+        original.recordStep("draft", context, NodeResult.success("d", Map.of()), null);
+        context.put("article", "Draft text");
+        context.remove("topic");
+        original.recordStep("review", context, NodeResult.success("r", Map.of()), null);
+
+        String json = mapper.writeValueAsString(original);
+        ExecutionHistory restored = mapper.readValue(json, ExecutionHistory.class);
+
+        assertThat(json).doesNotContain("\"snapshot\"");
+        assertThat(restored.getSteps().get(0).isKeyframe()).isTrue();
+        assertThat(restored.getSteps().get(1).isKeyframe()).isFalse();
+        assertThat(restored.getSteps().get(1).getRemovedKeys()).containsExactly("topic");
+        assertThat(restored.contextAt(1)).isEqualTo(Map.of("article", "Draft text"));
+    }
+
+    @Test
+    void read_legacyStepWithEmbeddedSnapshot_becomesKeyframe() throws JsonProcessingException {
+        String legacy =
+                """
+                {"steps": [{
+                  "nodeId": "review",
+                  "result": {"status": "SUCCESS", "output": "ok", "metadata": {}},
+                  "snapshot": {
+                    "workflowId": "wf-1",
+                    "executionId": "exec-1",
+                    "currentNodeId": "review",
+                    "context": {"topic": "AI", "draft": null},
+                    "history": {"steps": [{
+                      "nodeId": "draft",
+                      "result": {"status": "SUCCESS", "output": "d", "metadata": {}},
+                      "snapshot": {"workflowId": "wf-1", "executionId": "exec-1",
+                                   "context": {}, "history": {"steps": []}}
+                    }], "backtracks": []},
+                    "phase": {"type": "initial"}
+                  }
+                }], "backtracks": []}
+                """;
+
+        ExecutionHistory restored = mapper.readValue(legacy, ExecutionHistory.class);
+
+        assertThat(restored.getSteps()).hasSize(1);
+        ExecutionStep step = restored.getSteps().getFirst();
+        assertThat(step.isKeyframe()).isTrue();
+        assertThat(step.getContextDelta()).containsEntry("topic", "AI").containsKey("draft");
+        assertThat(mapper.writeValueAsString(restored)).doesNotContain("\"snapshot\"");
+    }
 }
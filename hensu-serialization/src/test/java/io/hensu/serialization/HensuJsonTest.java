@@ -0,0 +1,128 @@
+package io.hensu.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.hensu.core.agent.AgentConfig;
+import io.hensu.core.execution.executor.NodeResult;
+import io.hensu.core.execution.result.ExecutionHistory;
+import io.hensu.core.execution.result.ExitStatus;
+import io.hensu.core.state.ExecutionPhase;
+import io.hensu.core.state.HensuSnapshot;
+import io.hensu.core.workflow.Workflow;
+import io.hensu.core.workflow.node.EndNode;
+import io.hensu.core.workflow.node.StandardNode;
+import io.hensu.core.workflow.transition.SuccessTransition;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+/// Tests for the shared {@link HensuJson} facade: compact vs. pretty output and typed
+/// round-trips through the pre-bound readers and writers.
+class HensuJsonTest {
+
+    @Test
+    void compact_writesNoWhitespace() {
+        String json = HensuJson.compact().writeWorkflow(workflow());
+
+        assertThat(json).doesNotContain("\n").doesNotContain(" : ");
+    }
+
+    @Test
+    void pretty_matchesWorkflowSerializerOutput() {
+        Workflow workflow = workflow();
+
+        assertThat(HensuJson.pretty().writeWorkflow(workflow))
+                .isEqualTo(WorkflowSerializer.toJson(workflow))
+                .contains("\n");
+    }
+
+    @Test
+    void compactAndPretty_parseToSameWorkflow() {
+        Workflow workflow = workflow();
+
+        Workflow fromCompact =
+                HensuJson.compact().readWorkflow(HensuJson.compact().writeWorkflow(workflow));
+        Workflow fromPretty =
+                HensuJson.compact().readWorkflow(HensuJson.pretty().writeWorkflow(workflow));
+
+        assertThat(fromCompact.getNodes()).containsOnlyKeys("start", "done");
+        assertThat(HensuJson.compact().writeWorkflow(fromPretty))
+                .isEqualTo(HensuJson.compact().writeWorkflow(fromCompact));
+    }
+
+    @Test
+    void roundTrip_snapshot() {
+        ExecutionHistory history = new ExecutionHistory();
+        history.recordStep(
+                "start",
+                Map.of("topic", "AI"),
+                NodeResult.success("draft", Map.of()),
+                Instant.parse("2025-06-01T14:29:55Z"));
+        HensuSnapshot original =
+                new HensuSnapshot(
+                        "wf-1",
+                        "exec-1",
+                        "done",
+                        Map.of("topic", "AI"),
+                        Map.of("start", 1),
+                        history,
+                        ExecutionPhase.INITIAL,
+                        Instant.parse("2025-06-01T14:30:00Z"),
+                        "checkpoint");
+
+        HensuJson json = HensuJson.compact();
+        HensuSnapshot restored = json.readSnapshot(json.writeSnapshot(original));
+
+        assertThat(restored.executionId()).isEqualTo("exec-1");
+        assertThat(restored.context()).containsEntry("topic", "AI");
+        assertThat(restored.retryCounters()).containsEntry("start", 1);
+        assertThat(restored.history().getSteps()).hasSize(1);
+        assertThat(restored.history().contextAt(0)).containsEntry("topic", "AI");
+        assertThat(restored.phase()).isInstanceOf(ExecutionPhase.Initial.class);
+        assertThat(restored.createdAt()).isEqualTo(original.createdAt());
+    }
+
+    @Test
+    void roundTrip_phase() {
+        HensuJson json = HensuJson.compact();
+
+        assertThat(json.readPhase(json.writePhase(ExecutionPhase.TERMINAL)))
+                .isInstanceOf(ExecutionPhase.Terminal.class);
+    }
+
+    @Test
+    void readWorkflow_invalidJson_throwsIllegalArgument() {
+        assertThatThrownBy(() -> HensuJson.compact().readWorkflow("{not json"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Failed to deserialize workflow");
+    }
+
+    private static Workflow workflow() {
+        return Workflow.builder()
+                .id("wf-1")
+                .version("1.0.0")
+                .agents(
+                        Map.of(
+                                "writer",
+                                AgentConfig.builder()
+                                        .id("writer")
+                                        .role("writer")
+                                        .model("stub")
+                                        .build()))
+                .nodes(
+                        Map.of(
+                                "start",
+                                StandardNode.builder()
+                                        .id("start")
+                                        .agentId("writer")
+                                        .prompt("Write about {topic}")
+                                        .transitionRules(List.of(new SuccessTransition("done")))
+                                        .build(),
+                                "done",
+                                EndNode.builder().id("done").status(ExitStatus.SUCCESS).build()))
+                .startNode("start")
+                .build();
+    }
+}
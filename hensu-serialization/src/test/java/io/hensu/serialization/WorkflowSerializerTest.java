@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.hensu.core.agent.AgentConfig;
+import io.hensu.core.agent.memory.MemoryPolicy;
 import io.hensu.core.execution.action.Action;
 import io.hensu.core.execution.parallel.Branch;
 import io.hensu.core.execution.parallel.ConsensusConfig;
@@ -31,6 +32,7 @@ import io.hensu.core.workflow.transition.RubricFailTransition;
 import io.hensu.core.workflow.transition.ScoreTransition;
 import io.hensu.core.workflow.transition.SuccessTransition;
 import io.hensu.core.workflow.transition.TransitionRule;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
@@ -213,6 +215,7 @@ class WorkflowSerializerTest {
                                         List.of("api_schema", "confidence")))
                         .consensus(
                                 new ConsensusConfig("judge", ConsensusStrategy.JUDGE_DECIDES, 0.8))
+                        .maxConcurrency(4)
                         .transitionRules(List.of(new SuccessTransition("done")))
                         .build();
         EndNode end = EndNode.builder().id("done").status(ExitStatus.SUCCESS).build();
@@ -237,6 +240,7 @@ class WorkflowSerializerTest {
         assertThat(cc.strategy()).isEqualTo(ConsensusStrategy.JUDGE_DECIDES);
         assertThat(cc.judgeAgentId()).isEqualTo("judge");
         assertThat(cc.threshold()).isEqualTo(0.8);
+        assertThat(restoredParallel.getMaxConcurrency()).isEqualTo(4);
     }
 
     @Test
@@ -245,6 +249,7 @@ class WorkflowSerializerTest {
                 ForkNode.builder("fork")
                         .targets(List.of("process-a", "process-b"))
                         .waitForAll(true)
+                        .maxConcurrency(1)
                         .transitionRules(List.of(new SuccessTransition("join")))
                         .build();
         JoinNode join =
@@ -271,6 +276,7 @@ class WorkflowSerializerTest {
         ForkNode restoredFork = (ForkNode) restored.getNodes().get("fork");
         assertThat(restoredFork.getTargets()).containsExactly("process-a", "process-b");
         assertThat(restoredFork.isWaitForAll()).isTrue();
+        assertThat(restoredFork.getMaxConcurrency()).isEqualTo(1);
 
         JoinNode restoredJoin = (JoinNode) restored.getNodes().get("join");
         assertThat(restoredJoin.getMergeStrategy()).isEqualTo(MergeStrategy.COLLECT_ALL);
@@ -451,6 +457,55 @@ class WorkflowSerializerTest {
         assertThat(restoredAgent.getInstructions()).isEqualTo("Be concise");
     }
 
+    @Test
+    void roundTrip_agentConfig_memoryAndCaching() {
+        AgentConfig agent =
+                AgentConfig.builder()
+                        .id("agent1")
+                        .role("writer")
+                        .model("claude-sonnet-4")
+                        .maintainContext(true)
+                        .memoryPolicy(
+                                new MemoryPolicy(
+                                        MemoryPolicy.Strategy.SUMMARIZE,
+                                        4_000,
+                                        MemoryPolicy.Scope.EXECUTION,
+                                        "summarizer"))
+                        .responseCacheTtl(Duration.ofMinutes(30))
+                        .promptCaching(false)
+                        .build();
+
+        StandardNode start =
+                StandardNode.builder()
+                        .id("start")
+                        .agentId("agent1")
+                        .transitionRules(List.of(new SuccessTransition("done")))
+                        .build();
+        EndNode end = EndNode.builder().id("done").status(ExitStatus.SUCCESS).build();
+
+        Workflow workflow =
+                Workflow.builder()
+                        .id("test")
+                        .startNode("start")
+                        .agents(Map.of("agent1", agent))
+                        .nodes(Map.of("start", start, "done", end))
+                        .build();
+
+        Workflow restored = WorkflowSerializer.fromJson(WorkflowSerializer.toJson(workflow));
+
+        AgentConfig restoredAgent = restored.getAgents().get("agent1");
+        assertThat(restoredAgent.getMemoryPolicy())
+                .isEqualTo(
+                        new MemoryPolicy(
+                                MemoryPolicy.Strategy.SUMMARIZE,
+                                4_000,
+                                MemoryPolicy.Scope.EXECUTION,
+                                "summarizer"));
+        assertThat(restoredAgent.getResponseCacheTtl()).isEqualTo(Duration.ofMinutes(30));
+        assertThat(restoredAgent.getPromptCaching()).isFalse();
+        assertThat(restoredAgent).isEqualTo(agent);
+    }
+
     @Test
     void roundTrip_workflowStateSchema() {
         // stateSchema uses WorkflowStateSchemaMixin with @JsonCreator — GraalVM misconfiguration
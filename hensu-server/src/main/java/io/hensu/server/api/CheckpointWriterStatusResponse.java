@@ -0,0 +1,61 @@
+package io.hensu.server.api;
+
+import io.hensu.server.persistence.WriteBehindStateRepository;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/// Group-commit checkpoint writer statistics for this server node.
+///
+/// @param enabled whether checkpoints are written behind rather than through
+/// @param saved checkpoints accepted for write-behind
+/// @param coalesced checkpoints replaced by a newer one before they were written
+/// @param barriers snapshots written through synchronously (queued, terminal, awaiting review)
+/// @param flushes batches committed
+/// @param written checkpoints committed by those batches
+/// @param failures batches that failed and were re-queued
+/// @param avgBatchSize mean checkpoints per committed batch
+/// @param maxBatchSize largest committed batch
+/// @param avgFlushMillis mean time to write and commit a batch
+/// @param maxFlushMillis longest time to write and commit a batch
+/// @param pending checkpoints waiting for the next flush
+/// @param flushIntervalMillis configured flush interval
+/// @param batchLimit configured batch size limit
+@RegisterForReflection
+record CheckpointWriterStatusResponse(
+        boolean enabled,
+        long saved,
+        long coalesced,
+        long barriers,
+        long flushes,
+        long written,
+        long failures,
+        double avgBatchSize,
+        int maxBatchSize,
+        double avgFlushMillis,
+        double maxFlushMillis,
+        int pending,
+        long flushIntervalMillis,
+        int batchLimit) {
+
+    static CheckpointWriterStatusResponse from(WriteBehindStateRepository.Stats stats) {
+        return new CheckpointWriterStatusResponse(
+                true,
+                stats.saved(),
+                stats.coalesced(),
+                stats.barriers(),
+                stats.flushes(),
+                stats.written(),
+                stats.failures(),
+                stats.avgBatchSize(),
+                stats.maxBatchSize(),
+                stats.avgFlushMillis(),
+                stats.maxFlushMillis(),
+                stats.pending(),
+                stats.flushInterval().toMillis(),
+                stats.batchLimit());
+    }
+
+    static CheckpointWriterStatusResponse disabled() {
+        return new CheckpointWriterStatusResponse(
+                false, 0, 0, 0, 0, 0, 0, 0.0, 0, 0.0, 0.0, 0, 0, 0);
+    }
+}
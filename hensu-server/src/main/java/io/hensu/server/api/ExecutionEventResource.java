@@ -2,16 +2,25 @@ package io.hensu.server.api;
 
 import io.hensu.core.util.LogSanitizer;
 import io.hensu.server.security.RequestTenantResolver;
+import io.hensu.server.streaming.EventFilter;
 import io.hensu.server.streaming.ExecutionEvent;
 import io.hensu.server.streaming.ExecutionEventBroadcaster;
+import io.hensu.server.streaming.SequencedEvent;
+import io.hensu.server.streaming.TenantEvent;
 import io.hensu.server.validation.ValidId;
 import io.smallrye.mutiny.Multi;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.Sse;
+import java.util.List;
 import org.jboss.logging.Logger;
 import org.jboss.resteasy.reactive.RestStreamElementType;
 
@@ -21,13 +30,22 @@ import org.jboss.resteasy.reactive.RestStreamElementType;
 /// Events are streamed as JSON objects with the following format:
 ///
 /// ```
+/// id: 3
 /// event: step.started
 /// data: {"executionId":"exec-123","planId":"plan-456","stepIndex":0,...}
 ///
+/// id: 4
 /// event: step.completed
 /// data: {"executionId":"exec-123","planId":"plan-456","stepIndex":0,"success":true,...}
 /// ```
 ///
+/// ### Reconnecting
+/// The `id:` field is the event's sequence number within the execution. Browsers'
+/// `EventSource` sends the last one back as `Last-Event-ID` when it reconnects, and the
+/// stream resumes with the next event from the execution's replay buffer. A client that
+/// subscribes after the execution started — or after it completed, within the retention
+/// window — receives the buffered events from the beginning.
+///
 /// ### Usage
 /// ```javascript
 /// const eventSource = new EventSource('/api/v1/executions/exec-123/events');
@@ -83,30 +101,39 @@ public class ExecutionEventResource {
     ///
     /// ### Response (SSE stream)
     /// ```
+    /// id: 1
     /// event: execution.started
     /// data: {"executionId":"exec-123","workflowId":"wf-1","tenantId":"tenant-123",...}
     ///
+    /// id: 2
     /// event: step.started
     /// data: {"executionId":"exec-123","planId":"plan-456","stepIndex":0,...}
     /// ```
     ///
     /// @param executionId the execution to subscribe to
+    /// @param lastEventId the `Last-Event-ID` header of a reconnecting client, may be null;
+    ///     unparseable values are treated as absent
+    /// @param sse the SSE event factory, injected
     /// @return SSE event stream
     @GET
     @Path("/{executionId}/events")
     @Produces(MediaType.SERVER_SENT_EVENTS)
     @RestStreamElementType(MediaType.APPLICATION_JSON)
-    public Multi<ExecutionEvent> streamEvents(
-            @PathParam("executionId") @ValidId String executionId) {
+    public Multi<OutboundSseEvent> streamEvents(
+            @PathParam("executionId") @ValidId String executionId,
+            @HeaderParam("Last-Event-ID") String lastEventId,
+            @Context Sse sse) {
 
         String tenantId = tenantResolver.tenantId();
+        long afterSequence = parseLastEventId(lastEventId);
 
         LOG.infov(
-                "SSE subscription: executionId={0}, tenant={1}",
-                LogSanitizer.sanitize(executionId), tenantId);
+                "SSE subscription: executionId={0}, tenant={1}, lastEventId={2}",
+                LogSanitizer.sanitize(executionId), tenantId, afterSequence);
 
         return broadcaster
-                .subscribe(executionId)
+                .subscribe(executionId, afterSequence)
+                .map(event -> toSseEvent(sse, event))
                 .onSubscription()
                 .invoke(
                         () ->
@@ -133,27 +160,52 @@ public class ExecutionEventResource {
                         });
     }
 
-    /// Subscribes to all events for a tenant (debug/admin endpoint).
+    /// Subscribes to the tenant-wide event firehose.
     ///
-    /// Streams all execution events for the tenant. Useful for monitoring dashboards.
+    /// Streams the events of every execution of the caller's tenant over one connection,
+    /// for monitoring dashboards. Each SSE frame carries a JSON array of up to
+    /// `hensu.events.firehose.max-batch-size` events, flushed at least every
+    /// `hensu.events.firehose.batch-interval`. The firehose is live only: events published
+    /// before the subscription, or while disconnected, are not replayed.
     ///
-    /// @return SSE event stream for all tenant executions
+    /// ### Request
+    /// Every filter parameter is optional and repeatable; values of one parameter are
+    /// alternatives, different parameters must all match.
+    /// ```
+    /// GET /api/v1/executions/events?type=execution.completed&type=execution.error
+    ///     &workflowId=order-processing
+    /// Authorization: Bearer <jwt>
+    /// Accept: text/event-stream
+    /// ```
+    ///
+    /// ### Response (SSE stream)
+    /// ```
+    /// data: [{"executionId":"exec-1","workflowId":"order-processing","sequence":7,
+    ///         "event":{"type":"execution.completed","success":true,...}}, ...]
+    /// ```
+    ///
+    /// @param types accepted event types, may be empty for all
+    /// @param workflowIds accepted workflow ids, may be empty for all
+    /// @param nodeIds accepted node ids, may be empty for all
+    /// @return SSE stream of event batches for all tenant executions
     @GET
     @Path("/events")
     @Produces(MediaType.SERVER_SENT_EVENTS)
     @RestStreamElementType(MediaType.APPLICATION_JSON)
-    public Multi<ExecutionEvent> streamAllEvents() {
+    public Multi<List<TenantEvent>> streamAllEvents(
+            @QueryParam("type") List<@ValidId String> types,
+            @QueryParam("workflowId") List<@ValidId String> workflowIds,
+            @QueryParam("nodeId") List<@ValidId String> nodeIds) {
 
         String tenantId = tenantResolver.tenantId();
+        EventFilter filter = EventFilter.of(types, workflowIds, nodeIds);
 
-        LOG.infov("SSE subscription for all executions: tenant={0}", tenantId);
-
-        // For tenant-wide streaming, we create a special "all" subscription
-        // that aggregates events from all executions for this tenant
-        String subscriptionId = "tenant:" + tenantId;
+        LOG.infov(
+                "SSE subscription for all executions: tenant={0}, filter={1}",
+                tenantId, LogSanitizer.sanitize(filter.toString()));
 
         return broadcaster
-                .subscribe(subscriptionId)
+                .subscribeTenant(tenantId, filter)
                 .onSubscription()
                 .invoke(
                         () ->
@@ -161,4 +213,23 @@ public class ExecutionEventResource {
                                         "Client subscribed to all events for tenant: {0}",
                                         tenantId));
     }
+
+    private static OutboundSseEvent toSseEvent(Sse sse, SequencedEvent sequenced) {
+        return sse.newEventBuilder()
+                .id(Long.toString(sequenced.sequence()))
+                .name(sequenced.event().type())
+                .mediaType(MediaType.APPLICATION_JSON_TYPE)
+                .data(sequenced.event())
+                .build();
+    }
+
+    private static long parseLastEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) return 0;
+        try {
+            return Math.max(0, Long.parseLong(lastEventId.strip()));
+        } catch (NumberFormatException _) {
+            LOG.debugv("Ignoring malformed Last-Event-ID: {0}", LogSanitizer.sanitize(lastEventId));
+            return 0;
+        }
+    }
 }
@@ -1,29 +1,36 @@
 package io.hensu.server.api;
 
+import io.hensu.core.agent.ratelimit.RateGovernor;
 import io.hensu.core.resume.ResumeInput;
 import io.hensu.core.util.LogSanitizer;
 import io.hensu.server.security.RequestTenantResolver;
 import io.hensu.server.validation.ValidId;
 import io.hensu.server.workflow.ExecutionNotFoundException;
 import io.hensu.server.workflow.ExecutionOutput;
+import io.hensu.server.workflow.ExecutionRejectedException;
 import io.hensu.server.workflow.ExecutionStartResult;
 import io.hensu.server.workflow.ExecutionStatus;
-import io.hensu.server.workflow.ExecutionSummary;
+import io.hensu.server.workflow.ExecutionSummaryPage;
 import io.hensu.server.workflow.WorkflowNotFoundException;
 import io.hensu.server.workflow.WorkflowService;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
-import java.util.List;
 import java.util.Map;
 import org.jboss.logging.Logger;
 
@@ -33,6 +40,8 @@ import org.jboss.logging.Logger;
 /// - Starting workflow executions
 /// - Resuming paused executions
 /// - Querying execution status and final output
+/// - Reporting execution scheduler load for this node
+/// - Reporting provider rate limiting for this node
 ///
 /// Response bodies are typed records serialized by Jackson. Nullable fields
 /// ({@code currentNodeId}, {@code correlationId}) are omitted from JSON
@@ -50,14 +59,21 @@ public class ExecutionResource {
 
     private static final Logger LOG = Logger.getLogger(ExecutionResource.class);
 
+    static final int MAX_PAGE_SIZE = 1000;
+    private static final String PAUSED_PATH = "/api/v1/executions/paused";
+
     private final WorkflowService workflowService;
     private final RequestTenantResolver tenantResolver;
+    private final RateGovernor rateGovernor;
 
     @Inject
     public ExecutionResource(
-            WorkflowService workflowService, RequestTenantResolver tenantResolver) {
+            WorkflowService workflowService,
+            RequestTenantResolver tenantResolver,
+            RateGovernor rateGovernor) {
         this.workflowService = workflowService;
         this.tenantResolver = tenantResolver;
+        this.rateGovernor = rateGovernor;
     }
 
     /// Starts a new workflow execution.
@@ -75,6 +91,16 @@ public class ExecutionResource {
     /// ```json
     /// {"executionId": "exec-abc", "workflowId": "order-processing"}
     /// ```
+    ///
+    /// The execution may wait in its tenant's queue before it starts; its status reads
+    /// `QUEUED` until then.
+    ///
+    /// ### Response (429 Too Many Requests)
+    /// Returned with a `Retry-After` header (seconds) when the tenant's or the node's
+    /// execution queue is full.
+    /// ```json
+    /// {"error": "Execution queue full for tenant", "status": 429}
+    /// ```
     @POST
     public Response startExecution(@Valid @NotNull ExecutionStartRequest request) {
 
@@ -95,6 +121,18 @@ public class ExecutionResource {
         } catch (WorkflowNotFoundException e) {
             LOG.warnv("Workflow not found: {0}", request.workflowId());
             throw new NotFoundException(e.getMessage());
+        } catch (ExecutionRejectedException e) {
+            LOG.warnv("Execution rejected: tenant={0}, reason={1}", tenantId, e.getMessage());
+            return Response.status(Response.Status.TOO_MANY_REQUESTS)
+                    .header("Retry-After", Math.max(1, e.getRetryAfter().toSeconds()))
+                    .type(MediaType.APPLICATION_JSON)
+                    .entity(
+                            Map.of(
+                                    "error",
+                                    e.getMessage(),
+                                    "status",
+                                    Response.Status.TOO_MANY_REQUESTS.getStatusCode()))
+                    .build();
         }
     }
 
@@ -184,11 +222,15 @@ public class ExecutionResource {
         }
     }
 
-    /// Lists paused executions for the tenant.
+    /// Lists paused executions for the tenant, oldest first, one page at a time.
+    ///
+    /// Pages are keyset-paginated: when more rows may follow, the response carries a
+    /// `Link` header with `rel="next"` whose URL holds the opaque `after` cursor. Rows
+    /// paused or resumed between requests never shift or repeat later pages.
     ///
     /// ### Request
     /// ```
-    /// GET /api/v1/executions/paused
+    /// GET /api/v1/executions/paused?limit=100&after=<cursor>
     /// Authorization: Bearer <jwt>
     /// ```
     ///
@@ -201,15 +243,42 @@ public class ExecutionResource {
     /// "2024-03-08T12:01:00Z"}
     /// ]
     /// ```
+    /// ```
+    /// Link: </api/v1/executions/paused?limit=2&after=MjAyNC0wMy0wOFQxMjowMTowMFoKZXhlYy0y>;
+    /// rel="next"
+    /// ```
+    ///
+    /// @param limit page size, 1 to {@value #MAX_PAGE_SIZE}, default `100`
+    /// @param after cursor from the previous page's `next` link, absent for the first page
+    /// @return 200 with the page, or 400 if the cursor is malformed
     @GET
     @Path("/paused")
-    public Response listPausedExecutions() {
+    public Response listPausedExecutions(
+            @QueryParam("limit") @DefaultValue("100") @Min(1) @Max(MAX_PAGE_SIZE) int limit,
+            @QueryParam("after") @Size(max = 1024) String after) {
 
         String tenantId = tenantResolver.tenantId();
 
-        List<ExecutionSummary> paused = workflowService.listPausedExecutions(tenantId);
+        ExecutionSummaryPage page;
+        try {
+            page = workflowService.listPausedExecutions(tenantId, after, limit);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage());
+        }
 
-        return Response.ok().entity(paused).build();
+        Response.ResponseBuilder response = Response.ok().entity(page.items());
+        if (page.nextCursor() != null) {
+            response.header(
+                    "Link",
+                    "<"
+                            + PAUSED_PATH
+                            + "?limit="
+                            + limit
+                            + "&after="
+                            + page.nextCursor()
+                            + ">; rel=\"next\"");
+        }
+        return response.build();
     }
 
     /// Gets the final output of a completed or paused execution.
@@ -252,4 +321,93 @@ public class ExecutionResource {
             throw new NotFoundException(e.getMessage());
         }
     }
+
+    /// Gets execution scheduler statistics for this node.
+    ///
+    /// Counters are node-local; sum them across nodes for a cluster view.
+    ///
+    /// Requires the operator role (`HENSU_ADMIN_ROLE`, default `admin`); tenants get 403.
+    ///
+    /// ### Request
+    /// ```
+    /// GET /api/v1/executions/scheduler/stats
+    /// Authorization: Bearer <jwt>
+    /// ```
+    ///
+    /// ### Response (200 OK)
+    /// ```json
+    /// {"running": 64, "queued": 12, "tenantRunning": 16, "tenantQueued": 3,
+    ///  "dispatched": 5120, "rejected": 4, "avgWaitMillis": 35.2, "maxWaitMillis": 4100,
+    ///  "maxConcurrent": 64, "maxConcurrentPerTenant": 16, "maxQueued": 10000,
+    ///  "maxQueuedPerTenant": 1000}
+    /// ```
+    @GET
+    @Path("/scheduler/stats")
+    public Response schedulerStats() {
+
+        String tenantId = tenantResolver.tenantId();
+
+        SchedulerStatusResponse body =
+                SchedulerStatusResponse.from(
+                        workflowService.getSchedulerStats(),
+                        workflowService.getSchedulerStats(tenantId));
+
+        return Response.ok(body).build();
+    }
+
+    /// Gets group-commit checkpoint writer statistics for this node.
+    ///
+    /// Counters are node-local and cover all tenants; they contain no execution data.
+    ///
+    /// Requires the operator role (`HENSU_ADMIN_ROLE`, default `admin`); tenants get 403.
+    ///
+    /// ### Request
+    /// ```
+    /// GET /api/v1/executions/checkpoints/stats
+    /// Authorization: Bearer <jwt>
+    /// ```
+    ///
+    /// ### Response (200 OK)
+    /// ```json
+    /// {"enabled": true, "saved": 8200, "coalesced": 3100, "barriers": 410,
+    ///  "flushes": 950, "written": 5100, "failures": 0, "avgBatchSize": 5.4,
+    ///  "maxBatchSize": 61, "avgFlushMillis": 3.1, "maxFlushMillis": 22.5, "pending": 7,
+    ///  "flushIntervalMillis": 100, "batchLimit": 256}
+    /// ```
+    @GET
+    @Path("/checkpoints/stats")
+    public Response checkpointStats() {
+        CheckpointWriterStatusResponse body =
+                workflowService
+                        .getCheckpointStats()
+                        .map(CheckpointWriterStatusResponse::from)
+                        .orElseGet(CheckpointWriterStatusResponse::disabled);
+        return Response.ok(body).build();
+    }
+
+    /// Gets provider rate governor statistics for this node.
+    ///
+    /// One lane per provider and API key; keys are reported only as a fingerprint. Counters
+    /// are node-local and cover all tenants.
+    ///
+    /// Requires the operator role (`HENSU_ADMIN_ROLE`, default `admin`); tenants get 403.
+    ///
+    /// ### Request
+    /// ```
+    /// GET /api/v1/executions/rate-limits/stats
+    /// Authorization: Bearer <jwt>
+    /// ```
+    ///
+    /// ### Response (200 OK)
+    /// ```json
+    /// {"lanes": [{"lane": "anthropic:1f2e3d4c", "concurrencyLimit": 6, "inFlight": 6,
+    ///  "waiting": 14, "admitted": 930, "throttled": 12, "retries": 12, "exhausted": 0,
+    ///  "avgQueueMillis": 420.5, "maxQueueMillis": 9100.0, "maxConcurrency": 16,
+    ///  "requestsPerMinute": 50, "tokensPerMinute": 40000}]}
+    /// ```
+    @GET
+    @Path("/rate-limits/stats")
+    public Response rateLimitStats() {
+        return Response.ok(RateLimitStatusResponse.from(rateGovernor.stats())).build();
+    }
 }
@@ -0,0 +1,67 @@
+package io.hensu.server.api;
+
+import io.hensu.core.agent.ratelimit.RateGovernor;
+import io.hensu.core.agent.ratelimit.RateLimits;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import java.util.List;
+
+/// Provider rate governor statistics for this server node.
+///
+/// @param lanes one entry per provider and API key used since boot
+@RegisterForReflection
+record RateLimitStatusResponse(List<Lane> lanes) {
+
+    static RateLimitStatusResponse from(List<RateGovernor.Stats> stats) {
+        return new RateLimitStatusResponse(stats.stream().map(Lane::from).toList());
+    }
+
+    /// Calls of one provider and API key.
+    ///
+    /// @param lane provider and API key fingerprint, e.g. `anthropic:1f2e3d4c`
+    /// @param concurrencyLimit current adaptive concurrency limit
+    /// @param inFlight calls currently running
+    /// @param waiting calls queued for admission
+    /// @param admitted calls admitted since boot, retries included
+    /// @param throttled calls the provider refused as rate limited or overloaded
+    /// @param retries throttled calls that were retried
+    /// @param exhausted throttled calls that failed after all retries
+    /// @param avgQueueMillis mean time from arrival to admission
+    /// @param maxQueueMillis longest time from arrival to admission
+    /// @param maxConcurrency configured ceiling of the concurrency limit
+    /// @param requestsPerMinute configured request quota, `0` when unlimited
+    /// @param tokensPerMinute configured token quota, `0` when unlimited
+    @RegisterForReflection
+    record Lane(
+            String lane,
+            int concurrencyLimit,
+            int inFlight,
+            int waiting,
+            long admitted,
+            long throttled,
+            long retries,
+            long exhausted,
+            double avgQueueMillis,
+            double maxQueueMillis,
+            int maxConcurrency,
+            int requestsPerMinute,
+            long tokensPerMinute) {
+
+        static Lane from(RateGovernor.Stats stats) {
+            RateLimits limits = stats.limits();
+            return new Lane(
+                    stats.lane(),
+                    stats.concurrencyLimit(),
+                    stats.inFlight(),
+                    stats.waiting(),
+                    stats.admitted(),
+                    stats.throttled(),
+                    stats.retries(),
+                    stats.exhausted(),
+                    stats.avgQueueMillis(),
+                    stats.maxQueueMillis(),
+                    limits.maxConcurrency(),
+                    limits.requestsPerMinute(),
+                    limits.tokensPerMinute());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package io.hensu.server.api;
+
+import io.hensu.server.workflow.ExecutionScheduler;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/// Execution scheduler statistics for this server node.
+///
+/// @param running executions currently running on this node
+/// @param queued executions waiting for a slot on this node
+/// @param tenantRunning the calling tenant's running executions
+/// @param tenantQueued the calling tenant's queued executions
+/// @param dispatched executions started since boot
+/// @param rejected start requests refused with `429` since boot
+/// @param avgWaitMillis mean time from admission to dispatch
+/// @param maxWaitMillis longest time from admission to dispatch
+/// @param maxConcurrent configured node-wide concurrency limit
+/// @param maxConcurrentPerTenant configured per-tenant concurrency limit
+/// @param maxQueued configured node-wide queue capacity
+/// @param maxQueuedPerTenant configured per-tenant queue capacity
+@RegisterForReflection
+record SchedulerStatusResponse(
+        int running,
+        int queued,
+        int tenantRunning,
+        int tenantQueued,
+        long dispatched,
+        long rejected,
+        double avgWaitMillis,
+        long maxWaitMillis,
+        int maxConcurrent,
+        int maxConcurrentPerTenant,
+        int maxQueued,
+        int maxQueuedPerTenant) {
+
+    static SchedulerStatusResponse from(
+            ExecutionScheduler.Stats stats, ExecutionScheduler.TenantStats tenant) {
+        ExecutionScheduler.Limits limits = stats.limits();
+        return new SchedulerStatusResponse(
+                stats.running(),
+                stats.queued(),
+                tenant.running(),
+                tenant.queued(),
+                stats.dispatched(),
+                stats.rejected(),
+                stats.avgWaitMillis(),
+                stats.maxWaitMillis(),
+                limits.maxConcurrent(),
+                limits.maxConcurrentPerTenant(),
+                limits.maxQueued(),
+                limits.maxQueuedPerTenant());
+    }
+}
@@ -0,0 +1,39 @@
+package io.hensu.server.api;
+
+import io.hensu.server.persistence.CachingWorkflowRepository;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/// Workflow definition cache statistics for this server node.
+///
+/// @param enabled whether a definition cache fronts the workflow repository
+/// @param hits lookups answered from the cache
+/// @param misses lookups that loaded and parsed the definition from the database
+/// @param hitRatio `hits / (hits + misses)`, `0` before the first lookup
+/// @param evictions entries dropped to stay within `maxSize`
+/// @param size definitions currently cached
+/// @param maxSize configured capacity
+@RegisterForReflection
+record WorkflowCacheStatusResponse(
+        boolean enabled,
+        long hits,
+        long misses,
+        double hitRatio,
+        long evictions,
+        int size,
+        int maxSize) {
+
+    static WorkflowCacheStatusResponse from(CachingWorkflowRepository.Stats stats) {
+        return new WorkflowCacheStatusResponse(
+                true,
+                stats.hits(),
+                stats.misses(),
+                stats.hitRatio(),
+                stats.evictions(),
+                stats.size(),
+                stats.maxSize());
+    }
+
+    static WorkflowCacheStatusResponse disabled() {
+        return new WorkflowCacheStatusResponse(false, 0, 0, 0.0, 0, 0, 0);
+    }
+}
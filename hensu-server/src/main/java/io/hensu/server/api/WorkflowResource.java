@@ -43,6 +43,8 @@ import org.jboss.logging.Logger;
 /// hensu delete <id>       → DELETE /api/v1/workflows/{id}
 /// ```
 ///
+/// `GET /api/v1/workflows/cache/stats` reports the node-local definition cache counters.
+///
 /// @see WorkflowRegistryService for definition CRUD and cross-workflow cycle validation
 /// @see ExecutionResource for execution operations
 @Path("/api/v1/workflows")
@@ -215,4 +217,32 @@ public class WorkflowResource {
 
         return Response.noContent().build();
     }
+
+    /// Reports hit/miss statistics of this node's workflow definition cache.
+    ///
+    /// Counters are node-local and cover all tenants; they contain no definition data.
+    ///
+    /// Requires the operator role (`HENSU_ADMIN_ROLE`, default `admin`); tenants get 403.
+    ///
+    /// ### Request
+    /// ```
+    /// GET /api/v1/workflows/cache/stats
+    /// Authorization: Bearer <jwt>
+    /// ```
+    ///
+    /// ### Response (200 OK)
+    /// ```json
+    /// {"enabled": true, "hits": 940, "misses": 60, "hitRatio": 0.94,
+    ///  "evictions": 0, "size": 42, "maxSize": 1024}
+    /// ```
+    @GET
+    @Path("/cache/stats")
+    public Response cacheStats() {
+        WorkflowCacheStatusResponse body =
+                registryService
+                        .cacheStats()
+                        .map(WorkflowCacheStatusResponse::from)
+                        .orElseGet(WorkflowCacheStatusResponse::disabled);
+        return Response.ok(body).build();
+    }
 }
@@ -1,6 +1,7 @@
 package io.hensu.server.config;
 
 import io.hensu.core.agent.AgentConfig;
+import io.hensu.core.agent.memory.MemoryPolicy;
 import io.hensu.core.execution.executor.NodeResult;
 import io.hensu.core.execution.parallel.Branch;
 import io.hensu.core.execution.parallel.ConsensusConfig;
@@ -15,11 +16,12 @@ import io.hensu.core.state.HensuSnapshot;
 import io.hensu.core.workflow.Workflow;
 import io.hensu.core.workflow.state.StateVariableDeclaration;
 import io.hensu.core.workflow.state.WorkflowStateSchema;
+import io.hensu.serialization.LegacyStepSnapshotDeserializer;
 import io.quarkus.runtime.annotations.RegisterForReflection;
 
 /// GraalVM native image reflection registrations for `hensu-core` domain model classes.
 ///
-/// Four patterns require explicit registration:
+/// Five patterns require explicit registration:
 ///
 /// ### 1. Jackson `@JsonPOJOBuilder` mixin pattern
 /// {@link io.hensu.serialization.HensuJacksonModule} maps each of these types to a builder mixin.
@@ -54,7 +56,14 @@ import io.quarkus.runtime.annotations.RegisterForReflection;
 /// trace these statically when Jackson uses default POJO machinery. Affected types:
 ///
 /// - `ReviewConfig` — embedded in workflow nodes via `AgentConfig`
-/// - `HensuSnapshot` — embedded in `ExecutionStep` for JDBC persistence
+/// - `MemoryPolicy` — embedded in `AgentConfig`, with its `Strategy` and `Scope` enums
+/// - `HensuSnapshot` — legacy `ExecutionStep.snapshot` field read from pre-V5 history rows
+///
+/// ### 5. Deserializers named in mixin annotations
+/// Jackson instantiates deserializers referenced by `@JsonDeserialize(using = ...)` reflectively.
+///
+/// - `LegacyStepSnapshotDeserializer` — bound to `ExecutionStep.Builder.snapshot` by
+///   `ExecutionStepBuilderMixin`
 ///
 /// @implNote No Quarkus annotations are placed on `hensu-core` types. All native image metadata
 /// lives in `hensu-server`, keeping the core module dependency-free. LangChain4j transport and
@@ -89,6 +98,11 @@ import io.quarkus.runtime.annotations.RegisterForReflection;
             StateVariableDeclaration.class,
             // --- Plain records (canonical constructor + component accessors) ---
             ReviewConfig.class,
-            HensuSnapshot.class
+            MemoryPolicy.class,
+            MemoryPolicy.Strategy.class,
+            MemoryPolicy.Scope.class,
+            HensuSnapshot.class,
+            // --- Deserializers named in mixin annotations ---
+            LegacyStepSnapshotDeserializer.class
         })
 public class CoreModelNativeConfig {}
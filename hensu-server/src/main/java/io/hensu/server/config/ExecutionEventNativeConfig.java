@@ -25,6 +25,7 @@ import io.quarkus.runtime.annotations.RegisterForReflection;
             ExecutionEvent.ExecutionStarted.class,
             ExecutionEvent.ExecutionPaused.class,
             ExecutionEvent.ExecutionCompleted.class,
-            ExecutionEvent.ExecutionError.class
+            ExecutionEvent.ExecutionError.class,
+            ExecutionEvent.AgentOutputDelta.class
         })
 public class ExecutionEventNativeConfig {}
@@ -1,21 +1,38 @@
 package io.hensu.server.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.hensu.adapter.langchain4j.LangChain4jProvider;
+import io.hensu.core.HensuConfig;
 import io.hensu.core.HensuEnvironment;
 import io.hensu.core.HensuFactory;
+import io.hensu.core.agent.cache.InMemoryResponseCache;
+import io.hensu.core.agent.cache.ResponseCache;
+import io.hensu.core.agent.cache.TieredResponseCache;
+import io.hensu.core.agent.ratelimit.RateGovernor;
+import io.hensu.core.agent.ratelimit.RateLimits;
 import io.hensu.core.execution.action.ActionExecutor;
 import io.hensu.core.execution.executor.GenericNodeHandler;
 import io.hensu.core.review.ReviewHandler;
+import io.hensu.core.state.WorkflowStateRepository;
+import io.hensu.core.workflow.WorkflowRepository;
 import io.hensu.server.mcp.TenantToolRegistry;
+import io.hensu.server.persistence.CachingWorkflowRepository;
 import io.hensu.server.persistence.ExecutionLeaseManager;
+import io.hensu.server.persistence.JdbcResponseCache;
 import io.hensu.server.persistence.JdbcWorkflowRepository;
 import io.hensu.server.persistence.JdbcWorkflowStateRepository;
+import io.hensu.server.persistence.TenantScopedResponseCache;
+import io.hensu.server.persistence.WorkflowChangeChannel;
+import io.hensu.server.persistence.WriteBehindStateRepository;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.Produces;
 import jakarta.inject.Inject;
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import javax.sql.DataSource;
 import org.eclipse.microprofile.config.Config;
@@ -38,6 +55,20 @@ import org.jboss.logging.Logger;
 /// | `hensu.credentials.OPENAI_API_KEY` | String | - | OpenAI API key |
 /// | `hensu.credentials.GOOGLE_API_KEY` | String | - | Google AI Gemini API key |
 /// | `hensu.stub.enabled` | Boolean | `false` | Enable stub mode for testing |
+/// | `hensu.checkpoint.compaction-interval` | Integer | `20` | Delta checkpoints between full writes (`0` = off) |
+/// | `hensu.checkpoint.write-behind.flush-interval` | Duration | `100ms` | Checkpoint group-commit delay (`0` = off) |
+/// | `hensu.checkpoint.write-behind.max-batch-size` | Integer | `256` | Pending checkpoints that force a flush |
+/// | `hensu.workflow-cache.max-size` | Integer | `1024` | Cached parsed workflows (`0` = off) |
+/// | `hensu.agent.permits-per-model` | Integer | `0` | In-flight agent calls per model (`0` = unbounded) |
+/// | `hensu.response-cache.max-size` | Integer | `1024` | Agent responses cached per node (`0` = off) |
+/// | `hensu.response-cache.shared` | Boolean | `true` | Share cached responses through PostgreSQL |
+/// | `hensu.response-cache.purge-interval` | Duration | `10m` | Interval between expired-row purges |
+/// | `hensu.rate-limit.max-concurrency` | Integer | `16` | Ceiling of each provider key's adaptive concurrency |
+/// | `hensu.rate-limit.max-retries` | Integer | `3` | Retries of a throttled model call |
+/// | `hensu.rate-limit.initial-backoff` | Duration | `1s` | Delay before the first retry, doubled per retry |
+/// | `hensu.rate-limit.max-backoff` | Duration | `30s` | Upper bound of the retry delay |
+/// | `hensu.rate-limit.<provider>.requests-per-minute` | Integer | `0` | Request quota per API key (`0` = none) |
+/// | `hensu.rate-limit.<provider>.tokens-per-minute` | Long | `0` | Token quota per API key (`0` = none) |
 ///
 /// @implNote Application-scoped singleton. Thread-safe after initialization.
 /// The `quarkus-langchain4j-*` extensions are on the classpath solely for
@@ -51,8 +82,16 @@ public class HensuEnvironmentProducer {
 
     private static final Logger LOG = Logger.getLogger(HensuEnvironmentProducer.class);
 
+    /// Providers that accept `hensu.rate-limit.<provider>.*` quotas.
+    private static final List<String> RATE_LIMITED_PROVIDERS =
+            List.of("anthropic", "openai", "google", "deepseek");
+
     private HensuEnvironment hensuEnvironment;
 
+    private WriteBehindStateRepository writeBehind;
+
+    private JdbcResponseCache sharedResponseCache;
+
     @Inject Config config;
 
     @Inject Instance<GenericNodeHandler> genericNodeHandlers;
@@ -63,52 +102,68 @@ public class HensuEnvironmentProducer {
 
     @Inject Instance<DataSource> dataSourceInstance;
 
-    @Inject ObjectMapper objectMapper;
-
     @Inject ExecutionLeaseManager leaseManager;
 
     @Inject TenantToolRegistry tenantToolRegistry;
 
+    @Inject WorkflowChangeChannel workflowChangeChannel;
+
     /// Produces the Hensu runtime environment for CDI injection.
     ///
     /// Configures virtual threads, loads credentials from `hensu.credentials.*`
     /// properties and environment variables, and sets up the action executor.
     /// Registers all discovered generic node handlers.
     ///
+    /// @param rateGovernor governor admitting the LangChain4j agents' model calls, not null
     /// @return configured environment singleton, never null
     @Produces
     @ApplicationScoped
-    public HensuEnvironment hensuEnvironment() {
+    public HensuEnvironment hensuEnvironment(RateGovernor rateGovernor) {
         Properties properties = extractHensuProperties();
 
+        int permitsPerModel =
+                config.getOptionalValue("hensu.agent.permits-per-model", Integer.class).orElse(0);
         HensuFactory.Builder factoryBuilder =
                 HensuFactory.builder()
+                        .config(HensuConfig.builder().agentPermitsPerModel(permitsPerModel).build())
                         .loadCredentials(properties)
-                        .agentProviders(List.of(new LangChain4jProvider()))
+                        .agentProviders(List.of(new LangChain4jProvider(rateGovernor)))
                         .actionExecutor(actionExecutor)
                         .toolRegistry(tenantToolRegistry);
 
         boolean dsActive =
                 config.getOptionalValue("quarkus.datasource.active", Boolean.class).orElse(true);
 
+        DataSource ds = null;
         if (dsActive && dataSourceInstance.isResolvable()) {
-            DataSource ds = dataSourceInstance.get();
+            ds = dataSourceInstance.get();
+            int compactionInterval =
+                    config.getOptionalValue("hensu.checkpoint.compaction-interval", Integer.class)
+                            .orElse(JdbcWorkflowStateRepository.DEFAULT_COMPACTION_INTERVAL);
             factoryBuilder
-                    .workflowRepository(new JdbcWorkflowRepository(ds))
+                    .workflowRepository(workflowRepository(ds))
                     .workflowStateRepository(
-                            new JdbcWorkflowStateRepository(
-                                    ds, objectMapper, leaseManager.getServerNodeId()));
+                            stateRepository(
+                                    new JdbcWorkflowStateRepository(
+                                            ds,
+                                            leaseManager.getServerNodeId(),
+                                            compactionInterval)));
             LOG.info("Using JDBC persistence (PostgreSQL)");
         } else {
             LOG.info("Using in-memory persistence");
         }
 
+        factoryBuilder.responseCache(responseCache(ds));
+
         if (reviewHandlerInstance.isResolvable()) {
             factoryBuilder.reviewHandler(reviewHandlerInstance.get());
             LOG.info("Using CDI-provided ReviewHandler");
         }
 
         hensuEnvironment = factoryBuilder.build();
+        if (permitsPerModel > 0) {
+            LOG.infov("Agent calls bounded: permitsPerModel={0}", permitsPerModel);
+        }
 
         LOG.info("Configured HensuEnvironment via HensuFactory");
 
@@ -118,6 +173,150 @@ public class HensuEnvironmentProducer {
         return hensuEnvironment;
     }
 
+    /// Produces the governor admitting model calls per provider and API key.
+    ///
+    /// Defaults apply to every provider; `hensu.rate-limit.<provider>.requests-per-minute`
+    /// and `.tokens-per-minute` add quotas for one provider.
+    ///
+    /// @return the node-wide rate governor, never null
+    @Produces
+    @ApplicationScoped
+    public RateGovernor rateGovernor() {
+        RateLimits defaults =
+                new RateLimits(
+                        0,
+                        0,
+                        config.getOptionalValue("hensu.rate-limit.max-concurrency", Integer.class)
+                                .orElse(RateLimits.DEFAULT.maxConcurrency()),
+                        config.getOptionalValue("hensu.rate-limit.max-retries", Integer.class)
+                                .orElse(RateLimits.DEFAULT.maxRetries()),
+                        config.getOptionalValue("hensu.rate-limit.initial-backoff", Duration.class)
+                                .orElse(RateLimits.DEFAULT.initialBackoff()),
+                        config.getOptionalValue("hensu.rate-limit.max-backoff", Duration.class)
+                                .orElse(RateLimits.DEFAULT.maxBackoff()));
+
+        Map<String, RateLimits> providerLimits = new HashMap<>();
+        for (String provider : RATE_LIMITED_PROVIDERS) {
+            String prefix = "hensu.rate-limit." + provider + ".";
+            int requestsPerMinute =
+                    config.getOptionalValue(prefix + "requests-per-minute", Integer.class)
+                            .orElse(0);
+            long tokensPerMinute =
+                    config.getOptionalValue(prefix + "tokens-per-minute", Long.class).orElse(0L);
+            if (requestsPerMinute > 0 || tokensPerMinute > 0) {
+                providerLimits.put(
+                        provider, defaults.withQuotas(requestsPerMinute, tokensPerMinute));
+                LOG.infov(
+                        "Rate limits for {0}: requestsPerMinute={1}, tokensPerMinute={2}",
+                        provider,
+                        requestsPerMinute,
+                        tokensPerMinute);
+            }
+        }
+        return new RateGovernor(defaults, providerLimits);
+    }
+
+    /// Builds the JDBC workflow repository, fronted by a parsed-definition cache unless
+    /// `hensu.workflow-cache.max-size` is `0`. The cache is subscribed to
+    /// {@link WorkflowChangeChannel} so pushes on other nodes evict local entries.
+    private WorkflowRepository workflowRepository(DataSource ds) {
+        JdbcWorkflowRepository jdbcRepository = new JdbcWorkflowRepository(ds);
+        int maxSize =
+                config.getOptionalValue("hensu.workflow-cache.max-size", Integer.class)
+                        .orElse(CachingWorkflowRepository.DEFAULT_MAX_SIZE);
+        if (maxSize <= 0) {
+            LOG.info("Workflow definition cache disabled");
+            return jdbcRepository;
+        }
+        CachingWorkflowRepository cache =
+                new CachingWorkflowRepository(
+                        jdbcRepository, maxSize, workflowChangeChannel::publish);
+        workflowChangeChannel.subscribe(cache);
+        LOG.infov("Workflow definition cache enabled: maxSize={0}", maxSize);
+        return cache;
+    }
+
+    /// Fronts the JDBC state repository with a group-commit checkpoint writer unless
+    /// `hensu.checkpoint.write-behind.flush-interval` is `0`.
+    private WorkflowStateRepository stateRepository(JdbcWorkflowStateRepository jdbcRepository) {
+        Duration flushInterval =
+                config.getOptionalValue(
+                                "hensu.checkpoint.write-behind.flush-interval", Duration.class)
+                        .orElse(WriteBehindStateRepository.DEFAULT_FLUSH_INTERVAL);
+        if (flushInterval.isZero() || flushInterval.isNegative()) {
+            LOG.info("Checkpoint write-behind disabled");
+            return jdbcRepository;
+        }
+        int maxBatchSize =
+                config.getOptionalValue(
+                                "hensu.checkpoint.write-behind.max-batch-size", Integer.class)
+                        .orElse(WriteBehindStateRepository.DEFAULT_MAX_BATCH_SIZE);
+        writeBehind = new WriteBehindStateRepository(jdbcRepository, flushInterval, maxBatchSize);
+        LOG.infov(
+                "Checkpoint write-behind enabled: flushInterval={0}, maxBatchSize={1}",
+                flushInterval,
+                maxBatchSize);
+        return writeBehind;
+    }
+
+    /// Builds the tenant-scoped agent response cache: an in-memory tier of
+    /// `hensu.response-cache.max-size` entries, backed by PostgreSQL when a datasource is
+    /// available and `hensu.response-cache.shared` is not `false`.
+    ///
+    /// @param ds the active datasource, or null for in-memory persistence
+    private ResponseCache responseCache(DataSource ds) {
+        int maxSize =
+                config.getOptionalValue("hensu.response-cache.max-size", Integer.class)
+                        .orElse(InMemoryResponseCache.DEFAULT_MAX_SIZE);
+        boolean shared =
+                config.getOptionalValue("hensu.response-cache.shared", Boolean.class).orElse(true);
+
+        ResponseCache local = maxSize > 0 ? new InMemoryResponseCache(maxSize) : null;
+        if (ds != null && shared) {
+            sharedResponseCache = new JdbcResponseCache(ds);
+        }
+        ResponseCache tiers;
+        if (local != null && sharedResponseCache != null) {
+            tiers = new TieredResponseCache(local, sharedResponseCache);
+        } else if (local != null) {
+            tiers = local;
+        } else if (sharedResponseCache != null) {
+            tiers = sharedResponseCache;
+        } else {
+            LOG.info("Agent response cache disabled");
+            return ResponseCache.NONE;
+        }
+        LOG.infov(
+                "Agent response cache enabled: maxSize={0}, shared={1}",
+                maxSize,
+                sharedResponseCache != null);
+        return new TenantScopedResponseCache(tiers);
+    }
+
+    /// Deletes expired rows of the shared response cache.
+    @Scheduled(every = "${hensu.response-cache.purge-interval:10m}")
+    void purgeExpiredResponses() {
+        if (sharedResponseCache == null) {
+            return;
+        }
+        try {
+            int purged = sharedResponseCache.purgeExpired();
+            if (purged > 0) {
+                LOG.debugv("Purged {0} expired cached responses", purged);
+            }
+        } catch (RuntimeException e) {
+            LOG.warnv("Response cache purge failed: {0}", e.getMessage());
+        }
+    }
+
+    /// Writes pending checkpoints before the datasource shuts down.
+    @PreDestroy
+    void shutdown() {
+        if (writeBehind != null) {
+            writeBehind.close();
+        }
+    }
+
     /// Register all CDI-discovered GenericNodeHandler implementations.
     private void registerGenericHandlers() {
         for (GenericNodeHandler handler : genericNodeHandlers) {
@@ -43,6 +43,11 @@ public final class CompositeExecutionListener implements ExecutionListener {
         for (ExecutionListener d : delegates) d.onAgentStart(nodeId, agentId, prompt);
     }
 
+    @Override
+    public void onAgentOutputDelta(String nodeId, String agentId, String delta) {
+        for (ExecutionListener d : delegates) d.onAgentOutputDelta(nodeId, agentId, delta);
+    }
+
     @Override
     public void onAgentComplete(String nodeId, String agentId, AgentResponse response) {
         for (ExecutionListener d : delegates) d.onAgentComplete(nodeId, agentId, response);
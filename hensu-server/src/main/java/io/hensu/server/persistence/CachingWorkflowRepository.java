@@ -0,0 +1,258 @@
+package io.hensu.server.persistence;
+
+import io.hensu.core.workflow.Workflow;
+import io.hensu.core.workflow.WorkflowRepository;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/// Read-through cache of parsed {@link Workflow} definitions in front of another
+/// {@link WorkflowRepository} (in practice {@link JdbcWorkflowRepository}).
+///
+/// Workflows are immutable once built, so a single parsed instance is shared by every
+/// execution and sub-workflow invocation that references it. A cache hit skips both the
+/// Postgres round-trip and the `WorkflowSerializer.fromJson` parse.
+///
+/// ### Scoping and bounds
+/// Entries are keyed by `(tenantId, workflowId)` and held in an access-ordered LRU map of at
+/// most `maxSize` entries. Only `findById` is cached; `findAll`, `exists` and `count` always
+/// reach the delegate so listings and push validation see the database as it is.
+///
+/// ### Invalidation
+/// - **Local**: `save`, `delete` and `deleteAllForTenant` evict the affected entries before
+///   returning and announce the change through the {@link ChangePublisher}.
+/// - **Cluster**: {@link WorkflowChangeChannel} delivers changes made on other nodes to
+///   {@link #invalidate(String, String)} / {@link #invalidateTenant(String)}, and calls
+///   {@link #invalidateAll()} whenever it (re)connects and may have missed notifications.
+///
+/// Every invalidation bumps a generation counter. A `findById` miss only populates the
+/// cache if no invalidation happened while it was loading, so a slow read of the old
+/// definition can never overwrite the eviction caused by a concurrent push.
+///
+/// @implNote Thread-safe. The LRU map is guarded by a {@link ReentrantLock}; the delegate is
+/// always called outside the lock. Hit, miss and eviction counters are {@link LongAdder}s.
+///
+/// @see WorkflowChangeChannel
+public class CachingWorkflowRepository implements WorkflowRepository {
+
+    /// Default maximum number of cached workflow definitions across all tenants.
+    public static final int DEFAULT_MAX_SIZE = 1024;
+
+    private final WorkflowRepository delegate;
+    private final int maxSize;
+    private final ChangePublisher publisher;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<CacheKey, Workflow> entries;
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /// Creates a cache in front of `delegate`.
+    ///
+    /// @param delegate the backing repository, not null
+    /// @param maxSize maximum number of cached definitions, must be positive
+    /// @param publisher receives every local change for cluster-wide invalidation, not null
+    /// @throws IllegalArgumentException if `maxSize` is not positive
+    public CachingWorkflowRepository(
+            WorkflowRepository delegate, int maxSize, ChangePublisher publisher) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+        this.publisher = Objects.requireNonNull(publisher, "publisher must not be null");
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive, got " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.entries =
+                new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<CacheKey, Workflow> eldest) {
+                        if (size() > CachingWorkflowRepository.this.maxSize) {
+                            evictions.increment();
+                            return true;
+                        }
+                        return false;
+                    }
+                };
+    }
+
+    @Override
+    public void save(String tenantId, Workflow workflow) {
+        Objects.requireNonNull(tenantId, "tenantId must not be null");
+        Objects.requireNonNull(workflow, "workflow must not be null");
+
+        delegate.save(tenantId, workflow);
+        invalidate(tenantId, workflow.getId());
+        publisher.publish(tenantId, workflow.getId());
+    }
+
+    @Override
+    public Optional<Workflow> findById(String tenantId, String workflowId) {
+        Objects.requireNonNull(tenantId, "tenantId must not be null");
+        Objects.requireNonNull(workflowId, "workflowId must not be null");
+
+        CacheKey key = new CacheKey(tenantId, workflowId);
+        Workflow cached;
+        lock.lock();
+        try {
+            cached = entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+
+        misses.increment();
+        long observed = generation.get();
+        Optional<Workflow> loaded = delegate.findById(tenantId, workflowId);
+        loaded.ifPresent(
+                workflow -> {
+                    lock.lock();
+                    try {
+                        if (generation.get() == observed) {
+                            entries.put(key, workflow);
+                        }
+                    } finally {
+                        lock.unlock();
+                    }
+                });
+        return loaded;
+    }
+
+    @Override
+    public List<Workflow> findAll(String tenantId) {
+        return delegate.findAll(tenantId);
+    }
+
+    @Override
+    public boolean exists(String tenantId, String workflowId) {
+        return delegate.exists(tenantId, workflowId);
+    }
+
+    @Override
+    public boolean delete(String tenantId, String workflowId) {
+        Objects.requireNonNull(tenantId, "tenantId must not be null");
+        Objects.requireNonNull(workflowId, "workflowId must not be null");
+
+        boolean deleted = delegate.delete(tenantId, workflowId);
+        invalidate(tenantId, workflowId);
+        if (deleted) {
+            publisher.publish(tenantId, workflowId);
+        }
+        return deleted;
+    }
+
+    @Override
+    public int deleteAllForTenant(String tenantId) {
+        Objects.requireNonNull(tenantId, "tenantId must not be null");
+
+        int deleted = delegate.deleteAllForTenant(tenantId);
+        invalidateTenant(tenantId);
+        if (deleted > 0) {
+            publisher.publish(tenantId, null);
+        }
+        return deleted;
+    }
+
+    @Override
+    public int count(String tenantId) {
+        return delegate.count(tenantId);
+    }
+
+    /// Evicts a single cached definition.
+    ///
+    /// @param tenantId the owning tenant, not null
+    /// @param workflowId the workflow id, not null
+    public void invalidate(String tenantId, String workflowId) {
+        Objects.requireNonNull(tenantId, "tenantId must not be null");
+        Objects.requireNonNull(workflowId, "workflowId must not be null");
+        lock.lock();
+        try {
+            generation.incrementAndGet();
+            entries.remove(new CacheKey(tenantId, workflowId));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /// Evicts every cached definition owned by a tenant.
+    ///
+    /// @param tenantId the owning tenant, not null
+    public void invalidateTenant(String tenantId) {
+        Objects.requireNonNull(tenantId, "tenantId must not be null");
+        lock.lock();
+        try {
+            generation.incrementAndGet();
+            entries.keySet().removeIf(key -> key.tenantId().equals(tenantId));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /// Evicts every cached definition.
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            generation.incrementAndGet();
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /// Returns a point-in-time snapshot of the cache counters.
+    ///
+    /// @return current statistics, never null
+    public Stats stats() {
+        int size;
+        lock.lock();
+        try {
+            size = entries.size();
+        } finally {
+            lock.unlock();
+        }
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), size, maxSize);
+    }
+
+    // --- Types ---
+
+    /// Announces a local definition change to other server nodes.
+    @FunctionalInterface
+    public interface ChangePublisher {
+
+        /// Publishes a change for one workflow, or for a whole tenant.
+        ///
+        /// @param tenantId the owning tenant, not null
+        /// @param workflowId the changed workflow, or `null` when every workflow of the
+        ///     tenant changed
+        void publish(String tenantId, String workflowId);
+    }
+
+    /// Cache counters since startup.
+    ///
+    /// @param hits lookups answered from the cache
+    /// @param misses lookups that reached the delegate
+    /// @param evictions entries dropped to respect `maxSize` (invalidations are not counted)
+    /// @param size entries currently cached
+    /// @param maxSize configured capacity
+    public record Stats(long hits, long misses, long evictions, int size, int maxSize) {
+
+        /// Returns the fraction of lookups answered from the cache.
+        ///
+        /// @return hit ratio in `[0, 1]`, `0` before the first lookup
+        public double hitRatio() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+
+    private record CacheKey(String tenantId, String workflowId) {}
+}
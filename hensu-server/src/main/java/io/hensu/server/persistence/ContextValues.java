@@ -0,0 +1,68 @@
+package io.hensu.server.persistence;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+/// Copies workflow context values so a later in-place mutation cannot reach the copy.
+///
+/// Immutable scalars are shared. Maps, lists and sets, the shapes a context is built from,
+/// are copied recursively. Any other value is opaque to the copy and handed to a caller
+/// supplied function.
+///
+/// @implNote Stateless and thread-safe. A copy is only as consistent as the value while it
+/// is being copied, so call from the thread that owns the context.
+final class ContextValues {
+
+    private ContextValues() {}
+
+    /// Returns a copy of `context` detached from its maps, lists and sets, sharing every
+    /// other value. `null` values are kept.
+    ///
+    /// @param context the context to copy, not null
+    /// @return a new mutable map, never null
+    static Map<String, Object> copy(Map<String, Object> context) {
+        Map<String, Object> copied = LinkedHashMap.newLinkedHashMap(context.size());
+        context.forEach((k, v) -> copied.put(k, copy(v, UnaryOperator.identity())));
+        return copied;
+    }
+
+    /// Returns a copy of one context value.
+    ///
+    /// @param value the value to copy, may be null
+    /// @param opaque applied to every value that is neither an immutable scalar nor a map,
+    ///     list or set, not null
+    /// @return `value` itself if it is an immutable scalar, the result of `opaque` if it is
+    ///     opaque, otherwise a copy; null if `value` is null
+    static Object copy(Object value, UnaryOperator<Object> opaque) {
+        return switch (value) {
+            case null -> null;
+            case String _, Boolean _, Character _, Enum<?> _ -> value;
+            case Integer _, Long _, Double _, Float _, Short _, Byte _ -> value;
+            case BigDecimal _, BigInteger _ -> value;
+            case Map<?, ?> map -> {
+                Map<Object, Object> copied = LinkedHashMap.newLinkedHashMap(map.size());
+                map.forEach((k, v) -> copied.put(k, copy(v, opaque)));
+                yield copied;
+            }
+            case Set<?> set -> {
+                Set<Object> copied = LinkedHashSet.newLinkedHashSet(set.size());
+                set.forEach(v -> copied.add(copy(v, opaque)));
+                yield copied;
+            }
+            case Collection<?> collection -> {
+                List<Object> copied = new ArrayList<>(collection.size());
+                collection.forEach(v -> copied.add(copy(v, opaque)));
+                yield copied;
+            }
+            default -> opaque.apply(value);
+        };
+    }
+}
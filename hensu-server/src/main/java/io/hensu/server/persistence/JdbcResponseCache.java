@@ -0,0 +1,128 @@
+package io.hensu.server.persistence;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.hensu.core.agent.AgentResponse;
+import io.hensu.core.agent.cache.ResponseCache;
+import io.hensu.serialization.HensuJson;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.sql.DataSource;
+import org.jboss.logging.Logger;
+
+/// PostgreSQL-backed {@link ResponseCache}, the shared tier behind each node's in-memory
+/// cache.
+///
+/// Entries live in `runtime.agent_response_cache`, one row per key. Expired rows are never
+/// returned; {@link #purgeExpired()} deletes them in bulk.
+///
+/// The cache is best-effort: a failing lookup is logged and reported as a miss and a
+/// failing store is logged and dropped, so a database outage costs provider calls but
+/// never fails a node.
+///
+/// @implNote Thread-safe. Stateless beyond the injected {@link DataSource}. Keys arrive
+/// already tenant-scoped from {@link TenantScopedResponseCache}.
+///
+/// @see io.hensu.core.agent.cache.TieredResponseCache
+public class JdbcResponseCache implements ResponseCache {
+
+    private static final Logger LOG = Logger.getLogger(JdbcResponseCache.class);
+
+    // --- SQL constants ---
+
+    private static final String SQL_GET =
+            "SELECT content, metadata, expires_at FROM runtime.agent_response_cache WHERE cache_key = ? AND expires_at > now()";
+
+    private static final String SQL_PUT =
+            """
+            INSERT INTO runtime.agent_response_cache (cache_key, content, metadata, expires_at, created_at)
+            VALUES (?, ?, ?::jsonb, ?, now())
+            ON CONFLICT (cache_key)
+            DO UPDATE SET content = EXCLUDED.content, metadata = EXCLUDED.metadata,
+                          expires_at = EXCLUDED.expires_at, created_at = now()
+            """;
+
+    private static final String SQL_PURGE =
+            "DELETE FROM runtime.agent_response_cache WHERE expires_at <= now()";
+
+    private static final HensuJson JSON = HensuJson.compact();
+    private static final ObjectReader METADATA_READER =
+            HensuJson.readerFor(new TypeReference<Map<String, Object>>() {});
+
+    // --- Fields ---
+
+    private final JdbcSupport jdbc;
+
+    public JdbcResponseCache(DataSource dataSource) {
+        Objects.requireNonNull(dataSource, "dataSource must not be null");
+        this.jdbc = new JdbcSupport(dataSource);
+    }
+
+    @Override
+    public Optional<Entry> get(String key) {
+        Objects.requireNonNull(key, "key must not be null");
+        try {
+            return jdbc.queryOne(
+                    SQL_GET,
+                    ps -> ps.setString(1, key),
+                    rs ->
+                            new Entry(
+                                    AgentResponse.TextResponse.of(
+                                            rs.getString("content"),
+                                            readMetadata(rs.getString("metadata"))),
+                                    rs.getObject("expires_at", OffsetDateTime.class).toInstant()),
+                    "Failed to read cached response");
+        } catch (PersistenceException e) {
+            LOG.warnv("Response cache lookup failed, treating as miss: {0}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void put(String key, Entry entry) {
+        Objects.requireNonNull(key, "key must not be null");
+        Objects.requireNonNull(entry, "entry must not be null");
+        try {
+            jdbc.update(
+                    SQL_PUT,
+                    ps -> {
+                        ps.setString(1, key);
+                        ps.setString(2, entry.response().content());
+                        ps.setString(3, writeMetadata(entry.response().metadata()));
+                        ps.setObject(
+                                4, OffsetDateTime.ofInstant(entry.expiresAt(), ZoneOffset.UTC));
+                    },
+                    "Failed to store cached response");
+        } catch (PersistenceException e) {
+            LOG.warnv("Response cache store failed, entry dropped: {0}", e.getMessage());
+        }
+    }
+
+    private static Map<String, Object> readMetadata(String json) {
+        try {
+            return METADATA_READER.readValue(json);
+        } catch (JsonProcessingException e) {
+            throw new PersistenceException("Failed to deserialize from JSON", e);
+        }
+    }
+
+    private static String writeMetadata(Map<String, Object> metadata) {
+        try {
+            return JSON.write(metadata);
+        } catch (IllegalArgumentException e) {
+            throw new PersistenceException("Failed to serialize to JSON", e);
+        }
+    }
+
+    /// Deletes every expired entry.
+    ///
+    /// @return number of rows deleted
+    /// @throws PersistenceException if the delete fails
+    public int purgeExpired() {
+        return jdbc.update(SQL_PURGE, _ -> {}, "Failed to purge expired cached responses");
+    }
+}
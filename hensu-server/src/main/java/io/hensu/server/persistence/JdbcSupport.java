@@ -1,5 +1,6 @@
 package io.hensu.server.persistence;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -97,6 +98,36 @@ final class JdbcSupport {
         }
     }
 
+    /// Runs `work` on a single connection inside one transaction.
+    ///
+    /// Commits when `work` returns and rolls back when it throws. Lets a caller issue
+    /// several statements, including JDBC batches, for the cost of one connection checkout
+    /// and one commit.
+    ///
+    /// @param <T> the result type
+    /// @param work the statements to run, not null
+    /// @param errorContext message prefix for {@link PersistenceException}, not null
+    /// @return the value returned by `work`
+    /// @throws PersistenceException if any statement or the commit fails
+    <T> T inTransaction(TransactionWork<T> work, String errorContext) {
+        try (var conn = dataSource.getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try {
+                T result = work.run(conn);
+                conn.commit();
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new PersistenceException(errorContext, e);
+        }
+    }
+
     /// Binds parameters to a {@link PreparedStatement} before execution.
     ///
     /// {@snippet :
@@ -118,6 +149,20 @@ final class JdbcSupport {
         void prepare(PreparedStatement ps) throws SQLException;
     }
 
+    /// Statements executed on one connection inside {@link JdbcSupport#inTransaction}.
+    ///
+    /// @param <T> the result type
+    @FunctionalInterface
+    interface TransactionWork<T> {
+
+        /// Runs the statements. Must not commit, roll back or close the connection.
+        ///
+        /// @param conn the transaction's connection, not null
+        /// @return the result, may be null
+        /// @throws SQLException if a statement fails
+        T run(Connection conn) throws SQLException;
+    }
+
     /// Maps a single {@link ResultSet} row to a domain object.
     ///
     /// {@snippet :
@@ -2,7 +2,7 @@ package io.hensu.server.persistence;
 
 import io.hensu.core.workflow.Workflow;
 import io.hensu.core.workflow.WorkflowRepository;
-import io.hensu.serialization.WorkflowSerializer;
+import io.hensu.serialization.HensuJson;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -10,8 +10,8 @@ import javax.sql.DataSource;
 
 /// PostgreSQL-backed workflow definition repository.
 ///
-/// Stores compiled workflow JSON in a JSONB column, using
-/// {@link WorkflowSerializer} for serialization. All operations are
+/// Stores compiled workflow JSON in a JSONB column, using the shared compact
+/// {@link HensuJson} facade for serialization. All operations are
 /// tenant-scoped via composite primary key `(tenant_id, workflow_id)`.
 ///
 /// ### Contracts
@@ -22,8 +22,8 @@ import javax.sql.DataSource;
 /// Agroal pool via {@link JdbcSupport}. Blocking I/O is acceptable because the
 /// server runs on virtual threads.
 ///
-/// @see WorkflowSerializer#toJson(Workflow)
-/// @see WorkflowSerializer#fromJson(String)
+/// @see HensuJson#writeWorkflow(Workflow)
+/// @see HensuJson#readWorkflow(String)
 public class JdbcWorkflowRepository implements WorkflowRepository {
 
     // --- SQL constants ---
@@ -54,6 +54,8 @@ public class JdbcWorkflowRepository implements WorkflowRepository {
     private static final String SQL_COUNT =
             "SELECT count(*) FROM runtime.workflows WHERE tenant_id = ? AND deleted_at IS NULL";
 
+    private static final HensuJson JSON = HensuJson.compact();
+
     // --- Fields ---
 
     private final JdbcSupport jdbc;
@@ -68,7 +70,7 @@ public class JdbcWorkflowRepository implements WorkflowRepository {
         Objects.requireNonNull(tenantId, "tenantId must not be null");
         Objects.requireNonNull(workflow, "workflow must not be null");
 
-        String json = WorkflowSerializer.toJson(workflow);
+        String json = JSON.writeWorkflow(workflow);
         jdbc.update(
                 SQL_SAVE,
                 ps -> {
@@ -90,7 +92,7 @@ public class JdbcWorkflowRepository implements WorkflowRepository {
                     ps.setString(1, tenantId);
                     ps.setString(2, workflowId);
                 },
-                rs -> WorkflowSerializer.fromJson(rs.getString("definition")),
+                rs -> JSON.readWorkflow(rs.getString("definition")),
                 "Failed to find workflow: " + workflowId);
     }
 
@@ -101,7 +103,7 @@ public class JdbcWorkflowRepository implements WorkflowRepository {
         return jdbc.queryList(
                 SQL_FIND_ALL,
                 ps -> ps.setString(1, tenantId),
-                rs -> WorkflowSerializer.fromJson(rs.getString("definition")),
+                rs -> JSON.readWorkflow(rs.getString("definition")),
                 "Failed to list workflows for tenant: " + tenantId);
     }
 
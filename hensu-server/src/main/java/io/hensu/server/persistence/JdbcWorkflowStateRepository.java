@@ -2,11 +2,21 @@ package io.hensu.server.persistence;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.hensu.core.execution.result.BacktrackEvent;
 import io.hensu.core.execution.result.ExecutionHistory;
+import io.hensu.core.execution.result.ExecutionStep;
+import io.hensu.core.state.ExecutionCursor;
 import io.hensu.core.state.ExecutionPhase;
+import io.hensu.core.state.ExecutionStatusView;
 import io.hensu.core.state.HensuSnapshot;
 import io.hensu.core.state.WorkflowStateRepository;
+import io.hensu.serialization.HensuJson;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Instant;
@@ -19,16 +29,43 @@ import javax.sql.DataSource;
 ///
 /// Stores {@link HensuSnapshot} records with JSONB columns for `context`,
 /// `history`, and `retry_counters`. Each execution has at most one
-/// row — checkpoints overwrite the previous state (UPSERT semantics).
+/// base row in `runtime.execution_states`.
+///
+/// ### Delta Checkpointing
+/// Active checkpoints (`checkpoint_reason = "checkpoint"`) are written incrementally: the base
+/// row's scalar columns are updated in place and one row is appended to
+/// `runtime.execution_state_deltas` holding only the changed context keys and the history
+/// entries recorded since the previous checkpoint. Both writes run as a single statement.
+///
+/// A full write (UPSERT of the base row plus purge of its deltas) happens instead when:
+/// - this repository has not written the execution before (first checkpoint, resume, recovery)
+/// - the checkpoint reason is terminal (`"completed"`, `"paused"`, `"failed"`, `"rejected"`)
+/// - `compactionInterval` deltas have accumulated since the last full write
+/// - the base row's `state_version` no longer matches the version this node last wrote
+///
+/// Readers rebuild state as base row + deltas in sequence order, inside one query.
+///
+/// ### Batched Checkpoints
+/// {@link #saveCheckpoints(List)} writes many executions' active checkpoints on one
+/// connection and in one transaction, with the delta appends sent as a single JDBC batch.
+/// {@link WriteBehindStateRepository} uses it to group-commit checkpoints.
+///
+/// ### Projections
+/// {@link #findStatus} and {@link #findPausedStatuses} read only scalar columns and the
+/// correlation id inside `phase`; they never touch `context`, `history` or the delta log.
+/// Paused listings page by keyset on `(created_at, execution_id)`, served by the partial
+/// index `idx_exec_states_paused_keyset`.
 ///
 /// ### Lease Management
 /// `save()` automatically maintains the distributed recovery lease:
 /// - `checkpoint_reason = "checkpoint"` — sets `server_node_id` and bumps `last_heartbeat_at`
+/// - `checkpoint_reason = "queued"` — same, written in full; the execution is admitted but
+///   waiting for a scheduler slot on this node
 /// - Any terminal reason (`"completed"`, `"paused"`, `"failed"`, `"rejected"`) — clears
 /// both to NULL
 ///
 /// This ensures the recovery sweeper only targets executions that are actively
-/// running on a now-dead node, never safely-paused human-review executions.
+/// running on, or queued on, a now-dead node, never safely-paused human-review executions.
 ///
 /// ### Contracts
 /// - **Precondition**: Flyway migration `V1__create_schema` has run
@@ -36,17 +73,25 @@ import javax.sql.DataSource;
 ///
 /// @implNote Thread-safe. Each call acquires its own JDBC connection from the
 /// Agroal pool via {@link JdbcSupport}. Blocking I/O is acceptable because the
-/// server runs on virtual threads.
+/// server runs on virtual threads. JSONB columns are written compactly and read through
+/// `ObjectReader`s bound once against the shared {@link HensuJson} mapper.
 ///
 /// @see HensuSnapshot
+/// @see WriteBehindStateRepository
 /// @see ExecutionLeaseManager
 /// @see JdbcWorkflowRepository
 public class JdbcWorkflowStateRepository implements WorkflowStateRepository {
 
     // --- SQL constants ---
 
+    /// Full write. Purges the delta log and bumps `state_version`; the returned version guards
+    /// subsequent delta appends.
     private static final String SQL_SAVE =
             """
+            WITH purged AS (
+                DELETE FROM runtime.execution_state_deltas
+                WHERE tenant_id = ? AND execution_id = ?
+            )
             INSERT INTO runtime.execution_states
                 (tenant_id, execution_id, workflow_id, current_node_id,
                  context, history, phase, retry_counters,
@@ -61,16 +106,58 @@ public class JdbcWorkflowStateRepository implements WorkflowStateRepository {
                 retry_counters    = EXCLUDED.retry_counters,
                 checkpoint_reason = EXCLUDED.checkpoint_reason,
                 server_node_id    = EXCLUDED.server_node_id,
-                last_heartbeat_at = EXCLUDED.last_heartbeat_at
+                last_heartbeat_at = EXCLUDED.last_heartbeat_at,
+                state_version     = runtime.execution_states.state_version + 1
+            RETURNING state_version
+            """;
+
+    /// Incremental write. The delta row is only inserted when the guarded base-row UPDATE
+    /// matched, i.e. when the caller's cached `state_version` is still current.
+    private static final String SQL_APPEND_DELTA =
+            """
+            WITH base AS (
+                UPDATE runtime.execution_states
+                   SET current_node_id   = ?,
+                       phase             = ?::jsonb,
+                       retry_counters    = ?::jsonb,
+                       checkpoint_reason = ?,
+                       server_node_id    = ?,
+                       last_heartbeat_at = ?
+                 WHERE tenant_id = ? AND execution_id = ? AND state_version = ?
+                 RETURNING tenant_id, execution_id
+            )
+            INSERT INTO runtime.execution_state_deltas
+                (tenant_id, execution_id, seq, context_changes, removed_keys,
+                 new_steps, new_backtracks, created_at)
+            SELECT tenant_id, execution_id, ?, ?::jsonb, ?::jsonb, ?::jsonb, ?::jsonb, ?
+            FROM base
+            """;
+
+    /// Aggregates the delta log in `seq` order alongside the base row so that base and deltas
+    /// are read from one consistent snapshot.
+    private static final String DELTAS_COLUMN =
+            """
+            (SELECT jsonb_agg(
+                        jsonb_build_object(
+                            'context', d.context_changes,
+                            'removed', d.removed_keys,
+                            'steps', d.new_steps,
+                            'backtracks', d.new_backtracks)
+                        ORDER BY d.seq)
+             FROM runtime.execution_state_deltas d
+             WHERE d.tenant_id = es.tenant_id AND d.execution_id = es.execution_id) AS deltas
             """;
 
     private static final String SQL_FIND_BY_EXECUTION_ID =
             """
             SELECT workflow_id, current_node_id, context, retry_counters, history,
-                   phase, checkpoint_reason, created_at
-            FROM runtime.execution_states
-            WHERE tenant_id = ? AND execution_id = ?
-            """;
+                   phase, checkpoint_reason, created_at,
+            """
+                    + DELTAS_COLUMN
+                    + """
+                    FROM runtime.execution_states es
+                    WHERE tenant_id = ? AND execution_id = ?
+                    """;
 
     /// Only returns executions that are safely paused for human review.
     ///
@@ -82,22 +169,60 @@ public class JdbcWorkflowStateRepository implements WorkflowStateRepository {
     private static final String SQL_FIND_PAUSED =
             """
             SELECT execution_id, workflow_id, current_node_id, context, retry_counters, history,
-                   phase, checkpoint_reason, created_at
+                   phase, checkpoint_reason, created_at,
+            """
+                    + DELTAS_COLUMN
+                    + """
+                    FROM runtime.execution_states es
+                    WHERE tenant_id = ? AND current_node_id IS NOT NULL
+                          AND server_node_id IS NULL
+                          AND phase ->> 'type' = 'awaiting_post_processor'
+                    ORDER BY created_at
+                    """;
+
+    /// Scalar columns of {@link ExecutionStatusView}; the correlation id is only meaningful
+    /// while the execution awaits a decision.
+    private static final String STATUS_COLUMNS =
+            """
+            SELECT execution_id, workflow_id, current_node_id, checkpoint_reason, created_at,
+                   CASE WHEN phase ->> 'type' = 'awaiting_post_processor'
+                        THEN phase ->> 'correlationId' END AS correlation_id
             FROM runtime.execution_states
+            """;
+
+    private static final String SQL_FIND_STATUS =
+            STATUS_COLUMNS + "WHERE tenant_id = ? AND execution_id = ?";
+
+    /// Same filter as {@link #SQL_FIND_PAUSED}, in keyset order.
+    private static final String PAUSED_FILTER =
+            """
             WHERE tenant_id = ? AND current_node_id IS NOT NULL
                   AND server_node_id IS NULL
                   AND phase ->> 'type' = 'awaiting_post_processor'
-            ORDER BY created_at
             """;
 
+    private static final String SQL_FIND_PAUSED_STATUSES =
+            STATUS_COLUMNS
+                    + PAUSED_FILTER
+                    + "ORDER BY created_at, execution_id LIMIT ?";
+
+    private static final String SQL_FIND_PAUSED_STATUSES_AFTER =
+            STATUS_COLUMNS
+                    + PAUSED_FILTER
+                    + "AND (created_at, execution_id) > (?, ?) "
+                    + "ORDER BY created_at, execution_id LIMIT ?";
+
     private static final String SQL_FIND_BY_WORKFLOW_ID =
             """
             SELECT execution_id, workflow_id, current_node_id, context, retry_counters, history,
-                   phase, checkpoint_reason, created_at
-            FROM runtime.execution_states
-            WHERE tenant_id = ? AND workflow_id = ?
-            ORDER BY created_at
-            """;
+                   phase, checkpoint_reason, created_at,
+            """
+                    + DELTAS_COLUMN
+                    + """
+                    FROM runtime.execution_states es
+                    WHERE tenant_id = ? AND workflow_id = ?
+                    ORDER BY created_at
+                    """;
 
     private static final String SQL_DELETE =
             "DELETE FROM runtime.execution_states WHERE tenant_id = ? AND execution_id = ?";
@@ -107,25 +232,80 @@ public class JdbcWorkflowStateRepository implements WorkflowStateRepository {
 
     // --- Fields ---
 
-    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
-    private static final TypeReference<Map<String, Integer>> RETRY_COUNTERS_TYPE =
-            new TypeReference<>() {};
+    private static final ObjectWriter WRITER = HensuJson.mapper().writer();
+    private static final ObjectReader TREE_READER = HensuJson.readerFor(JsonNode.class);
+    private static final ObjectReader HISTORY_READER =
+            HensuJson.readerFor(ExecutionHistory.class);
+    private static final ObjectReader PHASE_READER = HensuJson.readerFor(ExecutionPhase.class);
+    private static final ObjectReader MAP_READER =
+            HensuJson.readerFor(new TypeReference<Map<String, Object>>() {});
+    private static final ObjectReader RETRY_COUNTERS_READER =
+            HensuJson.readerFor(new TypeReference<Map<String, Integer>>() {});
+    private static final ObjectReader KEYS_READER =
+            HensuJson.readerFor(new TypeReference<List<String>>() {});
+    private static final ObjectReader STEPS_READER =
+            HensuJson.readerFor(new TypeReference<List<ExecutionStep>>() {});
+    private static final ObjectReader BACKTRACKS_READER =
+            HensuJson.readerFor(new TypeReference<List<BacktrackEvent>>() {});
+
+    /// Default number of deltas appended before the next checkpoint compacts them.
+    public static final int DEFAULT_COMPACTION_INTERVAL = 20;
+
+    /// Default number of executions whose write cursor is kept.
+    static final int DEFAULT_MAX_CURSORS = 10_000;
 
     private final JdbcSupport jdbc;
-    private final ObjectMapper objectMapper;
     private final String serverNodeId;
+    private final int compactionInterval;
+
+    /// What this node last wrote per execution; the baseline for the next delta. Least
+    /// recently written first, so cursors of executions that died without a terminal
+    /// checkpoint are evicted instead of piling up. An evicted cursor costs one full write.
+    private final Map<CursorKey, WriteCursor> cursors;
+
+    /// Creates a repository backed by the given data source with the default compaction
+    /// interval.
+    ///
+    /// @param dataSource the JDBC connection pool, not null
+    /// @param serverNodeId unique identifier of this server instance, not null
+    public JdbcWorkflowStateRepository(DataSource dataSource, String serverNodeId) {
+        this(dataSource, serverNodeId, DEFAULT_COMPACTION_INTERVAL);
+    }
 
     /// Creates a repository backed by the given data source.
     ///
     /// @param dataSource the JDBC connection pool, not null
-    /// @param objectMapper Jackson mapper for JSONB serialization, not null
     /// @param serverNodeId unique identifier of this server instance, not null
+    /// @param compactionInterval deltas appended before the next checkpoint is written in
+    ///     full; `0` disables delta checkpointing, must not be negative
+    /// @throws IllegalArgumentException if `compactionInterval` is negative
     public JdbcWorkflowStateRepository(
-            DataSource dataSource, ObjectMapper objectMapper, String serverNodeId) {
+            DataSource dataSource, String serverNodeId, int compactionInterval) {
+        this(dataSource, serverNodeId, compactionInterval, DEFAULT_MAX_CURSORS);
+    }
+
+    /// Creates a repository keeping the write cursors of at most `maxCursors` executions.
+    ///
+    /// @param maxCursors executions whose last write is remembered, positive
+    JdbcWorkflowStateRepository(
+            DataSource dataSource, String serverNodeId, int compactionInterval, int maxCursors) {
         Objects.requireNonNull(dataSource, "dataSource must not be null");
+        if (compactionInterval < 0) {
+            throw new IllegalArgumentException(
+                    "compactionInterval must not be negative: " + compactionInterval);
+        }
         this.jdbc = new JdbcSupport(dataSource);
-        this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper must not be null");
         this.serverNodeId = Objects.requireNonNull(serverNodeId, "serverNodeId must not be null");
+        this.compactionInterval = compactionInterval;
+        this.cursors =
+                Collections.synchronizedMap(
+                        new LinkedHashMap<>(16, 0.75f, true) {
+                            @Override
+                            protected boolean removeEldestEntry(
+                                    Map.Entry<CursorKey, WriteCursor> eldest) {
+                                return size() > maxCursors;
+                            }
+                        });
     }
 
     @Override
@@ -133,29 +313,119 @@ public class JdbcWorkflowStateRepository implements WorkflowStateRepository {
         Objects.requireNonNull(tenantId, "tenantId must not be null");
         Objects.requireNonNull(snapshot, "snapshot must not be null");
 
-        // Active checkpoints hold the lease; terminal states release it.
+        CursorKey key = new CursorKey(tenantId, snapshot.executionId());
+
+        // Active checkpoints and queued executions hold the lease; terminal states release it.
         boolean active = "checkpoint".equals(snapshot.checkpointReason());
-        String leaseNodeId = active ? serverNodeId : null;
-        OffsetDateTime heartbeatAt = active ? OffsetDateTime.now(ZoneOffset.UTC) : null;
+        if (!active) {
+            cursors.remove(key);
+            saveFull(tenantId, snapshot, "queued".equals(snapshot.checkpointReason()));
+            return;
+        }
 
-        jdbc.update(
-                SQL_SAVE,
-                ps -> {
-                    ps.setString(1, tenantId);
-                    ps.setString(2, snapshot.executionId());
-                    ps.setString(3, snapshot.workflowId());
-                    ps.setString(4, snapshot.currentNodeId());
-                    ps.setString(5, writeJson(snapshot.context()));
-                    ps.setString(6, writeJson(snapshot.history()));
-                    ps.setString(7, writeJson(snapshot.phase()));
-                    ps.setString(8, writeJson(snapshot.retryCounters()));
-                    ps.setString(9, snapshot.checkpointReason());
-                    ps.setObject(
-                            10, OffsetDateTime.ofInstant(snapshot.createdAt(), ZoneOffset.UTC));
-                    ps.setString(11, leaseNodeId);
-                    ps.setObject(12, heartbeatAt);
-                },
-                "Failed to save execution state: " + snapshot.executionId());
+        WriteCursor cursor = cursors.get(key);
+        if (cursor != null && cursor.canAppend(snapshot, compactionInterval)) {
+            ContextDiff diff = cursor.diff(snapshot.context());
+            if (appendDelta(tenantId, snapshot, cursor, diff)) {
+                cursors.put(key, cursor.advance(snapshot, diff));
+                return;
+            }
+            // The base row was rewritten or removed elsewhere; the cursor is stale.
+        }
+
+        long version = saveFull(tenantId, snapshot, true);
+        cursors.put(key, WriteCursor.of(snapshot, version));
+    }
+
+    /// Writes several active checkpoints in one transaction.
+    ///
+    /// Checkpoints that can be written as deltas go out as one JDBC batch; any whose
+    /// `state_version` guard misses, and those needing a full write, follow on the same
+    /// connection. Write cursors only advance once the transaction has committed, so a
+    /// failed batch leaves this repository exactly as it was and can be retried.
+    ///
+    /// @param checkpoints at most one checkpoint per execution, each with
+    ///     `checkpoint_reason = "checkpoint"`; not null
+    /// @throws IllegalArgumentException if a checkpoint has another reason
+    /// @throws PersistenceException if the batch fails; nothing is written
+    public void saveCheckpoints(List<Checkpoint> checkpoints) {
+        Objects.requireNonNull(checkpoints, "checkpoints must not be null");
+        for (Checkpoint checkpoint : checkpoints) {
+            if (!"checkpoint".equals(checkpoint.snapshot().checkpointReason())) {
+                throw new IllegalArgumentException(
+                        "Only active checkpoints can be batched: "
+                                + checkpoint.snapshot().checkpointReason());
+            }
+        }
+        if (checkpoints.isEmpty()) return;
+
+        Map<CursorKey, WriteCursor> written =
+                jdbc.inTransaction(
+                        conn -> writeBatch(conn, checkpoints),
+                        "Failed to save checkpoint batch of " + checkpoints.size());
+        cursors.putAll(written);
+    }
+
+    private Map<CursorKey, WriteCursor> writeBatch(Connection conn, List<Checkpoint> checkpoints)
+            throws SQLException {
+        Map<CursorKey, WriteCursor> written = new HashMap<>();
+        List<Checkpoint> full = new ArrayList<>();
+        List<Checkpoint> deltas = new ArrayList<>();
+        List<WriteCursor> deltaCursors = new ArrayList<>();
+        List<ContextDiff> diffs = new ArrayList<>();
+        for (Checkpoint checkpoint : checkpoints) {
+            WriteCursor cursor = cursors.get(checkpoint.key());
+            if (cursor != null && cursor.canAppend(checkpoint.snapshot(), compactionInterval)) {
+                deltas.add(checkpoint);
+                deltaCursors.add(cursor);
+                diffs.add(cursor.diff(checkpoint.snapshot().context()));
+            } else {
+                full.add(checkpoint);
+            }
+        }
+
+        if (!deltas.isEmpty()) {
+            try (PreparedStatement ps = conn.prepareStatement(SQL_APPEND_DELTA)) {
+                for (int i = 0; i < deltas.size(); i++) {
+                    Checkpoint checkpoint = deltas.get(i);
+                    WriteCursor cursor = deltaCursors.get(i);
+                    bindDelta(
+                            ps, checkpoint.tenantId(), checkpoint.snapshot(), cursor, diffs.get(i));
+                    ps.addBatch();
+                }
+                int[] counts = ps.executeBatch();
+                for (int i = 0; i < counts.length; i++) {
+                    Checkpoint checkpoint = deltas.get(i);
+                    if (counts[i] == 0) {
+                        // The base row was rewritten or removed elsewhere; the cursor is stale.
+                        full.add(checkpoint);
+                    } else {
+                        written.put(
+                                checkpoint.key(),
+                                deltaCursors.get(i).advance(checkpoint.snapshot(), diffs.get(i)));
+                    }
+                }
+            }
+        }
+
+        if (!full.isEmpty()) {
+            try (PreparedStatement ps = conn.prepareStatement(SQL_SAVE)) {
+                for (Checkpoint checkpoint : full) {
+                    bindFull(ps, checkpoint.tenantId(), checkpoint.snapshot(), true);
+                    try (ResultSet rs = ps.executeQuery()) {
+                        if (!rs.next()) {
+                            throw new SQLException(
+                                    "No state_version returned for "
+                                            + checkpoint.snapshot().executionId());
+                        }
+                        written.put(
+                                checkpoint.key(),
+                                WriteCursor.of(checkpoint.snapshot(), rs.getLong("state_version")));
+                    }
+                }
+            }
+        }
+        return written;
     }
 
     @Override
@@ -184,6 +454,51 @@ public class JdbcWorkflowStateRepository implements WorkflowStateRepository {
                 "Failed to query paused executions for tenant: " + tenantId);
     }
 
+    @Override
+    public Optional<ExecutionStatusView> findStatus(String tenantId, String executionId) {
+        Objects.requireNonNull(tenantId, "tenantId must not be null");
+        Objects.requireNonNull(executionId, "executionId must not be null");
+
+        return jdbc.queryOne(
+                SQL_FIND_STATUS,
+                ps -> {
+                    ps.setString(1, tenantId);
+                    ps.setString(2, executionId);
+                },
+                JdbcWorkflowStateRepository::mapStatusView,
+                "Failed to find execution status: " + executionId);
+    }
+
+    @Override
+    public List<ExecutionStatusView> findPausedStatuses(
+            String tenantId, ExecutionCursor after, int limit) {
+        Objects.requireNonNull(tenantId, "tenantId must not be null");
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive: " + limit);
+        }
+
+        if (after == null) {
+            return jdbc.queryList(
+                    SQL_FIND_PAUSED_STATUSES,
+                    ps -> {
+                        ps.setString(1, tenantId);
+                        ps.setInt(2, limit);
+                    },
+                    JdbcWorkflowStateRepository::mapStatusView,
+                    "Failed to query paused executions for tenant: " + tenantId);
+        }
+        return jdbc.queryList(
+                SQL_FIND_PAUSED_STATUSES_AFTER,
+                ps -> {
+                    ps.setString(1, tenantId);
+                    ps.setObject(2, OffsetDateTime.ofInstant(after.createdAt(), ZoneOffset.UTC));
+                    ps.setString(3, after.executionId());
+                    ps.setInt(4, limit);
+                },
+                JdbcWorkflowStateRepository::mapStatusView,
+                "Failed to query paused executions for tenant: " + tenantId);
+    }
+
     @Override
     public List<HensuSnapshot> findByWorkflowId(String tenantId, String workflowId) {
         Objects.requireNonNull(tenantId, "tenantId must not be null");
@@ -204,6 +519,8 @@ public class JdbcWorkflowStateRepository implements WorkflowStateRepository {
         Objects.requireNonNull(tenantId, "tenantId must not be null");
         Objects.requireNonNull(executionId, "executionId must not be null");
 
+        cursors.remove(new CursorKey(tenantId, executionId));
+
         return jdbc.update(
                         SQL_DELETE,
                         ps -> {
@@ -218,6 +535,10 @@ public class JdbcWorkflowStateRepository implements WorkflowStateRepository {
     public int deleteAllForTenant(String tenantId) {
         Objects.requireNonNull(tenantId, "tenantId must not be null");
 
+        synchronized (cursors) {
+            cursors.keySet().removeIf(k -> k.tenantId().equals(tenantId));
+        }
+
         return jdbc.update(
                 SQL_DELETE_ALL,
                 ps -> ps.setString(1, tenantId),
@@ -226,12 +547,90 @@ public class JdbcWorkflowStateRepository implements WorkflowStateRepository {
 
     // --- Internal helpers ---
 
+    /// Upserts the complete base row and purges the execution's delta log.
+    ///
+    /// @return the new `state_version` of the base row
+    private long saveFull(String tenantId, HensuSnapshot snapshot, boolean active) {
+        return jdbc.queryOne(
+                        SQL_SAVE,
+                        ps -> bindFull(ps, tenantId, snapshot, active),
+                        rs -> rs.getLong("state_version"),
+                        "Failed to save execution state: " + snapshot.executionId())
+                .orElseThrow(
+                        () ->
+                                new PersistenceException(
+                                        "Failed to save execution state: "
+                                                + snapshot.executionId(),
+                                        null));
+    }
+
+    /// Appends one delta row and updates the base row's scalar columns.
+    ///
+    /// @return true if the delta was written, false if the cached `state_version` is stale
+    private boolean appendDelta(
+            String tenantId, HensuSnapshot snapshot, WriteCursor cursor, ContextDiff diff) {
+        return jdbc.update(
+                        SQL_APPEND_DELTA,
+                        ps -> bindDelta(ps, tenantId, snapshot, cursor, diff),
+                        "Failed to append execution state delta: " + snapshot.executionId())
+                > 0;
+    }
+
+    private void bindFull(
+            PreparedStatement ps, String tenantId, HensuSnapshot snapshot, boolean active)
+            throws SQLException {
+        ps.setString(1, tenantId);
+        ps.setString(2, snapshot.executionId());
+        ps.setString(3, tenantId);
+        ps.setString(4, snapshot.executionId());
+        ps.setString(5, snapshot.workflowId());
+        ps.setString(6, snapshot.currentNodeId());
+        ps.setString(7, writeJson(snapshot.context()));
+        ps.setString(8, writeJson(snapshot.history()));
+        ps.setString(9, writeJson(snapshot.phase()));
+        ps.setString(10, writeJson(snapshot.retryCounters()));
+        ps.setString(11, snapshot.checkpointReason());
+        ps.setObject(12, OffsetDateTime.ofInstant(snapshot.createdAt(), ZoneOffset.UTC));
+        ps.setString(13, active ? serverNodeId : null);
+        ps.setObject(14, active ? OffsetDateTime.now(ZoneOffset.UTC) : null);
+    }
+
+    private void bindDelta(
+            PreparedStatement ps,
+            String tenantId,
+            HensuSnapshot snapshot,
+            WriteCursor cursor,
+            ContextDiff diff)
+            throws SQLException {
+        List<ExecutionStep> steps = snapshot.history().getSteps();
+        List<BacktrackEvent> backtracks = snapshot.history().getBacktracks();
+
+        ps.setString(1, snapshot.currentNodeId());
+        ps.setString(2, writeJson(snapshot.phase()));
+        ps.setString(3, writeJson(snapshot.retryCounters()));
+        ps.setString(4, snapshot.checkpointReason());
+        ps.setString(5, serverNodeId);
+        ps.setObject(6, OffsetDateTime.now(ZoneOffset.UTC));
+        ps.setString(7, tenantId);
+        ps.setString(8, snapshot.executionId());
+        ps.setLong(9, cursor.version());
+        ps.setInt(10, cursor.deltas() + 1);
+        ps.setString(11, writeJson(diff.changes()));
+        ps.setString(12, writeJson(diff.removed()));
+        ps.setString(13, writeJson(steps.subList(cursor.steps(), steps.size())));
+        ps.setString(
+                14, writeJson(backtracks.subList(cursor.backtracks(), backtracks.size())));
+        ps.setObject(15, OffsetDateTime.ofInstant(snapshot.createdAt(), ZoneOffset.UTC));
+    }
+
     private HensuSnapshot mapSnapshot(String executionId, ResultSet rs) throws SQLException {
-        Map<String, Object> context = readJson(rs.getString("context"), MAP_TYPE);
+        Map<String, Object> storedContext = readJson(rs.getString("context"), MAP_READER);
+        Map<String, Object> context = new HashMap<>(storedContext);
         Map<String, Integer> retryCounters =
-                readJson(rs.getString("retry_counters"), RETRY_COUNTERS_TYPE);
-        ExecutionHistory history = readJson(rs.getString("history"), ExecutionHistory.class);
-        ExecutionPhase phase = readJson(rs.getString("phase"), ExecutionPhase.class);
+                readJson(rs.getString("retry_counters"), RETRY_COUNTERS_READER);
+        ExecutionHistory history = readJson(rs.getString("history"), HISTORY_READER);
+        applyDeltas(rs.getString("deltas"), context, history);
+        ExecutionPhase phase = readJson(rs.getString("phase"), PHASE_READER);
         OffsetDateTime createdOdt = rs.getObject("created_at", OffsetDateTime.class);
         Instant createdAt = createdOdt != null ? createdOdt.toInstant() : Instant.now();
 
@@ -243,7 +642,7 @@ public class JdbcWorkflowStateRepository implements WorkflowStateRepository {
                 rs.getString("workflow_id"),
                 executionId,
                 rs.getString("current_node_id"),
-                new HashMap<>(context),
+                context,
                 retryCounters,
                 history,
                 phase,
@@ -251,27 +650,155 @@ public class JdbcWorkflowStateRepository implements WorkflowStateRepository {
                 rs.getString("checkpoint_reason"));
     }
 
-    private String writeJson(Object value) {
+    private static ExecutionStatusView mapStatusView(ResultSet rs) throws SQLException {
+        return new ExecutionStatusView(
+                rs.getString("execution_id"),
+                rs.getString("workflow_id"),
+                rs.getString("current_node_id"),
+                rs.getString("checkpoint_reason"),
+                rs.getString("correlation_id"),
+                rs.getObject("created_at", OffsetDateTime.class).toInstant());
+    }
+
+    /// Replays the aggregated delta log onto the base context and history, in `seq` order.
+    private void applyDeltas(
+            String deltasJson, Map<String, Object> context, ExecutionHistory history) {
+        if (deltasJson == null) {
+            return;
+        }
+        JsonNode deltas = readJson(deltasJson, TREE_READER);
+        for (JsonNode delta : deltas) {
+            List<String> removed = readTree(delta.get("removed"), KEYS_READER);
+            Map<String, Object> changes = readTree(delta.get("context"), MAP_READER);
+            List<ExecutionStep> steps = readTree(delta.get("steps"), STEPS_READER);
+            List<BacktrackEvent> backtracks = readTree(delta.get("backtracks"), BACKTRACKS_READER);
+            removed.forEach(context::remove);
+            context.putAll(changes);
+            steps.forEach(history::addStep);
+            backtracks.forEach(history::addBacktrack);
+        }
+    }
+
+    private static <T> T readTree(JsonNode node, ObjectReader reader) {
         try {
-            return objectMapper.writeValueAsString(value);
-        } catch (JsonProcessingException e) {
-            throw new PersistenceException("Failed to serialize to JSON", e);
+            return reader.readValue(node);
+        } catch (IOException e) {
+            throw new PersistenceException("Failed to deserialize from JSON", e);
         }
     }
 
-    private <T> T readJson(String json, Class<T> type) {
+    private static String writeJson(Object value) {
         try {
-            return objectMapper.readValue(json, type);
+            return WRITER.writeValueAsString(value);
         } catch (JsonProcessingException e) {
-            throw new PersistenceException("Failed to deserialize from JSON", e);
+            throw new PersistenceException("Failed to serialize to JSON", e);
         }
     }
 
-    private <T> T readJson(String json, TypeReference<T> type) {
+    private static <T> T readJson(String json, ObjectReader reader) {
         try {
-            return objectMapper.readValue(json, type);
+            return reader.readValue(json);
         } catch (JsonProcessingException e) {
             throw new PersistenceException("Failed to deserialize from JSON", e);
         }
     }
+
+    /// One active checkpoint of a batch written by {@link #saveCheckpoints(List)}.
+    ///
+    /// @param tenantId the tenant owning the execution, not null
+    /// @param snapshot the checkpoint, not null
+    public record Checkpoint(String tenantId, HensuSnapshot snapshot) {
+
+        public Checkpoint {
+            Objects.requireNonNull(tenantId, "tenantId must not be null");
+            Objects.requireNonNull(snapshot, "snapshot must not be null");
+        }
+
+        private CursorKey key() {
+            return new CursorKey(tenantId, snapshot.executionId());
+        }
+    }
+
+    /// Identifies an execution across tenants.
+    private record CursorKey(String tenantId, String executionId) {}
+
+    /// What this node last persisted for one execution.
+    ///
+    /// Context values are not kept by reference: a map or list in the context may be mutated
+    /// in place after the write and would then compare equal to itself. Immutable scalars are
+    /// kept as they are and maps, lists and sets as copies, compared structurally; only
+    /// values of any other type are kept as their serialized JSON.
+    ///
+    /// @param version `state_version` of the base row after the last full write
+    /// @param deltas deltas appended since that full write
+    /// @param context fingerprint of each context value as of the last write, baseline for
+    ///     the next delta
+    /// @param steps history step count as of the last write
+    /// @param backtracks history backtrack count as of the last write
+    private record WriteCursor(
+            long version, int deltas, Map<String, Object> context, int steps, int backtracks) {
+
+        static WriteCursor of(HensuSnapshot snapshot, long version) {
+            Map<String, Object> fingerprints = HashMap.newHashMap(snapshot.context().size());
+            snapshot.context().forEach((k, v) -> fingerprints.put(k, fingerprint(v)));
+            return new WriteCursor(
+                    version,
+                    0,
+                    fingerprints,
+                    snapshot.history().getSteps().size(),
+                    snapshot.history().getBacktracks().size());
+        }
+
+        /// Compares `context` against the context as of the last write.
+        ContextDiff diff(Map<String, Object> context) {
+            Map<String, Object> changes = new HashMap<>();
+            Map<String, Object> fingerprints = HashMap.newHashMap(context.size());
+            context.forEach(
+                    (k, v) -> {
+                        Object fingerprint = fingerprint(v);
+                        fingerprints.put(k, fingerprint);
+                        if (!this.context.containsKey(k)
+                                || !Objects.equals(this.context.get(k), fingerprint)) {
+                            changes.put(k, v);
+                        }
+                    });
+            List<String> removed =
+                    this.context.keySet().stream().filter(k -> !context.containsKey(k)).toList();
+            return new ContextDiff(changes, removed, fingerprints);
+        }
+
+        /// Returns whether `snapshot` can be written as a delta on top of this cursor.
+        ///
+        /// History is append-only within one execution; a shorter history means the state was
+        /// rebuilt from somewhere else and the cursor no longer describes it.
+        boolean canAppend(HensuSnapshot snapshot, int compactionInterval) {
+            return deltas < compactionInterval
+                    && snapshot.history().getSteps().size() >= steps
+                    && snapshot.history().getBacktracks().size() >= backtracks;
+        }
+
+        WriteCursor advance(HensuSnapshot snapshot, ContextDiff diff) {
+            return new WriteCursor(
+                    version,
+                    deltas + 1,
+                    diff.fingerprints(),
+                    snapshot.history().getSteps().size(),
+                    snapshot.history().getBacktracks().size());
+        }
+
+        private static Object fingerprint(Object value) {
+            return ContextValues.copy(value, leaf -> new SerializedValue(writeJson(leaf)));
+        }
+    }
+
+    /// Serialized form of a mutable context value, distinct from a String value.
+    private record SerializedValue(String json) {}
+
+    /// Context changes since the last write.
+    ///
+    /// @param changes keys added or changed, with their current values
+    /// @param removed keys removed
+    /// @param fingerprints fingerprint of every current value, baseline for the next delta
+    private record ContextDiff(
+            Map<String, Object> changes, List<String> removed, Map<String, Object> fingerprints) {}
 }
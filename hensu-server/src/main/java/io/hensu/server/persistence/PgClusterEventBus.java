@@ -0,0 +1,439 @@
+package io.hensu.server.persistence;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.hensu.core.util.LogSanitizer;
+import io.hensu.serialization.HensuJson;
+import io.hensu.server.streaming.ClusterEvent;
+import io.hensu.server.streaming.ClusterEventBus;
+import io.hensu.server.streaming.ExecutionEvent;
+import io.hensu.server.streaming.ExecutionEvent.AgentOutputDelta;
+import io.hensu.server.streaming.ExecutionEvent.ExecutionCompleted;
+import io.hensu.server.streaming.ExecutionEvent.ExecutionError;
+import io.hensu.server.streaming.ExecutionEvent.ExecutionPaused;
+import io.hensu.server.streaming.ExecutionEvent.ExecutionStarted;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import org.eclipse.microprofile.config.Config;
+import org.jboss.logging.Logger;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+/// Cluster execution event bus over PostgreSQL `LISTEN`/`NOTIFY`.
+///
+/// Lets an SSE client connected to one node follow an execution running on another.
+/// Each node sends its broadcaster's events on the `hensu_execution_events` channel and
+/// holds one dedicated connection listening on it; received events are handed to the local
+/// {@link io.hensu.server.streaming.ExecutionEventBroadcaster}.
+///
+/// ### Batching
+/// {@link #publish} only enqueues. A single publisher thread drains whatever has queued
+/// since its last round trip and packs it into as few notifications as fit under
+/// PostgreSQL's 8000-byte payload limit, so a burst of events costs a handful of
+/// `pg_notify` calls rather than one per event. An event that alone exceeds the limit is
+/// sent with its `output` emptied (paused and completed events) or its message cut
+/// (error events); remote subscribers fetch the full result over REST. If it still does
+/// not fit, it is dropped with a warning.
+///
+/// ### Payload
+/// `{"o":"<origin>","m":[<message>, ...]}`, where `origin` identifies the sending node so
+/// that it can skip its own notifications, and each message carries the execution id
+/// (`x`), tenant (`t`), workflow (`w`), sequence (`s`) and event (`e`, absent for a
+/// completion).
+///
+/// ### Delivery gaps
+/// Notifications sent while a listener connection is down, and events dropped because the
+/// outbound queue was full, are lost. The receiving broadcaster logs the resulting
+/// sequence gap; clients following the execution on the origin node are unaffected.
+///
+/// @implNote Thread-safe. Inactive (publish is a no-op, no threads) when the datasource is
+/// disabled, e.g. in the {@code inmem} profile, or when `hensu.events.cluster.enabled` is
+/// `false`. Publisher and listener each run on one virtual thread.
+///
+/// @see ClusterEventBus for the delivery contract
+/// @see WorkflowChangeChannel for the definition change feed on the same mechanism
+@ApplicationScoped
+public class PgClusterEventBus implements ClusterEventBus {
+
+    private static final Logger LOG = Logger.getLogger(PgClusterEventBus.class);
+
+    static final String CHANNEL = "hensu_execution_events";
+
+    static final String SQL_NOTIFY = "SELECT pg_notify('" + CHANNEL + "', ?)";
+    static final String SQL_LISTEN = "LISTEN " + CHANNEL;
+    static final String SQL_UNLISTEN = "UNLISTEN " + CHANNEL;
+
+    /// Largest payload sent, below PostgreSQL's 8000-byte limit.
+    static final int MAX_PAYLOAD_BYTES = 7_900;
+
+    private static final int OUTBOUND_CAPACITY = 10_000;
+    private static final int MAX_ERROR_MESSAGE_CHARS = 1_024;
+    private static final int POLL_TIMEOUT_MS = 5_000;
+    private static final Duration RECONNECT_DELAY = Duration.ofSeconds(5);
+
+    private static final ObjectMapper MAPPER = HensuJson.mapper();
+    private static final ObjectWriter WRITER = MAPPER.writer();
+    private static final ObjectReader FRAME_READER = HensuJson.readerFor(Frame.class);
+
+    private static final Map<String, Class<? extends ExecutionEvent>> EVENT_TYPES =
+            Map.of(
+                    "execution.started", ExecutionStarted.class,
+                    "execution.paused", ExecutionPaused.class,
+                    "execution.completed", ExecutionCompleted.class,
+                    "execution.error", ExecutionError.class,
+                    "agent.output.delta", AgentOutputDelta.class);
+
+    @Inject Config config;
+    @Inject Instance<DataSource> dataSourceInstance;
+
+    private final String origin = UUID.randomUUID().toString();
+    private final BlockingQueue<ClusterEvent> outbound =
+            new LinkedBlockingQueue<>(OUTBOUND_CAPACITY);
+
+    private DataSource dataSource;
+    private JdbcSupport jdbc;
+    private boolean active;
+    private volatile boolean running;
+    private Thread publisherThread;
+    private Thread listenerThread;
+
+    /// CDI no-arg constructor required by ArC for field injection.
+    public PgClusterEventBus() {}
+
+    /// Package-private constructor for tests — bypasses CDI lifecycle.
+    ///
+    /// @param dataSource the PostgreSQL datasource, not null
+    PgClusterEventBus(DataSource dataSource) {
+        this.dataSource = Objects.requireNonNull(dataSource, "dataSource must not be null");
+        this.jdbc = new JdbcSupport(dataSource);
+        this.active = true;
+    }
+
+    @PostConstruct
+    void init() {
+        boolean enabled =
+                config.getOptionalValue("hensu.events.cluster.enabled", Boolean.class)
+                        .orElse(true);
+        boolean dsActive =
+                config.getOptionalValue("quarkus.datasource.active", Boolean.class).orElse(true);
+        active = enabled && dsActive && dataSourceInstance.isResolvable();
+        if (active) {
+            dataSource = dataSourceInstance.get();
+            jdbc = new JdbcSupport(dataSource);
+        }
+        LOG.infov("Cluster event bus initialized: active={0}", active);
+    }
+
+    /// Queues a message for the other nodes.
+    ///
+    /// No-op when inactive. Never blocks; when the outbound queue is full the message is
+    /// dropped with a warning.
+    ///
+    /// @param event the message, not null
+    @Override
+    public void publish(ClusterEvent event) {
+        Objects.requireNonNull(event, "event must not be null");
+        if (!active) return;
+        if (!outbound.offer(event)) {
+            LOG.warnv(
+                    "Cluster event queue full, dropping event {0} of execution {1}",
+                    event.sequence(),
+                    LogSanitizer.sanitize(event.executionId()));
+        }
+    }
+
+    /// Starts the publisher thread and the listener thread that feeds `sink`.
+    ///
+    /// No-op when inactive. Must be called at most once.
+    ///
+    /// @param sink receiver of messages from other nodes, not null
+    /// @throws IllegalStateException if the bus is already started
+    @Override
+    public synchronized void start(Consumer<ClusterEvent> sink) {
+        Objects.requireNonNull(sink, "sink must not be null");
+        if (!active) return;
+        if (listenerThread != null) {
+            throw new IllegalStateException("Cluster event bus already started");
+        }
+        running = true;
+        publisherThread = Thread.ofVirtual().name("cluster-event-publisher").start(this::drain);
+        listenerThread =
+                Thread.ofVirtual().name("cluster-event-listener").start(() -> listen(sink));
+    }
+
+    /// Stops both threads and releases the listener connection.
+    @PreDestroy
+    synchronized void shutdown() {
+        running = false;
+        if (publisherThread != null) {
+            publisherThread.interrupt();
+            publisherThread = null;
+        }
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+            listenerThread = null;
+        }
+    }
+
+    private void drain() {
+        List<ClusterEvent> batch = new ArrayList<>();
+        while (running) {
+            try {
+                ClusterEvent first = outbound.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                outbound.drainTo(batch);
+                for (String payload : pack(batch)) {
+                    notify(payload);
+                }
+            } catch (InterruptedException _) {
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void notify(String payload) {
+        try {
+            jdbc.queryOne(
+                    SQL_NOTIFY,
+                    ps -> ps.setString(1, payload),
+                    _ -> true,
+                    "Failed to publish cluster execution events");
+        } catch (PersistenceException e) {
+            LOG.warnv(e, "Dropping {0} bytes of cluster execution events", payload.length());
+        }
+    }
+
+    /// Packs messages into as few payloads as fit under {@link #MAX_PAYLOAD_BYTES}.
+    ///
+    /// @param events messages in publish order, not null
+    /// @return payloads in publish order, never null
+    List<String> pack(List<ClusterEvent> events) {
+        String prefix = "{\"o\":\"" + origin + "\",\"m\":[";
+        String suffix = "]}";
+        int budget = MAX_PAYLOAD_BYTES - utf8Length(prefix) - utf8Length(suffix);
+
+        List<String> payloads = new ArrayList<>();
+        StringBuilder current = new StringBuilder(prefix);
+        int used = 0;
+        for (ClusterEvent event : events) {
+            String message = encode(event, budget);
+            if (message == null) continue;
+            int size = utf8Length(message);
+            if (used > 0 && used + 1 + size > budget) {
+                payloads.add(current.append(suffix).toString());
+                current = new StringBuilder(prefix);
+                used = 0;
+            }
+            if (used > 0) {
+                current.append(',');
+                used++;
+            }
+            current.append(message);
+            used += size;
+        }
+        if (used > 0) {
+            payloads.add(current.append(suffix).toString());
+        }
+        return payloads;
+    }
+
+    private static String encode(ClusterEvent event, int budget) {
+        try {
+            String message = WRITER.writeValueAsString(Message.from(event, event.event()));
+            if (utf8Length(message) <= budget) return message;
+
+            message = WRITER.writeValueAsString(Message.from(event, trimmed(event.event())));
+            if (utf8Length(message) <= budget) return message;
+            LOG.warnv(
+                    "Cluster event {0} of execution {1} exceeds the NOTIFY limit, dropping",
+                    event.sequence(),
+                    LogSanitizer.sanitize(event.executionId()));
+        } catch (JsonProcessingException e) {
+            LOG.warnv(
+                    e,
+                    "Failed to encode cluster event {0} of execution {1}",
+                    event.sequence(),
+                    LogSanitizer.sanitize(event.executionId()));
+        }
+        return null;
+    }
+
+    private static ExecutionEvent trimmed(ExecutionEvent event) {
+        return switch (event) {
+            case ExecutionPaused p ->
+                    new ExecutionPaused(
+                            p.executionId(),
+                            p.workflowId(),
+                            p.nodeId(),
+                            p.correlationId(),
+                            p.reason(),
+                            Map.of(),
+                            p.timestamp());
+            case ExecutionCompleted c ->
+                    new ExecutionCompleted(
+                            c.executionId(),
+                            c.workflowId(),
+                            c.success(),
+                            c.finalNodeId(),
+                            Map.of(),
+                            c.timestamp());
+            case ExecutionError e when e.message() != null
+                            && e.message().length() > MAX_ERROR_MESSAGE_CHARS ->
+                    new ExecutionError(
+                            e.executionId(),
+                            e.errorType(),
+                            e.message().substring(0, MAX_ERROR_MESSAGE_CHARS),
+                            e.nodeId(),
+                            e.timestamp());
+            case null, default -> event;
+        };
+    }
+
+    private void listen(Consumer<ClusterEvent> sink) {
+        while (running) {
+            try (Connection conn = dataSource.getConnection()) {
+                try (var st = conn.createStatement()) {
+                    st.execute(SQL_LISTEN);
+                }
+                LOG.debug("Listening for cluster execution events");
+
+                PGConnection pg = conn.unwrap(PGConnection.class);
+                try {
+                    while (running) {
+                        PGNotification[] notifications = pg.getNotifications(POLL_TIMEOUT_MS);
+                        if (notifications == null) continue;
+                        for (PGNotification notification : notifications) {
+                            deliver(sink, notification.getParameter());
+                        }
+                    }
+                } finally {
+                    try (var st = conn.createStatement()) {
+                        st.execute(SQL_UNLISTEN);
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) return;
+                LOG.warnv(e, "Cluster event listener lost its connection, reconnecting");
+                try {
+                    Thread.sleep(RECONNECT_DELAY);
+                } catch (InterruptedException _) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /// Decodes one payload and hands its messages to `sink`, unless this node sent it.
+    ///
+    /// @param sink receiver of remote messages, not null
+    /// @param payload the notification payload, not null
+    void deliver(Consumer<ClusterEvent> sink, String payload) {
+        Frame frame;
+        try {
+            frame = FRAME_READER.readValue(payload);
+        } catch (JsonProcessingException e) {
+            LOG.warnv(
+                    "Ignoring malformed cluster event payload: {0}",
+                    LogSanitizer.sanitize(payload));
+            return;
+        }
+        if (origin.equals(frame.origin()) || frame.messages() == null) return;
+        for (Message message : frame.messages()) {
+            ClusterEvent event = message.decode();
+            if (event != null) {
+                sink.accept(event);
+            }
+        }
+    }
+
+    private static int utf8Length(String s) {
+        return s.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    /// One notification payload.
+    ///
+    /// @param origin id of the sending node
+    /// @param messages the messages, in publish order
+    record Frame(@JsonProperty("o") String origin, @JsonProperty("m") List<Message> messages) {}
+
+    /// One execution event or completion on the wire.
+    ///
+    /// Short property names keep more events per notification.
+    ///
+    /// @param executionId the execution
+    /// @param tenantId the owning tenant, absent if unregistered
+    /// @param workflowId the execution's workflow, absent if unregistered
+    /// @param sequence the event's sequence; `0` for a completion
+    /// @param event the serialized event including its `type`; absent for a completion
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Message(
+            @JsonProperty("x") String executionId,
+            @JsonProperty("t") String tenantId,
+            @JsonProperty("w") String workflowId,
+            @JsonProperty("s") long sequence,
+            @JsonProperty("e") JsonNode event) {
+
+        static Message from(ClusterEvent source, ExecutionEvent event) {
+            return new Message(
+                    source.executionId(),
+                    source.tenantId(),
+                    source.workflowId(),
+                    source.sequence(),
+                    event != null ? MAPPER.valueToTree(event) : null);
+        }
+
+        ClusterEvent decode() {
+            if (executionId == null) return null;
+            if (event == null) {
+                return ClusterEvent.completion(executionId);
+            }
+            Class<? extends ExecutionEvent> type = EVENT_TYPES.get(event.path("type").asText());
+            if (type == null || sequence <= 0) {
+                LOG.warnv(
+                        "Ignoring unknown cluster event {0} of execution {1}",
+                        LogSanitizer.sanitize(event.path("type").asText()),
+                        LogSanitizer.sanitize(executionId));
+                return null;
+            }
+            try {
+                return new ClusterEvent(
+                        executionId,
+                        tenantId,
+                        workflowId,
+                        sequence,
+                        MAPPER.treeToValue(event, type));
+            } catch (JsonProcessingException | IllegalArgumentException e) {
+                LOG.warnv(
+                        e,
+                        "Ignoring undecodable cluster event of execution {0}",
+                        LogSanitizer.sanitize(executionId));
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package io.hensu.server.persistence;
+
+import io.hensu.core.agent.cache.ResponseCache;
+import io.hensu.server.tenant.TenantContext;
+import io.hensu.server.tenant.TenantContext.TenantInfo;
+import java.util.Objects;
+import java.util.Optional;
+
+/// Confines a {@link ResponseCache} to the tenant bound in {@link TenantContext}.
+///
+/// The engine derives cache keys from the call alone, so two tenants sending the same
+/// prompt would share an entry. This decorator prefixes every key with the current
+/// tenant id before it reaches the delegate, giving each tenant its own key space in every
+/// tier. Calls made without a bound tenant bypass the cache entirely.
+///
+/// @implNote Thread-safe if the delegate is. The tenant is read from a scoped value, which
+/// executions bind for their whole run, parallel branches included.
+public final class TenantScopedResponseCache implements ResponseCache {
+
+    private final ResponseCache delegate;
+
+    /// Creates a tenant-scoped view of `delegate`.
+    ///
+    /// @param delegate the shared cache, not null
+    public TenantScopedResponseCache(ResponseCache delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+    }
+
+    @Override
+    public Optional<Entry> get(String key) {
+        String scoped = scoped(key);
+        return scoped != null ? delegate.get(scoped) : Optional.empty();
+    }
+
+    @Override
+    public void put(String key, Entry entry) {
+        String scoped = scoped(key);
+        if (scoped != null) {
+            delegate.put(scoped, entry);
+        }
+    }
+
+    private static String scoped(String key) {
+        Objects.requireNonNull(key, "key must not be null");
+        TenantInfo tenant = TenantContext.currentOrNull();
+        return tenant != null ? tenant.tenantId() + ":" + key : null;
+    }
+}
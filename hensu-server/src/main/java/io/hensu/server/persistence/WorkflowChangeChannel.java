@@ -0,0 +1,185 @@
+package io.hensu.server.persistence;
+
+import io.hensu.core.util.LogSanitizer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Objects;
+import javax.sql.DataSource;
+import org.eclipse.microprofile.config.Config;
+import org.jboss.logging.Logger;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+/// Cluster-wide workflow definition change feed over PostgreSQL `LISTEN`/`NOTIFY`.
+///
+/// Every node publishes a notification on the `hensu_workflow_changes` channel after it
+/// pushes or deletes a definition, and holds one dedicated connection that listens on the
+/// same channel. Received notifications evict the matching entries from the node's
+/// {@link CachingWorkflowRepository}, so no node keeps executing a stale definition after
+/// another node replaced it.
+///
+/// ### Payload
+/// `tenantId` and `workflowId` separated by a tab. An empty workflow id means every
+/// workflow of the tenant changed (`deleteAllForTenant`).
+///
+/// ### Delivery gaps
+/// Notifications sent while the listener connection is down are lost. The listener
+/// therefore clears the whole cache each time it (re)establishes `LISTEN`, trading a burst
+/// of misses for never serving a definition whose change it did not see.
+///
+/// @implNote Thread-safe. Inactive (publish is a no-op, no listener thread) when the
+/// datasource is disabled, e.g. in the {@code inmem} profile. The listener runs on a single
+/// virtual thread that blocks in {@link PGConnection#getNotifications(int)}.
+///
+/// @see CachingWorkflowRepository
+@ApplicationScoped
+public class WorkflowChangeChannel {
+
+    private static final Logger LOG = Logger.getLogger(WorkflowChangeChannel.class);
+
+    static final String CHANNEL = "hensu_workflow_changes";
+
+    static final String SQL_NOTIFY = "SELECT pg_notify('" + CHANNEL + "', ?)";
+    static final String SQL_LISTEN = "LISTEN " + CHANNEL;
+    static final String SQL_UNLISTEN = "UNLISTEN " + CHANNEL;
+
+    private static final char SEPARATOR = '\t';
+    private static final int POLL_TIMEOUT_MS = 5_000;
+    private static final Duration RECONNECT_DELAY = Duration.ofSeconds(5);
+
+    @Inject Config config;
+    @Inject Instance<DataSource> dataSourceInstance;
+
+    private DataSource dataSource;
+    private JdbcSupport jdbc;
+    private boolean active;
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    /// CDI no-arg constructor required by ArC for field injection.
+    public WorkflowChangeChannel() {}
+
+    /// Package-private constructor for tests — bypasses CDI lifecycle.
+    ///
+    /// @param dataSource the PostgreSQL datasource, not null
+    WorkflowChangeChannel(DataSource dataSource) {
+        this.dataSource = Objects.requireNonNull(dataSource, "dataSource must not be null");
+        this.jdbc = new JdbcSupport(dataSource);
+        this.active = true;
+    }
+
+    @PostConstruct
+    void init() {
+        boolean dsActive =
+                config.getOptionalValue("quarkus.datasource.active", Boolean.class).orElse(true);
+        active = dsActive && dataSourceInstance.isResolvable();
+        if (active) {
+            dataSource = dataSourceInstance.get();
+            jdbc = new JdbcSupport(dataSource);
+        }
+        LOG.infov("Workflow change channel initialized: active={0}", active);
+    }
+
+    /// Notifies every listening node that a definition changed.
+    ///
+    /// No-op when inactive. Matches {@link CachingWorkflowRepository.ChangePublisher}.
+    ///
+    /// @param tenantId the owning tenant, not null
+    /// @param workflowId the changed workflow, or `null` for every workflow of the tenant
+    /// @throws PersistenceException if the notification cannot be sent
+    public void publish(String tenantId, String workflowId) {
+        Objects.requireNonNull(tenantId, "tenantId must not be null");
+        if (!active) return;
+        String payload = tenantId + SEPARATOR + (workflowId != null ? workflowId : "");
+        jdbc.queryOne(
+                SQL_NOTIFY,
+                ps -> ps.setString(1, payload),
+                _ -> true,
+                "Failed to publish workflow change for tenant: " + tenantId);
+    }
+
+    /// Starts the listener thread that feeds remote changes into `cache`.
+    ///
+    /// No-op when inactive. Must be called at most once.
+    ///
+    /// @param cache the node-local definition cache to invalidate, not null
+    /// @throws IllegalStateException if a listener is already running
+    public synchronized void subscribe(CachingWorkflowRepository cache) {
+        Objects.requireNonNull(cache, "cache must not be null");
+        if (!active) return;
+        if (listenerThread != null) {
+            throw new IllegalStateException("Workflow change listener already started");
+        }
+        running = true;
+        listenerThread =
+                Thread.ofVirtual().name("workflow-change-listener").start(() -> listen(cache));
+    }
+
+    /// Stops the listener thread and releases its connection.
+    @PreDestroy
+    synchronized void shutdown() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+            listenerThread = null;
+        }
+    }
+
+    private void listen(CachingWorkflowRepository cache) {
+        while (running) {
+            try (Connection conn = dataSource.getConnection()) {
+                try (var st = conn.createStatement()) {
+                    st.execute(SQL_LISTEN);
+                }
+                cache.invalidateAll();
+                LOG.debug("Listening for workflow definition changes");
+
+                PGConnection pg = conn.unwrap(PGConnection.class);
+                try {
+                    while (running) {
+                        PGNotification[] notifications = pg.getNotifications(POLL_TIMEOUT_MS);
+                        if (notifications == null) continue;
+                        for (PGNotification notification : notifications) {
+                            apply(cache, notification.getParameter());
+                        }
+                    }
+                } finally {
+                    try (var st = conn.createStatement()) {
+                        st.execute(SQL_UNLISTEN);
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) return;
+                LOG.warnv(e, "Workflow change listener lost its connection, reconnecting");
+                try {
+                    Thread.sleep(RECONNECT_DELAY);
+                } catch (InterruptedException _) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private static void apply(CachingWorkflowRepository cache, String payload) {
+        int split = payload.indexOf(SEPARATOR);
+        if (split < 0) {
+            LOG.warnv(
+                    "Ignoring malformed workflow change payload: {0}",
+                    LogSanitizer.sanitize(payload));
+            return;
+        }
+        String tenantId = payload.substring(0, split);
+        String workflowId = payload.substring(split + 1);
+        if (workflowId.isEmpty()) {
+            cache.invalidateTenant(tenantId);
+        } else {
+            cache.invalidate(tenantId, workflowId);
+        }
+    }
+}
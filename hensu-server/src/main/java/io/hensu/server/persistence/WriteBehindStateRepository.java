@@ -0,0 +1,507 @@
+package io.hensu.server.persistence;
+
+import io.hensu.core.state.ExecutionCursor;
+import io.hensu.core.state.ExecutionPhase;
+import io.hensu.core.state.ExecutionStatusView;
+import io.hensu.core.state.HensuSnapshot;
+import io.hensu.core.state.WorkflowStateRepository;
+import io.hensu.server.persistence.JdbcWorkflowStateRepository.Checkpoint;
+import java.sql.SQLException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import org.jboss.logging.Logger;
+
+/// Group-commit, write-behind front for {@link JdbcWorkflowStateRepository}.
+///
+/// Executions checkpoint after every node. Written synchronously, each checkpoint costs the
+/// executing thread a pool connection and a commit. This repository instead queues active
+/// checkpoints and writes them from one flusher thread via
+/// {@link JdbcWorkflowStateRepository#saveCheckpoints(List)}.
+///
+/// ### Coalescing and flushing
+/// - Only the latest pending checkpoint per execution is kept; one that is replaced before
+///   it is written is counted as coalesced and never reaches the database
+/// - The flusher writes when `maxBatchSize` executions are pending, and at least every
+///   `flushInterval`; each batch is one transaction
+/// - A batch that fails on the connection or transaction (SQLState classes `08`, `40`, `53`,
+///   `57`) is re-queued whole, unless a newer checkpoint or a barrier write superseded it
+/// - Any other batch failure is retried row by row, so one rejected checkpoint (bad JSON, a
+///   violated constraint) cannot hold back the rest of its batch
+/// - A rejected checkpoint is retried at most {@link #MAX_ATTEMPTS} times and then dropped;
+///   the execution's next barrier write throws the failure instead of writing
+///
+/// ### Durability barriers
+/// Every other save is written through synchronously: `"queued"` and terminal snapshots
+/// (`"completed"`, `"paused"`, `"failed"`, `"rejected"`), and any checkpoint awaiting a
+/// review decision ({@link ExecutionPhase.Awaiting}). A barrier first drops the execution's
+/// pending checkpoint and waits for an in-flight batch, so an older checkpoint can never
+/// land on top of it.
+///
+/// ### Reads
+/// {@link #findByExecutionId} and {@link #findStatus} answer from the pending or in-flight
+/// checkpoint when there is one. Listings exclude executions with a pending checkpoint from
+/// {@link #findPaused} and overlay them in {@link #findByWorkflowId}.
+///
+/// ### Crash window
+/// A node that dies loses at most the last `flushInterval` of checkpoints. Recovery resumes
+/// those executions from their previous checkpoint, as it would had the node died just
+/// before writing it.
+///
+/// @implNote Thread-safe. One virtual flusher thread per instance, started by the
+/// constructor and stopped by {@link #close()}, which also writes everything pending.
+///
+/// @see JdbcWorkflowStateRepository
+public class WriteBehindStateRepository implements WorkflowStateRepository, AutoCloseable {
+
+    private static final Logger LOG = Logger.getLogger(WriteBehindStateRepository.class);
+
+    /// Default longest delay before a pending checkpoint is written.
+    public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofMillis(100);
+
+    /// Default number of pending executions that triggers an early flush.
+    public static final int DEFAULT_MAX_BATCH_SIZE = 256;
+
+    /// Flushes a rejected checkpoint is tried in before it is dropped.
+    static final int MAX_ATTEMPTS = 3;
+
+    /// SQLState classes of failures that say nothing about the rows being written.
+    private static final List<String> TRANSIENT_SQL_STATES = List.of("08", "40", "53", "57");
+
+    private final JdbcWorkflowStateRepository delegate;
+    private final long flushIntervalNanos;
+    private final int maxBatchSize;
+
+    private final Map<Key, HensuSnapshot> pending = new ConcurrentHashMap<>();
+    private final Map<Key, HensuSnapshot> inFlight = new ConcurrentHashMap<>();
+
+    /// Failed writes of each execution's rejected checkpoints, reset when one is written.
+    private final Map<Key, Integer> attempts = new ConcurrentHashMap<>();
+
+    /// Dropped checkpoints, thrown by the execution's next barrier write.
+    private final Map<Key, PersistenceException> rejected = new ConcurrentHashMap<>();
+
+    /// Held while a batch is written and re-queued; barriers take it to wait one out.
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final LongAdder saved = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder barriers = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder flushNanos = new LongAdder();
+    private final AtomicLong maxFlushNanos = new AtomicLong();
+    private final AtomicLong maxBatch = new AtomicLong();
+
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    /// Creates a write-behind front for `delegate` and starts its flusher.
+    ///
+    /// @param delegate the repository that persists snapshots, not null
+    /// @param flushInterval longest delay before a pending checkpoint is written, positive
+    /// @param maxBatchSize pending executions that trigger an early flush, and the largest
+    ///     batch written in one transaction, positive
+    /// @throws IllegalArgumentException if `flushInterval` or `maxBatchSize` is not positive
+    public WriteBehindStateRepository(
+            JdbcWorkflowStateRepository delegate, Duration flushInterval, int maxBatchSize) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+        Objects.requireNonNull(flushInterval, "flushInterval must not be null");
+        if (flushInterval.isZero() || flushInterval.isNegative() || maxBatchSize <= 0) {
+            throw new IllegalArgumentException(
+                    "flushInterval and maxBatchSize must be positive: "
+                            + flushInterval
+                            + ", "
+                            + maxBatchSize);
+        }
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.flusher = Thread.ofVirtual().name("checkpoint-flusher").start(this::runFlusher);
+    }
+
+    /// Queues an active checkpoint, or writes any other snapshot through.
+    ///
+    /// A queued checkpoint holds its own copy of the context's maps, lists and sets: the
+    /// execution keeps mutating them in place while the checkpoint waits for the flusher.
+    ///
+    /// @throws PersistenceException if the write-through fails, or if an earlier checkpoint of
+    ///     the execution was dropped after {@link #MAX_ATTEMPTS} rejected writes; the snapshot
+    ///     is then not written
+    @Override
+    public void save(String tenantId, HensuSnapshot snapshot) {
+        Objects.requireNonNull(tenantId, "tenantId must not be null");
+        Objects.requireNonNull(snapshot, "snapshot must not be null");
+
+        Key key = new Key(tenantId, snapshot.executionId());
+        if (!running || isBarrier(snapshot)) {
+            barrier(key);
+            barriers.increment();
+            attempts.remove(key);
+            PersistenceException failure = rejected.remove(key);
+            if (failure != null) {
+                throw failure;
+            }
+            delegate.save(tenantId, snapshot);
+            return;
+        }
+
+        saved.increment();
+        if (pending.put(key, detached(snapshot)) != null) {
+            coalesced.increment();
+        }
+        if (pending.size() >= maxBatchSize) {
+            LockSupport.unpark(flusher);
+        }
+    }
+
+    @Override
+    public Optional<HensuSnapshot> findByExecutionId(String tenantId, String executionId) {
+        Objects.requireNonNull(tenantId, "tenantId must not be null");
+        Objects.requireNonNull(executionId, "executionId must not be null");
+
+        HensuSnapshot unwritten = unwritten(new Key(tenantId, executionId));
+        return unwritten != null
+                ? Optional.of(unwritten)
+                : delegate.findByExecutionId(tenantId, executionId);
+    }
+
+    @Override
+    public Optional<ExecutionStatusView> findStatus(String tenantId, String executionId) {
+        Objects.requireNonNull(tenantId, "tenantId must not be null");
+        Objects.requireNonNull(executionId, "executionId must not be null");
+
+        HensuSnapshot unwritten = unwritten(new Key(tenantId, executionId));
+        return unwritten != null
+                ? Optional.of(ExecutionStatusView.of(unwritten))
+                : delegate.findStatus(tenantId, executionId);
+    }
+
+    /// Lists paused executions, leaving out any with an unwritten checkpoint: that execution
+    /// has resumed and is running on this node.
+    @Override
+    public List<HensuSnapshot> findPaused(String tenantId) {
+        return delegate.findPaused(tenantId).stream()
+                .filter(s -> unwritten(new Key(tenantId, s.executionId())) == null)
+                .toList();
+    }
+
+    @Override
+    public List<ExecutionStatusView> findPausedStatuses(
+            String tenantId, ExecutionCursor after, int limit) {
+        return delegate.findPausedStatuses(tenantId, after, limit).stream()
+                .filter(v -> unwritten(new Key(tenantId, v.executionId())) == null)
+                .toList();
+    }
+
+    @Override
+    public List<HensuSnapshot> findByWorkflowId(String tenantId, String workflowId) {
+        List<HensuSnapshot> stored = delegate.findByWorkflowId(tenantId, workflowId);
+        List<HensuSnapshot> result = new ArrayList<>(stored.size());
+        for (HensuSnapshot snapshot : stored) {
+            HensuSnapshot unwritten = unwritten(new Key(tenantId, snapshot.executionId()));
+            result.add(unwritten != null ? unwritten : snapshot);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean delete(String tenantId, String executionId) {
+        Objects.requireNonNull(tenantId, "tenantId must not be null");
+        Objects.requireNonNull(executionId, "executionId must not be null");
+
+        Key key = new Key(tenantId, executionId);
+        boolean hadPending = barrier(key);
+        attempts.remove(key);
+        rejected.remove(key);
+        return delegate.delete(tenantId, executionId) || hadPending;
+    }
+
+    @Override
+    public int deleteAllForTenant(String tenantId) {
+        Objects.requireNonNull(tenantId, "tenantId must not be null");
+
+        flushLock.lock();
+        try {
+            pending.keySet().removeIf(k -> k.tenantId().equals(tenantId));
+            attempts.keySet().removeIf(k -> k.tenantId().equals(tenantId));
+            rejected.keySet().removeIf(k -> k.tenantId().equals(tenantId));
+        } finally {
+            flushLock.unlock();
+        }
+        return delegate.deleteAllForTenant(tenantId);
+    }
+
+    /// Writes every pending checkpoint now, in batches of at most `maxBatchSize`.
+    ///
+    /// Rejected checkpoints are retried row by row and do not make this method throw.
+    ///
+    /// @throws PersistenceException if a batch fails on the connection or transaction; its
+    ///     checkpoints stay pending
+    public void flush() {
+        flushLock.lock();
+        try {
+            int remaining = pending.size();
+            while (remaining > 0 && !pending.isEmpty()) {
+                List<Checkpoint> batch = takeBatch();
+                if (batch.isEmpty()) return;
+                remaining -= batch.size();
+                writeBatch(batch);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /// Stops the flusher and writes everything still pending. Later saves are written
+    /// through synchronously.
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(flusher);
+        try {
+            flusher.join();
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    /// Returns a point-in-time snapshot of the write-behind counters.
+    ///
+    /// @return current statistics, never null
+    public Stats stats() {
+        long flushCount = flushes.sum();
+        return new Stats(
+                saved.sum(),
+                coalesced.sum(),
+                barriers.sum(),
+                flushCount,
+                written.sum(),
+                failures.sum(),
+                flushCount == 0 ? 0.0 : (double) written.sum() / flushCount,
+                (int) maxBatch.get(),
+                flushCount == 0 ? 0.0 : flushNanos.sum() / 1e6 / flushCount,
+                maxFlushNanos.get() / 1e6,
+                pending.size(),
+                Duration.ofNanos(flushIntervalNanos),
+                maxBatchSize);
+    }
+
+    // --- Internal helpers ---
+
+    private void runFlusher() {
+        while (running) {
+            LockSupport.parkNanos(flushIntervalNanos);
+            if (!running) return;
+            try {
+                flush();
+            } catch (PersistenceException e) {
+                LOG.errorv(e, "Checkpoint flush failed, {0} checkpoints pending", pending.size());
+            } catch (RuntimeException e) {
+                LOG.errorv(e, "Unexpected checkpoint flush failure");
+            }
+        }
+    }
+
+    /// Checkpoints awaiting a review decision must survive a crash: the node may be gone long
+    /// before the reviewer answers.
+    private static boolean isBarrier(HensuSnapshot snapshot) {
+        return !"checkpoint".equals(snapshot.checkpointReason())
+                || snapshot.phase() instanceof ExecutionPhase.Awaiting;
+    }
+
+    /// Drops `key`'s pending checkpoint and waits for any batch in flight.
+    ///
+    /// @return true if a checkpoint was pending or in flight
+    private boolean barrier(Key key) {
+        flushLock.lock();
+        try {
+            return pending.remove(key) != null | inFlight.containsKey(key);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /// Copies `snapshot` with a context the caller can no longer reach.
+    private static HensuSnapshot detached(HensuSnapshot snapshot) {
+        return new HensuSnapshot(
+                snapshot.workflowId(),
+                snapshot.executionId(),
+                snapshot.currentNodeId(),
+                ContextValues.copy(snapshot.context()),
+                snapshot.retryCounters(),
+                snapshot.history(),
+                snapshot.phase(),
+                snapshot.createdAt(),
+                snapshot.checkpointReason());
+    }
+
+    private HensuSnapshot unwritten(Key key) {
+        HensuSnapshot snapshot = pending.get(key);
+        return snapshot != null ? snapshot : inFlight.get(key);
+    }
+
+    /// Moves up to `maxBatchSize` pending checkpoints in flight. Called under `flushLock`.
+    private List<Checkpoint> takeBatch() {
+        List<Checkpoint> batch = new ArrayList<>();
+        Iterator<Map.Entry<Key, HensuSnapshot>> entries = pending.entrySet().iterator();
+        while (entries.hasNext() && batch.size() < maxBatchSize) {
+            Map.Entry<Key, HensuSnapshot> entry = entries.next();
+            Key key = entry.getKey();
+            HensuSnapshot snapshot = entry.getValue();
+            // In flight before leaving pending, so readers always find one of the two
+            inFlight.put(key, snapshot);
+            if (pending.remove(key, snapshot)) {
+                batch.add(new Checkpoint(key.tenantId(), snapshot));
+            } else {
+                // Replaced by a newer checkpoint; the next batch writes that one
+                inFlight.remove(key, snapshot);
+            }
+        }
+        return batch;
+    }
+
+    /// Writes one batch, falling back to one row at a time if it is rejected. Called under
+    /// `flushLock`.
+    private void writeBatch(List<Checkpoint> batch) {
+        long start = System.nanoTime();
+        int committed;
+        try {
+            delegate.saveCheckpoints(batch);
+            committed = batch.size();
+            for (Checkpoint checkpoint : batch) {
+                written(checkpoint);
+            }
+        } catch (RuntimeException e) {
+            failures.increment();
+            if (isTransient(e)) {
+                for (Checkpoint checkpoint : batch) {
+                    pending.putIfAbsent(key(checkpoint), checkpoint.snapshot());
+                }
+                throw e;
+            }
+            committed = writeEach(batch);
+        } finally {
+            for (Checkpoint checkpoint : batch) {
+                inFlight.remove(key(checkpoint), checkpoint.snapshot());
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        flushes.increment();
+        written.add(committed);
+        flushNanos.add(elapsed);
+        maxFlushNanos.accumulateAndGet(elapsed, Math::max);
+        maxBatch.accumulateAndGet(committed, Math::max);
+    }
+
+    /// Writes a rejected batch one checkpoint per transaction. Rows that fail again are
+    /// re-queued until they reach {@link #MAX_ATTEMPTS}.
+    ///
+    /// @return checkpoints written
+    private int writeEach(List<Checkpoint> batch) {
+        int committed = 0;
+        for (Checkpoint checkpoint : batch) {
+            Key key = key(checkpoint);
+            try {
+                delegate.saveCheckpoints(List.of(checkpoint));
+                written(checkpoint);
+                committed++;
+            } catch (RuntimeException e) {
+                if (isTransient(e) || attempts.merge(key, 1, Integer::sum) < MAX_ATTEMPTS) {
+                    pending.putIfAbsent(key, checkpoint.snapshot());
+                    continue;
+                }
+                attempts.remove(key);
+                rejected.put(
+                        key,
+                        new PersistenceException(
+                                "Checkpoint of execution "
+                                        + key.executionId()
+                                        + " rejected "
+                                        + MAX_ATTEMPTS
+                                        + " times",
+                                e));
+                LOG.errorv(
+                        e,
+                        "Dropped checkpoint of execution {0} at node {1} after {2} attempts",
+                        key.executionId(),
+                        checkpoint.snapshot().currentNodeId(),
+                        MAX_ATTEMPTS);
+            }
+        }
+        return committed;
+    }
+
+    /// A newer checkpoint made it to the database, so any earlier rejection is superseded.
+    private void written(Checkpoint checkpoint) {
+        Key key = key(checkpoint);
+        attempts.remove(key);
+        rejected.remove(key);
+    }
+
+    /// True if `e` came from the connection or transaction rather than the rows written.
+    private static boolean isTransient(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof SQLTransientException || t instanceof SQLRecoverableException) {
+                return true;
+            }
+            if (t instanceof SQLException sql) {
+                String state = sql.getSQLState();
+                return state == null
+                        || state.length() < 2
+                        || TRANSIENT_SQL_STATES.contains(state.substring(0, 2));
+            }
+        }
+        return false;
+    }
+
+    private static Key key(Checkpoint checkpoint) {
+        return new Key(checkpoint.tenantId(), checkpoint.snapshot().executionId());
+    }
+
+    // --- Types ---
+
+    /// Write-behind counters since startup.
+    ///
+    /// @param saved checkpoints accepted for write-behind
+    /// @param coalesced checkpoints replaced by a newer one before they were written
+    /// @param barriers snapshots written through synchronously
+    /// @param flushes batches committed
+    /// @param written checkpoints committed by those batches
+    /// @param failures batches that failed and were re-queued or retried row by row
+    /// @param avgBatchSize mean checkpoints per committed batch
+    /// @param maxBatchSize largest committed batch
+    /// @param avgFlushMillis mean time to write and commit a batch
+    /// @param maxFlushMillis longest time to write and commit a batch
+    /// @param pending checkpoints waiting for the next flush
+    /// @param flushInterval configured flush interval
+    /// @param batchLimit configured batch size limit
+    public record Stats(
+            long saved,
+            long coalesced,
+            long barriers,
+            long flushes,
+            long written,
+            long failures,
+            double avgBatchSize,
+            int maxBatchSize,
+            double avgFlushMillis,
+            double maxFlushMillis,
+            int pending,
+            Duration flushInterval,
+            int batchLimit) {}
+
+    private record Key(String tenantId, String executionId) {}
+}
@@ -69,6 +69,7 @@ public class GlobalExceptionMapper implements ExceptionMapper<Throwable> {
             case 405 -> "Method not allowed";
             case 409 -> "Conflict";
             case 415 -> "Unsupported media type";
+            case 429 -> "Too many requests";
             default -> {
                 if (status >= 500) yield "Internal server error";
                 yield raw != null ? raw : "Request failed";
@@ -0,0 +1,184 @@
+package io.hensu.server.streaming;
+
+import io.hensu.core.agent.AgentResponse;
+import io.hensu.core.execution.ExecutionListener;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/// Streams agent output to SSE clients as coalesced
+/// {@link ExecutionEvent.AgentOutputDelta} events.
+///
+/// Streaming agents report output a token or two at a time. Publishing each fragment would
+/// flood the execution's replay log and the cluster bus, so fragments are buffered per
+/// node and agent and published as one delta once the buffer holds `maxBytes` bytes or
+/// `flushInterval` has passed since its first pending fragment. Whatever is still
+/// buffered when the agent completes is published before the completion is handled, so no
+/// output is lost.
+///
+/// Sizes are counted as the delta text is encoded in an event: UTF-8 with JSON escaping.
+/// A delta never exceeds `maxBytes`, which is capped at {@link #MAX_DELTA_BYTES} so that
+/// a delta with its event envelope fits one cluster notification.
+///
+/// The interval is checked when a fragment arrives; a model that stalls mid-answer holds
+/// its pending text until it produces more or completes.
+///
+/// ### Usage
+/// {@snippet :
+/// ExecutionListener listener = new CompositeExecutionListener(
+///     checkpointListener,
+///     new AgentOutputListener(broadcaster, executionId, 1024, Duration.ofMillis(250))
+/// );
+/// workflowExecutor.execute(workflow, initialContext, listener);
+/// }
+///
+/// @implNote Thread-safe. Parallel branches stream under distinct node ids and are
+/// buffered independently; each buffer publishes under its own lock so the deltas of one
+/// node keep their order.
+///
+/// @see ExecutionEventBroadcaster#publish(String, ExecutionEvent)
+public final class AgentOutputListener implements ExecutionListener {
+
+    /// Largest encoded delta text, leaving room for the event envelope within the
+    /// 7,900-byte payload of a cluster notification.
+    public static final int MAX_DELTA_BYTES = 6 * 1024;
+
+    private final ExecutionEventBroadcaster broadcaster;
+    private final String executionId;
+    private final int maxBytes;
+    private final long flushIntervalNanos;
+    private final Map<String, Pending> pending = new ConcurrentHashMap<>();
+
+    /// Creates a listener publishing the output of one execution.
+    ///
+    /// @param broadcaster the broadcaster to publish to, not null
+    /// @param executionId the execution whose agents are streamed, not null
+    /// @param maxBytes encoded size of buffered text that triggers a delta, positive and at
+    ///     most {@link #MAX_DELTA_BYTES}
+    /// @param flushInterval longest time a fragment waits for more, not null
+    /// @throws IllegalArgumentException if `maxBytes` is out of range
+    public AgentOutputListener(
+            ExecutionEventBroadcaster broadcaster,
+            String executionId,
+            int maxBytes,
+            Duration flushInterval) {
+        this.broadcaster = Objects.requireNonNull(broadcaster, "broadcaster must not be null");
+        this.executionId = Objects.requireNonNull(executionId, "executionId must not be null");
+        Objects.requireNonNull(flushInterval, "flushInterval must not be null");
+        if (maxBytes <= 0 || maxBytes > MAX_DELTA_BYTES) {
+            throw new IllegalArgumentException(
+                    "maxBytes must be between 1 and " + MAX_DELTA_BYTES + ": " + maxBytes);
+        }
+        this.maxBytes = maxBytes;
+        this.flushIntervalNanos = flushInterval.toNanos();
+    }
+
+    @Override
+    public void onAgentOutputDelta(String nodeId, String agentId, String delta) {
+        if (delta.isEmpty()) {
+            return;
+        }
+        pending.computeIfAbsent(key(nodeId, agentId), _ -> new Pending(nodeId, agentId))
+                .append(delta);
+    }
+
+    @Override
+    public void onAgentComplete(String nodeId, String agentId, AgentResponse response) {
+        Pending rest = pending.remove(key(nodeId, agentId));
+        if (rest != null) {
+            rest.flush();
+        }
+    }
+
+    private static String key(String nodeId, String agentId) {
+        return nodeId + '\u0000' + agentId;
+    }
+
+    /// Returns the size of `text` in an event: UTF-8 bytes, with the characters JSON
+    /// escapes counted at their escaped length.
+    static int encodedBytes(CharSequence text) {
+        int bytes = 0;
+        for (int i = 0; i < text.length(); i++) {
+            bytes += encodedBytes(text.charAt(i));
+        }
+        return bytes;
+    }
+
+    private static int encodedBytes(char c) {
+        return switch (c) {
+            case '"', '\\', '\b', '\f', '\n', '\r', '\t' -> 2;
+            default -> {
+                if (c < 0x20) yield 6; // Other control characters take a six-character escape
+                if (c < 0x80) yield 1;
+                if (c < 0x800) yield 2;
+                // A surrogate pair encodes as four bytes, two per half
+                yield Character.isSurrogate(c) ? 2 : 3;
+            }
+        };
+    }
+
+    /// Output of one node's agent not yet published.
+    private final class Pending {
+
+        private final String nodeId;
+        private final String agentId;
+        private final StringBuilder buffer = new StringBuilder();
+        private int bufferedBytes;
+        private long firstFragmentAt;
+
+        Pending(String nodeId, String agentId) {
+            this.nodeId = nodeId;
+            this.agentId = agentId;
+        }
+
+        synchronized void append(String delta) {
+            long now = System.nanoTime();
+            if (buffer.isEmpty()) {
+                firstFragmentAt = now;
+            }
+            buffer.append(delta);
+            bufferedBytes += encodedBytes(delta);
+            while (bufferedBytes >= maxBytes) {
+                publishPrefix();
+                firstFragmentAt = now;
+            }
+            if (!buffer.isEmpty() && now - firstFragmentAt >= flushIntervalNanos) {
+                flush();
+            }
+        }
+
+        synchronized void flush() {
+            if (!buffer.isEmpty()) {
+                publish(buffer.toString());
+                buffer.setLength(0);
+                bufferedBytes = 0;
+            }
+        }
+
+        /// Publishes the longest prefix within `maxBytes`, at least one code point.
+        /// Never splits a surrogate pair across two deltas.
+        private void publishPrefix() {
+            int cut = 0;
+            int bytes = 0;
+            while (cut < buffer.length()) {
+                int width = Character.charCount(buffer.codePointAt(cut));
+                int size = encodedBytes(buffer.subSequence(cut, cut + width));
+                if (cut > 0 && bytes + size > maxBytes) {
+                    break;
+                }
+                cut += width;
+                bytes += size;
+            }
+            publish(buffer.substring(0, cut));
+            buffer.delete(0, cut);
+            bufferedBytes -= bytes;
+        }
+
+        private void publish(String text) {
+            broadcaster.publish(
+                    executionId,
+                    ExecutionEvent.AgentOutputDelta.now(executionId, nodeId, agentId, text));
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package io.hensu.server.streaming;
+
+import java.util.Objects;
+
+/// An execution event, or the end of an execution's stream, as sent between server nodes.
+///
+/// Carries the sequence assigned by the publishing node so that every node numbers the
+/// execution's events identically and a client's `Last-Event-ID` is valid on any of them.
+///
+/// @param executionId the execution, not null
+/// @param tenantId the owning tenant, or null if the execution was never registered
+/// @param workflowId the execution's workflow, or null if never registered
+/// @param sequence the event's sequence, positive; `0` for a completion
+/// @param event the event, or null for a completion
+/// @see ClusterEventBus
+public record ClusterEvent(
+        String executionId,
+        String tenantId,
+        String workflowId,
+        long sequence,
+        ExecutionEvent event) {
+
+    public ClusterEvent {
+        Objects.requireNonNull(executionId, "executionId must not be null");
+        if (event != null && sequence <= 0) {
+            throw new IllegalArgumentException("sequence must be positive: " + sequence);
+        }
+    }
+
+    /// Creates a message carrying one published event.
+    ///
+    /// @param executionId the execution, not null
+    /// @param tenantId the owning tenant, may be null
+    /// @param workflowId the execution's workflow, may be null
+    /// @param sequenced the event and its sequence, not null
+    /// @return the message, never null
+    public static ClusterEvent of(
+            String executionId, String tenantId, String workflowId, SequencedEvent sequenced) {
+        return new ClusterEvent(
+                executionId, tenantId, workflowId, sequenced.sequence(), sequenced.event());
+    }
+
+    /// Creates a message that ends the execution's live streams.
+    ///
+    /// @param executionId the execution, not null
+    /// @return the message, never null
+    public static ClusterEvent completion(String executionId) {
+        return new ClusterEvent(executionId, null, null, 0, null);
+    }
+
+    /// Returns whether this message ends the execution's live streams.
+    ///
+    /// @return true if this message carries no event
+    public boolean isCompletion() {
+        return event == null;
+    }
+}
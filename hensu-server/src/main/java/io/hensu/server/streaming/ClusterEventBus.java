@@ -0,0 +1,46 @@
+package io.hensu.server.streaming;
+
+import java.util.function.Consumer;
+
+/// Transport that carries execution events between server nodes.
+///
+/// The lease model lets any node run an execution, while its SSE subscribers may be
+/// connected to any other node. {@link ExecutionEventBroadcaster} hands every locally
+/// published event and completion to the bus exactly once; the bus delivers it to the
+/// broadcaster of every other node, which appends it to its own copy of the execution's
+/// log.
+///
+/// ### Contract
+/// - {@link #publish} must not block on I/O; it is called under the execution's log lock
+/// - Messages published by one node are delivered to each other node in publish order
+/// - A node must not receive its own messages
+/// - Delivery is best effort; a lost message leaves a gap in the receivers' logs
+///
+/// @implNote Implementations must be thread-safe.
+///
+/// @see io.hensu.server.persistence.PgClusterEventBus for the PostgreSQL implementation
+public interface ClusterEventBus {
+
+    /// Bus for single-node deployments: sends nothing and delivers nothing.
+    ClusterEventBus LOCAL =
+            new ClusterEventBus() {
+                @Override
+                public void publish(ClusterEvent event) {}
+
+                @Override
+                public void start(Consumer<ClusterEvent> sink) {}
+            };
+
+    /// Queues a message for delivery to the other nodes.
+    ///
+    /// @param event the message, not null
+    void publish(ClusterEvent event);
+
+    /// Starts delivering messages from other nodes to `sink`.
+    ///
+    /// Called once, by the broadcaster, during startup. `sink` may be invoked from any
+    /// thread but never concurrently for the same execution.
+    ///
+    /// @param sink receiver of remote messages, not null
+    void start(Consumer<ClusterEvent> sink);
+}
@@ -0,0 +1,55 @@
+package io.hensu.server.streaming;
+
+import java.util.Collection;
+import java.util.Set;
+
+/// Server-side filter for a tenant-wide event firehose.
+///
+/// Each dimension is a set of accepted values; an empty set accepts everything. An event
+/// passes when it matches every non-empty dimension.
+///
+/// @param types accepted event types, e.g. `execution.completed`; not null
+/// @param workflowIds accepted workflow ids, not null
+/// @param nodeIds accepted node ids; events without a node never match a non-empty set,
+///     not null
+/// @see ExecutionEventBroadcaster#subscribeTenant(String, EventFilter)
+public record EventFilter(Set<String> types, Set<String> workflowIds, Set<String> nodeIds) {
+
+    /// Filter that accepts every event.
+    public static final EventFilter ALL = new EventFilter(Set.of(), Set.of(), Set.of());
+
+    public EventFilter {
+        types = Set.copyOf(types);
+        workflowIds = Set.copyOf(workflowIds);
+        nodeIds = Set.copyOf(nodeIds);
+    }
+
+    /// Builds a filter from optional query-parameter lists.
+    ///
+    /// @param types accepted event types, may be null
+    /// @param workflowIds accepted workflow ids, may be null
+    /// @param nodeIds accepted node ids, may be null
+    /// @return the filter, never null
+    public static EventFilter of(
+            Collection<String> types, Collection<String> workflowIds, Collection<String> nodeIds) {
+        return new EventFilter(setOf(types), setOf(workflowIds), setOf(nodeIds));
+    }
+
+    /// Returns whether `event` passes this filter.
+    ///
+    /// @param event the candidate event, not null
+    /// @return true if every non-empty dimension contains the event's value
+    public boolean matches(TenantEvent event) {
+        return accepts(types, event.event().type())
+                && accepts(workflowIds, event.workflowId())
+                && accepts(nodeIds, event.nodeId());
+    }
+
+    private static boolean accepts(Set<String> accepted, String value) {
+        return accepted.isEmpty() || (value != null && accepted.contains(value));
+    }
+
+    private static Set<String> setOf(Collection<String> values) {
+        return values == null ? Set.of() : Set.copyOf(values);
+    }
+}
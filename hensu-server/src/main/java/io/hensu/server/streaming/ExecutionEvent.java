@@ -13,6 +13,7 @@ import java.util.Map;
 /// - `execution.completed` - Entire execution finished
 /// - `execution.paused` - Execution paused for review
 /// - `execution.error` - Error occurred
+/// - `agent.output.delta` - Agent output generated so far, streamed while the agent runs
 ///
 /// @see ExecutionEventBroadcaster for event publishing
 /// @see io.hensu.server.api.ExecutionEventResource for SSE endpoint
@@ -174,4 +175,32 @@ public sealed interface ExecutionEvent {
             return new ExecutionError(executionId, errorType, message, nodeId, Instant.now());
         }
     }
+
+    /// Agent output delta event: the next piece of a streaming agent's output.
+    ///
+    /// Published by {@link AgentOutputListener}, which coalesces the model's token-sized
+    /// fragments into larger deltas. Concatenating the deltas of one node in sequence order
+    /// yields the agent's output; the authoritative result is still the node output in the
+    /// final state. A tool-calling agent streams every model round, so its deltas may
+    /// include text from rounds that ended in a tool call.
+    ///
+    /// @param executionId the execution identifier, never null
+    /// @param nodeId      the node, or `parallelNodeId/branchId` for a branch, never null
+    /// @param agentId     the agent producing the output, never null
+    /// @param delta       the output text since the previous delta, never null
+    /// @param timestamp   when the delta was published, never null
+    record AgentOutputDelta(
+            String executionId, String nodeId, String agentId, String delta, Instant timestamp)
+            implements ExecutionEvent {
+
+        @Override
+        public String type() {
+            return "agent.output.delta";
+        }
+
+        public static AgentOutputDelta now(
+                String executionId, String nodeId, String agentId, String delta) {
+            return new AgentOutputDelta(executionId, nodeId, agentId, delta, Instant.now());
+        }
+    }
 }
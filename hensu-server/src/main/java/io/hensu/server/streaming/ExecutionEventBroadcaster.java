@@ -2,34 +2,90 @@ package io.hensu.server.streaming;
 
 import io.hensu.core.util.LogSanitizer;
 import io.smallrye.mutiny.Multi;
-import io.smallrye.mutiny.operators.multi.processors.BroadcastProcessor;
+import io.smallrye.mutiny.subscription.MultiEmitter;
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
 
 /// Broadcasts execution events to SSE subscribers.
 ///
-/// Manages per-execution event streams using Mutiny's BroadcastProcessor.
+/// Every execution gets a bounded, replayable event log. Published events are numbered
+/// (see {@link SequencedEvent}) and kept in a ring buffer whether or not anyone is
+/// subscribed, so a client that connects a few milliseconds after `POST /executions`
+/// still receives `execution.started`, and a client that reconnects with `Last-Event-ID`
+/// resumes without a gap.
 ///
 /// ### Thread Safety
-/// Thread-safe. Uses `ConcurrentHashMap` for subscription management and
-/// `BroadcastProcessor` for thread-safe event delivery. Execution context
-/// is propagated via a `ScopedValue` — structurally scoped to the calling
-/// frame rather than manually set/cleared, making it safe for virtual threads.
+/// Thread-safe. Logs live in a `ConcurrentHashMap`; each log serializes appends and
+/// subscriber attachment under its own lock, so a new subscriber sees every event exactly
+/// once — first from the replay, then live. Execution context is propagated via a
+/// `ScopedValue` — structurally scoped to the calling frame rather than manually
+/// set/cleared, making it safe for virtual threads.
 ///
 /// ### Memory Management
-/// Subscriptions are automatically cleaned up when:
-/// - Execution completes (success or failure)
-/// - Client disconnects (detected via Multi cancellation)
-/// - Explicit unsubscribe via {@link #unsubscribe(String)}
+/// - A log holds at most `buffer-size` events; older events fall off the ring
+/// - Each subscriber has a queue of twice `buffer-size` events, room for a full replay
+///   plus as many live events; a subscriber that lets it fill up is failed with a
+///   back-pressure error and can reconnect with `Last-Event-ID` to replay what it missed
+///   from the ring
+/// - {@link #complete(String)} ends every live stream but keeps the log for `retention`,
+///   so clients can still reconnect and replay the tail; it is dropped afterwards
+/// - A log that never received an event is dropped when its last subscriber leaves
+/// - A log fed only by another node is completed once no event has arrived for
+///   `remote-idle-timeout`, then kept for `retention` like any completed log; this covers a
+///   lost completion notification or an origin node that crashed before completing it
+/// - Any other log is completed once no event has been published for `idle-timeout`, then
+///   kept for `retention`; this covers an execution that died without a terminal event
+///
+/// A paused execution completes its log; when it is resumed, publishing reopens the log
+/// (if still retained) and numbering continues.
+///
+/// ### Tenant Firehose
+/// Once an execution is {@link #register registered} with its tenant and workflow, each of
+/// its events is also offered to the tenant's topic. A topic is one subscriber list per
+/// tenant, not a processor per execution; every subscriber carries an {@link EventFilter}
+/// evaluated before the event is queued for it, and receives events in batches of up to
+/// `firehose.max-batch-size`, flushed at least every `firehose.batch-interval`. A
+/// dashboard therefore needs one SSE connection and one frame per batch, however many
+/// executions the tenant runs. The firehose is live only; it has no replay.
+///
+/// ### Cluster
+/// Every locally published event and completion is also handed to the
+/// {@link ClusterEventBus}. Events arriving from other nodes are appended to this node's
+/// copy of the execution's log under the sequence the origin node assigned, and reach
+/// local subscribers and firehose topics like local events. A client may therefore
+/// subscribe, and resume with `Last-Event-ID`, on any node regardless of where the
+/// execution runs. Each node retains every execution's log, so memory use is the same on
+/// every node. A remote completion ends local live streams normally, even when the
+/// origin failed them with an error.
+///
+/// ### Configuration
+/// | Property                                | Default | Description                          |
+/// |-----------------------------------------|---------|--------------------------------------|
+/// | `hensu.events.buffer-size`              | `512`   | Events replayable per execution      |
+/// | `hensu.events.retention`                | `5m`    | How long a completed log is kept     |
+/// | `hensu.events.idle-timeout`             | `2h`    | Idle time before a local log closes  |
+/// | `hensu.events.remote-idle-timeout`      | `30m`   | Idle time before a remote log closes |
+/// | `hensu.events.firehose.max-batch-size`  | `256`   | Events per firehose batch            |
+/// | `hensu.events.firehose.batch-interval`  | `250ms` | Longest delay before a batch flushes |
 ///
 /// ### Usage
 /// {@snippet :
-/// // Subscribe to execution events (in SSE endpoint)
-/// Multi<ExecutionEvent> events = broadcaster.subscribe(executionId);
+/// // Subscribe to execution events (in SSE endpoint), resuming after event 41
+/// Multi<SequencedEvent> events = broadcaster.subscribe(executionId, 41);
 ///
 /// // Run execution with scoped context
 /// broadcaster.runAs(executionId, () -> {
@@ -48,53 +104,271 @@ public class ExecutionEventBroadcaster {
 
     private static final Logger LOG = Logger.getLogger(ExecutionEventBroadcaster.class);
 
-    /// Maps execution ID to broadcast processor.
-    private final Map<String, BroadcastProcessor<ExecutionEvent>> processors =
-            new ConcurrentHashMap<>();
+    @Inject ClusterEventBus clusterBus;
+
+    @ConfigProperty(name = "hensu.events.buffer-size", defaultValue = "512")
+    int bufferSize;
+
+    @ConfigProperty(name = "hensu.events.retention", defaultValue = "5m")
+    Duration retention;
+
+    @ConfigProperty(name = "hensu.events.idle-timeout", defaultValue = "2h")
+    Duration idleTimeout;
+
+    @ConfigProperty(name = "hensu.events.remote-idle-timeout", defaultValue = "30m")
+    Duration remoteIdleTimeout;
+
+    @ConfigProperty(name = "hensu.events.firehose.max-batch-size", defaultValue = "256")
+    int firehoseBatchSize;
+
+    @ConfigProperty(name = "hensu.events.firehose.batch-interval", defaultValue = "250ms")
+    Duration firehoseBatchInterval;
+
+    /// Default idle time after which a log fed by this node is completed.
+    static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofHours(2);
+
+    /// Default idle time after which a log fed only by another node is completed.
+    static final Duration DEFAULT_REMOTE_IDLE_TIMEOUT = Duration.ofMinutes(30);
+
+    private int capacity;
+    private long retentionNanos;
+    private long idleNanos;
+    private long remoteIdleNanos;
+    private volatile long nextIdleSweep = System.nanoTime();
+    private int batchSize;
+    private Duration batchInterval;
+
+    /// Maps execution ID to its event log.
+    private final Map<String, EventLog> logs = new ConcurrentHashMap<>();
+
+    /// Completed logs in completion order; with a fixed retention that is expiry order.
+    private final Queue<Expiry> expiries = new ConcurrentLinkedQueue<>();
+
+    /// Maps tenant ID to its firehose subscribers.
+    private final Map<String, List<FirehoseSubscriber>> topics = new ConcurrentHashMap<>();
 
     /// ScopedValue carrying the current execution ID within a {@link #runAs} frame.
     static final ScopedValue<String> CURRENT_EXECUTION = ScopedValue.newInstance();
 
-    /// Subscribes to events for an execution.
+    /// CDI no-arg constructor required by ArC for field injection.
+    public ExecutionEventBroadcaster() {}
+
+    /// Package-private constructor for tests — bypasses CDI lifecycle.
+    ///
+    /// @param bufferSize events replayable per execution, positive
+    /// @param retention how long a completed log stays replayable, not null
+    /// @param batchSize events per firehose batch, positive
+    /// @param batchInterval longest delay before a firehose batch flushes, positive
+    ExecutionEventBroadcaster(
+            int bufferSize, Duration retention, int batchSize, Duration batchInterval) {
+        this(bufferSize, retention, batchSize, batchInterval, ClusterEventBus.LOCAL);
+    }
+
+    /// Package-private constructor for tests — bypasses CDI lifecycle and starts `bus`.
+    ///
+    /// @param bufferSize events replayable per execution, positive
+    /// @param retention how long a completed log stays replayable, not null
+    /// @param batchSize events per firehose batch, positive
+    /// @param batchInterval longest delay before a firehose batch flushes, positive
+    /// @param bus transport to the other nodes, not null
+    ExecutionEventBroadcaster(
+            int bufferSize,
+            Duration retention,
+            int batchSize,
+            Duration batchInterval,
+            ClusterEventBus bus) {
+        this(bufferSize, retention, batchSize, batchInterval, bus, DEFAULT_REMOTE_IDLE_TIMEOUT);
+    }
+
+    /// Package-private constructor for tests — bypasses CDI lifecycle and starts `bus`.
+    ///
+    /// @param bufferSize events replayable per execution, positive
+    /// @param retention how long a completed log stays replayable, not null
+    /// @param batchSize events per firehose batch, positive
+    /// @param batchInterval longest delay before a firehose batch flushes, positive
+    /// @param bus transport to the other nodes, not null
+    /// @param remoteIdleTimeout idle time after which a log fed only by another node is
+    ///     completed, not null
+    ExecutionEventBroadcaster(
+            int bufferSize,
+            Duration retention,
+            int batchSize,
+            Duration batchInterval,
+            ClusterEventBus bus,
+            Duration remoteIdleTimeout) {
+        this(
+                bufferSize,
+                retention,
+                batchSize,
+                batchInterval,
+                bus,
+                remoteIdleTimeout,
+                DEFAULT_IDLE_TIMEOUT);
+    }
+
+    /// Package-private constructor for tests — bypasses CDI lifecycle and starts `bus`.
+    ///
+    /// @param bufferSize events replayable per execution, positive
+    /// @param retention how long a completed log stays replayable, not null
+    /// @param batchSize events per firehose batch, positive
+    /// @param batchInterval longest delay before a firehose batch flushes, positive
+    /// @param bus transport to the other nodes, not null
+    /// @param remoteIdleTimeout idle time after which a log fed only by another node is
+    ///     completed, not null
+    /// @param idleTimeout idle time after which any other log is completed, not null
+    ExecutionEventBroadcaster(
+            int bufferSize,
+            Duration retention,
+            int batchSize,
+            Duration batchInterval,
+            ClusterEventBus bus,
+            Duration remoteIdleTimeout,
+            Duration idleTimeout) {
+        configure(
+                bufferSize, retention, batchSize, batchInterval, remoteIdleTimeout, idleTimeout);
+        this.clusterBus = Objects.requireNonNull(bus, "bus must not be null");
+        clusterBus.start(this::applyRemote);
+    }
+
+    @PostConstruct
+    void init() {
+        configure(
+                bufferSize,
+                retention,
+                firehoseBatchSize,
+                firehoseBatchInterval,
+                remoteIdleTimeout,
+                idleTimeout);
+        clusterBus.start(this::applyRemote);
+        LOG.infov(
+                "Execution event broadcaster initialized: bufferSize={0}, retention={1},"
+                        + " firehoseBatchSize={2}, firehoseBatchInterval={3},"
+                        + " remoteIdleTimeout={4}, idleTimeout={5}",
+                capacity, retention, batchSize, batchInterval, remoteIdleTimeout, idleTimeout);
+    }
+
+    private void configure(
+            int bufferSize,
+            Duration retention,
+            int batchSize,
+            Duration batchInterval,
+            Duration remoteIdleTimeout,
+            Duration idleTimeout) {
+        if (bufferSize <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException(
+                    "Buffer sizes must be positive: bufferSize="
+                            + bufferSize
+                            + ", batchSize="
+                            + batchSize);
+        }
+        Objects.requireNonNull(retention, "retention must not be null");
+        Objects.requireNonNull(batchInterval, "batchInterval must not be null");
+        Objects.requireNonNull(remoteIdleTimeout, "remoteIdleTimeout must not be null");
+        Objects.requireNonNull(idleTimeout, "idleTimeout must not be null");
+        if (batchInterval.isZero() || batchInterval.isNegative()) {
+            throw new IllegalArgumentException("batchInterval must be positive: " + batchInterval);
+        }
+        this.capacity = bufferSize;
+        this.retentionNanos = retention.toNanos();
+        this.remoteIdleNanos = remoteIdleTimeout.toNanos();
+        this.idleNanos = idleTimeout.toNanos();
+        this.batchSize = batchSize;
+        this.batchInterval = batchInterval;
+    }
+
+    /// Subscribes to events for an execution, starting with the first buffered event.
     ///
     /// @param executionId the execution to subscribe to, not null
     /// @return event stream that emits events for this execution, never null
     public Multi<ExecutionEvent> subscribe(String executionId) {
+        return subscribe(executionId, 0).map(SequencedEvent::event);
+    }
+
+    /// Subscribes to events for an execution, replaying buffered events first.
+    ///
+    /// Replays every buffered event with a sequence greater than `afterSequence`, then
+    /// continues with live events. If `afterSequence` is at or beyond the newest event —
+    /// typically an id from a log that has since been dropped and recreated — the whole
+    /// buffer is replayed. Events that fell off the ring cannot be replayed; the stream
+    /// starts at the oldest retained one. The stream completes right after the replay if
+    /// the execution has already completed.
+    ///
+    /// @param executionId the execution to subscribe to, not null
+    /// @param afterSequence the last sequence the client received, `0` for none
+    /// @return event stream of sequenced events, never null
+    public Multi<SequencedEvent> subscribe(String executionId, long afterSequence) {
         Objects.requireNonNull(executionId, "executionId must not be null");
+        evictExpired();
+        return Multi.createFrom()
+                .emitter(
+                        emitter -> {
+                            while (!log(executionId).attach(emitter, afterSequence)) {
+                                // Raced with eviction; the next lookup creates a fresh log
+                            }
+                        },
+                        2 * capacity);
+    }
 
-        BroadcastProcessor<ExecutionEvent> processor =
-                processors.computeIfAbsent(
-                        executionId,
-                        id -> {
-                            LOG.debugv("Creating broadcast processor for execution: {0}", id);
-                            return BroadcastProcessor.create();
-                        });
+    /// Subscribes to every registered execution's events for a tenant, in batches.
+    ///
+    /// Events are delivered from the moment of subscription; nothing is replayed. Within
+    /// one execution, events arrive in sequence order. A subscriber more than eight batches
+    /// behind is failed with a back-pressure error.
+    ///
+    /// @param tenantId the tenant to follow, not null
+    /// @param filter server-side event filter, not null; {@link EventFilter#ALL} for all
+    /// @return stream of non-empty event batches, never null
+    public Multi<List<TenantEvent>> subscribeTenant(String tenantId, EventFilter filter) {
+        Objects.requireNonNull(tenantId, "tenantId must not be null");
+        Objects.requireNonNull(filter, "filter must not be null");
+        Multi<TenantEvent> events =
+                Multi.createFrom()
+                        .emitter(
+                                emitter -> {
+                                    FirehoseSubscriber subscriber =
+                                            new FirehoseSubscriber(emitter, filter);
+                                    emitter.onTermination(
+                                            () -> detachFirehose(tenantId, subscriber));
+                                    attachFirehose(tenantId, subscriber);
+                                },
+                                8 * batchSize);
+        return events.group().intoLists().of(batchSize, batchInterval);
+    }
 
-        return processor
-                .onOverflow()
-                .buffer(256)
-                .onCancellation()
-                .invoke(() -> LOG.debugv("Client disconnected from execution: {0}", executionId));
+    /// Associates an execution with its tenant and workflow, so its events also reach the
+    /// tenant's firehose subscribers.
+    ///
+    /// Call before the execution publishes its first event; events published earlier stay
+    /// on the execution's own stream only.
+    ///
+    /// @param executionId the execution, not null
+    /// @param tenantId the owning tenant, not null
+    /// @param workflowId the execution's workflow, not null
+    public void register(String executionId, String tenantId, String workflowId) {
+        Objects.requireNonNull(executionId, "executionId must not be null");
+        Objects.requireNonNull(tenantId, "tenantId must not be null");
+        Objects.requireNonNull(workflowId, "workflowId must not be null");
+        while (!log(executionId).register(tenantId, workflowId)) {
+            // Raced with eviction; the next lookup creates a fresh log
+        }
     }
 
     /// Publishes an event to all subscribers of an execution.
     ///
+    /// The event is appended to the execution's log even when nobody is subscribed.
+    ///
     /// @param executionId the target execution, not null
     /// @param event the event to publish, not null
     public void publish(String executionId, ExecutionEvent event) {
         Objects.requireNonNull(executionId, "executionId must not be null");
         Objects.requireNonNull(event, "event must not be null");
 
-        BroadcastProcessor<ExecutionEvent> processor = processors.get(executionId);
-        if (processor != null) {
-            LOG.debugv(
-                    "Publishing {0} to execution {1}",
-                    event.type(), LogSanitizer.sanitize(executionId));
-            processor.onNext(event);
-        } else {
-            LOG.tracev(
-                    "No subscribers for execution {0}, event {1} dropped",
-                    LogSanitizer.sanitize(executionId), event.type());
+        LOG.debugv(
+                "Publishing {0} to execution {1}",
+                event.type(),
+                LogSanitizer.sanitize(executionId));
+        while (!log(executionId).append(event)) {
+            // Raced with eviction; the next lookup creates a fresh log
         }
     }
 
@@ -117,18 +391,13 @@ public class ExecutionEventBroadcaster {
 
     /// Completes the event stream for an execution.
     ///
-    /// Should be called when execution finishes to clean up resources.
+    /// Should be called when execution finishes. Live subscribers complete; the log stays
+    /// replayable for the configured retention.
     ///
     /// @param executionId the execution to complete, not null
     public void complete(String executionId) {
         Objects.requireNonNull(executionId, "executionId must not be null");
-
-        BroadcastProcessor<ExecutionEvent> processor = processors.remove(executionId);
-        if (processor != null) {
-            LOG.debugv(
-                    "Completing broadcast for execution: {0}", LogSanitizer.sanitize(executionId));
-            processor.onComplete();
-        }
+        close(executionId, null, true);
     }
 
     /// Completes the event stream with an error for an execution.
@@ -137,12 +406,8 @@ public class ExecutionEventBroadcaster {
     /// @param error the error cause, not null
     public void error(String executionId, Throwable error) {
         Objects.requireNonNull(executionId, "executionId must not be null");
-
-        BroadcastProcessor<ExecutionEvent> processor = processors.remove(executionId);
-        if (processor != null) {
-            LOG.debugv("Completing broadcast with error for execution: {0}", executionId);
-            processor.onError(error);
-        }
+        Objects.requireNonNull(error, "error must not be null");
+        close(executionId, error, true);
     }
 
     /// Unsubscribes and cleans up an execution stream.
@@ -152,18 +417,326 @@ public class ExecutionEventBroadcaster {
         complete(executionId);
     }
 
-    /// Returns the number of active subscriptions.
+    /// Returns the number of executions with at least one connected subscriber.
     ///
     /// @return count of active execution streams
     public int activeSubscriptionCount() {
-        return processors.size();
+        return (int) logs.values().stream().filter(EventLog::hasSubscribers).count();
     }
 
-    /// Returns whether an execution has active subscribers.
+    /// Returns whether an execution has connected subscribers.
     ///
     /// @param executionId the execution to check, not null
     /// @return true if there are subscribers
     public boolean hasSubscribers(String executionId) {
-        return processors.containsKey(executionId);
+        EventLog log = logs.get(executionId);
+        return log != null && log.hasSubscribers();
+    }
+
+    /// Returns the number of event logs held in memory, live or retained.
+    int retainedLogCount() {
+        return logs.size();
+    }
+
+    /// Returns the number of tenants with at least one firehose subscriber.
+    int firehoseTopicCount() {
+        return topics.size();
+    }
+
+    private EventLog log(String executionId) {
+        return logs.computeIfAbsent(executionId, EventLog::new);
+    }
+
+    /// Applies a message from another node to this node's copy of the execution's log.
+    ///
+    /// Events are delivered to local subscribers without being sent back to the bus.
+    ///
+    /// @param message the remote event or completion, not null
+    void applyRemote(ClusterEvent message) {
+        String executionId = message.executionId();
+        if (message.isCompletion()) {
+            close(executionId, null, false);
+            return;
+        }
+        while (!log(executionId).appendRemote(message)) {
+            // Raced with eviction; the next lookup creates a fresh log
+        }
+        evictExpired();
+    }
+
+    private void close(String executionId, Throwable error, boolean propagate) {
+        EventLog log = logs.get(executionId);
+        if (log != null && log.close(error, propagate)) {
+            LOG.debugv(
+                    "Completing broadcast for execution: {0}", LogSanitizer.sanitize(executionId));
+            expiries.add(new Expiry(executionId, System.nanoTime() + retentionNanos));
+        }
+        evictExpired();
+    }
+
+    private void evictExpired() {
+        long now = System.nanoTime();
+        closeIdleLogs(now);
+        Expiry head;
+        while ((head = expiries.peek()) != null && now - head.deadline() >= 0) {
+            if (!expiries.remove(head)) continue;
+            EventLog log = logs.get(head.executionId());
+            if (log != null) {
+                log.evictIfExpired(now);
+            }
+        }
+    }
+
+    /// Completes logs that have been idle for `idleTimeout`, or `remoteIdleTimeout` if fed
+    /// only by another node, at most once per quarter of the shorter timeout. Without this,
+    /// an execution that never completes its log, a lost completion or a crashed origin would
+    /// keep the log, and any subscribers it has, forever.
+    private void closeIdleLogs(long now) {
+        if (now - nextIdleSweep < 0) return;
+        nextIdleSweep = now + Math.min(idleNanos, remoteIdleNanos) / 4;
+        for (EventLog log : logs.values()) {
+            if (log.closeIfIdle(now)) {
+                expiries.add(new Expiry(log.executionId, now + retentionNanos));
+            }
+        }
+    }
+
+    private void offerToTenant(String tenantId, String workflowId, SequencedEvent sequenced) {
+        List<FirehoseSubscriber> subscribers = topics.get(tenantId);
+        if (subscribers == null) return;
+        TenantEvent event = TenantEvent.of(workflowId, sequenced);
+        for (FirehoseSubscriber subscriber : subscribers) {
+            if (subscriber.filter().matches(event)) {
+                subscriber.emitter().emit(event);
+            }
+        }
+    }
+
+    private void attachFirehose(String tenantId, FirehoseSubscriber subscriber) {
+        topics.compute(
+                tenantId,
+                (_, subscribers) -> {
+                    List<FirehoseSubscriber> list =
+                            subscribers != null ? subscribers : new CopyOnWriteArrayList<>();
+                    list.add(subscriber);
+                    return list;
+                });
+    }
+
+    private void detachFirehose(String tenantId, FirehoseSubscriber subscriber) {
+        topics.computeIfPresent(
+                tenantId,
+                (_, subscribers) -> {
+                    subscribers.remove(subscriber);
+                    return subscribers.isEmpty() ? null : subscribers;
+                });
+    }
+
+    private record Expiry(String executionId, long deadline) {}
+
+    private record FirehoseSubscriber(
+            MultiEmitter<? super TenantEvent> emitter, EventFilter filter) {}
+
+    /// One execution's ring buffer and live subscribers.
+    ///
+    /// A discarded log has been removed from the map; callers that raced with the removal
+    /// retry against a fresh log.
+    private final class EventLog {
+
+        private final String executionId;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ArrayDeque<SequencedEvent> ring = new ArrayDeque<>();
+        private final List<MultiEmitter<? super SequencedEvent>> subscribers =
+                new CopyOnWriteArrayList<>();
+        private long nextSequence = 1;
+        private String tenantId;
+        private String workflowId;
+        private boolean completed;
+        private long completedAt;
+        private boolean discarded;
+        /// Whether the last event came from another node rather than a local publish.
+        private boolean remote;
+        private long lastEventAt = System.nanoTime();
+
+        private EventLog(String executionId) {
+            this.executionId = executionId;
+        }
+
+        boolean append(ExecutionEvent event) {
+            lock.lock();
+            try {
+                if (discarded) return false;
+                remote = false;
+                SequencedEvent sequenced = new SequencedEvent(nextSequence++, event);
+                deliver(sequenced);
+                clusterBus.publish(ClusterEvent.of(executionId, tenantId, workflowId, sequenced));
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean appendRemote(ClusterEvent message) {
+            lock.lock();
+            try {
+                if (discarded) return false;
+                remote = true;
+                if (message.tenantId() != null) {
+                    tenantId = message.tenantId();
+                    workflowId = message.workflowId();
+                }
+                long sequence = message.sequence();
+                if (sequence < nextSequence) return true;
+                if (sequence > nextSequence && nextSequence > 1) {
+                    LOG.warnv(
+                            "Execution {0} missed remote events {1} to {2}",
+                            LogSanitizer.sanitize(executionId),
+                            nextSequence,
+                            sequence - 1);
+                }
+                nextSequence = sequence + 1;
+                deliver(new SequencedEvent(sequence, message.event()));
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void deliver(SequencedEvent sequenced) {
+            // A resumed execution publishes to the log its previous run completed
+            completed = false;
+            lastEventAt = System.nanoTime();
+            if (ring.size() == capacity) {
+                ring.pollFirst();
+            }
+            ring.addLast(sequenced);
+            for (MultiEmitter<? super SequencedEvent> subscriber : subscribers) {
+                subscriber.emit(sequenced);
+            }
+            if (tenantId != null) {
+                offerToTenant(tenantId, workflowId, sequenced);
+            }
+        }
+
+        boolean register(String tenantId, String workflowId) {
+            lock.lock();
+            try {
+                if (discarded) return false;
+                this.tenantId = tenantId;
+                this.workflowId = workflowId;
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean attach(MultiEmitter<? super SequencedEvent> emitter, long afterSequence) {
+            lock.lock();
+            try {
+                if (discarded) return false;
+                emitter.onTermination(() -> detach(emitter));
+                long after = afterSequence >= nextSequence ? 0 : afterSequence;
+                for (SequencedEvent buffered : ring) {
+                    if (buffered.sequence() > after) {
+                        emitter.emit(buffered);
+                    }
+                }
+                if (completed) {
+                    emitter.complete();
+                } else {
+                    subscribers.add(emitter);
+                }
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void detach(MultiEmitter<? super SequencedEvent> emitter) {
+            lock.lock();
+            try {
+                subscribers.remove(emitter);
+                LOG.debugv(
+                        "Client disconnected from execution: {0}",
+                        LogSanitizer.sanitize(executionId));
+                if (subscribers.isEmpty() && nextSequence == 1 && !completed && !discarded) {
+                    discard();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean close(Throwable error, boolean propagate) {
+            lock.lock();
+            try {
+                if (discarded || completed) return false;
+                if (propagate) {
+                    clusterBus.publish(ClusterEvent.completion(executionId));
+                }
+                completed = true;
+                completedAt = System.nanoTime();
+                for (MultiEmitter<? super SequencedEvent> subscriber : subscribers) {
+                    if (error != null) {
+                        subscriber.fail(error);
+                    } else {
+                        subscriber.complete();
+                    }
+                }
+                subscribers.clear();
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /// Completes this log if no event arrived for `idleTimeout`, or `remoteIdleTimeout`
+        /// if it is fed by another node.
+        ///
+        /// @return true if the log was completed by this call
+        boolean closeIfIdle(long now) {
+            lock.lock();
+            try {
+                long timeout = remote ? remoteIdleNanos : idleNanos;
+                if (completed || discarded || now - lastEventAt < timeout) {
+                    return false;
+                }
+                if (remote) {
+                    LOG.warnv(
+                            "No events from the origin of execution {0} for {1}; completing"
+                                    + " its log",
+                            LogSanitizer.sanitize(executionId),
+                            Duration.ofNanos(timeout));
+                } else {
+                    LOG.warnv(
+                            "Execution {0} published no event for {1}; completing its log",
+                            LogSanitizer.sanitize(executionId),
+                            Duration.ofNanos(timeout));
+                }
+                return close(null, false);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void evictIfExpired(long now) {
+            lock.lock();
+            try {
+                if (completed && !discarded && now - completedAt >= retentionNanos) {
+                    discard();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean hasSubscribers() {
+            return !subscribers.isEmpty();
+        }
+
+        private void discard() {
+            discarded = true;
+            logs.remove(executionId, this);
+        }
     }
 }
@@ -0,0 +1,22 @@
+package io.hensu.server.streaming;
+
+import java.util.Objects;
+
+/// An {@link ExecutionEvent} tagged with its position in the execution's event log.
+///
+/// Sequence numbers start at `1` and increase by one per published event of the same
+/// execution. They are sent as the SSE `id:` field, so a reconnecting client's
+/// `Last-Event-ID` header names the last event it received.
+///
+/// @param sequence position in the execution's event log, positive
+/// @param event the event, not null
+/// @see ExecutionEventBroadcaster#subscribe(String, long)
+public record SequencedEvent(long sequence, ExecutionEvent event) {
+
+    public SequencedEvent {
+        if (sequence <= 0) {
+            throw new IllegalArgumentException("sequence must be positive: " + sequence);
+        }
+        Objects.requireNonNull(event, "event must not be null");
+    }
+}
@@ -0,0 +1,47 @@
+package io.hensu.server.streaming;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.Objects;
+
+/// An execution event as delivered on a tenant-wide firehose.
+///
+/// Wraps the event with the fields subscribers filter on, since not every
+/// {@link ExecutionEvent} carries its workflow or node.
+///
+/// @param executionId the execution the event belongs to, not null
+/// @param workflowId the execution's workflow, not null
+/// @param nodeId the node the event refers to, may be null
+/// @param sequence the event's sequence in the execution's own stream, positive
+/// @param event the event, not null
+/// @see ExecutionEventBroadcaster#subscribeTenant(String, EventFilter)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TenantEvent(
+        String executionId, String workflowId, String nodeId, long sequence, ExecutionEvent event) {
+
+    public TenantEvent {
+        Objects.requireNonNull(executionId, "executionId must not be null");
+        Objects.requireNonNull(workflowId, "workflowId must not be null");
+        Objects.requireNonNull(event, "event must not be null");
+    }
+
+    /// Wraps a sequenced event of an execution running `workflowId`.
+    ///
+    /// @param workflowId the execution's workflow, not null
+    /// @param sequenced the event and its sequence, not null
+    /// @return the firehose event, never null
+    static TenantEvent of(String workflowId, SequencedEvent sequenced) {
+        ExecutionEvent event = sequenced.event();
+        return new TenantEvent(
+                event.executionId(), workflowId, nodeIdOf(event), sequenced.sequence(), event);
+    }
+
+    private static String nodeIdOf(ExecutionEvent event) {
+        return switch (event) {
+            case ExecutionEvent.ExecutionStarted _ -> null;
+            case ExecutionEvent.ExecutionPaused paused -> paused.nodeId();
+            case ExecutionEvent.ExecutionCompleted completed -> completed.finalNodeId();
+            case ExecutionEvent.ExecutionError error -> error.nodeId();
+            case ExecutionEvent.AgentOutputDelta delta -> delta.nodeId();
+        };
+    }
+}
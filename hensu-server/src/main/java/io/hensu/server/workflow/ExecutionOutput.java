@@ -10,7 +10,7 @@ import java.util.Map;
 ///
 /// @param executionId the execution identifier, never null
 /// @param workflowId the workflow definition identifier, never null
-/// @param status `COMPLETED` or `PAUSED`, never null
+/// @param status `QUEUED`, `COMPLETED` or `PAUSED`, never null
 /// @param output public context variables produced by the workflow, never null, may be empty
 @RegisterForReflection
 public record ExecutionOutput(
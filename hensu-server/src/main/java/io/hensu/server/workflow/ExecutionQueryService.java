@@ -1,18 +1,29 @@
 package io.hensu.server.workflow;
 
-import io.hensu.core.state.ExecutionPhase;
+import io.hensu.core.state.ExecutionCursor;
+import io.hensu.core.state.ExecutionStatusView;
 import io.hensu.core.state.HensuSnapshot;
 import io.hensu.core.state.WorkflowStateRepository;
+import io.hensu.server.persistence.WriteBehindStateRepository;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 /// Read-only service for querying execution state.
 ///
 /// Fetches status, pending plan info, public output, and paused execution summaries from
 /// the {@link WorkflowStateRepository}. Does not mutate any state — any change to an
 /// execution goes through {@link WorkflowExecutionService} or {@link ExecutionStateService}.
+///
+/// Status and listing queries use the repository's {@link ExecutionStatusView} projections,
+/// so polling an execution never loads its context or history; only
+/// {@link #getExecutionResult} reads the full snapshot.
 @ApplicationScoped
 public class ExecutionQueryService {
 
@@ -31,14 +42,18 @@ public class ExecutionQueryService {
     /// @return the execution status, never null
     /// @throws ExecutionNotFoundException if execution not found
     public ExecutionStatus getExecutionStatus(String tenantId, String executionId) {
-        HensuSnapshot snapshot = loadSnapshot(tenantId, executionId);
-        String status = snapshot.isCompleted() ? "COMPLETED" : "PAUSED";
+        Objects.requireNonNull(tenantId, "tenantId must not be null");
+        Objects.requireNonNull(executionId, "executionId must not be null");
+        ExecutionStatusView view =
+                stateRepository
+                        .findStatus(tenantId, executionId)
+                        .orElseThrow(() -> notFound(executionId));
         return new ExecutionStatus(
                 executionId,
-                snapshot.workflowId(),
-                status,
-                snapshot.currentNodeId(),
-                extractCorrelationId(snapshot));
+                view.workflowId(),
+                statusOf(view.isCompleted(), view.checkpointReason()),
+                view.currentNodeId(),
+                view.correlationId());
     }
 
     /// Gets the public output of a completed or paused execution.
@@ -52,36 +67,84 @@ public class ExecutionQueryService {
     /// @throws ExecutionNotFoundException if execution not found
     public ExecutionOutput getExecutionResult(String tenantId, String executionId) {
         HensuSnapshot snapshot = loadSnapshot(tenantId, executionId);
-        String status = snapshot.isCompleted() ? "COMPLETED" : "PAUSED";
         return new ExecutionOutput(
                 executionId,
                 snapshot.workflowId(),
-                status,
+                statusOf(snapshot.isCompleted(), snapshot.checkpointReason()),
                 WorkflowContextUtil.publicContext(snapshot.context()));
     }
 
-    /// Lists all paused executions for a tenant.
+    /// Lists one page of a tenant's paused executions, oldest first.
     ///
     /// @param tenantId the tenant ID, not null
-    /// @return list of paused execution summaries, never null, may be empty
-    public List<ExecutionSummary> listPausedExecutions(String tenantId) {
+    /// @param cursor the previous page's {@link ExecutionSummaryPage#nextCursor()}, or null
+    ///     for the first page
+    /// @param limit maximum summaries on the page, positive
+    /// @return the page, never null; `nextCursor` is null when no further rows can follow
+    /// @throws IllegalArgumentException if `cursor` is malformed or `limit` is not positive
+    public ExecutionSummaryPage listPausedExecutions(String tenantId, String cursor, int limit) {
         Objects.requireNonNull(tenantId, "tenantId must not be null");
-        return stateRepository.findPaused(tenantId).stream()
-                .map(
-                        s ->
-                                new ExecutionSummary(
-                                        s.executionId(),
-                                        s.workflowId(),
-                                        s.currentNodeId(),
-                                        s.createdAt(),
-                                        extractCorrelationId(s)))
-                .toList();
+        List<ExecutionStatusView> views =
+                stateRepository.findPausedStatuses(tenantId, decodeCursor(cursor), limit);
+        List<ExecutionSummary> items =
+                views.stream()
+                        .map(
+                                v ->
+                                        new ExecutionSummary(
+                                                v.executionId(),
+                                                v.workflowId(),
+                                                v.currentNodeId(),
+                                                v.createdAt(),
+                                                v.correlationId()))
+                        .toList();
+        String next =
+                views.size() == limit ? encodeCursor(ExecutionCursor.after(views.getLast())) : null;
+        return new ExecutionSummaryPage(items, next);
+    }
+
+    /// Returns statistics of the group-commit checkpoint writer.
+    ///
+    /// @return writer statistics, or empty when checkpoints are written through
+    ///     (in-memory persistence or `hensu.checkpoint.write-behind.flush-interval=0`)
+    public Optional<WriteBehindStateRepository.Stats> checkpointStats() {
+        return stateRepository instanceof WriteBehindStateRepository writer
+                ? Optional.of(writer.stats())
+                : Optional.empty();
+    }
+
+    /// `QUEUED` while the execution waits for a scheduler slot, `COMPLETED` once it reached an
+    /// end node, `PAUSED` otherwise.
+    private static String statusOf(boolean completed, String checkpointReason) {
+        if (completed) return "COMPLETED";
+        return "queued".equals(checkpointReason) ? "QUEUED" : "PAUSED";
+    }
+
+    /// Encodes a keyset position as URL-safe Base64 of `createdAt` and `executionId`.
+    static String encodeCursor(ExecutionCursor cursor) {
+        String raw = cursor.createdAt() + "\n" + cursor.executionId();
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static ExecutionCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) return null;
+        try {
+            String raw =
+                    new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int split = raw.indexOf('\n');
+            if (split > 0 && split < raw.length() - 1) {
+                return new ExecutionCursor(
+                        Instant.parse(raw.substring(0, split)), raw.substring(split + 1));
+            }
+        } catch (IllegalArgumentException | DateTimeParseException _) {
+            // Reported below
+        }
+        throw new IllegalArgumentException("Invalid page cursor");
     }
 
-    private static String extractCorrelationId(HensuSnapshot snapshot) {
-        return snapshot.phase() instanceof ExecutionPhase.Awaiting awaiting
-                ? awaiting.correlationId()
-                : null;
+    private static ExecutionNotFoundException notFound(String executionId) {
+        return new ExecutionNotFoundException("Execution not found: " + executionId);
     }
 
     private HensuSnapshot loadSnapshot(String tenantId, String executionId) {
@@ -89,9 +152,6 @@ public class ExecutionQueryService {
         Objects.requireNonNull(executionId, "executionId must not be null");
         return stateRepository
                 .findByExecutionId(tenantId, executionId)
-                .orElseThrow(
-                        () ->
-                                new ExecutionNotFoundException(
-                                        "Execution not found: " + executionId));
+                .orElseThrow(() -> notFound(executionId));
     }
 }
@@ -0,0 +1,29 @@
+package io.hensu.server.workflow;
+
+import java.io.Serial;
+import java.time.Duration;
+import java.util.Objects;
+
+/// Thrown when a new execution cannot be admitted because the scheduler's queue is full.
+///
+/// Signals backpressure, not a failure: nothing was persisted or started, and the same
+/// request may succeed after {@link #getRetryAfter()}.
+///
+/// @see ExecutionScheduler#reserve(String)
+public class ExecutionRejectedException extends RuntimeException {
+    @Serial private static final long serialVersionUID = 6417022518703361095L;
+
+    private final Duration retryAfter;
+
+    public ExecutionRejectedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = Objects.requireNonNull(retryAfter, "retryAfter must not be null");
+    }
+
+    /// Returns how long the caller should wait before retrying.
+    ///
+    /// @return the suggested delay, never null
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
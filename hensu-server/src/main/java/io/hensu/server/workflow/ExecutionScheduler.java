@@ -0,0 +1,424 @@
+package io.hensu.server.workflow;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/// Bounded, tenant-fair dispatcher for workflow executions on this node.
+///
+/// Every execution — new or recovered — runs on its own virtual thread, but only once the
+/// scheduler grants it a slot. Until then it waits in its tenant's FIFO queue.
+///
+/// ### Limits
+/// - **Global**: at most `maxConcurrent` executions run on this node at once
+/// - **Per tenant**: at most `maxConcurrentPerTenant` of them belong to one tenant
+/// - **Queue**: beyond the slots it could start right away, a tenant may have at most
+///   `maxQueuedPerTenant` executions waiting, and the node at most `maxQueued` across all
+///   tenants; past that {@link #reserve(String)} throws {@link ExecutionRejectedException},
+///   which the REST layer maps to `429 Too Many Requests`
+///
+/// ### Fairness
+/// Tenants with waiting work form a ring. Each free slot goes to the next tenant in the
+/// ring that is below its own limit, which then moves to the back. A tenant that submits a
+/// thousand executions therefore delays another tenant's single execution by at most one
+/// dispatch per competing tenant, not by a thousand.
+///
+/// ### Admission
+/// New executions are admitted in two steps so the caller can persist the execution as
+/// `queued` before it can possibly start:
+/// {@snippet :
+/// ExecutionScheduler.Reservation slot = scheduler.reserve(tenantId); // may throw 429
+/// stateRepository.save(tenantId, queuedSnapshot);                     // durable from here
+/// slot.dispatch(executionId, "wf-exec-" + executionId, task);
+/// }
+/// Recovered executions were admitted once already and enter through
+/// {@link #resubmit}, which respects the concurrency limits but never rejects.
+///
+/// ### Configuration
+/// | Property                                     | Default | Description                    |
+/// |----------------------------------------------|---------|--------------------------------|
+/// | `hensu.scheduler.max-concurrent`             | `64`    | Running executions per node    |
+/// | `hensu.scheduler.max-concurrent-per-tenant`  | `16`    | Running executions per tenant  |
+/// | `hensu.scheduler.max-queued-per-tenant`      | `1000`  | Waiting executions per tenant  |
+/// | `hensu.scheduler.max-queued`                 | `10000` | Waiting executions per node    |
+/// | `hensu.scheduler.retry-after`                | `5s`    | `Retry-After` on rejection     |
+///
+/// @implNote Thread-safe. All queue and counter state is guarded by one
+/// {@link ReentrantLock}; tasks run outside it. Limits are per node — a cluster of N nodes
+/// admits up to N times the configured values.
+///
+/// @see WorkflowExecutionService
+/// @see WorkflowRecoveryJob
+@ApplicationScoped
+public class ExecutionScheduler {
+
+    private static final Logger LOG = Logger.getLogger(ExecutionScheduler.class);
+
+    @ConfigProperty(name = "hensu.scheduler.max-concurrent", defaultValue = "64")
+    int maxConcurrent;
+
+    @ConfigProperty(name = "hensu.scheduler.max-concurrent-per-tenant", defaultValue = "16")
+    int maxConcurrentPerTenant;
+
+    @ConfigProperty(name = "hensu.scheduler.max-queued-per-tenant", defaultValue = "1000")
+    int maxQueuedPerTenant;
+
+    @ConfigProperty(name = "hensu.scheduler.max-queued", defaultValue = "10000")
+    int maxQueued;
+
+    @ConfigProperty(name = "hensu.scheduler.retry-after", defaultValue = "5s")
+    Duration retryAfter;
+
+    private Limits limits;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, TenantQueue> tenants = new HashMap<>();
+    private final ArrayDeque<TenantQueue> ring = new ArrayDeque<>();
+    private int running;
+    private int queued;
+
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    /// CDI no-arg constructor required by ArC for field injection.
+    public ExecutionScheduler() {}
+
+    /// Package-private constructor for tests — bypasses CDI lifecycle.
+    ///
+    /// @param limits the limits to enforce, not null
+    ExecutionScheduler(Limits limits) {
+        this.limits = Objects.requireNonNull(limits, "limits must not be null");
+    }
+
+    @PostConstruct
+    void init() {
+        limits =
+                new Limits(
+                        maxConcurrent,
+                        maxConcurrentPerTenant,
+                        maxQueuedPerTenant,
+                        maxQueued,
+                        retryAfter);
+        LOG.infov("Execution scheduler initialized: {0}", limits);
+    }
+
+    /// Reserves a queue slot for a new execution of `tenantId`.
+    ///
+    /// The slot counts against the queue limits until it is dispatched or cancelled.
+    ///
+    /// @param tenantId the tenant starting the execution, not null
+    /// @return the reservation to dispatch or cancel, never null
+    /// @throws ExecutionRejectedException if the tenant's or the node's queue is full
+    public Reservation reserve(String tenantId) {
+        Objects.requireNonNull(tenantId, "tenantId must not be null");
+        lock.lock();
+        try {
+            TenantQueue tenant = tenants.computeIfAbsent(tenantId, TenantQueue::new);
+            boolean nodeFull =
+                    queued >= freeSlots(limits.maxConcurrent(), running) + limits.maxQueued();
+            boolean tenantFull =
+                    tenant.pending()
+                            >= freeSlots(limits.maxConcurrentPerTenant(), tenant.running)
+                                    + limits.maxQueuedPerTenant();
+            if (nodeFull || tenantFull) {
+                rejected.increment();
+                removeIfIdle(tenant);
+                throw new ExecutionRejectedException(
+                        "Execution queue full for " + (nodeFull ? "node" : "tenant"),
+                        limits.retryAfter());
+            }
+            tenant.reserved++;
+            queued++;
+            return new Reservation(tenant);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /// Queues an execution that was admitted before, typically one recovered from a crashed
+    /// node. Never rejected; still waits for a free slot.
+    ///
+    /// @param tenantId the tenant owning the execution, not null
+    /// @param executionId the execution identifier, not null
+    /// @param threadName name of the virtual thread that will run `task`, not null
+    /// @param task the execution body, not null
+    public void resubmit(String tenantId, String executionId, String threadName, Runnable task) {
+        Objects.requireNonNull(tenantId, "tenantId must not be null");
+        Pending pending = new Pending(executionId, threadName, task, System.nanoTime());
+        lock.lock();
+        try {
+            TenantQueue tenant = tenants.computeIfAbsent(tenantId, TenantQueue::new);
+            queued++;
+            enqueue(tenant, pending);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /// Returns node-wide scheduler metrics.
+    ///
+    /// @return a point-in-time snapshot, never null
+    public Stats stats() {
+        int runningNow;
+        int queuedNow;
+        lock.lock();
+        try {
+            runningNow = running;
+            queuedNow = queued;
+        } finally {
+            lock.unlock();
+        }
+        long count = dispatched.sum();
+        return new Stats(
+                runningNow,
+                queuedNow,
+                count,
+                rejected.sum(),
+                count == 0 ? 0.0 : totalWaitNanos.sum() / 1_000_000.0 / count,
+                Duration.ofNanos(maxWaitNanos.get()).toMillis(),
+                limits);
+    }
+
+    /// Returns one tenant's share of the node's running and waiting executions.
+    ///
+    /// @param tenantId the tenant, not null
+    /// @return a point-in-time snapshot, never null; zeros for unknown tenants
+    public TenantStats stats(String tenantId) {
+        Objects.requireNonNull(tenantId, "tenantId must not be null");
+        lock.lock();
+        try {
+            TenantQueue tenant = tenants.get(tenantId);
+            return tenant == null
+                    ? new TenantStats(0, 0)
+                    : new TenantStats(tenant.running, tenant.pending());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // --- Internal helpers (callers hold the lock) ---
+
+    private void enqueue(TenantQueue tenant, Pending pending) {
+        tenant.waiting.addLast(pending);
+        if (!tenant.inRing) {
+            tenant.inRing = true;
+            ring.addLast(tenant);
+        }
+        drain();
+    }
+
+    /// Hands free slots to tenants in ring order. Stops when the node is saturated or a full
+    /// pass over the ring finds no tenant below its own limit.
+    private void drain() {
+        int skipped = 0;
+        while (running < limits.maxConcurrent() && skipped < ring.size()) {
+            TenantQueue tenant = ring.pollFirst();
+            if (tenant.running >= limits.maxConcurrentPerTenant()) {
+                ring.addLast(tenant);
+                skipped++;
+                continue;
+            }
+            skipped = 0;
+            start(tenant, tenant.waiting.pollFirst());
+            if (tenant.waiting.isEmpty()) {
+                tenant.inRing = false;
+            } else {
+                ring.addLast(tenant);
+            }
+        }
+    }
+
+    private void start(TenantQueue tenant, Pending pending) {
+        queued--;
+        running++;
+        tenant.running++;
+
+        long waited = System.nanoTime() - pending.enqueuedAt();
+        dispatched.increment();
+        totalWaitNanos.add(waited);
+        maxWaitNanos.accumulateAndGet(waited, Math::max);
+
+        Thread.ofVirtual()
+                .name(pending.threadName())
+                .start(
+                        () -> {
+                            try {
+                                pending.task().run();
+                            } catch (RuntimeException e) {
+                                LOG.errorv(
+                                        e,
+                                        "Scheduled execution failed: {0}",
+                                        pending.executionId());
+                            } finally {
+                                finished(tenant);
+                            }
+                        });
+    }
+
+    private void finished(TenantQueue tenant) {
+        lock.lock();
+        try {
+            running--;
+            tenant.running--;
+            removeIfIdle(tenant);
+            drain();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /// Waiting executions that would start immediately; they never count as queue overflow.
+    private static int freeSlots(int limit, int runningNow) {
+        return Math.max(0, limit - runningNow);
+    }
+
+    private void removeIfIdle(TenantQueue tenant) {
+        if (tenant.running == 0 && tenant.pending() == 0) {
+            tenants.remove(tenant.tenantId);
+        }
+    }
+
+    // --- Types ---
+
+    /// A queue slot held for one new execution between admission and dispatch.
+    ///
+    /// Exactly one of {@link #dispatch} or {@link #cancel} takes effect; later calls are
+    /// ignored.
+    public final class Reservation {
+
+        private final TenantQueue tenant;
+        private final AtomicBoolean settled = new AtomicBoolean();
+        private final long reservedAt = System.nanoTime();
+
+        private Reservation(TenantQueue tenant) {
+            this.tenant = tenant;
+        }
+
+        /// Queues the execution. It starts as soon as the limits allow, possibly before this
+        /// method returns. Wait time is measured from {@link ExecutionScheduler#reserve}.
+        ///
+        /// @param executionId the execution identifier, not null
+        /// @param threadName name of the virtual thread that will run `task`, not null
+        /// @param task the execution body, not null
+        public void dispatch(String executionId, String threadName, Runnable task) {
+            Pending pending = new Pending(executionId, threadName, task, reservedAt);
+            if (!settled.compareAndSet(false, true)) return;
+            lock.lock();
+            try {
+                tenant.reserved--;
+                enqueue(tenant, pending);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /// Releases the slot without running anything, e.g. when persisting the queued
+        /// execution failed.
+        public void cancel() {
+            if (!settled.compareAndSet(false, true)) return;
+            lock.lock();
+            try {
+                tenant.reserved--;
+                queued--;
+                removeIfIdle(tenant);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /// Scheduler limits.
+    ///
+    /// @param maxConcurrent running executions per node, positive
+    /// @param maxConcurrentPerTenant running executions per tenant, positive
+    /// @param maxQueuedPerTenant waiting executions per tenant beyond its free slots, not
+    ///     negative; `0` rejects instead of queueing once the tenant is saturated
+    /// @param maxQueued waiting executions per node beyond its free slots, not negative
+    /// @param retryAfter delay suggested to rejected callers, not null
+    public record Limits(
+            int maxConcurrent,
+            int maxConcurrentPerTenant,
+            int maxQueuedPerTenant,
+            int maxQueued,
+            Duration retryAfter) {
+
+        public Limits {
+            if (maxConcurrent <= 0 || maxConcurrentPerTenant <= 0) {
+                throw new IllegalArgumentException(
+                        "Concurrency limits must be positive: maxConcurrent="
+                                + maxConcurrent
+                                + ", maxConcurrentPerTenant="
+                                + maxConcurrentPerTenant);
+            }
+            if (maxQueuedPerTenant < 0 || maxQueued < 0) {
+                throw new IllegalArgumentException(
+                        "Queue limits must not be negative: maxQueuedPerTenant="
+                                + maxQueuedPerTenant
+                                + ", maxQueued="
+                                + maxQueued);
+            }
+            Objects.requireNonNull(retryAfter, "retryAfter must not be null");
+        }
+    }
+
+    /// Node-wide scheduler metrics since startup.
+    ///
+    /// @param running executions currently running
+    /// @param queued executions waiting for a slot, including reserved slots
+    /// @param dispatched executions started so far
+    /// @param rejected admissions refused because a queue was full
+    /// @param avgWaitMillis mean time from admission to start
+    /// @param maxWaitMillis longest time from admission to start
+    /// @param limits the configured limits
+    public record Stats(
+            int running,
+            int queued,
+            long dispatched,
+            long rejected,
+            double avgWaitMillis,
+            long maxWaitMillis,
+            Limits limits) {}
+
+    /// One tenant's share of the node's executions.
+    ///
+    /// @param running the tenant's executions currently running
+    /// @param queued the tenant's executions waiting for a slot
+    public record TenantStats(int running, int queued) {}
+
+    private record Pending(String executionId, String threadName, Runnable task, long enqueuedAt) {
+        Pending {
+            Objects.requireNonNull(executionId, "executionId must not be null");
+            Objects.requireNonNull(threadName, "threadName must not be null");
+            Objects.requireNonNull(task, "task must not be null");
+        }
+    }
+
+    /// Per-tenant queue and counters. Mutated only under the scheduler lock.
+    private static final class TenantQueue {
+        private final String tenantId;
+        private final ArrayDeque<Pending> waiting = new ArrayDeque<>();
+        private int reserved;
+        private int running;
+        private boolean inRing;
+
+        private TenantQueue(String tenantId) {
+            this.tenantId = tenantId;
+        }
+
+        private int pending() {
+            return waiting.size() + reserved;
+        }
+    }
+}
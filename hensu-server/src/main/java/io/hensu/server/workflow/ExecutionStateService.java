@@ -10,15 +10,19 @@ import io.hensu.core.state.HensuState;
 import io.hensu.core.state.WorkflowStateRepository;
 import io.hensu.core.util.LogSanitizer;
 import io.hensu.core.workflow.Workflow;
+import io.hensu.server.execution.CompositeExecutionListener;
 import io.hensu.server.persistence.ExecutionLeaseManager;
+import io.hensu.server.streaming.AgentOutputListener;
 import io.hensu.server.streaming.ExecutionEvent;
 import io.hensu.server.streaming.ExecutionEventBroadcaster;
 import io.hensu.server.tenant.TenantContext;
 import io.hensu.server.tenant.TenantContext.TenantInfo;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Objects;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
 
 /// Service for resuming paused workflow executions and managing checkpoint persistence.
@@ -32,6 +36,15 @@ public class ExecutionStateService {
 
     private static final Logger LOG = Logger.getLogger(ExecutionStateService.class);
 
+    @ConfigProperty(name = "hensu.events.agent-output.enabled", defaultValue = "true")
+    boolean agentOutputEnabled;
+
+    @ConfigProperty(name = "hensu.events.agent-output.max-bytes", defaultValue = "1024")
+    int agentOutputMaxBytes;
+
+    @ConfigProperty(name = "hensu.events.agent-output.flush-interval", defaultValue = "250ms")
+    Duration agentOutputFlushInterval;
+
     private final WorkflowExecutor workflowExecutor;
     private final WorkflowStateRepository stateRepository;
     private final WorkflowRegistryService registryService;
@@ -93,6 +106,7 @@ public class ExecutionStateService {
 
             TenantInfo tenant = TenantInfo.simple(tenantId);
             String workflowId = snapshot.workflowId();
+            eventBroadcaster.register(executionId, tenantId, workflowId);
 
             // Validated before the try below, whose catch marks the execution failed. A resume
             // request that does not fit the persisted phase is a bad request, not a broken
@@ -125,7 +139,8 @@ public class ExecutionStateService {
                                                 workflowExecutor.executeFrom(
                                                         workflow,
                                                         state,
-                                                        checkpointListener(tenantId));
+                                                        executionListener(
+                                                                tenantId, executionId));
 
                                         ExecutionResultHandler.handle(
                                                 result,
@@ -159,6 +174,20 @@ public class ExecutionStateService {
         }
     }
 
+    private ExecutionListener executionListener(String tenantId, String executionId) {
+        ExecutionListener checkpoint = checkpointListener(tenantId);
+        if (!agentOutputEnabled) {
+            return checkpoint;
+        }
+        return new CompositeExecutionListener(
+                checkpoint,
+                new AgentOutputListener(
+                        eventBroadcaster,
+                        executionId,
+                        agentOutputMaxBytes,
+                        agentOutputFlushInterval));
+    }
+
     private ExecutionListener checkpointListener(String tenantId) {
         return new ExecutionListener() {
             @Override
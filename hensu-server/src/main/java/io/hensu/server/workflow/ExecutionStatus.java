@@ -9,7 +9,7 @@ import io.quarkus.runtime.annotations.RegisterForReflection;
 ///
 /// @param executionId the execution identifier, never null
 /// @param workflowId the workflow definition identifier, never null
-/// @param status `COMPLETED` or `PAUSED`, never null
+/// @param status `QUEUED`, `COMPLETED` or `PAUSED`, never null
 /// @param currentNodeId the node where execution is positioned, null if completed
 /// @param correlationId the correlation ID required to resume, null unless paused for review
 @RegisterForReflection
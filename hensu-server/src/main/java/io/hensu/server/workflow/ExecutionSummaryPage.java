@@ -0,0 +1,15 @@
+package io.hensu.server.workflow;
+
+import java.util.List;
+import java.util.Objects;
+
+/// One page of execution summaries.
+///
+/// @param items the summaries on this page, never null, may be empty
+/// @param nextCursor opaque cursor for the following page, null when this page is the last
+public record ExecutionSummaryPage(List<ExecutionSummary> items, String nextCursor) {
+
+    public ExecutionSummaryPage {
+        items = List.copyOf(Objects.requireNonNull(items, "items must not be null"));
+    }
+}
@@ -2,21 +2,27 @@ package io.hensu.server.workflow;
 
 import io.hensu.core.execution.ExecutionListener;
 import io.hensu.core.execution.WorkflowExecutor;
+import io.hensu.core.execution.result.ExecutionHistory;
 import io.hensu.core.execution.result.ExecutionResult;
+import io.hensu.core.state.ExecutionPhase;
 import io.hensu.core.state.HensuSnapshot;
 import io.hensu.core.state.HensuState;
 import io.hensu.core.state.WorkflowStateRepository;
 import io.hensu.core.workflow.Workflow;
 import io.hensu.server.execution.CompositeExecutionListener;
 import io.hensu.server.execution.LoggingExecutionListener;
+import io.hensu.server.streaming.AgentOutputListener;
 import io.hensu.server.streaming.ExecutionEvent;
 import io.hensu.server.streaming.ExecutionEventBroadcaster;
 import io.hensu.server.tenant.TenantContext;
 import io.hensu.server.tenant.TenantContext.TenantInfo;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
@@ -26,10 +32,19 @@ import org.jboss.logging.Logger;
 
 /// Service for dispatching new workflow executions.
 ///
-/// Accepts an execution request, assigns an execution id, and launches the execution
-/// on a dedicated virtual thread. Handles all four {@link ExecutionResult} variants,
-/// persists the final snapshot, and publishes SSE events for completion, failure, and
-/// pause.
+/// Accepts an execution request, assigns an execution id, and hands the execution to the
+/// {@link ExecutionScheduler}, which runs it on a virtual thread once the node and tenant
+/// concurrency limits allow. Handles all four {@link ExecutionResult} variants, persists
+/// the final snapshot, and publishes SSE events for completion, failure, and pause. While
+/// the execution runs, streaming agents' output is published as it is generated, see
+/// {@link AgentOutputListener}.
+///
+/// ### Admission
+/// An accepted execution is persisted with `checkpoint_reason = "queued"` before it is
+/// dispatched. The queued row holds this node's lease, so if the node dies before the
+/// execution starts, the recovery sweeper picks it up like any orphaned execution and runs
+/// it from the start node. When the scheduler's queue is full the request is rejected with
+/// {@link ExecutionRejectedException} and nothing is persisted.
 ///
 /// This service is the **write path** for new executions. Resuming paused executions
 /// lives in {@link ExecutionStateService}; read-model queries live in
@@ -42,17 +57,28 @@ public class WorkflowExecutionService {
     @ConfigProperty(name = "hensu.verbose.enabled", defaultValue = "false")
     boolean verboseEnabled;
 
+    @ConfigProperty(name = "hensu.events.agent-output.enabled", defaultValue = "true")
+    boolean agentOutputEnabled;
+
+    @ConfigProperty(name = "hensu.events.agent-output.max-bytes", defaultValue = "1024")
+    int agentOutputMaxBytes;
+
+    @ConfigProperty(name = "hensu.events.agent-output.flush-interval", defaultValue = "250ms")
+    Duration agentOutputFlushInterval;
+
     private final WorkflowExecutor workflowExecutor;
     private final WorkflowStateRepository stateRepository;
     private final ExecutionEventBroadcaster eventBroadcaster;
     private final WorkflowRegistryService registryService;
+    private final ExecutionScheduler scheduler;
 
     @Inject
     public WorkflowExecutionService(
             WorkflowExecutor workflowExecutor,
             WorkflowStateRepository stateRepository,
             ExecutionEventBroadcaster eventBroadcaster,
-            WorkflowRegistryService registryService) {
+            WorkflowRegistryService registryService,
+            ExecutionScheduler scheduler) {
         this.workflowExecutor =
                 Objects.requireNonNull(workflowExecutor, "workflowExecutor must not be null");
         this.stateRepository =
@@ -61,12 +87,14 @@ public class WorkflowExecutionService {
                 Objects.requireNonNull(eventBroadcaster, "eventBroadcaster must not be null");
         this.registryService =
                 Objects.requireNonNull(registryService, "registryService must not be null");
+        this.scheduler = Objects.requireNonNull(scheduler, "scheduler must not be null");
     }
 
     /// Accepts a new workflow execution and dispatches it asynchronously.
     ///
-    /// Validates that the workflow exists, then immediately returns an execution ID while
-    /// running the workflow on a background virtual thread. Progress and outcome are
+    /// Validates that the workflow exists and that the scheduler has room, persists the
+    /// execution as queued, then immediately returns an execution ID. The workflow runs on a
+    /// background virtual thread as soon as a slot is free. Progress and outcome are
     /// delivered via SSE events.
     ///
     /// @param tenantId the tenant requesting execution, not null
@@ -74,6 +102,7 @@ public class WorkflowExecutionService {
     /// @param context initial context variables, not null
     /// @return execution result containing the assigned execution ID, never null
     /// @throws WorkflowNotFoundException if the workflow does not exist
+    /// @throws ExecutionRejectedException if the tenant's or the node's queue is full
     public ExecutionStartResult startExecution(
             String tenantId, String workflowId, Map<String, Object> context) {
         Objects.requireNonNull(tenantId, "tenantId must not be null");
@@ -91,34 +120,73 @@ public class WorkflowExecutionService {
             tenant = TenantInfo.withMcp(tenantId, "sse://" + tenantId);
         }
 
-        // Fail fast before accepting the request if the workflow is not registered.
-        registryService.getWorkflow(tenantId, workflowId);
+        // Fail fast before accepting the request if the workflow is not registered. The
+        // resolved definition is handed to the execution thread rather than looked up again.
+        Workflow workflow = registryService.getWorkflow(tenantId, workflowId);
+
+        ExecutionScheduler.Reservation slot = scheduler.reserve(tenantId);
 
         Map<String, Object> executionContext = new HashMap<>(context);
         executionContext.put("_tenant_id", tenantId);
         executionContext.put("_execution_id", executionId);
 
+        try {
+            stateRepository.save(
+                    tenantId,
+                    new HensuSnapshot(
+                            workflowId,
+                            executionId,
+                            workflow.getStartNode(),
+                            executionContext,
+                            Map.of(),
+                            new ExecutionHistory(),
+                            ExecutionPhase.INITIAL,
+                            Instant.now(),
+                            "queued"));
+        } catch (RuntimeException e) {
+            slot.cancel();
+            throw e;
+        }
+
+        eventBroadcaster.register(executionId, tenantId, workflowId);
         eventBroadcaster.publish(
                 executionId,
                 ExecutionEvent.ExecutionStarted.now(executionId, workflowId, tenantId));
 
-        Thread.ofVirtual()
-                .name("wf-exec-" + executionId)
-                .start(
-                        () ->
-                                runExecutionAsync(
-                                        executionId,
-                                        workflowId,
-                                        tenantId,
-                                        tenant,
-                                        executionContext));
+        slot.dispatch(
+                executionId,
+                "wf-exec-" + executionId,
+                () ->
+                        runExecutionAsync(
+                                executionId,
+                                workflow,
+                                workflowId,
+                                tenantId,
+                                tenant,
+                                executionContext));
 
         LOG.infov("Workflow execution accepted: executionId={0}", executionId);
         return new ExecutionStartResult(executionId, workflowId);
     }
 
+    /// Returns the scheduler's node-wide queue and wait-time metrics.
+    ///
+    /// @return point-in-time metrics, never null
+    public ExecutionScheduler.Stats schedulerStats() {
+        return scheduler.stats();
+    }
+
+    /// Returns one tenant's running and waiting executions on this node.
+    ///
+    /// @param tenantId the tenant, not null
+    /// @return point-in-time counts, never null
+    public ExecutionScheduler.TenantStats schedulerStats(String tenantId) {
+        return scheduler.stats(tenantId);
+    }
+
     private void runExecutionAsync(
             String executionId,
+            Workflow workflow,
             String workflowId,
             String tenantId,
             TenantInfo tenant,
@@ -131,17 +199,11 @@ public class WorkflowExecutionService {
                         TenantContext.runAs(
                                 tenant,
                                 () -> {
-                                    Workflow workflow =
-                                            registryService.getWorkflow(tenantId, workflowId);
-
-                                    ExecutionListener checkpoint =
-                                            trackingCheckpointListener(tenantId, lastCheckpoint);
                                     ExecutionListener listener =
-                                            verboseEnabled
-                                                    ? new CompositeExecutionListener(
-                                                            checkpoint,
-                                                            new LoggingExecutionListener())
-                                                    : checkpoint;
+                                            executionListener(
+                                                    executionId,
+                                                    trackingCheckpointListener(
+                                                            tenantId, lastCheckpoint));
                                     ExecutionResult result =
                                             workflowExecutor.execute(
                                                     workflow, executionContext, listener);
@@ -191,6 +253,24 @@ public class WorkflowExecutionService {
         }
     }
 
+    private ExecutionListener executionListener(String executionId, ExecutionListener checkpoint) {
+        List<ExecutionListener> listeners = new ArrayList<>(List.of(checkpoint));
+        if (agentOutputEnabled) {
+            listeners.add(
+                    new AgentOutputListener(
+                            eventBroadcaster,
+                            executionId,
+                            agentOutputMaxBytes,
+                            agentOutputFlushInterval));
+        }
+        if (verboseEnabled) {
+            listeners.add(new LoggingExecutionListener());
+        }
+        return listeners.size() == 1
+                ? checkpoint
+                : new CompositeExecutionListener(listeners.toArray(ExecutionListener[]::new));
+    }
+
     private ExecutionListener trackingCheckpointListener(
             String tenantId, AtomicReference<HensuState> lastCheckpoint) {
         return new ExecutionListener() {
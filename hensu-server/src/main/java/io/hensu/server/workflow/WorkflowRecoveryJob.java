@@ -30,10 +30,15 @@ import org.jboss.logging.Logger;
 /// | `hensu.lease.recovery-interval` | `60s`   | How often the sweeper polls for orphaned rows    |
 /// | `hensu.lease.stale-threshold`   | `90s`   | Age of `last_heartbeat_at` to declare a row dead |
 ///
+/// Claimed rows include executions that were still `queued` on the dead node; they resume
+/// from their start node.
+///
 /// @implNote Thread-safe. `claimStaleExecutions` is atomic under PostgreSQL
 /// `READ COMMITTED` — two concurrent sweepers cannot claim the same row.
-/// Each claimed execution is dispatched to its own virtual thread so a slow
-/// recovered workflow cannot block the scheduler tick or starve heartbeats.
+/// Each claimed execution is resubmitted to the {@link ExecutionScheduler}, so a slow
+/// recovered workflow cannot block the scheduler tick or starve heartbeats, and a mass
+/// recovery after a node crash stays within this node's concurrency limits. Recovered
+/// executions are never rejected; they wait in their tenant's queue.
 ///
 /// @see ExecutionLeaseManager#claimStaleExecutions(Instant)
 /// @see ExecutionHeartbeatJob
@@ -44,15 +49,19 @@ public class WorkflowRecoveryJob {
 
     private final ExecutionLeaseManager leaseManager;
     private final WorkflowService workflowService;
+    private final ExecutionScheduler scheduler;
 
     @ConfigProperty(name = "hensu.lease.stale-threshold", defaultValue = "90s")
     Duration staleThreshold;
 
     @Inject
     public WorkflowRecoveryJob(
-            ExecutionLeaseManager leaseManager, WorkflowService workflowService) {
+            ExecutionLeaseManager leaseManager,
+            WorkflowService workflowService,
+            ExecutionScheduler scheduler) {
         this.leaseManager = leaseManager;
         this.workflowService = workflowService;
+        this.scheduler = scheduler;
     }
 
     /// Claims and resumes all orphaned executions whose heartbeat is stale.
@@ -70,9 +79,11 @@ public class WorkflowRecoveryJob {
         LOG.infov("Recovering {0} orphaned execution(s)", stale.size());
 
         for (ExecutionRef ref : stale) {
-            Thread.ofVirtual()
-                    .name("wf-recover-" + ref.executionId())
-                    .start(() -> resumeRecovered(ref));
+            scheduler.resubmit(
+                    ref.tenantId(),
+                    ref.executionId(),
+                    "wf-recover-" + ref.executionId(),
+                    () -> resumeRecovered(ref));
         }
     }
 
@@ -4,11 +4,13 @@ import io.hensu.core.util.LogSanitizer;
 import io.hensu.core.workflow.Workflow;
 import io.hensu.core.workflow.WorkflowRepository;
 import io.hensu.core.workflow.validation.SubWorkflowGraphValidator;
+import io.hensu.server.persistence.CachingWorkflowRepository;
 import io.hensu.server.persistence.WorkflowPushLock;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import org.jboss.logging.Logger;
 
 /// Service for workflow **definition** CRUD operations.
@@ -29,8 +31,14 @@ import org.jboss.logging.Logger;
 /// advisory locks (or a JVM-local fallback in `inmem` mode). Two concurrent pushes
 /// cannot each observe a clean graph and together introduce a cycle.
 ///
+/// ### Definition cache
+/// With JDBC persistence the injected repository is a {@link CachingWorkflowRepository}:
+/// {@link #getWorkflow} is answered from parsed, shared `Workflow` instances, and push/delete
+/// evict the entry on this node and, via `LISTEN`/`NOTIFY`, on every other node.
+///
 /// @see SubWorkflowGraphValidator
 /// @see WorkflowPushLock
+/// @see CachingWorkflowRepository
 @ApplicationScoped
 public class WorkflowRegistryService {
 
@@ -119,4 +127,14 @@ public class WorkflowRegistryService {
                 LogSanitizer.sanitize(workflowId), LogSanitizer.sanitize(tenantId));
         return workflowRepository.delete(tenantId, workflowId);
     }
+
+    /// Returns hit/miss statistics of the workflow definition cache.
+    ///
+    /// @return cache statistics, or empty when no cache fronts the repository
+    ///     (in-memory persistence or `hensu.workflow-cache.max-size=0`)
+    public Optional<CachingWorkflowRepository.Stats> cacheStats() {
+        return workflowRepository instanceof CachingWorkflowRepository cache
+                ? Optional.of(cache.stats())
+                : Optional.empty();
+    }
 }
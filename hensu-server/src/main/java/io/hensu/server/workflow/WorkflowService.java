@@ -1,11 +1,12 @@
 package io.hensu.server.workflow;
 
 import io.hensu.core.resume.ResumeInput;
+import io.hensu.server.persistence.WriteBehindStateRepository;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 /// Facade over the execution-side workflow services.
 ///
@@ -56,7 +57,19 @@ public class WorkflowService {
         return queryService.getExecutionResult(tenantId, executionId);
     }
 
-    public List<ExecutionSummary> listPausedExecutions(String tenantId) {
-        return queryService.listPausedExecutions(tenantId);
+    public ExecutionSummaryPage listPausedExecutions(String tenantId, String cursor, int limit) {
+        return queryService.listPausedExecutions(tenantId, cursor, limit);
+    }
+
+    public Optional<WriteBehindStateRepository.Stats> getCheckpointStats() {
+        return queryService.checkpointStats();
+    }
+
+    public ExecutionScheduler.Stats getSchedulerStats() {
+        return executionService.schedulerStats();
+    }
+
+    public ExecutionScheduler.TenantStats getSchedulerStats(String tenantId) {
+        return executionService.schedulerStats(tenantId);
     }
 }
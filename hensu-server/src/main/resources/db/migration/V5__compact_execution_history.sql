@@ -0,0 +1,35 @@
+-- Compact execution history: drop per-step embedded snapshots.
+--
+-- Steps used to carry a full `snapshot` (context + a copy of the whole history),
+-- so step N transitively held steps 1..N-1 and the `history` column grew
+-- super-linearly with step count. Steps now store a context delta instead.
+--
+-- Each legacy step is rewritten as a keyframe: the embedded snapshot's context
+-- becomes `contextDelta` and the nested history is discarded. A `snapshot`
+-- that is not an object (JSON null) is dropped without making the step a
+-- keyframe, as the Jackson mixin ignores it on read. Rows without
+-- legacy steps are left untouched. Rows missed here (e.g. written by an old
+-- node during a rolling deploy) are still readable – the Jackson mixin performs
+-- the same conversion on read, and the next checkpoint rewrites them.
+UPDATE runtime.execution_states es
+SET history = jsonb_set(
+        es.history,
+        '{steps}',
+        (SELECT COALESCE(
+                    jsonb_agg(
+                        CASE
+                            WHEN jsonb_typeof(step -> 'snapshot') = 'object' THEN
+                                (step - 'snapshot')
+                                || jsonb_build_object(
+                                       'contextDelta',
+                                       COALESCE(step -> 'snapshot' -> 'context', '{}'::jsonb),
+                                       'keyframe', true)
+                            ELSE step - 'snapshot'
+                        END
+                        ORDER BY ord),
+                    '[]'::jsonb)
+         FROM jsonb_array_elements(es.history -> 'steps') WITH ORDINALITY AS s(step, ord)))
+WHERE jsonb_typeof(es.history -> 'steps') = 'array'
+  AND EXISTS (SELECT 1
+              FROM jsonb_array_elements(es.history -> 'steps') AS legacy(step)
+              WHERE legacy.step ? 'snapshot');
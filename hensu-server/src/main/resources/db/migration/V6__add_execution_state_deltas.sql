@@ -0,0 +1,31 @@
+-- Append-only checkpoint log.
+--
+-- Active checkpoints no longer rewrite the full `context` and `history` columns
+-- of runtime.execution_states. Instead the base row's scalar columns (cursor,
+-- phase, retry counters, lease) are updated in place and one delta row records
+-- the changed context keys and the history entries appended since the previous
+-- checkpoint. Deltas are folded back into the base row (compaction) every N
+-- checkpoints and on every terminal save; readers rebuild state as base + deltas
+-- in `seq` order.
+--
+-- `state_version` is bumped by every full write. A delta is only appended when
+-- the writer's cached version still matches, so a node holding a stale view of
+-- the base row (e.g. after another node recovered the execution) falls back to
+-- a full write instead of applying deltas onto a base it never saw.
+ALTER TABLE runtime.execution_states
+    ADD COLUMN state_version BIGINT NOT NULL DEFAULT 0;
+
+CREATE TABLE runtime.execution_state_deltas (
+    tenant_id       TEXT        NOT NULL,
+    execution_id    TEXT        NOT NULL,
+    seq             INTEGER     NOT NULL,
+    context_changes JSONB       NOT NULL DEFAULT '{}',
+    removed_keys    JSONB       NOT NULL DEFAULT '[]',
+    new_steps       JSONB       NOT NULL DEFAULT '[]',
+    new_backtracks  JSONB       NOT NULL DEFAULT '[]',
+    created_at      TIMESTAMPTZ NOT NULL DEFAULT now(),
+    PRIMARY KEY (tenant_id, execution_id, seq),
+    FOREIGN KEY (tenant_id, execution_id)
+        REFERENCES runtime.execution_states (tenant_id, execution_id)
+        ON DELETE CASCADE
+);
@@ -0,0 +1,11 @@
+-- Keyset pagination over paused executions.
+--
+-- GET /api/v1/executions/paused pages through a tenant's executions awaiting review
+-- ordered by (created_at, execution_id), resuming after the last row of the previous
+-- page. This partial index matches that filter and order exactly, so each page is an
+-- index range scan of `limit` rows instead of a sort over every paused execution.
+CREATE INDEX idx_exec_states_paused_keyset
+    ON runtime.execution_states (tenant_id, created_at, execution_id)
+    WHERE current_node_id IS NOT NULL
+      AND server_node_id IS NULL
+      AND phase ->> 'type' = 'awaiting_post_processor';
@@ -0,0 +1,19 @@
+-- Shared tier of the agent response cache.
+--
+-- Agents with a response cache TTL reuse answers for calls whose model settings,
+-- system prompt inputs and resolved prompt are identical. Each node keeps a local
+-- in-memory tier; this table lets a response cached on one node be served by
+-- every node. `cache_key` is the call's SHA-256 digest prefixed with the tenant
+-- id, so tenants never see each other's entries.
+--
+-- Expired rows are never served and are purged periodically by expires_at.
+CREATE TABLE runtime.agent_response_cache (
+    cache_key  TEXT        NOT NULL PRIMARY KEY,
+    content    TEXT        NOT NULL,
+    metadata   JSONB       NOT NULL DEFAULT '{}',
+    expires_at TIMESTAMPTZ NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+CREATE INDEX idx_agent_response_cache_expires
+    ON runtime.agent_response_cache (expires_at);
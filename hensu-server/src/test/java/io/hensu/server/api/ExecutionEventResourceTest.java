@@ -2,14 +2,24 @@ package io.hensu.server.api;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.hensu.server.security.RequestTenantResolver;
+import io.hensu.server.streaming.EventFilter;
 import io.hensu.server.streaming.ExecutionEvent;
 import io.hensu.server.streaming.ExecutionEventBroadcaster;
+import io.hensu.server.streaming.SequencedEvent;
+import io.hensu.server.streaming.TenantEvent;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.Sse;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -18,6 +28,7 @@ class ExecutionEventResourceTest {
 
     private ExecutionEventBroadcaster broadcaster;
     private ExecutionEventResource resource;
+    private Sse sse;
 
     @BeforeEach
     void setUp() {
@@ -25,13 +36,15 @@ class ExecutionEventResourceTest {
         RequestTenantResolver tenantResolver = mock(RequestTenantResolver.class);
         when(tenantResolver.tenantId()).thenReturn("tenant-1");
         resource = new ExecutionEventResource(broadcaster, tenantResolver);
+        sse = mock(Sse.class);
+        when(sse.newEventBuilder()).thenAnswer(_ -> new RecordingEventBuilder());
     }
 
     @Nested
     class StreamEvents {
 
         @Test
-        void shouldStreamEventsFromBroadcaster() {
+        void shouldStreamEventsWithSequenceIdsAndNames() {
             ExecutionEvent event1 =
                     ExecutionEvent.ExecutionStarted.now("exec-1", "wf-1", "tenant-1");
             ExecutionEvent event2 =
@@ -40,19 +53,28 @@ class ExecutionEventResourceTest {
             ExecutionEvent event3 =
                     ExecutionEvent.ExecutionCompleted.success("exec-1", "wf-1", "end", Map.of());
 
-            Multi<ExecutionEvent> mockStream = Multi.createFrom().items(event1, event2, event3);
-            when(broadcaster.subscribe("exec-1")).thenReturn(mockStream);
+            Multi<SequencedEvent> mockStream =
+                    Multi.createFrom()
+                            .items(
+                                    new SequencedEvent(1, event1),
+                                    new SequencedEvent(2, event2),
+                                    new SequencedEvent(3, event3));
+            when(broadcaster.subscribe("exec-1", 0)).thenReturn(mockStream);
 
-            Multi<ExecutionEvent> result = resource.streamEvents("exec-1");
+            Multi<OutboundSseEvent> result = resource.streamEvents("exec-1", null, sse);
 
-            AssertSubscriber<ExecutionEvent> subscriber =
+            AssertSubscriber<OutboundSseEvent> subscriber =
                     result.subscribe().withSubscriber(AssertSubscriber.create(10));
             subscriber.awaitCompletion();
 
             assertThat(subscriber.getItems()).hasSize(3);
-            assertThat(subscriber.getItems().get(0).type()).isEqualTo("execution.started");
-            assertThat(subscriber.getItems().get(1).type()).isEqualTo("execution.paused");
-            assertThat(subscriber.getItems().get(2).type()).isEqualTo("execution.completed");
+            assertThat(subscriber.getItems())
+                    .extracting(OutboundSseEvent::getId)
+                    .containsExactly("1", "2", "3");
+            assertThat(subscriber.getItems())
+                    .extracting(OutboundSseEvent::getName)
+                    .containsExactly(
+                            "execution.started", "execution.paused", "execution.completed");
         }
 
         @Test
@@ -62,47 +84,152 @@ class ExecutionEventResourceTest {
                     ExecutionEvent.ExecutionCompleted.success(
                             "exec-1", "wf-1", "end-node", workflowOutput);
 
-            Multi<ExecutionEvent> mockStream = Multi.createFrom().item(completedEvent);
-            when(broadcaster.subscribe("exec-1")).thenReturn(mockStream);
+            Multi<SequencedEvent> mockStream =
+                    Multi.createFrom().item(new SequencedEvent(1, completedEvent));
+            when(broadcaster.subscribe("exec-1", 0)).thenReturn(mockStream);
 
-            Multi<ExecutionEvent> result = resource.streamEvents("exec-1");
+            Multi<OutboundSseEvent> result = resource.streamEvents("exec-1", null, sse);
 
-            AssertSubscriber<ExecutionEvent> subscriber =
+            AssertSubscriber<OutboundSseEvent> subscriber =
                     result.subscribe().withSubscriber(AssertSubscriber.create(5));
             subscriber.awaitCompletion();
 
             assertThat(subscriber.getItems()).hasSize(1);
             ExecutionEvent.ExecutionCompleted received =
-                    (ExecutionEvent.ExecutionCompleted) subscriber.getItems().getFirst();
+                    (ExecutionEvent.ExecutionCompleted) subscriber.getItems().getFirst().getData();
             assertThat(received.type()).isEqualTo("execution.completed");
             assertThat(received.success()).isTrue();
             assertThat(received.output()).containsEntry("summary", "Order validated");
             assertThat(received.output()).containsEntry("count", 3);
         }
+
+        @Test
+        void shouldResumeAfterLastEventId() {
+            when(broadcaster.subscribe("exec-1", 41)).thenReturn(Multi.createFrom().empty());
+
+            resource.streamEvents("exec-1", "41", sse)
+                    .subscribe()
+                    .withSubscriber(AssertSubscriber.create(1))
+                    .awaitCompletion();
+
+            verify(broadcaster).subscribe("exec-1", 41);
+        }
+
+        @Test
+        void shouldIgnoreMalformedLastEventId() {
+            when(broadcaster.subscribe("exec-1", 0)).thenReturn(Multi.createFrom().empty());
+
+            resource.streamEvents("exec-1", "not-a-number", sse)
+                    .subscribe()
+                    .withSubscriber(AssertSubscriber.create(1))
+                    .awaitCompletion();
+
+            verify(broadcaster).subscribe("exec-1", 0);
+        }
     }
 
     @Nested
     class StreamAllEvents {
 
         @Test
-        void shouldStreamAllTenantEvents() {
-            ExecutionEvent event1 =
-                    ExecutionEvent.ExecutionStarted.now("exec-1", "wf-1", "tenant-1");
-            ExecutionEvent event2 =
-                    ExecutionEvent.ExecutionStarted.now("exec-2", "wf-2", "tenant-1");
+        void shouldStreamTenantFirehoseWithFilter() {
+            TenantEvent event1 =
+                    new TenantEvent(
+                            "exec-1",
+                            "wf-1",
+                            null,
+                            1,
+                            ExecutionEvent.ExecutionStarted.now("exec-1", "wf-1", "tenant-1"));
+            TenantEvent event2 =
+                    new TenantEvent(
+                            "exec-2",
+                            "wf-1",
+                            null,
+                            1,
+                            ExecutionEvent.ExecutionStarted.now("exec-2", "wf-1", "tenant-1"));
+
+            EventFilter expected =
+                    new EventFilter(Set.of("execution.started"), Set.of("wf-1"), Set.of());
+            when(broadcaster.subscribeTenant("tenant-1", expected))
+                    .thenReturn(Multi.createFrom().item(List.of(event1, event2)));
+
+            Multi<List<TenantEvent>> result =
+                    resource.streamAllEvents(List.of("execution.started"), List.of("wf-1"), null);
+
+            AssertSubscriber<List<TenantEvent>> subscriber =
+                    result.subscribe().withSubscriber(AssertSubscriber.create(10));
+            subscriber.awaitCompletion();
+
+            assertThat(subscriber.getItems()).hasSize(1);
+            assertThat(subscriber.getItems().getFirst())
+                    .extracting(TenantEvent::executionId)
+                    .containsExactly("exec-1", "exec-2");
+        }
+    }
 
-            Multi<ExecutionEvent> mockStream = Multi.createFrom().items(event1, event2);
-            when(broadcaster.subscribe("tenant:tenant-1")).thenReturn(mockStream);
+    /// Minimal `OutboundSseEvent.Builder`; the real one is supplied by the JAX-RS runtime.
+    @SuppressWarnings("rawtypes")
+    private static final class RecordingEventBuilder implements OutboundSseEvent.Builder {
 
-            Multi<ExecutionEvent> result = resource.streamAllEvents();
+        private String id;
+        private String name;
+        private MediaType mediaType;
+        private Object data;
 
-            AssertSubscriber<ExecutionEvent> subscriber =
-                    result.subscribe().withSubscriber(AssertSubscriber.create(10));
-            subscriber.awaitCompletion();
+        @Override
+        public OutboundSseEvent.Builder id(String id) {
+            this.id = id;
+            return this;
+        }
+
+        @Override
+        public OutboundSseEvent.Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        @Override
+        public OutboundSseEvent.Builder reconnectDelay(long milliseconds) {
+            return this;
+        }
+
+        @Override
+        public OutboundSseEvent.Builder mediaType(MediaType mediaType) {
+            this.mediaType = mediaType;
+            return this;
+        }
+
+        @Override
+        public OutboundSseEvent.Builder comment(String comment) {
+            return this;
+        }
+
+        @Override
+        public OutboundSseEvent.Builder data(Class type, Object data) {
+            this.data = data;
+            return this;
+        }
+
+        @Override
+        public OutboundSseEvent.Builder data(GenericType type, Object data) {
+            this.data = data;
+            return this;
+        }
+
+        @Override
+        public OutboundSseEvent.Builder data(Object data) {
+            this.data = data;
+            return this;
+        }
 
-            assertThat(subscriber.getItems()).hasSize(2);
-            assertThat(subscriber.getItems().get(0).executionId()).isEqualTo("exec-1");
-            assertThat(subscriber.getItems().get(1).executionId()).isEqualTo("exec-2");
+        @Override
+        public OutboundSseEvent build() {
+            OutboundSseEvent event = mock(OutboundSseEvent.class);
+            when(event.getId()).thenReturn(id);
+            when(event.getName()).thenReturn(name);
+            when(event.getMediaType()).thenReturn(mediaType);
+            when(event.getData()).thenReturn(data);
+            return event;
         }
     }
 }
@@ -1,18 +1,31 @@
 package io.hensu.server.api;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.hensu.core.agent.ratelimit.RateGovernor;
+import io.hensu.core.agent.ratelimit.RateLimits;
 import io.hensu.core.resume.ResumeInput;
+import io.hensu.server.persistence.WriteBehindStateRepository;
 import io.hensu.server.security.RequestTenantResolver;
+import io.hensu.server.workflow.ExecutionRejectedException;
+import io.hensu.server.workflow.ExecutionScheduler;
 import io.hensu.server.workflow.ExecutionStartResult;
+import io.hensu.server.workflow.ExecutionSummary;
+import io.hensu.server.workflow.ExecutionSummaryPage;
 import io.hensu.server.workflow.WorkflowService;
+import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.core.Response;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -21,6 +34,7 @@ import org.mockito.ArgumentCaptor;
 class ExecutionResourceTest {
 
     private WorkflowService workflowService;
+    private RateGovernor rateGovernor;
     private ExecutionResource resource;
 
     @BeforeEach
@@ -28,7 +42,8 @@ class ExecutionResourceTest {
         workflowService = mock(WorkflowService.class);
         RequestTenantResolver tenantResolver = mock(RequestTenantResolver.class);
         when(tenantResolver.tenantId()).thenReturn("tenant-1");
-        resource = new ExecutionResource(workflowService, tenantResolver);
+        rateGovernor = new RateGovernor(RateLimits.DEFAULT);
+        resource = new ExecutionResource(workflowService, tenantResolver, rateGovernor);
     }
 
     @Nested
@@ -48,6 +63,24 @@ class ExecutionResourceTest {
                 assertThat(entity.workflowId()).isEqualTo("wf-1");
             }
         }
+
+        @Test
+        void shouldReturn429WithRetryAfterWhenQueueIsFull() {
+            when(workflowService.startExecution(eq("tenant-1"), eq("wf-1"), any()))
+                    .thenThrow(
+                            new ExecutionRejectedException(
+                                    "Execution queue full for tenant", Duration.ofSeconds(5)));
+
+            var request = new ExecutionStartRequest("wf-1", Map.of());
+            try (Response response = resource.startExecution(request)) {
+
+                assertThat(response.getStatus()).isEqualTo(429);
+                assertThat(response.getHeaderString("Retry-After")).isEqualTo("5");
+                assertThat(response.getEntity())
+                        .isEqualTo(
+                                Map.of("error", "Execution queue full for tenant", "status", 429));
+            }
+        }
     }
 
     @Nested
@@ -67,4 +100,145 @@ class ExecutionResourceTest {
             assertThat(captor.getValue()).isInstanceOf(ResumeInput.ApplyReview.class);
         }
     }
+
+    @Nested
+    class PausedExecutions {
+
+        @Test
+        void shouldLinkNextPageWhenCursorReturned() {
+            var summary =
+                    new ExecutionSummary("exec-1", "wf-1", "review", Instant.now(), "corr-1");
+            when(workflowService.listPausedExecutions("tenant-1", null, 1))
+                    .thenReturn(new ExecutionSummaryPage(List.of(summary), "abc"));
+
+            try (Response response = resource.listPausedExecutions(1, null)) {
+
+                assertThat(response.getStatus()).isEqualTo(200);
+                assertThat(response.getEntity()).isEqualTo(List.of(summary));
+                assertThat(response.getHeaderString("Link"))
+                        .isEqualTo("</api/v1/executions/paused?limit=1&after=abc>; rel=\"next\"");
+            }
+        }
+
+        @Test
+        void shouldOmitLinkOnLastPage() {
+            when(workflowService.listPausedExecutions("tenant-1", "abc", 100))
+                    .thenReturn(new ExecutionSummaryPage(List.of(), null));
+
+            try (Response response = resource.listPausedExecutions(100, "abc")) {
+
+                assertThat(response.getStatus()).isEqualTo(200);
+                assertThat(response.getHeaderString("Link")).isNull();
+            }
+        }
+
+        @Test
+        void shouldRejectMalformedCursor() {
+            when(workflowService.listPausedExecutions("tenant-1", "bad", 100))
+                    .thenThrow(new IllegalArgumentException("Invalid page cursor"));
+
+            assertThatThrownBy(() -> resource.listPausedExecutions(100, "bad"))
+                    .isInstanceOf(BadRequestException.class)
+                    .hasMessage("Invalid page cursor");
+        }
+    }
+
+    @Nested
+    class SchedulerStats {
+
+        @Test
+        void shouldCombineNodeAndTenantStats() {
+            when(workflowService.getSchedulerStats())
+                    .thenReturn(
+                            new ExecutionScheduler.Stats(
+                                    3,
+                                    2,
+                                    40,
+                                    1,
+                                    12.5,
+                                    80,
+                                    new ExecutionScheduler.Limits(
+                                            8, 4, 100, 1000, Duration.ofSeconds(5))));
+            when(workflowService.getSchedulerStats("tenant-1"))
+                    .thenReturn(new ExecutionScheduler.TenantStats(2, 1));
+
+            try (Response response = resource.schedulerStats()) {
+
+                assertThat(response.getStatus()).isEqualTo(200);
+                var entity = (SchedulerStatusResponse) response.getEntity();
+                assertThat(entity.running()).isEqualTo(3);
+                assertThat(entity.tenantRunning()).isEqualTo(2);
+                assertThat(entity.tenantQueued()).isEqualTo(1);
+                assertThat(entity.rejected()).isEqualTo(1);
+                assertThat(entity.maxConcurrentPerTenant()).isEqualTo(4);
+            }
+        }
+    }
+
+    @Nested
+    class CheckpointStats {
+
+        @Test
+        void shouldReportWriterStats() {
+            when(workflowService.getCheckpointStats())
+                    .thenReturn(
+                            Optional.of(
+                                    new WriteBehindStateRepository.Stats(
+                                            100,
+                                            40,
+                                            5,
+                                            12,
+                                            60,
+                                            0,
+                                            5.0,
+                                            9,
+                                            2.5,
+                                            7.0,
+                                            3,
+                                            Duration.ofMillis(100),
+                                            256)));
+
+            try (Response response = resource.checkpointStats()) {
+
+                assertThat(response.getStatus()).isEqualTo(200);
+                var entity = (CheckpointWriterStatusResponse) response.getEntity();
+                assertThat(entity.enabled()).isTrue();
+                assertThat(entity.coalesced()).isEqualTo(40);
+                assertThat(entity.avgBatchSize()).isEqualTo(5.0);
+                assertThat(entity.flushIntervalMillis()).isEqualTo(100);
+            }
+        }
+
+        @Test
+        void shouldReportDisabledWhenWritingThrough() {
+            when(workflowService.getCheckpointStats()).thenReturn(Optional.empty());
+
+            try (Response response = resource.checkpointStats()) {
+
+                var entity = (CheckpointWriterStatusResponse) response.getEntity();
+                assertThat(entity.enabled()).isFalse();
+                assertThat(entity.written()).isZero();
+            }
+        }
+    }
+
+    @Nested
+    class RateLimitStats {
+
+        @Test
+        void shouldReportLanesWithoutApiKeys() throws Exception {
+            rateGovernor.lane("anthropic", "sk-secret").call(10, () -> "ok", _ -> 12);
+
+            try (Response response = resource.rateLimitStats()) {
+
+                assertThat(response.getStatus()).isEqualTo(200);
+                var entity = (RateLimitStatusResponse) response.getEntity();
+                assertThat(entity.lanes()).hasSize(1);
+                RateLimitStatusResponse.Lane lane = entity.lanes().getFirst();
+                assertThat(lane.lane()).startsWith("anthropic:").doesNotContain("sk-secret");
+                assertThat(lane.admitted()).isEqualTo(1);
+                assertThat(lane.maxConcurrency()).isEqualTo(16);
+            }
+        }
+    }
 }
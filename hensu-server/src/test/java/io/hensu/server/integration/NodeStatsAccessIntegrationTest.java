@@ -0,0 +1,61 @@
+package io.hensu.server.integration;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import io.quarkus.test.security.TestSecurity;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+/// Integration tests for access to the node-wide stats endpoints.
+///
+/// Their counters cover every tenant, so only callers holding the operator role may read
+/// them. The `inmem` profile opens them; {@link OperatorRoleProfile} restores the production
+/// policy.
+@QuarkusTest
+@TestProfile(NodeStatsAccessIntegrationTest.OperatorRoleProfile.class)
+class NodeStatsAccessIntegrationTest {
+
+    private static final List<String> NODE_STATS =
+            List.of(
+                    "/api/v1/executions/scheduler/stats",
+                    "/api/v1/executions/checkpoints/stats",
+                    "/api/v1/executions/rate-limits/stats",
+                    "/api/v1/workflows/cache/stats");
+
+    @Test
+    @TestSecurity(user = "tenant-user")
+    void tenantCallerIsForbidden() {
+        for (String path : NODE_STATS) {
+            assertThat(given().when().get(path).statusCode()).as(path).isEqualTo(403);
+        }
+    }
+
+    @Test
+    @TestSecurity(user = "operator", roles = "admin")
+    void operatorCanReadNodeStats() {
+        for (String path : NODE_STATS) {
+            assertThat(given().when().get(path).statusCode()).as(path).isEqualTo(200);
+        }
+    }
+
+    @Test
+    @TestSecurity(user = "tenant-user")
+    void tenantEndpointsStayOpen() {
+        assertThat(given().when().get("/api/v1/workflows").statusCode()).isEqualTo(200);
+    }
+
+    /// In-memory profile with the production `node-stats` policy put back in force.
+    public static class OperatorRoleProfile extends InMemoryTestProfile {
+
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            Map<String, String> config = super.getConfigOverrides();
+            config.put("%inmem.quarkus.http.auth.permission.node-stats.policy", "node-stats");
+            return config;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package io.hensu.server.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.hensu.core.workflow.Workflow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/// Integration tests for {@link CachingWorkflowRepository} and {@link WorkflowChangeChannel}
+/// against a real PostgreSQL instance.
+///
+/// Two caches over the same database stand in for two server nodes, each with its own
+/// change channel, so cross-node invalidation goes through a real `LISTEN`/`NOTIFY`.
+class CachingWorkflowRepositoryTest extends JdbcRepositoryTestBase {
+
+    private WorkflowChangeChannel channelA;
+    private WorkflowChangeChannel channelB;
+    private CachingWorkflowRepository nodeA;
+    private CachingWorkflowRepository nodeB;
+
+    @BeforeEach
+    void setUp() {
+        JdbcWorkflowRepository jdbcRepo = new JdbcWorkflowRepository(dataSource);
+        jdbcRepo.deleteAllForTenant(TENANT);
+        jdbcRepo.deleteAllForTenant(OTHER_TENANT);
+
+        channelA = new WorkflowChangeChannel(dataSource);
+        channelB = new WorkflowChangeChannel(dataSource);
+        nodeA = new CachingWorkflowRepository(jdbcRepo, 2, channelA::publish);
+        nodeB = new CachingWorkflowRepository(jdbcRepo, 2, channelB::publish);
+        channelB.subscribe(nodeB);
+    }
+
+    @AfterEach
+    void tearDown() {
+        channelA.shutdown();
+        channelB.shutdown();
+    }
+
+    @Test
+    void findById_secondLookupServedFromCache() {
+        nodeA.save(TENANT, buildWorkflow("wf-1"));
+
+        Workflow first = nodeA.findById(TENANT, "wf-1").orElseThrow();
+        Workflow second = nodeA.findById(TENANT, "wf-1").orElseThrow();
+
+        assertThat(second).isSameAs(first);
+        assertThat(nodeA.stats().hits()).isEqualTo(1);
+        assertThat(nodeA.stats().misses()).isEqualTo(1);
+    }
+
+    @Test
+    void findById_cacheIsTenantScoped() {
+        nodeA.save(TENANT, buildWorkflow("wf-1"));
+        nodeA.findById(TENANT, "wf-1");
+
+        assertThat(nodeA.findById(OTHER_TENANT, "wf-1")).isEmpty();
+    }
+
+    @Test
+    void save_evictsLocalEntry() {
+        nodeA.save(TENANT, buildWorkflow("wf-1"));
+        nodeA.findById(TENANT, "wf-1");
+
+        nodeA.save(TENANT, withVersion(buildWorkflow("wf-1"), "2.0.0"));
+
+        assertThat(nodeA.findById(TENANT, "wf-1").orElseThrow().getVersion())
+                .isEqualTo("2.0.0");
+    }
+
+    @Test
+    void delete_evictsLocalEntry() {
+        nodeA.save(TENANT, buildWorkflow("wf-1"));
+        nodeA.findById(TENANT, "wf-1");
+
+        assertThat(nodeA.delete(TENANT, "wf-1")).isTrue();
+
+        assertThat(nodeA.findById(TENANT, "wf-1")).isEmpty();
+    }
+
+    @Test
+    void findById_evictsLeastRecentlyUsedBeyondMaxSize() {
+        nodeA.save(TENANT, buildWorkflow("wf-1"));
+        nodeA.save(TENANT, buildWorkflow("wf-2"));
+        nodeA.save(TENANT, buildWorkflow("wf-3"));
+
+        nodeA.findById(TENANT, "wf-1");
+        nodeA.findById(TENANT, "wf-2");
+        nodeA.findById(TENANT, "wf-1");
+        nodeA.findById(TENANT, "wf-3");
+
+        CachingWorkflowRepository.Stats stats = nodeA.stats();
+        assertThat(stats.size()).isEqualTo(2);
+        assertThat(stats.evictions()).isEqualTo(1);
+
+        nodeA.findById(TENANT, "wf-1");
+        assertThat(nodeA.stats().hits()).isEqualTo(2);
+    }
+
+    @Test
+    void save_onOtherNodeEvictsViaNotify() throws InterruptedException {
+        nodeA.save(TENANT, buildWorkflow("wf-1"));
+        awaitCached(nodeB, "wf-1");
+
+        nodeA.save(TENANT, withVersion(buildWorkflow("wf-1"), "2.0.0"));
+
+        awaitEvicted(nodeB);
+        assertThat(nodeB.findById(TENANT, "wf-1").orElseThrow().getVersion())
+                .isEqualTo("2.0.0");
+    }
+
+    @Test
+    void deleteAllForTenant_onOtherNodeEvictsTenantViaNotify() throws InterruptedException {
+        nodeA.save(TENANT, buildWorkflow("wf-1"));
+        awaitCached(nodeB, "wf-1");
+
+        nodeA.deleteAllForTenant(TENANT);
+
+        awaitEvicted(nodeB);
+        assertThat(nodeB.findById(TENANT, "wf-1")).isEmpty();
+    }
+
+    /// Loads `workflowId` into `cache` once the listener has connected; the listener clears
+    /// the cache when it starts listening, so a load before that point would not stick.
+    private static void awaitCached(CachingWorkflowRepository cache, String workflowId)
+            throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline) {
+            cache.findById(TENANT, workflowId);
+            Thread.sleep(100);
+            if (cache.stats().size() == 1) return;
+        }
+        throw new AssertionError("Workflow was never cached: " + workflowId);
+    }
+
+    private static void awaitEvicted(CachingWorkflowRepository cache)
+            throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (cache.stats().size() > 0) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Cache entry was not evicted by NOTIFY");
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    private static Workflow withVersion(Workflow workflow, String version) {
+        return Workflow.builder()
+                .id(workflow.getId())
+                .version(version)
+                .agents(workflow.getAgents())
+                .nodes(workflow.getNodes())
+                .startNode(workflow.getStartNode())
+                .build();
+    }
+}
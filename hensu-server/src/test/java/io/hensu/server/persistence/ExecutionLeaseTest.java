@@ -31,7 +31,7 @@ class ExecutionLeaseTest extends JdbcRepositoryTestBase {
     @BeforeEach
     void setUp() {
         JdbcWorkflowRepository workflowRepo = new JdbcWorkflowRepository(dataSource);
-        nodeARepo = new JdbcWorkflowStateRepository(dataSource, objectMapper, NODE_A);
+        nodeARepo = new JdbcWorkflowStateRepository(dataSource, NODE_A);
         nodeBManager = new ExecutionLeaseManager(new JdbcSupport(dataSource), NODE_B);
 
         nodeARepo.deleteAllForTenant(TENANT);
@@ -76,7 +76,7 @@ class ExecutionLeaseTest extends JdbcRepositoryTestBase {
     void updateHeartbeats_onlyBumpsOwnRows() throws SQLException {
         // NODE_A owns exec-a; NODE_B owns exec-b — rewind both to simulate stale
         JdbcWorkflowStateRepository nodeBRepo =
-                new JdbcWorkflowStateRepository(dataSource, objectMapper, NODE_B);
+                new JdbcWorkflowStateRepository(dataSource, NODE_B);
         nodeARepo.save(TENANT, checkpoint("exec-a"));
         nodeBRepo.save(TENANT, checkpoint("exec-b"));
         rewindHeartbeat("exec-a");
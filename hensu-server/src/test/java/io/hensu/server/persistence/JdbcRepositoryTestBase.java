@@ -1,6 +1,5 @@
 package io.hensu.server.persistence;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.hensu.core.agent.AgentConfig;
 import io.hensu.core.execution.result.ExitStatus;
 import io.hensu.core.workflow.Workflow;
@@ -8,7 +7,6 @@ import io.hensu.core.workflow.node.EndNode;
 import io.hensu.core.workflow.node.Node;
 import io.hensu.core.workflow.node.StandardNode;
 import io.hensu.core.workflow.transition.SuccessTransition;
-import io.hensu.serialization.WorkflowSerializer;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -23,7 +21,7 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 /// Shared Testcontainers setup for JDBC repository tests.
 ///
 /// Starts a PostgreSQL container per test class, runs Flyway migrations,
-/// and provides a shared {@link DataSource} and {@link ObjectMapper} to subclasses.
+/// and provides a shared {@link DataSource} to subclasses.
 ///
 /// @implNote Package-private. Not part of the public API.
 ///
@@ -39,7 +37,6 @@ abstract class JdbcRepositoryTestBase {
     static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17-alpine");
 
     static DataSource dataSource;
-    static ObjectMapper objectMapper;
 
     /// Initializes the PostgreSQL DataSource and runs Flyway migrations.
     ///
@@ -59,8 +56,6 @@ abstract class JdbcRepositoryTestBase {
                 .cleanDisabled(false)
                 .load()
                 .migrate();
-
-        objectMapper = WorkflowSerializer.createMapper();
     }
 
     /// Builds a minimal two-node workflow for persistence round-trip testing.
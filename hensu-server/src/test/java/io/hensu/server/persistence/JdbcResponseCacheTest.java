@@ -0,0 +1,96 @@
+package io.hensu.server.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import io.hensu.core.agent.AgentResponse;
+import io.hensu.core.agent.cache.ResponseCache;
+import io.hensu.server.tenant.TenantContext;
+import io.hensu.server.tenant.TenantContext.TenantInfo;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class JdbcResponseCacheTest extends JdbcRepositoryTestBase {
+
+    private JdbcResponseCache cache;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        cache = new JdbcResponseCache(dataSource);
+        try (Connection conn = dataSource.getConnection();
+                Statement stmt = conn.createStatement()) {
+            stmt.execute("DELETE FROM runtime.agent_response_cache");
+        }
+    }
+
+    @Test
+    void put_thenGet_roundTripsContentAndMetadata() {
+        Instant expiresAt = Instant.now().plus(Duration.ofMinutes(5));
+        cache.put("key-1", entry("cached answer", Map.of("model", "stub"), expiresAt));
+
+        Optional<ResponseCache.Entry> found = cache.get("key-1");
+
+        assertThat(found).isPresent();
+        assertThat(found.get().response().content()).isEqualTo("cached answer");
+        assertThat(found.get().response().metadata()).containsEntry("model", "stub");
+        assertThat(found.get().expiresAt()).isCloseTo(expiresAt, within(1, ChronoUnit.MILLIS));
+    }
+
+    @Test
+    void put_existingKey_replacesEntry() {
+        Instant expiresAt = Instant.now().plus(Duration.ofMinutes(5));
+        cache.put("key-1", entry("first", Map.of(), expiresAt));
+        cache.put("key-1", entry("second", Map.of(), expiresAt));
+
+        assertThat(cache.get("key-1")).map(e -> e.response().content()).contains("second");
+    }
+
+    @Test
+    void get_expiredEntry_returnsEmpty() {
+        cache.put("key-1", entry("stale", Map.of(), Instant.now().minusSeconds(1)));
+
+        assertThat(cache.get("key-1")).isEmpty();
+    }
+
+    @Test
+    void purgeExpired_deletesOnlyExpiredRows() {
+        cache.put("stale", entry("stale", Map.of(), Instant.now().minusSeconds(1)));
+        cache.put("fresh", entry("fresh", Map.of(), Instant.now().plus(Duration.ofHours(1))));
+
+        int purged = cache.purgeExpired();
+
+        assertThat(purged).isEqualTo(1);
+        assertThat(cache.get("fresh")).isPresent();
+    }
+
+    @Test
+    void tenantScoped_isolatesTenantsAndSkipsUnboundCalls() {
+        ResponseCache scoped = new TenantScopedResponseCache(cache);
+        Instant expiresAt = Instant.now().plus(Duration.ofMinutes(5));
+        AtomicReference<Optional<ResponseCache.Entry>> otherTenantView = new AtomicReference<>();
+
+        TenantContext.runAs(
+                TenantInfo.simple(TENANT),
+                () -> scoped.put("key-1", entry("tenant answer", Map.of(), expiresAt)));
+        TenantContext.runAs(
+                TenantInfo.simple(OTHER_TENANT), () -> otherTenantView.set(scoped.get("key-1")));
+
+        assertThat(otherTenantView.get()).isEmpty();
+        assertThat(scoped.get("key-1")).isEmpty();
+        assertThat(cache.get(TENANT + ":key-1")).isPresent();
+    }
+
+    private static ResponseCache.Entry entry(
+            String content, Map<String, Object> metadata, Instant expiresAt) {
+        return new ResponseCache.Entry(AgentResponse.TextResponse.of(content, metadata), expiresAt);
+    }
+}
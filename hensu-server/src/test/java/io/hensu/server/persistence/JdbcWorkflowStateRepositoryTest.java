@@ -1,18 +1,23 @@
 package io.hensu.server.persistence;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.hensu.core.execution.executor.NodeResult;
 import io.hensu.core.execution.result.ExecutionHistory;
 import io.hensu.core.execution.result.ExecutionStep;
 import io.hensu.core.execution.result.ResultStatus;
+import io.hensu.core.state.ExecutionCursor;
 import io.hensu.core.state.ExecutionPhase;
+import io.hensu.core.state.ExecutionStatusView;
 import io.hensu.core.state.HensuSnapshot;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -22,7 +27,7 @@ import org.junit.jupiter.api.Test;
 /// Integration tests for {@link JdbcWorkflowStateRepository} against a real PostgreSQL instance.
 ///
 /// Verifies CRUD operations, UPSERT semantics, FK constraints, tenant isolation,
-/// and lease column set/clear behavior.
+/// lease column set/clear behavior, and delta checkpointing with compaction.
 /// A parent workflow is always saved first to satisfy the foreign key reference.
 class JdbcWorkflowStateRepositoryTest extends JdbcRepositoryTestBase {
 
@@ -33,7 +38,7 @@ class JdbcWorkflowStateRepositoryTest extends JdbcRepositoryTestBase {
     @BeforeEach
     void setUp() {
         JdbcWorkflowRepository workflowRepo = new JdbcWorkflowRepository(dataSource);
-        stateRepo = new JdbcWorkflowStateRepository(dataSource, objectMapper, NODE_ID);
+        stateRepo = new JdbcWorkflowStateRepository(dataSource, NODE_ID);
 
         // FK: execution_states references workflows — delete states first
         stateRepo.deleteAllForTenant(TENANT);
@@ -242,6 +247,43 @@ class JdbcWorkflowStateRepositoryTest extends JdbcRepositoryTestBase {
         assertThat(stateRepo.findByExecutionId(TENANT, "exec-awaiting")).isPresent();
     }
 
+    @Test
+    void findStatus_projectsScalarColumnsAndCorrelationId() {
+        stateRepo.save(TENANT, pausedAt("exec-status", Instant.now()));
+        stateRepo.save(TENANT, makeSnapshot("exec-running", "process"));
+
+        ExecutionStatusView paused = stateRepo.findStatus(TENANT, "exec-status").orElseThrow();
+        ExecutionStatusView running = stateRepo.findStatus(TENANT, "exec-running").orElseThrow();
+
+        assertThat(paused.workflowId()).isEqualTo("wf-parent");
+        assertThat(paused.currentNodeId()).isEqualTo("process");
+        assertThat(paused.checkpointReason()).isEqualTo("paused");
+        assertThat(paused.correlationId()).isEqualTo("corr-exec-status");
+        assertThat(running.correlationId()).isNull();
+        assertThat(stateRepo.findStatus(OTHER_TENANT, "exec-status")).isEmpty();
+    }
+
+    @Test
+    void findPausedStatuses_pagesByKeysetInCreationOrder() {
+        Instant base = Instant.parse("2024-03-08T12:00:00Z");
+        stateRepo.save(TENANT, pausedAt("exec-c", base.plusSeconds(2)));
+        stateRepo.save(TENANT, pausedAt("exec-a", base));
+        stateRepo.save(TENANT, pausedAt("exec-b", base));
+        stateRepo.save(TENANT, makeSnapshot("exec-running", "process"));
+
+        List<ExecutionStatusView> first = stateRepo.findPausedStatuses(TENANT, null, 2);
+        List<ExecutionStatusView> second =
+                stateRepo.findPausedStatuses(TENANT, ExecutionCursor.after(first.getLast()), 2);
+
+        assertThat(first)
+                .extracting(ExecutionStatusView::executionId)
+                .containsExactly("exec-a", "exec-b");
+        assertThat(second)
+                .extracting(ExecutionStatusView::executionId)
+                .containsExactly("exec-c");
+        assertThat(second.getFirst().correlationId()).isEqualTo("corr-exec-c");
+    }
+
     @Test
     void findByWorkflowId_returnsMatchingSnapshots() {
         stateRepo.save(TENANT, makeSnapshot("exec-a", "process"));
@@ -303,6 +345,184 @@ class JdbcWorkflowStateRepositoryTest extends JdbcRepositoryTestBase {
                 .isEqualTo(ResultStatus.SUCCESS);
     }
 
+    @Test
+    void activeCheckpoints_appendDeltasAndRebuildState() throws SQLException {
+        ExecutionHistory history = new ExecutionHistory();
+        Map<String, Object> context = new HashMap<>(Map.of("topic", "AI", "draft", "v0"));
+        stateRepo.save(TENANT, checkpoint("exec-delta", "process", context, history));
+
+        history.recordStep("process", context, NodeResult.success("v1", Map.of()), null);
+        context.put("draft", "v1");
+        context.remove("topic");
+        stateRepo.save(TENANT, checkpoint("exec-delta", "review", context, history));
+
+        history.recordStep("review", context, NodeResult.success("ok", Map.of()), null);
+        context.put("score", 9);
+        stateRepo.save(TENANT, checkpoint("exec-delta", "done", context, history));
+
+        assertThat(countDeltas("exec-delta")).isEqualTo(2);
+
+        HensuSnapshot restored = stateRepo.findByExecutionId(TENANT, "exec-delta").orElseThrow();
+        assertThat(restored.currentNodeId()).isEqualTo("done");
+        assertThat(restored.context()).isEqualTo(Map.of("draft", "v1", "score", 9));
+        assertThat(restored.history().getSteps())
+                .extracting(ExecutionStep::getNodeId)
+                .containsExactly("process", "review");
+    }
+
+    @Test
+    void activeCheckpoints_writeValuesMutatedInPlace() throws SQLException {
+        List<Object> drafts = new ArrayList<>(List.of("v0"));
+        Map<String, Object> context = new HashMap<>(Map.of("drafts", drafts));
+        stateRepo.save(TENANT, checkpoint("exec-mutated", "process", context, null));
+
+        drafts.add("v1");
+        stateRepo.save(TENANT, checkpoint("exec-mutated", "review", context, null));
+
+        assertThat(countDeltas("exec-mutated")).isEqualTo(1);
+        assertThat(stateRepo.findByExecutionId(TENANT, "exec-mutated").orElseThrow().context())
+                .isEqualTo(Map.of("drafts", List.of("v0", "v1")));
+    }
+
+    @Test
+    void terminalSave_compactsDeltaLog() throws SQLException {
+        Map<String, Object> context = new HashMap<>(Map.of("topic", "AI"));
+        stateRepo.save(TENANT, checkpoint("exec-compact", "process", context, null));
+        context.put("draft", "v1");
+        stateRepo.save(TENANT, checkpoint("exec-compact", "review", context, null));
+        assertThat(countDeltas("exec-compact")).isEqualTo(1);
+
+        stateRepo.save(
+                TENANT,
+                new HensuSnapshot(
+                        "wf-parent",
+                        "exec-compact",
+                        null,
+                        context,
+                        Map.of(),
+                        new ExecutionHistory(),
+                        null,
+                        Instant.now(),
+                        "completed"));
+
+        assertThat(countDeltas("exec-compact")).isZero();
+        assertThat(stateRepo.findByExecutionId(TENANT, "exec-compact").orElseThrow().context())
+                .containsEntry("draft", "v1");
+    }
+
+    @Test
+    void compactionInterval_foldsDeltasEveryNCheckpoints() throws SQLException {
+        var repo = new JdbcWorkflowStateRepository(dataSource, NODE_ID, 2);
+        Map<String, Object> context = new HashMap<>();
+        for (int i = 0; i < 4; i++) {
+            context.put("k" + i, i);
+            repo.save(TENANT, checkpoint("exec-interval", "process", context, null));
+        }
+
+        // full, delta, delta, full (compaction)
+        assertThat(countDeltas("exec-interval")).isZero();
+        assertThat(repo.findByExecutionId(TENANT, "exec-interval").orElseThrow().context())
+                .containsOnlyKeys("k0", "k1", "k2", "k3");
+    }
+
+    @Test
+    void staleCursor_fallsBackToFullWrite() throws SQLException {
+        var otherNode = new JdbcWorkflowStateRepository(dataSource, "other-node");
+        Map<String, Object> context = new HashMap<>(Map.of("owner", "this"));
+        stateRepo.save(TENANT, checkpoint("exec-stale", "process", context, null));
+
+        // Another node recovers the execution and writes its own base row
+        otherNode.save(
+                TENANT, checkpoint("exec-stale", "review", Map.of("owner", "other"), null));
+
+        context.put("extra", true);
+        stateRepo.save(TENANT, checkpoint("exec-stale", "done", context, null));
+
+        assertThat(countDeltas("exec-stale")).isZero();
+        assertThat(stateRepo.findByExecutionId(TENANT, "exec-stale").orElseThrow().context())
+                .isEqualTo(Map.of("owner", "this", "extra", true));
+    }
+
+    @Test
+    void evictedCursor_fallsBackToFullWrite() throws SQLException {
+        var repo = new JdbcWorkflowStateRepository(dataSource, NODE_ID, 20, 1);
+        Map<String, Object> context = new HashMap<>(Map.of("topic", "AI"));
+        repo.save(TENANT, checkpoint("exec-old", "process", context, null));
+
+        // A second execution pushes the first one's cursor out
+        repo.save(TENANT, checkpoint("exec-new", "process", Map.of(), null));
+
+        context.put("draft", "v1");
+        repo.save(TENANT, checkpoint("exec-old", "review", context, null));
+
+        assertThat(countDeltas("exec-old")).isZero();
+        assertThat(repo.findByExecutionId(TENANT, "exec-old").orElseThrow().context())
+                .isEqualTo(Map.of("topic", "AI", "draft", "v1"));
+    }
+
+    @Test
+    void activeCheckpoints_skipNestedValuesThatDidNotChange() throws SQLException {
+        Map<String, Object> review = new HashMap<>(Map.of("score", 9, "tags", List.of("ok")));
+        Map<String, Object> context = new HashMap<>(Map.of("review", review));
+        stateRepo.save(TENANT, checkpoint("exec-nested", "process", context, null));
+
+        context.put("review", new HashMap<>(review));
+        context.put("draft", "v1");
+        stateRepo.save(TENANT, checkpoint("exec-nested", "review", context, null));
+
+        assertThat(countDeltas("exec-nested")).isEqualTo(1);
+        assertThat(deltaKeys("exec-nested")).containsExactly("draft");
+    }
+
+    @Test
+    void saveCheckpoints_writesBatchInOneTransaction() throws SQLException {
+        Map<String, Object> context = new HashMap<>(Map.of("topic", "AI"));
+        stateRepo.save(TENANT, checkpoint("exec-b1", "process", context, null));
+
+        context.put("draft", "v1");
+        stateRepo.saveCheckpoints(
+                List.of(
+                        new JdbcWorkflowStateRepository.Checkpoint(
+                                TENANT, checkpoint("exec-b1", "review", context, null)),
+                        new JdbcWorkflowStateRepository.Checkpoint(
+                                TENANT,
+                                checkpoint("exec-b2", "process", Map.of("topic", "ML"), null))));
+
+        // exec-b1 had a cursor and was appended as a delta; exec-b2 got its base row
+        assertThat(countDeltas("exec-b1")).isEqualTo(1);
+        assertThat(countDeltas("exec-b2")).isZero();
+        HensuSnapshot b1 = stateRepo.findByExecutionId(TENANT, "exec-b1").orElseThrow();
+        assertThat(b1.currentNodeId()).isEqualTo("review");
+        assertThat(b1.context()).containsEntry("draft", "v1");
+        assertThat(stateRepo.findByExecutionId(TENANT, "exec-b2").orElseThrow().context())
+                .containsEntry("topic", "ML");
+        assertThat(readLeaseColumns("exec-b2").serverNodeId()).isEqualTo(NODE_ID);
+    }
+
+    @Test
+    void saveCheckpoints_rejectsTerminalSnapshots() {
+        HensuSnapshot completed =
+                new HensuSnapshot(
+                        "wf-parent",
+                        "exec-b3",
+                        null,
+                        Map.of(),
+                        Map.of(),
+                        new ExecutionHistory(),
+                        null,
+                        Instant.now(),
+                        "completed");
+
+        assertThatThrownBy(
+                        () ->
+                                stateRepo.saveCheckpoints(
+                                        List.of(
+                                                new JdbcWorkflowStateRepository.Checkpoint(
+                                                        TENANT, completed))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(stateRepo.findByExecutionId(TENANT, "exec-b3")).isEmpty();
+    }
+
     // --- Helpers ---
 
     /// Creates a minimal snapshot with default context and empty history.
@@ -319,6 +539,19 @@ class JdbcWorkflowStateRepositoryTest extends JdbcRepositoryTestBase {
                 Instant.now());
     }
 
+    private static HensuSnapshot pausedAt(String executionId, Instant createdAt) {
+        return new HensuSnapshot(
+                "wf-parent",
+                executionId,
+                "process",
+                Map.of("topic", "AI"),
+                Map.of(),
+                new ExecutionHistory(),
+                awaitingReview("corr-" + executionId),
+                createdAt,
+                "paused");
+    }
+
     /// Releases the lease this node took when saving a non-paused checkpoint, mimicking the
     /// crash or shutdown that leaves an awaiting execution unowned.
     private void clearLease() {
@@ -335,6 +568,59 @@ class JdbcWorkflowStateRepositoryTest extends JdbcRepositoryTestBase {
         }
     }
 
+    private static HensuSnapshot checkpoint(
+            String executionId,
+            String currentNodeId,
+            Map<String, Object> context,
+            ExecutionHistory history) {
+        return new HensuSnapshot(
+                "wf-parent",
+                executionId,
+                currentNodeId,
+                context,
+                Map.of(),
+                history,
+                null,
+                Instant.now(),
+                "checkpoint");
+    }
+
+    /// Counts the delta rows currently logged for an execution.
+    private int countDeltas(String executionId) throws SQLException {
+        try (Connection conn = dataSource.getConnection();
+                PreparedStatement ps =
+                        conn.prepareStatement(
+                                "SELECT count(*) FROM runtime.execution_state_deltas"
+                                        + " WHERE tenant_id = ? AND execution_id = ?")) {
+            ps.setString(1, TENANT);
+            ps.setString(2, executionId);
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                return rs.getInt(1);
+            }
+        }
+    }
+
+    /// Lists the context keys written by an execution's delta rows.
+    private List<String> deltaKeys(String executionId) throws SQLException {
+        try (Connection conn = dataSource.getConnection();
+                PreparedStatement ps =
+                        conn.prepareStatement(
+                                "SELECT jsonb_object_keys(context_changes)"
+                                        + " FROM runtime.execution_state_deltas"
+                                        + " WHERE tenant_id = ? AND execution_id = ?")) {
+            ps.setString(1, TENANT);
+            ps.setString(2, executionId);
+            List<String> keys = new ArrayList<>();
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    keys.add(rs.getString(1));
+                }
+            }
+            return keys;
+        }
+    }
+
     private static HensuSnapshot makeSnapshot(String executionId, String currentNodeId) {
         return new HensuSnapshot(
                 "wf-parent",
@@ -0,0 +1,147 @@
+package io.hensu.server.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.hensu.server.streaming.ClusterEvent;
+import io.hensu.server.streaming.ExecutionEvent;
+import io.hensu.server.streaming.SequencedEvent;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/// Integration tests for {@link PgClusterEventBus} against a real PostgreSQL instance.
+///
+/// Two buses over the same database stand in for two server nodes.
+class PgClusterEventBusTest extends JdbcRepositoryTestBase {
+
+    private PgClusterEventBus busA;
+    private PgClusterEventBus busB;
+    private final List<ClusterEvent> receivedA = new CopyOnWriteArrayList<>();
+    private final List<ClusterEvent> receivedB = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        busA = new PgClusterEventBus(dataSource);
+        busB = new PgClusterEventBus(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        busA.shutdown();
+        busB.shutdown();
+    }
+
+    @Test
+    void publish_deliversToOtherNodeInOrder() throws InterruptedException {
+        busA.start(receivedA::add);
+        busB.start(receivedB::add);
+        awaitListening();
+
+        for (int i = 1; i <= 3; i++) {
+            busA.publish(event("exec-1", i));
+        }
+        busA.publish(ClusterEvent.completion("exec-1"));
+
+        List<ClusterEvent> received = await(receivedB, "exec-1", 4);
+        assertThat(received)
+                .extracting(ClusterEvent::sequence)
+                .containsExactly(1L, 2L, 3L, 0L);
+        assertThat(received.getFirst().tenantId()).isEqualTo(TENANT);
+        assertThat(received.getFirst().event())
+                .isInstanceOf(ExecutionEvent.ExecutionStarted.class);
+        assertThat(received.getLast().isCompletion()).isTrue();
+        assertThat(receivedA).isEmpty();
+    }
+
+    @Test
+    void pack_splitsBurstUnderPayloadLimit() {
+        List<ClusterEvent> burst = new ArrayList<>();
+        for (int i = 1; i <= 200; i++) {
+            burst.add(event("exec-1", i));
+        }
+
+        List<String> payloads = busA.pack(burst);
+
+        assertThat(payloads).hasSizeGreaterThan(1).hasSizeLessThan(20);
+        assertThat(payloads)
+                .allSatisfy(
+                        payload ->
+                                assertThat(payload.getBytes(StandardCharsets.UTF_8).length)
+                                        .isLessThanOrEqualTo(PgClusterEventBus.MAX_PAYLOAD_BYTES));
+        payloads.forEach(payload -> busB.deliver(receivedB::add, payload));
+        assertThat(receivedB).extracting(ClusterEvent::sequence).isEqualTo(sequences(200));
+    }
+
+    @Test
+    void pack_dropsOutputOfOversizedEvent() {
+        ExecutionEvent completed =
+                ExecutionEvent.ExecutionCompleted.success(
+                        "exec-1", "wf-1", "done", Map.of("article", "x".repeat(20_000)));
+        ClusterEvent message =
+                ClusterEvent.of("exec-1", TENANT, "wf-1", new SequencedEvent(7, completed));
+
+        List<String> payloads = busA.pack(List.of(message));
+        payloads.forEach(payload -> busB.deliver(receivedB::add, payload));
+
+        assertThat(receivedB).hasSize(1);
+        ExecutionEvent.ExecutionCompleted received =
+                (ExecutionEvent.ExecutionCompleted) receivedB.getFirst().event();
+        assertThat(received.success()).isTrue();
+        assertThat(received.finalNodeId()).isEqualTo("done");
+        assertThat(received.output()).isEmpty();
+    }
+
+    @Test
+    void deliver_ignoresOwnPayloads() {
+        List<String> payloads = busA.pack(List.of(event("exec-1", 1)));
+
+        payloads.forEach(payload -> busA.deliver(receivedA::add, payload));
+
+        assertThat(receivedA).isEmpty();
+    }
+
+    /// Publishes probes until busB's listener is up; notifications sent earlier are lost.
+    private void awaitListening() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (receivedB.isEmpty()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Cluster event listener did not start");
+            }
+            busA.publish(ClusterEvent.completion("probe"));
+            Thread.sleep(100);
+        }
+    }
+
+    private static List<ClusterEvent> await(
+            List<ClusterEvent> received, String executionId, int expected)
+            throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (true) {
+            List<ClusterEvent> matching =
+                    received.stream().filter(e -> e.executionId().equals(executionId)).toList();
+            if (matching.size() >= expected) return matching;
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Expected " + expected + " events, got " + matching);
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    private static ClusterEvent event(String executionId, long sequence) {
+        ExecutionEvent started = ExecutionEvent.ExecutionStarted.now(executionId, "wf-1", TENANT);
+        return ClusterEvent.of(executionId, TENANT, "wf-1", new SequencedEvent(sequence, started));
+    }
+
+    private static List<Long> sequences(int count) {
+        List<Long> sequences = new ArrayList<>();
+        for (long i = 1; i <= count; i++) {
+            sequences.add(i);
+        }
+        return sequences;
+    }
+}
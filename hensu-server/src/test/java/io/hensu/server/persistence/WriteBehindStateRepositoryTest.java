@@ -0,0 +1,243 @@
+package io.hensu.server.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.hensu.core.execution.executor.NodeResult;
+import io.hensu.core.execution.result.ExecutionHistory;
+import io.hensu.core.execution.result.ResultStatus;
+import io.hensu.core.state.ExecutionPhase;
+import io.hensu.core.state.HensuSnapshot;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/// Integration tests for {@link WriteBehindStateRepository} against a real PostgreSQL instance.
+///
+/// The flush interval is long enough that only explicit {@link
+/// WriteBehindStateRepository#flush()} calls and the batch size trigger write to the database.
+class WriteBehindStateRepositoryTest extends JdbcRepositoryTestBase {
+
+    private JdbcWorkflowStateRepository jdbcRepo;
+    private WriteBehindStateRepository repo;
+
+    @BeforeEach
+    void setUp() {
+        JdbcWorkflowRepository workflowRepo = new JdbcWorkflowRepository(dataSource);
+        jdbcRepo = new JdbcWorkflowStateRepository(dataSource, "test-node");
+        jdbcRepo.deleteAllForTenant(TENANT);
+        workflowRepo.deleteAllForTenant(TENANT);
+        workflowRepo.save(TENANT, buildWorkflow("wf-parent"));
+
+        repo = new WriteBehindStateRepository(jdbcRepo, Duration.ofHours(1), 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repo.close();
+    }
+
+    @Test
+    void save_coalescesCheckpointsUntilFlush() {
+        repo.save(TENANT, snapshot("exec-1", "process", "checkpoint", null));
+        repo.save(TENANT, snapshot("exec-1", "review", "checkpoint", null));
+
+        assertThat(jdbcRepo.findByExecutionId(TENANT, "exec-1")).isEmpty();
+
+        repo.flush();
+
+        assertThat(jdbcRepo.findByExecutionId(TENANT, "exec-1"))
+                .get()
+                .extracting(HensuSnapshot::currentNodeId)
+                .isEqualTo("review");
+        WriteBehindStateRepository.Stats stats = repo.stats();
+        assertThat(stats.saved()).isEqualTo(2);
+        assertThat(stats.coalesced()).isEqualTo(1);
+        assertThat(stats.written()).isEqualTo(1);
+        assertThat(stats.flushes()).isEqualTo(1);
+        assertThat(stats.pending()).isZero();
+    }
+
+    @Test
+    void findByExecutionId_readsUnwrittenCheckpoint() {
+        repo.save(TENANT, snapshot("exec-2", "process", "checkpoint", null));
+
+        assertThat(repo.findByExecutionId(TENANT, "exec-2")).isPresent();
+        assertThat(repo.findStatus(TENANT, "exec-2"))
+                .get()
+                .satisfies(v -> assertThat(v.currentNodeId()).isEqualTo("process"));
+    }
+
+    @Test
+    void terminalSave_dropsPendingCheckpointAndWritesThrough() {
+        repo.save(TENANT, snapshot("exec-3", "process", "checkpoint", null));
+        repo.save(TENANT, snapshot("exec-3", null, "completed", null));
+
+        assertThat(jdbcRepo.findByExecutionId(TENANT, "exec-3"))
+                .get()
+                .extracting(HensuSnapshot::checkpointReason)
+                .isEqualTo("completed");
+
+        repo.flush();
+
+        // The older checkpoint must never land on top of the terminal snapshot
+        assertThat(jdbcRepo.findByExecutionId(TENANT, "exec-3"))
+                .get()
+                .extracting(HensuSnapshot::checkpointReason)
+                .isEqualTo("completed");
+        assertThat(repo.stats().barriers()).isEqualTo(1);
+        assertThat(repo.stats().written()).isZero();
+    }
+
+    @Test
+    void awaitingCheckpoint_isWrittenThrough() {
+        ExecutionPhase awaiting =
+                new ExecutionPhase.Awaiting(
+                        "process",
+                        "ReviewPostProcessor",
+                        new NodeResult(ResultStatus.SUCCESS, "draft", Map.of()),
+                        "corr-4",
+                        Instant.now());
+
+        repo.save(TENANT, snapshot("exec-4", "process", "checkpoint", awaiting));
+
+        assertThat(jdbcRepo.findByExecutionId(TENANT, "exec-4")).isPresent();
+        assertThat(repo.stats().pending()).isZero();
+    }
+
+    @Test
+    void batchSize_triggersEarlyFlush() throws InterruptedException {
+        for (int i = 0; i < 4; i++) {
+            repo.save(TENANT, snapshot("exec-batch-" + i, "process", "checkpoint", null));
+        }
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (repo.stats().written() < 4) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Batch was not flushed: " + repo.stats());
+            }
+            Thread.sleep(20);
+        }
+        assertThat(jdbcRepo.findByExecutionId(TENANT, "exec-batch-3")).isPresent();
+        assertThat(repo.stats().maxBatchSize()).isEqualTo(4);
+    }
+
+    @Test
+    void delete_dropsPendingCheckpoint() {
+        repo.save(TENANT, snapshot("exec-5", "process", "checkpoint", null));
+
+        assertThat(repo.delete(TENANT, "exec-5")).isTrue();
+        repo.flush();
+
+        assertThat(repo.findByExecutionId(TENANT, "exec-5")).isEmpty();
+    }
+
+    @Test
+    void rejectedCheckpoint_isWrittenAloneAndFailsNextBarrier() {
+        HensuSnapshot unwritable =
+                new HensuSnapshot(
+                        "wf-parent",
+                        "exec-bad",
+                        "process",
+                        Map.of("value", new Unserializable()),
+                        Map.of(),
+                        new ExecutionHistory(),
+                        null,
+                        Instant.now(),
+                        "checkpoint");
+        repo.save(TENANT, unwritable);
+        repo.save(TENANT, snapshot("exec-good", "process", "checkpoint", null));
+
+        repo.flush();
+
+        // The rejected row does not hold back the rest of its batch
+        assertThat(jdbcRepo.findByExecutionId(TENANT, "exec-good")).isPresent();
+        assertThat(repo.stats().pending()).isEqualTo(1);
+
+        for (int i = 1; i < WriteBehindStateRepository.MAX_ATTEMPTS; i++) {
+            repo.flush();
+        }
+
+        assertThat(repo.stats().pending()).isZero();
+        assertThatThrownBy(
+                        () -> repo.save(TENANT, snapshot("exec-bad", "done", "completed", null)))
+                .isInstanceOf(PersistenceException.class)
+                .hasMessageContaining("exec-bad");
+        assertThat(jdbcRepo.findByExecutionId(TENANT, "exec-bad")).isEmpty();
+
+        // Surfaced once: the execution's failure snapshot goes through
+        repo.save(TENANT, snapshot("exec-bad", "done", "failed", null));
+        assertThat(jdbcRepo.findByExecutionId(TENANT, "exec-bad")).isPresent();
+    }
+
+    @Test
+    void save_queuesContextDetachedFromTheExecution() {
+        List<Object> drafts = new ArrayList<>(List.of("first"));
+        Map<String, Object> review = new HashMap<>(Map.of("score", 70));
+        Map<String, Object> context = new HashMap<>();
+        context.put("drafts", drafts);
+        context.put("review", review);
+        repo.save(TENANT, snapshot("exec-7", "process", context));
+
+        // The execution moves on before the flusher writes the checkpoint
+        drafts.add("second");
+        review.put("score", 95);
+        repo.flush();
+
+        assertThat(jdbcRepo.findByExecutionId(TENANT, "exec-7"))
+                .get()
+                .extracting(HensuSnapshot::context)
+                .isEqualTo(Map.of("drafts", List.of("first"), "review", Map.of("score", 70)));
+    }
+
+    @Test
+    void close_flushesPendingCheckpoints() {
+        repo.save(TENANT, snapshot("exec-6", "process", "checkpoint", null));
+
+        repo.close();
+
+        assertThat(jdbcRepo.findByExecutionId(TENANT, "exec-6")).isPresent();
+    }
+
+    private static HensuSnapshot snapshot(
+            String executionId, String currentNodeId, String reason, ExecutionPhase phase) {
+        return new HensuSnapshot(
+                "wf-parent",
+                executionId,
+                currentNodeId,
+                Map.of("topic", "AI"),
+                Map.of(),
+                new ExecutionHistory(),
+                phase,
+                Instant.now(),
+                reason);
+    }
+
+    private static HensuSnapshot snapshot(
+            String executionId, String currentNodeId, Map<String, Object> context) {
+        return new HensuSnapshot(
+                "wf-parent",
+                executionId,
+                currentNodeId,
+                context,
+                Map.of(),
+                new ExecutionHistory(),
+                null,
+                Instant.now(),
+                "checkpoint");
+    }
+
+    /// Context value whose serialization always fails.
+    private static final class Unserializable {
+
+        public String getValue() {
+            throw new IllegalStateException("not serializable");
+        }
+    }
+}
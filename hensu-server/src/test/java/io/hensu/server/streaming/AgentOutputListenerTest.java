@@ -0,0 +1,148 @@
+package io.hensu.server.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.hensu.core.agent.AgentResponse;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AgentOutputListenerTest {
+
+    private static final AgentResponse DONE = AgentResponse.TextResponse.of("done");
+
+    private ExecutionEventBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster =
+                new ExecutionEventBroadcaster(64, Duration.ofMinutes(5), 4, Duration.ofMillis(50));
+    }
+
+    @Test
+    void shouldCoalesceFragmentsUntilAgentCompletes() {
+        var listener = new AgentOutputListener(broadcaster, "exec-1", 100, Duration.ofHours(1));
+
+        listener.onAgentOutputDelta("write", "writer", "Hel");
+        listener.onAgentOutputDelta("write", "writer", "lo, ");
+        listener.onAgentOutputDelta("write", "writer", "world");
+        assertThat(deltas()).isEmpty();
+
+        listener.onAgentComplete("write", "writer", DONE);
+
+        assertThat(deltas())
+                .extracting(
+                        ExecutionEvent.AgentOutputDelta::nodeId,
+                        ExecutionEvent.AgentOutputDelta::agentId,
+                        ExecutionEvent.AgentOutputDelta::delta)
+                .containsExactly(tuple("write", "writer", "Hello, world"));
+    }
+
+    @Test
+    void shouldPublishOnceBufferReachesMaxBytes() {
+        var listener = new AgentOutputListener(broadcaster, "exec-1", 4, Duration.ofHours(1));
+
+        listener.onAgentOutputDelta("write", "writer", "abcdefghij");
+        listener.onAgentComplete("write", "writer", DONE);
+
+        assertThat(deltas())
+                .extracting(ExecutionEvent.AgentOutputDelta::delta)
+                .containsExactly("abcd", "efgh", "ij");
+    }
+
+    @Test
+    void shouldCapDeltasByEncodedSize() {
+        var listener = new AgentOutputListener(broadcaster, "exec-1", 6, Duration.ofHours(1));
+
+        // "é" is two UTF-8 bytes, a quote escapes to two, "😀" is four
+        listener.onAgentOutputDelta("write", "writer", "ééé\"\"😀a");
+        listener.onAgentComplete("write", "writer", DONE);
+
+        assertThat(deltas())
+                .extracting(ExecutionEvent.AgentOutputDelta::delta)
+                .containsExactly("ééé", "\"\"", "😀a");
+    }
+
+    @Test
+    void shouldKeepEveryDeltaOfLongAnswerWithinLimit() {
+        var listener =
+                new AgentOutputListener(
+                        broadcaster,
+                        "exec-1",
+                        AgentOutputListener.MAX_DELTA_BYTES,
+                        Duration.ofHours(1));
+
+        listener.onAgentOutputDelta("write", "writer", "日本語\n".repeat(2_000));
+        listener.onAgentComplete("write", "writer", DONE);
+
+        List<ExecutionEvent.AgentOutputDelta> deltas = deltas();
+        assertThat(deltas).hasSizeGreaterThan(1);
+        assertThat(deltas)
+                .allSatisfy(
+                        d ->
+                                assertThat(AgentOutputListener.encodedBytes(d.delta()))
+                                        .isLessThanOrEqualTo(AgentOutputListener.MAX_DELTA_BYTES));
+    }
+
+    @Test
+    void shouldPublishEachFragmentWhenIntervalElapsed() {
+        var listener = new AgentOutputListener(broadcaster, "exec-1", 100, Duration.ZERO);
+
+        listener.onAgentOutputDelta("write", "writer", "one ");
+        listener.onAgentOutputDelta("write", "writer", "two");
+
+        assertThat(deltas())
+                .extracting(ExecutionEvent.AgentOutputDelta::delta)
+                .containsExactly("one ", "two");
+    }
+
+    @Test
+    void shouldBufferParallelBranchesSeparately() {
+        var listener = new AgentOutputListener(broadcaster, "exec-1", 100, Duration.ofHours(1));
+
+        listener.onAgentOutputDelta("vote/a", "reviewer", "yes");
+        listener.onAgentOutputDelta("vote/b", "reviewer", "no");
+        listener.onAgentComplete("vote/b", "reviewer", DONE);
+        listener.onAgentComplete("vote/a", "reviewer", DONE);
+
+        assertThat(deltas())
+                .extracting(
+                        ExecutionEvent.AgentOutputDelta::nodeId,
+                        ExecutionEvent.AgentOutputDelta::delta)
+                .containsExactly(tuple("vote/b", "no"), tuple("vote/a", "yes"));
+    }
+
+    @Test
+    void shouldRejectMaxBytesOutOfRange() {
+        assertThatThrownBy(() -> new AgentOutputListener(broadcaster, "exec-1", 0, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("maxBytes");
+        assertThatThrownBy(
+                        () ->
+                                new AgentOutputListener(
+                                        broadcaster,
+                                        "exec-1",
+                                        AgentOutputListener.MAX_DELTA_BYTES + 1,
+                                        Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("maxBytes");
+    }
+
+    private List<ExecutionEvent.AgentOutputDelta> deltas() {
+        AssertSubscriber<ExecutionEvent> subscriber =
+                broadcaster
+                        .subscribe("exec-1")
+                        .subscribe()
+                        .withSubscriber(AssertSubscriber.create(64));
+        List<ExecutionEvent.AgentOutputDelta> deltas =
+                subscriber.getItems().stream()
+                        .map(ExecutionEvent.AgentOutputDelta.class::cast)
+                        .toList();
+        subscriber.cancel();
+        return deltas;
+    }
+}
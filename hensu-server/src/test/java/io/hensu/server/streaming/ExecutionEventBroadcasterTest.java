@@ -1,15 +1,20 @@
 package io.hensu.server.streaming;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 import io.smallrye.mutiny.helpers.test.AssertSubscriber;
 import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -20,7 +25,8 @@ class ExecutionEventBroadcasterTest {
 
     @BeforeEach
     void setUp() {
-        broadcaster = new ExecutionEventBroadcaster();
+        broadcaster =
+                new ExecutionEventBroadcaster(16, Duration.ofMinutes(5), 4, Duration.ofMillis(50));
     }
 
     @Nested
@@ -41,16 +47,147 @@ class ExecutionEventBroadcasterTest {
             subscriber.awaitCompletion(Duration.ofSeconds(1));
             assertThat(subscriber.getItems()).hasSize(1);
             assertThat(subscriber.getItems().getFirst().type()).isEqualTo("execution.started");
-            // After complete, processor must be cleaned up
+            // After complete, live subscribers must be released
             assertThat(broadcaster.hasSubscribers("exec-1")).isFalse();
         }
 
         @Test
-        void shouldSilentlyDropEventsWhenNoSubscribersExist() {
-            // Publish to unknown execution — must not create a subscriber or throw
-            broadcaster.publish(
-                    "exec-1", ExecutionEvent.ExecutionStarted.now("exec-1", "wf-1", "tenant-1"));
+        void shouldBufferEventsPublishedBeforeFirstSubscriber() {
+            broadcaster.publish("exec-1", started("exec-1"));
             assertThat(broadcaster.hasSubscribers("exec-1")).isFalse();
+
+            AssertSubscriber<SequencedEvent> subscriber = subscribe("exec-1", 0);
+
+            subscriber.awaitItems(1);
+            assertThat(subscriber.getItems().getFirst().sequence()).isEqualTo(1);
+            assertThat(subscriber.getItems().getFirst().event().type())
+                    .isEqualTo("execution.started");
+            assertThat(broadcaster.hasSubscribers("exec-1")).isTrue();
+        }
+    }
+
+    @Nested
+    class Replay {
+
+        @Test
+        void shouldResumeAfterLastEventId() {
+            publish("exec-1", 5);
+
+            AssertSubscriber<SequencedEvent> subscriber = subscribe("exec-1", 3);
+            broadcaster.publish("exec-1", started("exec-1"));
+
+            subscriber.awaitItems(3);
+            assertThat(sequences(subscriber)).containsExactly(4L, 5L, 6L);
+        }
+
+        @Test
+        void shouldReplayCompletedLogWithinRetention() {
+            publish("exec-1", 2);
+            broadcaster.complete("exec-1");
+
+            AssertSubscriber<SequencedEvent> subscriber = subscribe("exec-1", 0);
+
+            subscriber.awaitCompletion(Duration.ofSeconds(1));
+            assertThat(sequences(subscriber)).containsExactly(1L, 2L);
+        }
+
+        @Test
+        void shouldDropOldestEventsBeyondBufferSize() {
+            publish("exec-1", 20);
+
+            AssertSubscriber<SequencedEvent> subscriber = subscribe("exec-1", 2);
+
+            subscriber.awaitItems(16);
+            assertThat(subscriber.getItems().getFirst().sequence()).isEqualTo(5);
+            assertThat(subscriber.getItems().getLast().sequence()).isEqualTo(20);
+        }
+
+        @Test
+        void shouldReplayWholeBufferForLastEventIdFromEarlierLog() {
+            publish("exec-1", 2);
+
+            AssertSubscriber<SequencedEvent> subscriber = subscribe("exec-1", 50);
+
+            subscriber.awaitItems(2);
+            assertThat(sequences(subscriber)).containsExactly(1L, 2L);
+        }
+
+        @Test
+        void shouldContinueNumberingWhenResumedExecutionPublishes() {
+            publish("exec-1", 2);
+            broadcaster.complete("exec-1");
+
+            AssertSubscriber<SequencedEvent> subscriber = subscribe("exec-1", 2);
+            broadcaster.publish("exec-1", started("exec-1"));
+
+            assertThat(subscriber.getItems()).isEmpty();
+            subscriber.awaitCompletion(Duration.ofSeconds(1));
+
+            AssertSubscriber<SequencedEvent> resumed = subscribe("exec-1", 2);
+            resumed.awaitItems(1);
+            assertThat(sequences(resumed)).containsExactly(3L);
+        }
+    }
+
+    @Nested
+    class Retention {
+
+        @Test
+        void shouldEvictCompletedLogAfterRetention() {
+            broadcaster =
+                    new ExecutionEventBroadcaster(16, Duration.ZERO, 4, Duration.ofMillis(50));
+            publish("exec-1", 2);
+
+            broadcaster.complete("exec-1");
+
+            assertThat(broadcaster.retainedLogCount()).isZero();
+            AssertSubscriber<SequencedEvent> subscriber = subscribe("exec-1", 0);
+            assertThat(subscriber.getItems()).isEmpty();
+        }
+
+        @Test
+        void shouldDropEmptyLogWhenLastSubscriberLeaves() {
+            AssertSubscriber<SequencedEvent> subscriber = subscribe("exec-unknown", 0);
+            assertThat(broadcaster.retainedLogCount()).isEqualTo(1);
+
+            subscriber.cancel();
+
+            assertThat(broadcaster.retainedLogCount()).isZero();
+        }
+
+        @Test
+        void shouldKeepLogWithEventsWhenLastSubscriberLeaves() {
+            AssertSubscriber<SequencedEvent> subscriber = subscribe("exec-1", 0);
+            broadcaster.publish("exec-1", started("exec-1"));
+
+            subscriber.cancel();
+
+            assertThat(broadcaster.retainedLogCount()).isEqualTo(1);
+            assertThat(broadcaster.hasSubscribers("exec-1")).isFalse();
+        }
+
+        @Test
+        void shouldCompleteAndEvictLogWhoseExecutionGoesQuiet() throws InterruptedException {
+            broadcaster =
+                    new ExecutionEventBroadcaster(
+                            16,
+                            Duration.ZERO,
+                            4,
+                            Duration.ofMillis(50),
+                            ClusterEventBus.LOCAL,
+                            Duration.ofMinutes(30),
+                            Duration.ofMillis(50));
+            AssertSubscriber<SequencedEvent> subscriber = subscribe("exec-1", 0);
+            publish("exec-1", 2);
+
+            // exec-1 never completes its log; the next subscription triggers the sweep
+            Thread.sleep(100);
+            subscribe("exec-2", 0);
+
+            subscriber.awaitCompletion();
+            assertThat(sequences(subscriber)).containsExactly(1L, 2L);
+            assertThat(broadcaster.retainedLogCount()).isEqualTo(1);
+            assertThat(broadcaster.hasSubscribers("exec-2")).isTrue();
         }
     }
 
@@ -99,4 +236,255 @@ class ExecutionEventBroadcasterTest {
             assertThat(subscriber.getItems()).hasSize(threadCount * eventsPerThread);
         }
     }
+
+    @Nested
+    class Firehose {
+
+        @Test
+        void shouldFanInEventsOfRegisteredExecutionsOfTheTenant() {
+            broadcaster.register("exec-1", "tenant-1", "wf-1");
+            broadcaster.register("exec-2", "tenant-1", "wf-2");
+            broadcaster.register("exec-3", "tenant-2", "wf-1");
+            AssertSubscriber<List<TenantEvent>> subscriber =
+                    subscribeTenant("tenant-1", EventFilter.ALL);
+
+            broadcaster.publish("exec-1", started("exec-1"));
+            broadcaster.publish("exec-2", started("exec-2"));
+            broadcaster.publish("exec-3", started("exec-3"));
+            broadcaster.publish("exec-unregistered", started("exec-unregistered"));
+
+            assertThat(awaitFirehose(subscriber, 2))
+                    .extracting(TenantEvent::executionId, TenantEvent::workflowId)
+                    .containsExactlyInAnyOrder(tuple("exec-1", "wf-1"), tuple("exec-2", "wf-2"));
+        }
+
+        @Test
+        void shouldFilterByTypeWorkflowAndNode() {
+            broadcaster.register("exec-1", "tenant-1", "wf-1");
+            broadcaster.register("exec-2", "tenant-1", "wf-2");
+            AssertSubscriber<List<TenantEvent>> subscriber =
+                    subscribeTenant(
+                            "tenant-1",
+                            new EventFilter(
+                                    Set.of("execution.error"), Set.of("wf-1"), Set.of("node-a")));
+
+            broadcaster.publish("exec-1", started("exec-1"));
+            broadcaster.publish("exec-1", error("exec-1", "node-b"));
+            broadcaster.publish("exec-2", error("exec-2", "node-a"));
+            broadcaster.publish("exec-1", error("exec-1", "node-a"));
+
+            List<TenantEvent> received = awaitFirehose(subscriber, 1);
+            assertThat(received).hasSize(1);
+            assertThat(received.getFirst().nodeId()).isEqualTo("node-a");
+            assertThat(received.getFirst().sequence()).isEqualTo(3);
+        }
+
+        @Test
+        void shouldDeliverInBatchesOfMaxBatchSize() {
+            broadcaster =
+                    new ExecutionEventBroadcaster(
+                            16, Duration.ofMinutes(5), 4, Duration.ofSeconds(30));
+            broadcaster.register("exec-1", "tenant-1", "wf-1");
+            AssertSubscriber<List<TenantEvent>> subscriber =
+                    subscribeTenant("tenant-1", EventFilter.ALL);
+
+            publish("exec-1", 8);
+
+            subscriber.awaitItems(2);
+            assertThat(subscriber.getItems()).allSatisfy(batch -> assertThat(batch).hasSize(4));
+            assertThat(subscriber.getItems().get(1))
+                    .extracting(TenantEvent::sequence)
+                    .containsExactly(5L, 6L, 7L, 8L);
+        }
+
+        @Test
+        void shouldDropTopicWhenLastSubscriberLeaves() {
+            AssertSubscriber<List<TenantEvent>> first =
+                    subscribeTenant("tenant-1", EventFilter.ALL);
+            AssertSubscriber<List<TenantEvent>> second =
+                    subscribeTenant("tenant-1", EventFilter.ALL);
+            assertThat(broadcaster.firehoseTopicCount()).isEqualTo(1);
+
+            first.cancel();
+            assertThat(broadcaster.firehoseTopicCount()).isEqualTo(1);
+            second.cancel();
+
+            assertThat(broadcaster.firehoseTopicCount()).isZero();
+        }
+    }
+
+    @Nested
+    class Cluster {
+
+        private LinkedBus busA;
+        private LinkedBus busB;
+        private ExecutionEventBroadcaster nodeB;
+
+        @BeforeEach
+        void setUp() {
+            busA = new LinkedBus();
+            busB = new LinkedBus();
+            busA.peer = busB;
+            busB.peer = busA;
+            broadcaster =
+                    new ExecutionEventBroadcaster(
+                            16, Duration.ofMinutes(5), 4, Duration.ofMillis(50), busA);
+            nodeB =
+                    new ExecutionEventBroadcaster(
+                            16, Duration.ofMinutes(5), 4, Duration.ofMillis(50), busB);
+        }
+
+        @Test
+        void shouldDeliverEventsToSubscribersOnOtherNode() {
+            AssertSubscriber<SequencedEvent> remote =
+                    nodeB.subscribe("exec-1", 0)
+                            .subscribe()
+                            .withSubscriber(AssertSubscriber.create(100));
+
+            publish("exec-1", 3);
+            broadcaster.complete("exec-1");
+
+            remote.awaitCompletion();
+            assertThat(sequences(remote)).containsExactly(1L, 2L, 3L);
+        }
+
+        @Test
+        void shouldResumeOnOtherNodeWithOriginSequence() {
+            publish("exec-1", 3);
+
+            AssertSubscriber<SequencedEvent> remote =
+                    nodeB.subscribe("exec-1", 2)
+                            .subscribe()
+                            .withSubscriber(AssertSubscriber.create(100));
+
+            assertThat(sequences(remote)).containsExactly(3L);
+        }
+
+        @Test
+        void shouldNotSendRemoteEventsBackToBus() {
+            publish("exec-1", 2);
+            broadcaster.complete("exec-1");
+
+            assertThat(busA.sent).hasSize(3);
+            assertThat(busA.sent.getLast().isCompletion()).isTrue();
+            assertThat(busB.sent).isEmpty();
+            assertThat(nodeB.retainedLogCount()).isEqualTo(1);
+        }
+
+        @Test
+        void shouldContinueNumberingWhenExecutionMovesToOtherNode() {
+            publish("exec-1", 2);
+
+            nodeB.publish("exec-1", started("exec-1"));
+
+            assertThat(sequences(subscribe("exec-1", 0))).containsExactly(1L, 2L, 3L);
+        }
+
+        @Test
+        void shouldCompleteAndEvictRemoteLogWhenOriginGoesQuiet() throws InterruptedException {
+            ExecutionEventBroadcaster quietNode =
+                    new ExecutionEventBroadcaster(
+                            16,
+                            Duration.ZERO,
+                            4,
+                            Duration.ofMillis(50),
+                            busB,
+                            Duration.ofMillis(50));
+            AssertSubscriber<SequencedEvent> remote =
+                    quietNode
+                            .subscribe("exec-1", 0)
+                            .subscribe()
+                            .withSubscriber(AssertSubscriber.create(100));
+            publish("exec-1", 2);
+
+            // The origin never completes exec-1; the next remote event triggers the sweep
+            Thread.sleep(100);
+            publish("exec-2", 1);
+
+            remote.awaitCompletion();
+            assertThat(sequences(remote)).containsExactly(1L, 2L);
+            assertThat(quietNode.retainedLogCount()).isEqualTo(1);
+        }
+
+        @Test
+        void shouldFeedOtherNodesFirehose() {
+            AssertSubscriber<List<TenantEvent>> remote =
+                    nodeB.subscribeTenant("tenant-1", EventFilter.ALL)
+                            .subscribe()
+                            .withSubscriber(AssertSubscriber.create(100));
+
+            broadcaster.register("exec-1", "tenant-1", "wf-1");
+            publish("exec-1", 2);
+
+            assertThat(awaitFirehose(remote, 2))
+                    .extracting(TenantEvent::executionId, TenantEvent::sequence)
+                    .containsExactly(tuple("exec-1", 1L), tuple("exec-1", 2L));
+        }
+    }
+
+    /// Delivers each message synchronously to the peer node's broadcaster.
+    private static final class LinkedBus implements ClusterEventBus {
+
+        private final List<ClusterEvent> sent = new CopyOnWriteArrayList<>();
+        private Consumer<ClusterEvent> sink = _ -> {};
+        private LinkedBus peer;
+
+        @Override
+        public void publish(ClusterEvent event) {
+            sent.add(event);
+            peer.sink.accept(event);
+        }
+
+        @Override
+        public void start(Consumer<ClusterEvent> sink) {
+            this.sink = sink;
+        }
+    }
+
+    private AssertSubscriber<List<TenantEvent>> subscribeTenant(
+            String tenantId, EventFilter filter) {
+        return broadcaster
+                .subscribeTenant(tenantId, filter)
+                .subscribe()
+                .withSubscriber(AssertSubscriber.create(100));
+    }
+
+    private static List<TenantEvent> awaitFirehose(
+            AssertSubscriber<List<TenantEvent>> subscriber, int expected) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (true) {
+            List<TenantEvent> received =
+                    subscriber.getItems().stream().flatMap(List::stream).toList();
+            if (received.size() >= expected) return received;
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Expected " + expected + " events, got " + received);
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private static ExecutionEvent error(String executionId, String nodeId) {
+        return ExecutionEvent.ExecutionError.now(executionId, "Boom", "failed", nodeId);
+    }
+
+    private AssertSubscriber<SequencedEvent> subscribe(String executionId, long afterSequence) {
+        return broadcaster
+                .subscribe(executionId, afterSequence)
+                .subscribe()
+                .withSubscriber(AssertSubscriber.create(100));
+    }
+
+    private void publish(String executionId, int count) {
+        for (int i = 0; i < count; i++) {
+            broadcaster.publish(executionId, started(executionId));
+        }
+    }
+
+    private static ExecutionEvent started(String executionId) {
+        return ExecutionEvent.ExecutionStarted.now(executionId, "wf-1", "tenant-1");
+    }
+
+    private static List<Long> sequences(AssertSubscriber<SequencedEvent> subscriber) {
+        return subscriber.getItems().stream().map(SequencedEvent::sequence).toList();
+    }
 }
@@ -1,10 +1,16 @@
 package io.hensu.server.workflow;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.hensu.core.state.ExecutionCursor;
 import io.hensu.core.state.ExecutionPhase;
+import io.hensu.core.state.ExecutionStatusView;
 import io.hensu.core.state.HensuSnapshot;
 import io.hensu.core.state.WorkflowStateRepository;
 import java.time.Instant;
@@ -73,8 +79,8 @@ class ExecutionQueryServiceTest {
                         awaiting,
                         Instant.now(),
                         "paused");
-        when(stateRepository.findByExecutionId("tenant-1", "exec-1"))
-                .thenReturn(Optional.of(snapshot));
+        when(stateRepository.findStatus("tenant-1", "exec-1"))
+                .thenReturn(Optional.of(ExecutionStatusView.of(snapshot)));
 
         ExecutionStatus status = service.getExecutionStatus("tenant-1", "exec-1");
 
@@ -95,8 +101,8 @@ class ExecutionQueryServiceTest {
                         null,
                         Instant.now(),
                         "completed");
-        when(stateRepository.findByExecutionId("tenant-1", "exec-1"))
-                .thenReturn(Optional.of(snapshot));
+        when(stateRepository.findStatus("tenant-1", "exec-1"))
+                .thenReturn(Optional.of(ExecutionStatusView.of(snapshot)));
 
         ExecutionStatus status = service.getExecutionStatus("tenant-1", "exec-1");
 
@@ -120,12 +126,43 @@ class ExecutionQueryServiceTest {
                         awaiting,
                         Instant.now(),
                         "paused");
-        when(stateRepository.findPaused("tenant-1")).thenReturn(List.of(snapshot));
+        when(stateRepository.findPausedStatuses("tenant-1", null, 10))
+                .thenReturn(List.of(ExecutionStatusView.of(snapshot)));
 
-        List<ExecutionSummary> paused = service.listPausedExecutions("tenant-1");
+        ExecutionSummaryPage paused = service.listPausedExecutions("tenant-1", null, 10);
 
-        assertThat(paused).hasSize(1);
-        assertThat(paused.getFirst().correlationId()).isEqualTo("corr-99");
+        assertThat(paused.items()).hasSize(1);
+        assertThat(paused.items().getFirst().correlationId()).isEqualTo("corr-99");
+        assertThat(paused.nextCursor()).isNull();
+    }
+
+    @Test
+    void shouldReturnCursorAfterLastRowOfFullPage() {
+        Instant createdAt = Instant.parse("2024-03-08T12:00:00.123456Z");
+        ExecutionStatusView view =
+                new ExecutionStatusView("exec-7", "wf-1", "draft", "paused", null, createdAt);
+        when(stateRepository.findPausedStatuses("tenant-1", null, 1)).thenReturn(List.of(view));
+
+        ExecutionSummaryPage page = service.listPausedExecutions("tenant-1", null, 1);
+
+        assertThat(page.nextCursor()).isNotNull();
+        service.listPausedExecutions("tenant-1", page.nextCursor(), 1);
+        verify(stateRepository)
+                .findPausedStatuses("tenant-1", new ExecutionCursor(createdAt, "exec-7"), 1);
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        assertThatThrownBy(() -> service.listPausedExecutions("tenant-1", "not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("cursor");
+    }
+
+    @Test
+    void shouldReportNotFoundWithoutLoadingSnapshot() {
+        assertThatThrownBy(() -> service.getExecutionStatus("tenant-1", "missing"))
+                .isInstanceOf(ExecutionNotFoundException.class);
+        verify(stateRepository, never()).findByExecutionId(any(), any());
     }
 
     @Test
@@ -0,0 +1,211 @@
+package io.hensu.server.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ExecutionSchedulerTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+    }
+
+    @Test
+    void dispatch_holdsExecutionsBeyondGlobalLimit() throws InterruptedException {
+        ExecutionScheduler scheduler = scheduler(2, 2, 10, 10);
+        CountDownLatch started = new CountDownLatch(2);
+
+        dispatch(scheduler, "tenant-a", "exec-1", blocking(started));
+        dispatch(scheduler, "tenant-b", "exec-2", blocking(started));
+        dispatch(scheduler, "tenant-c", "exec-3", blocking(started));
+
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        ExecutionScheduler.Stats stats = scheduler.stats();
+        assertThat(stats.running()).isEqualTo(2);
+        assertThat(stats.queued()).isEqualTo(1);
+        assertThat(scheduler.stats("tenant-c").queued()).isEqualTo(1);
+    }
+
+    @Test
+    void dispatch_holdsExecutionsBeyondTenantLimit() throws InterruptedException {
+        ExecutionScheduler scheduler = scheduler(4, 1, 10, 10);
+        CountDownLatch started = new CountDownLatch(2);
+
+        dispatch(scheduler, "tenant-a", "exec-1", blocking(started));
+        dispatch(scheduler, "tenant-a", "exec-2", blocking(started));
+        dispatch(scheduler, "tenant-b", "exec-3", blocking(started));
+
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(scheduler.stats("tenant-a")).isEqualTo(new ExecutionScheduler.TenantStats(1, 1));
+        assertThat(scheduler.stats("tenant-b")).isEqualTo(new ExecutionScheduler.TenantStats(1, 0));
+    }
+
+    @Test
+    void dispatch_alternatesBetweenTenants() throws InterruptedException {
+        ExecutionScheduler scheduler = scheduler(1, 1, 10, 10);
+        CountDownLatch blockerStarted = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(4);
+        List<String> order = new CopyOnWriteArrayList<>();
+
+        dispatch(scheduler, "tenant-a", "blocker", blocking(blockerStarted));
+        assertThat(blockerStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        for (String id : List.of("a-1", "a-2", "a-3")) {
+            dispatch(scheduler, "tenant-a", id, recording(order, id, done));
+        }
+        dispatch(scheduler, "tenant-b", "b-1", recording(order, "b-1", done));
+
+        release.countDown();
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(order).containsExactly("a-1", "b-1", "a-2", "a-3");
+    }
+
+    @Test
+    void reserve_rejectsWhenTenantQueueIsFull() throws InterruptedException {
+        ExecutionScheduler scheduler = scheduler(4, 1, 1, 10);
+        CountDownLatch started = new CountDownLatch(1);
+
+        dispatch(scheduler, "tenant-a", "exec-1", blocking(started));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        dispatch(scheduler, "tenant-a", "exec-2", blocking(started));
+
+        assertThatThrownBy(() -> scheduler.reserve("tenant-a"))
+                .isInstanceOf(ExecutionRejectedException.class)
+                .hasMessageContaining("tenant");
+        assertThat(scheduler.reserve("tenant-b")).isNotNull();
+        assertThat(scheduler.stats().rejected()).isEqualTo(1);
+    }
+
+    @Test
+    void reserve_rejectsWhenNodeQueueIsFull() throws InterruptedException {
+        ExecutionScheduler scheduler = scheduler(1, 1, 10, 1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        dispatch(scheduler, "tenant-a", "exec-1", blocking(started));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        dispatch(scheduler, "tenant-b", "exec-2", blocking(started));
+
+        assertThatThrownBy(() -> scheduler.reserve("tenant-c"))
+                .isInstanceOf(ExecutionRejectedException.class)
+                .hasMessageContaining("node")
+                .extracting(e -> ((ExecutionRejectedException) e).getRetryAfter())
+                .isEqualTo(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void cancel_releasesReservedSlot() {
+        ExecutionScheduler scheduler = scheduler(1, 1, 0, 0);
+
+        ExecutionScheduler.Reservation slot = scheduler.reserve("tenant-a");
+        assertThatThrownBy(() -> scheduler.reserve("tenant-a"))
+                .isInstanceOf(ExecutionRejectedException.class);
+
+        slot.cancel();
+        slot.cancel();
+
+        assertThat(scheduler.stats().queued()).isZero();
+        assertThat(scheduler.reserve("tenant-a")).isNotNull();
+    }
+
+    @Test
+    void resubmit_queuesBeyondQueueLimits() throws InterruptedException {
+        ExecutionScheduler scheduler = scheduler(1, 1, 0, 0);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+        List<String> order = new CopyOnWriteArrayList<>();
+
+        dispatch(scheduler, "tenant-a", "exec-1", blocking(started));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        scheduler.resubmit("tenant-a", "rec-1", "wf-recover-rec-1", recording(order, "r1", done));
+        scheduler.resubmit("tenant-b", "rec-2", "wf-recover-rec-2", recording(order, "r2", done));
+        assertThat(scheduler.stats().queued()).isEqualTo(2);
+
+        release.countDown();
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(order).containsExactlyInAnyOrder("r1", "r2");
+    }
+
+    @Test
+    void stats_recordWaitTimeAndReleaseSlotsOnFailure() throws InterruptedException {
+        ExecutionScheduler scheduler = scheduler(1, 1, 10, 10);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+
+        dispatch(scheduler, "tenant-a", "exec-1", blocking(started));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        dispatch(
+                scheduler,
+                "tenant-a",
+                "exec-2",
+                () -> {
+                    done.countDown();
+                    throw new IllegalStateException("boom");
+                });
+        Thread.sleep(50);
+
+        release.countDown();
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        awaitIdle(scheduler);
+        ExecutionScheduler.Stats stats = scheduler.stats();
+        assertThat(stats.dispatched()).isEqualTo(2);
+        assertThat(stats.maxWaitMillis()).isGreaterThanOrEqualTo(50);
+        assertThat(stats.avgWaitMillis()).isPositive();
+        assertThat(scheduler.stats("tenant-a")).isEqualTo(new ExecutionScheduler.TenantStats(0, 0));
+    }
+
+    private static ExecutionScheduler scheduler(
+            int maxConcurrent, int maxPerTenant, int maxQueuedPerTenant, int maxQueued) {
+        return new ExecutionScheduler(
+                new ExecutionScheduler.Limits(
+                        maxConcurrent,
+                        maxPerTenant,
+                        maxQueuedPerTenant,
+                        maxQueued,
+                        Duration.ofSeconds(5)));
+    }
+
+    private static void dispatch(
+            ExecutionScheduler scheduler, String tenantId, String executionId, Runnable task) {
+        scheduler.reserve(tenantId).dispatch(executionId, "wf-exec-" + executionId, task);
+    }
+
+    private Runnable blocking(CountDownLatch started) {
+        return () -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException _) {
+                Thread.currentThread().interrupt();
+            }
+        };
+    }
+
+    private static Runnable recording(List<String> order, String label, CountDownLatch done) {
+        return () -> {
+            order.add(label);
+            done.countDown();
+        };
+    }
+
+    private static void awaitIdle(ExecutionScheduler scheduler) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (scheduler.stats().running() > 0) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Scheduler did not become idle");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package io.hensu.server.workflow;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -14,6 +16,8 @@ import io.hensu.core.state.WorkflowStateRepository;
 import io.hensu.core.workflow.Workflow;
 import io.hensu.server.streaming.ExecutionEvent;
 import io.hensu.server.streaming.ExecutionEventBroadcaster;
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
@@ -59,7 +63,13 @@ class WorkflowExecutionServiceTest {
 
         service =
                 new WorkflowExecutionService(
-                        workflowExecutor, stateRepository, eventBroadcaster, registryService);
+                        workflowExecutor,
+                        stateRepository,
+                        eventBroadcaster,
+                        registryService,
+                        new ExecutionScheduler(
+                                new ExecutionScheduler.Limits(
+                                        4, 4, 10, 10, Duration.ofSeconds(5))));
     }
 
     @Test
@@ -76,10 +86,43 @@ class WorkflowExecutionServiceTest {
                 .isTrue();
 
         ArgumentCaptor<HensuSnapshot> savedCaptor = ArgumentCaptor.forClass(HensuSnapshot.class);
-        verify(stateRepository).save(eq("tenant-1"), savedCaptor.capture());
-        assertThat(savedCaptor.getValue().checkpointReason()).isEqualTo("failed");
-        assertThat(savedCaptor.getValue().workflowId()).isEqualTo("wf-1");
+        verify(stateRepository, times(2)).save(eq("tenant-1"), savedCaptor.capture());
+        List<HensuSnapshot> saved = savedCaptor.getAllValues();
+        assertThat(saved.get(0).checkpointReason()).isEqualTo("queued");
+        assertThat(saved.get(1).checkpointReason()).isEqualTo("failed");
+        assertThat(saved.get(1).workflowId()).isEqualTo("wf-1");
 
         verify(eventBroadcaster).publish(any(), any(ExecutionEvent.ExecutionError.class));
     }
+
+    @Test
+    void shouldRejectWithoutPersistingWhenTenantQueueIsFull() {
+        service =
+                new WorkflowExecutionService(
+                        workflowExecutor,
+                        stateRepository,
+                        eventBroadcaster,
+                        registryService,
+                        new ExecutionScheduler(
+                                new ExecutionScheduler.Limits(1, 1, 0, 0, Duration.ofSeconds(7))));
+        when(registryService.getWorkflow("tenant-1", "wf-1")).thenReturn(mock(Workflow.class));
+        CountDownLatch release = new CountDownLatch(1);
+        when(workflowExecutor.execute(any(), any(), any()))
+                .thenAnswer(
+                        _ -> {
+                            release.await(5, TimeUnit.SECONDS);
+                            throw new RuntimeException("released");
+                        });
+
+        service.startExecution("tenant-1", "wf-1", Map.of());
+
+        assertThatThrownBy(() -> service.startExecution("tenant-1", "wf-1", Map.of()))
+                .isInstanceOf(ExecutionRejectedException.class)
+                .extracting(e -> ((ExecutionRejectedException) e).getRetryAfter())
+                .isEqualTo(Duration.ofSeconds(7));
+        verify(stateRepository, times(1)).save(eq("tenant-1"), any());
+        assertThat(service.schedulerStats().rejected()).isEqualTo(1);
+
+        release.countDown();
+    }
 }
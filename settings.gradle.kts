@@ -12,3 +12,4 @@ include("hensu-cli")
 include("hensu-langchain4j-adapter")
 include("hensu-serialization")
 include("hensu-server")
+include("hensu-benchmarks")